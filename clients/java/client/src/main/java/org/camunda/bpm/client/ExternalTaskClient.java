@@ -61,4 +61,9 @@ public interface ExternalTaskClient {
    */
   boolean isActive();
 
+  /**
+   * @return the metrics of the requests sent by the client
+   */
+  RequestMetrics getRequestMetrics();
+
 }
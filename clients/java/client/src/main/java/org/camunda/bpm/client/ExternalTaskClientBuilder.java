@@ -16,7 +16,9 @@
  */
 package org.camunda.bpm.client;
 
+import java.util.concurrent.ExecutorService;
 import java.util.function.Consumer;
+import org.apache.hc.client5.http.impl.async.HttpAsyncClientBuilder;
 import org.apache.hc.client5.http.impl.classic.HttpClientBuilder;
 import org.camunda.bpm.client.backoff.BackoffStrategy;
 import org.camunda.bpm.client.backoff.ExponentialBackoffStrategy;
@@ -211,16 +213,153 @@ public interface ExternalTaskClientBuilder {
    */
   ExternalTaskClientBuilder disableBackoffStrategy();
 
+  /**
+   * Executes the handlers of fetched external tasks concurrently instead of one after another
+   * on the thread fetching the tasks. The client fetches at most as many tasks as it can handle
+   * without exceeding the given limit, so that handler threads do not compete for tasks whose
+   * lock expires while they are waiting.
+   * This information is optional. By default, handlers are executed sequentially. If handlers
+   * are executed concurrently but no limit is given, the limit is {@link #maxTasks(int)}.
+   *
+   * @param maxConcurrentTasks the maximum number of tasks handled at the same time
+   * @return the builder
+   *
+   * @throws ExternalTaskClientException if the limit is not greater than zero
+   */
+  ExternalTaskClientBuilder maxConcurrentTasks(int maxConcurrentTasks);
+
+  /**
+   * Executes the handlers of fetched external tasks concurrently, each on its own virtual thread.
+   * Falls back to platform threads if the JVM does not support virtual threads.
+   *
+   * @return the builder
+   * @see #maxConcurrentTasks(int)
+   */
+  ExternalTaskClientBuilder useVirtualThreads();
+
+  /**
+   * Executes the handlers of fetched external tasks concurrently on the given executor.
+   * The executor is not shut down by the client.
+   *
+   * @param handlerExecutor the executor running the external task handlers
+   * @return the builder
+   * @see #maxConcurrentTasks(int)
+   */
+  ExternalTaskClientBuilder handlerExecutor(ExecutorService handlerExecutor);
+
+  /**
+   * Coalesces the complete, failure and extend lock calls of concurrently executed handlers
+   * into bulk requests. A call waits at most the given time for further calls before the
+   * request is sent; a request contains at most {@link #maxTasks(int)} operations.
+   * This information is optional. By default, each call is sent as a separate request.
+   * Calls are only coalesced if handlers are executed concurrently. If an operation of a
+   * request fails while it is executed, the engine executes the operations of the request
+   * one by one, so that only the calls of failing operations fail.
+   *
+   * @param lingerTime in milliseconds to wait for further calls
+   * @return the builder
+   *
+   * @throws ExternalTaskClientException if the linger time is not greater than zero
+   * @see #maxConcurrentTasks(int)
+   */
+  ExternalTaskClientBuilder bulkOperationLingerTime(long lingerTime);
+
+  /**
+   * Receives the external tasks over a single stream of server-sent events instead of polling
+   * for them. The Engine pushes locked tasks as soon as they are available, at most
+   * {@link #maxTasks(int)} tasks which have not been handled yet.
+   * The {@link #asyncResponseTimeout(long)} is not used for the stream; the backoff strategy
+   * only applies when the stream is opened again after an error.
+   * The client grants further credit to the stream with separate requests which must reach the
+   * same Engine node as the stream; behind a load balancer, sticky sessions are required.
+   * If the credit cannot be added, the stream is closed and opened again.
+   *
+   * @return the builder
+   */
+  ExternalTaskClientBuilder useFetchAndLockStream();
+
+  /**
+   * Limits the number of pooled connections to the Camunda 7 REST API.
+   * This information is optional. By default, the limits of the Apache HttpClient apply.
+   * The limit is not applied to a connection manager which is set with
+   * {@link #customizeHttpClient(Consumer)} or {@link #customizeAsyncHttpClient(Consumer)}.
+   *
+   * @param maxConnections the maximum number of connections in total
+   * @return the builder
+   *
+   * @throws ExternalTaskClientException if the limit is not greater than zero
+   */
+  ExternalTaskClientBuilder maxConnections(int maxConnections);
+
+  /**
+   * Limits the number of pooled connections to a single host of the Camunda 7 REST API.
+   * This information is optional. By default, the limits of the Apache HttpClient apply.
+   * The limit is not applied to a connection manager which is set with
+   * {@link #customizeHttpClient(Consumer)} or {@link #customizeAsyncHttpClient(Consumer)}.
+   *
+   * @param maxConnectionsPerRoute the maximum number of connections per host
+   * @return the builder
+   *
+   * @throws ExternalTaskClientException if the limit is not greater than zero
+   */
+  ExternalTaskClientBuilder maxConnectionsPerRoute(int maxConnectionsPerRoute);
+
+  /**
+   * Keeps idle connections open for the given duration, so that subsequent requests reuse them,
+   * and closes them afterwards. This information is optional. By default, connections are kept
+   * open as long as the server allows it.
+   *
+   * @param keepAlive in milliseconds
+   * @return the builder
+   *
+   * @throws ExternalTaskClientException if the duration is not greater than zero
+   */
+  ExternalTaskClientBuilder keepAlive(long keepAlive);
+
+  /**
+   * Compresses request bodies of at least one kilobyte with gzip, e.g. to reduce the transferred
+   * bytes of large variables. Requires a Camunda 7 REST API which accepts compressed requests.
+   * Compressed responses are accepted regardless of this setting.
+   *
+   * @return the builder
+   */
+  ExternalTaskClientBuilder compressRequests();
+
+  /**
+   * Sends the requests with an asynchronous HTTP client which negotiates HTTP/2 with the server,
+   * so that concurrent fetch and lock, complete and other requests are multiplexed over few connections.
+   * HTTP/2 is negotiated with TLS (ALPN); otherwise, HTTP/1.1 is used. The fetch and lock stream
+   * is still received with the classic client. The asynchronous client is closed when the
+   * external task client is stopped.
+   *
+   * @return the builder
+   * @see #customizeAsyncHttpClient(Consumer)
+   */
+  ExternalTaskClientBuilder useHttp2();
+
   /**
    * Exposes the internal Apache {@link HttpClientBuilder} for custom client configurations.
    * <p>
    * Interceptors added via {@link #addInterceptor(ClientRequestInterceptor)} are added as last in the {@link #build()} method.
+   * The consumer is invoked in the {@link #build()} method, after the connection settings of this builder are applied.
    *
    * @param httpClientConsumer the parameter that accepts the {@link HttpClientBuilder}
    * @return the builder
    */
   ExternalTaskClientBuilder customizeHttpClient(Consumer<HttpClientBuilder> httpClientConsumer);
 
+  /**
+   * Exposes the internal Apache {@link HttpAsyncClientBuilder} which is used if {@link #useHttp2()} is enabled.
+   * <p>
+   * Interceptors added via {@link #addInterceptor(ClientRequestInterceptor)} are added as last in the {@link #build()} method.
+   * The consumer is invoked whenever the asynchronous client is created, after the connection settings of this
+   * builder are applied.
+   *
+   * @param asyncHttpClientConsumer the parameter that accepts the {@link HttpAsyncClientBuilder}
+   * @return the builder
+   */
+  ExternalTaskClientBuilder customizeAsyncHttpClient(Consumer<HttpAsyncClientBuilder> asyncHttpClientConsumer);
+
   /**
    * Bootstraps the Camunda client
    *
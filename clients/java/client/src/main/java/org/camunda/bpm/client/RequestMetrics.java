@@ -0,0 +1,60 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.client;
+
+/**
+ * <p>Metrics of the requests which the client sent to the Camunda 7 REST API</p>
+ *
+ * <p>The byte counts refer to the (possibly compressed) message bodies as they are
+ * transferred; headers are not included. The request time of a fetch and lock request
+ * includes the time the request waits for tasks if an asynchronous response timeout is
+ * configured. Requests of the fetch and lock stream are counted when the stream is
+ * established.</p>
+ */
+public interface RequestMetrics {
+
+  /**
+   * @return the number of sent requests
+   */
+  long getRequestCount();
+
+  /**
+   * @return the number of requests which failed with an error response or a connection problem
+   */
+  long getFailedRequestCount();
+
+  /**
+   * @return the sum of the times in milliseconds from sending a request until its response is received
+   */
+  long getTotalRequestTime();
+
+  /**
+   * @return the longest time in milliseconds from sending a request until its response is received
+   */
+  long getMaxRequestTime();
+
+  /**
+   * @return the number of bytes sent in request bodies
+   */
+  long getBytesSent();
+
+  /**
+   * @return the number of bytes received in response bodies
+   */
+  long getBytesReceived();
+
+}
@@ -24,12 +24,18 @@ import org.camunda.bpm.client.task.ExternalTask;
 import org.camunda.bpm.client.task.OrderingConfig;
 import org.camunda.bpm.client.task.impl.ExternalTaskImpl;
 import org.camunda.bpm.client.task.impl.dto.BpmnErrorRequestDto;
+import org.camunda.bpm.client.task.impl.dto.BulkOperationRequestDto;
 import org.camunda.bpm.client.task.impl.dto.CompleteRequestDto;
 import org.camunda.bpm.client.task.impl.dto.ExtendLockRequestDto;
+import org.camunda.bpm.client.task.impl.dto.ExternalTaskOperationDto;
+import org.camunda.bpm.client.task.impl.dto.ExternalTaskOperationResultDto;
 import org.camunda.bpm.client.task.impl.dto.FailureRequestDto;
 import org.camunda.bpm.client.task.impl.dto.LockRequestDto;
 import org.camunda.bpm.client.task.impl.dto.SetVariablesRequestDto;
+import org.camunda.bpm.client.task.impl.dto.VariablesRequestDto;
+import org.camunda.bpm.client.task.impl.dto.VariablesResponseDto;
 import org.camunda.bpm.client.topic.impl.dto.FetchAndLockRequestDto;
+import org.camunda.bpm.client.topic.impl.dto.FetchAndLockStreamCreditRequestDto;
 import org.camunda.bpm.client.topic.impl.dto.TopicRequestDto;
 import org.camunda.bpm.client.variable.impl.TypedValueField;
 import org.camunda.bpm.client.variable.impl.TypedValues;
@@ -42,6 +48,13 @@ public class EngineClient {
   protected static final String EXTERNAL_TASK_RESOURCE_PATH = "/external-task";
   protected static final String EXTERNAL_TASK__PROCESS_RESOURCE_PATH = "/process-instance";
   protected static final String FETCH_AND_LOCK_RESOURCE_PATH = EXTERNAL_TASK_RESOURCE_PATH + "/fetchAndLock";
+  public static final String FETCH_AND_LOCK_STREAM_RESOURCE_PATH = FETCH_AND_LOCK_RESOURCE_PATH + "/stream";
+  public static final String FETCH_AND_LOCK_STREAM_CREDIT_RESOURCE_PATH =
+      FETCH_AND_LOCK_STREAM_RESOURCE_PATH + "/{id}/credit";
+  public static final String STREAM_EVENT = "stream";
+  public static final String TASKS_EVENT = "tasks";
+  public static final String ERROR_EVENT = "error";
+  public static final String BULK_OPERATION_RESOURCE_PATH = EXTERNAL_TASK_RESOURCE_PATH + "/bulk";
   public static final String ID_PATH_PARAM = "{id}";
   protected static final String ID_RESOURCE_PATH = EXTERNAL_TASK_RESOURCE_PATH + "/" + ID_PATH_PARAM;
   public static final String LOCK_RESOURCE_PATH = ID_RESOURCE_PATH + "/lock";
@@ -52,6 +65,7 @@ public class EngineClient {
   public static final String COMPLETE_RESOURCE_PATH = ID_RESOURCE_PATH + "/complete";
   public static final String FAILURE_RESOURCE_PATH = ID_RESOURCE_PATH + "/failure";
   public static final String BPMN_ERROR_RESOURCE_PATH = ID_RESOURCE_PATH + "/bpmnError";
+  public static final String VARIABLES_RESOURCE_PATH = ID_RESOURCE_PATH + "/variables";
   public static final String NAME_PATH_PARAM = "{name}";
   public static final String PROCESS_INSTANCE_RESOURCE_PATH = "/process-instance";
   public static final String PROCESS_INSTANCE_ID_RESOURCE_PATH = PROCESS_INSTANCE_RESOURCE_PATH + "/" + ID_PATH_PARAM;
@@ -115,6 +129,10 @@ public class EngineClient {
   }
 
   public List<ExternalTask> fetchAndLock(List<TopicRequestDto> topics) {
+    return fetchAndLock(topics, maxTasks);
+  }
+
+  public List<ExternalTask> fetchAndLock(List<TopicRequestDto> topics, int maxTasks) {
     FetchAndLockRequestDto payload = new FetchAndLockRequestDto(workerId, maxTasks, asyncResponseTimeout, topics,
         usePriority, orderingConfig);
 
@@ -123,6 +141,50 @@ public class EngineClient {
     return Arrays.asList(externalTasks);
   }
 
+  /**
+   * Opens a stream over which the engine pushes locked external tasks.
+   *
+   * @param credit the number of tasks the engine may push before further credit is added
+   */
+  public EventStream openFetchAndLockStream(List<TopicRequestDto> topics, int credit) {
+    FetchAndLockRequestDto payload = new FetchAndLockRequestDto(workerId, credit, null, topics, usePriority,
+        orderingConfig);
+
+    String resourceUrl = getBaseUrl() + FETCH_AND_LOCK_STREAM_RESOURCE_PATH;
+    return engineInteraction.postEventStreamRequest(resourceUrl, payload);
+  }
+
+  /**
+   * Blocks until the stream has ended or was closed and passes the received events to the listener.
+   *
+   * @throws EngineClientException if the engine closed the stream with an error or the stream was interrupted
+   */
+  public void readFetchAndLockStream(EventStream stream, FetchAndLockStreamListener listener) {
+    EventStream.Event event;
+    while ((event = stream.next()) != null) {
+      if (STREAM_EVENT.equals(event.getName())) {
+        listener.streamOpened(event.getData());
+
+      } else if (TASKS_EVENT.equals(event.getName())) {
+        ExternalTask[] externalTasks = engineInteraction.deserializeEventData(event.getData(), ExternalTaskImpl[].class);
+        listener.externalTasksReceived(Arrays.asList(externalTasks));
+
+      } else if (ERROR_EVENT.equals(event.getName())) {
+        EngineRestExceptionDto exception = engineInteraction.deserializeEventData(event.getData(),
+            EngineRestExceptionDto.class);
+        throw ExternalTaskClientLogger.ENGINE_CLIENT_LOGGER.fetchAndLockStreamFailed(exception.toRestException());
+
+      }
+    }
+  }
+
+  public void addFetchAndLockStreamCredit(String streamId, int credit) {
+    FetchAndLockStreamCreditRequestDto payload = new FetchAndLockStreamCreditRequestDto(workerId, credit);
+    String resourcePath = FETCH_AND_LOCK_STREAM_CREDIT_RESOURCE_PATH.replace("{id}", streamId);
+    String resourceUrl = getBaseUrl() + resourcePath;
+    engineInteraction.postRequest(resourceUrl, payload, Void.class);
+  }
+
   public void lock(String taskId, long lockDuration) {
     LockRequestDto payload = new LockRequestDto(workerId, lockDuration);
     String resourcePath = LOCK_RESOURCE_PATH.replace("{id}", taskId);
@@ -186,6 +248,55 @@ public class EngineClient {
     engineInteraction.postRequest(resourceUrl, payload, Void.class);
   }
 
+  public ExternalTaskOperationDto completeOperation(String taskId, Map<String, Object> variables,
+                                                    Map<String, Object> localVariables) {
+    Map<String, TypedValueField> typedValueDtoMap = typedValues.serializeVariables(variables);
+    Map<String, TypedValueField> localTypedValueDtoMap = typedValues.serializeVariables(localVariables);
+    return ExternalTaskOperationDto.complete(taskId, typedValueDtoMap, localTypedValueDtoMap);
+  }
+
+  public ExternalTaskOperationDto failureOperation(String taskId,
+                                                   String errorMessage,
+                                                   String errorDetails,
+                                                   int retries,
+                                                   long retryTimeout,
+                                                   Map<String, Object> variables,
+                                                   Map<String, Object> localVariables) {
+    Map<String, TypedValueField> typedValueDtoMap = typedValues.serializeVariables(variables);
+    Map<String, TypedValueField> localTypedValueDtoMap = typedValues.serializeVariables(localVariables);
+    return ExternalTaskOperationDto.failure(taskId, errorMessage, errorDetails, retries, retryTimeout,
+        typedValueDtoMap, localTypedValueDtoMap);
+  }
+
+  public ExternalTaskOperationDto extendLockOperation(String taskId, long newDuration) {
+    return ExternalTaskOperationDto.extendLock(taskId, newDuration);
+  }
+
+  public List<ExternalTaskOperationResultDto> bulkOperation(List<ExternalTaskOperationDto> operations) {
+    BulkOperationRequestDto payload = new BulkOperationRequestDto(workerId, operations, true);
+    String resourceUrl = getBaseUrl() + BULK_OPERATION_RESOURCE_PATH;
+    ExternalTaskOperationResultDto[] results = engineInteraction.postRequest(resourceUrl, payload,
+        ExternalTaskOperationResultDto[].class);
+    return Arrays.asList(results);
+  }
+
+  /**
+   * Fetches the variables of a task, e.g. the values of the variables which were fetched lazily.
+   *
+   * @param variableNames the names of the variables to fetch, if null all variables are fetched
+   * @param variableJsonPaths the JSONPath expressions by variable name that select the part of
+   *   JSON variables to fetch, may be null
+   */
+  public Map<String, TypedValueField> getVariables(String taskId,
+                                                   List<String> variableNames,
+                                                   boolean localVariables,
+                                                   Map<String, String> variableJsonPaths) {
+    VariablesRequestDto payload = new VariablesRequestDto(workerId, variableNames, localVariables, variableJsonPaths);
+    String resourcePath = VARIABLES_RESOURCE_PATH.replace("{id}", taskId);
+    String resourceUrl = getBaseUrl() + resourcePath;
+    return engineInteraction.postRequest(resourceUrl, payload, VariablesResponseDto.class);
+  }
+
   public byte[] getLocalBinaryVariable(String variableName, String executionId)  {
     String resourcePath =  getBaseUrl()  + GET_BINARY_VARIABLE
             .replace(ID_PATH_PARAM, executionId)
@@ -198,6 +309,10 @@ public class EngineClient {
     return urlResolver.getBaseUrl();
   }
 
+  public int getMaxTasks() {
+    return maxTasks;
+  }
+
   public String getWorkerId() {
     return workerId;
   }
@@ -209,4 +324,11 @@ public class EngineClient {
   public boolean isUsePriority() {
     return usePriority;
   }
+
+  /**
+   * Releases the resources of the requests, e.g. the connections of the asynchronous client.
+   */
+  public void close() {
+    engineInteraction.close();
+  }
 }
@@ -18,6 +18,8 @@ package org.camunda.bpm.client.impl;
 
 import org.apache.hc.core5.http.HttpRequest;
 import org.camunda.bpm.client.exception.RestException;
+import org.camunda.bpm.client.task.impl.dto.ExternalTaskOperationDto;
+import org.camunda.bpm.client.task.impl.dto.ExternalTaskOperationResultDto;
 
 import java.io.IOException;
 
@@ -66,4 +68,26 @@ public class EngineClientLogger extends ExternalTaskClientLogger {
       "008", "Exception while executing request interceptor: {}", e);
   }
 
+  public EngineClientException bulkOperationFailed(ExternalTaskOperationResultDto result) {
+    return new EngineClientException(exceptionMessage(
+      "009", "Operation '{}' of bulk request for external task '{}' returned error: message: {}",
+      result.getType(), result.getExternalTaskId(), result.getErrorMessage()), result.toRestException());
+  }
+
+  protected EngineClientException exceptionWhileReadingEventStream(HttpRequest httpRequest, IOException e) {
+    return new EngineClientException(exceptionMessage(
+      "010", "Exception while reading the event stream of request '{}'", httpRequest), e);
+  }
+
+  protected EngineClientException fetchAndLockStreamFailed(RestException e) {
+    return new EngineClientException(exceptionMessage(
+      "011", "Fetch and lock stream was closed with error: type '{}' - message: {}", e.getType(), e.getMessage()), e);
+  }
+
+  public EngineClientException bulkOperationResultMissing(ExternalTaskOperationDto operation) {
+    return new EngineClientException(exceptionMessage(
+      "012", "Bulk request returned no result for operation '{}' of external task '{}'",
+      operation.getType(), operation.getExternalTaskId()), null);
+  }
+
 }
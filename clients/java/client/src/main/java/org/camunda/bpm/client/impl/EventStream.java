@@ -0,0 +1,132 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.client.impl;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import org.apache.hc.client5.http.classic.methods.HttpUriRequestBase;
+import org.apache.hc.core5.http.ClassicHttpResponse;
+import org.camunda.commons.utils.IoUtil;
+
+/**
+ * <p>Reads the server-sent events of an open response, see
+ * <a href="https://html.spec.whatwg.org/multipage/server-sent-events.html">Server-sent events</a>.</p>
+ *
+ * <p>The events are read by a single thread, while the stream can be closed by any thread
+ * to abort a blocking read.</p>
+ */
+public class EventStream implements Closeable {
+
+  protected static final EngineClientLogger LOG = ExternalTaskClientLogger.ENGINE_CLIENT_LOGGER;
+
+  protected HttpUriRequestBase httpRequest;
+  protected ClassicHttpResponse httpResponse;
+  protected BufferedReader reader;
+  protected volatile boolean closed;
+
+  public EventStream(HttpUriRequestBase httpRequest, ClassicHttpResponse httpResponse) throws IOException {
+    this.httpRequest = httpRequest;
+    this.httpResponse = httpResponse;
+    this.reader = new BufferedReader(new InputStreamReader(httpResponse.getEntity().getContent(),
+        StandardCharsets.UTF_8));
+  }
+
+  /**
+   * Blocks until the next event is received.
+   *
+   * @return the next event or {@code null} if the stream has ended or was closed
+   * @throws EngineClientException if the stream was interrupted
+   */
+  public Event next() {
+    String name = null;
+    StringBuilder data = null;
+
+    try {
+      String line;
+      while ((line = reader.readLine()) != null) {
+        if (line.isEmpty()) {
+          if (data != null) {
+            return new Event(name, data.toString());
+          }
+          name = null;
+
+        } else if (line.startsWith("event:")) {
+          name = fieldValue(line, "event:");
+
+        } else if (line.startsWith("data:")) {
+          if (data == null) {
+            data = new StringBuilder();
+          } else {
+            data.append('\n');
+          }
+          data.append(fieldValue(line, "data:"));
+
+        }
+        // comments and the id and retry fields are ignored
+      }
+      return null;
+
+    } catch (IOException e) {
+      if (closed) {
+        return null;
+      }
+      throw LOG.exceptionWhileReadingEventStream(httpRequest, e);
+    }
+  }
+
+  protected String fieldValue(String line, String field) {
+    String value = line.substring(field.length());
+    return value.startsWith(" ") ? value.substring(1) : value;
+  }
+
+  public boolean isClosed() {
+    return closed;
+  }
+
+  @Override
+  public void close() {
+    if (!closed) {
+      closed = true;
+      httpRequest.cancel();
+      IoUtil.closeSilently(httpResponse);
+    }
+  }
+
+  public static class Event {
+
+    protected String name;
+    protected String data;
+
+    public Event(String name, String data) {
+      this.name = name;
+      this.data = data;
+    }
+
+    public String getName() {
+      return name;
+    }
+
+    public String getData() {
+      return data;
+    }
+
+  }
+
+}
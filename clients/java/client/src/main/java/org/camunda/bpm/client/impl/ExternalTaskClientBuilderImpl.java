@@ -32,9 +32,19 @@ import java.util.List;
 import java.util.Map;
 import java.util.ServiceLoader;
 import java.util.UUID;
+import java.util.concurrent.ExecutorService;
 import java.util.function.Consumer;
+import java.util.function.Supplier;
+import org.apache.hc.client5.http.config.TlsConfig;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.client5.http.impl.async.HttpAsyncClientBuilder;
+import org.apache.hc.client5.http.impl.async.HttpAsyncClients;
 import org.apache.hc.client5.http.impl.classic.HttpClientBuilder;
 import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManagerBuilder;
+import org.apache.hc.core5.http2.HttpVersionPolicy;
+import org.apache.hc.core5.util.TimeValue;
 import org.camunda.bpm.client.ExternalTaskClient;
 import org.camunda.bpm.client.ExternalTaskClientBuilder;
 import org.camunda.bpm.client.UrlResolver;
@@ -46,6 +56,10 @@ import org.camunda.bpm.client.spi.DataFormat;
 import org.camunda.bpm.client.spi.DataFormatConfigurator;
 import org.camunda.bpm.client.spi.DataFormatProvider;
 import org.camunda.bpm.client.task.OrderingConfig;
+import org.camunda.bpm.client.task.impl.CoalescingExternalTaskServiceImpl;
+import org.camunda.bpm.client.task.impl.ExternalTaskOperationCoalescer;
+import org.camunda.bpm.client.topic.impl.ExternalTaskHandlerExecutor;
+import org.camunda.bpm.client.topic.impl.StreamingTopicSubscriptionManager;
 import org.camunda.bpm.client.topic.impl.TopicSubscriptionManager;
 import org.camunda.bpm.client.variable.impl.DefaultValueMappers;
 import org.camunda.bpm.client.variable.impl.TypedValues;
@@ -89,12 +103,25 @@ public class ExternalTaskClientBuilderImpl implements ExternalTaskClientBuilder
   protected EngineClient engineClient;
   protected TopicSubscriptionManager topicSubscriptionManager;
   protected HttpClientBuilder httpClientBuilder;
+  protected List<Consumer<HttpClientBuilder>> httpClientCustomizers;
+  protected List<Consumer<HttpAsyncClientBuilder>> asyncHttpClientCustomizers;
+  protected RequestMetricsImpl requestMetrics;
 
   protected List<ClientRequestInterceptor> interceptors;
   protected boolean isAutoFetchingEnabled;
   protected BackoffStrategy backoffStrategy;
   protected boolean isBackoffStrategyDisabled;
   protected UrlResolver urlResolver;
+  protected Integer maxConcurrentTasks;
+  protected boolean useVirtualThreads;
+  protected ExecutorService handlerExecutor;
+  protected Long bulkOperationLingerTime;
+  protected boolean useFetchAndLockStream;
+  protected Integer maxConnections;
+  protected Integer maxConnectionsPerRoute;
+  protected Long keepAlive;
+  protected boolean compressRequests;
+  protected boolean useHttp2;
 
   public ExternalTaskClientBuilderImpl() {
     // default values
@@ -107,6 +134,8 @@ public class ExternalTaskClientBuilderImpl implements ExternalTaskClientBuilder
     this.backoffStrategy = new ExponentialBackoffStrategy();
     this.isBackoffStrategyDisabled = false;
     this.httpClientBuilder = HttpClients.custom().useSystemProperties();
+    this.httpClientCustomizers = new ArrayList<>();
+    this.asyncHttpClientCustomizers = new ArrayList<>();
     this.urlResolver = new PermanentUrlResolver(null);
   }
 
@@ -188,6 +217,31 @@ public class ExternalTaskClientBuilderImpl implements ExternalTaskClientBuilder
     return this;
   }
 
+  public ExternalTaskClientBuilder maxConcurrentTasks(int maxConcurrentTasks) {
+    this.maxConcurrentTasks = maxConcurrentTasks;
+    return this;
+  }
+
+  public ExternalTaskClientBuilder useVirtualThreads() {
+    this.useVirtualThreads = true;
+    return this;
+  }
+
+  public ExternalTaskClientBuilder handlerExecutor(ExecutorService handlerExecutor) {
+    this.handlerExecutor = handlerExecutor;
+    return this;
+  }
+
+  public ExternalTaskClientBuilder bulkOperationLingerTime(long lingerTime) {
+    this.bulkOperationLingerTime = lingerTime;
+    return this;
+  }
+
+  public ExternalTaskClientBuilder useFetchAndLockStream() {
+    this.useFetchAndLockStream = true;
+    return this;
+  }
+
   public ExternalTaskClientBuilder defaultSerializationFormat(String defaultSerializationFormat) {
     this.defaultSerializationFormat = defaultSerializationFormat;
     return this;
@@ -198,8 +252,38 @@ public class ExternalTaskClientBuilderImpl implements ExternalTaskClientBuilder
     return this;
   }
 
+  public ExternalTaskClientBuilder maxConnections(int maxConnections) {
+    this.maxConnections = maxConnections;
+    return this;
+  }
+
+  public ExternalTaskClientBuilder maxConnectionsPerRoute(int maxConnectionsPerRoute) {
+    this.maxConnectionsPerRoute = maxConnectionsPerRoute;
+    return this;
+  }
+
+  public ExternalTaskClientBuilder keepAlive(long keepAlive) {
+    this.keepAlive = keepAlive;
+    return this;
+  }
+
+  public ExternalTaskClientBuilder compressRequests() {
+    this.compressRequests = true;
+    return this;
+  }
+
+  public ExternalTaskClientBuilder useHttp2() {
+    this.useHttp2 = true;
+    return this;
+  }
+
   public ExternalTaskClientBuilder customizeHttpClient(Consumer<HttpClientBuilder> httpClientConsumer) {
-    httpClientConsumer.accept(httpClientBuilder);
+    httpClientCustomizers.add(httpClientConsumer);
+    return this;
+  }
+
+  public ExternalTaskClientBuilder customizeAsyncHttpClient(Consumer<HttpAsyncClientBuilder> asyncHttpClientConsumer) {
+    asyncHttpClientCustomizers.add(asyncHttpClientConsumer);
     return this;
   }
 
@@ -216,6 +300,26 @@ public class ExternalTaskClientBuilderImpl implements ExternalTaskClientBuilder
       throw LOG.lockDurationIsNotGreaterThanZeroException(lockDuration);
     }
 
+    if (maxConcurrentTasks != null && maxConcurrentTasks <= 0) {
+      throw LOG.maxConcurrentTasksNotGreaterThanZeroException(maxConcurrentTasks);
+    }
+
+    if (bulkOperationLingerTime != null && bulkOperationLingerTime <= 0L) {
+      throw LOG.bulkOperationLingerTimeNotGreaterThanZeroException(bulkOperationLingerTime);
+    }
+
+    if (maxConnections != null && maxConnections <= 0) {
+      throw LOG.maxConnectionsNotGreaterThanZeroException(maxConnections);
+    }
+
+    if (maxConnectionsPerRoute != null && maxConnectionsPerRoute <= 0) {
+      throw LOG.maxConnectionsPerRouteNotGreaterThanZeroException(maxConnectionsPerRoute);
+    }
+
+    if (keepAlive != null && keepAlive <= 0L) {
+      throw LOG.keepAliveNotGreaterThanZeroException(keepAlive);
+    }
+
     if (urlResolver == null || getBaseUrl() == null || getBaseUrl().isEmpty()) {
       throw LOG.baseUrlNullException();
     }
@@ -231,7 +335,7 @@ public class ExternalTaskClientBuilderImpl implements ExternalTaskClientBuilder
     initVariableMappers();
     initTopicSubscriptionManager();
 
-    return new ExternalTaskClientImpl(topicSubscriptionManager);
+    return new ExternalTaskClientImpl(topicSubscriptionManager, requestMetrics);
   }
 
   protected void initBaseUrl() {
@@ -310,16 +414,86 @@ public class ExternalTaskClientBuilderImpl implements ExternalTaskClientBuilder
 
   protected void initEngineClient() {
     RequestInterceptorHandler requestInterceptorHandler = new RequestInterceptorHandler(interceptors);
+    requestMetrics = new RequestMetricsImpl();
+
+    // the customizations are applied last, so that e.g. a custom connection manager is kept
+    if (maxConnections != null || maxConnectionsPerRoute != null) {
+      PoolingHttpClientConnectionManagerBuilder connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+          .useSystemProperties();
+      if (maxConnections != null) {
+        connectionManager.setMaxConnTotal(maxConnections);
+      }
+      if (maxConnectionsPerRoute != null) {
+        connectionManager.setMaxConnPerRoute(maxConnectionsPerRoute);
+      }
+      httpClientBuilder.setConnectionManager(connectionManager.build());
+    }
+    if (keepAlive != null) {
+      httpClientBuilder.setKeepAliveStrategy((response, context) -> TimeValue.ofMilliseconds(keepAlive));
+      httpClientBuilder.evictIdleConnections(TimeValue.ofMilliseconds(keepAlive));
+    }
+    httpClientCustomizers.forEach(customizer -> customizer.accept(httpClientBuilder));
     httpClientBuilder.addRequestInterceptorLast(requestInterceptorHandler);
-    RequestExecutor requestExecutor = new RequestExecutor(httpClientBuilder.build(), objectMapper);
+    httpClientBuilder.addResponseInterceptorFirst(new ResponseBytesCounter(requestMetrics));
+
+    Supplier<CloseableHttpAsyncClient> asyncHttpClientFactory = null;
+    if (useHttp2) {
+      asyncHttpClientFactory = () -> createAsyncHttpClient(requestInterceptorHandler);
+    }
+
+    RequestExecutor requestExecutor = new RequestExecutor(httpClientBuilder.build(), asyncHttpClientFactory,
+        objectMapper, compressRequests, requestMetrics);
 
     engineClient = new EngineClient(workerId, maxTasks, asyncResponseTimeout, urlResolver, requestExecutor, usePriority,
         orderingConfig);
   }
 
+  /**
+   * Creates an asynchronous client which negotiates HTTP/2 with TLS (ALPN), so that the requests of
+   * the client are multiplexed over few connections, and which falls back to HTTP/1.1 otherwise.
+   * A new client is created whenever the external task client is started again after it was stopped.
+   */
+  protected CloseableHttpAsyncClient createAsyncHttpClient(RequestInterceptorHandler requestInterceptorHandler) {
+    HttpAsyncClientBuilder asyncHttpClientBuilder = HttpAsyncClients.custom().useSystemProperties();
+
+    // the customizations are applied last, so that e.g. a custom connection manager is kept
+    PoolingAsyncClientConnectionManagerBuilder connectionManager = PoolingAsyncClientConnectionManagerBuilder.create()
+        .useSystemProperties()
+        .setDefaultTlsConfig(TlsConfig.custom().setVersionPolicy(HttpVersionPolicy.NEGOTIATE).build());
+    if (maxConnections != null) {
+      connectionManager.setMaxConnTotal(maxConnections);
+    }
+    if (maxConnectionsPerRoute != null) {
+      connectionManager.setMaxConnPerRoute(maxConnectionsPerRoute);
+    }
+
+    asyncHttpClientBuilder.setConnectionManager(connectionManager.build());
+    if (keepAlive != null) {
+      asyncHttpClientBuilder.setKeepAliveStrategy((response, context) -> TimeValue.ofMilliseconds(keepAlive));
+      asyncHttpClientBuilder.evictIdleConnections(TimeValue.ofMilliseconds(keepAlive));
+    }
+    asyncHttpClientCustomizers.forEach(customizer -> customizer.accept(asyncHttpClientBuilder));
+    asyncHttpClientBuilder.addRequestInterceptorLast(requestInterceptorHandler);
+
+    CloseableHttpAsyncClient asyncHttpClient = asyncHttpClientBuilder.build();
+    asyncHttpClient.start();
+    return asyncHttpClient;
+  }
+
   protected void initTopicSubscriptionManager() {
-    topicSubscriptionManager = new TopicSubscriptionManager(engineClient, typedValues, lockDuration);
+    if (useFetchAndLockStream) {
+      topicSubscriptionManager = new StreamingTopicSubscriptionManager(engineClient, typedValues, lockDuration);
+    } else {
+      topicSubscriptionManager = new TopicSubscriptionManager(engineClient, typedValues, lockDuration);
+    }
     topicSubscriptionManager.setBackoffStrategy(getBackoffStrategy());
+    topicSubscriptionManager.setHandlerExecutor(createHandlerExecutor());
+
+    if (bulkOperationLingerTime != null && topicSubscriptionManager.getHandlerExecutor() != null) {
+      ExternalTaskOperationCoalescer coalescer = new ExternalTaskOperationCoalescer(engineClient,
+          bulkOperationLingerTime, maxTasks);
+      topicSubscriptionManager.setExternalTaskService(new CoalescingExternalTaskServiceImpl(engineClient, coalescer));
+    }
 
     if (isBackoffStrategyDisabled) {
       topicSubscriptionManager.disableBackoffStrategy();
@@ -330,6 +504,21 @@ public class ExternalTaskClientBuilderImpl implements ExternalTaskClientBuilder
     }
   }
 
+  protected ExternalTaskHandlerExecutor createHandlerExecutor() {
+    int concurrencyLimit = maxConcurrentTasks != null ? maxConcurrentTasks : maxTasks;
+
+    if (handlerExecutor != null) {
+      return new ExternalTaskHandlerExecutor(handlerExecutor, concurrencyLimit);
+    } else if (useVirtualThreads) {
+      return ExternalTaskHandlerExecutor.withVirtualThreads(concurrencyLimit);
+    } else if (maxConcurrentTasks != null) {
+      return ExternalTaskHandlerExecutor.withPlatformThreads(concurrencyLimit);
+    } else {
+      // handlers are executed on the acquisition thread
+      return null;
+    }
+  }
+
   protected Map<String, DataFormat> lookupDataFormats() {
     Map<String, DataFormat> dataFormats = new HashMap<>();
 
@@ -428,6 +617,18 @@ public class ExternalTaskClientBuilderImpl implements ExternalTaskClientBuilder
     return backoffStrategy;
   }
 
+  protected Integer getMaxConcurrentTasks() {
+    return maxConcurrentTasks;
+  }
+
+  protected Long getBulkOperationLingerTime() {
+    return bulkOperationLingerTime;
+  }
+
+  protected boolean isUseFetchAndLockStream() {
+    return useFetchAndLockStream;
+  }
+
   public String getDefaultSerializationFormat() {
     return defaultSerializationFormat;
   }
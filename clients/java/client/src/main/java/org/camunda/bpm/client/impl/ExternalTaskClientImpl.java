@@ -17,6 +17,7 @@
 package org.camunda.bpm.client.impl;
 
 import org.camunda.bpm.client.ExternalTaskClient;
+import org.camunda.bpm.client.RequestMetrics;
 import org.camunda.bpm.client.topic.TopicSubscriptionBuilder;
 import org.camunda.bpm.client.topic.impl.TopicSubscriptionBuilderImpl;
 import org.camunda.bpm.client.topic.impl.TopicSubscriptionManager;
@@ -27,9 +28,15 @@ import org.camunda.bpm.client.topic.impl.TopicSubscriptionManager;
 public class ExternalTaskClientImpl implements ExternalTaskClient {
 
   protected TopicSubscriptionManager topicSubscriptionManager;
+  protected RequestMetrics requestMetrics;
 
   public ExternalTaskClientImpl(TopicSubscriptionManager topicSubscriptionManager) {
+    this(topicSubscriptionManager, new RequestMetricsImpl());
+  }
+
+  public ExternalTaskClientImpl(TopicSubscriptionManager topicSubscriptionManager, RequestMetrics requestMetrics) {
     this.topicSubscriptionManager = topicSubscriptionManager;
+    this.requestMetrics = requestMetrics;
   }
 
   public TopicSubscriptionBuilder subscribe(String topicName) {
@@ -38,6 +45,7 @@ public class ExternalTaskClientImpl implements ExternalTaskClient {
 
   public void stop() {
     topicSubscriptionManager.stop();
+    topicSubscriptionManager.getEngineClient().close();
   }
 
   public void start() {
@@ -48,6 +56,10 @@ public class ExternalTaskClientImpl implements ExternalTaskClient {
     return topicSubscriptionManager.isRunning();
   }
 
+  public RequestMetrics getRequestMetrics() {
+    return requestMetrics;
+  }
+
   public TopicSubscriptionManager getTopicSubscriptionManager() {
     return topicSubscriptionManager;
   }
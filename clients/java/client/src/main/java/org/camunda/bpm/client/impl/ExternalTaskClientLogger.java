@@ -247,6 +247,31 @@ public class ExternalTaskClientLogger extends BaseLogger {
     return new ExternalTaskClientException(exceptionMessage("028", "Multiple providers found for dataformat '{}'", dataFormatName));
   }
 
+  public ExternalTaskClientException maxConcurrentTasksNotGreaterThanZeroException(Integer maxConcurrentTasks) {
+    return new ExternalTaskClientException(exceptionMessage(
+        "032", "Maximum amount of concurrently handled tasks must be greater than zero, but was '{}'", maxConcurrentTasks));
+  }
+
+  public ExternalTaskClientException bulkOperationLingerTimeNotGreaterThanZeroException(Long lingerTime) {
+    return new ExternalTaskClientException(exceptionMessage(
+        "033", "Bulk operation linger time must be greater than zero, but was '{}'", lingerTime));
+  }
+
+  public ExternalTaskClientException maxConnectionsNotGreaterThanZeroException(Integer maxConnections) {
+    return new ExternalTaskClientException(exceptionMessage(
+        "034", "Maximum amount of connections must be greater than zero, but was '{}'", maxConnections));
+  }
+
+  public ExternalTaskClientException maxConnectionsPerRouteNotGreaterThanZeroException(Integer maxConnectionsPerRoute) {
+    return new ExternalTaskClientException(exceptionMessage(
+        "035", "Maximum amount of connections per route must be greater than zero, but was '{}'", maxConnectionsPerRoute));
+  }
+
+  public ExternalTaskClientException keepAliveNotGreaterThanZeroException(Long keepAlive) {
+    return new ExternalTaskClientException(exceptionMessage(
+        "036", "Keep-alive duration must be greater than zero, but was '{}'", keepAlive));
+  }
+
   public ExternalTaskClientException passNullValueParameter(String parameterName) {
     return new ExternalTaskClientException(exceptionMessage(
         "030", "Null value is not allowed as '{}'", parameterName));
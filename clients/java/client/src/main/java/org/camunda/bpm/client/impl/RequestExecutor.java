@@ -20,10 +20,22 @@ import com.fasterxml.jackson.core.JsonParseException;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonMappingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InterruptedIOException;
 import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Supplier;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import org.apache.hc.client5.http.async.methods.SimpleHttpRequest;
+import org.apache.hc.client5.http.async.methods.SimpleHttpResponse;
 import org.apache.hc.client5.http.classic.HttpClient;
+import org.apache.hc.client5.http.classic.methods.HttpPost;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
 import org.apache.hc.client5.http.impl.classic.AbstractHttpClientResponseHandler;
 import org.apache.hc.core5.http.ClassicHttpRequest;
 import org.apache.hc.core5.http.ClassicHttpResponse;
@@ -48,14 +60,45 @@ public class RequestExecutor {
   protected static final EngineClientLogger LOG = ExternalTaskClientLogger.ENGINE_CLIENT_LOGGER;
 
   protected static final Header HEADER_CONTENT_TYPE_JSON = new BasicHeader(HttpHeaders.CONTENT_TYPE, "application/json");
+  protected static final Header HEADER_ACCEPT_EVENT_STREAM = new BasicHeader(HttpHeaders.ACCEPT, "text/event-stream");
   protected static final Header HEADER_USER_AGENT = new BasicHeader(HttpHeaders.USER_AGENT, "Camunda External Task Client");
+  protected static final Header HEADER_ACCEPT_ENCODING_GZIP = new BasicHeader(HttpHeaders.ACCEPT_ENCODING, "gzip");
+
+  protected static final String CONTENT_ENCODING_GZIP = "gzip";
+
+  /**
+   * Request bodies smaller than this number of bytes are not compressed.
+   */
+  protected static final int COMPRESSION_THRESHOLD = 1024;
 
   protected HttpClient httpClient;
+  protected Supplier<CloseableHttpAsyncClient> asyncHttpClientFactory;
+  protected CloseableHttpAsyncClient asyncHttpClient;
   protected ObjectMapper objectMapper;
+  protected boolean compressRequests;
+  protected RequestMetricsImpl metrics;
 
   protected RequestExecutor(HttpClient httpClient, ObjectMapper objectMapper) {
+    this(httpClient, null, objectMapper, false, new RequestMetricsImpl());
+  }
+
+  /**
+   * @param httpClient executes the requests if no async client is given and opens the event streams
+   * @param asyncHttpClientFactory creates the client which executes the requests, e.g. multiplexed over HTTP/2;
+   *   may be <code>null</code>
+   * @param compressRequests whether request bodies are compressed with gzip
+   * @param metrics records the requests; response bytes of the classic client are counted by a {@link ResponseBytesCounter}
+   */
+  protected RequestExecutor(HttpClient httpClient,
+                            Supplier<CloseableHttpAsyncClient> asyncHttpClientFactory,
+                            ObjectMapper objectMapper,
+                            boolean compressRequests,
+                            RequestMetricsImpl metrics) {
     this.httpClient = httpClient;
+    this.asyncHttpClientFactory = asyncHttpClientFactory;
     this.objectMapper = objectMapper;
+    this.compressRequests = compressRequests;
+    this.metrics = metrics;
   }
 
   protected <T> T postRequest(String resourceUrl, RequestDto requestDto, Class<T> responseClass) {
@@ -69,6 +112,42 @@ public class RequestExecutor {
     return executeRequest(httpRequest, responseClass);
   }
 
+  protected EventStream postEventStreamRequest(String resourceUrl, RequestDto requestDto) {
+    HttpPost httpRequest = new HttpPost(URI.create(resourceUrl).normalize());
+    httpRequest.addHeader(HEADER_USER_AGENT);
+    httpRequest.addHeader(HEADER_CONTENT_TYPE_JSON);
+    httpRequest.addHeader(HEADER_ACCEPT_EVENT_STREAM);
+    httpRequest.setEntity(serializeRequest(requestDto));
+
+    ClassicHttpResponse response = null;
+    long start = System.nanoTime();
+    boolean failed = true;
+    try {
+      metrics.addBytesSent(httpRequest.getEntity().getContentLength());
+      response = httpClient.executeOpen(null, httpRequest, null);
+
+      int statusCode = response.getCode();
+      if (statusCode >= 300) {
+        RestException engineException = deserializeResponse(response.getEntity(), EngineRestExceptionDto.class)
+            .toRestException();
+        engineException.setHttpStatusCode(statusCode);
+        IoUtil.closeSilently(response);
+
+        throw LOG.exceptionWhileReceivingResponse(httpRequest, engineException);
+      }
+
+      failed = false;
+      return new EventStream(httpRequest, response);
+
+    } catch (IOException e) { // connection was aborted
+      IoUtil.closeSilently(response);
+      throw LOG.exceptionWhileEstablishingConnection(httpRequest, e);
+
+    } finally {
+      metrics.recordRequest(start, failed);
+    }
+  }
+
   protected byte[] getRequest(String resourceUrl)  {
     ClassicHttpRequest httpRequest = ClassicRequestBuilder.get(URI.create(resourceUrl).normalize())
       .addHeader(HEADER_USER_AGENT)
@@ -79,8 +158,23 @@ public class RequestExecutor {
   }
 
   protected <T> T executeRequest(ClassicHttpRequest httpRequest, Class<T> responseClass) {
+    long start = System.nanoTime();
+    boolean failed = true;
     try {
-      return httpClient.execute(httpRequest, handleResponse(responseClass));
+      HttpEntity requestEntity = httpRequest.getEntity();
+      if (requestEntity != null) {
+        metrics.addBytesSent(requestEntity.getContentLength());
+      }
+
+      T response;
+      if (asyncHttpClientFactory != null) {
+        response = executeAsyncRequest(httpRequest, responseClass);
+      } else {
+        response = httpClient.execute(httpRequest, handleResponse(responseClass));
+      }
+
+      failed = false;
+      return response;
 
     } catch (RestException e) { // catches >= 300 HTTP status responses
       throw LOG.exceptionWhileReceivingResponse(httpRequest, e);
@@ -88,7 +182,71 @@ public class RequestExecutor {
     } catch (IOException e) { // connection was aborted
       throw LOG.exceptionWhileEstablishingConnection(httpRequest, e);
 
+    } finally {
+      metrics.recordRequest(start, failed);
+    }
+  }
+
+  protected <T> T executeAsyncRequest(ClassicHttpRequest httpRequest, Class<T> responseClass) throws IOException {
+    SimpleHttpResponse response;
+    try {
+      response = getAsyncHttpClient().execute(toAsyncRequest(httpRequest), null).get();
+
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException(e.getMessage());
+
+    } catch (ExecutionException e) {
+      Throwable cause = e.getCause();
+      throw cause instanceof IOException ? (IOException) cause : new IOException(cause);
+
+    }
+
+    byte[] responseBody = response.getBodyBytes();
+    if (responseBody != null) {
+      metrics.addBytesReceived(responseBody.length);
+      if (response.containsHeader(HttpHeaders.CONTENT_ENCODING)
+          && CONTENT_ENCODING_GZIP.equalsIgnoreCase(response.getFirstHeader(HttpHeaders.CONTENT_ENCODING).getValue())) {
+        responseBody = decompress(responseBody);
+      }
+    }
+
+    if (response.getCode() >= 300) {
+      RestException engineException = deserializeResponse(new ByteArrayEntity(responseBody, ContentType.APPLICATION_JSON),
+          EngineRestExceptionDto.class).toRestException();
+      engineException.setHttpStatusCode(response.getCode());
+      throw engineException;
+    }
+
+    if (responseClass.isAssignableFrom(byte[].class)) {
+      return (T) responseBody;
+    } else if (responseClass.isAssignableFrom(Void.class) || responseBody == null || responseBody.length == 0) {
+      return null;
+    } else {
+      return deserializeResponse(new ByteArrayEntity(responseBody, ContentType.APPLICATION_JSON), responseClass);
+    }
+  }
+
+  protected SimpleHttpRequest toAsyncRequest(ClassicHttpRequest httpRequest) throws IOException {
+    SimpleHttpRequest asyncRequest;
+    try {
+      asyncRequest = new SimpleHttpRequest(httpRequest.getMethod(), httpRequest.getUri());
+    } catch (URISyntaxException e) {
+      throw new IOException(e);
+    }
+
+    asyncRequest.setHeaders(httpRequest.getHeaders());
+    asyncRequest.addHeader(HEADER_ACCEPT_ENCODING_GZIP);
+
+    HttpEntity requestEntity = httpRequest.getEntity();
+    if (requestEntity != null) {
+      asyncRequest.setBody(EntityUtils.toByteArray(requestEntity), ContentType.parse(requestEntity.getContentType()));
+      if (requestEntity.getContentEncoding() != null) {
+        asyncRequest.addHeader(HttpHeaders.CONTENT_ENCODING, requestEntity.getContentEncoding());
+      }
     }
+
+    return asyncRequest;
   }
 
   protected <T> HttpClientResponseHandler<T> handleResponse(final Class<T> responseClass) {
@@ -161,6 +319,22 @@ public class RequestExecutor {
     }
   }
 
+  protected <T> T deserializeEventData(String data, Class<T> responseClass) {
+    try {
+      return objectMapper.readValue(data, responseClass);
+
+    } catch (JsonParseException e) {
+      throw LOG.exceptionWhileParsingJsonObject(responseClass, e);
+
+    } catch (JsonMappingException e) {
+      throw LOG.exceptionWhileMappingJsonObject(responseClass, e);
+
+    } catch (IOException e) {
+      throw LOG.exceptionWhileDeserializingJsonObject(responseClass, e);
+
+    }
+  }
+
   protected ByteArrayEntity serializeRequest(RequestDto dto)  {
     byte[] serializedRequest;
 
@@ -172,10 +346,55 @@ public class RequestExecutor {
 
     ByteArrayEntity byteArrayEntity = null;
     if (serializedRequest != null) {
-      byteArrayEntity = new ByteArrayEntity(serializedRequest, ContentType.APPLICATION_JSON);
+      if (compressRequests && serializedRequest.length >= COMPRESSION_THRESHOLD) {
+        byteArrayEntity = new ByteArrayEntity(compress(serializedRequest), ContentType.APPLICATION_JSON, CONTENT_ENCODING_GZIP);
+      } else {
+        byteArrayEntity = new ByteArrayEntity(serializedRequest, ContentType.APPLICATION_JSON);
+      }
     }
 
     return byteArrayEntity;
   }
 
+  protected byte[] compress(byte[] content) {
+    ByteArrayOutputStream compressedContent = new ByteArrayOutputStream(content.length / 4);
+    try (GZIPOutputStream gzipStream = new GZIPOutputStream(compressedContent)) {
+      gzipStream.write(content);
+    } catch (IOException e) {
+      // writing to memory does not fail
+      throw new IllegalStateException(e);
+    }
+    return compressedContent.toByteArray();
+  }
+
+  protected byte[] decompress(byte[] content) throws IOException {
+    try (InputStream gzipStream = new GZIPInputStream(new ByteArrayInputStream(content))) {
+      return IoUtil.inputStreamAsByteArray(gzipStream);
+    }
+  }
+
+  public RequestMetricsImpl getMetrics() {
+    return metrics;
+  }
+
+  /**
+   * @return the started asynchronous client, which is created on first use after the executor was closed
+   */
+  protected synchronized CloseableHttpAsyncClient getAsyncHttpClient() {
+    if (asyncHttpClient == null) {
+      asyncHttpClient = asyncHttpClientFactory.get();
+    }
+    return asyncHttpClient;
+  }
+
+  /**
+   * Closes the asynchronous client and releases its I/O threads and connections.
+   */
+  protected synchronized void close() {
+    if (asyncHttpClient != null) {
+      IoUtil.closeSilently(asyncHttpClient);
+      asyncHttpClient = null;
+    }
+  }
+
 }
@@ -0,0 +1,80 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.client.impl;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import org.camunda.bpm.client.RequestMetrics;
+
+public class RequestMetricsImpl implements RequestMetrics {
+
+  protected LongAdder requestCount = new LongAdder();
+  protected LongAdder failedRequestCount = new LongAdder();
+  protected LongAdder totalRequestTime = new LongAdder();
+  protected LongAccumulator maxRequestTime = new LongAccumulator(Math::max, 0);
+  protected LongAdder bytesSent = new LongAdder();
+  protected LongAdder bytesReceived = new LongAdder();
+
+  public void recordRequest(long startNanos, boolean failed) {
+    long requestTime = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+
+    requestCount.increment();
+    if (failed) {
+      failedRequestCount.increment();
+    }
+    totalRequestTime.add(requestTime);
+    maxRequestTime.accumulate(requestTime);
+  }
+
+  public void addBytesSent(long bytes) {
+    if (bytes > 0) {
+      bytesSent.add(bytes);
+    }
+  }
+
+  public void addBytesReceived(long bytes) {
+    if (bytes > 0) {
+      bytesReceived.add(bytes);
+    }
+  }
+
+  public long getRequestCount() {
+    return requestCount.sum();
+  }
+
+  public long getFailedRequestCount() {
+    return failedRequestCount.sum();
+  }
+
+  public long getTotalRequestTime() {
+    return totalRequestTime.sum();
+  }
+
+  public long getMaxRequestTime() {
+    return maxRequestTime.get();
+  }
+
+  public long getBytesSent() {
+    return bytesSent.sum();
+  }
+
+  public long getBytesReceived() {
+    return bytesReceived.sum();
+  }
+
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.client.impl;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import org.apache.hc.core5.http.ClassicHttpResponse;
+import org.apache.hc.core5.http.EntityDetails;
+import org.apache.hc.core5.http.HttpEntity;
+import org.apache.hc.core5.http.HttpResponse;
+import org.apache.hc.core5.http.HttpResponseInterceptor;
+import org.apache.hc.core5.http.io.entity.HttpEntityWrapper;
+import org.apache.hc.core5.http.protocol.HttpContext;
+
+/**
+ * Counts the bytes of the response bodies received by the classic http client. The interceptor
+ * is invoked before the response content is decompressed, so that the transferred bytes are counted.
+ */
+public class ResponseBytesCounter implements HttpResponseInterceptor {
+
+  protected RequestMetricsImpl metrics;
+
+  public ResponseBytesCounter(RequestMetricsImpl metrics) {
+    this.metrics = metrics;
+  }
+
+  @Override
+  public void process(HttpResponse response, EntityDetails entityDetails, HttpContext context) {
+    if (response instanceof ClassicHttpResponse) {
+      ClassicHttpResponse classicResponse = (ClassicHttpResponse) response;
+      HttpEntity entity = classicResponse.getEntity();
+      if (entity != null) {
+        classicResponse.setEntity(new CountingEntity(entity));
+      }
+    }
+  }
+
+  protected class CountingEntity extends HttpEntityWrapper {
+
+    public CountingEntity(HttpEntity wrappedEntity) {
+      super(wrappedEntity);
+    }
+
+    @Override
+    public InputStream getContent() throws IOException {
+      return new CountingInputStream(super.getContent());
+    }
+
+    @Override
+    public void writeTo(OutputStream outStream) throws IOException {
+      try (InputStream content = getContent()) {
+        content.transferTo(outStream);
+      }
+    }
+  }
+
+  protected class CountingInputStream extends FilterInputStream {
+
+    public CountingInputStream(InputStream in) {
+      super(in);
+    }
+
+    @Override
+    public int read() throws IOException {
+      int value = super.read();
+      if (value >= 0) {
+        metrics.addBytesReceived(1);
+      }
+      return value;
+    }
+
+    @Override
+    public int read(byte[] buffer, int offset, int length) throws IOException {
+      int read = super.read(buffer, offset, length);
+      metrics.addBytesReceived(read);
+      return read;
+    }
+  }
+
+}
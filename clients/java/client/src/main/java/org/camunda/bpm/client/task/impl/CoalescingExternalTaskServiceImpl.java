@@ -0,0 +1,65 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.client.task.impl;
+
+import java.util.Map;
+
+import org.camunda.bpm.client.impl.EngineClient;
+import org.camunda.bpm.client.impl.EngineClientException;
+
+/**
+ * Sends the complete, failure and extend lock operations of the handlers as bulk requests
+ * coalesced by an {@link ExternalTaskOperationCoalescer}.
+ */
+public class CoalescingExternalTaskServiceImpl extends ExternalTaskServiceImpl {
+
+  protected ExternalTaskOperationCoalescer coalescer;
+
+  public CoalescingExternalTaskServiceImpl(EngineClient engineClient, ExternalTaskOperationCoalescer coalescer) {
+    super(engineClient);
+    this.coalescer = coalescer;
+  }
+
+  @Override
+  public void complete(String externalTaskId, Map<String, Object> variables, Map<String, Object> localVariables) {
+    try {
+      coalescer.execute(engineClient.completeOperation(externalTaskId, variables, localVariables));
+    } catch (EngineClientException e) {
+      throw LOG.handledEngineClientException("completing the external task", e);
+    }
+  }
+
+  @Override
+  public void handleFailure(String externalTaskId, String errorMessage, String errorDetails, int retries, long retryTimeout, Map<String, Object> variables, Map<String, Object> localVariables) {
+    try {
+      coalescer.execute(engineClient.failureOperation(externalTaskId, errorMessage, errorDetails, retries,
+          retryTimeout, variables, localVariables));
+    } catch (EngineClientException e) {
+      throw LOG.handledEngineClientException("notifying a failure", e);
+    }
+  }
+
+  @Override
+  public void extendLock(String externalTaskId, long newDuration) {
+    try {
+      coalescer.execute(engineClient.extendLockOperation(externalTaskId, newDuration));
+    } catch (EngineClientException e) {
+      throw LOG.handledEngineClientException("extending lock", e);
+    }
+  }
+
+}
@@ -17,10 +17,14 @@
 package org.camunda.bpm.client.task.impl;
 
 import java.text.DateFormat;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
 
 import org.camunda.bpm.client.task.ExternalTask;
 import org.camunda.bpm.client.variable.impl.TypedValueField;
@@ -56,11 +60,16 @@ public class ExternalTaskImpl implements ExternalTask {
   protected Map<String, TypedValueField> variables;
   protected String businessKey;
   protected Map<String, String> extensionProperties;
+  protected Map<String, String> variableTypes;
 
   @JsonIgnore
   @SuppressWarnings("rawtypes")
   protected Map<String, VariableValue> receivedVariableMap;
 
+  @JsonIgnore
+  @SuppressWarnings("rawtypes")
+  protected Function<List<String>, Map<String, VariableValue>> variableFetcher;
+
   public void setActivityId(String activityId) {
     this.activityId = activityId;
   }
@@ -141,12 +150,30 @@ public class ExternalTaskImpl implements ExternalTask {
     return variables;
   }
 
+  public Map<String, String> getVariableTypes() {
+    return variableTypes;
+  }
+
+  public void setVariableTypes(Map<String, String> variableTypes) {
+    this.variableTypes = variableTypes;
+  }
+
   @JsonIgnore
   @SuppressWarnings("rawtypes")
   public void setReceivedVariableMap(Map<String, VariableValue> receivedVariableMap) {
     this.receivedVariableMap = receivedVariableMap;
   }
 
+  /**
+   * @param variableFetcher fetches the values of the given variables which were not received
+   *   with the task because the variables are fetched lazily
+   */
+  @JsonIgnore
+  @SuppressWarnings("rawtypes")
+  public void setVariableFetcher(Function<List<String>, Map<String, VariableValue>> variableFetcher) {
+    this.variableFetcher = variableFetcher;
+  }
+
   @Override
   public String getActivityId() {
     return activityId;
@@ -239,6 +266,8 @@ public class ExternalTaskImpl implements ExternalTask {
   @JsonIgnore
   @Override
   public Map<String, Object> getAllVariables() {
+    fetchAllVariables();
+
     Map<String, Object> variables = new HashMap<>();
 
     receivedVariableMap.forEach((variableName, variableValue) -> {
@@ -253,6 +282,8 @@ public class ExternalTaskImpl implements ExternalTask {
   @Override
   @SuppressWarnings({ "rawtypes", "unchecked" })
   public <T> T getVariable(String variableName) {
+    fetchVariables(Collections.singletonList(variableName));
+
     T value = null;
 
     VariableValue variableValue = receivedVariableMap.get(variableName);
@@ -270,6 +301,8 @@ public class ExternalTaskImpl implements ExternalTask {
   }
 
   public VariableMap getAllVariablesTyped(boolean deserializeObjectValues) {
+    fetchAllVariables();
+
     VariableMap variables = Variables.createVariables();
 
     receivedVariableMap.forEach((variableName, variableValue) -> {
@@ -290,6 +323,8 @@ public class ExternalTaskImpl implements ExternalTask {
   @JsonIgnore
   @Override
   public <T extends TypedValue> T getVariableTyped(String variableName, boolean deserializeObjectValues) {
+    fetchVariables(Collections.singletonList(variableName));
+
     TypedValue typedValue = null;
 
     VariableValue variableValue = receivedVariableMap.get(variableName);
@@ -300,6 +335,32 @@ public class ExternalTaskImpl implements ExternalTask {
     return (T) typedValue;
   }
 
+  protected void fetchAllVariables() {
+    if (variableTypes != null) {
+      fetchVariables(variableTypes.keySet());
+    }
+  }
+
+  /**
+   * Fetches the values of the given variables in a single request, if they were fetched lazily
+   * and were not fetched yet.
+   */
+  protected void fetchVariables(Collection<String> variableNames) {
+    if (variableFetcher == null || variableTypes == null) {
+      return;
+    }
+
+    List<String> pendingVariableNames = new ArrayList<>();
+    for (String variableName : variableNames) {
+      if (variableTypes.containsKey(variableName) && !receivedVariableMap.containsKey(variableName)) {
+        pendingVariableNames.add(variableName);
+      }
+    }
+
+    if (!pendingVariableNames.isEmpty()) {
+      receivedVariableMap.putAll(variableFetcher.apply(pendingVariableNames));
+    }
+  }
 
   public Map<String, String> getExtensionProperties() {
     return extensionProperties == null ? Collections.emptyMap() : extensionProperties;
@@ -340,6 +401,7 @@ public class ExternalTaskImpl implements ExternalTask {
         + "tenantId=" + tenantId + ", "
         + "topicName=" + topicName + ", "
         + "variables=" + variables + ", "
+        + "variableTypes=" + variableTypes + ", "
         + "workerId=" + workerId + "]";
   }
 
@@ -0,0 +1,167 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.client.task.impl;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.camunda.bpm.client.impl.EngineClient;
+import org.camunda.bpm.client.impl.EngineClientException;
+import org.camunda.bpm.client.impl.EngineClientLogger;
+import org.camunda.bpm.client.impl.ExternalTaskClientLogger;
+import org.camunda.bpm.client.task.impl.dto.ExternalTaskOperationDto;
+import org.camunda.bpm.client.task.impl.dto.ExternalTaskOperationResultDto;
+
+/**
+ * <p>Coalesces the complete, failure and extend lock operations of concurrently executed
+ * external task handlers into bulk requests.</p>
+ *
+ * <p>The first thread submitting an operation waits for the linger time or until the
+ * maximum batch size is reached and then sends the bulk request for all operations
+ * submitted in the meantime. The other threads wait for the result of their own
+ * operation, so that the calls stay synchronous for the handlers.</p>
+ *
+ * <p>The bulk requests ask the engine to execute the operations one by one if the batch
+ * fails as a whole, so that a single failing operation does not fail the operations of
+ * the other handlers. An operation without a result in the response is treated as failed.</p>
+ */
+public class ExternalTaskOperationCoalescer {
+
+  protected static final EngineClientLogger LOG = ExternalTaskClientLogger.ENGINE_CLIENT_LOGGER;
+
+  protected EngineClient engineClient;
+  protected long lingerTime;
+  protected int maxBatchSize;
+
+  protected final ReentrantLock lock = new ReentrantLock();
+  protected final Condition batchFull = lock.newCondition();
+  protected List<PendingOperation> pendingOperations = new ArrayList<>();
+  protected boolean senderWaiting;
+
+  public ExternalTaskOperationCoalescer(EngineClient engineClient, long lingerTime, int maxBatchSize) {
+    this.engineClient = engineClient;
+    this.lingerTime = lingerTime;
+    this.maxBatchSize = maxBatchSize;
+  }
+
+  /**
+   * Executes the operation as part of the next bulk request and waits for its result.
+   *
+   * @throws EngineClientException if the request or the operation failed
+   */
+  public void execute(ExternalTaskOperationDto operation) {
+    PendingOperation pendingOperation = new PendingOperation(operation);
+    boolean sender = false;
+
+    lock.lock();
+    try {
+      pendingOperations.add(pendingOperation);
+
+      if (!senderWaiting) {
+        senderWaiting = true;
+        sender = true;
+
+      } else if (pendingOperations.size() >= maxBatchSize) {
+        batchFull.signal();
+      }
+    } finally {
+      lock.unlock();
+    }
+
+    if (sender) {
+      send(awaitBatch());
+    }
+
+    pendingOperation.await();
+  }
+
+  protected List<PendingOperation> awaitBatch() {
+    lock.lock();
+    try {
+      long remainingNanos = TimeUnit.MILLISECONDS.toNanos(lingerTime);
+      while (pendingOperations.size() < maxBatchSize && remainingNanos > 0) {
+        remainingNanos = batchFull.awaitNanos(remainingNanos);
+      }
+    } catch (InterruptedException e) {
+      // send the operations collected so far
+      Thread.currentThread().interrupt();
+    }
+
+    try {
+      List<PendingOperation> batch = pendingOperations;
+      pendingOperations = new ArrayList<>();
+      senderWaiting = false;
+      return batch;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  protected void send(List<PendingOperation> batch) {
+    List<ExternalTaskOperationDto> operations = new ArrayList<>();
+    for (PendingOperation pendingOperation : batch) {
+      operations.add(pendingOperation.operation);
+    }
+
+    try {
+      List<ExternalTaskOperationResultDto> results = engineClient.bulkOperation(operations);
+
+      for (int i = 0; i < batch.size(); i++) {
+        PendingOperation pendingOperation = batch.get(i);
+        ExternalTaskOperationResultDto result = i < results.size() ? results.get(i) : null;
+
+        if (result == null) {
+          pendingOperation.result.completeExceptionally(LOG.bulkOperationResultMissing(pendingOperation.operation));
+        } else if (result.isSuccessful()) {
+          pendingOperation.result.complete(null);
+        } else {
+          pendingOperation.result.completeExceptionally(LOG.bulkOperationFailed(result));
+        }
+      }
+
+    } catch (RuntimeException e) {
+      for (PendingOperation pendingOperation : batch) {
+        pendingOperation.result.completeExceptionally(e);
+      }
+    }
+  }
+
+  protected static class PendingOperation {
+
+    protected final ExternalTaskOperationDto operation;
+    protected final CompletableFuture<Void> result = new CompletableFuture<>();
+
+    protected PendingOperation(ExternalTaskOperationDto operation) {
+      this.operation = operation;
+    }
+
+    protected void await() {
+      try {
+        result.join();
+      } catch (CompletionException e) {
+        throw (RuntimeException) e.getCause();
+      }
+    }
+
+  }
+
+}
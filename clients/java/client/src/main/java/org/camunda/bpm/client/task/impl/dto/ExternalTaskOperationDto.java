@@ -0,0 +1,110 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.client.task.impl.dto;
+
+import java.util.Map;
+
+import org.camunda.bpm.client.variable.impl.TypedValueField;
+
+public class ExternalTaskOperationDto {
+
+  public static final String COMPLETE = "complete";
+  public static final String FAILURE = "failure";
+  public static final String EXTEND_LOCK = "extendLock";
+
+  protected String type;
+  protected String externalTaskId;
+
+  protected Map<String, TypedValueField> variables;
+  protected Map<String, TypedValueField> localVariables;
+
+  protected String errorMessage;
+  protected String errorDetails;
+  protected int retries;
+  protected long retryTimeout;
+
+  protected long newDuration;
+
+  protected ExternalTaskOperationDto(String type, String externalTaskId) {
+    this.type = type;
+    this.externalTaskId = externalTaskId;
+  }
+
+  public static ExternalTaskOperationDto complete(String externalTaskId, Map<String, TypedValueField> variables,
+                                                  Map<String, TypedValueField> localVariables) {
+    ExternalTaskOperationDto operation = new ExternalTaskOperationDto(COMPLETE, externalTaskId);
+    operation.variables = variables;
+    operation.localVariables = localVariables;
+    return operation;
+  }
+
+  public static ExternalTaskOperationDto failure(String externalTaskId, String errorMessage, String errorDetails,
+                                                 int retries, long retryTimeout, Map<String, TypedValueField> variables,
+                                                 Map<String, TypedValueField> localVariables) {
+    ExternalTaskOperationDto operation = new ExternalTaskOperationDto(FAILURE, externalTaskId);
+    operation.errorMessage = errorMessage;
+    operation.errorDetails = errorDetails;
+    operation.retries = retries;
+    operation.retryTimeout = retryTimeout;
+    operation.variables = variables;
+    operation.localVariables = localVariables;
+    return operation;
+  }
+
+  public static ExternalTaskOperationDto extendLock(String externalTaskId, long newDuration) {
+    ExternalTaskOperationDto operation = new ExternalTaskOperationDto(EXTEND_LOCK, externalTaskId);
+    operation.newDuration = newDuration;
+    return operation;
+  }
+
+  public String getType() {
+    return type;
+  }
+
+  public String getExternalTaskId() {
+    return externalTaskId;
+  }
+
+  public Map<String, TypedValueField> getVariables() {
+    return variables;
+  }
+
+  public Map<String, TypedValueField> getLocalVariables() {
+    return localVariables;
+  }
+
+  public String getErrorMessage() {
+    return errorMessage;
+  }
+
+  public String getErrorDetails() {
+    return errorDetails;
+  }
+
+  public int getRetries() {
+    return retries;
+  }
+
+  public long getRetryTimeout() {
+    return retryTimeout;
+  }
+
+  public long getNewDuration() {
+    return newDuration;
+  }
+
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.client.task.impl.dto;
+
+import org.camunda.bpm.client.exception.RestException;
+
+public class ExternalTaskOperationResultDto {
+
+  protected String externalTaskId;
+  protected String type;
+  protected boolean successful;
+  protected String errorType;
+  protected String errorMessage;
+
+  public String getExternalTaskId() {
+    return externalTaskId;
+  }
+
+  public void setExternalTaskId(String externalTaskId) {
+    this.externalTaskId = externalTaskId;
+  }
+
+  public String getType() {
+    return type;
+  }
+
+  public void setType(String type) {
+    this.type = type;
+  }
+
+  public boolean isSuccessful() {
+    return successful;
+  }
+
+  public void setSuccessful(boolean successful) {
+    this.successful = successful;
+  }
+
+  public String getErrorType() {
+    return errorType;
+  }
+
+  public void setErrorType(String errorType) {
+    this.errorType = errorType;
+  }
+
+  public String getErrorMessage() {
+    return errorMessage;
+  }
+
+  public void setErrorMessage(String errorMessage) {
+    this.errorMessage = errorMessage;
+  }
+
+  /**
+   * @return the exception the single resource of the operation would have responded with
+   */
+  public RestException toRestException() {
+    RestException exception = new RestException(errorMessage, errorType, null);
+    exception.setHttpStatusCode(getHttpStatusCode());
+    return exception;
+  }
+
+  protected int getHttpStatusCode() {
+    if ("NotFoundException".equals(errorType)) {
+      return 404;
+    } else if ("AuthorizationException".equals(errorType)) {
+      return 403;
+    } else if ("BadUserRequestException".equals(errorType)
+        || "NullValueException".equals(errorType)
+        || "NotValidException".equals(errorType)) {
+      return 400;
+    } else {
+      return 500;
+    }
+  }
+
+}
@@ -121,4 +121,25 @@ public interface TopicSubscription {
    *         extension properties are fetched and provided.
    */
   boolean isIncludeExtensionProperties();
+
+  /**
+   * @return whether or not only the names and types of the variables are fetched
+   *         with the external tasks. <code>true</code> means that the values are
+   *         fetched from the engine when they are accessed for the first time.
+   */
+  boolean isLazyVariables();
+
+  /**
+   * @return the JSONPath expressions by variable name which select the part of a
+   *         JSON variable that is fetched; <code>null</code> if no expression is defined
+   */
+  Map<String, String> getVariableJsonPaths();
+
+  /**
+   * @return <ul>
+   *           <li> the maximum amount of external tasks of the topic which are handled concurrently
+   *           <li> if {@code null}, the concurrency is only limited by the client
+   *         </ul>
+   */
+  Integer getMaxConcurrentTasks();
 }
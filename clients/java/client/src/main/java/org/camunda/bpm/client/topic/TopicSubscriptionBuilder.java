@@ -137,6 +137,40 @@ public interface TopicSubscriptionBuilder {
    */
   TopicSubscriptionBuilder includeExtensionProperties(boolean includeExtensionProperties);
 
+  /**
+   * @param lazyVariables
+   *          whether or not only the names and types of the variables should be
+   *          fetched with the external tasks. <code>true</code> means the value of a
+   *          variable is fetched from the engine when it is accessed for the first time,
+   *          which avoids transferring large variables that a handler does not read.
+   *          The default is <code>false</code>.
+   * @return the builder
+   */
+  TopicSubscriptionBuilder lazyVariables(boolean lazyVariables);
+
+  /**
+   * Fetches only the part of a JSON variable that is selected by a JSONPath expression.
+   * The expression is evaluated by the engine, so that the remaining part of the variable
+   * is not transferred.
+   *
+   * @param variableName the name of the JSON variable
+   * @param jsonPath the JSONPath expression, e.g. <code>$.customer.address</code>
+   * @return the builder
+   */
+  TopicSubscriptionBuilder variableJsonPath(String variableName, String jsonPath);
+
+  /**
+   * @param maxConcurrentTasks <ul>
+   *                             <li> maximum amount of external tasks of the topic which are handled concurrently
+   *                             <li> must be greater than zero
+   *                             <li> only applies if the client executes handlers concurrently, see
+   *                                  {@link org.camunda.bpm.client.ExternalTaskClientBuilder#maxConcurrentTasks(int)}
+   *                             <li> tasks beyond the limit are not fetched as long as the topic is saturated
+   *                           </ul>
+   * @return the builder
+   */
+  TopicSubscriptionBuilder maxConcurrentTasks(int maxConcurrentTasks);
+
   /**
    * Release the topic subscription for being executed asynchronously
    *
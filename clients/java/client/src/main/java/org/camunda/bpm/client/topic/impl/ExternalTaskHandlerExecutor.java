@@ -0,0 +1,201 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.client.topic.impl;
+
+import java.util.ArrayDeque;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.camunda.bpm.client.impl.ExternalTaskClientLogger;
+import org.camunda.bpm.client.topic.TopicSubscription;
+
+/**
+ * <p>Executes the handlers of fetched external tasks on an {@link ExecutorService} instead of
+ * the acquisition thread of the {@link TopicSubscriptionManager}.</p>
+ *
+ * <p>The number of tasks in progress is limited per client and per topic, see
+ * {@link TopicSubscription#getMaxConcurrentTasks()}. Tasks of a topic exceeding its limit
+ * are queued until a handler of the topic has finished. The acquisition uses the free
+ * capacity to size its fetch and is notified whenever a handler has finished.</p>
+ */
+public class ExternalTaskHandlerExecutor {
+
+  protected static final TopicSubscriptionManagerLogger LOG = ExternalTaskClientLogger.TOPIC_SUBSCRIPTION_MANAGER_LOGGER;
+
+  protected ExecutorService executorService;
+  protected int maxConcurrentTasks;
+  protected Runnable capacityListener;
+
+  protected AtomicInteger tasksInProgress = new AtomicInteger();
+  protected Map<String, TopicTasks> topicTasks = new ConcurrentHashMap<>();
+
+  public ExternalTaskHandlerExecutor(ExecutorService executorService, int maxConcurrentTasks) {
+    this.executorService = executorService;
+    this.maxConcurrentTasks = maxConcurrentTasks;
+  }
+
+  /**
+   * @return an executor running the handlers on at most the given number of platform threads
+   */
+  public static ExternalTaskHandlerExecutor withPlatformThreads(int maxConcurrentTasks) {
+    ThreadPoolExecutor threadPool = new ThreadPoolExecutor(maxConcurrentTasks, maxConcurrentTasks, 60L, TimeUnit.SECONDS,
+        new LinkedBlockingQueue<>(), new HandlerThreadFactory());
+    // the client can be stopped and started again, so idle threads are released instead of shutting down
+    threadPool.allowCoreThreadTimeOut(true);
+    return new ExternalTaskHandlerExecutor(threadPool, maxConcurrentTasks);
+  }
+
+  /**
+   * @return an executor running each handler on a new virtual thread or on platform threads
+   * if the JVM does not support virtual threads
+   */
+  public static ExternalTaskHandlerExecutor withVirtualThreads(int maxConcurrentTasks) {
+    try {
+      ExecutorService executorService = (ExecutorService) Executors.class
+          .getMethod("newVirtualThreadPerTaskExecutor")
+          .invoke(null);
+      return new ExternalTaskHandlerExecutor(executorService, maxConcurrentTasks);
+
+    } catch (ReflectiveOperationException e) {
+      LOG.virtualThreadsNotAvailable();
+      return withPlatformThreads(maxConcurrentTasks);
+    }
+  }
+
+  public void setCapacityListener(Runnable capacityListener) {
+    this.capacityListener = capacityListener;
+  }
+
+  /**
+   * @return the number of tasks which can be fetched without exceeding the limit of the client
+   */
+  public int getFreeCapacity() {
+    return Math.max(0, maxConcurrentTasks - tasksInProgress.get());
+  }
+
+  /**
+   * @return true if tasks of the subscribed topic can be fetched without exceeding the limit of the topic
+   */
+  public boolean hasFreeCapacity(TopicSubscription subscription) {
+    Integer topicLimit = subscription.getMaxConcurrentTasks();
+    if (topicLimit == null) {
+      return true;
+    }
+
+    TopicTasks tasks = topicTasks.get(subscription.getTopicName());
+    return tasks == null || tasks.getTasksInProgress() < topicLimit;
+  }
+
+  public void execute(TopicSubscription subscription, Runnable handlerInvocation) {
+    tasksInProgress.incrementAndGet();
+    topicTasks.computeIfAbsent(subscription.getTopicName(), topicName -> new TopicTasks())
+      .submit(handlerInvocation, subscription.getMaxConcurrentTasks());
+  }
+
+  public int getTasksInProgress() {
+    return tasksInProgress.get();
+  }
+
+  public int getMaxConcurrentTasks() {
+    return maxConcurrentTasks;
+  }
+
+  public ExecutorService getExecutorService() {
+    return executorService;
+  }
+
+  protected void taskFinished() {
+    tasksInProgress.decrementAndGet();
+    if (capacityListener != null) {
+      capacityListener.run();
+    }
+  }
+
+  /**
+   * The tasks of a topic which are running or waiting for a free slot of the topic.
+   */
+  protected class TopicTasks {
+
+    protected int tasksInProgress;
+    protected int runningTasks;
+    protected Queue<Runnable> pendingTasks = new ArrayDeque<>();
+
+    protected synchronized int getTasksInProgress() {
+      return tasksInProgress;
+    }
+
+    protected synchronized void submit(Runnable handlerInvocation, Integer topicLimit) {
+      tasksInProgress++;
+      if (topicLimit == null || runningTasks < topicLimit) {
+        runningTasks++;
+        dispatch(handlerInvocation);
+      } else {
+        pendingTasks.add(handlerInvocation);
+      }
+    }
+
+    protected void dispatch(Runnable handlerInvocation) {
+      try {
+        executorService.execute(() -> {
+          try {
+            handlerInvocation.run();
+          } finally {
+            finished();
+          }
+        });
+      } catch (RejectedExecutionException e) {
+        // the lock of the task expires, so that it is fetched again
+        LOG.exceptionWhileDispatchingExternalTaskHandler(e);
+        finished();
+      }
+    }
+
+    protected void finished() {
+      synchronized (this) {
+        tasksInProgress--;
+        runningTasks--;
+        Runnable nextTask = pendingTasks.poll();
+        if (nextTask != null) {
+          runningTasks++;
+          dispatch(nextTask);
+        }
+      }
+      taskFinished();
+    }
+  }
+
+  protected static class HandlerThreadFactory implements ThreadFactory {
+
+    protected AtomicInteger threadNumber = new AtomicInteger();
+
+    public Thread newThread(Runnable runnable) {
+      Thread thread = new Thread(runnable, "ExternalTaskHandler-" + threadNumber.incrementAndGet());
+      thread.setDaemon(true);
+      return thread;
+    }
+  }
+
+}
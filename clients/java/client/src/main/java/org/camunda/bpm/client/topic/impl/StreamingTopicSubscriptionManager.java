@@ -0,0 +1,265 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.client.topic.impl;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.camunda.bpm.client.backoff.ErrorAwareBackoffStrategy;
+import org.camunda.bpm.client.impl.EngineClient;
+import org.camunda.bpm.client.impl.EngineClientException;
+import org.camunda.bpm.client.impl.EventStream;
+import org.camunda.bpm.client.impl.FetchAndLockStreamListener;
+import org.camunda.bpm.client.task.ExternalTask;
+import org.camunda.bpm.client.task.ExternalTaskHandler;
+import org.camunda.bpm.client.task.ExternalTaskService;
+import org.camunda.bpm.client.topic.TopicSubscription;
+import org.camunda.bpm.client.topic.impl.dto.FetchAndLockResponseDto;
+import org.camunda.bpm.client.topic.impl.dto.TopicRequestDto;
+import org.camunda.bpm.client.variable.impl.TypedValues;
+
+/**
+ * <p>Receives the external tasks over a fetch and lock stream instead of polling for them.
+ * The stream is registered once for all subscribed topics and the engine pushes tasks as soon
+ * as they are available.</p>
+ *
+ * <p>The engine pushes at most as many tasks as the credit of the stream allows. The stream is
+ * opened with the free handler capacity as credit; once half of {@link EngineClient#getMaxTasks()}
+ * tasks have been handled, the handled tasks are granted as new credit. The handled tasks are
+ * counted per stream, so that tasks received over a closed stream do not grant credit to the
+ * stream opened after it. The stream is opened again if it was closed, the credit could not be
+ * added or the subscriptions have changed.</p>
+ */
+public class StreamingTopicSubscriptionManager extends TopicSubscriptionManager implements FetchAndLockStreamListener {
+
+  protected volatile FetchAndLockStream stream;
+
+  protected AtomicBoolean subscriptionsChanged = new AtomicBoolean();
+  protected int creditThreshold;
+
+  public StreamingTopicSubscriptionManager(EngineClient engineClient, TypedValues typedValues, long clientLockDuration) {
+    super(engineClient, typedValues, clientLockDuration);
+    this.creditThreshold = Math.max(1, engineClient.getMaxTasks() / 2);
+  }
+
+  @Override
+  protected void acquire() {
+    taskTopicRequests.clear();
+    externalTaskHandlers.clear();
+    acquiredSubscriptions.clear();
+
+    subscriptionsChanged.set(false);
+    subscriptions.forEach(this::prepareStreamSubscription);
+
+    if (taskTopicRequests.isEmpty()) {
+      waitForSubscriptions();
+      return;
+    }
+
+    int credit = engineClient.getMaxTasks();
+    if (handlerExecutor != null) {
+      credit = Math.min(credit, handlerExecutor.getFreeCapacity());
+    }
+
+    EngineClientException exception = null;
+    try {
+      LOG.openFetchAndLockStream(taskTopicRequests, credit);
+      FetchAndLockStream currentStream = new FetchAndLockStream(
+          engineClient.openFetchAndLockStream(taskTopicRequests, credit));
+      stream = currentStream;
+
+      // the stream could have been closed before it was assigned
+      if (!isRunning.get() || subscriptionsChanged.get()) {
+        closeStream();
+      }
+
+      engineClient.readFetchAndLockStream(currentStream.eventStream, this);
+
+    } catch (EngineClientException e) {
+      LOG.exceptionWhileStreamingExternalTasks(e);
+      exception = e;
+
+    } finally {
+      closeStream();
+      stream = null;
+    }
+
+    if (exception != null && !isBackoffStrategyDisabled.get()) {
+      runBackoffStrategy(new FetchAndLockResponseDto(LOG.handledEngineClientException("streaming external tasks",
+          exception)));
+    }
+  }
+
+  protected void prepareStreamSubscription(TopicSubscription subscription) {
+    // the credit is shared by all topics, so that saturated topics are subscribed as well
+    TopicRequestDto taskTopicRequest = TopicRequestDto.fromTopicSubscription(subscription, clientLockDuration);
+    taskTopicRequests.add(taskTopicRequest);
+
+    String topicName = subscription.getTopicName();
+    externalTaskHandlers.put(topicName, subscription.getExternalTaskHandler());
+    acquiredSubscriptions.put(topicName, subscription);
+  }
+
+  @Override
+  public void streamOpened(String streamId) {
+    // the listener is called by the acquisition thread which has assigned the stream
+    stream.id = streamId;
+  }
+
+  @Override
+  public void externalTasksReceived(List<ExternalTask> externalTasks) {
+    if (!isBackoffStrategyDisabled.get()) {
+      reconfigureBackoffStrategy(externalTasks);
+    }
+
+    FetchAndLockStream receivingStream = stream;
+    externalTasks.forEach(externalTask -> {
+      String topicName = externalTask.getTopicName();
+      ExternalTaskHandler taskHandler = externalTaskHandlers.get(topicName);
+
+      if (taskHandler != null) {
+        dispatchExternalTask(externalTask, new StreamTaskHandler(taskHandler, receivingStream));
+      }
+      else {
+        LOG.taskHandlerIsNull(topicName);
+        taskHandled(receivingStream);
+      }
+    });
+  }
+
+  @Override
+  protected void handleExternalTask(ExternalTask externalTask, ExternalTaskHandler taskHandler) {
+    StreamTaskHandler streamTaskHandler = (StreamTaskHandler) taskHandler;
+    try {
+      super.handleExternalTask(externalTask, streamTaskHandler.delegate);
+    } finally {
+      taskHandled(streamTaskHandler.stream);
+    }
+  }
+
+  protected void taskHandled(FetchAndLockStream receivingStream) {
+    if (receivingStream.handledTasks.incrementAndGet() >= creditThreshold) {
+      addCredit(receivingStream);
+    }
+  }
+
+  protected void addCredit(FetchAndLockStream receivingStream) {
+    String streamId = receivingStream.id;
+    int credit = receivingStream.handledTasks.getAndSet(0);
+
+    // a closed stream is replaced by a new one which is opened with the free capacity as credit
+    if (streamId != null && credit > 0 && !receivingStream.eventStream.isClosed()) {
+      try {
+        engineClient.addFetchAndLockStreamCredit(streamId, credit);
+      } catch (EngineClientException e) {
+        LOG.exceptionWhileAddingStreamCredit(e);
+        receivingStream.eventStream.close();
+      }
+    }
+  }
+
+  protected void reconfigureBackoffStrategy(List<ExternalTask> externalTasks) {
+    try {
+      if (backoffStrategy instanceof ErrorAwareBackoffStrategy) {
+        ((ErrorAwareBackoffStrategy) backoffStrategy).reconfigure(externalTasks, null);
+      } else {
+        backoffStrategy.reconfigure(externalTasks);
+      }
+    } catch (Throwable e) {
+      LOG.exceptionWhileExecutingBackoffStrategyMethod(e);
+    }
+  }
+
+  protected void waitForSubscriptions() {
+    ACQUISITION_MONITOR.lock();
+    try {
+      while (isRunning.get() && subscriptions.isEmpty()) {
+        IS_WAITING.await();
+      }
+    } catch (InterruptedException e) {
+      LOG.exceptionWhileAcquiringTasks(e);
+    }
+    finally {
+      ACQUISITION_MONITOR.unlock();
+    }
+  }
+
+  protected void closeStream() {
+    FetchAndLockStream currentStream = stream;
+    if (currentStream != null) {
+      currentStream.eventStream.close();
+    }
+  }
+
+  @Override
+  protected void subscribe(TopicSubscription subscription) {
+    super.subscribe(subscription);
+    subscriptionsChanged.set(true);
+    closeStream();
+  }
+
+  @Override
+  protected void unsubscribe(TopicSubscriptionImpl subscription) {
+    super.unsubscribe(subscription);
+    subscriptionsChanged.set(true);
+    closeStream();
+  }
+
+  @Override
+  protected void interruptAcquisition() {
+    closeStream();
+    super.interruptAcquisition();
+  }
+
+  /**
+   * An open fetch and lock stream with the number of its tasks handled since credit was last
+   * granted to it.
+   */
+  protected static class FetchAndLockStream {
+
+    protected final EventStream eventStream;
+    protected final AtomicInteger handledTasks = new AtomicInteger();
+    protected volatile String id;
+
+    protected FetchAndLockStream(EventStream eventStream) {
+      this.eventStream = eventStream;
+    }
+
+  }
+
+  /**
+   * Remembers the stream a task was received over, so that the handled task grants credit to it.
+   */
+  protected static class StreamTaskHandler implements ExternalTaskHandler {
+
+    protected final ExternalTaskHandler delegate;
+    protected final FetchAndLockStream stream;
+
+    protected StreamTaskHandler(ExternalTaskHandler delegate, FetchAndLockStream stream) {
+      this.delegate = delegate;
+      this.stream = stream;
+    }
+
+    @Override
+    public void execute(ExternalTask externalTask, ExternalTaskService externalTaskService) {
+      delegate.execute(externalTask, externalTaskService);
+    }
+
+  }
+
+}
@@ -49,7 +49,9 @@ public class TopicSubscriptionBuilderImpl implements TopicSubscriptionBuilder {
   protected ExternalTaskHandler externalTaskHandler;
   protected TopicSubscriptionManager topicSubscriptionManager;
   protected boolean includeExtensionProperties;
-
+  protected Integer maxConcurrentTasks;
+  protected boolean lazyVariables;
+  protected Map<String, String> variableJsonPaths;
 
   public TopicSubscriptionBuilderImpl(String topicName, TopicSubscriptionManager topicSubscriptionManager) {
     this.topicName = topicName;
@@ -149,6 +151,26 @@ public class TopicSubscriptionBuilderImpl implements TopicSubscriptionBuilder {
     return this;
   }
 
+  public TopicSubscriptionBuilder lazyVariables(boolean lazyVariables) {
+    this.lazyVariables = lazyVariables;
+    return this;
+  }
+
+  public TopicSubscriptionBuilder variableJsonPath(String variableName, String jsonPath) {
+    ensureNotNull(variableName, "variableName");
+    ensureNotNull(jsonPath, "jsonPath");
+    if (this.variableJsonPaths == null) {
+      this.variableJsonPaths = new HashMap<>();
+    }
+    this.variableJsonPaths.put(variableName, jsonPath);
+    return this;
+  }
+
+  public TopicSubscriptionBuilder maxConcurrentTasks(int maxConcurrentTasks) {
+    this.maxConcurrentTasks = maxConcurrentTasks;
+    return this;
+  }
+
   public TopicSubscription open() {
     if (topicName == null) {
       throw LOG.topicNameNullException();
@@ -162,6 +184,10 @@ public class TopicSubscriptionBuilderImpl implements TopicSubscriptionBuilder {
       throw LOG.externalTaskHandlerNullException();
     }
 
+    if (maxConcurrentTasks != null && maxConcurrentTasks <= 0) {
+      throw LOG.maxConcurrentTasksNotGreaterThanZeroException(maxConcurrentTasks);
+    }
+
     TopicSubscriptionImpl subscription = new TopicSubscriptionImpl(topicName, lockDuration, externalTaskHandler, topicSubscriptionManager, variableNames, businessKey);
     if (processDefinitionId != null) {
       subscription.setProcessDefinitionId(processDefinitionId);
@@ -193,6 +219,15 @@ public class TopicSubscriptionBuilderImpl implements TopicSubscriptionBuilder {
     if(includeExtensionProperties) {
       subscription.setIncludeExtensionProperties(includeExtensionProperties);
     }
+    if (maxConcurrentTasks != null) {
+      subscription.setMaxConcurrentTasks(maxConcurrentTasks);
+    }
+    if (lazyVariables) {
+      subscription.setLazyVariables(lazyVariables);
+    }
+    if (variableJsonPaths != null) {
+      subscription.setVariableJsonPaths(variableJsonPaths);
+    }
     topicSubscriptionManager.subscribe(subscription);
 
     return subscription;
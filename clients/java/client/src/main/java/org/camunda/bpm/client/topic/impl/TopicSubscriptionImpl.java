@@ -44,6 +44,9 @@ public class TopicSubscriptionImpl implements TopicSubscription {
   protected boolean withoutTenantId;
   protected List<String> tenantIdIn;
   protected boolean includeExtensionProperties;
+  protected Integer maxConcurrentTasks;
+  protected boolean lazyVariables;
+  protected Map<String, String> variableJsonPaths;
 
   public TopicSubscriptionImpl(String topicName, Long lockDuration, ExternalTaskHandler externalTaskHandler,
                                TopicSubscriptionManager topicSubscriptionManager, List<String> variableNames,
@@ -171,6 +174,30 @@ public class TopicSubscriptionImpl implements TopicSubscription {
     this.includeExtensionProperties = includeExtensionProperties;
   }
 
+  public Integer getMaxConcurrentTasks() {
+    return maxConcurrentTasks;
+  }
+
+  public void setMaxConcurrentTasks(Integer maxConcurrentTasks) {
+    this.maxConcurrentTasks = maxConcurrentTasks;
+  }
+
+  public boolean isLazyVariables() {
+    return lazyVariables;
+  }
+
+  public void setLazyVariables(boolean lazyVariables) {
+    this.lazyVariables = lazyVariables;
+  }
+
+  public Map<String, String> getVariableJsonPaths() {
+    return variableJsonPaths;
+  }
+
+  public void setVariableJsonPaths(Map<String, String> variableJsonPaths) {
+    this.variableJsonPaths = variableJsonPaths;
+  }
+
   public int hashCode() {
     final int prime = 31;
     int result = 1;
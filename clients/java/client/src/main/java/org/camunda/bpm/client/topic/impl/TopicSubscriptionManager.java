@@ -52,6 +52,7 @@ public class TopicSubscriptionManager implements Runnable {
 
   protected ReentrantLock ACQUISITION_MONITOR = new ReentrantLock(false);
   protected Condition IS_WAITING = ACQUISITION_MONITOR.newCondition();
+  protected Condition HAS_HANDLER_CAPACITY = ACQUISITION_MONITOR.newCondition();
   protected AtomicBoolean isRunning = new AtomicBoolean(false);
 
   protected ExternalTaskServiceImpl externalTaskService;
@@ -61,6 +62,7 @@ public class TopicSubscriptionManager implements Runnable {
   protected CopyOnWriteArrayList<TopicSubscription> subscriptions;
   protected List<TopicRequestDto> taskTopicRequests;
   protected Map<String, ExternalTaskHandler> externalTaskHandlers;
+  protected Map<String, TopicSubscription> acquiredSubscriptions;
 
   protected Thread thread;
 
@@ -71,11 +73,18 @@ public class TopicSubscriptionManager implements Runnable {
 
   protected long clientLockDuration;
 
+  /**
+   * Executes the handlers concurrently; if {@code null}, the handlers are
+   * executed one after another on the acquisition thread.
+   */
+  protected ExternalTaskHandlerExecutor handlerExecutor;
+
   public TopicSubscriptionManager(EngineClient engineClient, TypedValues typedValues, long clientLockDuration) {
     this.engineClient = engineClient;
     this.subscriptions = new CopyOnWriteArrayList<>();
     this.taskTopicRequests = new ArrayList<>();
     this.externalTaskHandlers = new HashMap<>();
+    this.acquiredSubscriptions = new HashMap<>();
     this.clientLockDuration = clientLockDuration;
     this.typedValues = typedValues;
     this.externalTaskService = new ExternalTaskServiceImpl(engineClient);
@@ -96,8 +105,21 @@ public class TopicSubscriptionManager implements Runnable {
   protected void acquire() {
     taskTopicRequests.clear();
     externalTaskHandlers.clear();
+    acquiredSubscriptions.clear();
+
+    if (handlerExecutor != null && handlerExecutor.getFreeCapacity() == 0) {
+      waitForHandlerCapacity();
+      return;
+    }
+
     subscriptions.forEach(this::prepareAcquisition);
 
+    if (handlerExecutor != null && taskTopicRequests.isEmpty() && !subscriptions.isEmpty()) {
+      // all subscribed topics are saturated
+      waitForHandlerCapacity();
+      return;
+    }
+
     if (!taskTopicRequests.isEmpty()) {
       FetchAndLockResponseDto fetchAndLockResponse = fetchAndLock(taskTopicRequests);
 
@@ -106,7 +128,7 @@ public class TopicSubscriptionManager implements Runnable {
         ExternalTaskHandler taskHandler = externalTaskHandlers.get(topicName);
 
         if (taskHandler != null) {
-          handleExternalTask(externalTask, taskHandler);
+          dispatchExternalTask(externalTask, taskHandler);
         }
         else {
           LOG.taskHandlerIsNull(topicName);
@@ -120,12 +142,17 @@ public class TopicSubscriptionManager implements Runnable {
   }
 
   protected void prepareAcquisition(TopicSubscription subscription) {
+    if (handlerExecutor != null && !handlerExecutor.hasFreeCapacity(subscription)) {
+      return;
+    }
+
     TopicRequestDto taskTopicRequest = TopicRequestDto.fromTopicSubscription(subscription, clientLockDuration);
     taskTopicRequests.add(taskTopicRequest);
 
     String topicName = subscription.getTopicName();
     ExternalTaskHandler externalTaskHandler = subscription.getExternalTaskHandler();
     externalTaskHandlers.put(topicName, externalTaskHandler);
+    acquiredSubscriptions.put(topicName, subscription);
   }
 
   protected FetchAndLockResponseDto fetchAndLock(List<TopicRequestDto> subscriptions) {
@@ -133,7 +160,12 @@ public class TopicSubscriptionManager implements Runnable {
 
     try {
       LOG.fetchAndLock(subscriptions);
-      externalTasks = engineClient.fetchAndLock(subscriptions);
+      if (handlerExecutor != null) {
+        int maxTasks = Math.min(engineClient.getMaxTasks(), handlerExecutor.getFreeCapacity());
+        externalTasks = engineClient.fetchAndLock(subscriptions, maxTasks);
+      } else {
+        externalTasks = engineClient.fetchAndLock(subscriptions);
+      }
 
     } catch (EngineClientException ex) {
       LOG.exceptionWhilePerformingFetchAndLock(ex);
@@ -143,6 +175,34 @@ public class TopicSubscriptionManager implements Runnable {
     return new FetchAndLockResponseDto(externalTasks);
   }
 
+  protected void dispatchExternalTask(ExternalTask externalTask, ExternalTaskHandler taskHandler) {
+    TopicSubscription subscription = acquiredSubscriptions.get(externalTask.getTopicName());
+    if (subscription != null && subscription.isLazyVariables()) {
+      prepareLazyVariables((ExternalTaskImpl) externalTask, subscription);
+    }
+
+    if (handlerExecutor != null) {
+      handlerExecutor.execute(subscription, () -> handleExternalTask(externalTask, taskHandler));
+    } else {
+      handleExternalTask(externalTask, taskHandler);
+    }
+  }
+
+  protected void prepareLazyVariables(ExternalTaskImpl task, TopicSubscription subscription) {
+    boolean localVariables = subscription.isLocalVariables();
+    Map<String, String> variableJsonPaths = subscription.getVariableJsonPaths();
+
+    task.setVariableFetcher(variableNames -> {
+      try {
+        Map<String, TypedValueField> variables = engineClient.getVariables(task.getId(), variableNames,
+            localVariables, variableJsonPaths);
+        return typedValues.wrapVariables(task, variables);
+      } catch (EngineClientException e) {
+        throw LOG.handledEngineClientException("fetching variables of the external task", e);
+      }
+    });
+  }
+
   @SuppressWarnings("rawtypes")
   protected void handleExternalTask(ExternalTask externalTask, ExternalTaskHandler taskHandler) {
     ExternalTaskImpl task = (ExternalTaskImpl) externalTask;
@@ -162,7 +222,7 @@ public class TopicSubscriptionManager implements Runnable {
 
   public synchronized void stop() {
     if (isRunning.compareAndSet(true, false)) {
-      resume();
+      interruptAcquisition();
 
       try {
         thread.join();
@@ -205,6 +265,21 @@ public class TopicSubscriptionManager implements Runnable {
     return isRunning.get();
   }
 
+  public void setExternalTaskService(ExternalTaskServiceImpl externalTaskService) {
+    this.externalTaskService = externalTaskService;
+  }
+
+  public ExternalTaskHandlerExecutor getHandlerExecutor() {
+    return handlerExecutor;
+  }
+
+  public void setHandlerExecutor(ExternalTaskHandlerExecutor handlerExecutor) {
+    this.handlerExecutor = handlerExecutor;
+    if (handlerExecutor != null) {
+      handlerExecutor.setCapacityListener(this::signalHandlerCapacity);
+    }
+  }
+
   public void setBackoffStrategy(BackoffStrategy backOffStrategy) {
     this.backoffStrategy = backOffStrategy;
   }
@@ -245,6 +320,48 @@ public class TopicSubscriptionManager implements Runnable {
     }
   }
 
+  /**
+   * Waits until a handler has finished; the handler executor signals the free
+   * capacity under the same monitor, so that no notification is lost. The signal
+   * does not cut short the wait time of the backoff strategy.
+   */
+  protected void waitForHandlerCapacity() {
+    ACQUISITION_MONITOR.lock();
+    try {
+      while (isRunning.get() && !hasHandlerCapacity()) {
+        HAS_HANDLER_CAPACITY.await();
+      }
+    } catch (InterruptedException e) {
+      LOG.exceptionWhileAcquiringTasks(e);
+    }
+    finally {
+      ACQUISITION_MONITOR.unlock();
+    }
+  }
+
+  protected boolean hasHandlerCapacity() {
+    return handlerExecutor.getFreeCapacity() > 0
+        && subscriptions.stream().anyMatch(handlerExecutor::hasFreeCapacity);
+  }
+
+  /**
+   * Wakes up the acquisition thread, so that it notices that the manager was stopped.
+   */
+  protected void interruptAcquisition() {
+    resume();
+    signalHandlerCapacity();
+  }
+
+  protected void signalHandlerCapacity() {
+    ACQUISITION_MONITOR.lock();
+    try {
+      HAS_HANDLER_CAPACITY.signal();
+    }
+    finally {
+      ACQUISITION_MONITOR.unlock();
+    }
+  }
+
   protected void resume() {
     ACQUISITION_MONITOR.lock();
     try {
@@ -72,4 +72,30 @@ public class TopicSubscriptionManagerLogger extends ExternalTaskClientLogger {
       String.format("Fetch and lock new external tasks for %d topics", subscriptions.size()));
   }
 
+  protected void virtualThreadsNotAvailable() {
+    logInfo(
+      "009", "Virtual threads are not supported by this JVM, external task handlers are executed on platform threads");
+  }
+
+  protected void exceptionWhileDispatchingExternalTaskHandler(Throwable e) {
+    logError(
+      "010", "Exception while dispatching external task handler, the task is fetched again after its lock expired.", e);
+  }
+
+  protected void openFetchAndLockStream(List<TopicRequestDto> subscriptions, int credit) {
+    logDebug(
+      "011",
+      String.format("Open fetch and lock stream for %d topics with a credit of %d tasks", subscriptions.size(), credit));
+  }
+
+  protected void exceptionWhileStreamingExternalTasks(EngineClientException e) {
+    logError(
+      "012", "Exception while streaming external tasks, the stream is opened again.", e);
+  }
+
+  protected void exceptionWhileAddingStreamCredit(EngineClientException e) {
+    logError(
+      "013", "Exception while adding credit to the fetch and lock stream, the stream is opened again.", e);
+  }
+
 }
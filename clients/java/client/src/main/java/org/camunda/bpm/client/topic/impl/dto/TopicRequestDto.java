@@ -40,6 +40,8 @@ public class TopicRequestDto {
   protected boolean withoutTenantId;
   protected List<String> tenantIdIn;
   protected boolean includeExtensionProperties;
+  protected boolean lazyVariables;
+  protected Map<String, String> variableProjections;
 
   public TopicRequestDto(String topicName, long lockDuration, List<String> variables, String businessKey) {
     this.topicName = topicName;
@@ -144,6 +146,22 @@ public class TopicRequestDto {
     this.includeExtensionProperties = includeExtensionProperties;
   }
 
+  public boolean isLazyVariables() {
+    return lazyVariables;
+  }
+
+  public void setLazyVariables(boolean lazyVariables) {
+    this.lazyVariables = lazyVariables;
+  }
+
+  public Map<String, String> getVariableProjections() {
+    return variableProjections;
+  }
+
+  public void setVariableProjections(Map<String, String> variableProjections) {
+    this.variableProjections = variableProjections;
+  }
+
   public static TopicRequestDto fromTopicSubscription(TopicSubscription topicSubscription, long clientLockDuration) {
     Long lockDuration = topicSubscription.getLockDuration();
 
@@ -186,6 +204,12 @@ public class TopicRequestDto {
     if(topicSubscription.isIncludeExtensionProperties()) {
       topicRequestDto.setIncludeExtensionProperties(topicSubscription.isIncludeExtensionProperties());
     }
+    if (topicSubscription.isLazyVariables()) {
+      topicRequestDto.setLazyVariables(topicSubscription.isLazyVariables());
+    }
+    if (topicSubscription.getVariableJsonPaths() != null) {
+      topicRequestDto.setVariableProjections(topicSubscription.getVariableJsonPaths());
+    }
     return topicRequestDto;
   }
 
@@ -0,0 +1,119 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.client.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import org.apache.hc.client5.http.classic.methods.HttpPost;
+import org.apache.hc.core5.http.ClassicHttpResponse;
+import org.apache.hc.core5.http.HttpEntity;
+import org.junit.Test;
+
+public class EventStreamTest {
+
+  @Test
+  public void shouldReadEvents() throws IOException {
+    // given
+    EventStream stream = createStream(
+        "event: stream\n" +
+        "data: aStreamId\n" +
+        "\n" +
+        ": a comment\n" +
+        "event: tasks\n" +
+        "data: [{\"id\":\"aTaskId\"}]\n" +
+        "\n");
+
+    // when
+    EventStream.Event streamEvent = stream.next();
+    EventStream.Event tasksEvent = stream.next();
+
+    // then
+    assertThat(streamEvent.getName()).isEqualTo("stream");
+    assertThat(streamEvent.getData()).isEqualTo("aStreamId");
+    assertThat(tasksEvent.getName()).isEqualTo("tasks");
+    assertThat(tasksEvent.getData()).isEqualTo("[{\"id\":\"aTaskId\"}]");
+    assertThat(stream.next()).isNull();
+  }
+
+  @Test
+  public void shouldJoinDataLinesOfEvent() throws IOException {
+    // given
+    EventStream stream = createStream(
+        "event:tasks\n" +
+        "data:[\n" +
+        "data: {\"id\":\"aTaskId\"}\n" +
+        "data:]\n" +
+        "\n");
+
+    // when
+    EventStream.Event event = stream.next();
+
+    // then
+    assertThat(event.getName()).isEqualTo("tasks");
+    assertThat(event.getData()).isEqualTo("[\n{\"id\":\"aTaskId\"}\n]");
+  }
+
+  @Test
+  public void shouldIgnoreIncompleteEvent() throws IOException {
+    // given
+    EventStream stream = createStream(
+        "event: tasks\n" +
+        "data: []");
+
+    // when
+    EventStream.Event event = stream.next();
+
+    // then
+    assertThat(event).isNull();
+  }
+
+  @Test
+  public void shouldCancelRequestOnClose() throws IOException {
+    // given
+    HttpPost httpRequest = mock(HttpPost.class);
+    ClassicHttpResponse httpResponse = mockResponse("");
+    EventStream stream = new EventStream(httpRequest, httpResponse);
+
+    // when
+    stream.close();
+
+    // then
+    assertThat(stream.isClosed()).isTrue();
+    verify(httpRequest).cancel();
+    verify(httpResponse).close();
+  }
+
+  protected EventStream createStream(String content) throws IOException {
+    return new EventStream(mock(HttpPost.class), mockResponse(content));
+  }
+
+  protected ClassicHttpResponse mockResponse(String content) throws IOException {
+    HttpEntity entity = mock(HttpEntity.class);
+    when(entity.getContent()).thenReturn(new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8)));
+
+    ClassicHttpResponse httpResponse = mock(ClassicHttpResponse.class);
+    when(httpResponse.getEntity()).thenReturn(entity);
+    return httpResponse;
+  }
+
+}
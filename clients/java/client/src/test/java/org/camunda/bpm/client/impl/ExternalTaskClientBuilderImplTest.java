@@ -17,14 +17,21 @@
 package org.camunda.bpm.client.impl;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.verify;
 
 import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
 import org.apache.hc.client5.http.impl.classic.HttpClientBuilder;
+import org.apache.hc.client5.http.io.HttpClientConnectionManager;
+import org.apache.hc.core5.reactor.IOReactorStatus;
 import org.apache.hc.core5.util.Timeout;
 import org.camunda.bpm.client.ExternalTaskClient;
 import org.camunda.bpm.client.UrlResolver;
+import org.camunda.bpm.client.exception.ExternalTaskClientException;
 import org.camunda.bpm.engine.impl.util.ReflectUtil;
 import org.junit.Test;
 import org.mockito.ArgumentCaptor;
@@ -91,6 +98,88 @@ public class ExternalTaskClientBuilderImplTest {
     }
   }
 
+  @Test
+  public void testBuilderWithInvalidConnectionPoolSettings() {
+    assertThatThrownBy(() -> new ExternalTaskClientBuilderImpl().baseUrl("localhost").maxConnections(0).build())
+      .isInstanceOf(ExternalTaskClientException.class)
+      .hasMessageContaining("Maximum amount of connections must be greater than zero");
+    assertThatThrownBy(() -> new ExternalTaskClientBuilderImpl().baseUrl("localhost").maxConnectionsPerRoute(-1).build())
+      .isInstanceOf(ExternalTaskClientException.class)
+      .hasMessageContaining("Maximum amount of connections per route must be greater than zero");
+    assertThatThrownBy(() -> new ExternalTaskClientBuilderImpl().baseUrl("localhost").keepAlive(0).build())
+      .isInstanceOf(ExternalTaskClientException.class)
+      .hasMessageContaining("Keep-alive duration must be greater than zero");
+  }
+
+  @Test
+  public void testBuildClientWithHttp2AndConnectionPoolSettings() {
+    // when
+    ExternalTaskClient client = new ExternalTaskClientBuilderImpl()
+        .baseUrl("localhost")
+        .useHttp2()
+        .compressRequests()
+        .maxConnections(20)
+        .maxConnectionsPerRoute(10)
+        .keepAlive(30_000)
+        .build();
+
+    // then
+    assertThat(client.getRequestMetrics()).isNotNull();
+    assertThat(client.getRequestMetrics().getRequestCount()).isZero();
+  }
+
+  @Test
+  public void testKeepCustomConnectionManager() {
+    // given
+    var clientBuilder = new ExternalTaskClientBuilderImpl();
+    var connectionManagerArgumentCaptor = ArgumentCaptor.forClass(HttpClientConnectionManager.class);
+    var httpClientBuilderSpy = spy(HttpClientBuilder.class);
+    var httpClientBuilderField = ReflectUtil.getField("httpClientBuilder", clientBuilder);
+    ReflectUtil.setField(httpClientBuilderField, clientBuilder, httpClientBuilderSpy);
+    var customConnectionManager = mock(HttpClientConnectionManager.class);
+
+    ExternalTaskClient client = null;
+    try {
+      // when
+      client = clientBuilder.baseUrl("localhost")
+          .disableAutoFetching()
+          .maxConnections(20)
+          .customizeHttpClient(httpClientBuilder -> httpClientBuilder.setConnectionManager(customConnectionManager))
+          .build();
+
+      // then
+      verify(httpClientBuilderSpy, atLeastOnce()).setConnectionManager(connectionManagerArgumentCaptor.capture());
+      assertThat(connectionManagerArgumentCaptor.getAllValues()).last().isSameAs(customConnectionManager);
+    } finally {
+      if (client != null) {
+        client.stop();
+      }
+    }
+  }
+
+  @Test
+  public void testCloseAsyncClientOnStop() {
+    // given
+    ExternalTaskClient client = new ExternalTaskClientBuilderImpl()
+        .baseUrl("localhost")
+        .disableAutoFetching()
+        .useHttp2()
+        .build();
+
+    RequestExecutor requestExecutor = ((ExternalTaskClientImpl) client).getTopicSubscriptionManager()
+        .getEngineClient().engineInteraction;
+    CloseableHttpAsyncClient asyncHttpClient = requestExecutor.getAsyncHttpClient();
+
+    // when
+    client.stop();
+
+    // then
+    assertThat(asyncHttpClient.getStatus()).isIn(IOReactorStatus.SHUTTING_DOWN, IOReactorStatus.SHUT_DOWN);
+    assertThat(requestExecutor.getAsyncHttpClient()).isNotSameAs(asyncHttpClient);
+
+    requestExecutor.close();
+  }
+
   @Test
   public void testBuilderWithUnsetBaseUrl() {
     // given unbuilt builder
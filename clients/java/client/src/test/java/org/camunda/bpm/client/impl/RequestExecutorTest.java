@@ -0,0 +1,146 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.client.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.GZIPInputStream;
+import org.apache.hc.client5.http.classic.HttpClient;
+import org.apache.hc.core5.http.ClassicHttpRequest;
+import org.apache.hc.core5.http.HttpEntity;
+import org.apache.hc.core5.http.io.HttpClientResponseHandler;
+import org.apache.hc.core5.http.io.entity.EntityUtils;
+import org.camunda.commons.utils.IoUtil;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+public class RequestExecutorTest {
+
+  protected static final String RESOURCE_URL = "http://localhost:8080/engine-rest/external-task/anId/complete";
+
+  protected HttpClient httpClient;
+  protected ObjectMapper objectMapper;
+  protected RequestMetricsImpl metrics;
+
+  @Before
+  public void setUp() {
+    httpClient = mock(HttpClient.class);
+    objectMapper = new ObjectMapper();
+    metrics = new RequestMetricsImpl();
+  }
+
+  @Test
+  public void shouldCompressLargeRequestBody() throws Exception {
+    // given
+    RequestExecutor requestExecutor = new RequestExecutor(httpClient, null, objectMapper, true, metrics);
+    PayloadRequestDto request = new PayloadRequestDto("aWorkerId", "a".repeat(10_000));
+
+    // when
+    requestExecutor.postRequest(RESOURCE_URL, request, Void.class);
+
+    // then
+    HttpEntity entity = captureRequest().getEntity();
+    assertThat(entity.getContentEncoding()).isEqualTo("gzip");
+    assertThat(entity.getContentLength()).isLessThan(1_000);
+    assertThat(decompress(EntityUtils.toByteArray(entity))).isEqualTo(objectMapper.writeValueAsString(request));
+
+    assertThat(metrics.getRequestCount()).isEqualTo(1);
+    assertThat(metrics.getFailedRequestCount()).isZero();
+    assertThat(metrics.getBytesSent()).isEqualTo(entity.getContentLength());
+  }
+
+  @Test
+  public void shouldNotCompressSmallRequestBody() throws Exception {
+    // given
+    RequestExecutor requestExecutor = new RequestExecutor(httpClient, null, objectMapper, true, metrics);
+    PayloadRequestDto request = new PayloadRequestDto("aWorkerId", "aPayload");
+
+    // when
+    requestExecutor.postRequest(RESOURCE_URL, request, Void.class);
+
+    // then
+    HttpEntity entity = captureRequest().getEntity();
+    assertThat(entity.getContentEncoding()).isNull();
+    assertThat(EntityUtils.toString(entity)).isEqualTo(objectMapper.writeValueAsString(request));
+  }
+
+  @Test
+  public void shouldNotCompressRequestBodyByDefault() throws Exception {
+    // given
+    RequestExecutor requestExecutor = new RequestExecutor(httpClient, objectMapper);
+
+    // when
+    requestExecutor.postRequest(RESOURCE_URL, new PayloadRequestDto("aWorkerId", "a".repeat(10_000)), Void.class);
+
+    // then
+    assertThat(captureRequest().getEntity().getContentEncoding()).isNull();
+  }
+
+  @Test
+  public void shouldRecordFailedRequest() throws Exception {
+    // given
+    RequestExecutor requestExecutor = new RequestExecutor(httpClient, null, objectMapper, false, metrics);
+    when(httpClient.execute(any(ClassicHttpRequest.class), any(HttpClientResponseHandler.class)))
+      .thenThrow(new IOException("connection refused"));
+
+    // when
+    assertThatThrownBy(() -> requestExecutor.postRequest(RESOURCE_URL, new PayloadRequestDto("aWorkerId", "aPayload"), Void.class))
+      .isInstanceOf(EngineClientException.class);
+
+    // then
+    assertThat(metrics.getRequestCount()).isEqualTo(1);
+    assertThat(metrics.getFailedRequestCount()).isEqualTo(1);
+  }
+
+  protected ClassicHttpRequest captureRequest() throws IOException {
+    ArgumentCaptor<ClassicHttpRequest> requestCaptor = ArgumentCaptor.forClass(ClassicHttpRequest.class);
+    verify(httpClient).execute(requestCaptor.capture(), any(HttpClientResponseHandler.class));
+    return requestCaptor.getValue();
+  }
+
+  protected String decompress(byte[] content) throws IOException {
+    try (InputStream gzipStream = new GZIPInputStream(new ByteArrayInputStream(content))) {
+      return new String(IoUtil.inputStreamAsByteArray(gzipStream), StandardCharsets.UTF_8);
+    }
+  }
+
+  public static class PayloadRequestDto extends RequestDto {
+
+    protected String payload;
+
+    public PayloadRequestDto(String workerId, String payload) {
+      super(workerId);
+      this.payload = payload;
+    }
+
+    public String getPayload() {
+      return payload;
+    }
+  }
+
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.client.task.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.camunda.bpm.client.exception.RestException;
+import org.camunda.bpm.client.impl.EngineClient;
+import org.camunda.bpm.client.impl.EngineClientException;
+import org.camunda.bpm.client.task.impl.dto.ExternalTaskOperationDto;
+import org.camunda.bpm.client.task.impl.dto.ExternalTaskOperationResultDto;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+
+public class ExternalTaskOperationCoalescerTest {
+
+  protected EngineClient engineClient;
+  protected ExecutorService executorService;
+
+  @Before
+  public void setUp() {
+    engineClient = mock(EngineClient.class);
+    executorService = Executors.newFixedThreadPool(3);
+  }
+
+  @After
+  public void tearDown() {
+    executorService.shutdownNow();
+  }
+
+  @Test
+  public void shouldSendConcurrentOperationsInOneRequest() throws Exception {
+    // given
+    ExternalTaskOperationCoalescer coalescer = new ExternalTaskOperationCoalescer(engineClient, 60_000, 3);
+    when(engineClient.bulkOperation(anyList())).thenReturn(Arrays.asList(
+        successfulResult("1"), successfulResult("2"), successfulResult("3")));
+
+    // when
+    List<Future<?>> futures = new ArrayList<>();
+    for (String externalTaskId : Arrays.asList("1", "2", "3")) {
+      futures.add(executorService.submit(() ->
+          coalescer.execute(ExternalTaskOperationDto.extendLock(externalTaskId, 1000))));
+    }
+    for (Future<?> future : futures) {
+      future.get();
+    }
+
+    // then the full batch is sent without waiting for the linger time
+    @SuppressWarnings("unchecked")
+    ArgumentCaptor<List<ExternalTaskOperationDto>> operations = ArgumentCaptor.forClass(List.class);
+    verify(engineClient, times(1)).bulkOperation(operations.capture());
+    assertThat(operations.getValue())
+      .extracting(ExternalTaskOperationDto::getExternalTaskId)
+      .containsExactlyInAnyOrder("1", "2", "3");
+  }
+
+  @Test
+  public void shouldSendOperationAfterLingerTime() {
+    // given
+    ExternalTaskOperationCoalescer coalescer = new ExternalTaskOperationCoalescer(engineClient, 10, 3);
+    when(engineClient.bulkOperation(anyList())).thenReturn(Collections.singletonList(successfulResult("1")));
+
+    // when
+    coalescer.execute(ExternalTaskOperationDto.extendLock("1", 1000));
+
+    // then
+    verify(engineClient, times(1)).bulkOperation(anyList());
+  }
+
+  @Test
+  public void shouldThrowExceptionOfFailedOperation() {
+    // given
+    ExternalTaskOperationCoalescer coalescer = new ExternalTaskOperationCoalescer(engineClient, 10, 3);
+    ExternalTaskOperationResultDto result = new ExternalTaskOperationResultDto();
+    result.setExternalTaskId("1");
+    result.setType(ExternalTaskOperationDto.COMPLETE);
+    result.setErrorType("NotFoundException");
+    result.setErrorMessage("Cannot find external task with id 1");
+    when(engineClient.bulkOperation(anyList())).thenReturn(Collections.singletonList(result));
+
+    // when
+    assertThatThrownBy(() -> coalescer.execute(ExternalTaskOperationDto.complete("1", null, null)))
+      // then
+      .isInstanceOf(EngineClientException.class)
+      .hasCauseInstanceOf(RestException.class)
+      .satisfies(e -> assertThat(((RestException) e.getCause()).getHttpStatusCode()).isEqualTo(404));
+  }
+
+  @Test
+  public void shouldThrowExceptionForOperationWithoutResult() {
+    // given
+    ExternalTaskOperationCoalescer coalescer = new ExternalTaskOperationCoalescer(engineClient, 10, 3);
+    when(engineClient.bulkOperation(anyList())).thenReturn(Collections.emptyList());
+
+    // when
+    assertThatThrownBy(() -> coalescer.execute(ExternalTaskOperationDto.complete("1", null, null)))
+      // then
+      .isInstanceOf(EngineClientException.class)
+      .hasMessageContaining("returned no result");
+  }
+
+  protected ExternalTaskOperationResultDto successfulResult(String externalTaskId) {
+    ExternalTaskOperationResultDto result = new ExternalTaskOperationResultDto();
+    result.setExternalTaskId(externalTaskId);
+    result.setType(ExternalTaskOperationDto.EXTEND_LOCK);
+    result.setSuccessful(true);
+    return result;
+  }
+
+}
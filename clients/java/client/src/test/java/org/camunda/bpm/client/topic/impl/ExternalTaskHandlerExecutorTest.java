@@ -0,0 +1,198 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.client.topic.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class ExternalTaskHandlerExecutorTest {
+
+  protected QueuingExecutorService executorService;
+  protected ExternalTaskHandlerExecutor handlerExecutor;
+  protected AtomicInteger capacityNotifications;
+
+  @Before
+  public void setUp() {
+    executorService = new QueuingExecutorService();
+    handlerExecutor = new ExternalTaskHandlerExecutor(executorService, 3);
+    capacityNotifications = new AtomicInteger();
+    handlerExecutor.setCapacityListener(capacityNotifications::incrementAndGet);
+  }
+
+  @After
+  public void tearDown() {
+    executorService.shutdownNow();
+  }
+
+  @Test
+  public void shouldReduceFreeCapacityWhileTasksAreInProgress() {
+    // given
+    TopicSubscriptionImpl subscription = createSubscription("foo", null);
+
+    // when
+    handlerExecutor.execute(subscription, () -> {});
+    handlerExecutor.execute(subscription, () -> {});
+
+    // then
+    assertThat(handlerExecutor.getTasksInProgress()).isEqualTo(2);
+    assertThat(handlerExecutor.getFreeCapacity()).isEqualTo(1);
+
+    // when
+    executorService.runNext();
+
+    // then
+    assertThat(handlerExecutor.getFreeCapacity()).isEqualTo(2);
+    assertThat(capacityNotifications.get()).isEqualTo(1);
+  }
+
+  @Test
+  public void shouldQueueTasksExceedingTopicLimit() {
+    // given
+    TopicSubscriptionImpl subscription = createSubscription("foo", 1);
+    List<String> handledTasks = new ArrayList<>();
+
+    // when
+    handlerExecutor.execute(subscription, () -> handledTasks.add("first"));
+    handlerExecutor.execute(subscription, () -> handledTasks.add("second"));
+
+    // then only the first task is dispatched
+    assertThat(executorService.getQueuedTasks()).isEqualTo(1);
+    assertThat(handlerExecutor.hasFreeCapacity(subscription)).isFalse();
+
+    // when
+    executorService.runNext();
+
+    // then the second task is dispatched
+    assertThat(handledTasks).containsExactly("first");
+    assertThat(executorService.getQueuedTasks()).isEqualTo(1);
+    assertThat(handlerExecutor.hasFreeCapacity(subscription)).isFalse();
+
+    // when
+    executorService.runNext();
+
+    // then
+    assertThat(handledTasks).containsExactly("first", "second");
+    assertThat(handlerExecutor.hasFreeCapacity(subscription)).isTrue();
+    assertThat(handlerExecutor.getTasksInProgress()).isZero();
+  }
+
+  @Test
+  public void shouldNotLimitOtherTopics() {
+    // given
+    TopicSubscriptionImpl limitedSubscription = createSubscription("foo", 1);
+    TopicSubscriptionImpl otherSubscription = createSubscription("bar", null);
+
+    // when
+    handlerExecutor.execute(limitedSubscription, () -> {});
+
+    // then
+    assertThat(handlerExecutor.hasFreeCapacity(limitedSubscription)).isFalse();
+    assertThat(handlerExecutor.hasFreeCapacity(otherSubscription)).isTrue();
+    assertThat(handlerExecutor.getFreeCapacity()).isEqualTo(2);
+  }
+
+  @Test
+  public void shouldReleaseCapacityOfFailingHandler() {
+    // given
+    TopicSubscriptionImpl subscription = createSubscription("foo", 1);
+    handlerExecutor.execute(subscription, () -> {
+      throw new IllegalStateException("expected exception");
+    });
+
+    // when
+    try {
+      executorService.runNext();
+    } catch (IllegalStateException e) {
+      // expected
+    }
+
+    // then
+    assertThat(handlerExecutor.getTasksInProgress()).isZero();
+    assertThat(handlerExecutor.hasFreeCapacity(subscription)).isTrue();
+  }
+
+  @Test
+  public void shouldFallBackToPlatformThreads() {
+    // when
+    ExternalTaskHandlerExecutor executor = ExternalTaskHandlerExecutor.withVirtualThreads(5);
+
+    // then a virtual thread executor is created on Java 21 and later, a thread pool otherwise
+    assertThat(executor.getExecutorService()).isNotNull();
+    assertThat(executor.getMaxConcurrentTasks()).isEqualTo(5);
+    executor.getExecutorService().shutdownNow();
+  }
+
+  protected TopicSubscriptionImpl createSubscription(String topicName, Integer maxConcurrentTasks) {
+    TopicSubscriptionImpl subscription = new TopicSubscriptionImpl(topicName, null, (task, service) -> {}, null, null, null);
+    subscription.setMaxConcurrentTasks(maxConcurrentTasks);
+    return subscription;
+  }
+
+  /**
+   * Runs the submitted tasks on demand on the calling thread.
+   */
+  protected static class QueuingExecutorService extends AbstractExecutorService {
+
+    protected List<Runnable> tasks = new ArrayList<>();
+    protected boolean isShutdown;
+
+    public void execute(Runnable command) {
+      tasks.add(command);
+    }
+
+    public void runNext() {
+      tasks.remove(0).run();
+    }
+
+    public int getQueuedTasks() {
+      return tasks.size();
+    }
+
+    public void shutdown() {
+      isShutdown = true;
+    }
+
+    public List<Runnable> shutdownNow() {
+      isShutdown = true;
+      List<Runnable> remainingTasks = new ArrayList<>(tasks);
+      tasks.clear();
+      return remainingTasks;
+    }
+
+    public boolean isShutdown() {
+      return isShutdown;
+    }
+
+    public boolean isTerminated() {
+      return isShutdown;
+    }
+
+    public boolean awaitTermination(long timeout, TimeUnit unit) {
+      return true;
+    }
+  }
+
+}
@@ -0,0 +1,73 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.client.topic.impl;
+
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.camunda.bpm.client.impl.EngineClient;
+import org.camunda.bpm.client.impl.EventStream;
+import org.camunda.bpm.client.topic.impl.StreamingTopicSubscriptionManager.FetchAndLockStream;
+import org.junit.Before;
+import org.junit.Test;
+
+public class StreamingTopicSubscriptionManagerTest {
+
+  protected EngineClient engineClient;
+  protected StreamingTopicSubscriptionManager topicSubscriptionManager;
+
+  @Before
+  public void setUp() {
+    engineClient = mock(EngineClient.class);
+    when(engineClient.getMaxTasks()).thenReturn(4);
+    topicSubscriptionManager = new StreamingTopicSubscriptionManager(engineClient, null, 1000);
+  }
+
+  @Test
+  public void shouldGrantCreditOnlyToStreamTasksWereReceivedOver() {
+    // given
+    FetchAndLockStream closedStream = createStream("aClosedStreamId", true);
+    FetchAndLockStream openStream = createStream("anOpenStreamId", false);
+
+    // when
+    topicSubscriptionManager.taskHandled(closedStream);
+    topicSubscriptionManager.taskHandled(closedStream);
+    topicSubscriptionManager.taskHandled(openStream);
+
+    // then
+    verify(engineClient, never()).addFetchAndLockStreamCredit(anyString(), anyInt());
+
+    // when
+    topicSubscriptionManager.taskHandled(openStream);
+
+    // then
+    verify(engineClient).addFetchAndLockStreamCredit("anOpenStreamId", 2);
+  }
+
+  protected FetchAndLockStream createStream(String id, boolean closed) {
+    EventStream eventStream = mock(EventStream.class);
+    when(eventStream.isClosed()).thenReturn(closed);
+    FetchAndLockStream stream = new FetchAndLockStream(eventStream);
+    stream.id = id;
+    return stream;
+  }
+
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.client.topic.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import java.util.concurrent.TimeUnit;
+
+import org.camunda.bpm.client.impl.EngineClient;
+import org.camunda.bpm.client.topic.impl.ExternalTaskHandlerExecutorTest.QueuingExecutorService;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class TopicSubscriptionManagerTest {
+
+  protected QueuingExecutorService executorService;
+  protected TopicSubscriptionManager topicSubscriptionManager;
+  protected TopicSubscriptionImpl subscription;
+
+  @Before
+  public void setUp() {
+    executorService = new QueuingExecutorService();
+    topicSubscriptionManager = new TopicSubscriptionManager(mock(EngineClient.class), null, 1000);
+    topicSubscriptionManager.setHandlerExecutor(new ExternalTaskHandlerExecutor(executorService, 1));
+    topicSubscriptionManager.isRunning.set(true);
+
+    subscription = new TopicSubscriptionImpl("foo", null, (task, service) -> {}, topicSubscriptionManager, null, null);
+    topicSubscriptionManager.getSubscriptions().add(subscription);
+  }
+
+  @After
+  public void tearDown() {
+    topicSubscriptionManager.isRunning.set(false);
+    executorService.shutdownNow();
+  }
+
+  @Test
+  public void shouldWakeUpWhenHandlerCapacityIsFreed() throws Exception {
+    // given
+    topicSubscriptionManager.getHandlerExecutor().execute(subscription, () -> {});
+    Thread handlerThread = new Thread(() -> {
+      sleep(100);
+      executorService.runNext();
+    });
+    handlerThread.start();
+
+    // when
+    long start = System.nanoTime();
+    topicSubscriptionManager.waitForHandlerCapacity();
+    long waitedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+    handlerThread.join();
+
+    // then
+    assertThat(topicSubscriptionManager.hasHandlerCapacity()).isTrue();
+    assertThat(waitedMillis).isLessThan(5_000);
+  }
+
+  @Test
+  public void shouldNotCutBackoffShortWhenHandlerCapacityIsFreed() throws Exception {
+    // given
+    topicSubscriptionManager.getHandlerExecutor().execute(subscription, () -> {});
+    Thread handlerThread = new Thread(() -> {
+      sleep(50);
+      executorService.runNext();
+    });
+    handlerThread.start();
+
+    // when
+    long start = System.nanoTime();
+    topicSubscriptionManager.suspend(500);
+    long waitedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+    handlerThread.join();
+
+    // then
+    assertThat(waitedMillis).isGreaterThanOrEqualTo(450);
+  }
+
+  protected void sleep(long millis) {
+    try {
+      Thread.sleep(millis);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.commons.utils.cache;
+
+/**
+ * A count-min sketch estimating the access frequency of keys within a sliding
+ * period of time (TinyLFU). Counters saturate at 15 and are halved once the
+ * number of recorded accesses reaches ten times the sketch capacity, so that
+ * the frequencies of formerly popular keys decay.
+ * <p>
+ * *Note*: The sketch is not thread-safe and must be guarded by the caller.
+ */
+public class FrequencySketch {
+
+  protected static final int DEPTH = 4;
+  protected static final int MAX_FREQUENCY = 15;
+
+  protected static final int[] SEEDS = { 0x97cb3127, 0xb4ab9d35, 0x5a8ec3a1, 0x2c1b3c6d };
+
+  protected final byte[] table;
+  protected final int mask;
+  protected final int sampleSize;
+  protected int additions;
+
+  /**
+   * @param capacity the expected number of distinct keys to track
+   */
+  public FrequencySketch(int capacity) {
+    int width = Integer.highestOneBit(Math.max(16, capacity) * 2 - 1);
+    this.table = new byte[width];
+    this.mask = width - 1;
+    this.sampleSize = 10 * Math.max(1, capacity);
+  }
+
+  /**
+   * Records an access to the given key.
+   */
+  public void increment(Object key) {
+    int hash = spread(key.hashCode());
+    boolean added = false;
+    for (int i = 0; i < DEPTH; i++) {
+      int index = indexOf(hash, i);
+      if (table[index] < MAX_FREQUENCY) {
+        table[index]++;
+        added = true;
+      }
+    }
+
+    if (added && ++additions >= sampleSize) {
+      age();
+    }
+  }
+
+  /**
+   * @return the estimated number of recent accesses to the given key
+   */
+  public int frequency(Object key) {
+    int hash = spread(key.hashCode());
+    int frequency = MAX_FREQUENCY;
+    for (int i = 0; i < DEPTH; i++) {
+      frequency = Math.min(frequency, table[indexOf(hash, i)]);
+    }
+    return frequency;
+  }
+
+  /**
+   * Halves all counters.
+   */
+  protected void age() {
+    for (int i = 0; i < table.length; i++) {
+      table[i] = (byte) (table[i] >>> 1);
+    }
+    additions /= 2;
+  }
+
+  protected int indexOf(int hash, int row) {
+    int h = (hash ^ SEEDS[row]) * SEEDS[(row + 1) % DEPTH];
+    return (h ^ (h >>> 16)) & mask;
+  }
+
+  protected static int spread(int hash) {
+    int h = hash * 0x9e3779b9;
+    return h ^ (h >>> 16);
+  }
+
+}
@@ -0,0 +1,384 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.commons.utils.cache;
+
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A thread-safe LRU {@link Cache} with a fixed capacity and constant-time access.
+ * <p>
+ * The keys are distributed over a number of segments, each one guarded by its own lock
+ * and maintaining the access order of its entries in a linked hash map. If a segment reaches
+ * its share of the capacity, it discards its least recently used entry. Small caches use a
+ * single segment and therefore behave like an exact LRU cache.
+ * <p>
+ * Optionally, a frequency-aware admission policy (W-TinyLFU) can be enabled. A new entry is then
+ * kept in a small admission window and only moved to the main area of a full segment if it was
+ * accessed more frequently than the entry that would be evicted in its favor. This protects
+ * frequently used entries from being flushed out by a burst of entries which are accessed only
+ * once.
+ * <p>
+ * The cache records the number of hits, misses and evictions.
+ *
+ * @param <K> the type of keys
+ * @param <V> the type of mapped values
+ */
+public class SegmentedLruCache<K, V> implements Cache<K, V> {
+
+  public static final int DEFAULT_CONCURRENCY_LEVEL = 16;
+
+  /**
+   * The minimal number of entries per segment. Prevents that small caches
+   * are split into segments which would make the eviction order arbitrary.
+   */
+  protected static final int MIN_SEGMENT_CAPACITY = 32;
+
+  private final int capacity;
+  private final boolean frequencyAdmission;
+  private final Segment<K, V>[] segments;
+  private final int segmentMask;
+
+  private final LongAdder hitCount = new LongAdder();
+  private final LongAdder missCount = new LongAdder();
+  private final LongAdder evictionCount = new LongAdder();
+
+  /**
+   * Creates the cache with a fixed capacity and the default concurrency level.
+   *
+   * @param capacity max number of cache entries
+   * @throws IllegalArgumentException if capacity is negative
+   */
+  public SegmentedLruCache(int capacity) {
+    this(capacity, DEFAULT_CONCURRENCY_LEVEL, false);
+  }
+
+  /**
+   * Creates the cache with a fixed capacity.
+   *
+   * @param capacity max number of cache entries
+   * @param concurrencyLevel the maximal number of segments, rounded down to a power of two
+   * @param frequencyAdmission whether new entries are only admitted if they are accessed more
+   *                           frequently than the entries they replace
+   * @throws IllegalArgumentException if capacity is negative or concurrency level is not positive
+   */
+  @SuppressWarnings("unchecked")
+  public SegmentedLruCache(int capacity, int concurrencyLevel, boolean frequencyAdmission) {
+    if (capacity < 0 || concurrencyLevel <= 0) {
+      throw new IllegalArgumentException();
+    }
+    this.capacity = capacity;
+    this.frequencyAdmission = frequencyAdmission;
+
+    int segmentCount = Integer.highestOneBit(Math.max(1, Math.min(concurrencyLevel, capacity / MIN_SEGMENT_CAPACITY)));
+    this.segmentMask = segmentCount - 1;
+    this.segments = new Segment[segmentCount];
+
+    int segmentCapacity = capacity / segmentCount;
+    int remainder = capacity % segmentCount;
+    for (int i = 0; i < segmentCount; i++) {
+      int capacityOfSegment = i < remainder ? segmentCapacity + 1 : segmentCapacity;
+      segments[i] = new Segment<K, V>(capacityOfSegment, frequencyAdmission, evictionCount);
+    }
+  }
+
+  @Override
+  public V get(K key) {
+    V value = segmentFor(key).get(key);
+    if (value != null) {
+      hitCount.increment();
+    } else {
+      missCount.increment();
+    }
+    return value;
+  }
+
+  @Override
+  public void put(K key, V value) {
+    if (key == null || value == null) {
+      throw new NullPointerException();
+    }
+    segmentFor(key).put(key, value);
+  }
+
+  @Override
+  public void remove(K key) {
+    segmentFor(key).remove(key);
+  }
+
+  @Override
+  public void clear() {
+    for (Segment<K, V> segment : segments) {
+      segment.clear();
+    }
+  }
+
+  @Override
+  public boolean isEmpty() {
+    for (Segment<K, V> segment : segments) {
+      if (!segment.isEmpty()) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Returns a snapshot of the keys contained in this cache.
+   */
+  @Override
+  public Set<K> keySet() {
+    Set<K> keys = new HashSet<K>();
+    for (Segment<K, V> segment : segments) {
+      segment.collectKeys(keys);
+    }
+    return keys;
+  }
+
+  @Override
+  public int size() {
+    int size = 0;
+    for (Segment<K, V> segment : segments) {
+      size += segment.size();
+    }
+    return size;
+  }
+
+  public int getCapacity() {
+    return capacity;
+  }
+
+  public int getSegmentCount() {
+    return segments.length;
+  }
+
+  public boolean isFrequencyAdmission() {
+    return frequencyAdmission;
+  }
+
+  /**
+   * @return the number of lookups which returned a cached value
+   */
+  public long getHitCount() {
+    return hitCount.sum();
+  }
+
+  /**
+   * @return the number of lookups which did not find a cached value
+   */
+  public long getMissCount() {
+    return missCount.sum();
+  }
+
+  /**
+   * @return the number of entries which were discarded or not admitted because of the capacity limit
+   */
+  public long getEvictionCount() {
+    return evictionCount.sum();
+  }
+
+  /**
+   * @return the ratio of hits to all lookups, or <code>1.0</code> if there were no lookups yet
+   */
+  public double getHitRate() {
+    long hits = getHitCount();
+    long lookups = hits + getMissCount();
+    return lookups == 0 ? 1.0 : (double) hits / lookups;
+  }
+
+  protected Segment<K, V> segmentFor(K key) {
+    int h = key.hashCode();
+    h ^= (h >>> 16);
+    return segments[h & segmentMask];
+  }
+
+  /**
+   * A part of the cache guarded by a single lock. Without frequency admission, all entries
+   * are kept in one access-ordered map. With frequency admission, new entries are first kept
+   * in a small admission window and compete with the least recently used entry of the main
+   * area once they drop out of the window (W-TinyLFU). An entry which was just added can
+   * therefore always be retrieved right afterwards.
+   */
+  protected static class Segment<K, V> {
+
+    protected final ReentrantLock lock = new ReentrantLock();
+    protected final LongAdder evictionCount;
+
+    protected final int windowCapacity;
+    protected final int mainCapacity;
+    protected final LinkedHashMap<K, V> window;
+    protected final LinkedHashMap<K, V> main;
+    protected final FrequencySketch sketch;
+
+    protected Segment(int segmentCapacity, boolean frequencyAdmission, LongAdder evictionCount) {
+      this.evictionCount = evictionCount;
+      this.main = new LinkedHashMap<K, V>(16, 0.75f, true);
+
+      if (frequencyAdmission && segmentCapacity > 0) {
+        this.windowCapacity = Math.max(1, segmentCapacity / 100);
+        this.mainCapacity = segmentCapacity - windowCapacity;
+        this.window = new LinkedHashMap<K, V>(16, 0.75f, true);
+        this.sketch = new FrequencySketch(segmentCapacity);
+      } else {
+        this.windowCapacity = 0;
+        this.mainCapacity = segmentCapacity;
+        this.window = null;
+        this.sketch = null;
+      }
+    }
+
+    protected V get(K key) {
+      lock.lock();
+      try {
+        if (sketch == null) {
+          return main.get(key);
+        }
+
+        sketch.increment(key);
+        V value = window.get(key);
+        if (value == null) {
+          value = main.get(key);
+        }
+        return value;
+      } finally {
+        lock.unlock();
+      }
+    }
+
+    protected void put(K key, V value) {
+      lock.lock();
+      try {
+        if (sketch == null) {
+          putLru(key, value);
+        } else {
+          putWindowed(key, value);
+        }
+      } finally {
+        lock.unlock();
+      }
+    }
+
+    protected void putLru(K key, V value) {
+      if (main.containsKey(key) || main.size() < mainCapacity) {
+        main.put(key, value);
+      } else if (mainCapacity > 0) {
+        evictEldest(main);
+        main.put(key, value);
+      } else {
+        evictionCount.increment();
+      }
+    }
+
+    protected void putWindowed(K key, V value) {
+      sketch.increment(key);
+
+      if (main.containsKey(key)) {
+        main.put(key, value);
+        return;
+      }
+
+      window.put(key, value);
+      if (window.size() <= windowCapacity) {
+        return;
+      }
+
+      // the least recently used entry of the window becomes a candidate for the main area
+      Iterator<Map.Entry<K, V>> windowIterator = window.entrySet().iterator();
+      Map.Entry<K, V> candidate = windowIterator.next();
+      windowIterator.remove();
+
+      if (main.size() < mainCapacity) {
+        main.put(candidate.getKey(), candidate.getValue());
+        return;
+      }
+
+      if (mainCapacity > 0) {
+        K victim = main.keySet().iterator().next();
+        if (sketch.frequency(candidate.getKey()) > sketch.frequency(victim)) {
+          evictEldest(main);
+          main.put(candidate.getKey(), candidate.getValue());
+          return;
+        }
+      }
+
+      // the candidate is not popular enough to replace the victim
+      evictionCount.increment();
+    }
+
+    protected void evictEldest(LinkedHashMap<K, V> entries) {
+      Iterator<K> iterator = entries.keySet().iterator();
+      iterator.next();
+      iterator.remove();
+      evictionCount.increment();
+    }
+
+    protected void remove(K key) {
+      lock.lock();
+      try {
+        main.remove(key);
+        if (window != null) {
+          window.remove(key);
+        }
+      } finally {
+        lock.unlock();
+      }
+    }
+
+    protected void clear() {
+      lock.lock();
+      try {
+        main.clear();
+        if (window != null) {
+          window.clear();
+        }
+      } finally {
+        lock.unlock();
+      }
+    }
+
+    protected boolean isEmpty() {
+      return size() == 0;
+    }
+
+    protected int size() {
+      lock.lock();
+      try {
+        return main.size() + (window != null ? window.size() : 0);
+      } finally {
+        lock.unlock();
+      }
+    }
+
+    protected void collectKeys(Set<K> keys) {
+      lock.lock();
+      try {
+        keys.addAll(main.keySet());
+        if (window != null) {
+          keys.addAll(window.keySet());
+        }
+      } finally {
+        lock.unlock();
+      }
+    }
+  }
+
+}
@@ -0,0 +1,216 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.commons.utils.cache;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SegmentedLruCacheTest {
+
+  @Rule
+  public ExpectedException thrown = ExpectedException.none();
+
+  private SegmentedLruCache<String, String> cache;
+
+  @Before
+  public void createCache() {
+    cache = new SegmentedLruCache<String, String>(3);
+  }
+
+  @Test
+  public void getEntryWithNotExistingKey() {
+    assertThat(cache.get("not existing")).isNull();
+  }
+
+  @Test
+  public void getEntry() {
+    cache.put("a", "1");
+
+    assertThat(cache.size()).isEqualTo(1);
+    assertThat(cache.get("a")).isEqualTo("1");
+  }
+
+  @Test
+  public void overrideEntry() {
+    cache.put("a", "1");
+    cache.put("a", "2");
+
+    assertThat(cache.size()).isEqualTo(1);
+    assertThat(cache.get("a")).isEqualTo("2");
+  }
+
+  @Test
+  public void removeLeastRecentlyInsertedEntry() {
+    cache.put("a", "1");
+    cache.put("b", "2");
+    cache.put("c", "3");
+    cache.put("d", "4");
+
+    assertThat(cache.size()).isEqualTo(3);
+    assertThat(cache.get("a")).isNull();
+    assertThat(cache.get("b")).isEqualTo("2");
+    assertThat(cache.get("c")).isEqualTo("3");
+    assertThat(cache.get("d")).isEqualTo("4");
+  }
+
+  @Test
+  public void removeLeastRecentlyUsedEntry() {
+    cache.put("a", "1");
+    cache.put("b", "2");
+    cache.put("c", "3");
+
+    cache.get("a");
+    cache.get("b");
+
+    cache.put("d", "4");
+
+    assertThat(cache.size()).isEqualTo(3);
+    assertThat(cache.get("c")).isNull();
+    assertThat(cache.get("a")).isEqualTo("1");
+    assertThat(cache.get("b")).isEqualTo("2");
+    assertThat(cache.get("d")).isEqualTo("4");
+  }
+
+  @Test
+  public void clearCache() {
+    cache.put("a", "1");
+
+    cache.clear();
+    assertThat(cache.size()).isEqualTo(0);
+    assertThat(cache.get("a")).isNull();
+  }
+
+  @Test
+  public void failToInsertInvalidKey() {
+    thrown.expect(NullPointerException.class);
+
+    cache.put(null, "1");
+  }
+
+  @Test
+  public void failToInsertInvalidValue() {
+    thrown.expect(NullPointerException.class);
+
+    cache.put("a", null);
+  }
+
+  @Test
+  public void failToCreateCacheWithInvalidCapacity() {
+    thrown.expect(IllegalArgumentException.class);
+
+    new SegmentedLruCache<String, String>(-1);
+  }
+
+  @Test
+  public void removeAllElements() {
+    // given
+    cache.put("a", "1");
+    cache.put("b", "2");
+    cache.put("c", "3");
+
+    // when
+    cache.remove("a");
+    cache.remove("b");
+    cache.remove("c");
+
+    // then
+    assertThat(cache.isEmpty()).isTrue();
+  }
+
+  @Test
+  public void neverExceedCapacityWithMultipleSegments() {
+    // given
+    cache = new SegmentedLruCache<String, String>(1000, 16, false);
+
+    // when
+    for (int i = 0; i < 5000; i++) {
+      cache.put("key" + i, "value" + i);
+    }
+
+    // then
+    assertThat(cache.getSegmentCount()).isEqualTo(16);
+    assertThat(cache.size()).isEqualTo(1000);
+    assertThat(cache.keySet()).hasSize(1000);
+    assertThat(cache.getEvictionCount()).isEqualTo(4000);
+  }
+
+  @Test
+  public void useSingleSegmentForSmallCapacity() {
+    cache = new SegmentedLruCache<String, String>(10, 16, false);
+
+    assertThat(cache.getSegmentCount()).isEqualTo(1);
+  }
+
+  @Test
+  public void recordStatistics() {
+    // given
+    cache.put("a", "1");
+
+    // when
+    cache.get("a");
+    cache.get("a");
+    cache.get("b");
+    cache.put("b", "2");
+    cache.put("c", "3");
+    cache.put("d", "4");
+
+    // then
+    assertThat(cache.getHitCount()).isEqualTo(2);
+    assertThat(cache.getMissCount()).isEqualTo(1);
+    assertThat(cache.getEvictionCount()).isEqualTo(1);
+    assertThat(cache.getHitRate()).isEqualTo(2.0 / 3);
+  }
+
+  @Test
+  public void admitFrequentlyUsedEntriesOnly() {
+    // given a cache with an admission window of one entry
+    cache = new SegmentedLruCache<String, String>(10, 1, true);
+    for (char key = 'a'; key <= 'j'; key++) {
+      cache.put(String.valueOf(key), "value");
+    }
+    for (int i = 0; i < 3; i++) {
+      for (char key = 'a'; key <= 'i'; key++) {
+        cache.get(String.valueOf(key));
+      }
+    }
+
+    // when a new entry pushes a rarely used entry out of the window
+    cache.put("k", "value");
+
+    // then the rarely used entry does not replace a popular one
+    assertThat(cache.get("j")).isNull();
+    assertThat(cache.get("a")).isNotNull();
+    assertThat(cache.get("k")).isNotNull();
+
+    // when the entry in the window is requested repeatedly
+    for (int i = 0; i < 5; i++) {
+      cache.get("k");
+    }
+    cache.put("l", "value");
+
+    // then it is admitted to the main area in favor of the least recently used entry
+    assertThat(cache.get("k")).isNotNull();
+    assertThat(cache.get("l")).isNotNull();
+    assertThat(cache.get("b")).isNull();
+    assertThat(cache.size()).isEqualTo(10);
+  }
+
+}
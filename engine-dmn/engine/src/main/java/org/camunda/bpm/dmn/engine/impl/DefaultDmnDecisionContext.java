@@ -22,12 +22,16 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
 
 import org.camunda.bpm.dmn.engine.DmnDecision;
 import org.camunda.bpm.dmn.engine.DmnDecisionLogic;
 import org.camunda.bpm.dmn.engine.DmnDecisionResult;
 import org.camunda.bpm.dmn.engine.delegate.DmnDecisionEvaluationListener;
 import org.camunda.bpm.dmn.engine.delegate.DmnDecisionLogicEvaluationEvent;
+import org.camunda.bpm.dmn.engine.impl.delegate.DmnDecisionTableEvaluationEventImpl;
 import org.camunda.bpm.dmn.engine.impl.delegate.DmnDecisionEvaluationEventImpl;
 import org.camunda.bpm.dmn.engine.impl.evaluation.DecisionLiteralExpressionEvaluationHandler;
 import org.camunda.bpm.dmn.engine.impl.evaluation.DecisionTableEvaluationHandler;
@@ -52,8 +56,11 @@ public class DefaultDmnDecisionContext {
 
   protected final Map<Class<? extends DmnDecisionLogic>, DmnDecisionLogicEvaluationHandler> evaluationHandlers;
 
+  protected final Executor requiredDecisionsExecutor;
+
   public DefaultDmnDecisionContext(DefaultDmnEngineConfiguration configuration) {
     evaluationListeners = configuration.getDecisionEvaluationListeners();
+    requiredDecisionsExecutor = configuration.getRequiredDecisionsExecutor();
 
     evaluationHandlers = new HashMap<Class<? extends DmnDecisionLogic>, DmnDecisionLogicEvaluationHandler>();
     evaluationHandlers.put(DmnDecisionTableImpl.class, new DecisionTableEvaluationHandler(configuration));
@@ -77,6 +84,11 @@ public class DefaultDmnDecisionContext {
     List<DmnDecision> requiredDecisions = new ArrayList<DmnDecision>();
     buildDecisionTree(decision, requiredDecisions);
 
+    if (requiredDecisionsExecutor != null && requiredDecisions.size() > 2
+        && !hasShadowedVariables(requiredDecisions, variableMap)) {
+      return evaluateDecisionConcurrently(decision, requiredDecisions, variableMap);
+    }
+
     List<DmnDecisionLogicEvaluationEvent> evaluatedEvents = new ArrayList<DmnDecisionLogicEvaluationEvent>();
     DmnDecisionResult evaluatedResult = null;
 
@@ -95,6 +107,171 @@ public class DefaultDmnDecisionContext {
     return evaluatedResult;
   }
 
+  /**
+   * Evaluates the required decisions level by level. The decisions of a level only
+   * require decisions of lower levels, so they are independent of each other and are
+   * evaluated concurrently by the {@link #requiredDecisionsExecutor}. A decision sees
+   * the results of all decisions of the lower levels, added to its variables in the
+   * order of the decision tree like in a sequential evaluation.
+   *
+   * The evaluation listeners of decision tables are notified and the evaluation events
+   * are collected in the order of the decision tree, so the results and events do not
+   * depend on the order in which the concurrent evaluations complete.
+   *
+   * In contrast to a sequential evaluation, a decision does not see the results of the
+   * decisions of its own level which precede it in the decision tree. This only makes a
+   * difference if a decision uses a result of a decision it does not require, or if a
+   * result overrides a variable, see {@link #hasShadowedVariables(List, VariableMap)}.
+   */
+  protected DmnDecisionResult evaluateDecisionConcurrently(DmnDecision decision, List<DmnDecision> requiredDecisions, VariableMap variableMap) {
+    List<List<Integer>> levels = buildDecisionLevels(requiredDecisions);
+
+    int decisionCount = requiredDecisions.size();
+    DmnDecisionLogicEvaluationEvent[] evaluatedEvents = new DmnDecisionLogicEvaluationEvent[decisionCount];
+    DmnDecisionResult[] evaluatedResults = new DmnDecisionResult[decisionCount];
+
+    for (List<Integer> level : levels) {
+      VariableMap levelVariableMap = buildVariableMapWithResults(variableMap, requiredDecisions, evaluatedResults);
+      VariableContext levelVariableContext = levelVariableMap.asVariableContext();
+
+      List<CompletableFuture<DmnDecisionLogicEvaluationEvent>> evaluations = new ArrayList<CompletableFuture<DmnDecisionLogicEvaluationEvent>>();
+      if (level.size() > 1) {
+        for (Integer decisionIdx : level) {
+          DmnDecision evaluateDecision = requiredDecisions.get(decisionIdx);
+          evaluations.add(CompletableFuture.supplyAsync(() -> evaluateDecisionLogic(evaluateDecision, levelVariableContext), requiredDecisionsExecutor));
+        }
+      } else {
+        DmnDecision evaluateDecision = requiredDecisions.get(level.get(0));
+        evaluations.add(CompletableFuture.completedFuture(evaluateDecisionLogic(evaluateDecision, levelVariableContext)));
+      }
+
+      for (int i = 0; i < level.size(); i++) {
+        int decisionIdx = level.get(i);
+        DmnDecision evaluatedDecision = requiredDecisions.get(decisionIdx);
+        DmnDecisionLogicEvaluationHandler handler = getDecisionEvaluationHandler(evaluatedDecision);
+
+        DmnDecisionLogicEvaluationEvent evaluatedEvent = joinEvaluation(evaluations.get(i));
+        if (handler instanceof DecisionTableEvaluationHandler) {
+          ((DecisionTableEvaluationHandler) handler).notifyListeners((DmnDecisionTableEvaluationEventImpl) evaluatedEvent);
+        }
+
+        evaluatedEvents[decisionIdx] = evaluatedEvent;
+        evaluatedResults[decisionIdx] = handler.generateDecisionResult(evaluatedEvent);
+      }
+    }
+
+    List<DmnDecisionLogicEvaluationEvent> evaluatedEventList = new ArrayList<DmnDecisionLogicEvaluationEvent>();
+    for (DmnDecisionLogicEvaluationEvent evaluatedEvent : evaluatedEvents) {
+      evaluatedEventList.add(evaluatedEvent);
+    }
+    generateDecisionEvaluationEvent(evaluatedEventList);
+
+    return evaluatedResults[decisionCount - 1];
+  }
+
+  /**
+   * Evaluates the decision without notifying the evaluation listeners of decision tables,
+   * since the evaluation may run concurrently to other decisions.
+   */
+  protected DmnDecisionLogicEvaluationEvent evaluateDecisionLogic(DmnDecision decision, VariableContext variableContext) {
+    DmnDecisionLogicEvaluationHandler handler = getDecisionEvaluationHandler(decision);
+    if (handler instanceof DecisionTableEvaluationHandler) {
+      return ((DecisionTableEvaluationHandler) handler).evaluateWithoutNotification(decision, variableContext);
+    } else {
+      return handler.evaluate(decision, variableContext);
+    }
+  }
+
+  protected DmnDecisionLogicEvaluationEvent joinEvaluation(CompletableFuture<DmnDecisionLogicEvaluationEvent> evaluation) {
+    try {
+      return evaluation.join();
+    } catch (CompletionException e) {
+      // rethrow the exception of the evaluation as if the decision was evaluated by this thread
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      } else if (e.getCause() instanceof Error) {
+        throw (Error) e.getCause();
+      } else {
+        throw e;
+      }
+    }
+  }
+
+  /**
+   * @return the indexes of the decisions grouped by their level, a decision without
+   * required decisions has the level 0, the level of other decisions is one more than
+   * the highest level of their required decisions
+   */
+  protected List<List<Integer>> buildDecisionLevels(List<DmnDecision> requiredDecisions) {
+    Map<DmnDecision, Integer> decisionLevels = new HashMap<DmnDecision, Integer>();
+    List<List<Integer>> levels = new ArrayList<List<Integer>>();
+
+    // the required decisions are ordered, so the levels of required decisions are known
+    for (int decisionIdx = 0; decisionIdx < requiredDecisions.size(); decisionIdx++) {
+      DmnDecision decision = requiredDecisions.get(decisionIdx);
+      int level = 0;
+      for (DmnDecision requiredDecision : decision.getRequiredDecisions()) {
+        level = Math.max(level, decisionLevels.get(requiredDecision) + 1);
+      }
+      decisionLevels.put(decision, level);
+
+      if (levels.size() == level) {
+        levels.add(new ArrayList<Integer>());
+      }
+      levels.get(level).add(decisionIdx);
+    }
+
+    return levels;
+  }
+
+  /**
+   * @return true if an output of a required decision has the name of an input variable
+   * or of an output of another required decision. The value of such a variable depends
+   * on which decisions were evaluated before, so the decisions are evaluated sequentially.
+   */
+  protected boolean hasShadowedVariables(List<DmnDecision> requiredDecisions, VariableMap variableMap) {
+    Set<String> variableNames = new HashSet<String>(variableMap.keySet());
+
+    // the results of the last decision are not added to the variables
+    for (DmnDecision requiredDecision : requiredDecisions.subList(0, requiredDecisions.size() - 1)) {
+      for (String outputName : getOutputNames(requiredDecision)) {
+        if (!variableNames.add(outputName)) {
+          return true;
+        }
+      }
+    }
+
+    return false;
+  }
+
+  protected List<String> getOutputNames(DmnDecision decision) {
+    List<String> outputNames = new ArrayList<String>();
+    DmnDecisionLogic decisionLogic = decision.getDecisionLogic();
+
+    if (decisionLogic instanceof DmnDecisionTableImpl) {
+      for (DmnDecisionTableOutputImpl output : ((DmnDecisionTableImpl) decisionLogic).getOutputs()) {
+        outputNames.add(output.getOutputName());
+      }
+    } else if (decisionLogic instanceof DmnDecisionLiteralExpressionImpl) {
+      outputNames.add(((DmnDecisionLiteralExpressionImpl) decisionLogic).getVariable().getName());
+    }
+
+    return outputNames;
+  }
+
+  protected VariableMap buildVariableMapWithResults(VariableMap variableMap, List<DmnDecision> requiredDecisions, DmnDecisionResult[] evaluatedResults) {
+    VariableMap variableMapWithResults = Variables.createVariables();
+    variableMapWithResults.putAll(variableMap);
+
+    for (int decisionIdx = 0; decisionIdx < evaluatedResults.length; decisionIdx++) {
+      if (evaluatedResults[decisionIdx] != null) {
+        addResultToVariableContext(evaluatedResults[decisionIdx], variableMapWithResults, requiredDecisions.get(decisionIdx));
+      }
+    }
+
+    return variableMapWithResults;
+  }
+
   protected VariableMap buildVariableMapFromVariableContext(VariableContext variableContext) {
 
     VariableMap variableMap = Variables.createVariables();
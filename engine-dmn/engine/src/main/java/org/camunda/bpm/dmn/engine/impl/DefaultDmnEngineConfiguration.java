@@ -19,6 +19,7 @@ package org.camunda.bpm.dmn.engine.impl;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.Executor;
 
 import org.camunda.bpm.dmn.engine.DmnEngine;
 import org.camunda.bpm.dmn.engine.DmnEngineConfiguration;
@@ -85,6 +86,22 @@ public class DefaultDmnEngineConfiguration extends DmnEngineConfiguration {
 
   protected boolean returnBlankTableOutputAsNull = false;
 
+  /**
+   * Index the input entries of decision tables to find the matching rules
+   */
+  protected boolean enableDecisionTableIndex = false;
+
+  /**
+   * Cache the matching rules of decision tables by the values of their inputs
+   */
+  protected boolean enableDecisionResultCache = false;
+  protected int decisionResultCacheSize = 1000;
+
+  /**
+   * Evaluates independent required decisions concurrently
+   */
+  protected Executor requiredDecisionsExecutor;
+
   @Override
   public DmnEngine buildEngine() {
     init();
@@ -99,6 +116,7 @@ public class DefaultDmnEngineConfiguration extends DmnEngineConfiguration {
     initElDefaults();
     initElProvider();
     initFeelEngine();
+    initTransformer();
   }
 
   public void initElDefaults() {
@@ -205,6 +223,15 @@ public class DefaultDmnEngineConfiguration extends DmnEngineConfiguration {
     }
   }
 
+  protected void initTransformer() {
+    if (enableDecisionTableIndex && transformer instanceof DefaultDmnTransformer) {
+      ((DefaultDmnTransformer) transformer).setIndexDecisionTables(true);
+    }
+    if (enableDecisionResultCache && transformer instanceof DefaultDmnTransformer) {
+      ((DefaultDmnTransformer) transformer).setDecisionResultCacheSize(decisionResultCacheSize);
+    }
+  }
+
   @Override
   public DmnEngineMetricCollector getEngineMetricCollector() {
     return engineMetricCollector;
@@ -625,4 +652,143 @@ public class DefaultDmnEngineConfiguration extends DmnEngineConfiguration {
     return this;
   }
 
+  /**
+   * @return whether the input entries of decision tables are indexed or not
+   */
+  public boolean isEnableDecisionTableIndex() {
+    return enableDecisionTableIndex;
+  }
+
+  /**
+   * Controls whether the input entries of decision tables are indexed when the
+   * decisions are parsed. The matching rules of an indexed decision table are looked
+   * up by the input values instead of evaluating the input entries of every rule,
+   * only the input entries that cannot be indexed are evaluated. This speeds up the
+   * evaluation of decision tables with many rules.
+   *
+   * @param enableDecisionTableIndex the decision table index
+   */
+  public void setEnableDecisionTableIndex(boolean enableDecisionTableIndex) {
+    this.enableDecisionTableIndex = enableDecisionTableIndex;
+  }
+
+  /**
+   * Controls whether the input entries of decision tables are indexed when the
+   * decisions are parsed.
+   *
+   * @param enableDecisionTableIndex the decision table index
+   * @return this
+   * @see #setEnableDecisionTableIndex(boolean)
+   */
+  public DefaultDmnEngineConfiguration enableDecisionTableIndex(boolean enableDecisionTableIndex) {
+    setEnableDecisionTableIndex(enableDecisionTableIndex);
+    return this;
+  }
+
+  /**
+   * @return whether the results of decision tables are cached or not
+   */
+  public boolean isEnableDecisionResultCache() {
+    return enableDecisionResultCache;
+  }
+
+  /**
+   * Controls whether the matching rules of all decision tables are cached by the values
+   * of their inputs. A decision can also enable, resize or disable its cache with the
+   * {@code camunda:resultCacheSize} attribute. Only enable the cache for decision tables
+   * whose input entries and output entries depend on nothing but the input values.
+   * The evaluation listeners are notified for cached results, too.
+   *
+   * @param enableDecisionResultCache the decision result cache
+   */
+  public void setEnableDecisionResultCache(boolean enableDecisionResultCache) {
+    this.enableDecisionResultCache = enableDecisionResultCache;
+  }
+
+  /**
+   * Controls whether the matching rules of all decision tables are cached by the values
+   * of their inputs.
+   *
+   * @param enableDecisionResultCache the decision result cache
+   * @return this
+   * @see #setEnableDecisionResultCache(boolean)
+   */
+  public DefaultDmnEngineConfiguration enableDecisionResultCache(boolean enableDecisionResultCache) {
+    setEnableDecisionResultCache(enableDecisionResultCache);
+    return this;
+  }
+
+  /**
+   * @return the maximum number of cached results per decision table
+   */
+  public int getDecisionResultCacheSize() {
+    return decisionResultCacheSize;
+  }
+
+  /**
+   * Set the maximum number of cached results per decision table if the result cache
+   * is enabled. The least recently used result is evicted if the cache is full.
+   *
+   * @param decisionResultCacheSize the maximum number of cached results
+   */
+  public void setDecisionResultCacheSize(int decisionResultCacheSize) {
+    this.decisionResultCacheSize = decisionResultCacheSize;
+  }
+
+  /**
+   * Set the maximum number of cached results per decision table if the result cache
+   * is enabled.
+   *
+   * @param decisionResultCacheSize the maximum number of cached results
+   * @return this
+   * @see #setDecisionResultCacheSize(int)
+   */
+  public DefaultDmnEngineConfiguration decisionResultCacheSize(int decisionResultCacheSize) {
+    setDecisionResultCacheSize(decisionResultCacheSize);
+    return this;
+  }
+
+  /**
+   * @return the executor which evaluates independent required decisions concurrently,
+   * {@code null} if required decisions are evaluated one after another
+   */
+  public Executor getRequiredDecisionsExecutor() {
+    return requiredDecisionsExecutor;
+  }
+
+  /**
+   * Set the executor which evaluates independent required decisions concurrently.
+   * The required decisions of a decision requirements graph are grouped into levels,
+   * the decisions of a level only require decisions of lower levels. The decisions of
+   * a level are evaluated concurrently and their results are added to the variables of
+   * the next level in the same order as for a sequential evaluation. The decision table
+   * evaluation listeners are notified by the calling thread in the order of the decision
+   * requirements graph, after the decisions of a level are evaluated.
+   *
+   * <p>Unlike in a sequential evaluation, a decision does not see the results of other
+   * decisions of its level, so it must only use results of decisions it requires. If a
+   * result of a required decision has the same name as an input variable or as a result
+   * of another required decision, the decisions are evaluated one after another.</p>
+   *
+   * <p>The expressions of the decisions must not depend on the evaluating thread.
+   * If no executor is set, the required decisions are evaluated one after another.</p>
+   *
+   * @param requiredDecisionsExecutor the executor for required decisions
+   */
+  public void setRequiredDecisionsExecutor(Executor requiredDecisionsExecutor) {
+    this.requiredDecisionsExecutor = requiredDecisionsExecutor;
+  }
+
+  /**
+   * Set the executor which evaluates independent required decisions concurrently.
+   *
+   * @param requiredDecisionsExecutor the executor for required decisions
+   * @return this
+   * @see #setRequiredDecisionsExecutor(Executor)
+   */
+  public DefaultDmnEngineConfiguration requiredDecisionsExecutor(Executor requiredDecisionsExecutor) {
+    setRequiredDecisionsExecutor(requiredDecisionsExecutor);
+    return this;
+  }
+
 }
@@ -20,6 +20,8 @@ import java.util.ArrayList;
 import java.util.List;
 
 import org.camunda.bpm.dmn.engine.DmnDecisionLogic;
+import org.camunda.bpm.dmn.engine.impl.evaluation.DecisionResultCache;
+import org.camunda.bpm.dmn.engine.impl.evaluation.DecisionTableIndex;
 import org.camunda.bpm.dmn.engine.impl.hitpolicy.DefaultHitPolicyHandlerRegistry;
 import org.camunda.bpm.dmn.engine.impl.spi.hitpolicy.DmnHitPolicyHandler;
 import org.camunda.bpm.model.dmn.BuiltinAggregator;
@@ -33,6 +35,9 @@ public class DmnDecisionTableImpl implements DmnDecisionLogic {
   protected List<DmnDecisionTableOutputImpl> outputs = new ArrayList<DmnDecisionTableOutputImpl>();
   protected List<DmnDecisionTableRuleImpl> rules = new ArrayList<DmnDecisionTableRuleImpl>();
 
+  protected DecisionTableIndex index;
+  protected DecisionResultCache resultCache;
+
   public DmnHitPolicyHandler getHitPolicyHandler() {
     return hitPolicyHandler;
   }
@@ -65,6 +70,22 @@ public class DmnDecisionTableImpl implements DmnDecisionLogic {
     this.rules = rules;
   }
 
+  public DecisionTableIndex getIndex() {
+    return index;
+  }
+
+  public void setIndex(DecisionTableIndex index) {
+    this.index = index;
+  }
+
+  public DecisionResultCache getResultCache() {
+    return resultCache;
+  }
+
+  public void setResultCache(DecisionResultCache resultCache) {
+    this.resultCache = resultCache;
+  }
+
   @Override
   public String toString() {
     return "DmnDecisionTableImpl{" +
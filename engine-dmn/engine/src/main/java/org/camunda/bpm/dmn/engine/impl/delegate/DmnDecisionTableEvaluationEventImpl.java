@@ -34,6 +34,12 @@ public class DmnDecisionTableEvaluationEventImpl implements DmnDecisionTableEval
   protected TypedValue collectResultValue;
   protected long executedDecisionElements;
 
+  /**
+   * Whether the matching rules were taken from the result cache of the decision table,
+   * {@code null} if the result cache was not used
+   */
+  protected Boolean resultCacheHit;
+
   public DmnDecision getDecisionTable() {
     return getDecision();
   }
@@ -86,6 +92,14 @@ public class DmnDecisionTableEvaluationEventImpl implements DmnDecisionTableEval
     this.executedDecisionElements = executedDecisionElements;
   }
 
+  public Boolean getResultCacheHit() {
+    return resultCacheHit;
+  }
+
+  public void setResultCacheHit(Boolean resultCacheHit) {
+    this.resultCacheHit = resultCacheHit;
+  }
+
   @Override
   public String toString() {
     return "DmnDecisionTableEvaluationEventImpl{" +
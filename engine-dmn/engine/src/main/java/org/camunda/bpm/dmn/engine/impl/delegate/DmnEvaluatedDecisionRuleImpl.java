@@ -31,6 +31,10 @@ public class DmnEvaluatedDecisionRuleImpl implements DmnEvaluatedDecisionRule {
     this.id = matchingRule.getId();
   }
 
+  public DmnEvaluatedDecisionRuleImpl(String id) {
+    this.id = id;
+  }
+
   public String getId() {
     return id;
   }
@@ -33,6 +33,13 @@ public class DmnEvaluatedOutputImpl implements DmnEvaluatedOutput {
     this.outputName = decisionTableOutput.getOutputName();
     this.value = value;
   }
+
+  public DmnEvaluatedOutputImpl(String id, String name, String outputName, TypedValue value) {
+    this.id = id;
+    this.name = name;
+    this.outputName = outputName;
+    this.value = value;
+  }
   public String getId() {
     return id;
   }
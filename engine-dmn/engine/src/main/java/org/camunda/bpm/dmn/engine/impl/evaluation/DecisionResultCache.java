@@ -0,0 +1,325 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.dmn.engine.impl.evaluation;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.OffsetDateTime;
+import java.time.OffsetTime;
+import java.time.Period;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.camunda.bpm.dmn.engine.delegate.DmnEvaluatedDecisionRule;
+import org.camunda.bpm.dmn.engine.delegate.DmnEvaluatedOutput;
+import org.camunda.bpm.dmn.engine.impl.delegate.DmnEvaluatedDecisionRuleImpl;
+import org.camunda.bpm.dmn.engine.impl.delegate.DmnEvaluatedOutputImpl;
+import org.camunda.bpm.engine.variable.Variables;
+import org.camunda.bpm.engine.variable.type.ValueType;
+import org.camunda.bpm.engine.variable.value.TypedValue;
+
+/**
+ * <p>Caches the matching rules of a decision table by the values of its inputs, so that
+ * the input entries and output entries are not evaluated again for the same input values.</p>
+ *
+ * <p>A cache belongs to a single parsed decision table. Deploying a new version of the
+ * decision creates a new decision table with an empty cache, so the cached results never
+ * outlive the decision they were evaluated for. The cache only returns correct results if
+ * the input entries and output entries of the decision table depend on nothing but the
+ * input values, e.g. they must not reference other variables or the current time.</p>
+ *
+ * <p>The cache is bounded and evicts the least recently used entry when it is full. Input
+ * and output values that are not immutable (see {@link #isCacheable(Object)}) are never
+ * cached. The cache keeps snapshots of the matching rules and returns new rules, outputs
+ * and values for every hit, so callers cannot change the cached results.</p>
+ */
+public class DecisionResultCache {
+
+  protected static final Set<Class<?>> IMMUTABLE_VALUE_TYPES = new HashSet<>(Arrays.<Class<?>>asList(
+      String.class, Boolean.class, Character.class,
+      Byte.class, Short.class, Integer.class, Long.class, Float.class, Double.class,
+      BigDecimal.class, BigInteger.class,
+      LocalDate.class, LocalTime.class, LocalDateTime.class, OffsetTime.class, OffsetDateTime.class,
+      ZonedDateTime.class, Instant.class, Duration.class, Period.class));
+
+  protected final int maxSize;
+  protected final Map<Key, List<CachedRule>> entries;
+
+  protected final LongAdder hits = new LongAdder();
+  protected final LongAdder misses = new LongAdder();
+  protected final LongAdder evictions = new LongAdder();
+
+  public DecisionResultCache(int maxSize) {
+    if (maxSize <= 0) {
+      throw new IllegalArgumentException("The size of the decision result cache must be positive but was " + maxSize);
+    }
+    this.maxSize = maxSize;
+    this.entries = new LinkedHashMap<Key, List<CachedRule>>(16, 0.75f, true) {
+      private static final long serialVersionUID = 1L;
+
+      @Override
+      protected boolean removeEldestEntry(Map.Entry<Key, List<CachedRule>> eldest) {
+        boolean evict = size() > DecisionResultCache.this.maxSize;
+        if (evict) {
+          evictions.increment();
+        }
+        return evict;
+      }
+    };
+  }
+
+  /**
+   * @return the key for the given input values or {@code null} if one of the values
+   * cannot be cached
+   */
+  public Key createKey(Object[] inputValues) {
+    Object[] values = new Object[inputValues.length];
+    for (int i = 0; i < inputValues.length; i++) {
+      Object value = inputValues[i];
+      if (!isCacheable(value)) {
+        return null;
+      }
+      values[i] = copyValue(value);
+    }
+    return new Key(values);
+  }
+
+  /**
+   * @return the cached matching rules of the input values or {@code null} if they are
+   * not cached
+   */
+  public List<DmnEvaluatedDecisionRule> get(Key key) {
+    List<CachedRule> cachedRules;
+    synchronized (entries) {
+      cachedRules = entries.get(key);
+    }
+
+    if (cachedRules == null) {
+      misses.increment();
+      return null;
+    }
+
+    hits.increment();
+    List<DmnEvaluatedDecisionRule> matchingRules = new ArrayList<>(cachedRules.size());
+    for (CachedRule cachedRule : cachedRules) {
+      matchingRules.add(cachedRule.toEvaluatedRule());
+    }
+    return matchingRules;
+  }
+
+  /**
+   * Caches a snapshot of the matching rules, unless an output value is not immutable.
+   */
+  public void put(Key key, List<DmnEvaluatedDecisionRule> matchingRules) {
+    List<CachedRule> cachedRules = new ArrayList<>(matchingRules.size());
+    for (DmnEvaluatedDecisionRule matchingRule : matchingRules) {
+      CachedRule cachedRule = CachedRule.of(matchingRule);
+      if (cachedRule == null) {
+        return;
+      }
+      cachedRules.add(cachedRule);
+    }
+
+    synchronized (entries) {
+      entries.put(key, Collections.unmodifiableList(cachedRules));
+    }
+  }
+
+  public void clear() {
+    synchronized (entries) {
+      entries.clear();
+    }
+  }
+
+  public int size() {
+    synchronized (entries) {
+      return entries.size();
+    }
+  }
+
+  public int getMaxSize() {
+    return maxSize;
+  }
+
+  public long getHitCount() {
+    return hits.sum();
+  }
+
+  public long getMissCount() {
+    return misses.sum();
+  }
+
+  public long getEvictionCount() {
+    return evictions.sum();
+  }
+
+  /**
+   * @return the ratio of lookups that found a cached result, {@code 0} if there was no lookup yet
+   */
+  public double getHitRate() {
+    long hitCount = hits.sum();
+    long lookups = hitCount + misses.sum();
+    return lookups == 0 ? 0 : (double) hitCount / lookups;
+  }
+
+  /**
+   * @return whether the value is immutable and can be part of a cache key
+   */
+  public static boolean isCacheable(Object value) {
+    return value == null
+        || value instanceof Enum
+        || value.getClass() == Date.class
+        || IMMUTABLE_VALUE_TYPES.contains(value.getClass());
+  }
+
+  protected static Object copyValue(Object value) {
+    // dates are mutable, keep a copy
+    return value instanceof Date ? new Date(((Date) value).getTime()) : value;
+  }
+
+  @Override
+  public String toString() {
+    return "DecisionResultCache{" +
+      "maxSize=" + maxSize +
+      ", size=" + size() +
+      ", hits=" + getHitCount() +
+      ", misses=" + getMissCount() +
+      ", evictions=" + getEvictionCount() +
+      '}';
+  }
+
+  public static class Key {
+
+    protected final Object[] values;
+    protected final int hashCode;
+
+    protected Key(Object[] values) {
+      this.values = values;
+      this.hashCode = Arrays.hashCode(values);
+    }
+
+    @Override
+    public int hashCode() {
+      return hashCode;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (this == obj) {
+        return true;
+      }
+      if (!(obj instanceof Key)) {
+        return false;
+      }
+      Key other = (Key) obj;
+      return hashCode == other.hashCode && Arrays.equals(values, other.values);
+    }
+
+    @Override
+    public String toString() {
+      return Arrays.toString(values);
+    }
+  }
+
+  protected static class CachedRule {
+
+    protected final String id;
+    protected final List<CachedOutput> outputs;
+
+    protected CachedRule(String id, List<CachedOutput> outputs) {
+      this.id = id;
+      this.outputs = outputs;
+    }
+
+    /**
+     * @return the snapshot of the rule or {@code null} if an output value is not immutable
+     */
+    protected static CachedRule of(DmnEvaluatedDecisionRule rule) {
+      List<CachedOutput> outputs = new ArrayList<>();
+      for (DmnEvaluatedOutput output : rule.getOutputEntries().values()) {
+        TypedValue value = output.getValue();
+        if (value != null && !isCacheable(value.getValue())) {
+          return null;
+        }
+        outputs.add(new CachedOutput(output, value));
+      }
+      return new CachedRule(rule.getId(), outputs);
+    }
+
+    protected DmnEvaluatedDecisionRule toEvaluatedRule() {
+      Map<String, DmnEvaluatedOutput> outputEntries = new LinkedHashMap<>();
+      for (CachedOutput output : outputs) {
+        DmnEvaluatedOutput evaluatedOutput = output.toEvaluatedOutput();
+        outputEntries.put(evaluatedOutput.getOutputName(), evaluatedOutput);
+      }
+
+      DmnEvaluatedDecisionRuleImpl evaluatedRule = new DmnEvaluatedDecisionRuleImpl(id);
+      evaluatedRule.setOutputEntries(outputEntries);
+      return evaluatedRule;
+    }
+  }
+
+  protected static class CachedOutput {
+
+    protected final String id;
+    protected final String name;
+    protected final String outputName;
+    protected final boolean hasValue;
+    protected final ValueType type;
+    protected final Object value;
+    protected final Map<String, Object> valueInfo;
+
+    protected CachedOutput(DmnEvaluatedOutput output, TypedValue typedValue) {
+      this.id = output.getId();
+      this.name = output.getName();
+      this.outputName = output.getOutputName();
+      this.hasValue = typedValue != null;
+      this.type = typedValue != null ? typedValue.getType() : null;
+      this.value = typedValue != null ? copyValue(typedValue.getValue()) : null;
+      this.valueInfo = type != null ? type.getValueInfo(typedValue) : null;
+    }
+
+    protected DmnEvaluatedOutput toEvaluatedOutput() {
+      return new DmnEvaluatedOutputImpl(id, name, outputName, createTypedValue());
+    }
+
+    protected TypedValue createTypedValue() {
+      if (!hasValue) {
+        return null;
+      } else if (type == null) {
+        return Variables.untypedValue(copyValue(value));
+      } else {
+        return type.createValue(copyValue(value), valueInfo);
+      }
+    }
+  }
+
+}
@@ -16,7 +16,10 @@
  */
 package org.camunda.bpm.dmn.engine.impl.evaluation;
 
+import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -42,6 +45,7 @@ import org.camunda.bpm.dmn.engine.impl.delegate.DmnDecisionTableEvaluationEventI
 import org.camunda.bpm.dmn.engine.impl.delegate.DmnEvaluatedDecisionRuleImpl;
 import org.camunda.bpm.dmn.engine.impl.delegate.DmnEvaluatedInputImpl;
 import org.camunda.bpm.dmn.engine.impl.delegate.DmnEvaluatedOutputImpl;
+import org.camunda.bpm.dmn.engine.impl.evaluation.DecisionTableIndex.InputIndex;
 import org.camunda.bpm.dmn.feel.impl.FeelEngine;
 import org.camunda.bpm.engine.variable.Variables;
 import org.camunda.bpm.engine.variable.context.VariableContext;
@@ -61,6 +65,9 @@ public class DecisionTableEvaluationHandler implements DmnDecisionLogicEvaluatio
 
   protected final boolean returnBlankTableOutputAsNull;
 
+  protected final boolean useDecisionTableIndex;
+  protected final boolean feelLegacyBehavior;
+
   public DecisionTableEvaluationHandler(DefaultDmnEngineConfiguration configuration) {
     expressionEvaluationHandler = new ExpressionEvaluationHandler(configuration);
     feelEngine = configuration.getFeelEngine();
@@ -71,10 +78,26 @@ public class DecisionTableEvaluationHandler implements DmnDecisionLogicEvaluatio
     inputEntryExpressionLanguage = configuration.getDefaultInputEntryExpressionLanguage();
     outputEntryExpressionLanguage = configuration.getDefaultOutputEntryExpressionLanguage();
     returnBlankTableOutputAsNull = configuration.isReturnBlankTableOutputAsNull();
+
+    // the input entries of the index are FEEL simple unary tests
+    feelLegacyBehavior = configuration.isEnableFeelLegacyBehavior();
+    useDecisionTableIndex = inputEntryExpressionLanguage != null
+        && expressionEvaluationHandler.isFeelExpressionLanguage(inputEntryExpressionLanguage);
   }
 
   @Override
   public DmnDecisionLogicEvaluationEvent evaluate(DmnDecision decision, VariableContext variableContext) {
+    DmnDecisionTableEvaluationEventImpl evaluationResult = evaluateWithoutNotification(decision, variableContext);
+    notifyListeners(evaluationResult);
+
+    return evaluationResult;
+  }
+
+  /**
+   * Evaluates the decision table like {@link #evaluate(DmnDecision, VariableContext)} but
+   * does not notify the evaluation listeners, see {@link #notifyListeners(DmnDecisionTableEvaluationEventImpl)}.
+   */
+  public DmnDecisionTableEvaluationEventImpl evaluateWithoutNotification(DmnDecision decision, VariableContext variableContext) {
     DmnDecisionTableEvaluationEventImpl evaluationResult = new DmnDecisionTableEvaluationEventImpl();
     evaluationResult.setDecisionTable(decision);
 
@@ -86,12 +109,13 @@ public class DecisionTableEvaluationHandler implements DmnDecisionLogicEvaluatio
     // apply hit policy
     decisionTable.getHitPolicyHandler().apply(evaluationResult);
 
-    // notify listeners
+    return evaluationResult;
+  }
+
+  public void notifyListeners(DmnDecisionTableEvaluationEventImpl evaluationResult) {
     for (DmnDecisionTableEvaluationListener evaluationListener : evaluationListeners) {
       evaluationListener.notify(evaluationResult);
     }
-
-    return evaluationResult;
   }
 
   protected long calculateExecutedDecisionElements(DmnDecisionTableImpl decisionTable) {
@@ -99,13 +123,54 @@ public class DecisionTableEvaluationHandler implements DmnDecisionLogicEvaluatio
   }
 
   protected void evaluateDecisionTable(DmnDecisionTableImpl decisionTable, VariableContext variableContext, DmnDecisionTableEvaluationEventImpl evaluationResult) {
+    for (DmnDecisionTableInputImpl input : decisionTable.getInputs()) {
+      DmnEvaluatedInput evaluatedInput = evaluateInput(input, variableContext);
+      evaluationResult.getInputs().add(evaluatedInput);
+    }
+
+    DecisionResultCache resultCache = decisionTable.getResultCache();
+    DecisionResultCache.Key cacheKey = null;
+    if (resultCache != null) {
+      cacheKey = resultCache.createKey(getInputValues(evaluationResult.getInputs()));
+    }
+
+    if (cacheKey != null) {
+      List<DmnEvaluatedDecisionRule> cachedMatchingRules = resultCache.get(cacheKey);
+      evaluationResult.setResultCacheHit(cachedMatchingRules != null);
+      if (cachedMatchingRules != null) {
+        evaluationResult.setMatchingRules(new ArrayList<DmnEvaluatedDecisionRule>(cachedMatchingRules));
+        return;
+      }
+    }
+
+    List<DmnDecisionTableRuleImpl> matchingRules;
+    if (useDecisionTableIndex && decisionTable.getIndex() != null) {
+      matchingRules = findIndexedMatchingRules(decisionTable, decisionTable.getIndex(), variableContext, evaluationResult.getInputs());
+    } else {
+      matchingRules = findMatchingRules(decisionTable, variableContext, evaluationResult.getInputs());
+    }
+
+    setEvaluationOutput(decisionTable, matchingRules, variableContext, evaluationResult);
+
+    if (cacheKey != null) {
+      resultCache.put(cacheKey, new ArrayList<DmnEvaluatedDecisionRule>(evaluationResult.getMatchingRules()));
+    }
+  }
+
+  protected Object[] getInputValues(List<DmnEvaluatedInput> evaluatedInputs) {
+    Object[] inputValues = new Object[evaluatedInputs.size()];
+    for (int inputIdx = 0; inputIdx < inputValues.length; inputIdx++) {
+      inputValues[inputIdx] = evaluatedInputs.get(inputIdx).getValue().getValue();
+    }
+    return inputValues;
+  }
+
+  protected List<DmnDecisionTableRuleImpl> findMatchingRules(DmnDecisionTableImpl decisionTable, VariableContext variableContext, List<DmnEvaluatedInput> evaluatedInputs) {
     int inputSize = decisionTable.getInputs().size();
     List<DmnDecisionTableRuleImpl> matchingRules = new ArrayList<DmnDecisionTableRuleImpl>(decisionTable.getRules());
     for (int inputIdx = 0; inputIdx < inputSize; inputIdx++) {
-      // evaluate input
       DmnDecisionTableInputImpl input = decisionTable.getInputs().get(inputIdx);
-      DmnEvaluatedInput evaluatedInput = evaluateInput(input, variableContext);
-      evaluationResult.getInputs().add(evaluatedInput);
+      DmnEvaluatedInput evaluatedInput = evaluatedInputs.get(inputIdx);
 
       // compose local variable context out of global variable context enhanced with the value of the current input.
       VariableContext localVariableContext = getLocalVariableContext(input, evaluatedInput, variableContext);
@@ -114,7 +179,60 @@ public class DecisionTableEvaluationHandler implements DmnDecisionLogicEvaluatio
       matchingRules = evaluateInputForAvailableRules(inputIdx, input, matchingRules, localVariableContext);
     }
 
-    setEvaluationOutput(decisionTable, matchingRules, variableContext, evaluationResult);
+    return matchingRules;
+  }
+
+  protected List<DmnDecisionTableRuleImpl> findIndexedMatchingRules(DmnDecisionTableImpl decisionTable, DecisionTableIndex index, VariableContext variableContext, List<DmnEvaluatedInput> evaluatedInputs) {
+    List<DmnDecisionTableRuleImpl> rules = decisionTable.getRules();
+    int inputSize = decisionTable.getInputs().size();
+    BitSet matchingRules = index.allRules();
+    for (int inputIdx = 0; inputIdx < inputSize; inputIdx++) {
+      DmnDecisionTableInputImpl input = decisionTable.getInputs().get(inputIdx);
+      DmnEvaluatedInput evaluatedInput = evaluatedInputs.get(inputIdx);
+
+      VariableContext localVariableContext = getLocalVariableContext(input, evaluatedInput, variableContext);
+
+      InputIndex inputIndex = index.getInputIndex(inputIdx);
+      Object inputValue = evaluatedInput.getValue().getValue();
+      BitSet indexedMatchingRules = null;
+      if (isIndexedLookupSupported(inputValue)) {
+        indexedMatchingRules = inputIndex.findMatchingRules(inputValue);
+      }
+
+      // the rules whose input entries must be evaluated
+      BitSet rulesToEvaluate = (BitSet) matchingRules.clone();
+      if (indexedMatchingRules != null) {
+        rulesToEvaluate.and(inputIndex.getUnindexedRules());
+        matchingRules.and(indexedMatchingRules);
+      } else {
+        // the input value cannot be looked up
+        matchingRules.clear();
+      }
+
+      for (int ruleIdx = rulesToEvaluate.nextSetBit(0); ruleIdx >= 0; ruleIdx = rulesToEvaluate.nextSetBit(ruleIdx + 1)) {
+        DmnExpressionImpl condition = rules.get(ruleIdx).getConditions().get(inputIdx);
+        if (isConditionApplicable(input, condition, localVariableContext)) {
+          matchingRules.set(ruleIdx);
+        }
+      }
+    }
+
+    List<DmnDecisionTableRuleImpl> matchingRuleList = new ArrayList<>();
+    for (int ruleIdx = matchingRules.nextSetBit(0); ruleIdx >= 0; ruleIdx = matchingRules.nextSetBit(ruleIdx + 1)) {
+      matchingRuleList.add(rules.get(ruleIdx));
+    }
+
+    return matchingRuleList;
+  }
+
+  /**
+   * The legacy FEEL engine compares big numbers with {@link BigDecimal#equals(Object)},
+   * which depends on the scale, e.g. <code>7.0</code> does not equal <code>7</code>.
+   * The index compares the numeric values, so these inputs are evaluated instead.
+   */
+  protected boolean isIndexedLookupSupported(Object inputValue) {
+    return !feelLegacyBehavior
+        || !(inputValue instanceof BigDecimal || inputValue instanceof BigInteger);
   }
 
   protected DmnEvaluatedInput evaluateInput(DmnDecisionTableInputImpl input, VariableContext variableContext) {
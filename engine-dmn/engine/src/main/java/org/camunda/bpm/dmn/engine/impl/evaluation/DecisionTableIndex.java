@@ -0,0 +1,184 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.dmn.engine.impl.evaluation;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.camunda.bpm.dmn.engine.impl.DmnDecisionTableImpl;
+import org.camunda.bpm.dmn.engine.impl.DmnDecisionTableRuleImpl;
+import org.camunda.bpm.dmn.engine.impl.DmnExpressionImpl;
+import org.camunda.bpm.dmn.engine.impl.evaluation.SimpleUnaryTests.NumberRange;
+import org.camunda.bpm.dmn.engine.impl.evaluation.SimpleUnaryTests.ValueKind;
+
+/**
+ * <p>Indexes the input entries of a decision table by the values they accept, so that
+ * the rules matching an input value can be looked up instead of evaluating the input
+ * entries of all rules.</p>
+ *
+ * <p>For each input, the entries that are FEEL simple unary tests of literals, number
+ * comparisons or number intervals (see {@link SimpleUnaryTests}) are indexed by value
+ * and by range. The remaining entries are not indexed and must still be evaluated for
+ * the rules that are not yet excluded. The rules are identified by their position in
+ * the decision table, so the order of the matching rules is kept.</p>
+ */
+public class DecisionTableIndex {
+
+  protected final int ruleCount;
+  protected final List<InputIndex> inputIndexes = new ArrayList<>();
+
+  public DecisionTableIndex(DmnDecisionTableImpl decisionTable) {
+    List<DmnDecisionTableRuleImpl> rules = decisionTable.getRules();
+    ruleCount = rules.size();
+
+    for (int inputIdx = 0; inputIdx < decisionTable.getInputs().size(); inputIdx++) {
+      InputIndex inputIndex = new InputIndex();
+      for (int ruleIdx = 0; ruleIdx < ruleCount; ruleIdx++) {
+        inputIndex.addEntry(ruleIdx, rules.get(ruleIdx).getConditions().get(inputIdx));
+      }
+      inputIndex.sortRanges();
+      inputIndexes.add(inputIndex);
+    }
+  }
+
+  /**
+   * @return a set of all rules of the decision table
+   */
+  public BitSet allRules() {
+    BitSet rules = new BitSet(ruleCount);
+    rules.set(0, ruleCount);
+    return rules;
+  }
+
+  public InputIndex getInputIndex(int inputIdx) {
+    return inputIndexes.get(inputIdx);
+  }
+
+  /**
+   * The index of the input entries of one input of the decision table.
+   */
+  public static class InputIndex {
+
+    protected ValueKind kind;
+
+    protected final BitSet wildcardRules = new BitSet();
+    protected final BitSet unindexedRules = new BitSet();
+    protected final Map<Object, BitSet> valueRules = new HashMap<>();
+    protected final List<RangeEntry> rangeEntries = new ArrayList<>();
+
+    protected void addEntry(int ruleIdx, DmnExpressionImpl condition) {
+      String expression = condition.getExpression();
+      if (expression == null || expression.trim().isEmpty()) {
+        // input entries without expression are true
+        wildcardRules.set(ruleIdx);
+        return;
+      }
+
+      // only input entries of the default expression language are indexed
+      SimpleUnaryTests unaryTests = condition.getExpressionLanguage() == null ? SimpleUnaryTests.parse(expression) : null;
+
+      if (unaryTests == null) {
+        unindexedRules.set(ruleIdx);
+
+      } else if (unaryTests.isWildcard()) {
+        wildcardRules.set(ruleIdx);
+
+      } else if (kind != null && kind != unaryTests.getKind()) {
+        // the entries of other kinds are evaluated, e.g. to report a type mismatch
+        unindexedRules.set(ruleIdx);
+
+      } else {
+        kind = unaryTests.getKind();
+        for (Object value : unaryTests.getValues()) {
+          valueRules.computeIfAbsent(value, key -> new BitSet()).set(ruleIdx);
+        }
+        for (NumberRange range : unaryTests.getRanges()) {
+          rangeEntries.add(new RangeEntry(ruleIdx, range));
+        }
+      }
+    }
+
+    protected void sortRanges() {
+      // ascending by lower endpoint, unbounded and inclusive endpoints first
+      rangeEntries.sort(Comparator
+          .comparing((RangeEntry entry) -> entry.range.getLower(), Comparator.nullsFirst(Comparator.<BigDecimal>naturalOrder()))
+          .thenComparing(entry -> !entry.range.lowerInclusive));
+    }
+
+    /**
+     * @return the rules whose indexed input entries are satisfied by the given value,
+     *   including the rules with wildcard entries, or <code>null</code> if the value
+     *   cannot be looked up and all input entries must be evaluated
+     */
+    public BitSet findMatchingRules(Object value) {
+      BitSet matchingRules = (BitSet) wildcardRules.clone();
+      if (kind == null) {
+        // only wildcard and unindexed entries
+        return matchingRules;
+      }
+
+      Object key = kind.toKey(value);
+      if (key == null) {
+        return null;
+      }
+
+      BitSet valueMatches = valueRules.get(key);
+      if (valueMatches != null) {
+        matchingRules.or(valueMatches);
+      }
+
+      if (!rangeEntries.isEmpty()) {
+        BigDecimal number = (BigDecimal) key;
+        for (RangeEntry rangeEntry : rangeEntries) {
+          if (!rangeEntry.range.isAboveLower(number)) {
+            // the following ranges start above the number, too
+            break;
+          }
+          if (rangeEntry.range.isBelowUpper(number)) {
+            matchingRules.set(rangeEntry.ruleIdx);
+          }
+        }
+      }
+
+      return matchingRules;
+    }
+
+    /**
+     * @return the rules whose input entries are not indexed and must be evaluated
+     */
+    public BitSet getUnindexedRules() {
+      return unindexedRules;
+    }
+  }
+
+  protected static class RangeEntry {
+
+    protected final int ruleIdx;
+    protected final NumberRange range;
+
+    protected RangeEntry(int ruleIdx, NumberRange range) {
+      this.ruleIdx = ruleIdx;
+      this.range = range;
+    }
+  }
+
+}
@@ -0,0 +1,263 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.dmn.engine.impl.evaluation;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * <p>The analysis of a FEEL simple unary tests input entry that can be checked
+ * without evaluating the expression, i.e. a disjunction of literals, comparisons
+ * with a number and intervals with number endpoints, or <code>-</code>.</p>
+ *
+ * <p>Only expressions that all FEEL engines evaluate the same way for inputs of the
+ * {@link ValueKind} of the literals are analyzed. The values of other inputs are not
+ * indexable and must be checked by evaluating the expression.</p>
+ */
+public class SimpleUnaryTests {
+
+  protected static final Pattern STRING_PATTERN = Pattern.compile("^\"([^\"\\\\,]*)\"$");
+  protected static final Pattern NUMBER_PATTERN = Pattern.compile("^-?(0|[1-9]\\d*)(\\.\\d+)?$");
+  protected static final Pattern COMPARISON_PATTERN = Pattern.compile("^(<=|>=|<|>)\\s*([^=].*)$");
+  protected static final Pattern INTERVAL_PATTERN = Pattern.compile("^(\\(|\\[|\\])\\s*([^.\\s]+)\\s*\\.\\.\\s*([^.\\s]+)\\s*(\\)|\\]|\\[)$");
+
+  protected boolean wildcard;
+  protected ValueKind kind;
+  protected List<Object> values = new ArrayList<>();
+  protected List<NumberRange> ranges = new ArrayList<>();
+
+  /**
+   * @return the analyzed unary tests or <code>null</code> if the expression cannot be indexed
+   */
+  public static SimpleUnaryTests parse(String expression) {
+    String trimmedExpression = expression.trim();
+
+    SimpleUnaryTests unaryTests = new SimpleUnaryTests();
+    if ("-".equals(trimmedExpression)) {
+      unaryTests.wildcard = true;
+      return unaryTests;
+    }
+
+    for (String test : trimmedExpression.split(",", -1)) {
+      if (!unaryTests.parseTest(test.trim())) {
+        return null;
+      }
+    }
+
+    return unaryTests;
+  }
+
+  protected boolean parseTest(String test) {
+    Matcher stringMatcher = STRING_PATTERN.matcher(test);
+    if (stringMatcher.matches()) {
+      return addValue(ValueKind.STRING, stringMatcher.group(1));
+    }
+
+    if ("true".equals(test) || "false".equals(test)) {
+      return addValue(ValueKind.BOOLEAN, Boolean.valueOf(test));
+    }
+
+    if (NUMBER_PATTERN.matcher(test).matches()) {
+      return addValue(ValueKind.NUMBER, ValueKind.NUMBER.toKey(new BigDecimal(test)));
+    }
+
+    Matcher comparisonMatcher = COMPARISON_PATTERN.matcher(test);
+    if (comparisonMatcher.matches()) {
+      BigDecimal number = parseNumber(comparisonMatcher.group(2).trim());
+      if (number == null) {
+        return false;
+      }
+      switch (comparisonMatcher.group(1)) {
+        case "<":
+          return addRange(new NumberRange(null, false, number, false));
+        case "<=":
+          return addRange(new NumberRange(null, false, number, true));
+        case ">":
+          return addRange(new NumberRange(number, false, null, false));
+        default:
+          return addRange(new NumberRange(number, true, null, false));
+      }
+    }
+
+    Matcher intervalMatcher = INTERVAL_PATTERN.matcher(test);
+    if (intervalMatcher.matches()) {
+      BigDecimal lower = parseNumber(intervalMatcher.group(2));
+      BigDecimal upper = parseNumber(intervalMatcher.group(3));
+      if (lower == null || upper == null) {
+        return false;
+      }
+      boolean lowerInclusive = "[".equals(intervalMatcher.group(1));
+      boolean upperInclusive = "]".equals(intervalMatcher.group(4));
+      return addRange(new NumberRange(lower, lowerInclusive, upper, upperInclusive));
+    }
+
+    return false;
+  }
+
+  protected BigDecimal parseNumber(String text) {
+    if (NUMBER_PATTERN.matcher(text).matches()) {
+      return new BigDecimal(text);
+    } else {
+      return null;
+    }
+  }
+
+  protected boolean addValue(ValueKind valueKind, Object value) {
+    if (!setKind(valueKind)) {
+      return false;
+    }
+    values.add(value);
+    return true;
+  }
+
+  protected boolean addRange(NumberRange range) {
+    if (!setKind(ValueKind.NUMBER)) {
+      return false;
+    }
+    ranges.add(range);
+    return true;
+  }
+
+  protected boolean setKind(ValueKind valueKind) {
+    if (kind == null) {
+      kind = valueKind;
+    }
+    // the tests of an entry must be of the same kind
+    return kind == valueKind;
+  }
+
+  public boolean isWildcard() {
+    return wildcard;
+  }
+
+  public ValueKind getKind() {
+    return kind;
+  }
+
+  public List<Object> getValues() {
+    return values;
+  }
+
+  public List<NumberRange> getRanges() {
+    return ranges;
+  }
+
+  /**
+   * The kinds of values that can be indexed.
+   */
+  public enum ValueKind {
+
+    STRING {
+      @Override
+      public Object toKey(Object value) {
+        return value instanceof String ? value : null;
+      }
+    },
+
+    BOOLEAN {
+      @Override
+      public Object toKey(Object value) {
+        return value instanceof Boolean ? value : null;
+      }
+    },
+
+    NUMBER {
+      @Override
+      public Object toKey(Object value) {
+        BigDecimal number = null;
+        if (value instanceof Integer || value instanceof Short || value instanceof Byte) {
+          number = BigDecimal.valueOf(((Number) value).longValue());
+        } else if (value instanceof Long) {
+          long longValue = (Long) value;
+          // larger values may be compared as doubles by the FEEL engine
+          if (Math.abs(longValue) <= MAX_EXACT_LONG) {
+            number = BigDecimal.valueOf(longValue);
+          }
+        } else if (value instanceof Double) {
+          double doubleValue = (Double) value;
+          if (!Double.isNaN(doubleValue) && !Double.isInfinite(doubleValue)) {
+            number = BigDecimal.valueOf(doubleValue);
+          }
+        } else if (value instanceof BigDecimal) {
+          number = (BigDecimal) value;
+        } else if (value instanceof BigInteger) {
+          number = new BigDecimal((BigInteger) value);
+        }
+        return number != null ? normalize(number) : null;
+      }
+    };
+
+    protected static final long MAX_EXACT_LONG = 1L << 53;
+
+    /**
+     * @return the normalized value to look up the index with or <code>null</code> if
+     *   the value is not of this kind
+     */
+    public abstract Object toKey(Object value);
+
+    protected static BigDecimal normalize(BigDecimal number) {
+      return number.signum() == 0 ? BigDecimal.ZERO : number.stripTrailingZeros();
+    }
+  }
+
+  /**
+   * A range of numbers, unbounded if an endpoint is <code>null</code>.
+   */
+  public static class NumberRange {
+
+    protected final BigDecimal lower;
+    protected final boolean lowerInclusive;
+    protected final BigDecimal upper;
+    protected final boolean upperInclusive;
+
+    public NumberRange(BigDecimal lower, boolean lowerInclusive, BigDecimal upper, boolean upperInclusive) {
+      this.lower = lower;
+      this.lowerInclusive = lowerInclusive;
+      this.upper = upper;
+      this.upperInclusive = upperInclusive;
+    }
+
+    public boolean isAboveLower(BigDecimal number) {
+      if (lower == null) {
+        return true;
+      }
+      int comparison = number.compareTo(lower);
+      return comparison > 0 || (lowerInclusive && comparison == 0);
+    }
+
+    public boolean isBelowUpper(BigDecimal number) {
+      if (upper == null) {
+        return true;
+      }
+      int comparison = number.compareTo(upper);
+      return comparison < 0 || (upperInclusive && comparison == 0);
+    }
+
+    public BigDecimal getLower() {
+      return lower;
+    }
+
+    public BigDecimal getUpper() {
+      return upper;
+    }
+  }
+
+}
@@ -37,6 +37,8 @@ import org.camunda.bpm.dmn.engine.impl.DmnDecisionTableImpl;
 import org.camunda.bpm.dmn.engine.impl.DmnDecisionTableInputImpl;
 import org.camunda.bpm.dmn.engine.impl.DmnDecisionTableOutputImpl;
 import org.camunda.bpm.dmn.engine.impl.DmnDecisionTableRuleImpl;
+import org.camunda.bpm.dmn.engine.impl.evaluation.DecisionResultCache;
+import org.camunda.bpm.dmn.engine.impl.evaluation.DecisionTableIndex;
 import org.camunda.bpm.dmn.engine.impl.DmnExpressionImpl;
 import org.camunda.bpm.dmn.engine.impl.DmnLogger;
 import org.camunda.bpm.dmn.engine.impl.DmnVariableImpl;
@@ -269,6 +271,7 @@ public class DefaultDmnTransform implements DmnTransform, DmnElementTransformCon
 
     if (expression instanceof DecisionTable) {
       DmnDecisionTableImpl dmnDecisionTable = transformDecisionTable((DecisionTable) expression);
+      dmnDecisionTable.setResultCache(createDecisionResultCache(decision, dmnDecision));
       dmnDecision.setDecisionLogic(dmnDecisionTable);
 
     } else if (expression instanceof LiteralExpression) {
@@ -283,6 +286,32 @@ public class DefaultDmnTransform implements DmnTransform, DmnElementTransformCon
     return dmnDecision;
   }
 
+  protected DecisionResultCache createDecisionResultCache(Decision decision, DmnDecisionImpl dmnDecision) {
+    int resultCacheSize = 0;
+    if (transformer instanceof DefaultDmnTransformer) {
+      resultCacheSize = ((DefaultDmnTransformer) transformer).getDecisionResultCacheSize();
+    }
+
+    // the size of the decision overrides the default size, 0 disables the cache
+    String decisionResultCacheSize = decision.getCamundaResultCacheSize();
+    if (decisionResultCacheSize != null) {
+      try {
+        resultCacheSize = Integer.parseInt(decisionResultCacheSize.trim());
+      } catch (NumberFormatException e) {
+        throw LOG.invalidResultCacheSize(dmnDecision, decisionResultCacheSize);
+      }
+      if (resultCacheSize < 0) {
+        throw LOG.invalidResultCacheSize(dmnDecision, decisionResultCacheSize);
+      }
+    }
+
+    if (resultCacheSize > 0) {
+      return new DecisionResultCache(resultCacheSize);
+    } else {
+      return null;
+    }
+  }
+
   protected DmnDecisionTableImpl transformDecisionTable(DecisionTable decisionTable) {
     DmnElementTransformHandler<DecisionTable, DmnDecisionTableImpl> handler = handlerRegistry.getHandler(DecisionTable.class);
     DmnDecisionTableImpl dmnDecisionTable = handler.handleElement(this, decisionTable);
@@ -329,6 +358,10 @@ public class DefaultDmnTransform implements DmnTransform, DmnElementTransformCon
       }
     }
 
+    if (transformer instanceof DefaultDmnTransformer && ((DefaultDmnTransformer) transformer).isIndexDecisionTables()) {
+      dmnDecisionTable.setIndex(new DecisionTableIndex(dmnDecisionTable));
+    }
+
     return dmnDecisionTable;
   }
 
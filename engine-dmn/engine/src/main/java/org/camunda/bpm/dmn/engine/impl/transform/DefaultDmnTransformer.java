@@ -19,6 +19,8 @@ package org.camunda.bpm.dmn.engine.impl.transform;
 import java.util.ArrayList;
 import java.util.List;
 
+import org.camunda.bpm.dmn.engine.impl.evaluation.DecisionResultCache;
+import org.camunda.bpm.dmn.engine.impl.evaluation.DecisionTableIndex;
 import org.camunda.bpm.dmn.engine.impl.hitpolicy.DefaultHitPolicyHandlerRegistry;
 import org.camunda.bpm.dmn.engine.impl.spi.hitpolicy.DmnHitPolicyHandlerRegistry;
 import org.camunda.bpm.dmn.engine.impl.spi.transform.DmnElementTransformHandlerRegistry;
@@ -36,6 +38,8 @@ public class DefaultDmnTransformer implements DmnTransformer {
   protected DmnElementTransformHandlerRegistry elementTransformHandlerRegistry = new DefaultElementTransformHandlerRegistry();
   protected DmnDataTypeTransformerRegistry dataTypeTransformerRegistry = new DefaultDataTypeTransformerRegistry();
   protected DmnHitPolicyHandlerRegistry hitPolicyHandlerRegistry = new DefaultHitPolicyHandlerRegistry();
+  protected boolean indexDecisionTables = false;
+  protected int decisionResultCacheSize = 0;
 
   public DmnTransformFactory getTransformFactory() {
     return transformFactory;
@@ -93,6 +97,40 @@ public class DefaultDmnTransformer implements DmnTransformer {
     return this;
   }
 
+  /**
+   * @return whether the input entries of decision tables are indexed, see {@link DecisionTableIndex}
+   */
+  public boolean isIndexDecisionTables() {
+    return indexDecisionTables;
+  }
+
+  public void setIndexDecisionTables(boolean indexDecisionTables) {
+    this.indexDecisionTables = indexDecisionTables;
+  }
+
+  public DmnTransformer indexDecisionTables(boolean indexDecisionTables) {
+    setIndexDecisionTables(indexDecisionTables);
+    return this;
+  }
+
+  /**
+   * @return the size of the result cache of decision tables, see {@link DecisionResultCache}.
+   * Decision tables have no result cache if the size is {@code 0}, unless the decision sets
+   * a size with the {@code camunda:resultCacheSize} attribute.
+   */
+  public int getDecisionResultCacheSize() {
+    return decisionResultCacheSize;
+  }
+
+  public void setDecisionResultCacheSize(int decisionResultCacheSize) {
+    this.decisionResultCacheSize = decisionResultCacheSize;
+  }
+
+  public DmnTransformer decisionResultCacheSize(int decisionResultCacheSize) {
+    setDecisionResultCacheSize(decisionResultCacheSize);
+    return this;
+  }
+
   public DmnTransform createTransform() {
     return transformFactory.createTransform(this);
   }
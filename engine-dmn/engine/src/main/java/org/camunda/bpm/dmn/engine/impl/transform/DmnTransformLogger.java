@@ -170,4 +170,11 @@ public class DmnTransformLogger extends DmnLogger {
         decisionId));
   }
 
+  public DmnTransformException invalidResultCacheSize(DmnDecision dmnDecision, String resultCacheSize) {
+    return new DmnTransformException(exceptionMessage(
+        "019",
+        "The result cache size '{}' of decision '{}' must be a non-negative integer.",
+        resultCacheSize, dmnDecision));
+  }
+
 }
@@ -0,0 +1,130 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.dmn.engine.evaluate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.camunda.bpm.dmn.engine.DmnDecision;
+import org.camunda.bpm.dmn.engine.DmnDecisionResult;
+import org.camunda.bpm.dmn.engine.DmnEngine;
+import org.camunda.bpm.dmn.engine.DmnEngineConfiguration;
+import org.camunda.bpm.dmn.engine.delegate.DmnDecisionEvaluationEvent;
+import org.camunda.bpm.dmn.engine.delegate.DmnDecisionEvaluationListener;
+import org.camunda.bpm.dmn.engine.delegate.DmnDecisionLogicEvaluationEvent;
+import org.camunda.bpm.dmn.engine.impl.DefaultDmnEngineConfiguration;
+import org.camunda.bpm.engine.variable.VariableMap;
+import org.camunda.bpm.engine.variable.Variables;
+import org.camunda.commons.utils.IoUtil;
+import org.junit.AfterClass;
+import org.junit.Test;
+
+/**
+ * Runs the decision evaluation tests with required decisions evaluated concurrently.
+ */
+public class ConcurrentDmnDecisionEvaluationTest extends DmnDecisionEvaluationTest {
+
+  protected static final String DMN_DRG_WITH_SHADOWED_INPUT = "org/camunda/bpm/dmn/engine/evaluate/DrgWithShadowedInput.dmn";
+
+  protected static final ExecutorService EXECUTOR = Executors.newFixedThreadPool(4);
+
+  @AfterClass
+  public static void shutdownExecutor() {
+    EXECUTOR.shutdownNow();
+  }
+
+  @Override
+  public DmnEngineConfiguration getDmnEngineConfiguration() {
+    return new DefaultDmnEngineConfiguration()
+      .enableFeelLegacyBehavior(true)
+      .requiredDecisionsExecutor(EXECUTOR);
+  }
+
+  @Test
+  public void shouldCollectEvaluationEventsInOrderOfDecisionTree() {
+    // given
+    List<String> concurrentlyEvaluatedDecisions = new ArrayList<>();
+    List<String> evaluatedDecisions = new ArrayList<>();
+    DmnEngine concurrentEngine = createEngine(EXECUTOR, concurrentlyEvaluatedDecisions);
+    DmnEngine engine = createEngine(null, evaluatedDecisions);
+
+    VariableMap variables = Variables.createVariables()
+      .putValue("xx", "xx")
+      .putValue("yy", "yy")
+      .putValue("zz", "zz")
+      .putValue("ll", "ll");
+
+    // when
+    DmnDecisionResult concurrentResult = concurrentEngine.evaluateDecision(parseDecision(concurrentEngine), variables);
+    DmnDecisionResult result = engine.evaluateDecision(parseDecision(engine), variables);
+
+    // then
+    assertThat(concurrentResult.getResultList()).isEqualTo(result.getResultList());
+    assertThat(concurrentlyEvaluatedDecisions)
+      .hasSize(7)
+      .isEqualTo(evaluatedDecisions);
+  }
+
+  @Test
+  public void shouldEvaluateSequentiallyIfResultShadowsVariable() {
+    // given
+    List<String> concurrentlyEvaluatedDecisions = new ArrayList<>();
+    List<String> evaluatedDecisions = new ArrayList<>();
+    DmnEngine concurrentEngine = createEngine(EXECUTOR, concurrentlyEvaluatedDecisions);
+    DmnEngine engine = createEngine(null, evaluatedDecisions);
+
+    VariableMap variables = Variables.createVariables().putValue("x", 1);
+
+    // when
+    DmnDecisionResult concurrentResult = concurrentEngine.evaluateDecision(
+        concurrentEngine.parseDecision("result", IoUtil.fileAsStream(DMN_DRG_WITH_SHADOWED_INPUT)), variables);
+    DmnDecisionResult result = engine.evaluateDecision(
+        engine.parseDecision("result", IoUtil.fileAsStream(DMN_DRG_WITH_SHADOWED_INPUT)), variables);
+
+    // then the multiply decision sees the result of the increment decision of the same level
+    assertThat(result.getSingleEntry()).isEqualTo(20);
+    assertThat(concurrentResult.getSingleEntry()).isEqualTo(20);
+    assertThat(concurrentlyEvaluatedDecisions).isEqualTo(evaluatedDecisions);
+  }
+
+  protected DmnEngine createEngine(ExecutorService executor, List<String> evaluatedDecisions) {
+    DmnDecisionEvaluationListener listener = new DmnDecisionEvaluationListener() {
+      public void notify(DmnDecisionEvaluationEvent evaluationEvent) {
+        for (DmnDecisionLogicEvaluationEvent requiredDecisionResult : evaluationEvent.getRequiredDecisionResults()) {
+          evaluatedDecisions.add(requiredDecisionResult.getDecision().getKey());
+        }
+        evaluatedDecisions.add(evaluationEvent.getDecisionResult().getDecision().getKey());
+      }
+    };
+
+    return new DefaultDmnEngineConfiguration()
+      .enableFeelLegacyBehavior(true)
+      .requiredDecisionsExecutor(executor)
+      .customPostDecisionEvaluationListeners(Collections.singletonList(listener))
+      .buildEngine();
+  }
+
+  protected DmnDecision parseDecision(DmnEngine engine) {
+    return engine.parseDecision("A", IoUtil.fileAsStream(DMN_MULTI_LEVEL_MULTIPLE_INPUT_SINGLE_OUTPUT));
+  }
+
+}
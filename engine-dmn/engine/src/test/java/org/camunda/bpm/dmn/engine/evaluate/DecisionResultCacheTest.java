@@ -0,0 +1,205 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.dmn.engine.evaluate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.List;
+
+import org.camunda.bpm.dmn.engine.DmnDecision;
+import org.camunda.bpm.dmn.engine.DmnEngine;
+import org.camunda.bpm.dmn.engine.delegate.DmnDecisionTableEvaluationEvent;
+import org.camunda.bpm.dmn.engine.delegate.DmnDecisionTableEvaluationListener;
+import org.camunda.bpm.dmn.engine.delegate.DmnEvaluatedDecisionRule;
+import org.camunda.bpm.dmn.engine.impl.DefaultDmnEngineConfiguration;
+import org.camunda.bpm.dmn.engine.impl.DmnDecisionTableImpl;
+import org.camunda.bpm.dmn.engine.impl.delegate.DmnDecisionTableEvaluationEventImpl;
+import org.camunda.bpm.dmn.engine.impl.evaluation.DecisionResultCache;
+import org.camunda.bpm.dmn.engine.impl.transform.DmnTransformException;
+import org.camunda.bpm.engine.variable.Variables;
+import org.camunda.bpm.model.dmn.Dmn;
+import org.camunda.bpm.model.dmn.DmnModelInstance;
+import org.camunda.bpm.model.dmn.instance.Decision;
+import org.camunda.commons.utils.IoUtil;
+import org.junit.Test;
+
+public class DecisionResultCacheTest {
+
+  public static final String DMN_FILE = "org/camunda/bpm/dmn/engine/evaluate/DecisionResultCacheTest.dmn";
+
+  protected static final List<String> CATEGORIES = Arrays.asList("A", "B", "C", "A", "B", "C");
+
+  @Test
+  public void shouldCacheResultsOnlyIfEnabled() {
+    // given
+    DmnEngine engine = createEngine(false);
+    DmnEngine cachingEngine = createEngine(true);
+
+    // when
+    DecisionResultCache resultCache = getResultCache(engine.parseDecision("decision", readModel()));
+    DecisionResultCache decisionResultCache = getResultCache(engine.parseDecision("cachedDecision", readModel()));
+    DecisionResultCache enabledResultCache = getResultCache(cachingEngine.parseDecision("decision", readModel()));
+    DecisionResultCache disabledResultCache = getResultCache(cachingEngine.parseDecision("uncachedDecision", readModel()));
+
+    // then
+    assertThat(resultCache).isNull();
+    assertThat(decisionResultCache.getMaxSize()).isEqualTo(2);
+    assertThat(enabledResultCache.getMaxSize()).isEqualTo(5);
+    assertThat(disabledResultCache).isNull();
+  }
+
+  @Test
+  public void shouldReturnSameResultsAsEvaluation() {
+    // given
+    DmnEngine cachingEngine = createEngine(true);
+    DmnEngine engine = createEngine(false);
+    DmnDecision cachedDecision = cachingEngine.parseDecision("decision", readModel());
+    DmnDecision decision = engine.parseDecision("decision", readModel());
+
+    for (String category : CATEGORIES) {
+      // when
+      List<String> cachedRules = cachingEngine.evaluateDecisionTable(cachedDecision, Variables.createVariables()
+          .putValue("category", category)).collectEntries("rule");
+      List<String> rules = engine.evaluateDecisionTable(decision, Variables.createVariables()
+          .putValue("category", category)).collectEntries("rule");
+
+      // then
+      assertThat(cachedRules).describedAs("matching rules for %s", category).isEqualTo(rules);
+    }
+
+    DecisionResultCache resultCache = getResultCache(cachedDecision);
+    assertThat(resultCache.size()).isEqualTo(3);
+    assertThat(resultCache.getHitCount()).isEqualTo(3);
+    assertThat(resultCache.getMissCount()).isEqualTo(3);
+    assertThat(resultCache.getHitRate()).isEqualTo(0.5);
+  }
+
+  @Test
+  public void shouldEvictLeastRecentlyUsedResult() {
+    // given
+    DmnEngine engine = createEngine(false);
+    DmnDecision decision = engine.parseDecision("cachedDecision", readModel());
+
+    // when
+    for (String category : Arrays.asList("A", "B", "A", "C", "B")) {
+      engine.evaluateDecisionTable(decision, Variables.createVariables().putValue("category", category));
+    }
+
+    // then the result of "B" was evicted by "C" and evaluated again
+    DecisionResultCache resultCache = getResultCache(decision);
+    assertThat(resultCache.size()).isEqualTo(2);
+    assertThat(resultCache.getHitCount()).isEqualTo(1);
+    assertThat(resultCache.getMissCount()).isEqualTo(4);
+    assertThat(resultCache.getEvictionCount()).isEqualTo(2);
+  }
+
+  @Test
+  public void shouldNotifyListenersOfCachedResults() {
+    // given
+    List<Boolean> resultCacheHits = new ArrayList<>();
+    List<Object> results = new ArrayList<>();
+    DmnDecisionTableEvaluationListener listener = new DmnDecisionTableEvaluationListener() {
+      public void notify(DmnDecisionTableEvaluationEvent evaluationEvent) {
+        resultCacheHits.add(((DmnDecisionTableEvaluationEventImpl) evaluationEvent).getResultCacheHit());
+        results.add(evaluationEvent.getMatchingRules().get(0).getOutputEntries().get("rule").getValue().getValue());
+      }
+    };
+    DmnEngine engine = new DefaultDmnEngineConfiguration()
+        .customPostDecisionTableEvaluationListeners(Collections.singletonList(listener))
+        .buildEngine();
+    DmnDecision decision = engine.parseDecision("cachedDecision", readModel());
+
+    // when
+    engine.evaluateDecisionTable(decision, Variables.createVariables().putValue("category", "B"));
+    engine.evaluateDecisionTable(decision, Variables.createVariables().putValue("category", "B"));
+
+    // then
+    assertThat(resultCacheHits).containsExactly(false, true);
+    assertThat(results).containsExactly("rule2", "rule2");
+  }
+
+  @Test
+  public void shouldNotShareCachedResults() {
+    // given
+    DmnDecisionTableEvaluationListener listener = new DmnDecisionTableEvaluationListener() {
+      public void notify(DmnDecisionTableEvaluationEvent evaluationEvent) {
+        // a listener which modifies the matching rules of the evaluation
+        evaluationEvent.getMatchingRules().get(0).getOutputEntries().clear();
+      }
+    };
+    DmnEngine engine = new DefaultDmnEngineConfiguration()
+        .customPostDecisionTableEvaluationListeners(Collections.singletonList(listener))
+        .buildEngine();
+    DmnDecision decision = engine.parseDecision("cachedDecision", readModel());
+    engine.evaluateDecisionTable(decision, Variables.createVariables().putValue("category", "B"));
+
+    // when
+    DecisionResultCache resultCache = getResultCache(decision);
+    List<DmnEvaluatedDecisionRule> matchingRules = resultCache.get(resultCache.createKey(new Object[] { "B" }));
+
+    // then the cached result was not modified by the listener
+    assertThat(resultCache.getHitCount()).isEqualTo(1);
+    assertThat(matchingRules).hasSize(2);
+    assertThat(matchingRules.get(0).getOutputEntries().get("rule").getValue().getValue()).isEqualTo("rule2");
+  }
+
+  @Test
+  public void shouldFailForInvalidResultCacheSize() {
+    // given
+    DmnEngine engine = createEngine(false);
+    DmnModelInstance modelInstance = readModel();
+    Decision decision = modelInstance.getModelElementById("decision");
+    decision.setCamundaResultCacheSize("many");
+
+    // when
+    assertThatThrownBy(() -> engine.parseDecision("decision", modelInstance))
+      // then
+      .isInstanceOf(DmnTransformException.class)
+      .hasMessageContaining("DMN-02019");
+  }
+
+  @Test
+  public void shouldOnlyCacheImmutableInputValues() {
+    assertThat(DecisionResultCache.isCacheable(null)).isTrue();
+    assertThat(DecisionResultCache.isCacheable("A")).isTrue();
+    assertThat(DecisionResultCache.isCacheable(1L)).isTrue();
+    assertThat(DecisionResultCache.isCacheable(new Date())).isTrue();
+    assertThat(DecisionResultCache.isCacheable(new ArrayList<>())).isFalse();
+    assertThat(DecisionResultCache.isCacheable(new StringBuilder("A"))).isFalse();
+  }
+
+  protected DmnEngine createEngine(boolean enableDecisionResultCache) {
+    return new DefaultDmnEngineConfiguration()
+        .enableDecisionResultCache(enableDecisionResultCache)
+        .decisionResultCacheSize(5)
+        .buildEngine();
+  }
+
+  protected DmnModelInstance readModel() {
+    return Dmn.readModelFromStream(IoUtil.fileAsStream(DMN_FILE));
+  }
+
+  protected DecisionResultCache getResultCache(DmnDecision decision) {
+    return ((DmnDecisionTableImpl) decision.getDecisionLogic()).getResultCache();
+  }
+
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.dmn.engine.evaluate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+
+import org.camunda.bpm.dmn.engine.DmnDecision;
+import org.camunda.bpm.dmn.engine.DmnEngine;
+import org.camunda.bpm.dmn.engine.impl.DefaultDmnEngineConfiguration;
+import org.camunda.bpm.dmn.engine.impl.DmnDecisionTableImpl;
+import org.camunda.bpm.dmn.engine.impl.evaluation.SimpleUnaryTests;
+import org.camunda.bpm.dmn.engine.impl.evaluation.SimpleUnaryTests.ValueKind;
+import org.camunda.bpm.engine.variable.VariableMap;
+import org.camunda.bpm.engine.variable.Variables;
+import org.camunda.commons.utils.IoUtil;
+import org.junit.Test;
+
+public class DecisionTableIndexTest {
+
+  public static final String DMN_FILE = "org/camunda/bpm/dmn/engine/evaluate/DecisionTableIndexTest.dmn";
+
+  protected static final List<String> CATEGORIES = Arrays.asList("A", "B", "C", "D");
+  protected static final List<Object> AMOUNTS = Arrays.asList(-1, 0, 3, 5, 6, 7, 10, 10.5, 12, 15L, 20,
+      new BigDecimal("7.0"), 7.5f);
+  protected static final List<Boolean> FLAGS = Arrays.asList(true, false);
+
+  @Test
+  public void shouldMatchSameRulesAsEvaluation() {
+    verifyIndexedEvaluation(false);
+  }
+
+  @Test
+  public void shouldMatchSameRulesAsEvaluationWithFeelLegacyBehavior() {
+    verifyIndexedEvaluation(true);
+  }
+
+  @Test
+  public void shouldIndexDecisionTableOnlyIfEnabled() {
+    // when
+    DmnDecision indexedDecision = parseDecision(createEngine(true, false));
+    DmnDecision decision = parseDecision(createEngine(false, false));
+
+    // then
+    assertThat(((DmnDecisionTableImpl) indexedDecision.getDecisionLogic()).getIndex()).isNotNull();
+    assertThat(((DmnDecisionTableImpl) decision.getDecisionLogic()).getIndex()).isNull();
+  }
+
+  @Test
+  public void shouldAnalyzeIndexableUnaryTests() {
+    assertThat(SimpleUnaryTests.parse(" - ").isWildcard()).isTrue();
+    assertThat(SimpleUnaryTests.parse("\"a\", \"b\"").getValues()).containsExactly("a", "b");
+    assertThat(SimpleUnaryTests.parse("1.50, 2").getValues())
+      .containsExactly(new BigDecimal("1.5"), new BigDecimal("2"));
+    assertThat(SimpleUnaryTests.parse("[1..5[, > 10").getRanges()).hasSize(2);
+    assertThat(SimpleUnaryTests.parse("false").getKind()).isEqualTo(ValueKind.BOOLEAN);
+  }
+
+  @Test
+  public void shouldNotAnalyzeOtherUnaryTests() {
+    assertThat(SimpleUnaryTests.parse("not(\"a\")")).isNull();
+    assertThat(SimpleUnaryTests.parse("< limit")).isNull();
+    assertThat(SimpleUnaryTests.parse("\"a\", 1")).isNull();
+    assertThat(SimpleUnaryTests.parse("\"a,b\"")).isNull();
+    assertThat(SimpleUnaryTests.parse("date(\"2015-11-30\")")).isNull();
+    assertThat(SimpleUnaryTests.parse("007")).isNull();
+  }
+
+  protected void verifyIndexedEvaluation(boolean feelLegacyBehavior) {
+    // given
+    DmnEngine indexedEngine = createEngine(true, feelLegacyBehavior);
+    DmnEngine engine = createEngine(false, feelLegacyBehavior);
+    DmnDecision indexedDecision = parseDecision(indexedEngine);
+    DmnDecision decision = parseDecision(engine);
+
+    for (String category : CATEGORIES) {
+      for (Object amount : AMOUNTS) {
+        for (Boolean flag : FLAGS) {
+          VariableMap variables = Variables.createVariables()
+              .putValue("category", category)
+              .putValue("amount", amount)
+              .putValue("flag", flag)
+              .putValue("threshold", 6);
+
+          // when
+          List<String> indexedRules = indexedEngine.evaluateDecision(indexedDecision, variables).collectEntries("rule");
+          List<String> rules = engine.evaluateDecision(decision, variables).collectEntries("rule");
+
+          // then
+          assertThat(indexedRules)
+            .describedAs("matching rules for %s", variables)
+            .isEqualTo(rules);
+        }
+      }
+    }
+  }
+
+  protected DmnEngine createEngine(boolean enableDecisionTableIndex, boolean feelLegacyBehavior) {
+    return new DefaultDmnEngineConfiguration()
+        .enableDecisionTableIndex(enableDecisionTableIndex)
+        .enableFeelLegacyBehavior(feelLegacyBehavior)
+        .buildEngine();
+  }
+
+  protected DmnDecision parseDecision(DmnEngine engine) {
+    return engine.parseDecision("decision", IoUtil.fileAsStream(DMN_FILE));
+  }
+
+}
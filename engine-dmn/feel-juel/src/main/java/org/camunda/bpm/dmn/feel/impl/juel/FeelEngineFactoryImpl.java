@@ -25,6 +25,8 @@ import org.camunda.bpm.impl.juel.jakarta.el.ExpressionFactory;
 
 import org.camunda.bpm.dmn.feel.impl.FeelEngine;
 import org.camunda.bpm.dmn.feel.impl.FeelEngineFactory;
+import org.camunda.bpm.dmn.feel.impl.juel.compile.CompiledSimpleUnaryTests;
+import org.camunda.bpm.dmn.feel.impl.juel.compile.SimpleUnaryTestsCompiler;
 import org.camunda.bpm.dmn.feel.impl.juel.el.ElContextFactory;
 import org.camunda.bpm.dmn.feel.impl.juel.el.FeelElContextFactory;
 import org.camunda.bpm.dmn.feel.impl.juel.el.FeelTypeConverter;
@@ -75,7 +77,9 @@ public class FeelEngineFactoryImpl implements FeelEngineFactory {
     ExpressionFactory expressionFactory = createExpressionFactory();
     ElContextFactory elContextFactory = createElContextFactory();
     Cache<TransformExpressionCacheKey, String> transformExpressionCache = createTransformExpressionCache();
-    return new FeelEngineImpl(transform, expressionFactory, elContextFactory, transformExpressionCache);
+    SimpleUnaryTestsCompiler compiler = createSimpleUnaryTestsCompiler();
+    Cache<TransformExpressionCacheKey, CompiledSimpleUnaryTests> compiledExpressionCache = createCompiledExpressionCache();
+    return new FeelEngineImpl(transform, expressionFactory, elContextFactory, transformExpressionCache, compiler, compiledExpressionCache);
   }
 
   protected FeelToJuelTransform createFeelToJuelTransform() {
@@ -118,4 +122,12 @@ public class FeelEngineFactoryImpl implements FeelEngineFactory {
     return new ConcurrentLruCache<TransformExpressionCacheKey, String>(expressionCacheSize);
   }
 
+  protected SimpleUnaryTestsCompiler createSimpleUnaryTestsCompiler() {
+    return new SimpleUnaryTestsCompiler();
+  }
+
+  protected Cache<TransformExpressionCacheKey, CompiledSimpleUnaryTests> createCompiledExpressionCache() {
+    return new ConcurrentLruCache<TransformExpressionCacheKey, CompiledSimpleUnaryTests>(expressionCacheSize);
+  }
+
 }
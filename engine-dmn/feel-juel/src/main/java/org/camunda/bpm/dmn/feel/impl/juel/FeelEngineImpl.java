@@ -22,6 +22,8 @@ import org.camunda.bpm.impl.juel.jakarta.el.ExpressionFactory;
 import org.camunda.bpm.impl.juel.jakarta.el.ValueExpression;
 
 import org.camunda.bpm.dmn.feel.impl.FeelEngine;
+import org.camunda.bpm.dmn.feel.impl.juel.compile.CompiledSimpleUnaryTests;
+import org.camunda.bpm.dmn.feel.impl.juel.compile.SimpleUnaryTestsCompiler;
 import org.camunda.bpm.dmn.feel.impl.juel.el.ElContextFactory;
 import org.camunda.bpm.dmn.feel.impl.juel.transform.FeelToJuelTransform;
 import org.camunda.bpm.engine.variable.context.VariableContext;
@@ -35,13 +37,27 @@ public class FeelEngineImpl implements FeelEngine {
   protected ExpressionFactory expressionFactory;
   protected ElContextFactory elContextFactory;
   protected Cache<TransformExpressionCacheKey, String> transformExpressionCache;
+  protected SimpleUnaryTestsCompiler compiler;
+  protected Cache<TransformExpressionCacheKey, CompiledSimpleUnaryTests> compiledExpressionCache;
 
   public FeelEngineImpl(FeelToJuelTransform transform, ExpressionFactory expressionFactory, ElContextFactory elContextFactory,
       Cache<TransformExpressionCacheKey, String> transformExpressionCache) {
+    this(transform, expressionFactory, elContextFactory, transformExpressionCache, null, null);
+  }
+
+  /**
+   * @param compiler compiles simple unary tests which are then evaluated without JUEL,
+   *          if <code>null</code> all simple unary tests are evaluated by JUEL
+   */
+  public FeelEngineImpl(FeelToJuelTransform transform, ExpressionFactory expressionFactory, ElContextFactory elContextFactory,
+      Cache<TransformExpressionCacheKey, String> transformExpressionCache, SimpleUnaryTestsCompiler compiler,
+      Cache<TransformExpressionCacheKey, CompiledSimpleUnaryTests> compiledExpressionCache) {
     this.transform = transform;
     this.expressionFactory = expressionFactory;
     this.elContextFactory = elContextFactory;
     this.transformExpressionCache = transformExpressionCache;
+    this.compiler = compiler;
+    this.compiledExpressionCache = compiledExpressionCache;
   }
 
   public <T> T evaluateSimpleExpression(String simpleExpression, VariableContext variableContext) {
@@ -49,6 +65,11 @@ public class FeelEngineImpl implements FeelEngine {
   }
 
   public boolean evaluateSimpleUnaryTests(String simpleUnaryTests, String inputName, VariableContext variableContext) {
+    Boolean result = evaluateCompiledSimpleUnaryTests(simpleUnaryTests, inputName, variableContext);
+    if (result != null) {
+      return result;
+    }
+
     try {
       ELContext elContext = createContext(variableContext);
       ValueExpression valueExpression = transformSimpleUnaryTests(simpleUnaryTests, inputName, elContext);
@@ -78,6 +99,21 @@ public class FeelEngineImpl implements FeelEngine {
     }
   }
 
+  protected Boolean evaluateCompiledSimpleUnaryTests(String simpleUnaryTests, String inputName, VariableContext variableContext) {
+    if (compiler == null) {
+      return null;
+    }
+
+    TransformExpressionCacheKey cacheKey = new TransformExpressionCacheKey(simpleUnaryTests, inputName);
+    CompiledSimpleUnaryTests compiledSimpleUnaryTests = compiledExpressionCache.get(cacheKey);
+
+    if (compiledSimpleUnaryTests == null) {
+      compiledSimpleUnaryTests = compiler.compile(simpleUnaryTests, inputName);
+      compiledExpressionCache.put(cacheKey, compiledSimpleUnaryTests);
+    }
+    return compiledSimpleUnaryTests.evaluate(variableContext);
+  }
+
   protected ELContext createContext(VariableContext variableContext) {
     return elContextFactory.createContext(expressionFactory, variableContext);
   }
@@ -0,0 +1,62 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.dmn.feel.impl.juel.compile;
+
+import org.camunda.bpm.engine.variable.context.VariableContext;
+import org.camunda.bpm.engine.variable.value.TypedValue;
+
+/**
+ * FEEL simple unary tests compiled by the {@link SimpleUnaryTestsCompiler}.
+ * They are evaluated without creating an EL context.
+ */
+public class CompiledSimpleUnaryTests {
+
+  /**
+   * Simple unary tests which are not supported by the compiler and are
+   * always evaluated by JUEL.
+   */
+  public static final CompiledSimpleUnaryTests NOT_COMPILED = new CompiledSimpleUnaryTests(null, null);
+
+  protected final String inputName;
+  protected final UnaryTest test;
+
+  public CompiledSimpleUnaryTests(String inputName, UnaryTest test) {
+    this.inputName = inputName;
+    this.test = test;
+  }
+
+  public boolean isCompiled() {
+    return test != null;
+  }
+
+  /**
+   * @return the result of the unary tests or <code>null</code> if they have
+   *         to be evaluated by JUEL, e.g. because the input variable is not
+   *         set or its value has a type which is not supported
+   */
+  public Boolean evaluate(VariableContext variableContext) {
+    if (test == null || !variableContext.containsVariable(inputName)) {
+      return null;
+    }
+
+    TypedValue typedValue = variableContext.resolve(inputName);
+    Object input = typedValue != null ? typedValue.getValue() : null;
+
+    return test.test(input);
+  }
+
+}
@@ -0,0 +1,58 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.dmn.feel.impl.juel.compile;
+
+import java.util.Date;
+
+/**
+ * A <code>date and time</code> literal, which is parsed once when the
+ * unary tests are compiled. It is only compared with {@link Date} input
+ * values, subclasses like timestamps are not supported.
+ */
+public class DateEndpoint implements Endpoint {
+
+  protected final Date value;
+
+  public DateEndpoint(Date value) {
+    this.value = value;
+  }
+
+  public Boolean isEqual(Object input) {
+    return isDate(input) ? input.equals(value) : null;
+  }
+
+  public Boolean isLess(Object input) {
+    return isDate(input) ? ((Date) input).compareTo(value) < 0 : null;
+  }
+
+  public Boolean isGreater(Object input) {
+    return isDate(input) ? ((Date) input).compareTo(value) > 0 : null;
+  }
+
+  public Boolean isLessOrEqual(Object input) {
+    return isDate(input) ? ((Date) input).compareTo(value) <= 0 : null;
+  }
+
+  public Boolean isGreaterOrEqual(Object input) {
+    return isDate(input) ? ((Date) input).compareTo(value) >= 0 : null;
+  }
+
+  protected boolean isDate(Object input) {
+    return input.getClass() == Date.class;
+  }
+
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.dmn.feel.impl.juel.compile;
+
+/**
+ * A literal endpoint of a compiled FEEL simple unary test. The operations
+ * follow the semantics of the operators <code>==</code>, <code>&lt;</code>,
+ * <code>&gt;</code>, <code>&lt;=</code> and <code>&gt;=</code> with the input
+ * value as left operand. They return <code>null</code> if the input value is not
+ * supported, e.g. because of its type, so that the test is left to JUEL.
+ */
+public interface Endpoint {
+
+  /**
+   * @param input the input value, not <code>null</code>
+   */
+  Boolean isEqual(Object input);
+
+  /**
+   * @param input the input value, not <code>null</code>
+   */
+  Boolean isLess(Object input);
+
+  /**
+   * @param input the input value, not <code>null</code>
+   */
+  Boolean isGreater(Object input);
+
+  /**
+   * @param input the input value, not <code>null</code>
+   */
+  Boolean isLessOrEqual(Object input);
+
+  /**
+   * @param input the input value, not <code>null</code>
+   */
+  Boolean isGreaterOrEqual(Object input);
+
+}
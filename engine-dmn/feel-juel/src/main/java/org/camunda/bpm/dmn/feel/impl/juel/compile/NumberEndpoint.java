@@ -0,0 +1,125 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.dmn.feel.impl.juel.compile;
+
+/**
+ * A number literal, which is a {@link Long} or a {@link Double} as parsed by
+ * JUEL. Like JUEL, two integers are compared as longs and all other numbers
+ * as doubles. Big numbers are not supported as input values. JUEL does not
+ * compare <code>NaN</code> and <code>-0.0</code> like primitives, so they are
+ * left to JUEL as well, both as input values and as literal.
+ */
+public class NumberEndpoint implements Endpoint {
+
+  protected final Number value;
+  protected final boolean isLong;
+
+  public NumberEndpoint(Long value) {
+    this.value = value;
+    this.isLong = true;
+  }
+
+  public NumberEndpoint(Double value) {
+    this.value = value;
+    this.isLong = false;
+  }
+
+  public Boolean isEqual(Object input) {
+    if (!isSupported(input)) {
+      return null;
+    }
+    else if (isLong && isSimpleInteger(input)) {
+      return ((Number) input).longValue() == value.longValue();
+    }
+    else {
+      return ((Number) input).doubleValue() == value.doubleValue();
+    }
+  }
+
+  public Boolean isLess(Object input) {
+    if (!isSupported(input)) {
+      return null;
+    }
+    else if (isLong && isSimpleInteger(input)) {
+      return ((Number) input).longValue() < value.longValue();
+    }
+    else {
+      return ((Number) input).doubleValue() < value.doubleValue();
+    }
+  }
+
+  public Boolean isGreater(Object input) {
+    if (!isSupported(input)) {
+      return null;
+    }
+    else if (isLong && isSimpleInteger(input)) {
+      return ((Number) input).longValue() > value.longValue();
+    }
+    else {
+      return ((Number) input).doubleValue() > value.doubleValue();
+    }
+  }
+
+  public Boolean isLessOrEqual(Object input) {
+    if (!isSupported(input)) {
+      return null;
+    }
+    else if (isLong && isSimpleInteger(input)) {
+      return ((Number) input).longValue() <= value.longValue();
+    }
+    else {
+      return ((Number) input).doubleValue() <= value.doubleValue();
+    }
+  }
+
+  public Boolean isGreaterOrEqual(Object input) {
+    if (!isSupported(input)) {
+      return null;
+    }
+    else if (isLong && isSimpleInteger(input)) {
+      return ((Number) input).longValue() >= value.longValue();
+    }
+    else {
+      return ((Number) input).doubleValue() >= value.doubleValue();
+    }
+  }
+
+  protected boolean isSupported(Object input) {
+    return isSimpleNumber(input) && !isNaNOrNegativeZero(value) && !isNaNOrNegativeZero((Number) input);
+  }
+
+  protected boolean isNaNOrNegativeZero(Number number) {
+    if (number instanceof Double || number instanceof Float) {
+      double doubleValue = number.doubleValue();
+      return Double.isNaN(doubleValue) || Double.compare(doubleValue, -0.0) == 0;
+    }
+    else {
+      return false;
+    }
+  }
+
+  protected boolean isSimpleInteger(Object input) {
+    Class<?> type = input.getClass();
+    return type == Long.class || type == Integer.class || type == Short.class || type == Byte.class;
+  }
+
+  protected boolean isSimpleNumber(Object input) {
+    Class<?> type = input.getClass();
+    return isSimpleInteger(input) || type == Double.class || type == Float.class;
+  }
+
+}
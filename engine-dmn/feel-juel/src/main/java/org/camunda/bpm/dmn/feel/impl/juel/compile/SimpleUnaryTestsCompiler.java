@@ -0,0 +1,257 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.dmn.feel.impl.juel.compile;
+
+import static org.camunda.bpm.dmn.feel.impl.juel.transform.FeelToJuelTransformImpl.COMPARISON_TRANSFORMER;
+import static org.camunda.bpm.dmn.feel.impl.juel.transform.FeelToJuelTransformImpl.CUSTOM_FUNCTION_TRANSFORMERS;
+import static org.camunda.bpm.dmn.feel.impl.juel.transform.FeelToJuelTransformImpl.HYPHEN_TRANSFORMER;
+import static org.camunda.bpm.dmn.feel.impl.juel.transform.FeelToJuelTransformImpl.INTERVAL_TRANSFORMER;
+import static org.camunda.bpm.dmn.feel.impl.juel.transform.FeelToJuelTransformImpl.NOT_TRANSFORMER;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.camunda.bpm.dmn.feel.impl.FeelException;
+import org.camunda.bpm.dmn.feel.impl.juel.el.FeelFunctionMapper;
+import org.camunda.bpm.dmn.feel.impl.juel.transform.ComparisonTransformer;
+import org.camunda.bpm.dmn.feel.impl.juel.transform.EndpointTransformer;
+import org.camunda.bpm.dmn.feel.impl.juel.transform.FeelToJuelTransformImpl;
+import org.camunda.bpm.dmn.feel.impl.juel.transform.FeelToJuelTransformer;
+import org.camunda.bpm.dmn.feel.impl.juel.transform.IntervalTransformer;
+import org.camunda.bpm.dmn.feel.impl.juel.transform.ListTransformer;
+import org.camunda.bpm.dmn.feel.impl.juel.transform.NotTransformer;
+
+/**
+ * <p>Compiles FEEL simple unary tests into {@link UnaryTest} predicates.</p>
+ *
+ * <p>The compiler follows the structure of the {@link FeelToJuelTransformImpl} and
+ * supports negations, lists, intervals, comparisons and equality checks whose
+ * endpoints are string, number, boolean or <code>date and time</code> literals.
+ * The predicates implement the JUEL semantics of the transformed expression
+ * and return <code>null</code> for input values they do not support, e.g.
+ * <code>NaN</code> and <code>-0.0</code>, which are then evaluated by JUEL.
+ * For all other simple unary tests, e.g. with variables or custom functions as
+ * endpoints, {@link CompiledSimpleUnaryTests#NOT_COMPILED} is returned.</p>
+ */
+public class SimpleUnaryTestsCompiler {
+
+  public static final Pattern STRING_PATTERN = Pattern.compile("^(?:\"([^\"\\\\]*)\"|'([^'\\\\]*)')$");
+  public static final Pattern LONG_PATTERN = Pattern.compile("^-?\\d{1,18}$");
+  public static final Pattern DOUBLE_PATTERN = Pattern.compile("^-?\\d+\\.\\d+$");
+
+  public CompiledSimpleUnaryTests compile(String simpleUnaryTests, String inputName) {
+    UnaryTest test = compileSimpleUnaryTests(simpleUnaryTests);
+
+    if (test != null) {
+      return new CompiledSimpleUnaryTests(inputName, test);
+    }
+    else {
+      return CompiledSimpleUnaryTests.NOT_COMPILED;
+    }
+  }
+
+  protected UnaryTest compileSimpleUnaryTests(String simpleUnaryTests) {
+    simpleUnaryTests = simpleUnaryTests.trim();
+
+    if (HYPHEN_TRANSFORMER.canTransform(simpleUnaryTests)) {
+      return input -> Boolean.TRUE;
+    }
+    else if (NOT_TRANSFORMER.canTransform(simpleUnaryTests)) {
+      Matcher matcher = NotTransformer.NOT_PATTERN.matcher(simpleUnaryTests);
+      if (matcher.matches()) {
+        return negation(compileSimplePositiveUnaryTests(matcher.group(1)));
+      }
+      else {
+        return null;
+      }
+    }
+    else {
+      return compileSimplePositiveUnaryTests(simpleUnaryTests);
+    }
+  }
+
+  protected UnaryTest compileSimplePositiveUnaryTests(String simplePositiveUnaryTests) {
+    simplePositiveUnaryTests = simplePositiveUnaryTests.trim();
+
+    String[] expressions = simplePositiveUnaryTests.split(ListTransformer.COMMA_SEPARATOR_REGEX, -1);
+    if (expressions.length > 1) {
+      List<UnaryTest> tests = new ArrayList<UnaryTest>();
+      for (String expression : expressions) {
+        UnaryTest test = expression.trim().isEmpty() ? null : compileSimplePositiveUnaryTest(expression);
+        if (test == null) {
+          return null;
+        }
+        tests.add(test);
+      }
+      return disjunction(tests);
+    }
+    else {
+      return compileSimplePositiveUnaryTest(simplePositiveUnaryTests);
+    }
+  }
+
+  protected UnaryTest compileSimplePositiveUnaryTest(String simplePositiveUnaryTest) {
+    simplePositiveUnaryTest = simplePositiveUnaryTest.trim();
+
+    for (FeelToJuelTransformer functionTransformer : CUSTOM_FUNCTION_TRANSFORMERS) {
+      if (functionTransformer.canTransform(simplePositiveUnaryTest)) {
+        return null;
+      }
+    }
+
+    if (INTERVAL_TRANSFORMER.canTransform(simplePositiveUnaryTest)) {
+      return compileInterval(simplePositiveUnaryTest);
+    }
+    else if (COMPARISON_TRANSFORMER.canTransform(simplePositiveUnaryTest)) {
+      Matcher matcher = ComparisonTransformer.COMPARISON_PATTERN.matcher(simplePositiveUnaryTest);
+      if (matcher.matches()) {
+        return comparison(matcher.group(1), compileEndpoint(matcher.group(2)));
+      }
+      else {
+        return null;
+      }
+    }
+    else {
+      return comparison("==", compileEndpoint(simplePositiveUnaryTest));
+    }
+  }
+
+  protected UnaryTest compileInterval(String interval) {
+    Matcher matcher = IntervalTransformer.INTERVAL_PATTERN.matcher(interval);
+    if (!matcher.matches()) {
+      return null;
+    }
+
+    String lowerOperator = matcher.group(1).equals("[") ? ">=" : ">";
+    String upperOperator = matcher.group(4).equals("]") ? "<=" : "<";
+
+    UnaryTest lowerTest = comparison(lowerOperator, compileEndpoint(matcher.group(2)));
+    UnaryTest upperTest = comparison(upperOperator, compileEndpoint(matcher.group(3)));
+
+    return conjunction(lowerTest, upperTest);
+  }
+
+  protected Endpoint compileEndpoint(String endpoint) {
+    endpoint = endpoint.trim();
+
+    Matcher dateAndTimeMatcher = EndpointTransformer.DATE_AND_TIME_PATTERN.matcher(endpoint);
+    if (dateAndTimeMatcher.matches()) {
+      String dateAndTime = parseString(dateAndTimeMatcher.group(1).trim());
+      if (dateAndTime == null) {
+        return null;
+      }
+      try {
+        return new DateEndpoint(FeelFunctionMapper.parseDateAndTime(dateAndTime));
+      }
+      catch (FeelException e) {
+        // the evaluation by JUEL reports the invalid date
+        return null;
+      }
+    }
+
+    String string = parseString(endpoint);
+    if (string != null) {
+      return new StringEndpoint(string);
+    }
+    else if (LONG_PATTERN.matcher(endpoint).matches()) {
+      return new NumberEndpoint(Long.valueOf(endpoint));
+    }
+    else if (DOUBLE_PATTERN.matcher(endpoint).matches()) {
+      return new NumberEndpoint(Double.valueOf(endpoint));
+    }
+    else if ("true".equals(endpoint) || "false".equals(endpoint)) {
+      return new BooleanEndpoint(Boolean.valueOf(endpoint));
+    }
+    else {
+      return null;
+    }
+  }
+
+  protected String parseString(String literal) {
+    Matcher matcher = STRING_PATTERN.matcher(literal);
+    if (matcher.matches()) {
+      return matcher.group(1) != null ? matcher.group(1) : matcher.group(2);
+    }
+    else {
+      return null;
+    }
+  }
+
+  // predicates //////////////////////////////////
+
+  protected UnaryTest comparison(String operator, Endpoint endpoint) {
+    if (endpoint == null) {
+      return null;
+    }
+
+    // JUEL returns false for all comparisons with null
+    switch (operator) {
+      case "==":
+        return input -> input == null ? Boolean.FALSE : endpoint.isEqual(input);
+      case "<":
+        return input -> input == null ? Boolean.FALSE : endpoint.isLess(input);
+      case ">":
+        return input -> input == null ? Boolean.FALSE : endpoint.isGreater(input);
+      case "<=":
+        return input -> input == null ? Boolean.FALSE : endpoint.isLessOrEqual(input);
+      case ">=":
+        return input -> input == null ? Boolean.FALSE : endpoint.isGreaterOrEqual(input);
+      default:
+        return null;
+    }
+  }
+
+  protected UnaryTest negation(UnaryTest test) {
+    if (test == null) {
+      return null;
+    }
+    return input -> not(test.test(input));
+  }
+
+  protected UnaryTest conjunction(UnaryTest first, UnaryTest second) {
+    if (first == null || second == null) {
+      return null;
+    }
+    return input -> {
+      Boolean result = first.test(input);
+      if (result == null || !result) {
+        return result;
+      }
+      return second.test(input);
+    };
+  }
+
+  protected UnaryTest disjunction(List<UnaryTest> tests) {
+    UnaryTest[] testArray = tests.toArray(new UnaryTest[0]);
+    return input -> {
+      for (UnaryTest test : testArray) {
+        Boolean result = test.test(input);
+        if (result == null || result) {
+          return result;
+        }
+      }
+      return Boolean.FALSE;
+    };
+  }
+
+  protected static Boolean not(Boolean result) {
+    return result != null ? !result : null;
+  }
+
+}
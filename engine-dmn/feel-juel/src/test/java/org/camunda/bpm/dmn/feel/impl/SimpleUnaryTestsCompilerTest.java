@@ -0,0 +1,167 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.dmn.feel.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+
+import org.camunda.bpm.dmn.feel.impl.juel.FeelEngineFactoryImpl;
+import org.camunda.bpm.dmn.feel.impl.juel.compile.CompiledSimpleUnaryTests;
+import org.camunda.bpm.dmn.feel.impl.juel.compile.SimpleUnaryTestsCompiler;
+import org.camunda.bpm.dmn.feel.impl.juel.el.FeelFunctionMapper;
+import org.camunda.bpm.engine.variable.VariableMap;
+import org.camunda.bpm.engine.variable.Variables;
+import org.camunda.bpm.engine.variable.context.VariableContext;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+public class SimpleUnaryTestsCompilerTest {
+
+  public static final String INPUT_VARIABLE = "input";
+
+  protected static final Date DATE = FeelFunctionMapper.parseDateAndTime("2015-11-30T12:00:00");
+
+  protected static final List<String> EXPRESSIONS = Arrays.asList(
+      "-",
+      "5", "-5", " 5.0 ", "-0.0", "007",
+      "< 5", "<=5.5", "> -1", ">= 10", "< 0.0",
+      "[1..10]", "]1..10[", "(5.0..12.5]", "[5..5]",
+      "\"a\"", "'b'", "\"a\", \"b\"", "< \"b\"", ">= 'a'", "[\"a\"..\"c\")",
+      "true", "false", "not(true)",
+      "not(\"a\")", "not(5, 10)", "not( 13 ,\t>0)\t",
+      "5, \"a\", true",
+      "date and time(\"2015-11-30T12:00:00\")",
+      "< date and time(\"2015-11-30T12:00:00\")",
+      "[date and time(\"2015-11-30T12:00:00\")..date and time(\"2015-12-30T12:00:00\")]");
+
+  protected static final List<Object> INPUTS = Arrays.<Object>asList(
+      null, 5, 5L, (short) 5, (byte) 5, 5.0, 5.5f, -5, 0, -0.0, 0.0, 7, 10L, 12.5, Double.NaN, Long.MAX_VALUE,
+      new BigDecimal("5"), "a", "b", "5", "", true, false,
+      DATE, new Date(DATE.getTime() + 1000), new Timestamp(DATE.getTime()));
+
+  public static FeelEngine feelEngine;
+  public static FeelEngine juelFeelEngine;
+
+  public SimpleUnaryTestsCompiler compiler = new SimpleUnaryTestsCompiler();
+
+  @BeforeClass
+  public static void initFeelEngines() {
+    feelEngine = new FeelEngineFactoryImpl().createInstance();
+    juelFeelEngine = new FeelEngineFactoryImpl() {
+      protected SimpleUnaryTestsCompiler createSimpleUnaryTestsCompiler() {
+        return null;
+      }
+    }.createInstance();
+  }
+
+  @Test
+  public void shouldCompileSimpleUnaryTestsWithLiterals() {
+    for (String expression : EXPRESSIONS) {
+      assertThat(compiler.compile(expression, INPUT_VARIABLE).isCompiled())
+        .describedAs(expression)
+        .isTrue();
+    }
+  }
+
+  @Test
+  public void shouldNotCompileOtherSimpleUnaryTests() {
+    assertNotCompiled("x");
+    assertNotCompiled("< x");
+    assertNotCompiled("customer.name");
+    assertNotCompiled(".37");
+    assertNotCompiled("\"a\\\"b\"");
+    assertNotCompiled("1,");
+    assertNotCompiled("12345678901234567890");
+    assertNotCompiled("not(5");
+    assertNotCompiled("date and time(\"invalid\")");
+  }
+
+  @Test
+  public void shouldEvaluateLikeJuel() {
+    for (String expression : EXPRESSIONS) {
+      CompiledSimpleUnaryTests compiledSimpleUnaryTests = compiler.compile(expression, INPUT_VARIABLE);
+
+      for (Object input : INPUTS) {
+        VariableContext variableContext = Variables.createVariables()
+            .putValue(INPUT_VARIABLE, input)
+            .asVariableContext();
+
+        Boolean result = compiledSimpleUnaryTests.evaluate(variableContext);
+
+        if (result != null) {
+          // inputs which JUEL fails to evaluate are left to JUEL
+          assertThat(result)
+            .describedAs("%s for input %s", expression, input)
+            .isEqualTo(juelFeelEngine.evaluateSimpleUnaryTests(expression, INPUT_VARIABLE, variableContext));
+        }
+      }
+    }
+  }
+
+  @Test
+  public void shouldLeaveNaNAndNegativeZeroToJuel() {
+    assertThat(evaluateCompiled("5", Double.NaN)).isNull();
+    assertThat(evaluateCompiled("< 5", Float.NaN)).isNull();
+    assertThat(evaluateCompiled("[1..10]", Double.NaN)).isNull();
+    assertThat(evaluateCompiled("not(5)", Double.NaN)).isNull();
+
+    assertThat(evaluateCompiled("0.0", -0.0)).isNull();
+    assertThat(evaluateCompiled(">= 0", -0.0f)).isNull();
+    assertThat(evaluateCompiled("-0.0", 0.0)).isNull();
+    assertThat(evaluateCompiled("<= -0.0", 0)).isNull();
+  }
+
+  @Test
+  public void shouldLeaveUnsupportedInputsToJuel() {
+    assertThat(evaluateCompiled("5", new BigDecimal("5"))).isNull();
+    assertThat(evaluateCompiled("\"5\"", 5)).isNull();
+    assertThat(evaluateCompiled("true", "true")).isNull();
+    assertThat(evaluateCompiled("date and time(\"2015-11-30T12:00:00\")", new Timestamp(DATE.getTime()))).isNull();
+    assertThat(compiler.compile("5", INPUT_VARIABLE).evaluate(Variables.emptyVariableContext())).isNull();
+  }
+
+  @Test
+  public void shouldEvaluateWithFallbackToJuel() {
+    VariableMap variables = Variables.createVariables()
+        .putValue(INPUT_VARIABLE, new BigDecimal("12"))
+        .putValue("x", 12);
+
+    assertThat(feelEngine.evaluateSimpleUnaryTests("[10..12]", INPUT_VARIABLE, variables.asVariableContext())).isTrue();
+    assertThat(feelEngine.evaluateSimpleUnaryTests("x", INPUT_VARIABLE, variables.asVariableContext())).isTrue();
+    assertThat(feelEngine.evaluateSimpleUnaryTests("< x", INPUT_VARIABLE, variables.asVariableContext())).isFalse();
+  }
+
+  protected Boolean evaluateCompiled(String expression, Object input) {
+    VariableContext variableContext = Variables.createVariables()
+        .putValue(INPUT_VARIABLE, input)
+        .asVariableContext();
+
+    return compiler.compile(expression, INPUT_VARIABLE).evaluate(variableContext);
+  }
+
+  protected void assertNotCompiled(String expression) {
+    assertThat(compiler.compile(expression, INPUT_VARIABLE).isCompiled())
+      .describedAs(expression)
+      .isFalse();
+  }
+
+}
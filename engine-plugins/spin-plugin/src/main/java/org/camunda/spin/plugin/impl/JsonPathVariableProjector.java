@@ -0,0 +1,73 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.spin.plugin.impl;
+
+import static org.camunda.spin.Spin.JSON;
+
+import org.camunda.bpm.engine.impl.variable.VariableProjector;
+import org.camunda.bpm.engine.variable.value.TypedValue;
+import org.camunda.spin.json.SpinJsonNode;
+import org.camunda.spin.json.SpinJsonPathException;
+import org.camunda.spin.json.SpinJsonPathQuery;
+import org.camunda.spin.plugin.variable.SpinValues;
+import org.camunda.spin.plugin.variable.value.JsonValue;
+
+/**
+ * <p>Projects JSON variables onto the result of a JSONPath expression.</p>
+ *
+ * <p>If the expression does not match the value, the projection is a JSON value
+ * of <code>null</code>. If an indefinite expression (e.g. with a filter or a
+ * wildcard) matches several elements, the projection is the JSON array of the
+ * matched elements. Expressions which cannot be compiled are rejected.</p>
+ */
+public class JsonPathVariableProjector implements VariableProjector {
+
+  public TypedValue project(TypedValue value, String expression) {
+    if (!(value instanceof JsonValue)) {
+      return null;
+    }
+
+    JsonValue jsonValue = (JsonValue) value;
+    SpinJsonNode jsonNode;
+    if (jsonValue.isDeserialized()) {
+      jsonNode = jsonValue.getValue();
+    } else {
+      jsonNode = jsonValue.getValueSerialized() != null ? JSON(jsonValue.getValueSerialized()) : null;
+    }
+
+    if (jsonNode == null) {
+      return value;
+    }
+
+    SpinJsonPathQuery query = jsonNode.jsonPath(expression);
+    SpinJsonNode projection;
+    try {
+      projection = query.element();
+    }
+    catch (SpinJsonPathException e) {
+      // the path does not exist in the value
+      return SpinValues.jsonValue((String) null).create();
+    }
+
+    if (jsonValue.isDeserialized()) {
+      return SpinValues.jsonValue(projection).create();
+    } else {
+      return SpinValues.jsonValue(projection.toString()).create();
+    }
+  }
+
+}
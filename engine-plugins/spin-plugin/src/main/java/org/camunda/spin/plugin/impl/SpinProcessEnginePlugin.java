@@ -60,6 +60,11 @@ public class SpinProcessEnginePlugin extends SpinConfiguration {
     registerSerializers(processEngineConfiguration);
     registerValueTypes(processEngineConfiguration);
     registerFallbackSerializer(processEngineConfiguration);
+    registerVariableProjectors(processEngineConfiguration);
+  }
+
+  protected void registerVariableProjectors(ProcessEngineConfigurationImpl processEngineConfiguration) {
+    processEngineConfiguration.getVariableProjectors().add(new JsonPathVariableProjector());
   }
 
   protected void registerFallbackSerializer(ProcessEngineConfigurationImpl processEngineConfiguration) {
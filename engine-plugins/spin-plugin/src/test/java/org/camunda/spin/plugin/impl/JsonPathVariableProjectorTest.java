@@ -0,0 +1,72 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.spin.plugin.impl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.camunda.bpm.engine.variable.Variables;
+import org.camunda.spin.json.SpinJsonPathException;
+import org.camunda.spin.plugin.variable.SpinValues;
+import org.camunda.spin.plugin.variable.value.JsonValue;
+import org.junit.Test;
+
+public class JsonPathVariableProjectorTest {
+
+  protected static final String JSON = "{\"customer\": {\"name\": \"Kermit\"}, \"orders\": [{\"id\": 1}, {\"id\": 2}]}";
+
+  protected JsonPathVariableProjector projector = new JsonPathVariableProjector();
+
+  @Test
+  public void shouldProjectOnElement() {
+    // when
+    JsonValue projection = (JsonValue) projector.project(SpinValues.jsonValue(JSON).create(), "$.customer.name");
+
+    // then
+    assertThat(projection.getValueSerialized()).isEqualTo("\"Kermit\"");
+  }
+
+  @Test
+  public void shouldProjectOnNullIfPathIsMissing() {
+    // when
+    JsonValue projection = (JsonValue) projector.project(SpinValues.jsonValue(JSON).create(), "$.customer.address");
+
+    // then
+    assertThat(projection.getValueSerialized()).isNull();
+  }
+
+  @Test
+  public void shouldProjectOnArrayIfSeveralElementsMatch() {
+    // when
+    JsonValue projection = (JsonValue) projector.project(SpinValues.jsonValue(JSON).create(), "$.orders[*].id");
+
+    // then
+    assertThat(projection.getValueSerialized()).isEqualTo("[1,2]");
+  }
+
+  @Test
+  public void shouldFailToProjectWithInvalidExpression() {
+    assertThatThrownBy(() -> projector.project(SpinValues.jsonValue(JSON).create(), "$.orders[?("))
+      .isInstanceOf(SpinJsonPathException.class);
+  }
+
+  @Test
+  public void shouldNotProjectOtherValues() {
+    assertThat(projector.project(Variables.stringValue(JSON), "$.customer.name")).isNull();
+  }
+
+}
@@ -0,0 +1,16 @@
+  <@lib.parameter
+      name = "cursor"
+      location = "query"
+      type = "string"
+      desc = "Keyset pagination of results. The `nextCursor` of the previous page. The first page is
+              returned if no cursor is given. A cursor can only be used with the same sorting it was
+              returned for."/>
+
+  <@lib.parameter
+      name = "maxResults"
+      location = "query"
+      type = "integer"
+      required = true
+      last = last
+      desc = "Keyset pagination of results. Specifies the maximum number of results to return.
+              Will return less results if there are no more results left."/>
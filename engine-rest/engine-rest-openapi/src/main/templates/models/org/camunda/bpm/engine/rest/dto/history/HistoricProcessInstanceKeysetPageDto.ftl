@@ -0,0 +1,17 @@
+<#macro dto_macro docsUrl="">
+<@lib.dto>
+
+  <@lib.property
+      name = "items"
+      type = "array"
+      dto = "HistoricProcessInstanceDto"
+      desc = "The historic process instances of the page." />
+
+  <@lib.property
+      name = "nextCursor"
+      type = "string"
+      last = true
+      desc = "The cursor to select the next page with or `null` if this is the last page." />
+
+</@lib.dto>
+</#macro>
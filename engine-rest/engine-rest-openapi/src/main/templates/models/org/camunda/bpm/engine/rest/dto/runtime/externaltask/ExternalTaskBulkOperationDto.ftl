@@ -0,0 +1,24 @@
+<#macro dto_macro docsUrl="">
+<@lib.dto extends = "HandleExternalTaskDto" >
+
+  <@lib.property
+      name = "operations"
+      type = "array"
+      dto = "ExternalTaskOperationDto"
+      desc = "A JSON array of operations on external tasks locked by the worker. The operations are executed
+              in a single transaction in the given order. Each operation object has the following properties:" />
+
+  <@lib.property
+      name = "executeSeparatelyOnFailure"
+      type = "boolean"
+      defaultValue = 'false'
+      last = true
+      desc = "If `true` and an operation fails while it is executed, each operation is executed again in its
+              own transaction and the failure is reported in the result of the failing operation only.
+              Note that the operations executed before the failing one are then executed twice, so
+              non-transactional side effects of the continued process instances happen at least twice.
+              If `false`, the request fails and none of the operations is applied." />
+
+</@lib.dto>
+
+</#macro>
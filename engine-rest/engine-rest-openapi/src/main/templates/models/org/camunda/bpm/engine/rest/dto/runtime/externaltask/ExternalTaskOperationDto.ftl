@@ -0,0 +1,68 @@
+<#macro dto_macro docsUrl="">
+<@lib.dto>
+
+  <@lib.property
+      name = "type"
+      type = "string"
+      enumValues = ['"complete"', '"failure"', '"extendLock"']
+      nullable = false
+      desc = "**Mandatory.** The type of the operation." />
+
+  <@lib.property
+      name = "externalTaskId"
+      type = "string"
+      nullable = false
+      desc = "**Mandatory.** The id of the external task." />
+
+  <@lib.property
+      name = "variables"
+      type = "object"
+      additionalProperties = true
+      dto = "VariableValueDto"
+      desc = "Used by `complete` and `failure`. A JSON object containing variable key-value pairs. Each key is
+              a variable name and each value a JSON variable value object with the following properties:" />
+
+  <@lib.property
+      name = "localVariables"
+      type = "object"
+      additionalProperties = true
+      dto = "VariableValueDto"
+      desc = "Used by `complete` and `failure`. A JSON object containing local variable key-value pairs. Local
+              variables are set only in the scope of external task. Each key is a variable name and each value a
+              JSON variable value object with the following properties:" />
+
+  <@lib.property
+      name = "errorMessage"
+      type = "string"
+      desc = "Used by `failure`. An message indicating the reason of the failure." />
+
+  <@lib.property
+      name = "errorDetails"
+      type = "string"
+      desc = "Used by `failure`. A detailed error description." />
+
+  <@lib.property
+      name = "retries"
+      type = "integer"
+      format = "int32"
+      desc = "Used by `failure`. A number of how often the task should be retried. Must be >= 0. If this is 0,
+              an incident is created." />
+
+  <@lib.property
+      name = "retryTimeout"
+      type = "integer"
+      format = "int64"
+      desc = "Used by `failure`. A timeout in milliseconds before the external task becomes available again
+              for fetching. Must be >= 0." />
+
+  <@lib.property
+      name = "newDuration"
+      type = "integer"
+      format = "int64"
+      last = true
+      desc = "Used by `extendLock`. An amount of time (in milliseconds). This is the new lock duration starting
+              from the current moment." />
+
+</@lib.dto>
+
+</#macro>
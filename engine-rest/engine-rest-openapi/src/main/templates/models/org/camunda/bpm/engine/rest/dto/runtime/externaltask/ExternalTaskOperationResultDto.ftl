@@ -0,0 +1,35 @@
+<#macro dto_macro docsUrl="">
+<@lib.dto>
+
+  <@lib.property
+      name = "externalTaskId"
+      type = "string"
+      desc = "The id of the external task." />
+
+  <@lib.property
+      name = "type"
+      type = "string"
+      enumValues = ['"complete"', '"failure"', '"extendLock"']
+      desc = "The type of the operation." />
+
+  <@lib.property
+      name = "successful"
+      type = "boolean"
+      desc = "Whether the operation was executed." />
+
+  <@lib.property
+      name = "errorType"
+      type = "string"
+      desc = "The type of the exception which prevented the operation, e.g. `NotFoundException` if the
+              external task does not exist or `BadUserRequestException` if it is locked by a different worker." />
+
+  <@lib.property
+      name = "errorMessage"
+      type = "string"
+      last = true
+      desc = "The reason why the operation was not executed, e.g. because the external task does not exist
+              or is locked by a different worker." />
+
+</@lib.dto>
+
+</#macro>
@@ -0,0 +1,40 @@
+<#macro dto_macro docsUrl="">
+<@lib.dto>
+
+  <@lib.property
+      name = "workerId"
+      type = "string"
+      nullable = false
+      desc = "**Mandatory.** The id of the worker which fetches the variables. The external task
+              must be locked by this worker." />
+
+  <@lib.property
+      name = "variableNames"
+      type = "array"
+      itemType = "string"
+      desc = "The names of the variables to fetch. If not provided, all variables are fetched." />
+
+  <@lib.property
+      name = "localVariables"
+      type = "boolean"
+      defaultValue = "false"
+      desc = "If `true`, only the local variables of the execution of the external task are fetched." />
+
+  <@lib.property
+      name = "deserializeValues"
+      type = "boolean"
+      defaultValue = "false"
+      desc = "Determines whether serializable variable values (typically variables that store custom
+              Java objects) should be deserialized on server side." />
+
+  <@lib.property
+      name = "variableProjections"
+      type = "object"
+      additionalProperties = true
+      last = true
+      desc = "The expressions by variable name that select the part of the variable values to fetch,
+              e.g. JSONPath expressions for JSON variables. If a JSONPath expression does not match
+              the value, the variable is returned with a `null` value." />
+
+</@lib.dto>
+</#macro>
@@ -0,0 +1,13 @@
+<#macro dto_macro docsUrl="">
+<@lib.dto>
+
+  <@lib.property
+      name = "credit"
+      type = "integer"
+      format = "int32"
+      last = true
+      desc = "The number of further external tasks the stream may receive. Must be greater than zero." />
+
+</@lib.dto>
+
+</#macro>
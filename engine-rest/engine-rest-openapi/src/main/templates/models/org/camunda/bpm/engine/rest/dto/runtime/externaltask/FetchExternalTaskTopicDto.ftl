@@ -98,10 +98,28 @@
         name = "includeExtensionProperties"
         type = "boolean"
         defaultValue = 'false'
-        last = true
         desc = "Determines whether custom extension properties defined in the BPMN activity of the external task (e.g.
                 via the Extensions tab in the Camunda modeler) should be included in the response. Default: false" />
 
+    <@lib.property
+        name = "lazyVariables"
+        type = "boolean"
+        defaultValue = 'false'
+        desc = "If `true`, only the names and types of the requested variables are returned in the `variableTypes`
+                property of the locked tasks instead of their values. The values can be fetched afterwards via
+                `POST /external-task/{id}/variables`.
+                Default: false" />
+
+    <@lib.property
+        name = "variableProjections"
+        type = "object"
+        addProperty = "\"additionalProperties\": true"
+        last = true
+        desc = "A JSON object containing the expressions by variable name that select the part of the variable
+                values to fetch, e.g. JSONPath expressions for JSON variables. If a JSONPath expression does not
+                match the value, the variable is returned with a `null` value. Not applied if `lazyVariables` is
+                `true`." />
+
 
 </@lib.dto>
 
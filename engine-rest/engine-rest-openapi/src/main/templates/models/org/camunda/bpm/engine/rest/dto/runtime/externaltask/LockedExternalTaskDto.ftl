@@ -105,6 +105,16 @@
       desc = "A JSON object containing a property for each of the requested variables. The key is the variable name,
               the value is a JSON object of serialized variable values with the following properties:" />
 
+  <@lib.property
+      name = "variableTypes"
+      type = "object"
+      additionalProperties = true
+      desc = "A JSON object containing a property for each of the requested variables if the variables
+              were fetched lazily, i.e. with `lazyVariables` set to `true`. The key is the variable name,
+              the value is the name of the variable's type. The values can be fetched afterwards via
+              `POST /external-task/{id}/variables`.
+              `null` if the variables were not fetched lazily." />
+
   <@lib.property
       name = "extensionProperties"
       type = "object"
@@ -0,0 +1,99 @@
+<#macro endpoint_macro docsUrl="">
+{
+
+  <@lib.endpointInfo
+      id = "executeBulkOperation"
+      tag = "External Task"
+      summary = "Bulk Operation"
+      desc = "Completes, reports failures or extends the locks of several external tasks of one worker in a
+              single transaction. An operation which cannot be applied, e.g. because the task is locked by a
+              different worker, is reported as failed without affecting the other operations. If an operation
+              fails while it is executed, none of the operations is applied and the request fails, unless
+              `executeSeparatelyOnFailure` is set." />
+
+  <@lib.requestBody
+      mediaType = "application/json"
+      dto = "ExternalTaskBulkOperationDto"
+      examples = ['"example-1": {
+                     "summary": "POST /external-task/bulk",
+                     "value": {
+                       "workerId": "aWorker",
+                       "operations": [
+                         {
+                           "type": "complete",
+                           "externalTaskId": "anExternalTask",
+                           "variables": {
+                             "aVariable": {"value": "aStringValue"}
+                           }
+                         },
+                         {
+                           "type": "failure",
+                           "externalTaskId": "anotherExternalTask",
+                           "errorMessage": "anErrorMessage",
+                           "retries": 3,
+                           "retryTimeout": 10000
+                         },
+                         {
+                           "type": "extendLock",
+                           "externalTaskId": "aThirdExternalTask",
+                           "newDuration": 100000
+                         }
+                       ]
+                     }
+                   }'] />
+
+  "responses" : {
+
+    <@lib.response
+        code = "200"
+        dto = "ExternalTaskOperationResultDto"
+        array = true
+        desc = "Request successful. The results are returned in the order of the operations."
+        examples = ['"example-1": {
+                       "summary": "Status 200 Response",
+                       "value": [
+                         {
+                           "externalTaskId": "anExternalTask",
+                           "type": "complete",
+                           "successful": true,
+                           "errorType": null,
+                           "errorMessage": null
+                         },
+                         {
+                           "externalTaskId": "anotherExternalTask",
+                           "type": "failure",
+                           "successful": true,
+                           "errorType": null,
+                           "errorMessage": null
+                         },
+                         {
+                           "externalTaskId": "aThirdExternalTask",
+                           "type": "extendLock",
+                           "successful": false,
+                           "errorType": "BadUserRequestException",
+                           "errorMessage": "The lock of the External Task aThirdExternalTask cannot be extended by worker \'aWorker\'"
+                         }
+                       ]
+                     }'] />
+
+    <@lib.response
+        code = "400"
+        dto = "ExceptionDto"
+        desc = "Returned if the worker id or the id or type of an operation is missing, the lock duration is not
+                positive or a variable value is invalid. See the
+                [Introduction](${docsUrl}/reference/rest/overview/#error-handling)
+                for the error response format." />
+
+    <@lib.response
+        code = "500"
+        dto = "ExceptionDto"
+        last = true
+        desc = "Returned if an operation fails while it is executed and the operations are not executed
+                separately on failure. None of the operations is applied in this case. See the
+                [Introduction](${docsUrl}/reference/rest/overview/#error-handling)
+                for the error response format." />
+
+  }
+}
+
+</#macro>
@@ -0,0 +1,60 @@
+<#macro endpoint_macro docsUrl="">
+{
+
+  <@lib.endpointInfo
+      id = "fetchAndLockStream"
+      tag = "External Task"
+      summary = "Fetch and Lock Stream"
+      desc = "Opens a stream of server-sent events over which external tasks are fetched, locked and pushed to
+              the worker as soon as they become available. The worker registers once with the same parameters
+              as for [Fetch and Lock](${docsUrl}/reference/rest/external-task/fetch/) instead of polling.
+
+              The stream starts with a `stream` event whose data is the id of the stream. Locked tasks are
+              sent as `tasks` events whose data is a JSON array of locked external tasks. The number of tasks
+              that are pushed is limited by the credit of the stream, which starts with `maxTasks` and is
+              decreased by every pushed task. Once a worker has handled tasks, it grants new credit via
+              [Add Fetch and Lock Stream Credit](${docsUrl}/reference/rest/external-task/fetch-stream-credit/).
+              The `asyncResponseTimeout` is ignored; the stream stays open until the client closes it. If
+              the stream fails, an `error` event with the exception is sent and the stream is closed." />
+
+  <@lib.requestBody
+      mediaType = "application/json"
+      dto = "FetchExternalTasksDto"
+      examples = ['"example-1": {
+                       "summary": "POST /external-task/fetchAndLock/stream",
+                       "value": {
+                         "workerId": "aWorkerId",
+                         "maxTasks": 10,
+                         "usePriority": true,
+                         "topics": [
+                           {
+                             "topicName": "createOrder",
+                             "lockDuration": 10000,
+                             "variables": [
+                               "orderId"
+                             ]
+                           }
+                         ]
+                       }
+                     }'] />
+
+  "responses" : {
+
+    <@lib.response
+        code = "200"
+        mediaType = "text/event-stream"
+        flatType = "string"
+        desc = "Request successful. The response is a stream of `stream`, `tasks` and `error` events." />
+
+    <@lib.response
+        code = "400"
+        dto = "ExceptionDto"
+        last = true
+        desc = "Returned if no worker id is given. See the
+                [Introduction](${docsUrl}/reference/rest/overview/#error-handling)
+                for the error response format." />
+
+  }
+}
+
+</#macro>
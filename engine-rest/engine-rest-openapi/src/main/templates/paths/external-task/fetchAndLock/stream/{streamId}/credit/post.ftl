@@ -0,0 +1,68 @@
+<#macro endpoint_macro docsUrl="">
+{
+
+  <@lib.endpointInfo
+      id = "addFetchAndLockStreamCredit"
+      tag = "External Task"
+      summary = "Add Fetch and Lock Stream Credit"
+      desc = "Grants a fetch and lock stream the credit to receive further external tasks. Every pushed task
+              consumes one credit, so a worker usually adds as much credit as tasks it has finished.
+              Streams are held in memory by the node which opened them, so the request must be sent
+              to the same node; behind a load balancer, the requests of a worker require session
+              affinity. The request must be authenticated as the same user that opened the stream." />
+
+  "parameters" : [
+
+    <@lib.parameter
+        name = "streamId"
+        location = "path"
+        type = "string"
+        required = true
+        last = true
+        desc = "The id of the stream as sent in its `stream` event."/>
+
+  ],
+
+  <@lib.requestBody
+      mediaType = "application/json"
+      dto = "FetchAndLockStreamCreditDto"
+      examples = ['"example-1": {
+                     "summary": "POST /external-task/fetchAndLock/stream/aStreamId/credit",
+                     "value": {
+                       "credit": 5
+                     }
+                   }'] />
+
+  "responses" : {
+
+    <@lib.response
+        code = "204"
+        desc = "Request successful." />
+
+    <@lib.response
+        code = "400"
+        dto = "ExceptionDto"
+        desc = "Returned if the credit is not greater than zero. See the
+                [Introduction](${docsUrl}/reference/rest/overview/#error-handling)
+                for the error response format." />
+
+    <@lib.response
+        code = "403"
+        dto = "ExceptionDto"
+        desc = "Returned if the stream was opened by another user. See the
+                [Introduction](${docsUrl}/reference/rest/overview/#error-handling)
+                for the error response format." />
+
+    <@lib.response
+        code = "404"
+        dto = "ExceptionDto"
+        last = true
+        desc = "Returned if the stream does not exist, has already been closed or was opened on
+                another node. See the
+                [Introduction](${docsUrl}/reference/rest/overview/#error-handling)
+                for the error response format." />
+
+  }
+}
+
+</#macro>
@@ -0,0 +1,76 @@
+<#macro endpoint_macro docsUrl="">
+{
+
+  <@lib.endpointInfo
+      id = "getExternalTaskVariables"
+      tag = "External Task"
+      summary = "Get Variables"
+      desc = "Retrieves the variables which are visible to an external task, e.g. the values of the
+              variables which were fetched lazily with the task. The external task must be
+              locked by the given worker." />
+
+  "parameters" : [
+
+    <@lib.parameter
+        name = "id"
+        location = "path"
+        type = "string"
+        required = true
+        last = true
+        desc = "The id of the external task."/>
+
+  ],
+
+  <@lib.requestBody
+      mediaType = "application/json"
+      dto = "ExternalTaskVariablesDto"
+      examples = ['"example-1": {
+                     "summary": "POST /external-task/anId/variables",
+                     "value": {
+                       "workerId": "aWorkerId",
+                       "variableNames": ["order"],
+                       "variableProjections": {
+                         "order": "$.customer.name"
+                       }
+                     }
+                   }'] />
+
+  "responses" : {
+
+    <@lib.response
+        code = "200"
+        dto = "VariableValueDto"
+        additionalProperties = true
+        desc = "Request successful."
+        examples = ['"example-1": {
+                       "summary": "POST /external-task/anId/variables",
+                       "value": {
+                         "order": {
+                           "value": "\\"Kermit\\"",
+                           "type": "Json",
+                           "valueInfo": {}
+                         }
+                       }
+                     }'] />
+
+    <@lib.response
+        code = "400"
+        dto = "ExceptionDto"
+        desc = "Returned if no worker id is given, the external task is not locked by the given worker
+                or a projection is not supported for the type of its variable. See the
+                [Introduction](${docsUrl}/reference/rest/overview/#error-handling)
+                for the error response format." />
+
+    <@lib.response
+        code = "404"
+        dto = "ExceptionDto"
+        last = true
+        desc = "Returned if the task does not exist. This could indicate a wrong task id as well as a cancelled task,
+                e.g., due to a caught BPMN boundary event. See the
+                [Introduction](${docsUrl}/reference/rest/overview/#error-handling)
+                for the error response format." />
+
+  }
+}
+
+</#macro>
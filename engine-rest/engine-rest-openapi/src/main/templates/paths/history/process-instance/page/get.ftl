@@ -0,0 +1,71 @@
+<#macro endpoint_macro docsUrl="">
+{
+  <@lib.endpointInfo
+      id = "getHistoricProcessInstancesPage"
+      tag = "Historic Process Instance"
+      summary = "Get Page"
+      desc = "Queries for historic process instances that fulfill the given parameters, like the
+              [Get Process Instances](${docsUrl}/reference/rest/history/process-instance/get-process-instance-query/)
+              method, and returns the page of process instances following the given `cursor` (keyset pagination).
+              In contrast to `firstResult`, the process instances of the previous pages are not read and skipped
+              by the database, so deep pages are returned as fast as the first one. The process instances are
+              sorted by the given sorting followed by the process instance id. Only sorting by `startTime` and
+              `instanceId` is supported." />
+
+  "parameters" : [
+
+    <#assign requestMethod="GET"/>
+    <#include "/lib/commons/history-process-instance.ftl" >
+
+    <#assign sortByValues = [ '"instanceId"', '"startTime"' ] >
+    <#assign last = false >
+    <#include "/lib/commons/sort-params.ftl" >
+
+    <#include "/lib/commons/keyset-pagination-params.ftl" >
+
+    <@lib.parameters
+        object = params
+        skip = ["orQueries"] <#-- OR Queries not available in GET -->
+        last = true />
+
+  ],
+  "responses" : {
+    <@lib.response
+        code = "200"
+        dto = "HistoricProcessInstanceKeysetPageDto"
+        desc = "Request successful."
+        examples = ['"example-1": {
+                       "summary": "Status 200 response",
+                       "description": "Response for GET `/history/process-instance/page?finishedAfter=2013-01-01T00:00:00.000%2b0200&maxResults=1`",
+                       "value": {
+                         "items": [
+                           {
+                             "id":"7c80cc8f-ef95-11e6-b6e6-34f39ab71d4e",
+                             "businessKey":null,
+                             "processDefinitionId":"invoice:1:7bf79f13-ef95-11e6-b6e6-34f39ab71d4e",
+                             "processDefinitionKey":"invoice",
+                             "processDefinitionName":"Invoice Receipt",
+                             "processDefinitionVersion":1,
+                             "startTime":"2017-02-10T14:33:19.000+0200",
+                             "endTime":"2017-02-10T14:35:01.000+0200",
+                             "durationInMillis":102000,
+                             "startActivityId":"StartEvent_1",
+                             "rootProcessInstanceId":"7c80cc8f-ef95-11e6-b6e6-34f39ab71d4e",
+                             "state":"COMPLETED"
+                           }
+                         ],
+                         "nextCursor": "eyJvcmRlcmluZyI6WyJSRVMuU1RBUlRfVElNRV8gYXNjIl19"
+                       }
+                     }'] />
+
+    <@lib.response
+        code = "400"
+        dto = "ExceptionDto"
+        last = true
+        desc = "Bad Request
+                Returned if some of the query parameters are invalid, for example if `maxResults` is missing,
+                the sorting is not supported or the cursor is invalid.
+                See the [Introduction](${docsUrl}/reference/rest/overview/#error-handling) for the error response format."/>
+  }
+}
+</#macro>
@@ -0,0 +1,53 @@
+<#macro endpoint_macro docsUrl="">
+{
+  <@lib.endpointInfo
+      id = "queryHistoricProcessInstancesPage"
+      tag = "Historic Process Instance"
+      summary = "Get Page (POST)"
+      desc = "Queries for historic process instances that fulfill the given parameters, like the
+              [Get Process Instances (POST)](${docsUrl}/reference/rest/history/process-instance/post-process-instance-query/)
+              method, and returns the page of process instances following the given `cursor` (keyset pagination).
+              In contrast to `firstResult`, the process instances of the previous pages are not read and skipped
+              by the database, so deep pages are returned as fast as the first one. The process instances are
+              sorted by the given sorting followed by the process instance id. Only sorting by `startTime` and
+              `instanceId` is supported." />
+
+  "parameters" : [
+    <#assign last = true >
+    <#include "/lib/commons/keyset-pagination-params.ftl" >
+  ],
+  <#assign requestMethod="POST"/>
+  <@lib.requestBody
+      mediaType = "application/json"
+      dto = "HistoricProcessInstanceQueryDto"
+      examples = [
+                  '"example-1": {
+                     "summary": "POST `/history/process-instance/page?maxResults=10`",
+                     "value": {
+                                "finishedAfter": "2013-01-01T00:00:00.000+0200",
+                                "sorting": [
+                                  {
+                                    "sortBy": "startTime",
+                                    "sortOrder": "desc"
+                                  }
+                                ]
+                              }
+                   }'
+                ] />
+  "responses" : {
+    <@lib.response
+        code = "200"
+        dto = "HistoricProcessInstanceKeysetPageDto"
+        desc = "Request successful." />
+
+    <@lib.response
+        code = "400"
+        dto = "ExceptionDto"
+        last = true
+        desc = "Bad Request
+                Returned if some of the query parameters are invalid, for example if `maxResults` is missing,
+                the sorting is not supported or the cursor is invalid.
+                See the [Introduction](${docsUrl}/reference/rest/overview/#error-handling) for the error response format."/>
+  }
+}
+</#macro>
@@ -0,0 +1,88 @@
+<#macro endpoint_macro docsUrl="">
+{
+  <@lib.endpointInfo
+      id = "streamHistoricProcessInstances"
+      tag = "Historic Process Instance"
+      summary = "Stream List"
+      desc = "Queries for historic process instances that fulfill the given parameters, like the
+              [Get Process Instances](${docsUrl}/reference/rest/history/process-instance/get-process-instance-query/)
+              method, and streams the process instances while they are read from the database. The process
+              instances are written as a JSON array or, if the `Accept` header is `application/x-ndjson`,
+              as newline delimited JSON with one process instance per line.
+
+              The `queryMaxResultsLimit` of the process engine applies unless the process engine
+              configuration property `queryMaxResultsLimitBypassedByStreaming` is enabled." />
+
+  "parameters" : [
+
+    <#assign requestMethod="GET"/>
+    <#include "/lib/commons/history-process-instance.ftl" >
+
+    <#assign last = false >
+    <#include "/lib/commons/sort-params.ftl" >
+
+    <@lib.parameters
+        object = params
+        skip = ["orQueries"] <#-- OR Queries not available in GET -->
+        last = true />
+
+  ],
+  "responses" : {
+    <@lib.multiTypeResponse
+        code = "200"
+        desc = "Request successful."
+        types = [
+          {
+            "dto": "HistoricProcessInstanceDto",
+            "array": true,
+            "examples": ['"example-1": {
+                            "summary": "GET `/history/process-instance/stream?finishedAfter=2013-01-01T00:00:00.000%2b0200`",
+                            "value": [
+                              {
+                                "id":"7c80cc8f-ef95-11e6-b6e6-34f39ab71d4e",
+                                "businessKey":null,
+                                "processDefinitionId":"invoice:1:7bf79f13-ef95-11e6-b6e6-34f39ab71d4e",
+                                "processDefinitionKey":"invoice",
+                                "processDefinitionName":"Invoice Receipt",
+                                "processDefinitionVersion":1,
+                                "startTime":"2017-02-10T14:33:19.000+0200",
+                                "endTime":"2017-02-10T14:35:01.000+0200",
+                                "removalTime":null,
+                                "durationInMillis":102000,
+                                "startUserId":null,
+                                "startActivityId":"StartEvent_1",
+                                "deleteReason":null,
+                                "rootProcessInstanceId":"7c80cc8f-ef95-11e6-b6e6-34f39ab71d4e",
+                                "superProcessInstanceId":null,
+                                "superCaseInstanceId":null,
+                                "caseInstanceId":null,
+                                "tenantId":null,
+                                "state":"COMPLETED",
+                                "restartedProcessInstanceId":null
+                              }
+                            ]
+                          }']
+          },
+          {
+            "mediaType": "application/x-ndjson",
+            "dto": "HistoricProcessInstanceDto"
+          }
+        ] />
+
+    <@lib.response
+        code = "400"
+        dto = "ExceptionDto"
+        desc = "Bad Request
+                Returned if some of the query parameters are invalid, for example if a sortOrder parameter is supplied,
+                but no sortBy, or if the `queryMaxResultsLimit` applies.
+                See the [Introduction](${docsUrl}/reference/rest/overview/#error-handling) for the error response format."/>
+
+    <@lib.response
+        code = "406"
+        dto = "ExceptionDto"
+        last = true
+        desc = "Returned if neither `application/json` nor `application/x-ndjson` is accepted.
+                See the [Introduction](${docsUrl}/reference/rest/overview/#error-handling) for the error response format."/>
+  }
+}
+</#macro>
@@ -0,0 +1,65 @@
+<#macro endpoint_macro docsUrl="">
+{
+  <@lib.endpointInfo
+      id = "queryStreamHistoricProcessInstances"
+      tag = "Historic Process Instance"
+      summary = "Stream List (POST)"
+      desc = "Queries for historic process instances that fulfill the given parameters, like the
+              [Get Process Instances (POST)](${docsUrl}/reference/rest/history/process-instance/post-process-instance-query/)
+              method, and streams the process instances while they are read from the database. The process
+              instances are written as a JSON array or, if the `Accept` header is `application/x-ndjson`,
+              as newline delimited JSON with one process instance per line.
+
+              The `queryMaxResultsLimit` of the process engine applies unless the process engine
+              configuration property `queryMaxResultsLimitBypassedByStreaming` is enabled." />
+
+  <#assign requestMethod="POST"/>
+  <@lib.requestBody
+      mediaType = "application/json"
+      dto = "HistoricProcessInstanceQueryDto"
+      examples = [
+                  '"example-1": {
+                     "summary": "POST `/history/process-instance/stream`",
+                     "value": {
+                                "finishedAfter": "2013-01-01T00:00:00.000+0200",
+                                "sorting": [
+                                  {
+                                    "sortBy": "startTime",
+                                    "sortOrder": "asc"
+                                  }
+                                ]
+                              }
+                   }'
+                ] />
+  "responses" : {
+    <@lib.multiTypeResponse
+        code = "200"
+        desc = "Request successful."
+        types = [
+          {
+            "dto": "HistoricProcessInstanceDto",
+            "array": true
+          },
+          {
+            "mediaType": "application/x-ndjson",
+            "dto": "HistoricProcessInstanceDto"
+          }
+        ] />
+
+    <@lib.response
+        code = "400"
+        dto = "ExceptionDto"
+        desc = "Bad Request
+                Returned if some of the query parameters are invalid, for example if a sortOrder parameter is supplied,
+                but no sortBy, or if the `queryMaxResultsLimit` applies.
+                See the [Introduction](${docsUrl}/reference/rest/overview/#error-handling) for the error response format."/>
+
+    <@lib.response
+        code = "406"
+        dto = "ExceptionDto"
+        last = true
+        desc = "Returned if neither `application/json` nor `application/x-ndjson` is accepted.
+                See the [Introduction](${docsUrl}/reference/rest/overview/#error-handling) for the error response format."/>
+  }
+}
+</#macro>
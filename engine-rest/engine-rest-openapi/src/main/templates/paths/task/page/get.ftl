@@ -0,0 +1,73 @@
+<#macro endpoint_macro docsUrl="">
+{
+
+  <@lib.endpointInfo
+      id = "getTasksPage"
+      tag = "Task"
+      summary = "Get Page"
+      desc = "Queries for tasks that fulfill a given filter, like the [Get Tasks](${docsUrl}/reference/rest/task/get-query/)
+              method, and returns the page of tasks following the given `cursor` (keyset pagination). In contrast
+              to `firstResult`, the tasks of the previous pages are not read and skipped by the database, so
+              deep pages are returned as fast as the first one. The tasks are sorted by the given sorting
+              followed by the task id. Only sorting by `created` and `id` is supported.
+
+              **Security Consideration:** There are several query parameters (such as
+              assigneeExpression) for specifying an EL expression. These are disabled by default to
+              prevent remote code execution. See the section on
+              [security considerations](${docsUrl}/user-guide/process-engine/securing-custom-code/)
+              for custom code in the user guide for details." />
+
+  "parameters" : [
+
+    <#assign last = false >
+    <#include "/lib/commons/task-query-params.ftl" >
+
+    <#assign sortByValues = [ '"created"', '"id"' ] >
+    <#include "/lib/commons/sort-params.ftl" >
+
+    <#assign last = true >
+    <#include "/lib/commons/keyset-pagination-params.ftl" >
+
+  ],
+
+  "responses" : {
+
+    <@lib.response
+        code = "200"
+        dto = "TaskKeysetPageDto"
+        desc = "Request successful."
+        examples = ['"example-1": {
+                       "summary": "Status 200 response",
+                       "description": "Response for GET `/task/page?assignee=anAssignee&maxResults=1`",
+                       "value": {
+                         "items": [
+                           {
+                             "id":"anId",
+                             "name":"aName",
+                             "assignee":"anAssignee",
+                             "created":"2013-01-23T13:42:42.657+0200",
+                             "priority":42,
+                             "processDefinitionId":"aProcDefId",
+                             "processInstanceId":"aProcInstId",
+                             "taskDefinitionKey":"aTaskDefinitionKey",
+                             "suspended": false,
+                             "tenantId": "aTenantId",
+                             "taskState": "aTaskState"
+                           }
+                         ],
+                         "nextCursor": "eyJvcmRlcmluZyI6WyJSRVMuQ1JFQVRFX1RJTUVfIGFzYyJdfQ"
+                       }
+                     }'] />
+
+    <@lib.response
+        code = "400"
+        dto = "ExceptionDto"
+        last = true
+        desc = "Returned if some of the query parameters are invalid, for example if `maxResults`
+                is missing, the sorting is not supported or the cursor is invalid. See the
+                [Introduction](${docsUrl}/reference/rest/overview/#error-handling)
+                for the error response format." />
+
+  }
+}
+</#macro>
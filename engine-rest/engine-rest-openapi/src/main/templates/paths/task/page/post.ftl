@@ -0,0 +1,65 @@
+<#macro endpoint_macro docsUrl="">
+{
+
+  <@lib.endpointInfo
+      id = "queryTasksPage"
+      tag = "Task"
+      summary = "Get Page (POST)"
+      desc = "Queries for tasks that fulfill a given filter, like the
+              [Get Tasks (POST)](${docsUrl}/reference/rest/task/post-query/) method, and returns the page
+              of tasks following the given `cursor` (keyset pagination). In contrast to `firstResult`, the
+              tasks of the previous pages are not read and skipped by the database, so deep pages are
+              returned as fast as the first one. The tasks are sorted by the given sorting followed by the
+              task id. Only sorting by `created` and `id` is supported.
+
+              **Security Consideration**:
+              There are several parameters (such as `assigneeExpression`) for specifying an EL
+              expression. These are disabled by default to prevent remote code execution. See the
+              section on
+              [security considerations for custom code](${docsUrl}/user-guide/process-engine/securing-custom-code/)
+              in the user guide for details." />
+
+  "parameters" : [
+
+    <#assign last = true >
+    <#include "/lib/commons/keyset-pagination-params.ftl" >
+
+  ],
+
+  <@lib.requestBody
+      mediaType = "application/json"
+      dto = "TaskQueryDto"
+      examples = [
+                  '"example-1": {
+                     "summary": "POST `/task/page?maxResults=10`",
+                     "value": {
+                       "assignee": "anAssignee",
+                       "sorting": [
+                         {
+                           "sortBy": "created",
+                           "sortOrder": "desc"
+                         }
+                       ]
+                     }
+                   }'
+                ] />
+
+  "responses" : {
+
+    <@lib.response
+        code = "200"
+        dto = "TaskKeysetPageDto"
+        desc = "Request successful." />
+
+    <@lib.response
+        code = "400"
+        dto = "ExceptionDto"
+        last = true
+        desc = "Returned if some of the query parameters are invalid, for example if `maxResults`
+                is missing, the sorting is not supported or the cursor is invalid. See the
+                [Introduction](${docsUrl}/reference/rest/overview/#error-handling)
+                for the error response format." />
+
+  }
+}
+</#macro>
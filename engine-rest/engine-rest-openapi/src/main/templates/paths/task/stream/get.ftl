@@ -0,0 +1,91 @@
+<#macro endpoint_macro docsUrl="">
+{
+
+  <@lib.endpointInfo
+      id = "streamTasks"
+      tag = "Task"
+      summary = "Stream List"
+      desc = "Queries for tasks that fulfill a given filter, like the [Get Tasks](${docsUrl}/reference/rest/task/get-query/)
+              method, and streams the tasks while they are read from the database. The tasks are written
+              as a JSON array or, if the `Accept` header is `application/x-ndjson`, as newline delimited
+              JSON with one task per line.
+
+              If task variables are requested, the tasks are selected and written in chunks of 100 tasks.
+
+              The `queryMaxResultsLimit` of the process engine applies unless the process engine
+              configuration property `queryMaxResultsLimitBypassedByStreaming` is enabled.
+
+              **Security Consideration:** There are several query parameters (such as
+              assigneeExpression) for specifying an EL expression. These are disabled by default to
+              prevent remote code execution. See the section on
+              [security considerations](${docsUrl}/user-guide/process-engine/securing-custom-code/)
+              for custom code in the user guide for details." />
+
+  "parameters" : [
+
+    <#assign last = false >
+    <#include "/lib/commons/task-query-params.ftl" >
+
+    <#assign sortByValues = [ '"instanceId"', '"caseInstanceId"', '"dueDate"', '"executionId"', '"caseExecutionId"',
+                              '"assignee"', '"created"', '"lastUpdated"', '"description"', '"id"', '"name"', '"nameCaseInsensitive"',
+                              '"priority"', '"processVariable"', '"executionVariable"', '"taskVariable"',
+                              '"caseExecutionVariable"', '"caseInstanceVariable"' ] >
+    <#assign last = true >
+    <#include "/lib/commons/sort-params.ftl" >
+
+  ],
+
+  "responses" : {
+
+    <@lib.multiTypeResponse
+        code = "200"
+        desc = "Request successful."
+        types = [
+          {
+            "dto": "TaskWithAttachmentAndCommentDto",
+            "array": true,
+            "examples": ['"example-1": {
+                            "summary": "GET `/task/stream?assignee=anAssignee`",
+                            "value": [
+                              {
+                                "id":"anId",
+                                "name":"aName",
+                                "assignee":"anAssignee",
+                                "created":"2013-01-23T13:42:42.657+0200",
+                                "priority":42,
+                                "processDefinitionId":"aProcDefId",
+                                "processInstanceId":"aProcInstId",
+                                "taskDefinitionKey":"aTaskDefinitionKey",
+                                "suspended": false,
+                                "formKey":"aFormKey",
+                                "tenantId": "aTenantId",
+                                "taskState": "aTaskState"
+                              }
+                            ]
+                          }']
+          },
+          {
+            "mediaType": "application/x-ndjson",
+            "dto": "TaskWithAttachmentAndCommentDto"
+          }
+        ] />
+
+    <@lib.response
+        code = "400"
+        dto = "ExceptionDto"
+        desc = "Returned if some of the query parameters are invalid, for example if a `sortOrder`
+                parameter is supplied, but no `sortBy`, or if the `queryMaxResultsLimit` applies. See the
+                [Introduction](${docsUrl}/reference/rest/overview/#error-handling)
+                for the error response format." />
+
+    <@lib.response
+        code = "406"
+        dto = "ExceptionDto"
+        last = true
+        desc = "Returned if neither `application/json` nor `application/x-ndjson` is accepted. See the
+                [Introduction](${docsUrl}/reference/rest/overview/#error-handling)
+                for the error response format." />
+
+  }
+}
+</#macro>
@@ -0,0 +1,78 @@
+<#macro endpoint_macro docsUrl="">
+{
+
+  <@lib.endpointInfo
+      id = "queryStreamTasks"
+      tag = "Task"
+      summary = "Stream List (POST)"
+      desc = "Queries for tasks that fulfill a given filter, like the
+              [Get Tasks (POST)](${docsUrl}/reference/rest/task/post-query/) method, and streams the tasks
+              while they are read from the database. The tasks are written as a JSON array or, if the
+              `Accept` header is `application/x-ndjson`, as newline delimited JSON with one task per line.
+
+              If task variables are requested, the tasks are selected and written in chunks of 100 tasks.
+
+              The `queryMaxResultsLimit` of the process engine applies unless the process engine
+              configuration property `queryMaxResultsLimitBypassedByStreaming` is enabled.
+
+              **Security Consideration**:
+              There are several parameters (such as `assigneeExpression`) for specifying an EL
+              expression. These are disabled by default to prevent remote code execution. See the
+              section on
+              [security considerations for custom code](${docsUrl}/user-guide/process-engine/securing-custom-code/)
+              in the user guide for details." />
+
+  <@lib.requestBody
+      mediaType = "application/json"
+      dto = "TaskQueryDto"
+      examples = [
+                  '"example-1": {
+                     "summary": "POST `/task/stream`",
+                     "value": {
+                       "assignee": "anAssignee",
+                       "withTaskVariablesInReturn": true,
+                       "sorting": [
+                         {
+                           "sortBy": "created",
+                           "sortOrder": "asc"
+                         }
+                       ]
+                     }
+                   }'
+                ] />
+
+  "responses" : {
+
+    <@lib.multiTypeResponse
+        code = "200"
+        desc = "Request successful."
+        types = [
+          {
+            "dto": "TaskWithAttachmentAndCommentDto",
+            "array": true
+          },
+          {
+            "mediaType": "application/x-ndjson",
+            "dto": "TaskWithAttachmentAndCommentDto"
+          }
+        ] />
+
+    <@lib.response
+        code = "400"
+        dto = "ExceptionDto"
+        desc = "Returned if some of the query parameters are invalid, for example if a `sortOrder`
+                parameter is supplied, but no `sortBy`, or if the `queryMaxResultsLimit` applies. See the
+                [Introduction](${docsUrl}/reference/rest/overview/#error-handling)
+                for the error response format." />
+
+    <@lib.response
+        code = "406"
+        dto = "ExceptionDto"
+        last = true
+        desc = "Returned if neither `application/json` nor `application/x-ndjson` is accepted. See the
+                [Introduction](${docsUrl}/reference/rest/overview/#error-handling)
+                for the error response format." />
+
+  }
+}
+</#macro>
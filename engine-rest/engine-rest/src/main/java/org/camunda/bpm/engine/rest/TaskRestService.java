@@ -17,16 +17,19 @@
 package org.camunda.bpm.engine.rest;
 
 import org.camunda.bpm.engine.rest.dto.CountResultDto;
+import org.camunda.bpm.engine.rest.dto.KeysetPageDto;
 import org.camunda.bpm.engine.rest.dto.task.TaskDto;
 import org.camunda.bpm.engine.rest.dto.task.TaskQueryDto;
 import org.camunda.bpm.engine.rest.hal.Hal;
 import org.camunda.bpm.engine.rest.sub.task.TaskReportResource;
 import org.camunda.bpm.engine.rest.sub.task.TaskResource;
+import org.camunda.bpm.engine.rest.util.StreamingQueryOutput;
 
 import javax.ws.rs.*;
 import javax.ws.rs.core.Context;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Request;
+import javax.ws.rs.core.Response;
 import javax.ws.rs.core.UriInfo;
 import java.util.List;
 
@@ -60,6 +63,40 @@ public interface TaskRestService {
   List<TaskDto> queryTasks(TaskQueryDto query,
       @QueryParam("firstResult") Integer firstResult, @QueryParam("maxResults") Integer maxResults);
 
+  /**
+   * Expects the same parameters as {@link TaskRestService#getTasks(Request, UriInfo, Integer, Integer)}
+   * and streams the matching tasks as a JSON array or as newline delimited JSON while they
+   * are read from the database.
+   */
+  @GET
+  @Path("/stream")
+  @Produces({MediaType.APPLICATION_JSON, StreamingQueryOutput.APPLICATION_NDJSON})
+  Response streamTasks(@Context Request request, @Context UriInfo uriInfo);
+
+  @POST
+  @Path("/stream")
+  @Consumes(MediaType.APPLICATION_JSON)
+  @Produces({MediaType.APPLICATION_JSON, StreamingQueryOutput.APPLICATION_NDJSON})
+  Response queryStreamTasks(TaskQueryDto query, @Context Request request);
+
+  /**
+   * Expects the same parameters as {@link TaskRestService#getTasks(Request, UriInfo, Integer, Integer)}
+   * and returns the page of matching tasks following the given cursor, see
+   * {@link org.camunda.bpm.engine.task.TaskQuery#listAfter(String, int)}.
+   */
+  @GET
+  @Path("/page")
+  @Produces(MediaType.APPLICATION_JSON)
+  KeysetPageDto<TaskDto> getTasksPage(@Context UriInfo uriInfo,
+      @QueryParam("cursor") String cursor, @QueryParam("maxResults") Integer maxResults);
+
+  @POST
+  @Path("/page")
+  @Consumes(MediaType.APPLICATION_JSON)
+  @Produces(MediaType.APPLICATION_JSON)
+  KeysetPageDto<TaskDto> queryTasksPage(TaskQueryDto query,
+      @QueryParam("cursor") String cursor, @QueryParam("maxResults") Integer maxResults);
+
   @GET
   @Path("/count")
   @Produces(MediaType.APPLICATION_JSON)
@@ -0,0 +1,61 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.rest.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import org.camunda.bpm.engine.query.KeysetPage;
+
+/**
+ * A page of results selected after a cursor, see {@link KeysetPage}.
+ */
+public class KeysetPageDto<T> {
+
+  protected List<T> items;
+  protected String nextCursor;
+
+  public static <U, T> KeysetPageDto<T> fromKeysetPage(KeysetPage<U> page, Function<U, T> dtoMapper) {
+    KeysetPageDto<T> dto = new KeysetPageDto<>();
+
+    dto.items = new ArrayList<>();
+    for (U result : page.getResults()) {
+      dto.items.add(dtoMapper.apply(result));
+    }
+    dto.nextCursor = page.getNextCursor();
+
+    return dto;
+  }
+
+  public List<T> getItems() {
+    return items;
+  }
+
+  public void setItems(List<T> items) {
+    this.items = items;
+  }
+
+  public String getNextCursor() {
+    return nextCursor;
+  }
+
+  public void setNextCursor(String nextCursor) {
+    this.nextCursor = nextCursor;
+  }
+
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.rest.dto.externaltask;
+
+import java.util.Map;
+
+import org.camunda.bpm.engine.rest.dto.VariableValueDto;
+
+/**
+ * An operation of an {@link ExternalTaskBulkOperationDto}. The <code>type</code> determines which of the
+ * properties are used:
+ * <ul>
+ *   <li><code>complete</code>: <code>variables</code>, <code>localVariables</code></li>
+ *   <li><code>failure</code>: <code>errorMessage</code>, <code>errorDetails</code>, <code>retries</code>,
+ *     <code>retryTimeout</code>, <code>variables</code>, <code>localVariables</code></li>
+ *   <li><code>extendLock</code>: <code>newDuration</code></li>
+ * </ul>
+ */
+public class ExternalTaskOperationDto {
+
+  protected String type;
+  protected String externalTaskId;
+
+  protected Map<String, VariableValueDto> variables;
+  protected Map<String, VariableValueDto> localVariables;
+
+  protected String errorMessage;
+  protected String errorDetails;
+  protected int retries;
+  protected long retryTimeout;
+
+  protected long newDuration;
+
+  public String getType() {
+    return type;
+  }
+
+  public void setType(String type) {
+    this.type = type;
+  }
+
+  public String getExternalTaskId() {
+    return externalTaskId;
+  }
+
+  public void setExternalTaskId(String externalTaskId) {
+    this.externalTaskId = externalTaskId;
+  }
+
+  public Map<String, VariableValueDto> getVariables() {
+    return variables;
+  }
+
+  public void setVariables(Map<String, VariableValueDto> variables) {
+    this.variables = variables;
+  }
+
+  public Map<String, VariableValueDto> getLocalVariables() {
+    return localVariables;
+  }
+
+  public void setLocalVariables(Map<String, VariableValueDto> localVariables) {
+    this.localVariables = localVariables;
+  }
+
+  public String getErrorMessage() {
+    return errorMessage;
+  }
+
+  public void setErrorMessage(String errorMessage) {
+    this.errorMessage = errorMessage;
+  }
+
+  public String getErrorDetails() {
+    return errorDetails;
+  }
+
+  public void setErrorDetails(String errorDetails) {
+    this.errorDetails = errorDetails;
+  }
+
+  public int getRetries() {
+    return retries;
+  }
+
+  public void setRetries(int retries) {
+    this.retries = retries;
+  }
+
+  public long getRetryTimeout() {
+    return retryTimeout;
+  }
+
+  public void setRetryTimeout(long retryTimeout) {
+    this.retryTimeout = retryTimeout;
+  }
+
+  public long getNewDuration() {
+    return newDuration;
+  }
+
+  public void setNewDuration(long newDuration) {
+    this.newDuration = newDuration;
+  }
+
+}
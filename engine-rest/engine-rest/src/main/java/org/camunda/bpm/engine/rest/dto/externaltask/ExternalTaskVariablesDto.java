@@ -0,0 +1,70 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.rest.dto.externaltask;
+
+import java.util.List;
+import java.util.Map;
+
+public class ExternalTaskVariablesDto {
+
+  protected String workerId;
+  protected List<String> variableNames;
+  protected boolean localVariables = false;
+  protected boolean deserializeValues = false;
+  protected Map<String, String> variableProjections;
+
+  public String getWorkerId() {
+    return workerId;
+  }
+
+  public void setWorkerId(String workerId) {
+    this.workerId = workerId;
+  }
+
+  public List<String> getVariableNames() {
+    return variableNames;
+  }
+
+  public void setVariableNames(List<String> variableNames) {
+    this.variableNames = variableNames;
+  }
+
+  public boolean isLocalVariables() {
+    return localVariables;
+  }
+
+  public void setLocalVariables(boolean localVariables) {
+    this.localVariables = localVariables;
+  }
+
+  public boolean isDeserializeValues() {
+    return deserializeValues;
+  }
+
+  public void setDeserializeValues(boolean deserializeValues) {
+    this.deserializeValues = deserializeValues;
+  }
+
+  public Map<String, String> getVariableProjections() {
+    return variableProjections;
+  }
+
+  public void setVariableProjections(Map<String, String> variableProjections) {
+    this.variableProjections = variableProjections;
+  }
+
+}
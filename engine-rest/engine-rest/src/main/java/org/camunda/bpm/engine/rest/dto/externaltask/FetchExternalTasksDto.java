@@ -108,6 +108,8 @@ public class FetchExternalTasksDto {
     protected boolean deserializeValues = false;
     protected boolean localVariables = false;
     protected boolean includeExtensionProperties = false;
+    protected boolean lazyVariables = false;
+    protected Map<String, String> variableProjections;
 
     protected boolean withoutTenantId;
     protected String[] tenantIdIn;
@@ -202,6 +204,18 @@ public class FetchExternalTasksDto {
     public void setIncludeExtensionProperties(boolean includeExtensionProperties) {
       this.includeExtensionProperties = includeExtensionProperties;
     }
+    public boolean isLazyVariables() {
+      return lazyVariables;
+    }
+    public void setLazyVariables(boolean lazyVariables) {
+      this.lazyVariables = lazyVariables;
+    }
+    public Map<String, String> getVariableProjections() {
+      return variableProjections;
+    }
+    public void setVariableProjections(Map<String, String> variableProjections) {
+      this.variableProjections = variableProjections;
+    }
   }
 
   public ExternalTaskQueryTopicBuilder buildQuery(ProcessEngine processEngine) {
@@ -271,6 +285,14 @@ public class FetchExternalTasksDto {
       if(topic.isIncludeExtensionProperties()) {
         topicBuilder.includeExtensionProperties();
       }
+
+      if (topic.isLazyVariables()) {
+        topicBuilder.lazyVariables();
+      }
+
+      if (topic.getVariableProjections() != null) {
+        topic.getVariableProjections().forEach(topicBuilder::variableProjection);
+      }
     });
 
     return topicBuilder;
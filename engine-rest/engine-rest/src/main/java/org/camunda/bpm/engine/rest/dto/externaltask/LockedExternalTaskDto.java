@@ -48,6 +48,7 @@ public class LockedExternalTaskDto {
   protected String topicName;
   protected String tenantId;
   protected Map<String, VariableValueDto> variables;
+  protected Map<String, String> variableTypes;
   protected long priority;
   protected String businessKey;
   protected Map<String, String> extensionProperties;
@@ -103,6 +104,9 @@ public class LockedExternalTaskDto {
   public Map<String, VariableValueDto> getVariables() {
     return variables;
   }
+  public Map<String, String> getVariableTypes() {
+    return variableTypes;
+  }
 
   public long getPriority() {
     return priority;
@@ -139,6 +143,7 @@ public class LockedExternalTaskDto {
     dto.workerId = task.getWorkerId();
     dto.tenantId = task.getTenantId();
     dto.variables = VariableValueDto.fromMap(task.getVariables());
+    dto.variableTypes = task.getVariableTypes();
     dto.priority = task.getPriority();
     dto.businessKey = task.getBusinessKey();
     dto.extensionProperties = task.getExtensionProperties();
@@ -176,6 +181,7 @@ public class LockedExternalTaskDto {
         + ", topicName=" + topicName
         + ", tenantId=" + tenantId
         + ", variables=" + variables
+        + ", variableTypes=" + variableTypes
         + ", priority=" + priority
         + ", businessKey=" + businessKey + "]";
   }
@@ -34,12 +34,14 @@ import javax.ws.rs.core.UriInfo;
 
 import org.camunda.bpm.engine.history.HistoricProcessInstanceQuery;
 import org.camunda.bpm.engine.rest.dto.CountResultDto;
+import org.camunda.bpm.engine.rest.dto.KeysetPageDto;
 import org.camunda.bpm.engine.rest.dto.batch.BatchDto;
 import org.camunda.bpm.engine.rest.dto.history.DeleteHistoricProcessInstancesDto;
 import org.camunda.bpm.engine.rest.dto.history.HistoricProcessInstanceDto;
 import org.camunda.bpm.engine.rest.dto.history.HistoricProcessInstanceQueryDto;
 import org.camunda.bpm.engine.rest.dto.history.batch.removaltime.SetRemovalTimeToHistoricProcessInstancesDto;
 import org.camunda.bpm.engine.rest.sub.history.HistoricProcessInstanceResource;
+import org.camunda.bpm.engine.rest.util.StreamingQueryOutput;
 
 @Path(HistoricProcessInstanceRestService.PATH)
 @Produces(MediaType.APPLICATION_JSON)
@@ -76,6 +78,38 @@ public interface HistoricProcessInstanceRestService {
   List<HistoricProcessInstanceDto> queryHistoricProcessInstances(HistoricProcessInstanceQueryDto query, @QueryParam("firstResult") Integer firstResult,
       @QueryParam("maxResults") Integer maxResults);
 
+  /**
+   * Streams the results of the {@link HistoricProcessInstanceQuery} as a JSON array or
+   * as newline delimited JSON while they are read from the database.
+   */
+  @GET
+  @Path("/stream")
+  @Produces({ MediaType.APPLICATION_JSON, StreamingQueryOutput.APPLICATION_NDJSON })
+  Response streamHistoricProcessInstances(@Context UriInfo uriInfo, @Context Request request);
+
+  @POST
+  @Path("/stream")
+  @Consumes(MediaType.APPLICATION_JSON)
+  @Produces({ MediaType.APPLICATION_JSON, StreamingQueryOutput.APPLICATION_NDJSON })
+  Response queryStreamHistoricProcessInstances(HistoricProcessInstanceQueryDto query, @Context Request request);
+
+  /**
+   * Returns the page of results of the {@link HistoricProcessInstanceQuery} following the
+   * given cursor, see {@link HistoricProcessInstanceQuery#listAfter(String, int)}.
+   */
+  @GET
+  @Path("/page")
+  @Produces(MediaType.APPLICATION_JSON)
+  KeysetPageDto<HistoricProcessInstanceDto> getHistoricProcessInstancesPage(@Context UriInfo uriInfo, @QueryParam("cursor") String cursor,
+      @QueryParam("maxResults") Integer maxResults);
+
+  @POST
+  @Path("/page")
+  @Consumes(MediaType.APPLICATION_JSON)
+  @Produces(MediaType.APPLICATION_JSON)
+  KeysetPageDto<HistoricProcessInstanceDto> queryHistoricProcessInstancesPage(HistoricProcessInstanceQueryDto query, @QueryParam("cursor") String cursor,
+      @QueryParam("maxResults") Integer maxResults);
+
   @GET
   @Path("/count")
   @Produces(MediaType.APPLICATION_JSON)
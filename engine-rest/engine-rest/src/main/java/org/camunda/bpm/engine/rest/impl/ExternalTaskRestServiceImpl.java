@@ -22,20 +22,29 @@ import java.util.List;
 import javax.ws.rs.container.AsyncResponse;
 import javax.ws.rs.core.Response.Status;
 import javax.ws.rs.core.UriInfo;
+import javax.ws.rs.sse.Sse;
+import javax.ws.rs.sse.SseEventSink;
 import org.camunda.bpm.engine.BadUserRequestException;
 import org.camunda.bpm.engine.ExternalTaskService;
 import org.camunda.bpm.engine.ProcessEngine;
 import org.camunda.bpm.engine.batch.Batch;
 import org.camunda.bpm.engine.exception.NotFoundException;
 import org.camunda.bpm.engine.externaltask.ExternalTask;
+import org.camunda.bpm.engine.externaltask.ExternalTaskBulkOperationBuilder;
+import org.camunda.bpm.engine.externaltask.ExternalTaskOperationResult;
 import org.camunda.bpm.engine.externaltask.ExternalTaskQuery;
 import org.camunda.bpm.engine.externaltask.UpdateExternalTaskRetriesBuilder;
 import org.camunda.bpm.engine.history.HistoricProcessInstanceQuery;
 import org.camunda.bpm.engine.rest.ExternalTaskRestService;
 import org.camunda.bpm.engine.rest.dto.CountResultDto;
+import org.camunda.bpm.engine.rest.dto.VariableValueDto;
 import org.camunda.bpm.engine.rest.dto.batch.BatchDto;
+import org.camunda.bpm.engine.rest.dto.externaltask.ExternalTaskBulkOperationDto;
 import org.camunda.bpm.engine.rest.dto.externaltask.ExternalTaskDto;
+import org.camunda.bpm.engine.rest.dto.externaltask.ExternalTaskOperationDto;
+import org.camunda.bpm.engine.rest.dto.externaltask.ExternalTaskOperationResultDto;
 import org.camunda.bpm.engine.rest.dto.externaltask.ExternalTaskQueryDto;
+import org.camunda.bpm.engine.rest.dto.externaltask.FetchAndLockStreamCreditDto;
 import org.camunda.bpm.engine.rest.dto.externaltask.FetchExternalTasksExtendedDto;
 import org.camunda.bpm.engine.rest.dto.externaltask.SetRetriesForExternalTasksDto;
 import org.camunda.bpm.engine.rest.dto.history.HistoricProcessInstanceQueryDto;
@@ -104,6 +113,74 @@ public class ExternalTaskRestServiceImpl extends AbstractRestProcessEngineAware
     fetchAndLockHandler.addPendingRequest(dto, asyncResponse, getProcessEngine());
   }
 
+  @Override
+  public void fetchAndLockStream(FetchExternalTasksExtendedDto dto, SseEventSink eventSink, Sse sse) {
+    FetchAndLockHandler fetchAndLockHandler = FetchAndLockContextListener.getFetchAndLockHandler();
+    fetchAndLockHandler.addStream(dto, eventSink, sse, getProcessEngine());
+  }
+
+  @Override
+  public void addFetchAndLockStreamCredit(String streamId, FetchAndLockStreamCreditDto dto) {
+    FetchAndLockHandler fetchAndLockHandler = FetchAndLockContextListener.getFetchAndLockHandler();
+    fetchAndLockHandler.addStreamCredit(streamId, dto.getCredit(), getProcessEngine());
+  }
+
+  @Override
+  public List<ExternalTaskOperationResultDto> executeBulkOperation(ExternalTaskBulkOperationDto dto) {
+    ProcessEngine engine = getProcessEngine();
+    List<ExternalTaskOperationDto> operations = dto.getOperations();
+
+    if (dto.getWorkerId() == null) {
+      throw new InvalidRequestException(Status.BAD_REQUEST, "The worker id cannot be null.");
+    }
+    if (operations == null || operations.isEmpty()) {
+      return new ArrayList<>();
+    }
+
+    ExternalTaskBulkOperationBuilder builder = engine.getExternalTaskService().bulkOperation(dto.getWorkerId());
+    if (dto.isExecuteSeparatelyOnFailure()) {
+      builder.executeSeparatelyOnFailure();
+    }
+
+    for (ExternalTaskOperationDto operation : operations) {
+      if (operation.getExternalTaskId() == null) {
+        throw new InvalidRequestException(Status.BAD_REQUEST, "The external task id of an operation cannot be null.");
+      }
+
+      String type = operation.getType();
+      if (ExternalTaskOperationResult.OPERATION_COMPLETE.equals(type)) {
+        builder.complete(operation.getExternalTaskId(),
+            VariableValueDto.toMap(operation.getVariables(), engine, getObjectMapper()),
+            VariableValueDto.toMap(operation.getLocalVariables(), engine, getObjectMapper()));
+
+      } else if (ExternalTaskOperationResult.OPERATION_FAILURE.equals(type)) {
+        builder.handleFailure(operation.getExternalTaskId(),
+            operation.getErrorMessage(),
+            operation.getErrorDetails(),
+            operation.getRetries(),
+            operation.getRetryTimeout(),
+            VariableValueDto.toMap(operation.getVariables(), engine, getObjectMapper()),
+            VariableValueDto.toMap(operation.getLocalVariables(), engine, getObjectMapper()));
+
+      } else if (ExternalTaskOperationResult.OPERATION_EXTEND_LOCK.equals(type)) {
+        try {
+          builder.extendLock(operation.getExternalTaskId(), operation.getNewDuration());
+        } catch (BadUserRequestException e) {
+          throw new InvalidRequestException(Status.BAD_REQUEST, e, e.getMessage());
+        }
+
+      } else {
+        throw new InvalidRequestException(Status.BAD_REQUEST, "Unknown external task operation type '" + type + "'.");
+      }
+    }
+
+    List<ExternalTaskOperationResultDto> results = new ArrayList<>();
+    for (ExternalTaskOperationResult result : builder.execute()) {
+      results.add(ExternalTaskOperationResultDto.fromOperationResult(result));
+    }
+    return results;
+  }
+
   @Override
   public ExternalTaskResource getExternalTask(String externalTaskId) {
     return new ExternalTaskResourceImpl(getProcessEngine(), externalTaskId, getObjectMapper());
@@ -17,16 +17,30 @@
 package org.camunda.bpm.engine.rest.impl;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import javax.servlet.ServletContext;
 import javax.servlet.ServletContextEvent;
 import javax.ws.rs.container.AsyncResponse;
 import javax.ws.rs.core.Response.Status;
+import javax.ws.rs.sse.Sse;
+import javax.ws.rs.sse.SseEventSink;
 import org.camunda.bpm.engine.IdentityService;
 import org.camunda.bpm.engine.ProcessEngine;
 import org.camunda.bpm.engine.externaltask.ExternalTaskQueryTopicBuilder;
@@ -35,6 +49,8 @@ import org.camunda.bpm.engine.impl.ProcessEngineImpl;
 import org.camunda.bpm.engine.impl.identity.Authentication;
 import org.camunda.bpm.engine.impl.util.ClockUtil;
 import org.camunda.bpm.engine.impl.util.SingleConsumerCondition;
+import org.camunda.bpm.engine.rest.dto.SortingDto;
+import org.camunda.bpm.engine.rest.dto.externaltask.FetchExternalTasksDto.FetchExternalTaskTopicDto;
 import org.camunda.bpm.engine.rest.dto.externaltask.FetchExternalTasksExtendedDto;
 import org.camunda.bpm.engine.rest.dto.externaltask.LockedExternalTaskDto;
 import org.camunda.bpm.engine.rest.exception.InvalidRequestException;
@@ -70,6 +86,12 @@ public class FetchAndLockHandlerImpl implements Runnable, FetchAndLockHandler {
 
   protected boolean isUniqueWorkerRequest = false;
 
+  protected Set<String> availableTopics = ConcurrentHashMap.newKeySet();
+  protected volatile boolean anyTopicAvailable = false;
+
+  protected Map<String, FetchAndLockStream> streams = new ConcurrentHashMap<>();
+  protected Consumer<String> topicCondition = this::signalTopic;
+
   public FetchAndLockHandlerImpl() {
     this.condition = new SingleConsumerCondition(handlerThread);
   }
@@ -104,57 +126,263 @@ public class FetchAndLockHandlerImpl implements Runnable, FetchAndLockHandler {
 
     LOG.log(Level.FINEST, "Number of pending requests {0}", pendingRequests.size());
 
+    Set<String> topicNames = drainAvailableTopics();
+
     long backoffTime = MAX_BACK_OFF_TIME; //timestamp
+    Set<FetchAndLockRequest> completedRequests = new HashSet<>();
 
-    Iterator<FetchAndLockRequest> iterator = pendingRequests.iterator();
-    while (iterator.hasNext()) {
+    for (FetchAndLockRequest pendingRequest : pendingRequests) {
+      if (pendingRequest instanceof FetchAndLockStream && ((FetchAndLockStream) pendingRequest).isClosed()) {
+        LOG.log(Level.FINEST, "Remove closed stream {0}", pendingRequest);
 
-      FetchAndLockRequest pendingRequest = iterator.next();
+        completedRequests.add(pendingRequest);
+      }
+    }
 
-      LOG.log(Level.FINEST, "Fetching tasks for request {0}", pendingRequest);
+    for (List<FetchAndLockRequest> requests : groupPendingRequests(completedRequests)) {
 
-      FetchAndLockResult result = tryFetchAndLock(pendingRequest);
+      List<FetchAndLockResult> results = null;
+      if (isFetchRequired(requests, topicNames)) {
+        LOG.log(Level.FINEST, "Fetching tasks for requests {0}", requests);
 
-      LOG.log(Level.FINEST, "Fetch and lock result: {0}", result);
+        results = tryFetchAndLock(requests);
 
-      if (result.wasSuccessful()) {
+        LOG.log(Level.FINEST, "Fetch and lock results: {0}", results);
+      }
 
-        List<LockedExternalTaskDto> lockedTasks = result.getTasks();
+      for (int i = 0; i < requests.size(); i++) {
+        FetchAndLockRequest pendingRequest = requests.get(i);
+        FetchAndLockResult result = results != null ? results.get(i) : null;
+
+        if (pendingRequest instanceof FetchAndLockStream) {
+          FetchAndLockStream stream = (FetchAndLockStream) pendingRequest;
+
+          if (handleStreamResult(stream, result)) {
+            completedRequests.add(stream);
+          }
+          else {
+            final long msUntilFetch = stream.getLastFetchTime().getTime() + PENDING_REQUEST_FETCH_INTERVAL
+                - ClockUtil.getCurrentTime().getTime();
+            backoffTime = Math.min(backoffTime, msUntilFetch);
+          }
+        }
+        else if (result == null || result.wasSuccessful()) {
 
-        if (!lockedTasks.isEmpty() || isExpired(pendingRequest)) {
-          AsyncResponse asyncResponse = pendingRequest.getAsyncResponse();
-          asyncResponse.resume(lockedTasks);
+          List<LockedExternalTaskDto> lockedTasks = result != null ? result.getTasks() : Collections.emptyList();
 
-          LOG.log(Level.FINEST, "resume and remove request with {0}", lockedTasks);
+          if (!lockedTasks.isEmpty() || isExpired(pendingRequest)) {
+            AsyncResponse asyncResponse = pendingRequest.getAsyncResponse();
+            asyncResponse.resume(lockedTasks);
 
-          iterator.remove();
+            LOG.log(Level.FINEST, "resume and remove request with {0}", lockedTasks);
+
+            completedRequests.add(pendingRequest);
+          }
+          else {
+            final long currentTime = ClockUtil.getCurrentTime().getTime();
+            final long msUntilTimeout = pendingRequest.getTimeoutTimestamp() - currentTime;
+            final long msUntilFetch = pendingRequest.getLastFetchTime().getTime() + PENDING_REQUEST_FETCH_INTERVAL - currentTime;
+            backoffTime = Math.min(backoffTime, Math.min(msUntilTimeout, msUntilFetch));
+          }
         }
         else {
-          final long msUntilTimeout = pendingRequest.getTimeoutTimestamp() - ClockUtil.getCurrentTime().getTime();
-          backoffTime = Math.min(backoffTime, msUntilTimeout);
+          AsyncResponse asyncResponse = pendingRequest.getAsyncResponse();
+          Throwable processEngineException = result.getThrowable();
+          asyncResponse.resume(processEngineException);
+
+          LOG.log(Level.FINEST, "Resume and remove request with error", processEngineException);
+
+          completedRequests.add(pendingRequest);
         }
       }
-      else {
-        AsyncResponse asyncResponse = pendingRequest.getAsyncResponse();
-        Throwable processEngineException = result.getThrowable();
-        asyncResponse.resume(processEngineException);
+    }
+
+    removeCompletedRequests(completedRequests);
+
+    // if there are pending requests, the back off time ensures that tasks are fetched
+    // periodically, so that tasks created on other cluster nodes and tasks with expired
+    // locks can be fetched in a timely manner
+    suspend(Math.max(0, backoffTime));
+  }
+
+  /**
+   * @return <code>true</code> if the stream was closed
+   */
+  protected boolean handleStreamResult(FetchAndLockStream stream, FetchAndLockResult result) {
+    if (result == null) {
+      return false;
+    }
+
+    if (result.wasSuccessful()) {
+      List<LockedExternalTaskDto> lockedTasks = result.getTasks();
+      if (!lockedTasks.isEmpty()) {
+        stream.sendTasks(lockedTasks);
+
+        LOG.log(Level.FINEST, "Send {0} to stream", lockedTasks);
+      }
+      return false;
+    }
+    else {
+      Throwable processEngineException = result.getThrowable();
+      stream.sendErrorAndClose(processEngineException);
+
+      LOG.log(Level.FINEST, "Close stream with error", processEngineException);
+      return true;
+    }
+  }
+
+  protected void removeCompletedRequests(Set<FetchAndLockRequest> completedRequests) {
+    if (!completedRequests.isEmpty()) {
+      pendingRequests.removeIf(completedRequests::contains);
+
+      for (FetchAndLockRequest completedRequest : completedRequests) {
+        if (completedRequest instanceof FetchAndLockStream) {
+          streams.remove(((FetchAndLockStream) completedRequest).getStreamId());
+        }
+      }
+    }
+  }
+
+  /**
+   * Groups the pending requests which can be served by the same query, i.e. requests
+   * of the same process engine and authentication with the same topics and options.
+   * Requests differing only in their worker id, maximum number of tasks or timeout
+   * belong to the same group. Streams without credit are not part of any group.
+   */
+  protected Collection<List<FetchAndLockRequest>> groupPendingRequests(Set<FetchAndLockRequest> completedRequests) {
+    Map<List<Object>, List<FetchAndLockRequest>> groups = new LinkedHashMap<>();
+    for (FetchAndLockRequest pendingRequest : pendingRequests) {
+      if (!completedRequests.contains(pendingRequest)
+          && (!(pendingRequest instanceof FetchAndLockStream) || pendingRequest.getMaxTasks() > 0)) {
+        groups.computeIfAbsent(getGroupKey(pendingRequest), key -> new ArrayList<>()).add(pendingRequest);
+      }
+    }
+    return groups.values();
+  }
 
-        LOG.log(Level.FINEST, "Resume and remove request with error", processEngineException);
+  protected List<Object> getGroupKey(FetchAndLockRequest request) {
+    List<Object> key = new ArrayList<>();
+    key.add(request.getProcessEngineName());
+
+    Authentication authentication = request.getAuthentication();
+    if (authentication != null) {
+      key.add(authentication.getUserId());
+      key.add(authentication.getGroupIds());
+      key.add(authentication.getTenantIds());
+    }
 
-        iterator.remove();
+    FetchExternalTasksExtendedDto dto = request.getDto();
+    key.add(dto.isUsePriority());
+    key.add(dto.isIncludeExtensionProperties());
+
+    if (dto.getSorting() != null) {
+      for (SortingDto sorting : dto.getSorting()) {
+        key.add(Arrays.asList(sorting.getSortBy(), sorting.getSortOrder(), sorting.getParameters()));
       }
     }
 
-    final long waitTime = Math.max(0, backoffTime);
+    if (dto.getTopics() != null) {
+      for (FetchExternalTaskTopicDto topic : dto.getTopics()) {
+        key.add(Arrays.asList(
+            topic.getTopicName(),
+            topic.getLockDuration(),
+            topic.getBusinessKey(),
+            topic.getProcessDefinitionId(),
+            asList(topic.getProcessDefinitionIdIn()),
+            topic.getProcessDefinitionKey(),
+            asList(topic.getProcessDefinitionKeyIn()),
+            topic.getProcessDefinitionVersionTag(),
+            topic.getVariables(),
+            topic.getProcessVariables(),
+            topic.isDeserializeValues(),
+            topic.isLocalVariables(),
+            topic.isIncludeExtensionProperties(),
+            topic.isLazyVariables(),
+            topic.getVariableProjections(),
+            topic.isWithoutTenantId(),
+            asList(topic.getTenantIdIn())));
+      }
+    }
+
+    return key;
+  }
+
+  protected List<String> asList(String[] values) {
+    return values != null ? Arrays.asList(values) : null;
+  }
+
+  /**
+   * Tasks are fetched for a group of requests if tasks of one of its topics became available,
+   * if a request expired, if a stream was granted credit or if tasks were not fetched for
+   * the requests for a while.
+   *
+   * @param topicNames the topics of the available tasks or <code>null</code> if tasks of any topic may be available
+   */
+  protected boolean isFetchRequired(List<FetchAndLockRequest> requests, Set<String> topicNames) {
+    long currentTime = ClockUtil.getCurrentTime().getTime();
+    boolean isFetchRequired = false;
+
+    for (FetchAndLockRequest request : requests) {
+      if (request instanceof FetchAndLockStream) {
+        // poll the flag of every stream of the group
+        isFetchRequired |= ((FetchAndLockStream) request).pollCreditAdded();
+      }
+
+      if (isExpired(request)
+          || request.getLastFetchTime().getTime() + PENDING_REQUEST_FETCH_INTERVAL <= currentTime) {
+        isFetchRequired = true;
+      }
+    }
+
+    if (isFetchRequired) {
+      return true;
+    }
+
+    if (topicNames == null) {
+      return true;
+    }
+
+    List<FetchExternalTaskTopicDto> topics = requests.get(0).getDto().getTopics();
+    if (topics != null) {
+      for (FetchExternalTaskTopicDto topic : topics) {
+        if (topicNames.contains(topic.getTopicName())) {
+          return true;
+        }
+      }
+    }
+
+    return false;
+  }
+
+  /**
+   * @return the topics of the tasks which became available since the last call
+   *   or <code>null</code> if tasks of any topic may be available
+   */
+  protected Set<String> drainAvailableTopics() {
+    if (anyTopicAvailable) {
+      anyTopicAvailable = false;
+      availableTopics.clear();
+      return null;
+    }
+
+    Set<String> topicNames = new HashSet<>();
+    Iterator<String> iterator = availableTopics.iterator();
+    while (iterator.hasNext()) {
+      topicNames.add(iterator.next());
+      iterator.remove();
+    }
+    return topicNames;
+  }
 
-    if (pendingRequests.isEmpty()) {
-      suspend(waitTime);
+  protected void signalTopic(String topicName) {
+    if (topicName == null) {
+      anyTopicAvailable = true;
     }
     else {
-      // if there are pending requests, try fetch periodically to ensure tasks created on other
-      // cluster nodes and tasks with expired timeouts can be fetched in a timely manner
-      suspend(Math.min(PENDING_REQUEST_FETCH_INTERVAL, waitTime));
+      availableTopics.add(topicName);
     }
+
+    condition.signal();
   }
 
   protected void removeDuplicates() {
@@ -163,7 +391,8 @@ public class FetchAndLockHandlerImpl implements Runnable, FetchAndLockHandler {
       Iterator<FetchAndLockRequest> iterator = pendingRequests.iterator();
       while (iterator.hasNext()) {
         FetchAndLockRequest pendingRequest = iterator.next();
-        if (pendingRequest.getDto().getWorkerId().equals(newRequest.getDto().getWorkerId())) {
+        if (!(pendingRequest instanceof FetchAndLockStream) && !(newRequest instanceof FetchAndLockStream)
+            && pendingRequest.getDto().getWorkerId().equals(newRequest.getDto().getWorkerId())) {
           AsyncResponse asyncResponse = pendingRequest.getAsyncResponse();
           asyncResponse.cancel();
 
@@ -186,13 +415,13 @@ public class FetchAndLockHandlerImpl implements Runnable, FetchAndLockHandler {
       initializeQueue(DEFAULT_BLOCKING_QUEUE_CAPACITY);
     }
 
-    ProcessEngineImpl.EXT_TASK_CONDITIONS.addConsumer(condition);
+    ProcessEngineImpl.EXT_TASK_TOPIC_CONDITIONS.addConsumer(topicCondition);
   }
 
   @Override
   public void shutdown() {
     try {
-      ProcessEngineImpl.EXT_TASK_CONDITIONS.removeConsumer(condition);
+      ProcessEngineImpl.EXT_TASK_TOPIC_CONDITIONS.removeConsumer(topicCondition);
     }
     finally {
       isRunning = false;
@@ -231,8 +460,15 @@ public class FetchAndLockHandlerImpl implements Runnable, FetchAndLockHandler {
 
   protected void addRequest(FetchAndLockRequest request) {
     if (!queue.offer(request)) {
-      AsyncResponse asyncResponse = request.getAsyncResponse();
-      errorTooManyRequests(asyncResponse);
+      if (request instanceof FetchAndLockStream) {
+        FetchAndLockStream stream = (FetchAndLockStream) request;
+        streams.remove(stream.getStreamId());
+        stream.sendErrorAndClose(tooManyRequestsException());
+      }
+      else {
+        AsyncResponse asyncResponse = request.getAsyncResponse();
+        errorTooManyRequests(asyncResponse);
+      }
     }
 
     condition.signal();
@@ -261,11 +497,73 @@ public class FetchAndLockHandlerImpl implements Runnable, FetchAndLockHandler {
       if (identityService != null) {
         identityService.clearAuthentication();
       }
+
+      request.setLastFetchTime(ClockUtil.getCurrentTime());
     }
 
     return result;
   }
 
+  /**
+   * Fetches the tasks for a group of requests with a single query.
+   *
+   * @return the result per request
+   */
+  protected List<FetchAndLockResult> tryFetchAndLock(List<FetchAndLockRequest> requests) {
+    if (requests.size() == 1 && !(requests.get(0) instanceof FetchAndLockStream)) {
+      return Collections.singletonList(tryFetchAndLock(requests.get(0)));
+    }
+
+    FetchAndLockRequest firstRequest = requests.get(0);
+    IdentityService identityService = null;
+    List<FetchAndLockResult> results = new ArrayList<>();
+
+    try {
+      ProcessEngine processEngine = getProcessEngine(firstRequest);
+
+      identityService = processEngine.getIdentityService();
+      identityService.setAuthentication(firstRequest.getAuthentication());
+
+      Map<String, Integer> maxTasksPerWorker = new LinkedHashMap<>();
+      for (FetchAndLockRequest request : requests) {
+        maxTasksPerWorker.merge(request.getDto().getWorkerId(), request.getMaxTasks(), Integer::sum);
+      }
+
+      Map<String, List<LockedExternalTaskDto>> lockedTasks = executeFetchAndLock(firstRequest.getDto(), maxTasksPerWorker, processEngine);
+
+      // requests of the same worker share the tasks locked for the worker
+      Map<String, Integer> assignedTasks = new HashMap<>();
+      for (FetchAndLockRequest request : requests) {
+        FetchExternalTasksExtendedDto dto = request.getDto();
+        List<LockedExternalTaskDto> workerTasks = lockedTasks.getOrDefault(dto.getWorkerId(), Collections.emptyList());
+
+        int fromIndex = Math.min(assignedTasks.getOrDefault(dto.getWorkerId(), 0), workerTasks.size());
+        int toIndex = Math.min(fromIndex + request.getMaxTasks(), workerTasks.size());
+        assignedTasks.put(dto.getWorkerId(), toIndex);
+
+        results.add(FetchAndLockResult.successful(new ArrayList<>(workerTasks.subList(fromIndex, toIndex))));
+      }
+    }
+    catch (Exception e) {
+      results.clear();
+      for (int i = 0; i < requests.size(); i++) {
+        results.add(FetchAndLockResult.failed(e));
+      }
+    }
+    finally {
+      if (identityService != null) {
+        identityService.clearAuthentication();
+      }
+
+      Date fetchTime = ClockUtil.getCurrentTime();
+      for (FetchAndLockRequest request : requests) {
+        request.setLastFetchTime(fetchTime);
+      }
+    }
+
+    return results;
+  }
+
   protected List<LockedExternalTaskDto> executeFetchAndLock(FetchExternalTasksExtendedDto fetchingDto, ProcessEngine processEngine) {
     ExternalTaskQueryTopicBuilder fetchBuilder = fetchingDto.buildQuery(processEngine);
     List<LockedExternalTask> externalTasks = fetchBuilder.execute();
@@ -273,15 +571,35 @@ public class FetchAndLockHandlerImpl implements Runnable, FetchAndLockHandler {
     return LockedExternalTaskDto.fromLockedExternalTasks(externalTasks);
   }
 
+  protected Map<String, List<LockedExternalTaskDto>> executeFetchAndLock(FetchExternalTasksExtendedDto fetchingDto,
+                                                                          Map<String, Integer> maxTasksPerWorker,
+                                                                          ProcessEngine processEngine) {
+    ExternalTaskQueryTopicBuilder fetchBuilder = fetchingDto.buildQuery(processEngine);
+    Map<String, List<LockedExternalTask>> externalTasks = fetchBuilder.execute(maxTasksPerWorker);
+
+    Map<String, List<LockedExternalTaskDto>> lockedTasks = new HashMap<>();
+    externalTasks.forEach((workerId, tasks) -> lockedTasks.put(workerId, LockedExternalTaskDto.fromLockedExternalTasks(tasks)));
+    return lockedTasks;
+  }
+
   protected void errorTooManyRequests(AsyncResponse asyncResponse) {
+    asyncResponse.resume(tooManyRequestsException());
+  }
+
+  protected InvalidRequestException tooManyRequestsException() {
     String errorMessage = "At the moment the server has to handle too many requests at the same time. Please try again later.";
-    asyncResponse.resume(new InvalidRequestException(Status.INTERNAL_SERVER_ERROR, errorMessage));
+    return new InvalidRequestException(Status.INTERNAL_SERVER_ERROR, errorMessage);
   }
 
   protected void rejectPendingRequests() {
     for (FetchAndLockRequest pendingRequest : pendingRequests) {
-      AsyncResponse asyncResponse = pendingRequest.getAsyncResponse();
-      asyncResponse.resume(new RestException(Status.INTERNAL_SERVER_ERROR, "Request rejected due to shutdown of application server."));
+      if (pendingRequest instanceof FetchAndLockStream) {
+        ((FetchAndLockStream) pendingRequest).close();
+      }
+      else {
+        AsyncResponse asyncResponse = pendingRequest.getAsyncResponse();
+        asyncResponse.resume(new RestException(Status.INTERNAL_SERVER_ERROR, "Request rejected due to shutdown of application server."));
+      }
     }
   }
 
@@ -341,6 +659,65 @@ public class FetchAndLockHandlerImpl implements Runnable, FetchAndLockHandler {
     }
   }
 
+  @Override
+  public String addStream(FetchExternalTasksExtendedDto dto, SseEventSink eventSink, Sse sse, ProcessEngine processEngine) {
+    if (dto.getWorkerId() == null) {
+      throw new InvalidRequestException(Status.BAD_REQUEST, "The worker id of a stream must not be null");
+    }
+
+    IdentityService identityService = processEngine.getIdentityService();
+    Authentication authentication = identityService.getCurrentAuthentication();
+
+    FetchAndLockStream stream = new FetchAndLockStream()
+      .setEventSink(eventSink)
+      .setSse(sse);
+    stream
+      .setProcessEngineName(processEngine.getName())
+      .setAuthentication(authentication)
+      .setDto(dto);
+
+    // the initial credit triggers the first fetch
+    stream.addCredit(dto.getMaxTasks());
+
+    LOG.log(Level.FINEST, "New stream: {0}", stream);
+
+    streams.put(stream.getStreamId(), stream);
+    stream.sendStreamId();
+    addRequest(stream);
+
+    return stream.getStreamId();
+  }
+
+  @Override
+  public void addStreamCredit(String streamId, int credit, ProcessEngine processEngine) {
+    FetchAndLockStream stream = streams.get(streamId);
+    if (stream == null) {
+      throw new InvalidRequestException(Status.NOT_FOUND, "Stream with id '" + streamId + "' does not exist");
+    }
+    if (!isStreamOwner(stream, processEngine)) {
+      throw new InvalidRequestException(Status.FORBIDDEN, "Stream with id '" + streamId + "' was opened by another user");
+    }
+    if (credit <= 0) {
+      throw new InvalidRequestException(Status.BAD_REQUEST, "The credit of a stream must be greater than zero");
+    }
+
+    stream.addCredit(credit);
+    condition.signal();
+  }
+
+  protected boolean isStreamOwner(FetchAndLockStream stream, ProcessEngine processEngine) {
+    if (!processEngine.getName().equals(stream.getProcessEngineName())) {
+      return false;
+    }
+
+    Authentication streamAuthentication = stream.getAuthentication();
+    Authentication currentAuthentication = processEngine.getIdentityService().getCurrentAuthentication();
+    String streamUserId = streamAuthentication != null ? streamAuthentication.getUserId() : null;
+    String currentUserId = currentAuthentication != null ? currentAuthentication.getUserId() : null;
+
+    return Objects.equals(streamUserId, currentUserId);
+  }
+
   public void contextInitialized(ServletContextEvent servletContextEvent) {
     ServletContext servletContext;
     int queueCapacity = DEFAULT_BLOCKING_QUEUE_CAPACITY;
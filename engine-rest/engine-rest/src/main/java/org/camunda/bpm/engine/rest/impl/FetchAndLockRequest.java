@@ -34,6 +34,7 @@ public class FetchAndLockRequest {
   protected AsyncResponse asyncResponse;
   protected String processEngineName;
   protected Authentication authentication;
+  protected Date lastFetchTime;
 
   public Date getRequestTime() {
     return requestTime;
@@ -80,6 +81,22 @@ public class FetchAndLockRequest {
     return this;
   }
 
+  /**
+   * @return the time tasks were last fetched for the request, initially the request time
+   */
+  public Date getLastFetchTime() {
+    return lastFetchTime != null ? lastFetchTime : requestTime;
+  }
+
+  public FetchAndLockRequest setLastFetchTime(Date lastFetchTime) {
+    this.lastFetchTime = lastFetchTime;
+    return this;
+  }
+
+  public int getMaxTasks() {
+    return getDto().getMaxTasks();
+  }
+
   public long getTimeoutTimestamp() {
     FetchExternalTasksExtendedDto dto = getDto();
     long requestTime = getRequestTime().getTime();
@@ -0,0 +1,152 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.rest.impl;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.sse.OutboundSseEvent;
+import javax.ws.rs.sse.Sse;
+import javax.ws.rs.sse.SseEventSink;
+import org.camunda.bpm.engine.rest.dto.ExceptionDto;
+import org.camunda.bpm.engine.rest.dto.externaltask.LockedExternalTaskDto;
+
+/**
+ * <p>A fetch and lock request which stays open and receives the locked tasks
+ * as server-sent events as soon as they become available.</p>
+ *
+ * <p>The stream receives at most as many tasks as its credit allows. The credit is
+ * initially the maximum number of tasks of the request and is consumed by every
+ * sent task. The client grants further credit when it is ready to handle more tasks.</p>
+ */
+public class FetchAndLockStream extends FetchAndLockRequest {
+
+  /** event sent once when the stream is opened; the data is the id of the stream */
+  public static final String STREAM_EVENT = "stream";
+  /** event containing a list of locked tasks */
+  public static final String TASKS_EVENT = "tasks";
+  /** event sent before the stream is closed due to an error */
+  public static final String ERROR_EVENT = "error";
+
+  protected String streamId = UUID.randomUUID().toString();
+  protected SseEventSink eventSink;
+  protected Sse sse;
+  protected AtomicInteger credit = new AtomicInteger();
+  protected volatile boolean creditAdded;
+
+  public String getStreamId() {
+    return streamId;
+  }
+
+  public SseEventSink getEventSink() {
+    return eventSink;
+  }
+
+  public FetchAndLockStream setEventSink(SseEventSink eventSink) {
+    this.eventSink = eventSink;
+    return this;
+  }
+
+  public Sse getSse() {
+    return sse;
+  }
+
+  public FetchAndLockStream setSse(Sse sse) {
+    this.sse = sse;
+    return this;
+  }
+
+  public int getCredit() {
+    return credit.get();
+  }
+
+  public void addCredit(int credit) {
+    this.credit.addAndGet(credit);
+    this.creditAdded = true;
+  }
+
+  /**
+   * @return <code>true</code> if credit was added since the last call
+   */
+  public boolean pollCreditAdded() {
+    boolean wasCreditAdded = creditAdded;
+    creditAdded = false;
+    return wasCreditAdded;
+  }
+
+  @Override
+  public int getMaxTasks() {
+    return Math.max(0, credit.get());
+  }
+
+  @Override
+  public long getTimeoutTimestamp() {
+    // a stream does not time out
+    return Long.MAX_VALUE;
+  }
+
+  public boolean isClosed() {
+    return eventSink.isClosed();
+  }
+
+  public void sendStreamId() {
+    send(sse.newEventBuilder()
+        .name(STREAM_EVENT)
+        .data(String.class, streamId)
+        .build());
+  }
+
+  public void sendTasks(List<LockedExternalTaskDto> lockedTasks) {
+    credit.addAndGet(-lockedTasks.size());
+
+    send(sse.newEventBuilder()
+        .name(TASKS_EVENT)
+        .mediaType(MediaType.APPLICATION_JSON_TYPE)
+        .data(lockedTasks)
+        .build());
+  }
+
+  public void sendErrorAndClose(Throwable throwable) {
+    try {
+      send(sse.newEventBuilder()
+          .name(ERROR_EVENT)
+          .mediaType(MediaType.APPLICATION_JSON_TYPE)
+          .data(ExceptionDto.fromException(throwable))
+          .build());
+    }
+    finally {
+      close();
+    }
+  }
+
+  public void close() {
+    eventSink.close();
+  }
+
+  protected void send(OutboundSseEvent event) {
+    if (!eventSink.isClosed()) {
+      eventSink.send(event);
+    }
+  }
+
+  @Override
+  public String toString() {
+    return "FetchAndLockStream [streamId=" + streamId + ", credit=" + credit + ", dto=" + dto
+        + ", processEngineName=" + processEngineName + ", authentication=" + authentication + "]";
+  }
+}
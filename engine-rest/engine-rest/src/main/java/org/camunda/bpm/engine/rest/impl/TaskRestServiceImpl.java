@@ -20,6 +20,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Request;
@@ -30,8 +31,12 @@ import javax.ws.rs.core.Variant;
 import org.camunda.bpm.engine.ProcessEngine;
 import org.camunda.bpm.engine.TaskService;
 import org.camunda.bpm.engine.exception.NotValidException;
+import org.camunda.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.camunda.bpm.engine.impl.util.QueryMaxResultsLimitUtil;
+import org.camunda.bpm.engine.query.KeysetPage;
 import org.camunda.bpm.engine.rest.TaskRestService;
 import org.camunda.bpm.engine.rest.dto.CountResultDto;
+import org.camunda.bpm.engine.rest.dto.KeysetPageDto;
 import org.camunda.bpm.engine.rest.dto.task.TaskDto;
 import org.camunda.bpm.engine.rest.dto.task.TaskQueryDto;
 import org.camunda.bpm.engine.rest.dto.task.TaskWithAttachmentAndCommentDto;
@@ -45,6 +50,7 @@ import org.camunda.bpm.engine.rest.sub.task.TaskResource;
 import org.camunda.bpm.engine.rest.sub.task.impl.TaskReportResourceImpl;
 import org.camunda.bpm.engine.rest.sub.task.impl.TaskResourceImpl;
 import org.camunda.bpm.engine.rest.util.QueryUtil;
+import org.camunda.bpm.engine.rest.util.StreamingQueryOutput;
 import org.camunda.bpm.engine.task.Task;
 import org.camunda.bpm.engine.task.TaskQuery;
 import org.camunda.bpm.engine.variable.VariableMap;
@@ -118,6 +124,81 @@ public class TaskRestServiceImpl extends AbstractRestProcessEngineAware implemen
     return tasks;
   }
 
+  @Override
+  public Response streamTasks(Request request, UriInfo uriInfo) {
+    TaskQueryDto queryDto = new TaskQueryDto(getObjectMapper(), uriInfo.getQueryParameters());
+    return queryStreamTasks(queryDto, request);
+  }
+
+  @Override
+  public Response queryStreamTasks(TaskQueryDto queryDto, Request request) {
+    ProcessEngine engine = getProcessEngine();
+    queryDto.setObjectMapper(getObjectMapper());
+    TaskQuery query = queryDto.toQuery(engine);
+
+    // enable initialization of form key:
+    query.initializeFormKeys();
+
+    boolean withTaskVariables = Boolean.TRUE.equals(queryDto.getWithTaskVariablesInReturn());
+    boolean withTaskLocalVariables = Boolean.TRUE.equals(queryDto.getWithTaskLocalVariablesInReturn());
+    boolean withCommentInfo = Boolean.TRUE.equals(queryDto.getWithCommentAttachmentInfo());
+
+    if (withTaskVariables || withTaskLocalVariables) {
+      // the variables are fetched by further queries, which must not run while the tasks are streamed
+      ensureUnlimitedStreamingAllowed(engine);
+      return StreamingQueryOutput.createChunkedResponse(request, query::listAfter,
+          tasks -> getVariablesForTasks(engine, tasks, withTaskVariables, withCommentInfo), getObjectMapper());
+    }
+
+    return StreamingQueryOutput.createResponse(request, query, getTaskDtoMapper(engine, queryDto), getObjectMapper());
+  }
+
+  /**
+   * Chunked responses select the results page by page, so the max results limit
+   * of the engine does not apply to them. Checks the limit for an unbound number
+   * of results unless the engine allows streamed queries to bypass it.
+   */
+  protected void ensureUnlimitedStreamingAllowed(ProcessEngine engine) {
+    ProcessEngineConfigurationImpl processEngineConfiguration =
+        (ProcessEngineConfigurationImpl) engine.getProcessEngineConfiguration();
+    if (!processEngineConfiguration.isQueryMaxResultsLimitBypassedByStreaming()) {
+      QueryMaxResultsLimitUtil.checkMaxResultsLimit(Integer.MAX_VALUE, processEngineConfiguration);
+    }
+  }
+
+  @Override
+  public KeysetPageDto<TaskDto> getTasksPage(UriInfo uriInfo, String cursor, Integer maxResults) {
+    TaskQueryDto queryDto = new TaskQueryDto(getObjectMapper(), uriInfo.getQueryParameters());
+    return queryTasksPage(queryDto, cursor, maxResults);
+  }
+
+  @Override
+  public KeysetPageDto<TaskDto> queryTasksPage(TaskQueryDto queryDto, String cursor, Integer maxResults) {
+    ProcessEngine engine = getProcessEngine();
+    queryDto.setObjectMapper(getObjectMapper());
+    TaskQuery query = queryDto.toQuery(engine);
+
+    // enable initialization of form key:
+    query.initializeFormKeys();
+
+    KeysetPage<Task> page = QueryUtil.listAfter(query::listAfter, cursor, maxResults);
+    return KeysetPageDto.fromKeysetPage(page, getTaskDtoMapper(engine, queryDto));
+  }
+
+  protected Function<Task, TaskDto> getTaskDtoMapper(ProcessEngine engine, TaskQueryDto queryDto) {
+    boolean withTaskVariables = Boolean.TRUE.equals(queryDto.getWithTaskVariablesInReturn());
+    boolean withTaskLocalVariables = Boolean.TRUE.equals(queryDto.getWithTaskLocalVariablesInReturn());
+    boolean withCommentInfo = Boolean.TRUE.equals(queryDto.getWithCommentAttachmentInfo());
+
+    if (withTaskVariables || withTaskLocalVariables) {
+      return task -> getVariablesForTask(engine.getTaskService(), task, withTaskVariables, withCommentInfo);
+    } else if (withCommentInfo) {
+      return TaskWithAttachmentAndCommentDto::fromEntity;
+    } else {
+      return TaskDto::fromEntity;
+    }
+  }
+
   protected List<Task> executeTaskQuery(Integer firstResult, Integer maxResults, TaskQuery query) {
 
     // enable initialization of form key:
@@ -182,19 +263,26 @@ public class TaskRestServiceImpl extends AbstractRestProcessEngineAware implemen
     TaskService taskService = engine.getTaskService();
     List<TaskDto> tasks = new ArrayList<TaskDto>();
     for (Task task : matchingTasks) {
-      VariableMap taskVariables;
-      if (withTaskVariablesInReturn) {
-        taskVariables = taskService.getVariablesTyped(task.getId(), true);
-      } else {
-        taskVariables = taskService.getVariablesLocalTyped(task.getId(), true);
-      }
-      Map<String, VariableValueDto> taskVariablesDto = VariableValueDto.fromMap(taskVariables);
-      if (withCommentAndAttachments) {
-        tasks.add(TaskWithAttachmentAndCommentDto.fromEntity(task, taskVariablesDto));
-      } else {
-        tasks.add(TaskWithVariablesDto.fromEntity(task, taskVariablesDto));
-      }
+      tasks.add(getVariablesForTask(taskService, task, withTaskVariablesInReturn, withCommentAndAttachments));
     }
     return tasks;
   }
+
+  private TaskDto getVariablesForTask(TaskService taskService,
+                                      Task task,
+                                      boolean withTaskVariablesInReturn,
+                                      boolean withCommentAndAttachments) {
+    VariableMap taskVariables;
+    if (withTaskVariablesInReturn) {
+      taskVariables = taskService.getVariablesTyped(task.getId(), true);
+    } else {
+      taskVariables = taskService.getVariablesLocalTyped(task.getId(), true);
+    }
+    Map<String, VariableValueDto> taskVariablesDto = VariableValueDto.fromMap(taskVariables);
+    if (withCommentAndAttachments) {
+      return TaskWithAttachmentAndCommentDto.fromEntity(task, taskVariablesDto);
+    } else {
+      return TaskWithVariablesDto.fromEntity(task, taskVariablesDto);
+    }
+  }
 }
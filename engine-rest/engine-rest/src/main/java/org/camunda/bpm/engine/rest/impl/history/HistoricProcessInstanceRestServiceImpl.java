@@ -36,7 +36,9 @@ import org.camunda.bpm.engine.history.HistoricProcessInstance;
 import org.camunda.bpm.engine.history.HistoricProcessInstanceQuery;
 import org.camunda.bpm.engine.history.ReportResult;
 import org.camunda.bpm.engine.history.SetRemovalTimeSelectModeForHistoricProcessInstancesBuilder;
+import org.camunda.bpm.engine.query.KeysetPage;
 import org.camunda.bpm.engine.rest.dto.CountResultDto;
+import org.camunda.bpm.engine.rest.dto.KeysetPageDto;
 import org.camunda.bpm.engine.rest.dto.batch.BatchDto;
 import org.camunda.bpm.engine.rest.dto.converter.ReportResultToCsvConverter;
 import org.camunda.bpm.engine.rest.dto.history.DeleteHistoricProcessInstancesDto;
@@ -50,6 +52,7 @@ import org.camunda.bpm.engine.rest.history.HistoricProcessInstanceRestService;
 import org.camunda.bpm.engine.rest.sub.history.HistoricProcessInstanceResource;
 import org.camunda.bpm.engine.rest.sub.history.impl.HistoricProcessInstanceResourceImpl;
 import org.camunda.bpm.engine.rest.util.QueryUtil;
+import org.camunda.bpm.engine.rest.util.StreamingQueryOutput;
 import org.camunda.bpm.engine.rest.util.URLEncodingUtil;
 
   public class HistoricProcessInstanceRestServiceImpl implements HistoricProcessInstanceRestService {
@@ -92,6 +95,35 @@ import org.camunda.bpm.engine.rest.util.URLEncodingUtil;
     return historicProcessInstanceDtoResults;
   }
 
+  @Override
+  public Response streamHistoricProcessInstances(UriInfo uriInfo, Request request) {
+    HistoricProcessInstanceQueryDto queryDto = new HistoricProcessInstanceQueryDto(objectMapper, uriInfo.getQueryParameters());
+    return queryStreamHistoricProcessInstances(queryDto, request);
+  }
+
+  @Override
+  public Response queryStreamHistoricProcessInstances(HistoricProcessInstanceQueryDto queryDto, Request request) {
+    queryDto.setObjectMapper(objectMapper);
+    HistoricProcessInstanceQuery query = queryDto.toQuery(processEngine);
+
+    return StreamingQueryOutput.createResponse(request, query, HistoricProcessInstanceDto::fromHistoricProcessInstance, objectMapper);
+  }
+
+  @Override
+  public KeysetPageDto<HistoricProcessInstanceDto> getHistoricProcessInstancesPage(UriInfo uriInfo, String cursor, Integer maxResults) {
+    HistoricProcessInstanceQueryDto queryDto = new HistoricProcessInstanceQueryDto(objectMapper, uriInfo.getQueryParameters());
+    return queryHistoricProcessInstancesPage(queryDto, cursor, maxResults);
+  }
+
+  @Override
+  public KeysetPageDto<HistoricProcessInstanceDto> queryHistoricProcessInstancesPage(HistoricProcessInstanceQueryDto queryDto, String cursor, Integer maxResults) {
+    queryDto.setObjectMapper(objectMapper);
+    HistoricProcessInstanceQuery query = queryDto.toQuery(processEngine);
+
+    KeysetPage<HistoricProcessInstance> page = QueryUtil.listAfter(query::listAfter, cursor, maxResults);
+    return KeysetPageDto.fromKeysetPage(page, HistoricProcessInstanceDto::fromHistoricProcessInstance);
+  }
+
   @Override
   public CountResultDto getHistoricProcessInstancesCount(UriInfo uriInfo) {
     HistoricProcessInstanceQueryDto queryDto = new HistoricProcessInstanceQueryDto(objectMapper, uriInfo.getQueryParameters());
@@ -0,0 +1,48 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.rest.mapper;
+
+import javax.ws.rs.container.DynamicFeature;
+import javax.ws.rs.container.ResourceInfo;
+import javax.ws.rs.core.FeatureContext;
+import javax.ws.rs.ext.Provider;
+
+import org.camunda.bpm.engine.rest.ExternalTaskRestService;
+import org.camunda.bpm.engine.rest.sub.externaltask.ExternalTaskResource;
+
+/**
+ * Registers the {@link GzipContentEncodingInterceptor} for the resources of external
+ * tasks only. The responses of all other resources are not compressed, e.g. to leave the
+ * compression of the webapps to the container.
+ */
+@Provider
+public class GzipContentEncodingFeature implements DynamicFeature {
+
+  @Override
+  public void configure(ResourceInfo resourceInfo, FeatureContext context) {
+    Class<?> resourceClass = resourceInfo.getResourceClass();
+    if (resourceClass != null && isExternalTaskResource(resourceClass)) {
+      context.register(GzipContentEncodingInterceptor.class);
+    }
+  }
+
+  protected boolean isExternalTaskResource(Class<?> resourceClass) {
+    return ExternalTaskRestService.class.isAssignableFrom(resourceClass)
+        || ExternalTaskResource.class.isAssignableFrom(resourceClass);
+  }
+
+}
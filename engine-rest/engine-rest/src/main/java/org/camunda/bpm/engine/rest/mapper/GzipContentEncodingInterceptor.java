@@ -0,0 +1,177 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.rest.mapper;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import javax.ws.rs.WebApplicationException;
+import javax.ws.rs.core.Context;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Response.Status;
+import javax.ws.rs.ext.ReaderInterceptor;
+import javax.ws.rs.ext.ReaderInterceptorContext;
+import javax.ws.rs.ext.WriterInterceptor;
+import javax.ws.rs.ext.WriterInterceptorContext;
+
+import org.camunda.bpm.engine.rest.exception.InvalidRequestException;
+import org.camunda.bpm.engine.rest.hal.Hal;
+
+/**
+ * <p>Decodes request bodies with the content encoding <code>gzip</code> and compresses
+ * JSON responses with <code>gzip</code> if the client accepts it.</p>
+ *
+ * <p>Other responses, e.g. files or event streams, are not compressed. Decoded request
+ * bodies are limited to {@link #MAX_DECODED_REQUEST_SIZE} bytes.</p>
+ *
+ * <p>The interceptor is registered for the external task resources by the
+ * {@link GzipContentEncodingFeature}.</p>
+ */
+public class GzipContentEncodingInterceptor implements ReaderInterceptor, WriterInterceptor {
+
+  public static final String GZIP = "gzip";
+  public static final long MAX_DECODED_REQUEST_SIZE = 10L * 1024 * 1024;
+
+  @Context
+  protected HttpHeaders httpHeaders;
+
+  @Override
+  public Object aroundReadFrom(ReaderInterceptorContext context) throws IOException, WebApplicationException {
+    if (isGzip(context.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING))) {
+      context.getHeaders().remove(HttpHeaders.CONTENT_ENCODING);
+      context.setInputStream(new SizeLimitedInputStream(new GZIPInputStream(context.getInputStream()),
+          MAX_DECODED_REQUEST_SIZE));
+    }
+    return context.proceed();
+  }
+
+  @Override
+  public void aroundWriteTo(WriterInterceptorContext context) throws IOException, WebApplicationException {
+    if (!isJson(context.getMediaType())
+        || context.getHeaders().containsKey(HttpHeaders.CONTENT_ENCODING)
+        || !acceptsGzip()) {
+      context.proceed();
+      return;
+    }
+
+    context.getHeaders().putSingle(HttpHeaders.CONTENT_ENCODING, GZIP);
+    context.getHeaders().add(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+
+    GZIPOutputStream gzipStream = new GZIPOutputStream(context.getOutputStream());
+    context.setOutputStream(gzipStream);
+    try {
+      context.proceed();
+    } finally {
+      gzipStream.finish();
+    }
+  }
+
+  protected boolean isJson(MediaType mediaType) {
+    return mediaType != null
+        && (MediaType.APPLICATION_JSON_TYPE.isCompatible(mediaType) || Hal.APPLICATION_HAL_JSON_TYPE.isCompatible(mediaType));
+  }
+
+  protected boolean acceptsGzip() {
+    List<String> acceptEncodings = httpHeaders == null ? null : httpHeaders.getRequestHeader(HttpHeaders.ACCEPT_ENCODING);
+    if (acceptEncodings == null) {
+      return false;
+    }
+
+    for (String acceptEncoding : acceptEncodings) {
+      for (String coding : acceptEncoding.split(",")) {
+        String[] codingAndParameters = coding.split(";");
+        if (isGzip(codingAndParameters[0]) && !isExcluded(codingAndParameters)) {
+          return true;
+        }
+      }
+    }
+    return false;
+  }
+
+  protected boolean isExcluded(String[] codingAndParameters) {
+    for (int i = 1; i < codingAndParameters.length; i++) {
+      String parameter = codingAndParameters[i].replace(" ", "");
+      if (parameter.matches("q=0(\\.0*)?")) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  protected boolean isGzip(String coding) {
+    return coding != null && GZIP.equalsIgnoreCase(coding.trim());
+  }
+
+  /**
+   * Fails the request once more than the given number of bytes is read.
+   */
+  protected static class SizeLimitedInputStream extends FilterInputStream {
+
+    protected final long limit;
+    protected long count;
+
+    public SizeLimitedInputStream(InputStream inputStream, long limit) {
+      super(inputStream);
+      this.limit = limit;
+    }
+
+    @Override
+    public int read() throws IOException {
+      int b = super.read();
+      if (b != -1) {
+        count(1);
+      }
+      return b;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+      int n = super.read(b, off, len);
+      if (n > 0) {
+        count(n);
+      }
+      return n;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+      long skipped = super.skip(n);
+      count(skipped);
+      return skipped;
+    }
+
+    @Override
+    public boolean markSupported() {
+      return false;
+    }
+
+    protected void count(long n) {
+      count += n;
+      if (count > limit) {
+        throw new InvalidRequestException(Status.REQUEST_ENTITY_TOO_LARGE,
+            "The decoded request body exceeds " + limit + " bytes.");
+      }
+    }
+
+  }
+
+}
@@ -18,9 +18,13 @@ package org.camunda.bpm.engine.rest.spi;
 
 import org.camunda.bpm.engine.ProcessEngine;
 import org.camunda.bpm.engine.rest.dto.externaltask.FetchExternalTasksExtendedDto;
+import org.camunda.bpm.engine.rest.exception.InvalidRequestException;
 
 import javax.servlet.ServletContextEvent;
 import javax.ws.rs.container.AsyncResponse;
+import javax.ws.rs.core.Response.Status;
+import javax.ws.rs.sse.Sse;
+import javax.ws.rs.sse.SseEventSink;
 
 /**
  * SPI supposed to replace the default implementation of the long-polling fetch and lock handler
@@ -48,6 +52,32 @@ public interface FetchAndLockHandler {
    */
   void addPendingRequest(FetchExternalTasksExtendedDto dto, AsyncResponse asyncResponse, ProcessEngine processEngine);
 
+  /**
+   * Invoked if a client opens a stream to receive locked tasks as soon as they become available
+   *
+   * @param dto which is supposed to hold the payload; the maximum number of tasks is the initial credit of the stream
+   * @param eventSink the sink to send the locked tasks to as server-sent events
+   * @param sse provides means to create the server-sent events
+   * @param processEngine provides the process engine context of the respective request
+   * @return the id of the stream
+   */
+  default String addStream(FetchExternalTasksExtendedDto dto, SseEventSink eventSink, Sse sse, ProcessEngine processEngine) {
+    throw new InvalidRequestException(Status.NOT_IMPLEMENTED, "The fetch and lock handler does not support streams");
+  }
+
+  /**
+   * Invoked if a client is ready to receive further tasks on a stream. Streams are held in memory
+   * by the handler which opened them, so the credit must be added on the same node; a load balancer
+   * in front of several nodes has to route both requests of a worker to the same node.
+   *
+   * @param streamId the id of the stream
+   * @param credit the number of further tasks the stream may receive
+   * @param processEngine provides the process engine context of the respective request
+   */
+  default void addStreamCredit(String streamId, int credit, ProcessEngine processEngine) {
+    throw new InvalidRequestException(Status.NOT_IMPLEMENTED, "The fetch and lock handler does not support streams");
+  }
+
   /**
    * Invoked on initialization of the servlet context
    *
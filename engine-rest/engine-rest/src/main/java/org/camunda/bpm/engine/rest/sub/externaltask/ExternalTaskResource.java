@@ -16,6 +16,7 @@
  */
 package org.camunda.bpm.engine.rest.sub.externaltask;
 
+import java.util.Map;
 import javax.ws.rs.Consumes;
 import javax.ws.rs.GET;
 import javax.ws.rs.POST;
@@ -24,11 +25,13 @@ import javax.ws.rs.Path;
 import javax.ws.rs.Produces;
 import javax.ws.rs.core.MediaType;
 
+import org.camunda.bpm.engine.rest.dto.VariableValueDto;
 import org.camunda.bpm.engine.rest.dto.externaltask.CompleteExternalTaskDto;
 import org.camunda.bpm.engine.rest.dto.externaltask.ExtendLockOnExternalTaskDto;
 import org.camunda.bpm.engine.rest.dto.externaltask.ExternalTaskBpmnError;
 import org.camunda.bpm.engine.rest.dto.externaltask.ExternalTaskDto;
 import org.camunda.bpm.engine.rest.dto.externaltask.ExternalTaskFailureDto;
+import org.camunda.bpm.engine.rest.dto.externaltask.ExternalTaskVariablesDto;
 import org.camunda.bpm.engine.rest.dto.externaltask.LockExternalTaskDto;
 import org.camunda.bpm.engine.rest.dto.runtime.PriorityDto;
 import org.camunda.bpm.engine.rest.dto.runtime.RetriesDto;
@@ -49,6 +52,12 @@ public interface ExternalTaskResource {
   @Produces(MediaType.TEXT_PLAIN)
   String getErrorDetails();
 
+  @POST
+  @Path("/variables")
+  @Consumes(MediaType.APPLICATION_JSON)
+  @Produces(MediaType.APPLICATION_JSON)
+  Map<String, VariableValueDto> getVariables(ExternalTaskVariablesDto dto);
+
   @PUT
   @Path("/retries")
   @Consumes(MediaType.APPLICATION_JSON)
@@ -16,6 +16,7 @@
  */
 package org.camunda.bpm.engine.rest.sub.externaltask.impl;
 
+import java.util.Map;
 import javax.ws.rs.core.Response.Status;
 
 import org.camunda.bpm.engine.BadUserRequestException;
@@ -29,6 +30,7 @@ import org.camunda.bpm.engine.rest.dto.externaltask.ExtendLockOnExternalTaskDto;
 import org.camunda.bpm.engine.rest.dto.externaltask.ExternalTaskBpmnError;
 import org.camunda.bpm.engine.rest.dto.externaltask.ExternalTaskDto;
 import org.camunda.bpm.engine.rest.dto.externaltask.ExternalTaskFailureDto;
+import org.camunda.bpm.engine.rest.dto.externaltask.ExternalTaskVariablesDto;
 import org.camunda.bpm.engine.rest.dto.externaltask.LockExternalTaskDto;
 import org.camunda.bpm.engine.rest.dto.runtime.PriorityDto;
 import org.camunda.bpm.engine.rest.dto.runtime.RetriesDto;
@@ -81,6 +83,26 @@ public class ExternalTaskResourceImpl implements ExternalTaskResource {
     }
   }
 
+  @Override
+  public Map<String, VariableValueDto> getVariables(ExternalTaskVariablesDto dto) {
+    ExternalTaskService externalTaskService = engine.getExternalTaskService();
+    String workerId = dto.getWorkerId();
+
+    if (workerId == null) {
+      throw new InvalidRequestException(Status.BAD_REQUEST, "The worker id cannot be null.");
+    }
+
+    try {
+      VariableMap variables = externalTaskService.getVariablesTyped(externalTaskId, workerId, dto.getVariableNames(),
+          dto.isLocalVariables(), dto.isDeserializeValues(), dto.getVariableProjections());
+      return VariableValueDto.fromMap(variables);
+    } catch (NotFoundException e) {
+      throw new RestException(Status.NOT_FOUND, e, "External task with id " + externalTaskId + " does not exist");
+    } catch (BadUserRequestException e) {
+      throw new RestException(Status.BAD_REQUEST, e, e.getMessage());
+    }
+  }
+
   @Override
   public void setRetries(RetriesDto dto) {
     ExternalTaskService externalTaskService = engine.getExternalTaskService();
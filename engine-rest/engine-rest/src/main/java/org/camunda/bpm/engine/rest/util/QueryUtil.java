@@ -17,7 +17,12 @@
 package org.camunda.bpm.engine.rest.util;
 
 import java.util.List;
+import java.util.function.BiFunction;
+import javax.ws.rs.core.Response.Status;
+
+import org.camunda.bpm.engine.query.KeysetPage;
 import org.camunda.bpm.engine.query.Query;
+import org.camunda.bpm.engine.rest.exception.InvalidRequestException;
 
 public class QueryUtil {
 
@@ -33,6 +38,17 @@ public class QueryUtil {
     return results;
   }
 
+  /**
+   * @param listAfter the <code>listAfter</code> method of the query, e.g.
+   *   {@link org.camunda.bpm.engine.task.TaskQuery#listAfter(String, int)}
+   */
+  public static <U> KeysetPage<U> listAfter(BiFunction<String, Integer, KeysetPage<U>> listAfter, String cursor, Integer maxResults) {
+    if (maxResults == null) {
+      throw new InvalidRequestException(Status.BAD_REQUEST, "Parameter 'maxResults' is required to select a page after a cursor");
+    }
+    return listAfter.apply(cursor, maxResults);
+  }
+
   private static <T extends Query<?,?>, U> List<U> executePaginatedQuery(Query<T, U> query, Integer firstResult, Integer maxResults) {
     if (firstResult == null) {
       firstResult = 0;
@@ -0,0 +1,186 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.rest.util;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.Request;
+import javax.ws.rs.core.Response;
+import javax.ws.rs.core.StreamingOutput;
+import javax.ws.rs.core.Variant;
+import org.camunda.bpm.engine.query.KeysetPage;
+import org.camunda.bpm.engine.query.Query;
+import org.camunda.bpm.engine.rest.exception.InvalidRequestException;
+
+/**
+ * Writes the results of a query to the response while they are read from the database
+ * (see {@link Query#stream}), either as a JSON array or as newline delimited JSON with
+ * one object per line. Neither the results nor their DTOs are collected, so large
+ * results are written in constant memory.
+ *
+ * <p>DTOs which need further queries per result are created in chunks instead: the
+ * results are selected page by page (keyset pagination) and the DTOs of a
+ * page are created after the page was read, so that no further query runs while the
+ * result set is open.</p>
+ */
+public class StreamingQueryOutput<U> implements StreamingOutput {
+
+  public static final String APPLICATION_NDJSON = "application/x-ndjson";
+  public static final MediaType APPLICATION_NDJSON_TYPE = new MediaType("application", "x-ndjson");
+
+  public static final List<Variant> VARIANTS = Variant.mediaTypes(MediaType.APPLICATION_JSON_TYPE, APPLICATION_NDJSON_TYPE).add().build();
+
+  /** the number of results written before the output is flushed */
+  protected static final int FLUSH_INTERVAL = 100;
+
+  /** the number of results selected at once by chunked responses */
+  protected static final int CHUNK_SIZE = FLUSH_INTERVAL;
+
+  protected Query<?, U> query;
+  protected Function<U, ?> dtoMapper;
+  protected BiFunction<String, Integer, KeysetPage<U>> pageSelector;
+  protected Function<List<U>, List<?>> chunkMapper;
+  protected ObjectWriter objectWriter;
+  protected boolean newlineDelimited;
+
+  public StreamingQueryOutput(Query<?, U> query, Function<U, ?> dtoMapper, ObjectMapper objectMapper, boolean newlineDelimited) {
+    this(objectMapper, newlineDelimited);
+    this.query = query;
+    this.dtoMapper = dtoMapper;
+  }
+
+  public StreamingQueryOutput(BiFunction<String, Integer, KeysetPage<U>> pageSelector, Function<List<U>, List<?>> chunkMapper,
+      ObjectMapper objectMapper, boolean newlineDelimited) {
+    this(objectMapper, newlineDelimited);
+    this.pageSelector = pageSelector;
+    this.chunkMapper = chunkMapper;
+  }
+
+  protected StreamingQueryOutput(ObjectMapper objectMapper, boolean newlineDelimited) {
+    // the output is flushed in intervals rather than after every result
+    this.objectWriter = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    this.newlineDelimited = newlineDelimited;
+  }
+
+  /**
+   * Creates a response streaming the results of the query in the media type
+   * of {@link #VARIANTS} accepted by the request.
+   */
+  public static <U> Response createResponse(Request request, Query<?, U> query, Function<U, ?> dtoMapper, ObjectMapper objectMapper) {
+    MediaType mediaType = selectMediaType(request);
+    boolean newlineDelimited = APPLICATION_NDJSON_TYPE.equals(mediaType);
+    return Response.ok(new StreamingQueryOutput<>(query, dtoMapper, objectMapper, newlineDelimited), mediaType).build();
+  }
+
+  /**
+   * Creates a response writing the results in chunks of {@link #CHUNK_SIZE} results,
+   * which are selected by the <code>listAfter</code> method of a query, e.g.
+   * {@link org.camunda.bpm.engine.task.TaskQuery#listAfter(String, int)}.
+   */
+  public static <U> Response createChunkedResponse(Request request, BiFunction<String, Integer, KeysetPage<U>> pageSelector,
+      Function<List<U>, List<?>> chunkMapper, ObjectMapper objectMapper) {
+    MediaType mediaType = selectMediaType(request);
+    boolean newlineDelimited = APPLICATION_NDJSON_TYPE.equals(mediaType);
+    return Response.ok(new StreamingQueryOutput<>(pageSelector, chunkMapper, objectMapper, newlineDelimited), mediaType).build();
+  }
+
+  protected static MediaType selectMediaType(Request request) {
+    Variant variant = request.selectVariant(VARIANTS);
+    if (variant == null) {
+      throw new InvalidRequestException(Response.Status.NOT_ACCEPTABLE, "No acceptable content-type found");
+    }
+    return variant.getMediaType();
+  }
+
+  @Override
+  public void write(OutputStream output) throws IOException {
+    JsonGenerator generator = objectWriter.getFactory().createGenerator(output);
+    generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+    if (newlineDelimited) {
+      generator.setRootValueSeparator(new SerializedString("\n"));
+    } else {
+      generator.writeStartArray();
+    }
+
+    if (chunkMapper != null) {
+      writeChunks(generator);
+    } else {
+      try {
+        query.stream(new ResultWriter(generator));
+      } catch (UncheckedIOException e) {
+        throw e.getCause();
+      }
+    }
+
+    if (newlineDelimited) {
+      generator.writeRaw('\n');
+    } else {
+      generator.writeEndArray();
+    }
+    generator.close();
+  }
+
+  protected void writeChunks(JsonGenerator generator) throws IOException {
+    String cursor = null;
+    do {
+      KeysetPage<U> page = pageSelector.apply(cursor, CHUNK_SIZE);
+      for (Object dto : chunkMapper.apply(page.getResults())) {
+        objectWriter.writeValue(generator, dto);
+      }
+      generator.flush();
+
+      cursor = page.getNextCursor();
+    } while (cursor != null);
+  }
+
+  protected class ResultWriter implements Consumer<U> {
+
+    protected JsonGenerator generator;
+    protected int writtenResults;
+
+    public ResultWriter(JsonGenerator generator) {
+      this.generator = generator;
+    }
+
+    @Override
+    public void accept(U result) {
+      try {
+        objectWriter.writeValue(generator, dtoMapper.apply(result));
+
+        writtenResults++;
+        if (writtenResults % FLUSH_INTERVAL == 0) {
+          generator.flush();
+        }
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    }
+  }
+
+}
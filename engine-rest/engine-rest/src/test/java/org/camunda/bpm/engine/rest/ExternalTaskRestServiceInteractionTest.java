@@ -36,14 +36,20 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import static org.mockito.hamcrest.MockitoHamcrest.argThat;
 
 import io.restassured.http.ContentType;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.zip.GZIPOutputStream;
 import javax.servlet.ServletContextEvent;
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response.Status;
@@ -54,6 +60,8 @@ import org.camunda.bpm.engine.ProcessEngineException;
 import org.camunda.bpm.engine.batch.Batch;
 import org.camunda.bpm.engine.exception.NotFoundException;
 import org.camunda.bpm.engine.externaltask.ExternalTask;
+import org.camunda.bpm.engine.externaltask.ExternalTaskBulkOperationBuilder;
+import org.camunda.bpm.engine.externaltask.ExternalTaskOperationResult;
 import org.camunda.bpm.engine.externaltask.ExternalTaskQuery;
 import org.camunda.bpm.engine.externaltask.ExternalTaskQueryTopicBuilder;
 import org.camunda.bpm.engine.externaltask.LockedExternalTask;
@@ -64,6 +72,7 @@ import org.camunda.bpm.engine.impl.HistoricProcessInstanceQueryImpl;
 import org.camunda.bpm.engine.impl.HistoryServiceImpl;
 import org.camunda.bpm.engine.impl.ProcessInstanceQueryImpl;
 import org.camunda.bpm.engine.impl.RuntimeServiceImpl;
+import org.camunda.bpm.engine.impl.externaltask.ExternalTaskOperationResultImpl;
 import org.camunda.bpm.engine.impl.externaltask.FetchAndLockBuilderImpl;
 import org.camunda.bpm.engine.rest.dto.SortingDto;
 import org.camunda.bpm.engine.rest.dto.externaltask.ExternalTaskQueryDto;
@@ -80,6 +89,7 @@ import org.camunda.bpm.engine.rest.impl.FetchAndLockContextListener;
 import org.camunda.bpm.engine.rest.util.VariablesBuilder;
 import org.camunda.bpm.engine.rest.util.container.TestContainerRule;
 import org.camunda.bpm.engine.runtime.ProcessInstanceQuery;
+import org.camunda.bpm.engine.variable.Variables;
 import org.camunda.bpm.engine.variable.type.ValueType;
 import org.hamcrest.Matchers;
 import org.junit.Before;
@@ -100,9 +110,11 @@ public class ExternalTaskRestServiceInteractionTest extends AbstractRestServiceT
 
   protected static final String EXTERNAL_TASK_URL = TEST_RESOURCE_ROOT_PATH + "/external-task";
   protected static final String FETCH_EXTERNAL_TASK_URL = EXTERNAL_TASK_URL + "/fetchAndLock";
+  protected static final String BULK_OPERATION_EXTERNAL_TASK_URL = EXTERNAL_TASK_URL + "/bulk";
   protected static final String SINGLE_EXTERNAL_TASK_URL = EXTERNAL_TASK_URL + "/{id}";
   protected static final String COMPLETE_EXTERNAL_TASK_URL = SINGLE_EXTERNAL_TASK_URL + "/complete";
   protected static final String GET_EXTERNAL_TASK_ERROR_DETAILS_URL = SINGLE_EXTERNAL_TASK_URL + "/errorDetails";
+  protected static final String GET_EXTERNAL_TASK_VARIABLES_URL = SINGLE_EXTERNAL_TASK_URL + "/variables";
   protected static final String HANDLE_EXTERNAL_TASK_FAILURE_URL = SINGLE_EXTERNAL_TASK_URL + "/failure";
   protected static final String HANDLE_EXTERNAL_TASK_BPMN_ERROR_URL = SINGLE_EXTERNAL_TASK_URL + "/bpmnError";
   protected static final String UNLOCK_EXTERNAL_TASK_URL = SINGLE_EXTERNAL_TASK_URL + "/unlock";
@@ -895,6 +907,55 @@ public class ExternalTaskRestServiceInteractionTest extends AbstractRestServiceT
     verifyNoMoreInteractions(externalTaskService);
   }
 
+  @Test
+  public void testCompleteWithCompressedBody() throws IOException {
+    ByteArrayOutputStream compressedBody = new ByteArrayOutputStream();
+    try (GZIPOutputStream gzipStream = new GZIPOutputStream(compressedBody)) {
+      gzipStream.write("{\"workerId\": \"aWorkerId\"}".getBytes(StandardCharsets.UTF_8));
+    }
+
+    given()
+      .contentType(POST_JSON_CONTENT_TYPE)
+      .header("Content-Encoding", "gzip")
+      .body(compressedBody.toByteArray())
+      .pathParam("id", "anExternalTaskId")
+    .then()
+      .expect()
+      .statusCode(Status.NO_CONTENT.getStatusCode())
+    .when()
+      .post(COMPLETE_EXTERNAL_TASK_URL);
+
+    verify(externalTaskService).complete("anExternalTaskId", "aWorkerId", null, null);
+    verifyNoMoreInteractions(externalTaskService);
+  }
+
+  @Test
+  public void testCompleteWithTooLargeCompressedBody() throws IOException {
+    ByteArrayOutputStream compressedBody = new ByteArrayOutputStream();
+    try (GZIPOutputStream gzipStream = new GZIPOutputStream(compressedBody)) {
+      gzipStream.write("{\"workerId\": \"aWorkerId\"".getBytes(StandardCharsets.UTF_8));
+      byte[] whitespace = new byte[1024 * 1024];
+      Arrays.fill(whitespace, (byte) ' ');
+      for (int i = 0; i < 11; i++) {
+        gzipStream.write(whitespace);
+      }
+      gzipStream.write("}".getBytes(StandardCharsets.UTF_8));
+    }
+
+    given()
+      .contentType(POST_JSON_CONTENT_TYPE)
+      .header("Content-Encoding", "gzip")
+      .body(compressedBody.toByteArray())
+      .pathParam("id", "anExternalTaskId")
+    .then()
+      .expect()
+      .statusCode(Status.REQUEST_ENTITY_TOO_LARGE.getStatusCode())
+    .when()
+      .post(COMPLETE_EXTERNAL_TASK_URL);
+
+    verifyNoInteractions(externalTaskService);
+  }
+
   @Test
   public void testCompleteWithVariables() {
     Map<String, Object> parameters = new HashMap<>();
@@ -1105,6 +1166,84 @@ public class ExternalTaskRestServiceInteractionTest extends AbstractRestServiceT
     verifyNoMoreInteractions(externalTaskService);
   }
 
+  @Test
+  public void shouldGetVariables() {
+    when(externalTaskService.getVariablesTyped(eq("anExternalTaskId"), any(), any(), anyBoolean(), anyBoolean(), any()))
+      .thenReturn(Variables.createVariables().putValueTyped(EXAMPLE_VARIABLE_INSTANCE_NAME, EXAMPLE_PRIMITIVE_VARIABLE_VALUE));
+
+    Map<String, Object> parameters = new HashMap<>();
+    parameters.put("workerId", "aWorkerId");
+    parameters.put("variableNames", Arrays.asList(EXAMPLE_VARIABLE_INSTANCE_NAME));
+    parameters.put("variableProjections", Collections.singletonMap(EXAMPLE_VARIABLE_INSTANCE_NAME, "$.name"));
+
+    given()
+      .pathParam("id", "anExternalTaskId")
+      .contentType(ContentType.JSON)
+      .body(parameters)
+    .then()
+      .expect()
+      .statusCode(Status.OK.getStatusCode())
+      .body(EXAMPLE_VARIABLE_INSTANCE_NAME + ".value", equalTo(EXAMPLE_PRIMITIVE_VARIABLE_VALUE.getValue()))
+      .body(EXAMPLE_VARIABLE_INSTANCE_NAME + ".type", equalTo("String"))
+    .when()
+      .post(GET_EXTERNAL_TASK_VARIABLES_URL);
+
+    verify(externalTaskService).getVariablesTyped("anExternalTaskId", "aWorkerId", Arrays.asList(EXAMPLE_VARIABLE_INSTANCE_NAME),
+        false, false, Collections.singletonMap(EXAMPLE_VARIABLE_INSTANCE_NAME, "$.name"));
+  }
+
+  @Test
+  public void shouldGetVariablesOfNonExistingTask() {
+    when(externalTaskService.getVariablesTyped(any(), any(), any(), anyBoolean(), anyBoolean(), any()))
+      .thenThrow(new NotFoundException());
+
+    given()
+      .pathParam("id", "anExternalTaskId")
+      .contentType(ContentType.JSON)
+      .body(Collections.singletonMap("workerId", "aWorkerId"))
+    .then()
+      .expect()
+      .statusCode(Status.NOT_FOUND.getStatusCode())
+      .body("message", equalTo("External task with id anExternalTaskId does not exist"))
+    .when()
+      .post(GET_EXTERNAL_TASK_VARIABLES_URL);
+  }
+
+  @Test
+  public void shouldNotGetVariablesOfTaskLockedByOtherWorker() {
+    when(externalTaskService.getVariablesTyped(any(), any(), any(), anyBoolean(), anyBoolean(), any()))
+      .thenThrow(new BadUserRequestException("expected exception"));
+
+    given()
+      .pathParam("id", "anExternalTaskId")
+      .contentType(ContentType.JSON)
+      .body(Collections.singletonMap("workerId", "anotherWorkerId"))
+    .then()
+      .expect()
+      .statusCode(Status.BAD_REQUEST.getStatusCode())
+      .body("type", equalTo(RestException.class.getSimpleName()))
+      .body("message", equalTo("expected exception"))
+    .when()
+      .post(GET_EXTERNAL_TASK_VARIABLES_URL);
+  }
+
+  @Test
+  public void shouldNotGetVariablesWithoutWorkerId() {
+    given()
+      .pathParam("id", "anExternalTaskId")
+      .contentType(ContentType.JSON)
+      .body(new HashMap<>())
+    .then()
+      .expect()
+      .statusCode(Status.BAD_REQUEST.getStatusCode())
+      .body("type", equalTo(InvalidRequestException.class.getSimpleName()))
+      .body("message", equalTo("The worker id cannot be null."))
+    .when()
+      .post(GET_EXTERNAL_TASK_VARIABLES_URL);
+
+    verifyNoInteractions(externalTaskService);
+  }
+
   @Test
   public void testGetErrorDetailsNonExistingTask() {
     doThrow(new NotFoundException()).when(externalTaskService).getExternalTaskErrorDetails(any(String.class));
@@ -1608,6 +1747,38 @@ public class ExternalTaskRestServiceInteractionTest extends AbstractRestServiceT
       .get(SINGLE_EXTERNAL_TASK_URL);
   }
 
+  @Test
+  public void testGetSingleExternalTaskCompressed() {
+    when(externalTaskQueryMock.singleResult()).thenReturn(externalTaskMock);
+
+    given()
+      .header("Accept-Encoding", "gzip")
+      .pathParam("id", "anExternalTaskId")
+    .then()
+      .expect()
+      .statusCode(Status.OK.getStatusCode())
+      .header("Content-Encoding", "gzip")
+      .body("id", equalTo(MockProvider.EXTERNAL_TASK_ID))
+    .when()
+      .get(SINGLE_EXTERNAL_TASK_URL);
+  }
+
+  @Test
+  public void testGetSingleExternalTaskUncompressed() {
+    when(externalTaskQueryMock.singleResult()).thenReturn(externalTaskMock);
+
+    given()
+      .header("Accept-Encoding", "identity")
+      .pathParam("id", "anExternalTaskId")
+    .then()
+      .expect()
+      .statusCode(Status.OK.getStatusCode())
+      .header("Content-Encoding", Matchers.nullValue())
+      .body("id", equalTo(MockProvider.EXTERNAL_TASK_ID))
+    .when()
+      .get(SINGLE_EXTERNAL_TASK_URL);
+  }
+
   @Test
   public void testGetNonExistingExternalTask() {
     when(externalTaskQueryMock.singleResult()).thenReturn(null);
@@ -2228,6 +2399,131 @@ public class ExternalTaskRestServiceInteractionTest extends AbstractRestServiceT
         .when().post(FETCH_EXTERNAL_TASK_URL);
   }
 
+  @Test
+  public void testBulkOperation() {
+    // given
+    ExternalTaskBulkOperationBuilder bulkOperationBuilder = mock(ExternalTaskBulkOperationBuilder.class, Mockito.RETURNS_SELF);
+    when(externalTaskService.bulkOperation("aWorkerId")).thenReturn(bulkOperationBuilder);
+    when(bulkOperationBuilder.execute()).thenReturn(Arrays.asList(
+        ExternalTaskOperationResultImpl.successful("anExternalTaskId", ExternalTaskOperationResult.OPERATION_COMPLETE),
+        ExternalTaskOperationResultImpl.successful("anotherExternalTaskId", ExternalTaskOperationResult.OPERATION_FAILURE),
+        ExternalTaskOperationResultImpl.failed("aThirdExternalTaskId", ExternalTaskOperationResult.OPERATION_EXTEND_LOCK,
+            new BadUserRequestException("expected exception"))));
+
+    Map<String, Object> complete = new HashMap<>();
+    complete.put("type", "complete");
+    complete.put("externalTaskId", "anExternalTaskId");
+    complete.put("variables", VariablesBuilder.create().variable("var1", "val1").getVariables());
+
+    Map<String, Object> failure = new HashMap<>();
+    failure.put("type", "failure");
+    failure.put("externalTaskId", "anotherExternalTaskId");
+    failure.put("errorMessage", "anErrorMessage");
+    failure.put("errorDetails", "anErrorDetails");
+    failure.put("retries", 5);
+    failure.put("retryTimeout", 12345);
+
+    Map<String, Object> extendLock = new HashMap<>();
+    extendLock.put("type", "extendLock");
+    extendLock.put("externalTaskId", "aThirdExternalTaskId");
+    extendLock.put("newDuration", 1000);
+
+    Map<String, Object> parameters = new HashMap<>();
+    parameters.put("workerId", "aWorkerId");
+    parameters.put("operations", Arrays.asList(complete, failure, extendLock));
+
+    // when
+    given()
+      .contentType(POST_JSON_CONTENT_TYPE)
+      .body(parameters)
+    .then()
+      .expect()
+      .statusCode(Status.OK.getStatusCode())
+      .body("size()", equalTo(3))
+      .body("[0].externalTaskId", equalTo("anExternalTaskId"))
+      .body("[0].type", equalTo("complete"))
+      .body("[0].successful", equalTo(true))
+      .body("[2].externalTaskId", equalTo("aThirdExternalTaskId"))
+      .body("[2].type", equalTo("extendLock"))
+      .body("[2].successful", equalTo(false))
+      .body("[2].errorType", equalTo("BadUserRequestException"))
+      .body("[2].errorMessage", equalTo("expected exception"))
+    .when()
+      .post(BULK_OPERATION_EXTERNAL_TASK_URL);
+
+    // then
+    InOrder inOrder = inOrder(bulkOperationBuilder);
+    inOrder.verify(bulkOperationBuilder).complete(eq("anExternalTaskId"),
+        argThat(EqualsVariableMap.matches().matcher("var1", EqualsUntypedValue.matcher().value("val1"))), eq(null));
+    inOrder.verify(bulkOperationBuilder).handleFailure("anotherExternalTaskId", "anErrorMessage", "anErrorDetails",
+        5, 12345, null, null);
+    inOrder.verify(bulkOperationBuilder).extendLock("aThirdExternalTaskId", 1000);
+    inOrder.verify(bulkOperationBuilder).execute();
+    verify(bulkOperationBuilder, never()).executeSeparatelyOnFailure();
+  }
+
+  @Test
+  public void testBulkOperationExecutedSeparatelyOnFailure() {
+    // given
+    ExternalTaskBulkOperationBuilder bulkOperationBuilder = mock(ExternalTaskBulkOperationBuilder.class, Mockito.RETURNS_SELF);
+    when(externalTaskService.bulkOperation("aWorkerId")).thenReturn(bulkOperationBuilder);
+    when(bulkOperationBuilder.execute()).thenReturn(Collections.singletonList(
+        ExternalTaskOperationResultImpl.successful("anExternalTaskId", ExternalTaskOperationResult.OPERATION_EXTEND_LOCK)));
+
+    Map<String, Object> extendLock = new HashMap<>();
+    extendLock.put("type", "extendLock");
+    extendLock.put("externalTaskId", "anExternalTaskId");
+    extendLock.put("newDuration", 1000);
+
+    Map<String, Object> parameters = new HashMap<>();
+    parameters.put("workerId", "aWorkerId");
+    parameters.put("executeSeparatelyOnFailure", true);
+    parameters.put("operations", Collections.singletonList(extendLock));
+
+    // when
+    given()
+      .contentType(POST_JSON_CONTENT_TYPE)
+      .body(parameters)
+    .then()
+      .expect()
+      .statusCode(Status.OK.getStatusCode())
+      .body("[0].successful", equalTo(true))
+    .when()
+      .post(BULK_OPERATION_EXTERNAL_TASK_URL);
+
+    // then
+    InOrder inOrder = inOrder(bulkOperationBuilder);
+    inOrder.verify(bulkOperationBuilder).executeSeparatelyOnFailure();
+    inOrder.verify(bulkOperationBuilder).extendLock("anExternalTaskId", 1000);
+    inOrder.verify(bulkOperationBuilder).execute();
+  }
+
+  @Test
+  public void testBulkOperationWithUnknownType() {
+    // given
+    when(externalTaskService.bulkOperation("aWorkerId"))
+      .thenReturn(mock(ExternalTaskBulkOperationBuilder.class, Mockito.RETURNS_SELF));
+
+    Map<String, Object> operation = new HashMap<>();
+    operation.put("type", "unknown");
+    operation.put("externalTaskId", "anExternalTaskId");
+
+    Map<String, Object> parameters = new HashMap<>();
+    parameters.put("workerId", "aWorkerId");
+    parameters.put("operations", Arrays.asList(operation));
+
+    given()
+      .contentType(POST_JSON_CONTENT_TYPE)
+      .body(parameters)
+    .then()
+      .expect()
+      .statusCode(Status.BAD_REQUEST.getStatusCode())
+      .body("type", equalTo(InvalidRequestException.class.getSimpleName()))
+      .body("message", equalTo("Unknown external task operation type 'unknown'."))
+    .when()
+      .post(BULK_OPERATION_EXTERNAL_TASK_URL);
+  }
+
   public static SortingDto create(String sortBy, String sortOrder) {
     var result = new SortingDto();
     result.setSortOrder(sortOrder);
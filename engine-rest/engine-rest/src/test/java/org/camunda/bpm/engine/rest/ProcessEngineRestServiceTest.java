@@ -480,6 +480,17 @@ public class ProcessEngineRestServiceTest extends
     .when().get(ENGINES_URL);
   }
 
+  @Test
+  public void testEngineNamesListNotCompressed() {
+    given()
+      .header("Accept-Encoding", "gzip")
+    .then().expect()
+      .statusCode(Status.OK.getStatusCode())
+      .header("Content-Encoding", CoreMatchers.nullValue())
+      .body("$.size()", is(2))
+    .when().get(ENGINES_URL);
+  }
+
   @Test
   public void testProcessDefinitionServiceEngineAccess() {
     given().pathParam("name", EXAMPLE_ENGINE_NAME)
@@ -50,7 +50,11 @@ import org.camunda.bpm.application.ProcessApplicationInfo;
 import org.camunda.bpm.container.RuntimeContainerDelegate;
 import org.camunda.bpm.engine.identity.User;
 import org.camunda.bpm.engine.identity.UserQuery;
+import org.camunda.bpm.engine.BadUserRequestException;
 import org.camunda.bpm.engine.impl.TaskQueryImpl;
+import org.camunda.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.camunda.bpm.engine.impl.identity.Authentication;
+import org.camunda.bpm.engine.query.KeysetPage;
 import org.camunda.bpm.engine.repository.CaseDefinition;
 import org.camunda.bpm.engine.repository.CaseDefinitionQuery;
 import org.camunda.bpm.engine.repository.ProcessDefinition;
@@ -67,6 +71,7 @@ import org.camunda.bpm.engine.rest.util.container.TestContainerRule;
 import org.camunda.bpm.engine.task.DelegationState;
 import org.camunda.bpm.engine.task.Task;
 import org.camunda.bpm.engine.task.TaskQuery;
+import org.camunda.bpm.engine.variable.Variables;
 import org.camunda.bpm.engine.variable.type.ValueType;
 import org.junit.Assert;
 import org.junit.Before;
@@ -86,6 +91,7 @@ public class TaskRestServiceQueryTest extends AbstractRestServiceTest {
 
   protected static final String TASK_QUERY_URL = TEST_RESOURCE_ROOT_PATH + "/task";
   protected static final String TASK_COUNT_QUERY_URL = TASK_QUERY_URL + "/count";
+  protected static final String TASK_STREAM_QUERY_URL = TASK_QUERY_URL + "/stream";
 
   private static final String SAMPLE_VAR_NAME = "varName";
   private static final String SAMPLE_VAR_VALUE = "varValue";
@@ -108,6 +114,70 @@ public class TaskRestServiceQueryTest extends AbstractRestServiceTest {
     return sampleTaskQuery;
   }
 
+  @Test
+  @SuppressWarnings("unchecked")
+  public void shouldStreamTasksWithVariablesInChunks() {
+    // given
+    ProcessEngineConfigurationImpl processEngineConfiguration = mock(ProcessEngineConfigurationImpl.class);
+    when(processEngineConfiguration.isQueryMaxResultsLimitBypassedByStreaming()).thenReturn(true);
+    when(processEngine.getProcessEngineConfiguration()).thenReturn(processEngineConfiguration);
+
+    KeysetPage<Task> firstPage = mock(KeysetPage.class);
+    when(firstPage.getResults()).thenReturn(MockProvider.createMockTasks());
+    when(firstPage.getNextCursor()).thenReturn("aCursor");
+    when(mockQuery.listAfter(null, 100)).thenReturn(firstPage);
+    KeysetPage<Task> secondPage = mock(KeysetPage.class);
+    when(secondPage.getResults()).thenReturn(MockProvider.createMockTasks());
+    when(mockQuery.listAfter("aCursor", 100)).thenReturn(secondPage);
+
+    when(processEngine.getTaskService().getVariablesTyped(MockProvider.EXAMPLE_TASK_ID, true))
+      .thenReturn(Variables.createVariables().putValue(SAMPLE_VAR_NAME, SAMPLE_VAR_VALUE));
+
+    // when
+    given()
+      .queryParam("withTaskVariablesInReturn", true)
+      .header("accept", MediaType.APPLICATION_JSON)
+    .then().expect()
+      .statusCode(Status.OK.getStatusCode())
+      .body("size()", equalTo(2))
+      .body("[0].id", equalTo(MockProvider.EXAMPLE_TASK_ID))
+      .body("[0].variables." + SAMPLE_VAR_NAME + ".value", equalTo(SAMPLE_VAR_VALUE))
+      .body("[1].variables." + SAMPLE_VAR_NAME + ".value", equalTo(SAMPLE_VAR_VALUE))
+    .when()
+      .get(TASK_STREAM_QUERY_URL);
+
+    // then the variables were fetched after each page instead of while streaming
+    InOrder inOrder = inOrder(mockQuery, processEngine.getTaskService());
+    inOrder.verify(mockQuery).listAfter(null, 100);
+    inOrder.verify(processEngine.getTaskService()).getVariablesTyped(MockProvider.EXAMPLE_TASK_ID, true);
+    inOrder.verify(mockQuery).listAfter("aCursor", 100);
+    inOrder.verify(processEngine.getTaskService()).getVariablesTyped(MockProvider.EXAMPLE_TASK_ID, true);
+    verify(mockQuery, never()).stream(any());
+  }
+
+  @Test
+  public void shouldApplyMaxResultsLimitToTasksStreamedInChunks() {
+    // given
+    ProcessEngineConfigurationImpl processEngineConfiguration = mock(ProcessEngineConfigurationImpl.class);
+    when(processEngineConfiguration.getQueryMaxResultsLimit()).thenReturn(10);
+    when(processEngineConfiguration.getIdentityService()).thenReturn(processEngine.getIdentityService());
+    when(processEngine.getProcessEngineConfiguration()).thenReturn(processEngineConfiguration);
+    when(processEngine.getIdentityService().getCurrentAuthentication()).thenReturn(new Authentication("aUserId", null));
+
+    // when/then
+    given()
+      .queryParam("withTaskVariablesInReturn", true)
+      .header("accept", MediaType.APPLICATION_JSON)
+    .then().expect()
+      .statusCode(Status.BAD_REQUEST.getStatusCode())
+      .body("type", equalTo(BadUserRequestException.class.getSimpleName()))
+      .body("message", equalTo("An unbound number of results is forbidden!"))
+    .when()
+      .get(TASK_STREAM_QUERY_URL);
+
+    verify(mockQuery, never()).listAfter(any(), Mockito.anyInt());
+  }
+
   @Test
   public void testEmptyQuery() {
     String queryKey = "";
@@ -24,6 +24,8 @@ import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.equalTo;
 import static org.mockito.hamcrest.MockitoHamcrest.argThat;
 import static org.mockito.Mockito.eq;
+import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
@@ -40,19 +42,23 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Consumer;
 
 import javax.ws.rs.core.MediaType;
 import javax.ws.rs.core.Response.Status;
 
 import org.camunda.bpm.engine.BadUserRequestException;
+import org.camunda.bpm.engine.exception.NotValidException;
 import org.camunda.bpm.engine.history.HistoricProcessInstance;
 import org.camunda.bpm.engine.history.HistoricProcessInstanceQuery;
 import org.camunda.bpm.engine.impl.calendar.DateTimeUtil;
+import org.camunda.bpm.engine.query.KeysetPage;
 import org.camunda.bpm.engine.rest.AbstractRestServiceTest;
 import org.camunda.bpm.engine.rest.exception.InvalidRequestException;
 import org.camunda.bpm.engine.rest.helper.MockProvider;
 import org.camunda.bpm.engine.rest.helper.variable.EqualsPrimitiveValue;
 import org.camunda.bpm.engine.rest.util.OrderingBuilder;
+import org.camunda.bpm.engine.rest.util.StreamingQueryOutput;
 import org.camunda.bpm.engine.rest.util.container.TestContainerRule;
 import org.junit.Assert;
 import org.junit.Before;
@@ -81,6 +87,8 @@ public class HistoricProcessInstanceRestServiceQueryTest extends AbstractRestSer
 
   protected static final String HISTORIC_PROCESS_INSTANCE_RESOURCE_URL = TEST_RESOURCE_ROOT_PATH + "/history/process-instance";
   protected static final String HISTORIC_PROCESS_INSTANCE_COUNT_RESOURCE_URL = HISTORIC_PROCESS_INSTANCE_RESOURCE_URL + "/count";
+  protected static final String HISTORIC_PROCESS_INSTANCE_STREAM_RESOURCE_URL = HISTORIC_PROCESS_INSTANCE_RESOURCE_URL + "/stream";
+  protected static final String HISTORIC_PROCESS_INSTANCE_PAGE_RESOURCE_URL = HISTORIC_PROCESS_INSTANCE_RESOURCE_URL + "/page";
 
   protected HistoricProcessInstanceQuery mockedQuery;
 
@@ -93,6 +101,11 @@ public class HistoricProcessInstanceRestServiceQueryTest extends AbstractRestSer
     HistoricProcessInstanceQuery mockedhistoricProcessInstanceQuery = mock(HistoricProcessInstanceQuery.class);
     when(mockedhistoricProcessInstanceQuery.list()).thenReturn(mockedHistoricProcessInstances);
     when(mockedhistoricProcessInstanceQuery.count()).thenReturn((long) mockedHistoricProcessInstances.size());
+    doAnswer(invocation -> {
+      Consumer<HistoricProcessInstance> consumer = invocation.getArgument(0);
+      mockedHistoricProcessInstances.forEach(consumer);
+      return null;
+    }).when(mockedhistoricProcessInstanceQuery).stream(any());
 
     when(processEngine.getHistoryService().createHistoricProcessInstanceQuery()).thenReturn(mockedhistoricProcessInstanceQuery);
 
@@ -137,6 +150,119 @@ public class HistoricProcessInstanceRestServiceQueryTest extends AbstractRestSer
     verifyNoMoreInteractions(mockedQuery);
   }
 
+  @Test
+  public void shouldStreamAsJsonArray() {
+    given()
+      .accept(MediaType.APPLICATION_JSON)
+    .then()
+      .expect()
+        .statusCode(Status.OK.getStatusCode())
+        .contentType(ContentType.JSON)
+        .body("size()", equalTo(1))
+        .body("[0].id", equalTo(MockProvider.EXAMPLE_PROCESS_INSTANCE_ID))
+      .when()
+        .get(HISTORIC_PROCESS_INSTANCE_STREAM_RESOURCE_URL);
+
+    verify(mockedQuery).stream(any());
+    verifyNoMoreInteractions(mockedQuery);
+  }
+
+  @Test
+  public void shouldStreamAsNewlineDelimitedJson() {
+    Response response = given()
+      .contentType(POST_JSON_CONTENT_TYPE)
+      .accept(StreamingQueryOutput.APPLICATION_NDJSON)
+      .body(EMPTY_JSON_OBJECT)
+    .then()
+      .expect()
+        .statusCode(Status.OK.getStatusCode())
+        .contentType(StreamingQueryOutput.APPLICATION_NDJSON)
+      .when()
+        .post(HISTORIC_PROCESS_INSTANCE_STREAM_RESOURCE_URL);
+
+    String[] lines = response.asString().split("\n");
+    assertThat(lines).hasSize(1);
+    assertThat(from(lines[0]).getString("id")).isEqualTo(MockProvider.EXAMPLE_PROCESS_INSTANCE_ID);
+
+    verify(mockedQuery).stream(any());
+    verifyNoMoreInteractions(mockedQuery);
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void shouldSelectPageAfterCursor() {
+    KeysetPage<HistoricProcessInstance> page = mock(KeysetPage.class);
+    when(page.getResults()).thenReturn(MockProvider.createMockHistoricProcessInstances());
+    when(page.getNextCursor()).thenReturn("aNextCursor");
+    when(mockedQuery.listAfter("aCursor", 1)).thenReturn(page);
+
+    given()
+      .queryParam("cursor", "aCursor")
+      .queryParam("maxResults", 1)
+    .then()
+      .expect()
+        .statusCode(Status.OK.getStatusCode())
+        .body("items.size()", equalTo(1))
+        .body("items[0].id", equalTo(MockProvider.EXAMPLE_PROCESS_INSTANCE_ID))
+        .body("nextCursor", equalTo("aNextCursor"))
+      .when()
+        .get(HISTORIC_PROCESS_INSTANCE_PAGE_RESOURCE_URL);
+
+    verify(mockedQuery).listAfter("aCursor", 1);
+    verifyNoMoreInteractions(mockedQuery);
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void shouldSelectFirstPageAsPost() {
+    KeysetPage<HistoricProcessInstance> page = mock(KeysetPage.class);
+    when(page.getResults()).thenReturn(MockProvider.createMockHistoricProcessInstances());
+    when(mockedQuery.listAfter(null, 10)).thenReturn(page);
+
+    given()
+      .contentType(POST_JSON_CONTENT_TYPE)
+      .queryParam("maxResults", 10)
+      .body(EMPTY_JSON_OBJECT)
+    .then()
+      .expect()
+        .statusCode(Status.OK.getStatusCode())
+        .body("items.size()", equalTo(1))
+        .body("nextCursor", equalTo(null))
+      .when()
+        .post(HISTORIC_PROCESS_INSTANCE_PAGE_RESOURCE_URL);
+
+    verify(mockedQuery).listAfter(null, 10);
+    verifyNoMoreInteractions(mockedQuery);
+  }
+
+  @Test
+  public void shouldFailToSelectPageWithoutMaxResults() {
+    given()
+      .queryParam("cursor", "aCursor")
+    .then()
+      .expect()
+        .statusCode(Status.BAD_REQUEST.getStatusCode())
+        .body("type", equalTo(InvalidRequestException.class.getSimpleName()))
+        .body("message", containsString("maxResults"))
+      .when()
+        .get(HISTORIC_PROCESS_INSTANCE_PAGE_RESOURCE_URL);
+  }
+
+  @Test
+  public void shouldFailToSelectPageWithInvalidCursor() {
+    when(mockedQuery.listAfter("anInvalidCursor", 1)).thenThrow(new NotValidException("Invalid cursor"));
+
+    given()
+      .queryParam("cursor", "anInvalidCursor")
+      .queryParam("maxResults", 1)
+    .then()
+      .expect()
+        .statusCode(Status.BAD_REQUEST.getStatusCode())
+        .body("type", equalTo(NotValidException.class.getSimpleName()))
+      .when()
+        .get(HISTORIC_PROCESS_INSTANCE_PAGE_RESOURCE_URL);
+  }
+
   @Test
   public void testInvalidVariableRequests() {
     // invalid comparator
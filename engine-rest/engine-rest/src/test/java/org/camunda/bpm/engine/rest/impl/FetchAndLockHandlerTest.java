@@ -19,9 +19,12 @@ package org.camunda.bpm.engine.rest.impl;
 import static org.camunda.bpm.engine.rest.impl.FetchAndLockHandlerImpl.BLOCKING_QUEUE_CAPACITY_PARAM_NAME;
 import static org.camunda.bpm.engine.rest.impl.FetchAndLockHandlerImpl.DEFAULT_BLOCKING_QUEUE_CAPACITY;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.core.Is.is;
+import static org.junit.Assert.fail;
 import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.anyLong;
@@ -29,6 +32,7 @@ import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.RETURNS_SELF;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -39,10 +43,14 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Date;
 import java.util.List;
+import java.util.Map;
 import javax.servlet.ServletContext;
 import javax.servlet.ServletContextEvent;
 import javax.ws.rs.container.AsyncResponse;
 import javax.ws.rs.core.Response.Status;
+import javax.ws.rs.sse.OutboundSseEvent;
+import javax.ws.rs.sse.Sse;
+import javax.ws.rs.sse.SseEventSink;
 import org.camunda.bpm.engine.ExternalTaskService;
 import org.camunda.bpm.engine.IdentityService;
 import org.camunda.bpm.engine.ProcessEngine;
@@ -50,6 +58,7 @@ import org.camunda.bpm.engine.ProcessEngineException;
 import org.camunda.bpm.engine.externaltask.ExternalTaskQueryTopicBuilder;
 import org.camunda.bpm.engine.externaltask.FetchAndLockBuilder;
 import org.camunda.bpm.engine.externaltask.LockedExternalTask;
+import org.camunda.bpm.engine.impl.identity.Authentication;
 import org.camunda.bpm.engine.impl.util.ClockUtil;
 import org.camunda.bpm.engine.rest.dto.externaltask.FetchExternalTasksExtendedDto;
 import org.camunda.bpm.engine.rest.exception.InvalidRequestException;
@@ -296,6 +305,7 @@ public class FetchAndLockHandlerTest {
 
     // when
     doThrow(new ProcessEngineException()).when(externalTaskQueryTopicBuilder).execute();
+    handler.signalTopic("aTopicName");
     handler.acquire();
 
     // then
@@ -304,6 +314,150 @@ public class FetchAndLockHandlerTest {
     verify(asyncResponse).resume(any(ProcessEngineException.class));
   }
 
+  @Test
+  public void shouldFetchTasksOnlyWhenTopicIsSignalled() {
+    // given
+    when(externalTaskQueryTopicBuilder.execute()).thenReturn(Collections.emptyList());
+
+    AsyncResponse asyncResponse = mock(AsyncResponse.class);
+    handler.addPendingRequest(createDto(5000L), asyncResponse, processEngine);
+
+    // when
+    handler.signalTopic("anotherTopicName");
+    handler.acquire();
+
+    // then
+    verify(externalTaskQueryTopicBuilder, times(1)).execute();
+
+    // when
+    handler.signalTopic("aTopicName");
+    handler.acquire();
+
+    // then
+    verify(externalTaskQueryTopicBuilder, times(2)).execute();
+    assertThat(handler.getPendingRequests().size(), is(1));
+  }
+
+  @Test
+  public void shouldFetchTasksOnceForRequestsWithSameTopics() {
+    // given
+    when(externalTaskQueryTopicBuilder.execute()).thenReturn(Collections.emptyList());
+    when(externalTaskQueryTopicBuilder.execute(anyMap()))
+      .thenReturn(Collections.singletonMap("aWorkerId", Collections.singletonList(lockedExternalTaskMock)));
+
+    AsyncResponse asyncResponse = mock(AsyncResponse.class);
+    handler.addPendingRequest(createDto(5000L, "aWorkerId"), asyncResponse, processEngine);
+    AsyncResponse anotherAsyncResponse = mock(AsyncResponse.class);
+    handler.addPendingRequest(createDto(5000L, "anotherWorkerId"), anotherAsyncResponse, processEngine);
+
+    // when
+    handler.signalTopic("aTopicName");
+    handler.acquire();
+
+    // then
+    ArgumentCaptor<Map<String, Integer>> argumentCaptor = ArgumentCaptor.forClass(Map.class);
+    verify(externalTaskQueryTopicBuilder, times(1)).execute(argumentCaptor.capture());
+    assertThat(argumentCaptor.getValue().keySet(), contains("aWorkerId", "anotherWorkerId"));
+
+    verify(asyncResponse).resume(argThat(IsCollectionWithSize.hasSize(1)));
+    verify(anotherAsyncResponse, never()).resume(any());
+    assertThat(handler.getPendingRequests().size(), is(1));
+  }
+
+  @Test
+  public void shouldSendLockedTasksToStream() {
+    // given
+    when(externalTaskQueryTopicBuilder.execute(anyMap()))
+      .thenReturn(Collections.singletonMap("aWorkerId", Collections.singletonList(lockedExternalTaskMock)));
+
+    SseEventSink eventSink = mock(SseEventSink.class);
+    String streamId = handler.addStream(createDto(null), eventSink, mockSse(), processEngine);
+
+    // when
+    handler.acquire();
+
+    // then
+    verify(eventSink, times(2)).send(any());
+    assertThat(handler.streams.get(streamId).getCredit(), is(4));
+    assertThat(handler.getPendingRequests().size(), is(1));
+  }
+
+  @Test
+  public void shouldFetchTasksForStreamOnlyWithCredit() {
+    // given
+    when(externalTaskQueryTopicBuilder.execute(anyMap()))
+      .thenReturn(Collections.singletonMap("aWorkerId", Collections.singletonList(lockedExternalTaskMock)));
+
+    FetchExternalTasksExtendedDto dto = createDto(null);
+    dto.setMaxTasks(1);
+    String streamId = handler.addStream(dto, mock(SseEventSink.class), mockSse(), processEngine);
+    handler.acquire();
+
+    // when
+    handler.signalTopic("aTopicName");
+    handler.acquire();
+
+    // then
+    verify(externalTaskQueryTopicBuilder, times(1)).execute(anyMap());
+
+    // when
+    handler.addStreamCredit(streamId, 1, processEngine);
+    handler.acquire();
+
+    // then
+    verify(externalTaskQueryTopicBuilder, times(2)).execute(anyMap());
+  }
+
+  @Test
+  public void shouldCloseStreamDueToProcessEngineException() {
+    // given
+    doThrow(new ProcessEngineException()).when(externalTaskQueryTopicBuilder).execute(anyMap());
+
+    SseEventSink eventSink = mock(SseEventSink.class);
+    String streamId = handler.addStream(createDto(null), eventSink, mockSse(), processEngine);
+
+    // when
+    handler.acquire();
+
+    // then
+    verify(eventSink).close();
+    assertThat(handler.getPendingRequests().size(), is(0));
+    assertThat(handler.streams.containsKey(streamId), is(false));
+  }
+
+  @Test
+  public void shouldRejectCreditForUnknownStream() {
+    try {
+      // when
+      handler.addStreamCredit("anUnknownStreamId", 1, processEngine);
+      fail("exception expected");
+    }
+    catch (InvalidRequestException e) {
+      // then
+      assertThat(e.getStatus(), is(Status.NOT_FOUND));
+    }
+  }
+
+  @Test
+  public void shouldRejectCreditFromOtherUser() {
+    // given
+    when(identityService.getCurrentAuthentication())
+      .thenReturn(new Authentication("aUserId", null))
+      .thenReturn(new Authentication("anotherUserId", null));
+    String streamId = handler.addStream(createDto(null), mock(SseEventSink.class), mockSse(), processEngine);
+
+    try {
+      // when
+      handler.addStreamCredit(streamId, 1, processEngine);
+      fail("exception expected");
+    }
+    catch (InvalidRequestException e) {
+      // then
+      assertThat(e.getStatus(), is(Status.FORBIDDEN));
+      assertThat(handler.streams.get(streamId).getCredit(), is(5));
+    }
+  }
+
   @Test
   public void shouldResumeAsyncResponseDueToTimeoutExceeded() {
     // given - no pending requests
@@ -509,6 +663,13 @@ public class FetchAndLockHandlerTest {
     return externalTask;
   }
 
+  protected Sse mockSse() {
+    Sse sse = mock(Sse.class);
+    OutboundSseEvent.Builder eventBuilder = mock(OutboundSseEvent.Builder.class, RETURNS_SELF);
+    when(sse.newEventBuilder()).thenReturn(eventBuilder);
+    return sse;
+  }
+
   protected FetchExternalTasksExtendedDto createDto(Long responseTimeout) {
     return createDto(responseTimeout, "aWorkerId");
   }
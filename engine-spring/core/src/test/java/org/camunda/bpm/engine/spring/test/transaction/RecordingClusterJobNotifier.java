@@ -0,0 +1,65 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.spring.test.transaction;
+
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.camunda.bpm.engine.impl.jobexecutor.JobExecutor;
+import org.camunda.bpm.engine.impl.jobexecutor.cluster.PostgresClusterJobNotifier;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Records the connections the notifications would be sent on, since <code>pg_notify</code>
+ * is not available on H2.
+ */
+public class RecordingClusterJobNotifier extends PostgresClusterJobNotifier {
+
+  protected List<Connection> connections = new ArrayList<>();
+  protected List<Boolean> transactionsActive = new ArrayList<>();
+
+  public RecordingClusterJobNotifier(DataSource dataSource) {
+    super(dataSource);
+  }
+
+  @Override
+  public void start(JobExecutor jobExecutor) {
+    // there is no channel to listen to
+  }
+
+  @Override
+  public void stop() {
+  }
+
+  @Override
+  protected void notifyChannel(Connection connection) {
+    connections.add(connection);
+    transactionsActive.add(TransactionSynchronizationManager.isActualTransactionActive());
+  }
+
+  public List<Connection> getConnections() {
+    return connections;
+  }
+
+  public List<Boolean> getTransactionsActive() {
+    return transactionsActive;
+  }
+
+}
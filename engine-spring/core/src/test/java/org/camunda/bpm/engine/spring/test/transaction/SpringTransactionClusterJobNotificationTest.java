@@ -0,0 +1,66 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.spring.test.transaction;
+
+import java.sql.Connection;
+import java.util.Collections;
+
+import javax.sql.DataSource;
+
+import org.camunda.bpm.engine.spring.test.SpringProcessEngineTestCase;
+import org.camunda.bpm.engine.test.Deployment;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.datasource.ConnectionProxy;
+import org.springframework.jdbc.datasource.DataSourceUtils;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@ContextConfiguration("classpath:org/camunda/bpm/engine/spring/test/transaction/SpringTransactionClusterJobNotificationTest-context.xml")
+public class SpringTransactionClusterJobNotificationTest extends SpringProcessEngineTestCase {
+
+  @Autowired
+  protected DataSource dataSource;
+
+  @Autowired
+  protected TransactionTemplate transactionTemplate;
+
+  @Autowired
+  protected RecordingClusterJobNotifier clusterJobNotifier;
+
+  @Deployment
+  public void testNotifyOnConnectionOfExternalTransaction() {
+    transactionTemplate.execute(status -> {
+      // when
+      runtimeService.startProcessInstanceByKey("asyncProcess");
+
+      // then the notification is sent before the transaction is committed on its connection
+      assertEquals(Collections.singletonList(true), clusterJobNotifier.getTransactionsActive());
+
+      Connection transactionConnection = DataSourceUtils.getConnection(dataSource);
+      assertSame(transactionConnection, targetConnection(clusterJobNotifier.getConnections().get(0)));
+      return null;
+    });
+  }
+
+  protected Connection targetConnection(Connection connection) {
+    if (connection instanceof ConnectionProxy) {
+      return ((ConnectionProxy) connection).getTargetConnection();
+    }
+    return connection;
+  }
+
+}
@@ -16,6 +16,7 @@
  */
 package org.camunda.bpm.engine;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import org.camunda.bpm.engine.authorization.BatchPermissions;
@@ -24,11 +25,13 @@ import org.camunda.bpm.engine.authorization.Resources;
 import org.camunda.bpm.engine.batch.Batch;
 import org.camunda.bpm.engine.exception.NotFoundException;
 import org.camunda.bpm.engine.externaltask.ExternalTask;
+import org.camunda.bpm.engine.externaltask.ExternalTaskBulkOperationBuilder;
 import org.camunda.bpm.engine.externaltask.ExternalTaskQuery;
 import org.camunda.bpm.engine.externaltask.ExternalTaskQueryBuilder;
 import org.camunda.bpm.engine.externaltask.FetchAndLockBuilder;
 import org.camunda.bpm.engine.externaltask.UpdateExternalTaskRetriesBuilder;
 import org.camunda.bpm.engine.externaltask.UpdateExternalTaskRetriesSelectBuilder;
+import org.camunda.bpm.engine.variable.VariableMap;
 
 /**
  * Service that provides access to {@link ExternalTask} instances. External tasks
@@ -194,6 +197,19 @@ public interface ExternalTaskService {
    */
   public void extendLock(String externalTaskId, String workerId, long newLockDuration);
 
+  /**
+   * <p>Completes, fails or extends the locks of several external tasks on behalf of a worker
+   * in a single transaction. The tasks must be assigned to the worker.</p>
+   *
+   * <p>Operations which cannot be applied, e.g. because the task does not exist or is locked
+   * by a different worker, are reported as failed in the result of the operation.</p>
+   *
+   * @param workerId the id of the worker that handles the tasks
+   *
+   * @return a builder to collect the operations
+   */
+  public ExternalTaskBulkOperationBuilder bulkOperation(String workerId);
+
   /**
    * <p>Signals that an external task could not be successfully executed.
    * The task must be assigned to the given worker. The number of retries left can be specified. In addition, a timeout can be
@@ -505,4 +521,52 @@ public interface ExternalTaskService {
    * @since 7.6
    */
   String getExternalTaskErrorDetails(String externalTaskId);
+
+  /**
+   * Returns the variables which are visible to the external task with the given id.
+   * This can be used to fetch the values of variables which were fetched lazily
+   * with the task.
+   *
+   * @param externalTaskId id of the external task, cannot be null.
+   * @param variableNames the names of the variables to fetch, if null all variables are fetched
+   * @param deserializeValues if false, the values of object variables are not deserialized
+   *
+   * @throws ProcessEngineException
+   *          When no external task exists with the given id.
+   * @throws AuthorizationException
+   *          If the user has no {@link Permissions#READ} permission on {@link Resources#PROCESS_INSTANCE}
+   *          or no {@link Permissions#READ_INSTANCE} permission on {@link Resources#PROCESS_DEFINITION}.
+   *
+   * @see org.camunda.bpm.engine.externaltask.ExternalTaskQueryTopicBuilder#lazyVariables()
+   */
+  VariableMap getVariablesTyped(String externalTaskId, Collection<String> variableNames, boolean deserializeValues);
+
+  /**
+   * Returns the variables which are visible to the external task with the given id.
+   * This can be used to fetch the values of variables which were fetched lazily
+   * with the task.
+   *
+   * @param externalTaskId id of the external task, cannot be null.
+   * @param workerId the id of the worker which fetches the variables; if not null, the
+   *          external task must be locked by this worker
+   * @param variableNames the names of the variables to fetch, if null all variables are fetched
+   * @param localVariables if true only the local variables of the execution of the task are fetched
+   * @param deserializeValues if false, the values of object variables are not deserialized
+   * @param variableProjections the expressions by variable name that select the part of the
+   *          variable values to fetch, e.g. JSONPath expressions for JSON variables; may be null
+   *
+   * @throws ProcessEngineException
+   *          When no external task exists with the given id.
+   * @throws BadUserRequestException
+   *          When the external task is not locked by the given worker or when a projection
+   *          is not supported for the type of its variable.
+   * @throws AuthorizationException
+   *          If the user has no {@link Permissions#READ} permission on {@link Resources#PROCESS_INSTANCE}
+   *          or no {@link Permissions#READ_INSTANCE} permission on {@link Resources#PROCESS_DEFINITION}.
+   *
+   * @see org.camunda.bpm.engine.externaltask.ExternalTaskQueryTopicBuilder#lazyVariables()
+   * @see org.camunda.bpm.engine.externaltask.ExternalTaskQueryTopicBuilder#variableProjection(String, String)
+   */
+  VariableMap getVariablesTyped(String externalTaskId, String workerId, Collection<String> variableNames,
+                                boolean localVariables, boolean deserializeValues, Map<String, String> variableProjections);
 }
\ No newline at end of file
@@ -251,6 +251,8 @@ public abstract class ProcessEngineConfiguration {
   protected boolean transactionsExternallyManaged = false;
   /** the number of seconds the jdbc driver will wait for a response from the database */
   protected Integer jdbcStatementTimeout;
+  /** the number of rows the jdbc driver fetches from the database at once, <code>null</code> for the driver default */
+  protected Integer jdbcFetchSize;
   protected boolean jdbcBatchProcessing = true;
 
   protected int defaultNumberOfRetries = JobEntity.DEFAULT_RETRIES;
@@ -734,6 +736,22 @@ public abstract class ProcessEngineConfiguration {
     return this;
   }
 
+  /** Gets the number of rows the jdbc driver fetches from the database at once. */
+  public Integer getJdbcFetchSize() {
+    return jdbcFetchSize;
+  }
+
+  /**
+   * Sets the number of rows the jdbc driver fetches from the database at once. Some drivers
+   * read the whole result set into memory unless a fetch size is set, which prevents
+   * streamed queries (see {@link org.camunda.bpm.engine.query.Query#stream}) from running
+   * in constant memory.
+   */
+  public ProcessEngineConfiguration setJdbcFetchSize(Integer jdbcFetchSize) {
+    this.jdbcFetchSize = jdbcFetchSize;
+    return this;
+  }
+
   public boolean isJdbcBatchProcessing() {
     return jdbcBatchProcessing;
   }
@@ -0,0 +1,114 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.dmn;
+
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Stream;
+
+import org.camunda.bpm.dmn.engine.DmnDecisionResult;
+import org.camunda.bpm.engine.AuthorizationException;
+import org.camunda.bpm.engine.ProcessEngineException;
+import org.camunda.bpm.engine.authorization.Permissions;
+import org.camunda.bpm.engine.authorization.Resources;
+import org.camunda.bpm.engine.exception.NotFoundException;
+import org.camunda.bpm.engine.exception.NotValidException;
+import org.camunda.bpm.engine.history.HistoricDecisionInstance;
+
+/**
+ * <p>Fluent builder to evaluate a decision for many sets of input values.</p>
+ *
+ * <p>The decision definition is resolved and authorized once. The input values
+ * are evaluated in batches, each batch in its own transaction, against this
+ * decision definition.</p>
+ */
+public interface DecisionBatchEvaluationBuilder {
+
+  /**
+   * Specify the id of the tenant the decision definition belongs to. Can only be
+   * used when the definition is referenced by <code>key</code> and not by <code>id</code>.
+   */
+  DecisionBatchEvaluationBuilder decisionDefinitionTenantId(String tenantId);
+
+  /**
+   * Specify that the decision definition belongs to no tenant. Can only be
+   * used when the definition is referenced by <code>key</code> and not by <code>id</code>.
+   */
+  DecisionBatchEvaluationBuilder decisionDefinitionWithoutTenantId();
+
+  /**
+   * Set the version of the decision definition. If <code>null</code> then
+   * the latest version is taken.
+   */
+  DecisionBatchEvaluationBuilder version(Integer version);
+
+  /**
+   * Set the input values of the decision, one map per evaluation.
+   */
+  DecisionBatchEvaluationBuilder variables(Iterable<? extends Map<String, Object>> variables);
+
+  /**
+   * Set the input values of the decision, one map per evaluation. The stream
+   * is consumed lazily while the results are read.
+   */
+  DecisionBatchEvaluationBuilder variables(Stream<? extends Map<String, Object>> variables);
+
+  /**
+   * Set the number of evaluations which are performed in one transaction.
+   * The history of these evaluations is written together. Default is <code>100</code>.
+   */
+  DecisionBatchEvaluationBuilder batchSize(int batchSize);
+
+  /**
+   * Evaluate the batches in parallel in the common {@link ForkJoinPool}.
+   */
+  DecisionBatchEvaluationBuilder parallel();
+
+  /**
+   * Evaluate the batches in parallel in the given {@link ForkJoinPool}.
+   */
+  DecisionBatchEvaluationBuilder parallel(ForkJoinPool forkJoinPool);
+
+  /**
+   * Do not create a {@link HistoricDecisionInstance} for the evaluations.
+   */
+  DecisionBatchEvaluationBuilder skipHistory();
+
+  /**
+   * Evaluates the decision for all input values.
+   *
+   * <p>The decision definition is resolved when this method is called. The
+   * evaluations are performed while the returned stream is consumed, and the
+   * results keep the order of the input values. If an evaluation fails, the
+   * stream throws a {@link ProcessEngineException}. The history of the batches
+   * evaluated before is kept.</p>
+   *
+   * @return the results of the evaluations.
+   *
+   * @throws NotFoundException
+   *           when no decision definition is deployed with the given id / key.
+   *
+   * @throws NotValidException
+   *           when the given decision definition id / key or the input values are null.
+   *
+   * @throws AuthorizationException
+   *           if the user has no {@link Permissions#CREATE_INSTANCE} permission
+   *           on {@link Resources#DECISION_DEFINITION}.
+   */
+  Stream<DmnDecisionResult> evaluate();
+
+}
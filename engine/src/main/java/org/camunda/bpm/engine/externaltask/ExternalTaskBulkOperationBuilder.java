@@ -0,0 +1,92 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.externaltask;
+
+import java.util.List;
+import java.util.Map;
+
+import org.camunda.bpm.engine.AuthorizationException;
+import org.camunda.bpm.engine.BadUserRequestException;
+import org.camunda.bpm.engine.ExternalTaskService;
+import org.camunda.bpm.engine.ProcessEngineException;
+
+/**
+ * <p>Collects operations on external tasks locked by one worker, so that they are
+ * executed together, see {@link ExternalTaskService#bulkOperation(String)}.</p>
+ *
+ * <p>The operations are executed in a single transaction. An operation which is
+ * rejected because the task does not exist, is locked by another worker or the user
+ * is not authorized, is reported as failed without affecting the other operations.
+ * If an operation fails while it is executed, the transaction is rolled back and
+ * the failure is thrown, unless the operations are configured to be
+ * {@link #executeSeparatelyOnFailure() executed separately} in this case.</p>
+ */
+public interface ExternalTaskBulkOperationBuilder {
+
+  /**
+   * Completes the external task, see {@link ExternalTaskService#complete(String, String, Map, Map)}.
+   *
+   * @return the builder
+   */
+  ExternalTaskBulkOperationBuilder complete(String externalTaskId, Map<String, Object> variables, Map<String, Object> localVariables);
+
+  /**
+   * Reports a failure of the external task, see
+   * {@link ExternalTaskService#handleFailure(String, String, String, String, int, long, Map, Map)}.
+   *
+   * @return the builder
+   */
+  ExternalTaskBulkOperationBuilder handleFailure(String externalTaskId, String errorMessage, String errorDetails,
+      int retries, long retryDuration, Map<String, Object> variables, Map<String, Object> localVariables);
+
+  /**
+   * Extends the lock of the external task, see {@link ExternalTaskService#extendLock(String, String, long)}.
+   *
+   * @return the builder
+   *
+   * @throws BadUserRequestException if the lock duration is not positive
+   */
+  ExternalTaskBulkOperationBuilder extendLock(String externalTaskId, long newLockDuration);
+
+  /**
+   * <p>Executes each operation in its own transaction if an operation fails while
+   * the operations are executed together, so that the failure is reported in the
+   * result of the failing operation only.</p>
+   *
+   * <p>Note that the operations executed before the failing one are executed again in
+   * this case. Completing a task continues its process instance, so non-transactional
+   * side effects of the delegates invoked by the operation, e.g. calls of remote
+   * services, happen at least twice.</p>
+   *
+   * @return the builder
+   */
+  ExternalTaskBulkOperationBuilder executeSeparatelyOnFailure();
+
+  /**
+   * Executes the operations.
+   *
+   * @return the results of the operations in the order the operations were added
+   *
+   * @throws AuthorizationException never, a missing authorization is reported in the
+   *   result of the affected operation
+   * @throws ProcessEngineException if an operation fails while it is executed and the
+   *   operations are not {@link #executeSeparatelyOnFailure() executed separately on failure};
+   *   none of the operations is executed in this case
+   */
+  List<ExternalTaskOperationResult> execute();
+
+}
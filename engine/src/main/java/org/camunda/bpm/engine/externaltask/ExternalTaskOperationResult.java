@@ -0,0 +1,56 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.externaltask;
+
+/**
+ * The result of an operation of an {@link ExternalTaskBulkOperationBuilder}.
+ */
+public interface ExternalTaskOperationResult {
+
+  String OPERATION_COMPLETE = "complete";
+  String OPERATION_FAILURE = "failure";
+  String OPERATION_EXTEND_LOCK = "extendLock";
+
+  /**
+   * @return the id of the external task
+   */
+  String getExternalTaskId();
+
+  /**
+   * @return the type of the operation, one of {@link #OPERATION_COMPLETE},
+   *   {@link #OPERATION_FAILURE} and {@link #OPERATION_EXTEND_LOCK}
+   */
+  String getOperationType();
+
+  /**
+   * @return true if the operation was executed
+   */
+  boolean isSuccessful();
+
+  /**
+   * @return the message of the exception which prevented the operation or
+   *   <code>null</code> if the operation was executed
+   */
+  String getErrorMessage();
+
+  /**
+   * @return the exception which prevented the operation or
+   *   <code>null</code> if the operation was executed
+   */
+  Exception getException();
+
+}
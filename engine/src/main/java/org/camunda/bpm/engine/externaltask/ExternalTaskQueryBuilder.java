@@ -17,6 +17,7 @@
 package org.camunda.bpm.engine.externaltask;
 
 import java.util.List;
+import java.util.Map;
 
 /**
  * @author Thorben Lindhauer
@@ -43,4 +44,22 @@ public interface ExternalTaskQueryBuilder {
    *   successfully locked
    */
   List<LockedExternalTask> execute();
+
+  /**
+   * Performs the fetching for several workers with a single query. Locks candidate
+   * tasks of the given topics for the specified duration and distributes them among
+   * the workers in turn. The worker id and the maximum number of tasks given
+   * when creating this builder are not considered.
+   *
+   * @param maxTasksPerWorker the maximum number of tasks per worker id, in the
+   *   order in which the workers are served
+   * @return fetched external tasks per worker id that match the topic and that
+   *   can be successfully locked
+   * @throws UnsupportedOperationException if the implementation does not support
+   *   fetching for several workers; the engine's own builder always does
+   */
+  default Map<String, List<LockedExternalTask>> execute(Map<String, Integer> maxTasksPerWorker) {
+    throw new UnsupportedOperationException("Fetching external tasks for several workers is not supported by "
+        + getClass().getName());
+  }
 }
@@ -147,4 +147,24 @@ public interface ExternalTaskQueryTopicBuilder extends ExternalTaskQueryBuilder
    * @return this builder
    */
   public ExternalTaskQueryTopicBuilder includeExtensionProperties();
+
+  /**
+   * Fetch only the names and types of the variables with all tasks for the current topic.
+   * The values can be fetched when they are needed by
+   * {@link org.camunda.bpm.engine.ExternalTaskService#getVariablesTyped(String, String, java.util.Collection, boolean, boolean, Map)}.
+   *
+   * @return this builder
+   */
+  public ExternalTaskQueryTopicBuilder lazyVariables();
+
+  /**
+   * Fetch only a part of a variable with all tasks for the current topic. The part is
+   * selected by an expression that is evaluated by the engine, e.g. a JSONPath expression
+   * for JSON variables. Multiple calls to this method add to the existing projections.
+   *
+   * @param variableName the name of the variable
+   * @param expression the expression that selects the part of the variable value
+   * @return this builder
+   */
+  public ExternalTaskQueryTopicBuilder variableProjection(String variableName, String expression);
 }
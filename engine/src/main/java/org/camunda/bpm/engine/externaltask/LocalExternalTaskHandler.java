@@ -0,0 +1,58 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.externaltask;
+
+import java.util.List;
+
+import org.camunda.bpm.engine.ExternalTaskService;
+
+/**
+ * Handles the external tasks of a topic inside the process engine. Handlers are registered
+ * per topic with {@link org.camunda.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl#setLocalExternalTaskHandlers}.
+ * The engine locks newly created tasks of the topic right after the creating transaction is
+ * committed and hands them to the handler, without a fetch and lock query.
+ *
+ * <p>The handler reports the result of the task with the given {@link ExternalTaskService},
+ * e.g. with {@link ExternalTaskService#complete(String, String)}, using the id and the worker id
+ * of the locked task. The lock of the task is extended while the handler is running. If the
+ * handler throws an exception, the engine reports a failure of the task.</p>
+ */
+public interface LocalExternalTaskHandler {
+
+  /**
+   * @param externalTask the task which is locked for the handler
+   * @param externalTaskService the service to complete the task or to report a failure or a BPMN error
+   */
+  void execute(LockedExternalTask externalTask, ExternalTaskService externalTaskService) throws Exception;
+
+  /**
+   * @return the names of the variables which are passed with the locked task;
+   *   <code>null</code> to pass all variables
+   */
+  default List<String> getVariableNames() {
+    return null;
+  }
+
+  /**
+   * @return <code>true</code> if serializable variable values (e.g. custom Java objects) are
+   *   deserialized before they are passed with the locked task
+   */
+  default boolean isDeserializeVariables() {
+    return false;
+  }
+
+}
@@ -120,6 +120,16 @@ public interface LockedExternalTask {
    */
   VariableMap getVariables();
 
+  /**
+   * @return a map of the type names by variable name that contains an entry for every
+   *   variable that was specified at fetching time, if such a variable exists in the tasks
+   *   ancestor execution hierarchy; <code>null</code> if the variables were not fetched lazily,
+   *   since their values already carry the types.
+   *
+   * @see ExternalTaskQueryTopicBuilder#lazyVariables()
+   */
+  Map<String, String> getVariableTypes();
+
   /**
    * @return the id of the tenant the task belongs to. Can be <code>null</code>
    * if the task belongs to no single tenant.
@@ -21,8 +21,11 @@ import java.util.Date;
 import java.util.List;
 import java.util.Set;
 
+import org.camunda.bpm.engine.BadUserRequestException;
+import org.camunda.bpm.engine.exception.NotValidException;
 import org.camunda.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
 import org.camunda.bpm.engine.ProcessEngineException;
+import org.camunda.bpm.engine.query.KeysetPage;
 import org.camunda.bpm.engine.query.Query;
 import org.camunda.bpm.engine.runtime.ProcessInstance;
 import org.camunda.bpm.engine.runtime.ProcessInstanceQuery;
@@ -523,4 +526,26 @@ public interface HistoricProcessInstanceQuery extends Query<HistoricProcessInsta
    *                                this exception, {@link #or()} must be invoked first.
    */
   HistoricProcessInstanceQuery endOr();
+
+  /**
+   * <p>Executes the query and returns the results following the given cursor (keyset
+   * pagination). In contrast to {@link #listPage(int, int)}, the database does not have to
+   * read and skip the results of the previous pages, so that deep pages are selected as fast
+   * as the first one.</p>
+   *
+   * <p>The results are ordered by the orderings of the query followed by the id of the result.
+   * Only orderings by start time and by id are supported, since the other columns are not
+   * indexed or nullable. The cursor of a page can only be used with a query with the same
+   * orderings.</p>
+   *
+   * @param cursor the next cursor of the previous page or <code>null</code> to select the first page
+   * @param maxResults the maximum number of results
+   * @return the page of results
+   * @throws NotValidException
+   *   When the query is ordered by an unsupported property or the cursor is invalid.
+   * @throws BadUserRequestException
+   *   When {@param maxResults} exceeds the maximum results limit.
+   */
+  KeysetPage<HistoricProcessInstance> listAfter(String cursor, int maxResults);
+
 }
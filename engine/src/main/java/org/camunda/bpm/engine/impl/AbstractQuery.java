@@ -28,17 +28,23 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
 import org.camunda.bpm.engine.ProcessEngineException;
 import org.camunda.bpm.engine.exception.NotValidException;
 import org.camunda.bpm.engine.impl.QueryValidators.AdhocQueryValidator;
 import org.camunda.bpm.engine.impl.context.Context;
+import org.camunda.bpm.engine.impl.db.KeysetCondition;
 import org.camunda.bpm.engine.impl.db.ListQueryParameterObject;
+import org.camunda.bpm.engine.impl.db.sql.MybatisJoinHelper;
 import org.camunda.bpm.engine.impl.interceptor.Command;
 import org.camunda.bpm.engine.impl.interceptor.CommandContext;
 import org.camunda.bpm.engine.impl.interceptor.CommandExecutor;
 import org.camunda.bpm.engine.impl.util.ImmutablePair;
+import org.camunda.bpm.engine.impl.util.KeysetCursorUtil;
 import org.camunda.bpm.engine.impl.util.QueryMaxResultsLimitUtil;
+import org.camunda.bpm.engine.query.KeysetPage;
 import org.camunda.bpm.engine.query.Query;
 import org.camunda.bpm.engine.query.QueryProperty;
 import org.joda.time.DateTime;
@@ -57,10 +63,12 @@ public abstract class AbstractQuery<T extends Query<?,?>, U> extends ListQueryPa
   public static final String SORTORDER_DESC = "desc";
 
   protected enum ResultType {
-    LIST, LIST_PAGE, LIST_IDS, LIST_DEPLOYMENT_ID_MAPPINGS, SINGLE_RESULT, COUNT
+    LIST, LIST_PAGE, LIST_IDS, LIST_DEPLOYMENT_ID_MAPPINGS, SINGLE_RESULT, COUNT, STREAM
   }
   protected transient CommandExecutor commandExecutor;
 
+  protected transient Consumer<U> streamConsumer;
+
   protected ResultType resultType;
 
   protected Map<String, String> expressions = new HashMap<>();
@@ -150,6 +158,102 @@ public abstract class AbstractQuery<T extends Query<?,?>, U> extends ListQueryPa
     return (List<U>) executeResult(resultType);
   }
 
+  /**
+   * Selects the results following the given cursor, ordered by the orderings of the query
+   * completed with the id (keyset pagination). Backs the <code>listAfter</code> methods of
+   * the queries which provide {@link #getKeysetProperties()}.
+   */
+  protected KeysetPage<U> listPageAfter(String cursor, int maxResults) {
+    Map<QueryProperty, Function<U, Object>> keysetProperties = getKeysetProperties();
+    if (keysetProperties == null) {
+      throw new UnsupportedOperationException("listPageAfter not supported by " + getClass().getCanonicalName());
+    }
+
+    checkQueryOk();
+
+    List<QueryOrderingProperty> originalOrderingProperties = orderingProperties;
+    List<QueryOrderingProperty> keysetOrderingProperties = getKeysetOrderingProperties(keysetProperties);
+
+    List<String> ordering = new ArrayList<>();
+    for (int i = 0; i < keysetOrderingProperties.size(); i++) {
+      ordering.add(MybatisJoinHelper.orderBy(keysetOrderingProperties.get(i), i));
+    }
+
+    try {
+      orderingProperties = keysetOrderingProperties;
+      if (cursor != null) {
+        keyset = new KeysetCondition(keysetOrderingProperties, KeysetCursorUtil.decode(cursor, ordering));
+      }
+
+      List<U> results = listPage(0, maxResults);
+
+      String nextCursor = null;
+      if (!results.isEmpty() && results.size() == maxResults) {
+        U lastResult = results.get(results.size() - 1);
+        List<Object> values = new ArrayList<>();
+        for (QueryOrderingProperty orderingProperty : keysetOrderingProperties) {
+          values.add(keysetProperties.get(orderingProperty.getQueryProperty()).apply(lastResult));
+        }
+        nextCursor = KeysetCursorUtil.encode(ordering, values);
+      }
+
+      return new KeysetPageImpl<>(results, nextCursor);
+
+    } finally {
+      orderingProperties = originalOrderingProperties;
+      keyset = null;
+    }
+  }
+
+  /**
+   * The orderings of the query followed by the id, so that the order is unique.
+   */
+  protected List<QueryOrderingProperty> getKeysetOrderingProperties(Map<QueryProperty, Function<U, Object>> keysetProperties) {
+    QueryProperty idProperty = getKeysetIdProperty();
+    List<QueryOrderingProperty> keysetOrderingProperties = new ArrayList<>();
+
+    for (QueryOrderingProperty orderingProperty : orderingProperties) {
+      QueryProperty queryProperty = orderingProperty.getQueryProperty();
+      if (!orderingProperty.isContainedProperty() || !keysetProperties.containsKey(queryProperty)) {
+        throw new NotValidException("Invalid query: ordering by '" + queryProperty.getName()
+            + "' is not supported by listAfter()");
+      }
+
+      keysetOrderingProperties.add(orderingProperty);
+
+      if (idProperty.equals(queryProperty)) {
+        // the id is unique, further orderings do not change the order
+        return keysetOrderingProperties;
+      }
+    }
+
+    QueryOrderingProperty idOrderingProperty = new QueryOrderingProperty(null, idProperty);
+    idOrderingProperty.setDirection(Direction.ASCENDING);
+    keysetOrderingProperties.add(idOrderingProperty);
+
+    return keysetOrderingProperties;
+  }
+
+  /**
+   * The properties the query supports {@link #listPageAfter(String, int)} for, mapped to
+   * the function that reads the value of the property from a result. Only properties
+   * of indexed columns that are not null qualify, the id property must be included.
+   *
+   * @return the supported properties or <code>null</code> if the query does not support
+   *   keyset pagination
+   */
+  protected Map<QueryProperty, Function<U, Object>> getKeysetProperties() {
+    return null;
+  }
+
+  /**
+   * The property of the unique id of the results that completes the order of
+   * {@link #listPageAfter(String, int)}.
+   */
+  protected QueryProperty getKeysetIdProperty() {
+    return null;
+  }
+
   public Object executeResult(ResultType resultType) {
 
     if (commandExecutor != null) {
@@ -171,6 +275,24 @@ public abstract class AbstractQuery<T extends Query<?,?>, U> extends ListQueryPa
     }
   }
 
+  public void stream(Consumer<U> consumer) {
+    ensureNotNull("consumer", consumer);
+    this.resultType = ResultType.STREAM;
+    this.streamConsumer = consumer;
+    try {
+      if (commandExecutor != null) {
+        if (!maxResultsLimitEnabled) {
+          maxResultsLimitEnabled = Context.getCommandContext() == null;
+        }
+        commandExecutor.execute(this);
+      } else {
+        evaluateExpressionsAndStreamList(Context.getCommandContext(), consumer);
+      }
+    } finally {
+      this.streamConsumer = null;
+    }
+  }
+
   public long count() {
     this.resultType = ResultType.COUNT;
     if (commandExecutor!=null) {
@@ -199,6 +321,9 @@ public abstract class AbstractQuery<T extends Query<?,?>, U> extends ListQueryPa
       return evaluateExpressionsAndExecuteIdsList(commandContext);
     } else if (resultType == ResultType.LIST_DEPLOYMENT_ID_MAPPINGS) {
       return evaluateExpressionsAndExecuteDeploymentIdMappingsList(commandContext);
+    } else if (resultType == ResultType.STREAM) {
+      evaluateExpressionsAndStreamList(commandContext, streamConsumer);
+      return null;
     } else {
       return evaluateExpressionsAndExecuteCount(commandContext);
     }
@@ -219,6 +344,34 @@ public abstract class AbstractQuery<T extends Query<?,?>, U> extends ListQueryPa
     return !hasExcludingConditions() ? executeList(commandContext, page) : new ArrayList<>();
   }
 
+  @SuppressWarnings("unchecked")
+  public void evaluateExpressionsAndStreamList(CommandContext commandContext, Consumer<U> consumer) {
+    if (!commandContext.getProcessEngineConfiguration().isQueryMaxResultsLimitBypassedByStreaming()) {
+      checkMaxResultsLimit();
+    }
+    ensureStreamable();
+    validate();
+    evaluateExpressions();
+    if (!hasExcludingConditions()) {
+      List<U> results = new ArrayList<>();
+      boolean streamed = commandContext.getDbEntityManager().streamSelect(this, loadedObject -> {
+        U result = (U) loadedObject;
+        initializeResult(result);
+        consumer.accept(result);
+      }, () -> {
+        List<U> list = executeList(commandContext, null);
+        if (list != null) {
+          results.addAll(list);
+        }
+      });
+
+      if (!streamed) {
+        // the query does not select with itself as parameter, fall back to the list
+        results.forEach(consumer);
+      }
+    }
+  }
+
   /**
    * Whether or not the query has excluding conditions. If the query has excluding conditions,
    * (e.g. task due date before and after are excluding), the SQL query is avoided and a default result is
@@ -236,6 +389,24 @@ public abstract class AbstractQuery<T extends Query<?,?>, U> extends ListQueryPa
    */
   public abstract List<U> executeList(CommandContext commandContext, Page page);
 
+  /**
+   * Initializes a single result of the query after it was loaded, e.g. fetches values
+   * that are not part of the selected row. Called for the results of {@link #executeList}
+   * as well as for streamed results.
+   */
+  protected void initializeResult(U result) {
+  }
+
+  /**
+   * Ensures that the results of the query can be streamed. Queries which initialize
+   * their results together after they were loaded, rather than one by one in
+   * {@link #initializeResult}, refuse to be streamed.
+   *
+   * @throws NotValidException if the query cannot be streamed
+   */
+  protected void ensureStreamable() {
+  }
+
   public U executeSingleResult(CommandContext commandContext) {
     disableMaxResultsLimit();
     List<U> results = evaluateExpressionsAndExecuteList(commandContext, new Page(0, 2));
@@ -16,10 +16,12 @@
  */
 package org.camunda.bpm.engine.impl;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import org.camunda.bpm.engine.ExternalTaskService;
 import org.camunda.bpm.engine.batch.Batch;
+import org.camunda.bpm.engine.externaltask.ExternalTaskBulkOperationBuilder;
 import org.camunda.bpm.engine.externaltask.ExternalTaskQuery;
 import org.camunda.bpm.engine.externaltask.ExternalTaskQueryBuilder;
 import org.camunda.bpm.engine.externaltask.FetchAndLockBuilder;
@@ -27,7 +29,9 @@ import org.camunda.bpm.engine.impl.externaltask.FetchAndLockBuilderImpl;
 import org.camunda.bpm.engine.externaltask.UpdateExternalTaskRetriesSelectBuilder;
 import org.camunda.bpm.engine.impl.cmd.CompleteExternalTaskCmd;
 import org.camunda.bpm.engine.impl.cmd.ExtendLockOnExternalTaskCmd;
+import org.camunda.bpm.engine.impl.cmd.ExternalTaskBulkOperationBuilderImpl;
 import org.camunda.bpm.engine.impl.cmd.GetExternalTaskErrorDetailsCmd;
+import org.camunda.bpm.engine.impl.cmd.GetExternalTaskVariablesCmd;
 import org.camunda.bpm.engine.impl.cmd.GetTopicNamesCmd;
 import org.camunda.bpm.engine.impl.cmd.HandleExternalTaskBpmnErrorCmd;
 import org.camunda.bpm.engine.impl.cmd.HandleExternalTaskFailureCmd;
@@ -37,6 +41,7 @@ import org.camunda.bpm.engine.impl.cmd.SetExternalTaskRetriesCmd;
 import org.camunda.bpm.engine.impl.cmd.UnlockExternalTaskCmd;
 import org.camunda.bpm.engine.impl.cmd.UpdateExternalTaskRetriesBuilderImpl;
 import org.camunda.bpm.engine.impl.externaltask.ExternalTaskQueryTopicBuilderImpl;
+import org.camunda.bpm.engine.variable.VariableMap;
 
 /**
  * @author Thorben Lindhauer
@@ -142,6 +147,16 @@ public class ExternalTaskServiceImpl extends ServiceImpl implements ExternalTask
     return commandExecutor.execute(new GetExternalTaskErrorDetailsCmd(externalTaskId));
   }
 
+  public VariableMap getVariablesTyped(String externalTaskId, Collection<String> variableNames, boolean deserializeValues) {
+    return getVariablesTyped(externalTaskId, null, variableNames, false, deserializeValues, null);
+  }
+
+  public VariableMap getVariablesTyped(String externalTaskId, String workerId, Collection<String> variableNames,
+                                       boolean localVariables, boolean deserializeValues, Map<String, String> variableProjections) {
+    return commandExecutor.execute(new GetExternalTaskVariablesCmd(externalTaskId, workerId, variableNames, localVariables,
+        deserializeValues, variableProjections));
+  }
+
   @Override
   public void setRetries(String externalTaskId, int retries) {
     setRetries(externalTaskId, retries, true);
@@ -172,4 +187,9 @@ public class ExternalTaskServiceImpl extends ServiceImpl implements ExternalTask
     commandExecutor.execute(new ExtendLockOnExternalTaskCmd(externalTaskId, workerId, lockDuration));
   }
 
+  @Override
+  public ExternalTaskBulkOperationBuilder bulkOperation(String workerId) {
+    return new ExternalTaskBulkOperationBuilderImpl(commandExecutor, workerId);
+  }
+
 }
\ No newline at end of file
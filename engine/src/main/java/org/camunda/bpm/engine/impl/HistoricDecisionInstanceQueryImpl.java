@@ -258,6 +258,14 @@ public class HistoricDecisionInstanceQueryImpl extends AbstractQuery<HistoricDec
         .findHistoricDecisionInstancesByQueryCriteria(this, page);
   }
 
+  @Override
+  protected void ensureStreamable() {
+    // the inputs and outputs are selected for all decision instances of the result at once
+    if (includeInput || includeOutputs) {
+      throw new NotValidException("Invalid query: the results cannot be streamed if inputs or outputs are included");
+    }
+  }
+
   @Override
   public List<ImmutablePair<String, String>> executeDeploymentIdMappingsList(CommandContext commandContext) {
     checkQueryOk();
@@ -231,22 +231,26 @@ public class HistoricDetailQueryImpl extends AbstractQuery<HistoricDetailQuery,
       .findHistoricDetailsByQueryCriteria(this, page);
     if (historicDetails!=null) {
       for (HistoricDetail historicDetail: historicDetails) {
-        if (historicDetail instanceof HistoricDetailVariableInstanceUpdateEntity) {
-          HistoricDetailVariableInstanceUpdateEntity entity = (HistoricDetailVariableInstanceUpdateEntity) historicDetail;
-          if (shouldFetchValue(entity)) {
-            try {
-              entity.getTypedValue(isCustomObjectDeserializationEnabled);
-
-            } catch(Exception t) {
-              // do not fail if one of the variables fails to load
-              LOG.exceptionWhileGettingValueForVariable(t);
-            }
-          }
+        initializeResult(historicDetail);
+      }
+    }
+    return historicDetails;
+  }
 
+  @Override
+  protected void initializeResult(HistoricDetail historicDetail) {
+    if (historicDetail instanceof HistoricDetailVariableInstanceUpdateEntity) {
+      HistoricDetailVariableInstanceUpdateEntity entity = (HistoricDetailVariableInstanceUpdateEntity) historicDetail;
+      if (shouldFetchValue(entity)) {
+        try {
+          entity.getTypedValue(isCustomObjectDeserializationEnabled);
+
+        } catch(Exception t) {
+          // do not fail if one of the variables fails to load
+          LOG.exceptionWhileGettingValueForVariable(t);
         }
       }
     }
-    return historicDetails;
   }
 
   protected boolean shouldFetchValue(HistoricDetailVariableInstanceUpdateEntity entity) {
@@ -32,6 +32,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import org.camunda.bpm.engine.BadUserRequestException;
@@ -45,6 +46,8 @@ import org.camunda.bpm.engine.impl.interceptor.CommandExecutor;
 import org.camunda.bpm.engine.impl.util.ImmutablePair;
 import org.camunda.bpm.engine.impl.util.CompareUtil;
 import org.camunda.bpm.engine.impl.variable.serializer.VariableSerializers;
+import org.camunda.bpm.engine.query.KeysetPage;
+import org.camunda.bpm.engine.query.QueryProperty;
 
 /**
  * @author Tom Baeyens
@@ -430,6 +433,24 @@ public class HistoricProcessInstanceQueryImpl extends AbstractVariableQueryImpl<
         .findHistoricProcessInstanceIds(this);
   }
 
+  @Override
+  public KeysetPage<HistoricProcessInstance> listAfter(String cursor, int maxResults) {
+    return listPageAfter(cursor, maxResults);
+  }
+
+  @Override
+  protected Map<QueryProperty, Function<HistoricProcessInstance, Object>> getKeysetProperties() {
+    Map<QueryProperty, Function<HistoricProcessInstance, Object>> keysetProperties = new HashMap<>();
+    keysetProperties.put(HistoricProcessInstanceQueryProperty.PROCESS_INSTANCE_ID_, HistoricProcessInstance::getId);
+    keysetProperties.put(HistoricProcessInstanceQueryProperty.START_TIME, HistoricProcessInstance::getStartTime);
+    return keysetProperties;
+  }
+
+  @Override
+  protected QueryProperty getKeysetIdProperty() {
+    return HistoricProcessInstanceQueryProperty.PROCESS_INSTANCE_ID_;
+  }
+
   @Override
   public List<ImmutablePair<String, String>> executeDeploymentIdMappingsList(CommandContext commandContext) {
     checkQueryOk();
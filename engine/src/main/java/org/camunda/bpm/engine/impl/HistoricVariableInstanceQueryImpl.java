@@ -265,23 +265,26 @@ public class HistoricVariableInstanceQueryImpl extends AbstractQuery<HistoricVar
 
     if (historicVariableInstances!=null) {
       for (HistoricVariableInstance historicVariableInstance: historicVariableInstances) {
-
-        HistoricVariableInstanceEntity variableInstanceEntity = (HistoricVariableInstanceEntity) historicVariableInstance;
-        if (shouldFetchValue(variableInstanceEntity)) {
-          try {
-            variableInstanceEntity.getTypedValue(isCustomObjectDeserializationEnabled);
-
-          } catch(Exception t) {
-            // do not fail if one of the variables fails to load
-            LOG.exceptionWhileGettingValueForVariable(t);
-          }
-        }
-
+        initializeResult(historicVariableInstance);
       }
     }
     return historicVariableInstances;
   }
 
+  @Override
+  protected void initializeResult(HistoricVariableInstance historicVariableInstance) {
+    HistoricVariableInstanceEntity variableInstanceEntity = (HistoricVariableInstanceEntity) historicVariableInstance;
+    if (shouldFetchValue(variableInstanceEntity)) {
+      try {
+        variableInstanceEntity.getTypedValue(isCustomObjectDeserializationEnabled);
+
+      } catch(Exception t) {
+        // do not fail if one of the variables fails to load
+        LOG.exceptionWhileGettingValueForVariable(t);
+      }
+    }
+  }
+
   protected boolean shouldFetchValue(HistoricVariableInstanceEntity entity) {
     // do not fetch values for byte arrays eagerly (unless requested by the user)
     return isByteArrayFetchingEnabled
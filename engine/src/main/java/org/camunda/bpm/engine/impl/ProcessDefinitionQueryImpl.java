@@ -387,34 +387,43 @@ public class ProcessDefinitionQueryImpl extends AbstractQuery<ProcessDefinitionQ
       .getProcessDefinitionManager()
       .findProcessDefinitionsByQueryCriteria(this, page);
 
-    boolean shouldQueryAddBpmnModelInstancesToCache =
-        commandContext.getProcessEngineConfiguration().getEnableFetchProcessDefinitionDescription();
-    if(shouldQueryAddBpmnModelInstancesToCache) {
-      addProcessDefinitionToCacheAndRetrieveDocumentation(list);
+    for (ProcessDefinition processDefinition : list) {
+      initializeResult(processDefinition);
     }
 
     return list;
   }
 
+  @Override
+  protected void initializeResult(ProcessDefinition processDefinition) {
+    boolean shouldQueryAddBpmnModelInstancesToCache =
+        Context.getProcessEngineConfiguration().getEnableFetchProcessDefinitionDescription();
+    if(shouldQueryAddBpmnModelInstancesToCache) {
+      addProcessDefinitionToCacheAndRetrieveDocumentation(processDefinition);
+    }
+  }
+
   protected void addProcessDefinitionToCacheAndRetrieveDocumentation(List<ProcessDefinition> list) {
     for (ProcessDefinition processDefinition : list) {
+      addProcessDefinitionToCacheAndRetrieveDocumentation(processDefinition);
+    }
+  }
 
-      BpmnModelInstance bpmnModelInstance = Context.getProcessEngineConfiguration()
-          .getDeploymentCache()
-          .findBpmnModelInstanceForProcessDefinition((ProcessDefinitionEntity) processDefinition);
-
-      ModelElementInstance processElement = bpmnModelInstance.getModelElementById(processDefinition.getKey());
-      if (processElement != null) {
-        Collection<Documentation> documentations = processElement.getChildElementsByType(Documentation.class);
-        List<String> docStrings = new ArrayList<String>();
-        for (Documentation documentation : documentations) {
-          docStrings.add(documentation.getTextContent());
-        }
+  protected void addProcessDefinitionToCacheAndRetrieveDocumentation(ProcessDefinition processDefinition) {
+    BpmnModelInstance bpmnModelInstance = Context.getProcessEngineConfiguration()
+        .getDeploymentCache()
+        .findBpmnModelInstanceForProcessDefinition((ProcessDefinitionEntity) processDefinition);
 
-        ProcessDefinitionEntity processDefinitionEntity = (ProcessDefinitionEntity) processDefinition;
-        processDefinitionEntity.setProperty(BpmnParse.PROPERTYNAME_DOCUMENTATION, BpmnParse.parseDocumentation(docStrings));
+    ModelElementInstance processElement = bpmnModelInstance.getModelElementById(processDefinition.getKey());
+    if (processElement != null) {
+      Collection<Documentation> documentations = processElement.getChildElementsByType(Documentation.class);
+      List<String> docStrings = new ArrayList<String>();
+      for (Documentation documentation : documentations) {
+        docStrings.add(documentation.getTextContent());
       }
 
+      ProcessDefinitionEntity processDefinitionEntity = (ProcessDefinitionEntity) processDefinition;
+      processDefinitionEntity.setProperty(BpmnParse.PROPERTYNAME_DOCUMENTATION, BpmnParse.parseDocumentation(docStrings));
     }
   }
 
@@ -36,13 +36,19 @@ import org.camunda.bpm.engine.TaskService;
 import org.camunda.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
 import org.camunda.bpm.engine.impl.cfg.TransactionContextFactory;
 import org.camunda.bpm.engine.impl.el.ExpressionManager;
+import org.camunda.bpm.engine.impl.externaltask.LocalExternalTaskWorker;
 import org.camunda.bpm.engine.impl.history.HistoryLevel;
 import org.camunda.bpm.engine.impl.history.event.SimpleIpBasedProvider;
+import org.camunda.bpm.engine.impl.history.handler.AsyncHistoryEventHandler;
+import org.camunda.bpm.engine.impl.history.handler.HistoryEventHandler;
 import org.camunda.bpm.engine.impl.interceptor.CommandExecutor;
 import org.camunda.bpm.engine.impl.interceptor.SessionFactory;
 import org.camunda.bpm.engine.impl.jobexecutor.JobExecutor;
+import org.camunda.bpm.engine.impl.jobexecutor.JobPartitionLease;
+import org.camunda.bpm.engine.impl.jobexecutor.cluster.ClusterJobNotifier;
 import org.camunda.bpm.engine.impl.metrics.reporter.DbMetricsReporter;
 import org.camunda.bpm.engine.impl.util.CompositeCondition;
+import org.camunda.bpm.engine.impl.util.CompositeTopicCondition;
 
 /**
  * @author Tom Baeyens
@@ -52,6 +58,9 @@ public class ProcessEngineImpl implements ProcessEngine {
   /** external task conditions used to signal long polling in rest API */
   public static final CompositeCondition EXT_TASK_CONDITIONS = new CompositeCondition();
 
+  /** external task conditions signalled with the topic of the available task */
+  public static final CompositeTopicCondition EXT_TASK_TOPIC_CONDITIONS = new CompositeTopicCondition();
+
   private final static ProcessEngineLogger LOG = ProcessEngineLogger.INSTANCE;
 
   protected String name;
@@ -118,6 +127,11 @@ public class ProcessEngineImpl implements ProcessEngine {
     if ((jobExecutor != null)) {
       // register process engine with Job Executor
       jobExecutor.registerProcessEngine(this);
+
+      ClusterJobNotifier clusterJobNotifier = processEngineConfiguration.getClusterJobNotifier();
+      if (clusterJobNotifier != null) {
+        clusterJobNotifier.start(jobExecutor);
+      }
     }
 
     if (processEngineConfiguration.isMetricsEnabled()) {
@@ -139,6 +153,21 @@ public class ProcessEngineImpl implements ProcessEngine {
         dbMetricsReporter.start();
       }
     }
+
+    HistoryEventHandler historyEventHandler = processEngineConfiguration.getHistoryEventHandler();
+    if (historyEventHandler instanceof AsyncHistoryEventHandler) {
+      AsyncHistoryEventHandler asyncHistoryEventHandler = (AsyncHistoryEventHandler) historyEventHandler;
+      if (asyncHistoryEventHandler.getOwner() == null) {
+        asyncHistoryEventHandler.setOwner(processEngineConfiguration.getHostname() + "-" + name);
+      }
+      asyncHistoryEventHandler.start(processEngineConfiguration.getCommandExecutorTxRequiresNew());
+    }
+
+    LocalExternalTaskWorker localExternalTaskWorker = processEngineConfiguration.getLocalExternalTaskWorker();
+    if (localExternalTaskWorker != null) {
+      localExternalTaskWorker.start(processEngineConfiguration.getHostname() + "-" + name,
+          processEngineConfiguration.getCommandExecutorTxRequiresNew(), externalTaskService);
+    }
   }
 
   protected void executeSchemaOperations() {
@@ -166,6 +195,28 @@ public class ProcessEngineImpl implements ProcessEngine {
     if ((jobExecutor != null)) {
       // unregister process engine with Job Executor
       jobExecutor.unregisterProcessEngine(this);
+
+      ClusterJobNotifier clusterJobNotifier = processEngineConfiguration.getClusterJobNotifier();
+      if (clusterJobNotifier != null) {
+        clusterJobNotifier.stop();
+      }
+
+      JobPartitionLease jobPartitionLease = processEngineConfiguration.getJobPartitionLease();
+      if (jobPartitionLease != null) {
+        // hand over the partition to the other nodes
+        jobPartitionLease.release(commandExecutor);
+      }
+    }
+
+    LocalExternalTaskWorker localExternalTaskWorker = processEngineConfiguration.getLocalExternalTaskWorker();
+    if (localExternalTaskWorker != null) {
+      localExternalTaskWorker.stop();
+    }
+
+    HistoryEventHandler historyEventHandler = processEngineConfiguration.getHistoryEventHandler();
+    if (historyEventHandler instanceof AsyncHistoryEventHandler) {
+      // write the remaining history events
+      ((AsyncHistoryEventHandler) historyEventHandler).stop();
     }
 
     commandExecutorSchemaOperations.execute(new SchemaOperationProcessEngineClose());
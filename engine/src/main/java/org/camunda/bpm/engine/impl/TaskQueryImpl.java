@@ -29,6 +29,7 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Function;
 
 import org.camunda.bpm.engine.ProcessEngineException;
 import org.camunda.bpm.engine.identity.Group;
@@ -40,6 +41,8 @@ import org.camunda.bpm.engine.impl.persistence.entity.SuspensionState;
 import org.camunda.bpm.engine.impl.persistence.entity.TaskEntity;
 import org.camunda.bpm.engine.impl.util.CompareUtil;
 import org.camunda.bpm.engine.impl.variable.serializer.VariableSerializers;
+import org.camunda.bpm.engine.query.KeysetPage;
+import org.camunda.bpm.engine.query.QueryProperty;
 import org.camunda.bpm.engine.task.DelegationState;
 import org.camunda.bpm.engine.task.Task;
 import org.camunda.bpm.engine.task.TaskQuery;
@@ -1464,21 +1467,42 @@ public class TaskQueryImpl extends AbstractQuery<TaskQuery, Task> implements Tas
       .getTaskManager()
       .findTasksByQueryCriteria(this);
 
+    for (Task task : taskList) {
+      initializeResult(task);
+    }
+
+    return taskList;
+  }
+
+  @Override
+  protected void initializeResult(Task task) {
     if (initializeFormKeys) {
-      for (Task task : taskList) {
-        // initialize the form keys of the tasks
-        ((TaskEntity) task).initializeFormKey();
-      }
+      // initialize the form keys of the tasks
+      ((TaskEntity) task).initializeFormKey();
     }
 
     if (withCommentAttachmentInfo && !Context.getProcessEngineConfiguration().getHistoryLevel().equals(HistoryLevel.HISTORY_LEVEL_NONE)) {
-      for (Task task : taskList) {
-        // verify attachment and comments exists for the task
-        ((TaskEntity) task).initializeAttachmentAndComments();
-      }
+      // verify attachment and comments exists for the task
+      ((TaskEntity) task).initializeAttachmentAndComments();
     }
+  }
 
-    return taskList;
+  @Override
+  public KeysetPage<Task> listAfter(String cursor, int maxResults) {
+    return listPageAfter(cursor, maxResults);
+  }
+
+  @Override
+  protected Map<QueryProperty, Function<Task, Object>> getKeysetProperties() {
+    Map<QueryProperty, Function<Task, Object>> keysetProperties = new HashMap<>();
+    keysetProperties.put(TaskQueryProperty.TASK_ID, Task::getId);
+    keysetProperties.put(TaskQueryProperty.CREATE_TIME, Task::getCreateTime);
+    return keysetProperties;
+  }
+
+  @Override
+  protected QueryProperty getKeysetIdProperty() {
+    return TaskQueryProperty.TASK_ID;
   }
 
   @Override
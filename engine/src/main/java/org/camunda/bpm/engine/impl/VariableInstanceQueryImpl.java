@@ -192,21 +192,25 @@ public class VariableInstanceQueryImpl extends AbstractVariableQueryImpl<Variabl
 
     // iterate over the result array to initialize the value and serialized value of the variable
     for (VariableInstance variableInstance : result) {
-      VariableInstanceEntity variableInstanceEntity = (VariableInstanceEntity) variableInstance;
+      initializeResult(variableInstance);
+    }
 
-      if (shouldFetchValue(variableInstanceEntity)) {
-        try {
-          variableInstanceEntity.getTypedValue(isCustomObjectDeserializationEnabled);
+    return result;
+  }
 
-        } catch(Exception t) {
-          // do not fail if one of the variables fails to load
-          LOG.exceptionWhileGettingValueForVariable(t);
-        }
-      }
+  @Override
+  protected void initializeResult(VariableInstance variableInstance) {
+    VariableInstanceEntity variableInstanceEntity = (VariableInstanceEntity) variableInstance;
 
-    }
+    if (shouldFetchValue(variableInstanceEntity)) {
+      try {
+        variableInstanceEntity.getTypedValue(isCustomObjectDeserializationEnabled);
 
-    return result;
+      } catch(Exception t) {
+        // do not fail if one of the variables fails to load
+        LOG.exceptionWhileGettingValueForVariable(t);
+      }
+    }
   }
 
   protected boolean shouldFetchValue(VariableInstanceEntity entity) {
@@ -76,6 +76,7 @@ import org.camunda.bpm.engine.TaskService;
 import org.camunda.bpm.engine.authorization.Groups;
 import org.camunda.bpm.engine.authorization.Permission;
 import org.camunda.bpm.engine.authorization.Permissions;
+import org.camunda.bpm.engine.externaltask.LocalExternalTaskHandler;
 import org.camunda.bpm.engine.impl.AuthorizationServiceImpl;
 import org.camunda.bpm.engine.impl.DecisionServiceImpl;
 import org.camunda.bpm.engine.impl.DefaultArtifactFactory;
@@ -138,9 +139,12 @@ import org.camunda.bpm.engine.impl.cmmn.transformer.CmmnTransformFactory;
 import org.camunda.bpm.engine.impl.cmmn.transformer.CmmnTransformListener;
 import org.camunda.bpm.engine.impl.cmmn.transformer.CmmnTransformer;
 import org.camunda.bpm.engine.impl.cmmn.transformer.DefaultCmmnTransformFactory;
+import org.camunda.bpm.engine.impl.db.DbEntity;
 import org.camunda.bpm.engine.impl.db.DbIdGenerator;
+import org.camunda.bpm.engine.impl.db.StripedDbIdGenerator;
 import org.camunda.bpm.engine.impl.db.entitymanager.DbEntityManagerFactory;
 import org.camunda.bpm.engine.impl.db.entitymanager.cache.DbEntityCacheKeyMapping;
+import org.camunda.bpm.engine.impl.db.entitymanager.cache.SecondLevelEntityCache;
 import org.camunda.bpm.engine.impl.db.sql.DbSqlPersistenceProviderFactory;
 import org.camunda.bpm.engine.impl.db.sql.DbSqlSessionFactory;
 import org.camunda.bpm.engine.impl.delegate.DefaultDelegateInterceptor;
@@ -170,6 +174,7 @@ import org.camunda.bpm.engine.impl.event.EventHandlerImpl;
 import org.camunda.bpm.engine.impl.event.EventType;
 import org.camunda.bpm.engine.impl.event.SignalEventHandler;
 import org.camunda.bpm.engine.impl.externaltask.DefaultExternalTaskPriorityProvider;
+import org.camunda.bpm.engine.impl.externaltask.LocalExternalTaskWorker;
 import org.camunda.bpm.engine.impl.form.deployer.CamundaFormDefinitionDeployer;
 import org.camunda.bpm.engine.impl.form.engine.FormEngine;
 import org.camunda.bpm.engine.impl.form.engine.HtmlFormEngine;
@@ -195,6 +200,8 @@ import org.camunda.bpm.engine.impl.history.HistoryRemovalTimeProvider;
 import org.camunda.bpm.engine.impl.history.event.HistoricDecisionInstanceManager;
 import org.camunda.bpm.engine.impl.history.event.HostnameProvider;
 import org.camunda.bpm.engine.impl.history.event.SimpleIpBasedProvider;
+import org.camunda.bpm.engine.impl.history.handler.AsyncHistoryEventHandler;
+import org.camunda.bpm.engine.impl.history.handler.AsyncHistoryEventSession;
 import org.camunda.bpm.engine.impl.history.handler.CompositeDbHistoryEventHandler;
 import org.camunda.bpm.engine.impl.history.handler.CompositeHistoryEventHandler;
 import org.camunda.bpm.engine.impl.history.handler.DbHistoryEventHandler;
@@ -229,6 +236,7 @@ import org.camunda.bpm.engine.impl.jobexecutor.FailedJobCommandFactory;
 import org.camunda.bpm.engine.impl.jobexecutor.JobDeclaration;
 import org.camunda.bpm.engine.impl.jobexecutor.JobExecutor;
 import org.camunda.bpm.engine.impl.jobexecutor.JobHandler;
+import org.camunda.bpm.engine.impl.jobexecutor.JobPartitionLease;
 import org.camunda.bpm.engine.impl.jobexecutor.NotifyAcquisitionRejectedJobsHandler;
 import org.camunda.bpm.engine.impl.jobexecutor.ProcessEventJobHandler;
 import org.camunda.bpm.engine.impl.jobexecutor.RejectedJobsHandler;
@@ -241,6 +249,9 @@ import org.camunda.bpm.engine.impl.jobexecutor.TimerStartEventSubprocessJobHandl
 import org.camunda.bpm.engine.impl.jobexecutor.TimerSuspendJobDefinitionHandler;
 import org.camunda.bpm.engine.impl.jobexecutor.TimerSuspendProcessDefinitionHandler;
 import org.camunda.bpm.engine.impl.jobexecutor.TimerTaskListenerJobHandler;
+import org.camunda.bpm.engine.impl.jobexecutor.cluster.ClusterJobNotificationSession;
+import org.camunda.bpm.engine.impl.jobexecutor.cluster.ClusterJobNotifier;
+import org.camunda.bpm.engine.impl.jobexecutor.cluster.PostgresClusterJobNotifier;
 import org.camunda.bpm.engine.impl.jobexecutor.historycleanup.BatchWindowManager;
 import org.camunda.bpm.engine.impl.jobexecutor.historycleanup.DefaultBatchWindowManager;
 import org.camunda.bpm.engine.impl.jobexecutor.historycleanup.HistoryCleanupBatch;
@@ -312,6 +323,7 @@ import org.camunda.bpm.engine.impl.persistence.entity.HistoricProcessInstanceMan
 import org.camunda.bpm.engine.impl.persistence.entity.HistoricStatisticsManager;
 import org.camunda.bpm.engine.impl.persistence.entity.HistoricTaskInstanceManager;
 import org.camunda.bpm.engine.impl.persistence.entity.HistoricVariableInstanceManager;
+import org.camunda.bpm.engine.impl.persistence.entity.HistoryOutboxManager;
 import org.camunda.bpm.engine.impl.persistence.entity.IdentityInfoManager;
 import org.camunda.bpm.engine.impl.persistence.entity.IdentityLinkManager;
 import org.camunda.bpm.engine.impl.persistence.entity.IncidentManager;
@@ -358,6 +370,7 @@ import org.camunda.bpm.engine.impl.util.ParseUtil;
 import org.camunda.bpm.engine.impl.util.ProcessEngineDetails;
 import org.camunda.bpm.engine.impl.util.ReflectUtil;
 import org.camunda.bpm.engine.impl.variable.ValueTypeResolverImpl;
+import org.camunda.bpm.engine.impl.variable.VariableProjector;
 import org.camunda.bpm.engine.impl.variable.serializer.BooleanValueSerializer;
 import org.camunda.bpm.engine.impl.variable.serializer.ByteArrayValueSerializer;
 import org.camunda.bpm.engine.impl.variable.serializer.DateValueSerializer;
@@ -500,6 +513,40 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
   protected long jobExecutorPriorityRangeMin = Long.MIN_VALUE;
   protected long jobExecutorPriorityRangeMax = Long.MAX_VALUE;
 
+  /**
+   * If true, the job executors of the other cluster nodes are notified about added jobs
+   * by the {@link #clusterJobNotifier}. Defaults to a {@link PostgresClusterJobNotifier}
+   * on PostgreSQL.
+   */
+  protected boolean clusterJobNotificationEnabled = false;
+  protected ClusterJobNotifier clusterJobNotifier;
+
+  /**
+   * If true, the nodes of a cluster acquire jobs of disjoint partitions, which are
+   * re-balanced by the {@link JobPartitionLease}s of the nodes.
+   */
+  protected boolean jobExecutorPartitioningEnabled = false;
+  protected long jobPartitionLeaseTime = JobPartitionLease.DEFAULT_LEASE_TIME;
+  protected long jobPartitionLeaseRenewalInterval = JobPartitionLease.DEFAULT_RENEWAL_INTERVAL;
+  protected JobPartitionLease jobPartitionLease;
+
+  /**
+   * <p>If true, the job executor runs up to {@link #jobExecutionBatchSize} acquired jobs in a single
+   * transaction, provided that their handler type is contained in {@link #jobExecutionBatchJobTypes}
+   * or their job definition in {@link #jobExecutionBatchJobDefinitionIds}, and that they belong to
+   * different root process instances. Disabled by default.</p>
+   *
+   * <p><strong>Warning:</strong> if such a transaction fails, all of its jobs are rolled back and
+   * executed one by one again. The delegates, listeners and scripts of the jobs executed before the
+   * failing one are then invoked a second time, so non-transactional side effects such as calls of
+   * remote services or sent mails happen twice. Only enable batch execution for jobs without such
+   * side effects or with idempotent ones.</p>
+   */
+  protected boolean jobExecutionBatchEnabled = false;
+  protected int jobExecutionBatchSize = 1;
+  protected Set<String> jobExecutionBatchJobTypes = Collections.emptySet();
+  protected Set<String> jobExecutionBatchJobDefinitionIds = Collections.emptySet();
+
   /**
    * When set to false, exclusivity (no parallel execution) of tasks is applied per process instance.
    * When set to true, exclusivity (no parallel execution) of tasks is extended across all hierarchies of each given
@@ -522,16 +569,53 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
   // EXTERNAL TASK /////////////////////////////////////////////////////////////
   protected PriorityProvider<ExternalTaskActivityBehavior> externalTaskPriorityProvider;
 
+  /**
+   * Handlers of external task topics which are executed inside the engine by a
+   * {@link LocalExternalTaskWorker}. New tasks of these topics are dispatched to the
+   * handlers right after the creating transaction is committed.
+   */
+  protected Map<String, LocalExternalTaskHandler> localExternalTaskHandlers = new HashMap<>();
+  protected LocalExternalTaskWorker localExternalTaskWorker;
+  protected int localExternalTaskWorkerPoolSize = LocalExternalTaskWorker.DEFAULT_POOL_SIZE;
+  protected int localExternalTaskWorkerQueueCapacity = LocalExternalTaskWorker.DEFAULT_QUEUE_CAPACITY;
+  protected long localExternalTaskLockDuration = LocalExternalTaskWorker.DEFAULT_LOCK_DURATION;
+  protected int localExternalTaskRetries = LocalExternalTaskWorker.DEFAULT_RETRIES;
+  protected long localExternalTaskRetryTimeout = LocalExternalTaskWorker.DEFAULT_RETRY_TIMEOUT;
+  protected long localExternalTaskPollInterval = LocalExternalTaskWorker.DEFAULT_POLL_INTERVAL;
+
   // MYBATIS SQL SESSION FACTORY //////////////////////////////////////////////
 
   protected SqlSessionFactory sqlSessionFactory;
   protected TransactionFactory transactionFactory;
 
+  /**
+   * If jdbc batch processing is enabled, inserts of history events and historic variables
+   * are flushed with multi-row insert statements on databases supporting them.
+   */
+  protected boolean jdbcBatchMultiRowInserts = false;
+  /**
+   * The maximum number of rows of a multi-row insert statement. Limited further by the database.
+   */
+  protected int jdbcBatchMultiRowInsertMaxRows = 100;
+
+  /**
+   * If enabled, fetched external tasks are locked in the database by skipping the tasks
+   * locked by concurrent fetches instead of failing with an optimistic locking exception
+   * on flush. Only applies to databases supporting "for update skip locked" or an
+   * equivalent, i.e. H2, MySQL 8, MariaDB 10.6, PostgreSQL, Oracle and SQL Server.
+   */
+  protected boolean externalTaskFetchSkipLocked = false;
+
 
   // ID GENERATOR /////////////////////////////////////////////////////////////
   protected IdGenerator idGenerator;
   protected DataSource idGeneratorDataSource;
   protected String idGeneratorDataSourceJndiName;
+  /**
+   * The number of id blocks the default id generator hands out concurrently.
+   * A value greater than one replaces the {@link DbIdGenerator} by a {@link StripedDbIdGenerator}.
+   */
+  protected int idGeneratorStripeCount = 1;
 
   // INCIDENT HANDLER /////////////////////////////////////////////////////////
 
@@ -584,6 +668,7 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
   protected List<TypedValueSerializer> customPostVariableSerializers;
   protected VariableSerializers variableSerializers;
   protected VariableSerializerFactory fallbackSerializerFactory;
+  protected List<VariableProjector> variableProjectors = new ArrayList<>();
   protected boolean implicitVariableUpdateDetectionEnabled = true;
 
   protected String defaultSerializationFormat = Variables.SerializationDataFormats.JAVA.getName();
@@ -672,6 +757,21 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
    */
   protected boolean dmnReturnBlankTableOutputAsNull = false;
 
+  /**
+   * Controls whether the input entries of DMN decision tables are indexed to find the matching rules.
+   */
+  protected boolean dmnEnableDecisionTableIndex = false;
+
+  /**
+   * Controls whether the matching rules of DMN decision tables are cached by the values of their inputs.
+   */
+  protected boolean dmnEnableDecisionResultCache = false;
+
+  /**
+   * The maximum number of cached results per DMN decision table, uses the default of the DMN engine if not set.
+   */
+  protected Integer dmnDecisionResultCacheSize;
+
   protected HistoryLevel historyLevel;
 
   /**
@@ -768,6 +868,23 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
    */
   protected boolean enableDefaultDbHistoryEventHandler = true;
 
+  /**
+   * If true, history events are written asynchronously in batches by an
+   * {@link AsyncHistoryEventHandler} which wraps the configured history event handler.
+   */
+  protected boolean asyncHistoryEnabled = false;
+  protected int asyncHistoryPartitionCount = AsyncHistoryEventHandler.DEFAULT_PARTITION_COUNT;
+  protected int asyncHistoryQueueCapacity = AsyncHistoryEventHandler.DEFAULT_QUEUE_CAPACITY;
+  protected int asyncHistoryBatchSize = AsyncHistoryEventHandler.DEFAULT_BATCH_SIZE;
+  protected long asyncHistoryFlushInterval = AsyncHistoryEventHandler.DEFAULT_FLUSH_INTERVAL;
+
+  /**
+   * Identifies the history outbox entries of this process engine. Must be unique and stable
+   * for every process engine of a cluster. If not set, the hostname followed by the name of
+   * the process engine is used.
+   */
+  protected String asyncHistoryOwner;
+
   protected PermissionProvider permissionProvider;
 
   protected boolean isExecutionTreePrefetchEnabled = true;
@@ -819,6 +936,30 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
 
   protected DbEntityCacheKeyMapping dbEntityCacheKeyMapping = DbEntityCacheKeyMapping.defaultEntityCacheKeyMapping();
 
+  /**
+   * If true, read-mostly entities are cached across commands in the {@link SecondLevelEntityCache}.
+   */
+  protected boolean secondLevelEntityCacheEnabled = false;
+
+  /**
+   * The maximum number of entities and query results in the second-level entity cache.
+   */
+  protected int secondLevelEntityCacheCapacity = 1000;
+
+  /**
+   * The time in milliseconds after which an entry of the second-level entity cache expires.
+   * Bounds the staleness caused by writes of other process engines on the same database.
+   */
+  protected long secondLevelEntityCacheTimeToLive = 60000;
+
+  /**
+   * The entity types which are cached in the second-level entity cache.
+   * If not set, {@link SecondLevelEntityCache#defaultCacheableTypes()} are cached.
+   */
+  protected Set<Class<? extends DbEntity>> secondLevelEntityCacheTypes;
+
+  protected SecondLevelEntityCache secondLevelEntityCache;
+
   /**
    * the metrics registry
    */
@@ -1007,6 +1148,8 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
 
   // max results limit
   protected int queryMaxResultsLimit = Integer.MAX_VALUE;
+  /** if true, streamed queries (see {@link org.camunda.bpm.engine.query.Query#stream}) are not limited by the max results limit */
+  protected boolean queryMaxResultsLimitBypassedByStreaming = false;
 
   // logging context property names (with default values)
   protected String loggingContextActivityId = "activityId";
@@ -1162,12 +1305,16 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     initDeployers();
     initJobProvider();
     initExternalTaskPriorityProvider();
+    initLocalExternalTaskWorker();
     initBatchHandlers();
     initJobExecutor();
+    initClusterJobNotifier();
+    initJobPartitionLease();
     initTransactionFactory();
     initSqlSessionFactory();
     initIdentityProviderSessionFactory();
     initSessionFactories();
+    initSecondLevelEntityCache();
     initValueTypeResolver();
     initTypeValidator();
     initSerialization();
@@ -1834,6 +1981,7 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
           configuration = parser.parse();
 
           configuration.setDefaultStatementTimeout(jdbcStatementTimeout);
+          configuration.setDefaultFetchSize(jdbcFetchSize);
 
           if (isJdbcBatchProcessing()) {
             configuration.setDefaultExecutorType(ExecutorType.BATCH);
@@ -1887,6 +2035,10 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
       properties.put("bitand2", DbSqlSessionFactory.databaseSpecificBitAnd2.get(databaseType));
       properties.put("bitand3", DbSqlSessionFactory.databaseSpecificBitAnd3.get(databaseType));
 
+      properties.put("jobPartitionHash1", DbSqlSessionFactory.databaseSpecificJobPartitionHash1.get(databaseType));
+      properties.put("jobPartitionHash2", DbSqlSessionFactory.databaseSpecificJobPartitionHash2.get(databaseType));
+      properties.put("jobPartitionHash3", DbSqlSessionFactory.databaseSpecificJobPartitionHash3.get(databaseType));
+
       properties.put("datepart1", DbSqlSessionFactory.databaseSpecificDatepart1.get(databaseType));
       properties.put("datepart2", DbSqlSessionFactory.databaseSpecificDatepart2.get(databaseType));
       properties.put("datepart3", DbSqlSessionFactory.databaseSpecificDatepart3.get(databaseType));
@@ -1993,6 +2145,10 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
 
       addSessionFactory(new GenericManagerFactory(OptimizeManager.class));
 
+      addSessionFactory(new GenericManagerFactory(AsyncHistoryEventSession.class));
+      addSessionFactory(new GenericManagerFactory(HistoryOutboxManager.class));
+      addSessionFactory(new GenericManagerFactory(ClusterJobNotificationSession.class));
+
       sessionFactories.put(ReadOnlyIdentityProvider.class, identityProviderSessionFactory);
 
       // check whether identityProviderSessionFactory implements WritableIdentityProvider
@@ -2020,6 +2176,9 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     dbSqlSessionFactory.setCmmnEnabled(cmmnEnabled);
     dbSqlSessionFactory.setDmnEnabled(dmnEnabled);
     dbSqlSessionFactory.setDatabaseTablePrefix(databaseTablePrefix);
+    dbSqlSessionFactory.setJdbcBatchMultiRowInserts(jdbcBatchMultiRowInserts);
+    dbSqlSessionFactory.setJdbcBatchMultiRowInsertMaxRows(jdbcBatchMultiRowInsertMaxRows);
+    dbSqlSessionFactory.setExternalTaskFetchSkipLocked(externalTaskFetchSkipLocked);
 
     //hack for the case when schema is defined via databaseTablePrefix parameter and not via databaseSchema parameter
     if (databaseTablePrefix != null && databaseSchema == null && databaseTablePrefix.contains(".")) {
@@ -2122,6 +2281,18 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     sessionFactories.put(sessionFactory.getSessionType(), sessionFactory);
   }
 
+  // second-level entity cache //////////////////////////////////////////////
+
+  protected void initSecondLevelEntityCache() {
+    if (secondLevelEntityCacheEnabled && secondLevelEntityCache == null) {
+      if (secondLevelEntityCacheTypes == null) {
+        secondLevelEntityCacheTypes = SecondLevelEntityCache.defaultCacheableTypes();
+      }
+      secondLevelEntityCache = new SecondLevelEntityCache(secondLevelEntityCacheTypes,
+          secondLevelEntityCacheCapacity, secondLevelEntityCacheTimeToLive);
+    }
+  }
+
   // deployers ////////////////////////////////////////////////////////////////
 
   protected void initDeployers() {
@@ -2370,6 +2541,22 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     }
   }
 
+  protected void initClusterJobNotifier() {
+    if (clusterJobNotificationEnabled && clusterJobNotifier == null) {
+      if (DbSqlSessionFactory.POSTGRES.equals(databaseType)) {
+        clusterJobNotifier = new PostgresClusterJobNotifier(dataSource);
+      } else {
+        ProcessEngineLogger.JOB_EXECUTOR_LOGGER.clusterJobNotificationNotSupported(databaseType);
+      }
+    }
+  }
+
+  protected void initJobPartitionLease() {
+    if (jobExecutorPartitioningEnabled && jobPartitionLease == null) {
+      jobPartitionLease = new JobPartitionLease(jobPartitionLeaseTime, jobPartitionLeaseRenewalInterval);
+    }
+  }
+
   protected void initJobProvider() {
     if (producePrioritizedJobs && jobPriorityProvider == null) {
       jobPriorityProvider = new DefaultJobPriorityProvider();
@@ -2384,6 +2571,18 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     }
   }
 
+  protected void initLocalExternalTaskWorker() {
+    if (localExternalTaskWorker == null && localExternalTaskHandlers != null && !localExternalTaskHandlers.isEmpty()) {
+      localExternalTaskWorker = new LocalExternalTaskWorker(localExternalTaskHandlers);
+      localExternalTaskWorker.setPoolSize(localExternalTaskWorkerPoolSize);
+      localExternalTaskWorker.setQueueCapacity(localExternalTaskWorkerQueueCapacity);
+      localExternalTaskWorker.setLockDuration(localExternalTaskLockDuration);
+      localExternalTaskWorker.setRetries(localExternalTaskRetries);
+      localExternalTaskWorker.setRetryTimeout(localExternalTaskRetryTimeout);
+      localExternalTaskWorker.setPollInterval(localExternalTaskPollInterval);
+    }
+  }
+
   // history //////////////////////////////////////////////////////////////////
 
   public void initHistoryLevel() {
@@ -2441,10 +2640,17 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         idGeneratorCommandExecutor = commandExecutorTxRequiresNew;
       }
 
-      DbIdGenerator dbIdGenerator = new DbIdGenerator();
-      dbIdGenerator.setIdBlockSize(idBlockSize);
-      dbIdGenerator.setCommandExecutor(idGeneratorCommandExecutor);
-      idGenerator = dbIdGenerator;
+      if (idGeneratorStripeCount > 1) {
+        StripedDbIdGenerator stripedIdGenerator = new StripedDbIdGenerator(idGeneratorStripeCount);
+        stripedIdGenerator.setIdBlockSize(idBlockSize);
+        stripedIdGenerator.setCommandExecutor(idGeneratorCommandExecutor);
+        idGenerator = stripedIdGenerator;
+      } else {
+        DbIdGenerator dbIdGenerator = new DbIdGenerator();
+        dbIdGenerator.setIdBlockSize(idBlockSize);
+        dbIdGenerator.setCommandExecutor(idGeneratorCommandExecutor);
+        idGenerator = dbIdGenerator;
+      }
     }
   }
 
@@ -2518,6 +2724,8 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
 
     metricsRegistry.createMeter(Metrics.EXECUTED_DECISION_INSTANCES);
     metricsRegistry.createMeter(Metrics.EXECUTED_DECISION_ELEMENTS);
+    metricsRegistry.createDbMeter(Metrics.DECISION_RESULT_CACHE_HITS);
+    metricsRegistry.createDbMeter(Metrics.DECISION_RESULT_CACHE_MISSES);
   }
 
   protected void initSerialization() {
@@ -2640,7 +2848,10 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
           .scriptEngineResolver(scriptingEngines)
           .feelCustomFunctionProviders(dmnFeelCustomFunctionProviders)
           .enableFeelLegacyBehavior(dmnFeelEnableLegacyBehavior)
-          .returnBlankTableOutputAsNull(dmnReturnBlankTableOutputAsNull);
+          .returnBlankTableOutputAsNull(dmnReturnBlankTableOutputAsNull)
+          .enableDecisionTableIndex(dmnEnableDecisionTableIndex)
+          .enableDecisionResultCache(dmnEnableDecisionResultCache)
+          .decisionResultCacheSize(dmnDecisionResultCacheSize);
 
       if (dmnElProvider != null) {
         dmnEngineConfigurationBuilder.elProvider(dmnElProvider);
@@ -2793,6 +3004,16 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
         historyEventHandler = new CompositeHistoryEventHandler(customHistoryEventHandlers);
       }
     }
+
+    if (asyncHistoryEnabled && !(historyEventHandler instanceof AsyncHistoryEventHandler)) {
+      AsyncHistoryEventHandler asyncHistoryEventHandler = new AsyncHistoryEventHandler(historyEventHandler);
+      asyncHistoryEventHandler.setPartitionCount(asyncHistoryPartitionCount);
+      asyncHistoryEventHandler.setQueueCapacity(asyncHistoryQueueCapacity);
+      asyncHistoryEventHandler.setBatchSize(asyncHistoryBatchSize);
+      asyncHistoryEventHandler.setFlushInterval(asyncHistoryFlushInterval);
+      asyncHistoryEventHandler.setOwner(asyncHistoryOwner);
+      historyEventHandler = asyncHistoryEventHandler;
+    }
   }
 
   // password digest //////////////////////////////////////////////////////////
@@ -3154,6 +3375,98 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     return this;
   }
 
+  public boolean isClusterJobNotificationEnabled() {
+    return clusterJobNotificationEnabled;
+  }
+
+  public ProcessEngineConfigurationImpl setClusterJobNotificationEnabled(boolean clusterJobNotificationEnabled) {
+    this.clusterJobNotificationEnabled = clusterJobNotificationEnabled;
+    return this;
+  }
+
+  public ClusterJobNotifier getClusterJobNotifier() {
+    return clusterJobNotifier;
+  }
+
+  public ProcessEngineConfigurationImpl setClusterJobNotifier(ClusterJobNotifier clusterJobNotifier) {
+    this.clusterJobNotifier = clusterJobNotifier;
+    return this;
+  }
+
+  public boolean isJobExecutorPartitioningEnabled() {
+    return jobExecutorPartitioningEnabled;
+  }
+
+  public ProcessEngineConfigurationImpl setJobExecutorPartitioningEnabled(boolean jobExecutorPartitioningEnabled) {
+    this.jobExecutorPartitioningEnabled = jobExecutorPartitioningEnabled;
+    return this;
+  }
+
+  public long getJobPartitionLeaseTime() {
+    return jobPartitionLeaseTime;
+  }
+
+  public ProcessEngineConfigurationImpl setJobPartitionLeaseTime(long jobPartitionLeaseTime) {
+    this.jobPartitionLeaseTime = jobPartitionLeaseTime;
+    return this;
+  }
+
+  public long getJobPartitionLeaseRenewalInterval() {
+    return jobPartitionLeaseRenewalInterval;
+  }
+
+  public ProcessEngineConfigurationImpl setJobPartitionLeaseRenewalInterval(long jobPartitionLeaseRenewalInterval) {
+    this.jobPartitionLeaseRenewalInterval = jobPartitionLeaseRenewalInterval;
+    return this;
+  }
+
+  public JobPartitionLease getJobPartitionLease() {
+    return jobPartitionLease;
+  }
+
+  public ProcessEngineConfigurationImpl setJobPartitionLease(JobPartitionLease jobPartitionLease) {
+    this.jobPartitionLease = jobPartitionLease;
+    return this;
+  }
+
+  public boolean isJobExecutionBatchEnabled() {
+    return jobExecutionBatchEnabled
+        && jobExecutionBatchSize > 1
+        && (!jobExecutionBatchJobTypes.isEmpty() || !jobExecutionBatchJobDefinitionIds.isEmpty());
+  }
+
+  public ProcessEngineConfigurationImpl setJobExecutionBatchEnabled(boolean jobExecutionBatchEnabled) {
+    this.jobExecutionBatchEnabled = jobExecutionBatchEnabled;
+    return this;
+  }
+
+  public int getJobExecutionBatchSize() {
+    return jobExecutionBatchSize;
+  }
+
+  public ProcessEngineConfigurationImpl setJobExecutionBatchSize(int jobExecutionBatchSize) {
+    this.jobExecutionBatchSize = jobExecutionBatchSize;
+    return this;
+  }
+
+  public Set<String> getJobExecutionBatchJobTypes() {
+    return jobExecutionBatchJobTypes;
+  }
+
+  public ProcessEngineConfigurationImpl setJobExecutionBatchJobTypes(Set<String> jobExecutionBatchJobTypes) {
+    this.jobExecutionBatchJobTypes = jobExecutionBatchJobTypes;
+    return this;
+  }
+
+  public Set<String> getJobExecutionBatchJobDefinitionIds() {
+    return jobExecutionBatchJobDefinitionIds;
+  }
+
+  public ProcessEngineConfigurationImpl setJobExecutionBatchJobDefinitionIds(Set<String> jobExecutionBatchJobDefinitionIds) {
+    this.jobExecutionBatchJobDefinitionIds = jobExecutionBatchJobDefinitionIds;
+    return this;
+  }
+
   public PriorityProvider<JobDeclaration<?, ?>> getJobPriorityProvider() {
     return jobPriorityProvider;
   }
@@ -3188,6 +3501,86 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     this.externalTaskPriorityProvider = externalTaskPriorityProvider;
   }
 
+  public Map<String, LocalExternalTaskHandler> getLocalExternalTaskHandlers() {
+    return localExternalTaskHandlers;
+  }
+
+  public ProcessEngineConfigurationImpl setLocalExternalTaskHandlers(Map<String, LocalExternalTaskHandler> localExternalTaskHandlers) {
+    this.localExternalTaskHandlers = localExternalTaskHandlers;
+    return this;
+  }
+
+  public ProcessEngineConfigurationImpl addLocalExternalTaskHandler(String topicName, LocalExternalTaskHandler handler) {
+    if (localExternalTaskHandlers == null) {
+      localExternalTaskHandlers = new HashMap<>();
+    }
+    localExternalTaskHandlers.put(topicName, handler);
+    return this;
+  }
+
+  public LocalExternalTaskWorker getLocalExternalTaskWorker() {
+    return localExternalTaskWorker;
+  }
+
+  public ProcessEngineConfigurationImpl setLocalExternalTaskWorker(LocalExternalTaskWorker localExternalTaskWorker) {
+    this.localExternalTaskWorker = localExternalTaskWorker;
+    return this;
+  }
+
+  public int getLocalExternalTaskWorkerPoolSize() {
+    return localExternalTaskWorkerPoolSize;
+  }
+
+  public ProcessEngineConfigurationImpl setLocalExternalTaskWorkerPoolSize(int localExternalTaskWorkerPoolSize) {
+    this.localExternalTaskWorkerPoolSize = localExternalTaskWorkerPoolSize;
+    return this;
+  }
+
+  public int getLocalExternalTaskWorkerQueueCapacity() {
+    return localExternalTaskWorkerQueueCapacity;
+  }
+
+  public ProcessEngineConfigurationImpl setLocalExternalTaskWorkerQueueCapacity(int localExternalTaskWorkerQueueCapacity) {
+    this.localExternalTaskWorkerQueueCapacity = localExternalTaskWorkerQueueCapacity;
+    return this;
+  }
+
+  public long getLocalExternalTaskLockDuration() {
+    return localExternalTaskLockDuration;
+  }
+
+  public ProcessEngineConfigurationImpl setLocalExternalTaskLockDuration(long localExternalTaskLockDuration) {
+    this.localExternalTaskLockDuration = localExternalTaskLockDuration;
+    return this;
+  }
+
+  public int getLocalExternalTaskRetries() {
+    return localExternalTaskRetries;
+  }
+
+  public ProcessEngineConfigurationImpl setLocalExternalTaskRetries(int localExternalTaskRetries) {
+    this.localExternalTaskRetries = localExternalTaskRetries;
+    return this;
+  }
+
+  public long getLocalExternalTaskRetryTimeout() {
+    return localExternalTaskRetryTimeout;
+  }
+
+  public ProcessEngineConfigurationImpl setLocalExternalTaskRetryTimeout(long localExternalTaskRetryTimeout) {
+    this.localExternalTaskRetryTimeout = localExternalTaskRetryTimeout;
+    return this;
+  }
+
+  public long getLocalExternalTaskPollInterval() {
+    return localExternalTaskPollInterval;
+  }
+
+  public ProcessEngineConfigurationImpl setLocalExternalTaskPollInterval(long localExternalTaskPollInterval) {
+    this.localExternalTaskPollInterval = localExternalTaskPollInterval;
+    return this;
+  }
+
   public IdGenerator getIdGenerator() {
     return idGenerator;
   }
@@ -3245,6 +3638,15 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     this.fallbackSerializerFactory = fallbackSerializerFactory;
   }
 
+  public List<VariableProjector> getVariableProjectors() {
+    return variableProjectors;
+  }
+
+  public ProcessEngineConfigurationImpl setVariableProjectors(List<VariableProjector> variableProjectors) {
+    this.variableProjectors = variableProjectors;
+    return this;
+  }
+
   public boolean isImplicitVariableUpdateDetectionEnabled() {
     return implicitVariableUpdateDetectionEnabled;
   }
@@ -3841,6 +4243,42 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     this.idGeneratorDataSourceJndiName = idGeneratorDataSourceJndiName;
   }
 
+  public int getIdGeneratorStripeCount() {
+    return idGeneratorStripeCount;
+  }
+
+  public ProcessEngineConfigurationImpl setIdGeneratorStripeCount(int idGeneratorStripeCount) {
+    this.idGeneratorStripeCount = idGeneratorStripeCount;
+    return this;
+  }
+
+  public boolean isJdbcBatchMultiRowInserts() {
+    return jdbcBatchMultiRowInserts;
+  }
+
+  public ProcessEngineConfigurationImpl setJdbcBatchMultiRowInserts(boolean jdbcBatchMultiRowInserts) {
+    this.jdbcBatchMultiRowInserts = jdbcBatchMultiRowInserts;
+    return this;
+  }
+
+  public int getJdbcBatchMultiRowInsertMaxRows() {
+    return jdbcBatchMultiRowInsertMaxRows;
+  }
+
+  public ProcessEngineConfigurationImpl setJdbcBatchMultiRowInsertMaxRows(int jdbcBatchMultiRowInsertMaxRows) {
+    this.jdbcBatchMultiRowInsertMaxRows = jdbcBatchMultiRowInsertMaxRows;
+    return this;
+  }
+
+  public boolean isExternalTaskFetchSkipLocked() {
+    return externalTaskFetchSkipLocked;
+  }
+
+  public ProcessEngineConfigurationImpl setExternalTaskFetchSkipLocked(boolean externalTaskFetchSkipLocked) {
+    this.externalTaskFetchSkipLocked = externalTaskFetchSkipLocked;
+    return this;
+  }
+
   public ProcessApplicationManager getProcessApplicationManager() {
     return processApplicationManager;
   }
@@ -3890,6 +4328,60 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     this.enableDefaultDbHistoryEventHandler = enableDefaultDbHistoryEventHandler;
   }
 
+  public boolean isAsyncHistoryEnabled() {
+    return asyncHistoryEnabled;
+  }
+
+  public ProcessEngineConfigurationImpl setAsyncHistoryEnabled(boolean asyncHistoryEnabled) {
+    this.asyncHistoryEnabled = asyncHistoryEnabled;
+    return this;
+  }
+
+  public int getAsyncHistoryPartitionCount() {
+    return asyncHistoryPartitionCount;
+  }
+
+  public ProcessEngineConfigurationImpl setAsyncHistoryPartitionCount(int asyncHistoryPartitionCount) {
+    this.asyncHistoryPartitionCount = asyncHistoryPartitionCount;
+    return this;
+  }
+
+  public int getAsyncHistoryQueueCapacity() {
+    return asyncHistoryQueueCapacity;
+  }
+
+  public ProcessEngineConfigurationImpl setAsyncHistoryQueueCapacity(int asyncHistoryQueueCapacity) {
+    this.asyncHistoryQueueCapacity = asyncHistoryQueueCapacity;
+    return this;
+  }
+
+  public int getAsyncHistoryBatchSize() {
+    return asyncHistoryBatchSize;
+  }
+
+  public ProcessEngineConfigurationImpl setAsyncHistoryBatchSize(int asyncHistoryBatchSize) {
+    this.asyncHistoryBatchSize = asyncHistoryBatchSize;
+    return this;
+  }
+
+  public long getAsyncHistoryFlushInterval() {
+    return asyncHistoryFlushInterval;
+  }
+
+  public ProcessEngineConfigurationImpl setAsyncHistoryFlushInterval(long asyncHistoryFlushInterval) {
+    this.asyncHistoryFlushInterval = asyncHistoryFlushInterval;
+    return this;
+  }
+
+  public String getAsyncHistoryOwner() {
+    return asyncHistoryOwner;
+  }
+
+  public ProcessEngineConfigurationImpl setAsyncHistoryOwner(String asyncHistoryOwner) {
+    this.asyncHistoryOwner = asyncHistoryOwner;
+    return this;
+  }
+
   public List<HistoryEventHandler> getCustomHistoryEventHandlers() {
     return customHistoryEventHandlers;
   }
@@ -4356,6 +4848,51 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     return this;
   }
 
+  public boolean isSecondLevelEntityCacheEnabled() {
+    return secondLevelEntityCacheEnabled;
+  }
+
+  public ProcessEngineConfigurationImpl setSecondLevelEntityCacheEnabled(boolean secondLevelEntityCacheEnabled) {
+    this.secondLevelEntityCacheEnabled = secondLevelEntityCacheEnabled;
+    return this;
+  }
+
+  public int getSecondLevelEntityCacheCapacity() {
+    return secondLevelEntityCacheCapacity;
+  }
+
+  public ProcessEngineConfigurationImpl setSecondLevelEntityCacheCapacity(int secondLevelEntityCacheCapacity) {
+    this.secondLevelEntityCacheCapacity = secondLevelEntityCacheCapacity;
+    return this;
+  }
+
+  public long getSecondLevelEntityCacheTimeToLive() {
+    return secondLevelEntityCacheTimeToLive;
+  }
+
+  public ProcessEngineConfigurationImpl setSecondLevelEntityCacheTimeToLive(long secondLevelEntityCacheTimeToLive) {
+    this.secondLevelEntityCacheTimeToLive = secondLevelEntityCacheTimeToLive;
+    return this;
+  }
+
+  public Set<Class<? extends DbEntity>> getSecondLevelEntityCacheTypes() {
+    return secondLevelEntityCacheTypes;
+  }
+
+  public ProcessEngineConfigurationImpl setSecondLevelEntityCacheTypes(Set<Class<? extends DbEntity>> secondLevelEntityCacheTypes) {
+    this.secondLevelEntityCacheTypes = secondLevelEntityCacheTypes;
+    return this;
+  }
+
+  public SecondLevelEntityCache getSecondLevelEntityCache() {
+    return secondLevelEntityCache;
+  }
+
+  public ProcessEngineConfigurationImpl setSecondLevelEntityCache(SecondLevelEntityCache secondLevelEntityCache) {
+    this.secondLevelEntityCache = secondLevelEntityCache;
+    return this;
+  }
+
   public ProcessEngineConfigurationImpl setCustomHistoryLevels(List<HistoryLevel> customHistoryLevels) {
     this.customHistoryLevels = customHistoryLevels;
     return this;
@@ -5135,6 +5672,15 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     return this;
   }
 
+  public boolean isQueryMaxResultsLimitBypassedByStreaming() {
+    return queryMaxResultsLimitBypassedByStreaming;
+  }
+
+  public ProcessEngineConfigurationImpl setQueryMaxResultsLimitBypassedByStreaming(boolean queryMaxResultsLimitBypassedByStreaming) {
+    this.queryMaxResultsLimitBypassedByStreaming = queryMaxResultsLimitBypassedByStreaming;
+    return this;
+  }
+
   public String getLoggingContextActivityId() {
     return loggingContextActivityId;
   }
@@ -5261,6 +5807,33 @@ public abstract class ProcessEngineConfigurationImpl extends ProcessEngineConfig
     return this;
   }
 
+  public boolean isDmnEnableDecisionTableIndex() {
+    return dmnEnableDecisionTableIndex;
+  }
+
+  public ProcessEngineConfigurationImpl setDmnEnableDecisionTableIndex(boolean dmnEnableDecisionTableIndex) {
+    this.dmnEnableDecisionTableIndex = dmnEnableDecisionTableIndex;
+    return this;
+  }
+
+  public boolean isDmnEnableDecisionResultCache() {
+    return dmnEnableDecisionResultCache;
+  }
+
+  public ProcessEngineConfigurationImpl setDmnEnableDecisionResultCache(boolean dmnEnableDecisionResultCache) {
+    this.dmnEnableDecisionResultCache = dmnEnableDecisionResultCache;
+    return this;
+  }
+
+  public Integer getDmnDecisionResultCacheSize() {
+    return dmnDecisionResultCacheSize;
+  }
+
+  public ProcessEngineConfigurationImpl setDmnDecisionResultCacheSize(Integer dmnDecisionResultCacheSize) {
+    this.dmnDecisionResultCacheSize = dmnDecisionResultCacheSize;
+    return this;
+  }
+
   public DiagnosticsCollector getDiagnosticsCollector() {
     return diagnosticsCollector;
   }
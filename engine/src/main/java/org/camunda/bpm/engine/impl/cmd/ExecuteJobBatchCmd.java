@@ -0,0 +1,166 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.impl.cmd;
+
+import static org.camunda.bpm.engine.impl.util.EnsureUtil.ensureNotNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.camunda.bpm.engine.IdentityService;
+import org.camunda.bpm.engine.impl.ProcessEngineLogger;
+import org.camunda.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.camunda.bpm.engine.impl.context.Context;
+import org.camunda.bpm.engine.impl.interceptor.Command;
+import org.camunda.bpm.engine.impl.interceptor.CommandContext;
+import org.camunda.bpm.engine.impl.jobexecutor.JobExecutorContext;
+import org.camunda.bpm.engine.impl.jobexecutor.JobExecutorLogger;
+import org.camunda.bpm.engine.impl.jobexecutor.JobFailureCollector;
+import org.camunda.bpm.engine.impl.persistence.entity.JobEntity;
+
+/**
+ * <p>Executes several jobs acquired by the job executor in a single command context,
+ * so that they share one flush and one commit.</p>
+ *
+ * <p>Only jobs whose handler type or job definition is configured for batch execution
+ * are executed, and at most one job per root process instance. All other jobs are skipped
+ * and have to be executed with an {@link ExecuteJobsCmd}. If a job fails, the command
+ * fails as a whole and the changes of none of the jobs are committed. The failing job
+ * is reported to the given {@link JobFailureCollector}.</p>
+ *
+ * <p>Note that the jobs executed before the failing one have already invoked their
+ * delegates. If they are executed again on their own, non-transactional side effects
+ * of these delegates, e.g. calls of remote services, happen at least twice.</p>
+ */
+public class ExecuteJobBatchCmd implements Command<Void> {
+
+  private final static JobExecutorLogger LOG = ProcessEngineLogger.JOB_EXECUTOR_LOGGER;
+
+  protected List<String> jobIds;
+  protected JobFailureCollector jobFailureCollector;
+
+  protected List<String> executedJobIds = new ArrayList<>();
+  protected List<String> skippedJobIds = new ArrayList<>();
+
+  public ExecuteJobBatchCmd(List<String> jobIds, JobFailureCollector jobFailureCollector) {
+    this.jobIds = jobIds;
+    this.jobFailureCollector = jobFailureCollector;
+  }
+
+  public Void execute(CommandContext commandContext) {
+    ensureNotNull("jobIds", jobIds);
+
+    final JobExecutorContext jobExecutorContext = Context.getJobExecutorContext();
+    ensureNotNull("jobExecutorContext", jobExecutorContext);
+
+    final ProcessEngineConfigurationImpl processEngineConfiguration = commandContext.getProcessEngineConfiguration();
+    final IdentityService identityService = processEngineConfiguration.getIdentityService();
+
+    Set<String> rootProcessInstanceIds = new HashSet<>();
+
+    // register as command context close lister to intercept exceptions on flush
+    commandContext.registerCommandContextListener(jobFailureCollector);
+
+    for (String jobId : jobIds) {
+      JobEntity job = commandContext.getDbEntityManager().selectById(JobEntity.class, jobId);
+
+      if (job == null) {
+        // the job has been deleted after it was acquired, see ExecuteJobsCmd
+        LOG.debugAcquiredJobNotFound(jobId);
+        executedJobIds.add(jobId);
+
+      } else if (!isBatchable(job, processEngineConfiguration)
+          || !isFirstJobOfRootProcessInstance(job, rootProcessInstanceIds)) {
+        // a job of the same process instance hierarchy, e.g. of a called sub process instance,
+        // would see the changes of the previous job before they are committed, so it is
+        // executed on its own
+        skippedJobIds.add(jobId);
+
+      } else {
+        executeJob(job, commandContext, jobExecutorContext, identityService);
+        executedJobIds.add(jobId);
+      }
+    }
+
+    return null;
+  }
+
+  protected boolean isBatchable(JobEntity job, ProcessEngineConfigurationImpl processEngineConfiguration) {
+    return processEngineConfiguration.getJobExecutionBatchJobTypes().contains(job.getJobHandlerType())
+        || (job.getJobDefinitionId() != null
+            && processEngineConfiguration.getJobExecutionBatchJobDefinitionIds().contains(job.getJobDefinitionId()));
+  }
+
+  protected boolean isFirstJobOfRootProcessInstance(JobEntity job, Set<String> rootProcessInstanceIds) {
+    String rootProcessInstanceId = job.getRootProcessInstanceId();
+    if (rootProcessInstanceId == null) {
+      // jobs created before the root process instance id was tracked
+      rootProcessInstanceId = job.getProcessInstanceId();
+    }
+
+    return rootProcessInstanceId == null || rootProcessInstanceIds.add(rootProcessInstanceId);
+  }
+
+  protected void executeJob(JobEntity job, CommandContext commandContext, JobExecutorContext jobExecutorContext,
+      IdentityService identityService) {
+
+    jobFailureCollector.setJob(job);
+    jobExecutorContext.setCurrentJob(job);
+
+    // set the tenant id of the job as authenticated tenant to enable tenant checks
+    String tenantId = job.getTenantId();
+    if (tenantId != null) {
+      identityService.setAuthentication(null, null, Collections.singletonList(tenantId));
+    }
+
+    try {
+      commandContext.setCurrentJob(job);
+
+      job.execute(commandContext);
+
+    } catch (Throwable t) {
+      String failedActivityId = Context.getCommandInvocationContext()
+          .getProcessDataContext()
+          .getLatestActivityId();
+
+      jobFailureCollector.setFailedActivityId(failedActivityId);
+      throw t;
+    } finally {
+      commandContext.setCurrentJob(null);
+      jobExecutorContext.setCurrentJob(null);
+      identityService.clearAuthentication();
+    }
+  }
+
+  /**
+   * @return the ids of the jobs that were executed or do not exist anymore
+   */
+  public List<String> getExecutedJobIds() {
+    return executedJobIds;
+  }
+
+  /**
+   * @return the ids of the jobs that have to be executed on their own
+   */
+  public List<String> getSkippedJobIds() {
+    return skippedJobIds;
+  }
+
+}
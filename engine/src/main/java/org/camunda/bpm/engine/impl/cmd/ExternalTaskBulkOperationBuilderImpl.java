@@ -0,0 +1,147 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.impl.cmd;
+
+import static org.camunda.bpm.engine.impl.util.EnsureUtil.ensureNotNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.camunda.bpm.engine.externaltask.ExternalTaskBulkOperationBuilder;
+import org.camunda.bpm.engine.externaltask.ExternalTaskOperationResult;
+import org.camunda.bpm.engine.impl.ProcessEngineLogger;
+import org.camunda.bpm.engine.impl.externaltask.ExternalTaskLogger;
+import org.camunda.bpm.engine.impl.externaltask.ExternalTaskOperationResultImpl;
+import org.camunda.bpm.engine.impl.interceptor.CommandExecutor;
+
+public class ExternalTaskBulkOperationBuilderImpl implements ExternalTaskBulkOperationBuilder {
+
+  protected static final ExternalTaskLogger LOG = ProcessEngineLogger.EXTERNAL_TASK_LOGGER;
+
+  protected CommandExecutor commandExecutor;
+  protected String workerId;
+  protected List<Operation> operations = new ArrayList<>();
+  protected boolean executeSeparatelyOnFailure = false;
+
+  public ExternalTaskBulkOperationBuilderImpl(CommandExecutor commandExecutor, String workerId) {
+    ensureNotNull("workerId", workerId);
+    this.commandExecutor = commandExecutor;
+    this.workerId = workerId;
+  }
+
+  public ExternalTaskBulkOperationBuilder complete(String externalTaskId, Map<String, Object> variables,
+      Map<String, Object> localVariables) {
+    operations.add(new Operation(ExternalTaskOperationResult.OPERATION_COMPLETE,
+        new CompleteExternalTaskCmd(externalTaskId, workerId, variables, localVariables)));
+    return this;
+  }
+
+  public ExternalTaskBulkOperationBuilder handleFailure(String externalTaskId, String errorMessage, String errorDetails,
+      int retries, long retryDuration, Map<String, Object> variables, Map<String, Object> localVariables) {
+    operations.add(new Operation(ExternalTaskOperationResult.OPERATION_FAILURE,
+        new HandleExternalTaskFailureCmd(externalTaskId, workerId, errorMessage, errorDetails, retries, retryDuration,
+            variables, localVariables)));
+    return this;
+  }
+
+  public ExternalTaskBulkOperationBuilder extendLock(String externalTaskId, long newLockDuration) {
+    operations.add(new Operation(ExternalTaskOperationResult.OPERATION_EXTEND_LOCK,
+        new ExtendLockOnExternalTaskCmd(externalTaskId, workerId, newLockDuration)));
+    return this;
+  }
+
+  public ExternalTaskBulkOperationBuilder executeSeparatelyOnFailure() {
+    this.executeSeparatelyOnFailure = true;
+    return this;
+  }
+
+  public List<ExternalTaskOperationResult> execute() {
+    if (operations.isEmpty()) {
+      return Collections.emptyList();
+    }
+
+    try {
+      return commandExecutor.execute(new HandleExternalTasksCmd(operations));
+
+    } catch (RuntimeException e) {
+      if (!executeSeparatelyOnFailure) {
+        throw e;
+      }
+
+      LOG.fallbackToSeparateOperations(workerId, operations.size(), e);
+      return executeSeparately();
+    }
+  }
+
+  protected List<ExternalTaskOperationResult> executeSeparately() {
+    List<ExternalTaskOperationResult> results = new ArrayList<>();
+
+    for (Operation operation : operations) {
+      try {
+        commandExecutor.execute(operation.getCommand());
+        results.add(operation.successful());
+
+      } catch (RuntimeException e) {
+        results.add(operation.failed(e));
+      }
+    }
+
+    return results;
+  }
+
+  public String getWorkerId() {
+    return workerId;
+  }
+
+  public List<Operation> getOperations() {
+    return operations;
+  }
+
+  public boolean isExecuteSeparatelyOnFailure() {
+    return executeSeparatelyOnFailure;
+  }
+
+  public static class Operation {
+
+    protected String type;
+    protected HandleExternalTaskCmd command;
+
+    public Operation(String type, HandleExternalTaskCmd command) {
+      this.type = type;
+      this.command = command;
+    }
+
+    public String getType() {
+      return type;
+    }
+
+    public HandleExternalTaskCmd getCommand() {
+      return command;
+    }
+
+    public ExternalTaskOperationResult successful() {
+      return ExternalTaskOperationResultImpl.successful(command.getExternalTaskId(), type);
+    }
+
+    public ExternalTaskOperationResult failed(Exception exception) {
+      return ExternalTaskOperationResultImpl.failed(command.getExternalTaskId(), type, exception);
+    }
+  }
+
+}
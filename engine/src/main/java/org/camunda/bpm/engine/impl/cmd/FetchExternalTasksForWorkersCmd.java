@@ -0,0 +1,109 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.impl.cmd;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import org.camunda.bpm.engine.externaltask.LockedExternalTask;
+import org.camunda.bpm.engine.impl.QueryOrderingProperty;
+import org.camunda.bpm.engine.impl.externaltask.TopicFetchInstruction;
+import org.camunda.bpm.engine.impl.interceptor.CommandContext;
+import org.camunda.bpm.engine.impl.persistence.entity.ExternalTaskEntity;
+import org.camunda.bpm.engine.impl.util.EnsureUtil;
+
+/**
+ * Fetches external tasks for several workers with a single query. The selected
+ * tasks are locked for the workers in turn, so that each worker receives a fair
+ * share of the available tasks but not more than its maximum number of tasks.
+ */
+public class FetchExternalTasksForWorkersCmd extends AbstractFetchExternalTasksCmd<Map<String, List<LockedExternalTask>>> {
+
+  protected Map<String, Integer> maxResultsPerWorker;
+
+  public FetchExternalTasksForWorkersCmd(Map<String, Integer> maxResultsPerWorker,
+                                         Map<String, TopicFetchInstruction> instructions,
+                                         boolean usePriority,
+                                         List<QueryOrderingProperty> orderingProperties) {
+    super(instructions, usePriority, orderingProperties);
+    this.maxResultsPerWorker = maxResultsPerWorker;
+  }
+
+  @Override
+  public Map<String, List<LockedExternalTask>> execute(CommandContext commandContext) {
+    validateInput();
+
+    Map<String, List<LockedExternalTask>> results = new LinkedHashMap<>();
+    int maxResults = 0;
+    for (Entry<String, Integer> worker : maxResultsPerWorker.entrySet()) {
+      results.put(worker.getKey(), new ArrayList<>());
+      maxResults += worker.getValue();
+    }
+
+    List<ExternalTaskEntity> externalTasks = selectExternalTasks(commandContext, maxResults);
+    Iterator<ExternalTaskEntity> taskIterator = externalTasks.iterator();
+
+    boolean workerServed = true;
+    while (taskIterator.hasNext() && workerServed) {
+      workerServed = false;
+
+      // each round locks at most one task per worker
+      for (Entry<String, List<LockedExternalTask>> result : results.entrySet()) {
+        List<LockedExternalTask> lockedTasks = result.getValue();
+
+        if (taskIterator.hasNext() && lockedTasks.size() < maxResultsPerWorker.get(result.getKey())) {
+          LockedExternalTask resultTask = lockNextExternalTask(taskIterator, result.getKey());
+
+          if (resultTask != null) {
+            lockedTasks.add(resultTask);
+          }
+          workerServed = true;
+        }
+      }
+    }
+
+    filterOnOptimisticLockingFailure(commandContext, results.values());
+
+    return results;
+  }
+
+  protected LockedExternalTask lockNextExternalTask(Iterator<ExternalTaskEntity> taskIterator, String workerId) {
+    while (taskIterator.hasNext()) {
+      LockedExternalTask resultTask = lockExternalTask(taskIterator.next(), workerId);
+
+      if (resultTask != null) {
+        return resultTask;
+      }
+    }
+    return null;
+  }
+
+  protected void validateInput() {
+    EnsureUtil.ensureNotNull("maxResultsPerWorker", maxResultsPerWorker);
+
+    for (Entry<String, Integer> worker : maxResultsPerWorker.entrySet()) {
+      EnsureUtil.ensureNotNull("workerId", worker.getKey());
+      EnsureUtil.ensureNotNull("maxResults", worker.getValue());
+      EnsureUtil.ensureGreaterThanOrEqual("maxResults", worker.getValue(), 0);
+    }
+
+    validateInstructions();
+  }
+}
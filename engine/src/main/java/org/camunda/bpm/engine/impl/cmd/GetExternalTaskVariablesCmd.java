@@ -0,0 +1,88 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.impl.cmd;
+
+import static org.camunda.bpm.engine.impl.util.EnsureUtil.ensureNotNull;
+
+import java.io.Serializable;
+import java.util.Collection;
+import java.util.Map;
+
+import org.camunda.bpm.engine.BadUserRequestException;
+import org.camunda.bpm.engine.exception.NotFoundException;
+import org.camunda.bpm.engine.impl.cfg.CommandChecker;
+import org.camunda.bpm.engine.impl.interceptor.Command;
+import org.camunda.bpm.engine.impl.interceptor.CommandContext;
+import org.camunda.bpm.engine.impl.persistence.entity.ExecutionEntity;
+import org.camunda.bpm.engine.impl.persistence.entity.ExternalTaskEntity;
+import org.camunda.bpm.engine.impl.util.VariableProjectionUtil;
+import org.camunda.bpm.engine.variable.VariableMap;
+import org.camunda.bpm.engine.variable.impl.VariableMapImpl;
+
+/**
+ * Fetches the variables of an external task, e.g. the values of variables which
+ * were fetched lazily with the task. If a worker id is given, the task must be
+ * locked by this worker.
+ */
+public class GetExternalTaskVariablesCmd implements Command<VariableMap>, Serializable {
+
+  private static final long serialVersionUID = 1L;
+
+  protected String externalTaskId;
+  protected String workerId;
+  protected Collection<String> variableNames;
+  protected boolean isLocal;
+  protected boolean deserializeValues;
+  protected Map<String, String> variableProjections;
+
+  public GetExternalTaskVariablesCmd(String externalTaskId, String workerId, Collection<String> variableNames, boolean isLocal,
+                                     boolean deserializeValues, Map<String, String> variableProjections) {
+    this.externalTaskId = externalTaskId;
+    this.workerId = workerId;
+    this.variableNames = variableNames;
+    this.isLocal = isLocal;
+    this.deserializeValues = deserializeValues;
+    this.variableProjections = variableProjections;
+  }
+
+  public VariableMap execute(CommandContext commandContext) {
+    ensureNotNull("externalTaskId", externalTaskId);
+
+    ExternalTaskEntity externalTask = commandContext
+        .getExternalTaskManager()
+        .findExternalTaskById(externalTaskId);
+
+    ensureNotNull(NotFoundException.class, "No external task found with id " + externalTaskId, "externalTask", externalTask);
+
+    if (workerId != null && !workerId.equals(externalTask.getWorkerId())) {
+      throw new BadUserRequestException("Variables of the external task " + externalTaskId + " cannot be fetched by worker '"
+          + workerId + "'. It is locked by worker '" + externalTask.getWorkerId() + "'.");
+    }
+
+    ExecutionEntity execution = externalTask.getExecution();
+
+    for (CommandChecker checker : commandContext.getProcessEngineConfiguration().getCommandCheckers()) {
+      checker.checkReadProcessInstanceVariable(execution);
+    }
+
+    VariableMapImpl variables = new VariableMapImpl();
+    execution.collectVariables(variables, variableNames, isLocal, deserializeValues);
+    VariableProjectionUtil.projectVariables(variables, variableProjections);
+
+    return variables;
+  }
+}
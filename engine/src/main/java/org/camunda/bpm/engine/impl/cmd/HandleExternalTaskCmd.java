@@ -43,6 +43,17 @@ public abstract class HandleExternalTaskCmd extends ExternalTaskCmd {
 
   @Override
   public Void execute(CommandContext commandContext) {
+    ExternalTaskEntity externalTask = findExternalTask(commandContext);
+    handle(externalTask);
+
+    return null;
+  }
+
+  /**
+   * Validates the input and returns the external task if the worker is allowed to handle it.
+   * Nothing is modified until the external task is handled.
+   */
+  protected ExternalTaskEntity findExternalTask(CommandContext commandContext) {
     validateInput();
 
     ExternalTaskEntity externalTask = commandContext.getExternalTaskManager().findExternalTaskById(externalTaskId);
@@ -57,14 +68,20 @@ public abstract class HandleExternalTaskCmd extends ExternalTaskCmd {
       checker.checkUpdateProcessInstanceById(externalTask.getProcessInstanceId());
     }
 
+    return externalTask;
+  }
+
+  protected void handle(ExternalTaskEntity externalTask) {
     try {
       execute(externalTask);
     } catch (NotFoundException e) {
       // wrap up NotFoundExceptions reported for entities different than external tasks
       throw new ProcessEngineException(e.getMessage(), e);
     }
+  }
 
-    return null;
+  public String getExternalTaskId() {
+    return externalTaskId;
   }
 
   /**
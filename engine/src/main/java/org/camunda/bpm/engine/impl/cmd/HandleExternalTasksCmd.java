@@ -0,0 +1,65 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.impl.cmd;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.camunda.bpm.engine.ProcessEngineException;
+import org.camunda.bpm.engine.externaltask.ExternalTaskOperationResult;
+import org.camunda.bpm.engine.impl.cmd.ExternalTaskBulkOperationBuilderImpl.Operation;
+import org.camunda.bpm.engine.impl.interceptor.Command;
+import org.camunda.bpm.engine.impl.interceptor.CommandContext;
+import org.camunda.bpm.engine.impl.persistence.entity.ExternalTaskEntity;
+
+/**
+ * Executes the operations of an {@link ExternalTaskBulkOperationBuilderImpl} in one transaction.
+ *
+ * An operation which is rejected before its external task is modified is reported as failed.
+ * Any exception raised while an external task is handled fails the whole command.
+ */
+public class HandleExternalTasksCmd implements Command<List<ExternalTaskOperationResult>> {
+
+  protected List<Operation> operations;
+
+  public HandleExternalTasksCmd(List<Operation> operations) {
+    this.operations = operations;
+  }
+
+  @Override
+  public List<ExternalTaskOperationResult> execute(CommandContext commandContext) {
+    List<ExternalTaskOperationResult> results = new ArrayList<>();
+
+    for (Operation operation : operations) {
+      HandleExternalTaskCmd command = operation.getCommand();
+
+      ExternalTaskEntity externalTask;
+      try {
+        externalTask = command.findExternalTask(commandContext);
+      } catch (ProcessEngineException e) {
+        results.add(operation.failed(e));
+        continue;
+      }
+
+      command.handle(externalTask);
+      results.add(operation.successful());
+    }
+
+    return results;
+  }
+
+}
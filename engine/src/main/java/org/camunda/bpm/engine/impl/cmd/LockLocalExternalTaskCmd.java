@@ -0,0 +1,76 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.impl.cmd;
+
+import java.util.Date;
+import java.util.Map;
+
+import org.camunda.bpm.engine.externaltask.LocalExternalTaskHandler;
+import org.camunda.bpm.engine.externaltask.LockedExternalTask;
+import org.camunda.bpm.engine.impl.externaltask.LockedExternalTaskImpl;
+import org.camunda.bpm.engine.impl.interceptor.Command;
+import org.camunda.bpm.engine.impl.interceptor.CommandContext;
+import org.camunda.bpm.engine.impl.persistence.entity.ExternalTaskEntity;
+import org.camunda.bpm.engine.impl.util.ClockUtil;
+
+/**
+ * Locks a single external task by its id for the local external task worker.
+ * Returns <code>null</code> if the task cannot be executed (anymore), e.g. because
+ * it is completed, suspended, has no retries left or is locked by another worker.
+ * The variables are fetched as requested by the handler of the task's topic.
+ */
+public class LockLocalExternalTaskCmd implements Command<LockedExternalTask> {
+
+  protected String externalTaskId;
+  protected String workerId;
+  protected long lockDuration;
+  protected Map<String, LocalExternalTaskHandler> handlers;
+
+  public LockLocalExternalTaskCmd(String externalTaskId, String workerId, long lockDuration,
+                                  Map<String, LocalExternalTaskHandler> handlers) {
+    this.externalTaskId = externalTaskId;
+    this.workerId = workerId;
+    this.lockDuration = lockDuration;
+    this.handlers = handlers;
+  }
+
+  @Override
+  public LockedExternalTask execute(CommandContext commandContext) {
+    ExternalTaskEntity externalTask = commandContext.getExternalTaskManager().findExternalTaskById(externalTaskId);
+
+    if (externalTask == null
+        || !handlers.containsKey(externalTask.getTopicName())
+        || externalTask.isSuspended()
+        || !externalTask.areRetriesLeft()
+        || isLocked(externalTask)
+        || externalTask.getExecution(false) == null) {
+      return null;
+    }
+
+    externalTask.lock(workerId, lockDuration);
+
+    LocalExternalTaskHandler handler = handlers.get(externalTask.getTopicName());
+    return LockedExternalTaskImpl.fromEntity(externalTask, handler.getVariableNames(), false,
+        handler.isDeserializeVariables(), true);
+  }
+
+  protected boolean isLocked(ExternalTaskEntity externalTask) {
+    Date lockExpirationTime = externalTask.getLockExpirationTime();
+    return lockExpirationTime != null && ClockUtil.getCurrentTime().before(lockExpirationTime);
+  }
+
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.impl.cmd;
+
+import org.camunda.bpm.engine.impl.db.DbEntity;
+import org.camunda.bpm.engine.impl.db.entitymanager.OptimisticLockingListener;
+import org.camunda.bpm.engine.impl.db.entitymanager.OptimisticLockingResult;
+import org.camunda.bpm.engine.impl.db.entitymanager.operation.DbOperation;
+import org.camunda.bpm.engine.impl.interceptor.Command;
+import org.camunda.bpm.engine.impl.interceptor.CommandContext;
+import org.camunda.bpm.engine.impl.persistence.entity.PropertyEntity;
+
+/**
+ * Removes the job partition lease of a node which stops acquiring jobs.
+ */
+public class ReleaseJobPartitionLeaseCmd implements Command<Void>, OptimisticLockingListener {
+
+  protected String leaseName;
+
+  public ReleaseJobPartitionLeaseCmd(String leaseName) {
+    this.leaseName = leaseName;
+  }
+
+  @Override
+  public Void execute(CommandContext commandContext) {
+    PropertyEntity lease = commandContext.getPropertyManager().findPropertyById(leaseName);
+    if (lease != null) {
+      commandContext.getDbEntityManager().registerOptimisticLockingListener(this);
+      commandContext.getDbEntityManager().delete(lease);
+    }
+    return null;
+  }
+
+  @Override
+  public Class<? extends DbEntity> getEntityType() {
+    return PropertyEntity.class;
+  }
+
+  @Override
+  public OptimisticLockingResult failedOperation(DbOperation operation) {
+    // the lease has already been removed as expired by another node
+    return OptimisticLockingResult.IGNORE;
+  }
+
+}
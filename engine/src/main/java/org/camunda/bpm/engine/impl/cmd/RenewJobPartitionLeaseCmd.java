@@ -0,0 +1,102 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.impl.cmd;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.camunda.bpm.engine.impl.db.DbEntity;
+import org.camunda.bpm.engine.impl.db.entitymanager.DbEntityManager;
+import org.camunda.bpm.engine.impl.db.entitymanager.OptimisticLockingListener;
+import org.camunda.bpm.engine.impl.db.entitymanager.OptimisticLockingResult;
+import org.camunda.bpm.engine.impl.db.entitymanager.operation.DbOperation;
+import org.camunda.bpm.engine.impl.interceptor.Command;
+import org.camunda.bpm.engine.impl.interceptor.CommandContext;
+import org.camunda.bpm.engine.impl.jobexecutor.JobPartitionLease;
+import org.camunda.bpm.engine.impl.persistence.entity.PropertyEntity;
+import org.camunda.bpm.engine.impl.util.ClockUtil;
+
+/**
+ * Extends the given job partition lease, removes the expired leases of other nodes
+ * and returns the names of all live leases in the order which determines the partitions.
+ */
+public class RenewJobPartitionLeaseCmd implements Command<List<String>>, OptimisticLockingListener {
+
+  protected String leaseName;
+  protected long leaseTime;
+
+  public RenewJobPartitionLeaseCmd(String leaseName, long leaseTime) {
+    this.leaseName = leaseName;
+    this.leaseTime = leaseTime;
+  }
+
+  @Override
+  public List<String> execute(CommandContext commandContext) {
+    DbEntityManager dbEntityManager = commandContext.getDbEntityManager();
+    // another node may remove or renew a lease concurrently
+    dbEntityManager.registerOptimisticLockingListener(this);
+
+    long now = ClockUtil.getCurrentTime().getTime();
+    String expirationTime = String.valueOf(now + leaseTime);
+
+    List<String> liveLeases = new ArrayList<>();
+    List<PropertyEntity> leases = commandContext.getPropertyManager()
+        .findPropertiesByNamePrefix(JobPartitionLease.LEASE_NAME_PREFIX);
+
+    for (PropertyEntity lease : leases) {
+      if (leaseName.equals(lease.getName())) {
+        lease.setValue(expirationTime);
+        liveLeases.add(leaseName);
+      }
+      else if (isExpired(lease, now)) {
+        dbEntityManager.delete(lease);
+      }
+      else {
+        liveLeases.add(lease.getName());
+      }
+    }
+
+    if (!liveLeases.contains(leaseName)) {
+      dbEntityManager.insert(new PropertyEntity(leaseName, expirationTime));
+      liveLeases.add(leaseName);
+    }
+
+    Collections.sort(liveLeases);
+    return liveLeases;
+  }
+
+  protected boolean isExpired(PropertyEntity lease, long now) {
+    try {
+      return Long.parseLong(lease.getValue()) < now;
+    } catch (NumberFormatException e) {
+      return true;
+    }
+  }
+
+  @Override
+  public Class<? extends DbEntity> getEntityType() {
+    return PropertyEntity.class;
+  }
+
+  @Override
+  public OptimisticLockingResult failedOperation(DbOperation operation) {
+    // the lease of this node is inserted again with the next renewal
+    return OptimisticLockingResult.IGNORE;
+  }
+
+}
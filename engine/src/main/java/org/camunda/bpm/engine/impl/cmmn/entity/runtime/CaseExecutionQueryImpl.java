@@ -215,15 +215,20 @@ public class CaseExecutionQueryImpl extends AbstractVariableQueryImpl<CaseExecut
       .findCaseExecutionsByQueryCriteria(this, page);
 
     for (CaseExecution caseExecution : result) {
-      CaseExecutionEntity caseExecutionEntity = (CaseExecutionEntity) caseExecution;
-      // initializes the name, type and description
-      // of the activity on current case execution
-      caseExecutionEntity.getActivity();
+      initializeResult(caseExecution);
     }
 
     return result;
   }
 
+  @Override
+  protected void initializeResult(CaseExecution caseExecution) {
+    CaseExecutionEntity caseExecutionEntity = (CaseExecutionEntity) caseExecution;
+    // initializes the name, type and description
+    // of the activity on current case execution
+    caseExecutionEntity.getActivity();
+  }
+
   // getters /////////////////////////////////////////////
 
   public String getCaseDefinitionId() {
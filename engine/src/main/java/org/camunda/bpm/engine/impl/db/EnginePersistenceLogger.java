@@ -36,6 +36,7 @@ import org.camunda.bpm.engine.impl.db.entitymanager.cache.CachedDbEntity;
 import org.camunda.bpm.engine.impl.db.entitymanager.cache.DbEntityState;
 import org.camunda.bpm.engine.impl.db.entitymanager.operation.DbOperation;
 import org.camunda.bpm.engine.impl.history.HistoryLevel;
+import org.camunda.bpm.engine.impl.history.event.HistoryEvent;
 import org.camunda.bpm.engine.impl.persistence.entity.ExecutionEntity;
 import org.camunda.bpm.engine.impl.persistence.entity.JobEntity;
 import org.camunda.bpm.engine.impl.util.ClassNameUtil;
@@ -807,6 +808,67 @@ public class EnginePersistenceLogger extends ProcessEngineLogger {
     );
   }
 
+  public void secondLevelCacheSnapshotFailed(String key, Exception cause) {
+    logDebug(
+      "111",
+      "Could not create or restore the snapshot of second-level cache entry '{}'. The entry is not cached: {}",
+      key,
+      cause.getMessage());
+  }
+
+  public void asyncHistoryBatchFailed(int batchSize, Exception cause) {
+    logWarn(
+      "112",
+      "Could not write a batch of {} history events. The events are written one by one: {}",
+      batchSize,
+      cause.getMessage());
+  }
+
+  public void asyncHistoryEventDropped(HistoryEvent event, Exception cause) {
+    logError(
+      "113",
+      "Could not write history event '{}'. The event is dropped.",
+      event,
+      cause);
+  }
+
+  public void asyncHistoryEventNotSerializable(HistoryEvent event, Exception cause) {
+    logDebug(
+      "114",
+      "History event '{}' cannot be serialized and is written in the current transaction: {}",
+      event,
+      cause.getMessage());
+  }
+
+  public ProcessEngineException asyncHistoryOutboxEntryException(Exception cause) {
+    return new ProcessEngineException(exceptionMessage(
+      "115",
+      "Could not write the history events of the transaction to the history outbox"), cause);
+  }
+
+  public void asyncHistoryOutboxEntryDropped(String outboxEntryId, Exception cause) {
+    logError(
+      "116",
+      "Could not read the history events of history outbox entry '{}'. The events are dropped.",
+      outboxEntryId,
+      cause);
+  }
+
+  public void asyncHistoryOutboxEntriesRecovered(int count, String owner) {
+    logInfo(
+      "117",
+      "Found {} history outbox entries of '{}' which were not written before the process engine stopped. Writing them now.",
+      count,
+      owner);
+  }
+
+  public ProcessEngineException asyncHistoryOwnOutboxEntriesRecoveryException(String owner) {
+    return new ProcessEngineException(exceptionMessage(
+      "118",
+      "Cannot take over the history outbox entries of '{}'. They belong to the running handler itself.",
+      owner));
+  }
+
   // exception code 110 is already taken. See requiredCamundaAdminOrPermissionException() for details.
 
   public static List<SQLException> findRelatedSqlExceptions(Throwable exception) {
@@ -0,0 +1,103 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.impl.db;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.camunda.bpm.engine.impl.Direction;
+import org.camunda.bpm.engine.impl.QueryOrderingProperty;
+import org.camunda.bpm.engine.impl.db.sql.MybatisJoinHelper;
+
+/**
+ * <p>Selects the results following a given result in the order of a query (keyset
+ * or seek pagination).</p>
+ *
+ * <p>For the orderings <code>c1, ..., cn</code> and the values <code>v1, ..., vn</code> of the
+ * given result, the condition is the disjunction of the seek conditions
+ * <code>c1 = v1 and ... and c(i-1) = v(i-1) and ci &gt; vi</code> (<code>&lt;</code> for descending
+ * orderings). The last ordering must be unique, so that no result is skipped or repeated.</p>
+ */
+public class KeysetCondition implements Serializable {
+
+  private static final long serialVersionUID = 1L;
+
+  protected List<SeekCondition> seekConditions = new ArrayList<>();
+
+  public KeysetCondition(List<QueryOrderingProperty> orderingProperties, List<Object> values) {
+    List<ColumnValue> equalColumns = new ArrayList<>();
+
+    for (int i = 0; i < orderingProperties.size(); i++) {
+      QueryOrderingProperty orderingProperty = orderingProperties.get(i);
+      String column = MybatisJoinHelper.orderBySelection(orderingProperty, i);
+      String operator = Direction.DESCENDING.getName().equals(orderingProperty.getDirection().getName()) ? "<" : ">";
+      Object value = values.get(i);
+
+      seekConditions.add(new SeekCondition(new ArrayList<>(equalColumns), column, operator, value));
+      equalColumns.add(new ColumnValue(column, value));
+    }
+  }
+
+  public List<SeekCondition> getSeekConditions() {
+    return seekConditions;
+  }
+
+  public static class ColumnValue implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    protected String column;
+    protected Object value;
+
+    public ColumnValue(String column, Object value) {
+      this.column = column;
+      this.value = value;
+    }
+
+    public String getColumn() {
+      return column;
+    }
+
+    public Object getValue() {
+      return value;
+    }
+  }
+
+  public static class SeekCondition extends ColumnValue {
+
+    private static final long serialVersionUID = 1L;
+
+    protected List<ColumnValue> equalColumns;
+    protected String operator;
+
+    public SeekCondition(List<ColumnValue> equalColumns, String column, String operator, Object value) {
+      super(column, value);
+      this.equalColumns = equalColumns;
+      this.operator = operator;
+    }
+
+    public List<ColumnValue> getEqualColumns() {
+      return equalColumns;
+    }
+
+    public String getOperator() {
+      return operator;
+    }
+  }
+
+}
@@ -38,6 +38,7 @@ public class ListQueryParameterObject implements Serializable {
   protected int firstResult = 0;
   protected Object parameter;
   protected String databaseType;
+  protected KeysetCondition keyset;
 
   public ListQueryParameterObject() {
   }
@@ -114,4 +115,12 @@ public class ListQueryParameterObject implements Serializable {
   public void setOrderingProperties(List<QueryOrderingProperty> orderingProperties) {
     this.orderingProperties = orderingProperties;
   }
+
+  public KeysetCondition getKeyset() {
+    return keyset;
+  }
+
+  public void setKeyset(KeysetCondition keyset) {
+    this.keyset = keyset;
+  }
 }
@@ -17,6 +17,7 @@
 package org.camunda.bpm.engine.impl.db;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 import org.camunda.bpm.engine.impl.db.entitymanager.operation.DbOperation;
 import org.camunda.bpm.engine.impl.db.entitymanager.operation.DbOperation.State;
@@ -58,6 +59,13 @@ public interface PersistenceSession extends Session {
 
   List<?> selectList(String statement, Object parameter);
 
+  /**
+   * Passes the results of the select statement one by one to the consumer while
+   * they are read from the result set. The results are not collected and no
+   * entity load listeners are notified.
+   */
+  void selectStreaming(String statement, Object parameter, Consumer<Object> consumer);
+
   <T extends DbEntity> T selectById(Class<T> type, String id);
 
   Object selectOne(String statement, Object parameter);
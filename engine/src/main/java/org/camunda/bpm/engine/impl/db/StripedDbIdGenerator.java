@@ -0,0 +1,305 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.impl.db;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.camunda.bpm.engine.impl.cfg.IdGenerator;
+import org.camunda.bpm.engine.impl.cmd.GetNextIdBlockCmd;
+import org.camunda.bpm.engine.impl.interceptor.CommandExecutor;
+
+/**
+ * <p>{@link IdGenerator} that hands out database ids like the {@link DbIdGenerator}
+ * but without a global monitor.</p>
+ *
+ * <p>Ids are taken from a number of independent stripes, each holding its own
+ * {@link IdBlock}. A thread is mapped to a stripe and increments the stripe's
+ * counter with a single atomic operation. Once the remaining ids of a block
+ * reach the prefetch threshold, the next block is fetched in the background
+ * (once per block) so that threads usually do not have to wait for the database
+ * round-trip.</p>
+ *
+ * <p>Ids are unique but, in contrast to the {@link DbIdGenerator}, not handed out
+ * in ascending order across threads.</p>
+ */
+public class StripedDbIdGenerator implements IdGenerator {
+
+  protected int idBlockSize;
+  protected int stripeCount;
+  protected int prefetchThreshold;
+
+  protected CommandExecutor commandExecutor;
+  protected Executor prefetchExecutor = ForkJoinPool.commonPool();
+
+  protected Stripe[] stripes;
+  protected int stripeMask;
+
+  protected LongAdder blockRefills = new LongAdder();
+  protected LongAdder blockWaits = new LongAdder();
+  protected LongAdder blockWaitTimeNanos = new LongAdder();
+
+  public StripedDbIdGenerator() {
+    this(4);
+  }
+
+  public StripedDbIdGenerator(int stripeCount) {
+    setStripeCount(stripeCount);
+  }
+
+  public String getNextId() {
+    Stripe stripe = stripes[(int) Thread.currentThread().getId() & stripeMask];
+
+    while (true) {
+      IdRange range = stripe.current.get();
+      long id = range.next.getAndIncrement();
+
+      if (id <= range.lastId) {
+        if (range.lastId - id <= prefetchThreshold
+            && !range.prefetchRequested.get()
+            && range.prefetchRequested.compareAndSet(false, true)) {
+          prefetch(stripe);
+        }
+        return Long.toString(id);
+      }
+
+      advance(stripe, range);
+    }
+  }
+
+  /**
+   * Replaces the exhausted range of the stripe with the prefetched block,
+   * fetching the block synchronously if no prefetch is in progress.
+   */
+  protected void advance(Stripe stripe, IdRange exhaustedRange) {
+    if (stripe.current.get() != exhaustedRange) {
+      // another thread has already switched to a new block
+      return;
+    }
+
+    CompletableFuture<IdBlock> nextBlock = stripe.nextBlock.get();
+    if (nextBlock == null) {
+      CompletableFuture<IdBlock> fetch = new CompletableFuture<>();
+      if (!stripe.nextBlock.compareAndSet(null, fetch)) {
+        // another thread has started fetching the next block
+        return;
+      }
+
+      // the thread waits for the database round-trip itself
+      long start = System.nanoTime();
+      try {
+        fetchBlock(stripe, fetch);
+      }
+      finally {
+        recordWait(start);
+      }
+      nextBlock = fetch;
+    }
+
+    IdBlock idBlock = awaitBlock(nextBlock);
+    if (stripe.current.compareAndSet(exhaustedRange, new IdRange(idBlock))) {
+      stripe.nextBlock.compareAndSet(nextBlock, null);
+    }
+  }
+
+  protected void prefetch(Stripe stripe) {
+    CompletableFuture<IdBlock> fetch = new CompletableFuture<>();
+    if (stripe.nextBlock.compareAndSet(null, fetch)) {
+      try {
+        prefetchExecutor.execute(() -> fetchBlock(stripe, fetch));
+      }
+      catch (RuntimeException e) {
+        // executor rejected the task; the block is fetched on demand instead
+        stripe.nextBlock.compareAndSet(fetch, null);
+      }
+    }
+  }
+
+  protected void fetchBlock(Stripe stripe, CompletableFuture<IdBlock> fetch) {
+    try {
+      IdBlock idBlock = commandExecutor.execute(new GetNextIdBlockCmd(idBlockSize));
+      blockRefills.increment();
+      fetch.complete(idBlock);
+    }
+    catch (Throwable t) {
+      // allow the next caller to retry
+      stripe.nextBlock.compareAndSet(fetch, null);
+      fetch.completeExceptionally(t);
+    }
+  }
+
+  protected IdBlock awaitBlock(CompletableFuture<IdBlock> nextBlock) {
+    if (nextBlock.isDone()) {
+      return joinBlock(nextBlock);
+    }
+
+    long start = System.nanoTime();
+    try {
+      return joinBlock(nextBlock);
+    }
+    finally {
+      recordWait(start);
+    }
+  }
+
+  protected void recordWait(long start) {
+    blockWaits.increment();
+    blockWaitTimeNanos.add(System.nanoTime() - start);
+  }
+
+  protected IdBlock joinBlock(CompletableFuture<IdBlock> nextBlock) {
+    try {
+      return nextBlock.join();
+    }
+    catch (CompletionException e) {
+      Throwable cause = e.getCause();
+      if (cause instanceof RuntimeException) {
+        throw (RuntimeException) cause;
+      }
+      if (cause instanceof Error) {
+        throw (Error) cause;
+      }
+      throw e;
+    }
+  }
+
+  /**
+   * Reset inner state so that the generator fetches new blocks of IDs from the database
+   * when the next ID generation requests are received.
+   */
+  public void reset() {
+    Stripe[] newStripes = new Stripe[stripeCount];
+    for (int i = 0; i < stripeCount; i++) {
+      newStripes[i] = new Stripe();
+    }
+    stripes = newStripes;
+  }
+
+  // getters / setters ////////////////////////////////////////////////
+
+  public int getIdBlockSize() {
+    return idBlockSize;
+  }
+
+  public void setIdBlockSize(int idBlockSize) {
+    this.idBlockSize = idBlockSize;
+    this.prefetchThreshold = Math.max(1, idBlockSize / 4);
+  }
+
+  public int getStripeCount() {
+    return stripeCount;
+  }
+
+  /**
+   * @param stripeCount the number of independent id blocks; rounded up to the next power of two.
+   */
+  public void setStripeCount(int stripeCount) {
+    int count = Integer.highestOneBit(Math.max(1, stripeCount));
+    if (count < stripeCount) {
+      count <<= 1;
+    }
+    this.stripeCount = count;
+    this.stripeMask = count - 1;
+    reset();
+  }
+
+  public int getPrefetchThreshold() {
+    return prefetchThreshold;
+  }
+
+  /**
+   * @param prefetchThreshold the number of remaining ids in a block at or below which the next
+   * block is fetched in the background. Defaults to a quarter of the block size.
+   */
+  public void setPrefetchThreshold(int prefetchThreshold) {
+    this.prefetchThreshold = prefetchThreshold;
+  }
+
+  public CommandExecutor getCommandExecutor() {
+    return commandExecutor;
+  }
+
+  public void setCommandExecutor(CommandExecutor commandExecutor) {
+    this.commandExecutor = commandExecutor;
+  }
+
+  public Executor getPrefetchExecutor() {
+    return prefetchExecutor;
+  }
+
+  public void setPrefetchExecutor(Executor prefetchExecutor) {
+    this.prefetchExecutor = prefetchExecutor;
+  }
+
+  // statistics ///////////////////////////////////////////////////////
+
+  /**
+   * @return the number of id blocks fetched from the database
+   */
+  public long getBlockRefillCount() {
+    return blockRefills.sum();
+  }
+
+  /**
+   * @return the number of times a thread had to wait for an id block to be fetched,
+   * including the blocks fetched synchronously by the waiting thread
+   */
+  public long getBlockWaitCount() {
+    return blockWaits.sum();
+  }
+
+  /**
+   * @return the accumulated time in milliseconds threads spent waiting for id blocks
+   */
+  public long getBlockWaitTime() {
+    return blockWaitTimeNanos.sum() / 1_000_000;
+  }
+
+  // helper classes ///////////////////////////////////////////////////
+
+  protected static class Stripe {
+
+    // starts out exhausted so that the first access fetches a block
+    protected final AtomicReference<IdRange> current = new AtomicReference<>(new IdRange(0, -1));
+    protected final AtomicReference<CompletableFuture<IdBlock>> nextBlock = new AtomicReference<>();
+
+  }
+
+  protected static class IdRange {
+
+    protected final AtomicLong next;
+    protected final long lastId;
+    protected final AtomicBoolean prefetchRequested = new AtomicBoolean();
+
+    public IdRange(IdBlock idBlock) {
+      this(idBlock.getNextId(), idBlock.getLastId());
+    }
+
+    public IdRange(long nextId, long lastId) {
+      this.next = new AtomicLong(nextId);
+      this.lastId = lastId;
+    }
+
+  }
+
+}
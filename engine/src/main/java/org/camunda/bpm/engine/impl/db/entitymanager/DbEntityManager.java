@@ -31,6 +31,7 @@ import static org.camunda.bpm.engine.impl.db.entitymanager.operation.DbOperation
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.function.Consumer;
 import org.camunda.bpm.engine.OptimisticLockingException;
 import org.camunda.bpm.engine.ProcessEngineException;
 import org.camunda.bpm.engine.impl.DeploymentQueryImpl;
@@ -51,6 +52,7 @@ import org.camunda.bpm.engine.impl.TaskQueryImpl;
 import org.camunda.bpm.engine.impl.UserQueryImpl;
 import org.camunda.bpm.engine.impl.cfg.IdGenerator;
 import org.camunda.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.camunda.bpm.engine.impl.cfg.TransactionState;
 import org.camunda.bpm.engine.impl.cmmn.entity.repository.CaseDefinitionQueryImpl;
 import org.camunda.bpm.engine.impl.context.Context;
 import org.camunda.bpm.engine.impl.db.DbEntity;
@@ -64,6 +66,8 @@ import org.camunda.bpm.engine.impl.db.PersistenceSession;
 import org.camunda.bpm.engine.impl.db.entitymanager.cache.CachedDbEntity;
 import org.camunda.bpm.engine.impl.db.entitymanager.cache.DbEntityCache;
 import org.camunda.bpm.engine.impl.db.entitymanager.cache.DbEntityState;
+import org.camunda.bpm.engine.impl.db.entitymanager.cache.SecondLevelEntityCache;
+import org.camunda.bpm.engine.impl.db.entitymanager.cache.SecondLevelEntityCacheInvalidation;
 import org.camunda.bpm.engine.impl.db.entitymanager.operation.DbBulkOperation;
 import org.camunda.bpm.engine.impl.db.entitymanager.operation.DbEntityOperation;
 import org.camunda.bpm.engine.impl.db.entitymanager.operation.DbOperation;
@@ -72,6 +76,7 @@ import org.camunda.bpm.engine.impl.db.entitymanager.operation.DbOperationManager
 import org.camunda.bpm.engine.impl.db.entitymanager.operation.DbOperationType;
 import org.camunda.bpm.engine.impl.identity.db.DbGroupQueryImpl;
 import org.camunda.bpm.engine.impl.identity.db.DbUserQueryImpl;
+import org.camunda.bpm.engine.impl.interceptor.CommandContext;
 import org.camunda.bpm.engine.impl.interceptor.Session;
 import org.camunda.bpm.engine.impl.jobexecutor.JobExecutorContext;
 import org.camunda.bpm.engine.impl.persistence.entity.ByteArrayEntity;
@@ -97,11 +102,18 @@ public class DbEntityManager implements Session, EntityLoadListener {
 
   protected DbEntityCache dbEntityCache;
 
+  /** engine-wide cache, <code>null</code> if disabled */
+  protected SecondLevelEntityCache secondLevelEntityCache;
+
   protected DbOperationManager dbOperationManager;
 
   protected PersistenceSession persistenceSession;
   protected boolean isIgnoreForeignKeysForNextFlush;
 
+  /** receives the results of the list select with the streaming parameter, <code>null</code> if not streaming */
+  protected Consumer<Object> streamingConsumer;
+  protected Object streamingParameter;
+
   public DbEntityManager(IdGenerator idGenerator, PersistenceSession persistenceSession) {
     this.idGenerator = idGenerator;
     this.persistenceSession = persistenceSession;
@@ -109,6 +121,7 @@ public class DbEntityManager implements Session, EntityLoadListener {
       this.persistenceSession.addEntityLoadListener(this);
     }
     initializeEntityCache();
+    initializeSecondLevelEntityCache();
     initializeOperationManager();
   }
 
@@ -142,6 +155,13 @@ public class DbEntityManager implements Session, EntityLoadListener {
 
   }
 
+  protected void initializeSecondLevelEntityCache() {
+    ProcessEngineConfigurationImpl processEngineConfiguration = Context.getProcessEngineConfiguration();
+    if (processEngineConfiguration != null) {
+      secondLevelEntityCache = processEngineConfiguration.getSecondLevelEntityCache();
+    }
+  }
+
   // selects /////////////////////////////////////////////////
 
   public List selectList(String statement) {
@@ -177,11 +197,94 @@ public class DbEntityManager implements Session, EntityLoadListener {
     if(firstResult == -1 ||  maxResults==-1) {
       return Collections.EMPTY_LIST;
     }
+    if (streamingConsumer != null && parameter == streamingParameter) {
+      selectStreaming(statement, parameter);
+      return new ArrayList();
+    }
+    if (secondLevelEntityCache != null && isUnpagedParameter(parameter)) {
+      Object rawParameter = ((ListQueryParameterObject) parameter).getParameter();
+      Class<? extends DbEntity> cacheableType = secondLevelEntityCache.getCacheableStatementType(statement, rawParameter);
+      if (cacheableType != null) {
+        return selectListThroughSecondLevelCache(cacheableType, statement, parameter, rawParameter);
+      }
+    }
     List loadedObjects = persistenceSession.selectList(statement, parameter);
     return filterLoadedObjects(loadedObjects);
   }
 
+  /**
+   * Runs the given select and passes the results of the list select with the given
+   * parameter one by one to the consumer while they are read from the database. The
+   * streamed entities are not added to the entity cache, so the memory used does not
+   * grow with the number of results. Only the first such select is streamed, the ones
+   * performed by the consumer itself are not.
+   *
+   * @return <code>true</code> if the results were streamed, <code>false</code> if the
+   *   select did not perform a list select with the given parameter
+   */
+  public boolean streamSelect(Object parameter, Consumer<Object> consumer, Runnable select) {
+    streamingParameter = parameter;
+    streamingConsumer = consumer;
+    try {
+      select.run();
+      return streamingConsumer == null;
+    } finally {
+      streamingParameter = null;
+      streamingConsumer = null;
+    }
+  }
+
+  protected void selectStreaming(String statement, Object parameter) {
+    Consumer<Object> consumer = streamingConsumer;
+    streamingParameter = null;
+    streamingConsumer = null;
+
+    persistenceSession.selectStreaming(statement, parameter, loadedObject -> {
+      if (loadedObject instanceof DbEntity) {
+        DbEntity entity = (DbEntity) loadedObject;
+        DbEntity cachedEntity = dbEntityCache.get(entity.getClass(), entity.getId());
+        if (cachedEntity != null) {
+          loadedObject = cachedEntity;
+        } else if (entity instanceof DbEntityLifecycleAware) {
+          ((DbEntityLifecycleAware) entity).postLoad();
+        }
+      }
+      consumer.accept(loadedObject);
+    });
+  }
+
+  protected boolean isUnpagedParameter(Object parameter) {
+    if (!(parameter instanceof ListQueryParameterObject)) {
+      return false;
+    }
+    ListQueryParameterObject listParameter = (ListQueryParameterObject) parameter;
+    return listParameter.getFirstResult() == 0 && listParameter.getMaxResults() == Integer.MAX_VALUE;
+  }
+
+  @SuppressWarnings("unchecked")
+  protected List selectListThroughSecondLevelCache(Class<? extends DbEntity> type, String statement,
+      Object parameter, Object rawParameter) {
+    List<DbEntity> cachedResult = secondLevelEntityCache.getList(type, statement, rawParameter);
+    if (cachedResult != null) {
+      return filterSecondLevelCacheResult(cachedResult);
+    }
+
+    long generation = secondLevelEntityCache.getGeneration(type);
+    List loadedObjects = persistenceSession.selectList(statement, parameter);
+    if (!loadedObjects.isEmpty() && containsOnly(loadedObjects, type)) {
+      secondLevelEntityCache.putList(type, statement, rawParameter, loadedObjects, generation);
+    }
+    return filterLoadedObjects(loadedObjects);
+  }
+
   public Object selectOne(String statement, Object parameter) {
+    if (secondLevelEntityCache != null) {
+      Class<? extends DbEntity> cacheableType = secondLevelEntityCache.getCacheableStatementType(statement, parameter);
+      if (cacheableType != null) {
+        return selectOneThroughSecondLevelCache(cacheableType, statement, parameter);
+      }
+    }
+
     Object result = persistenceSession.selectOne(statement, parameter);
     if (result instanceof DbEntity) {
       DbEntity loadedObject = (DbEntity) result;
@@ -200,12 +303,33 @@ public class DbEntityManager implements Session, EntityLoadListener {
 
   }
 
+  protected Object selectOneThroughSecondLevelCache(Class<? extends DbEntity> type, String statement, Object parameter) {
+    List<DbEntity> cachedResult = secondLevelEntityCache.getList(type, statement, parameter);
+    if (cachedResult != null) {
+      return filterSecondLevelCacheResult(cachedResult).get(0);
+    }
+
+    long generation = secondLevelEntityCache.getGeneration(type);
+    Object result = persistenceSession.selectOne(statement, parameter);
+    if (result != null && result.getClass() == type) {
+      secondLevelEntityCache.putList(type, statement, parameter, Collections.singletonList((DbEntity) result), generation);
+    }
+    if (result instanceof DbEntity) {
+      result = cacheFilter((DbEntity) result);
+    }
+    return result;
+  }
+
   public <T extends DbEntity> T selectById(Class<T> entityClass, String id) {
     T persistentObject = dbEntityCache.get(entityClass, id);
     if (persistentObject!=null) {
       return persistentObject;
     }
 
+    if (secondLevelEntityCache != null && secondLevelEntityCache.isCacheable(entityClass, id)) {
+      return selectByIdThroughSecondLevelCache(entityClass, id);
+    }
+
     persistentObject = persistenceSession.selectById(entityClass, id);
 
     if (persistentObject==null) {
@@ -215,6 +339,48 @@ public class DbEntityManager implements Session, EntityLoadListener {
     return persistentObject;
   }
 
+  protected <T extends DbEntity> T selectByIdThroughSecondLevelCache(Class<T> entityClass, String id) {
+    T cachedObject = secondLevelEntityCache.get(entityClass, id);
+    if (cachedObject != null) {
+      // the copy is managed by this entity manager as if it was loaded from the database
+      onEntityLoaded(cachedObject);
+      return cachedObject;
+    }
+
+    long generation = secondLevelEntityCache.getGeneration(entityClass);
+    T persistentObject = persistenceSession.selectById(entityClass, id);
+    if (persistentObject != null && persistentObject.getClass() == entityClass) {
+      secondLevelEntityCache.put(entityClass, id, persistentObject, generation);
+    }
+    return persistentObject;
+  }
+
+  /**
+   * Registers the copies of a result served by the second-level cache with the entity cache,
+   * preferring entities which were loaded by this entity manager before.
+   */
+  protected List filterSecondLevelCacheResult(List<DbEntity> cachedResult) {
+    List<DbEntity> filteredObjects = new ArrayList<>(cachedResult.size());
+    for (DbEntity cachedObject : cachedResult) {
+      DbEntity persistentObject = dbEntityCache.get(cachedObject.getClass(), cachedObject.getId());
+      if (persistentObject == null) {
+        onEntityLoaded(cachedObject);
+        persistentObject = cachedObject;
+      }
+      filteredObjects.add(persistentObject);
+    }
+    return filteredObjects;
+  }
+
+  protected boolean containsOnly(List<?> objects, Class<?> type) {
+    for (Object object : objects) {
+      if (object == null || object.getClass() != type) {
+        return false;
+      }
+    }
+    return true;
+  }
+
   public <T extends DbEntity> T getCachedEntity(Class<T> type, String id) {
     return dbEntityCache.get(type, id);
   }
@@ -309,6 +475,8 @@ public class DbEntityManager implements Session, EntityLoadListener {
 
     LOG.databaseFlushSummary(operationsToFlush);
 
+    invalidateSecondLevelEntityCache(operationsToFlush);
+
     // If we want to delete all table data as bulk operation, on tables which have self references,
     // We need to turn the foreign key check off on MySQL.
     // On other databases we have to do nothing, the mapped statement will be empty.
@@ -378,6 +546,31 @@ public class DbEntityManager implements Session, EntityLoadListener {
   }
 
 
+  /**
+   * Removes the entities written by the given operations from the second-level cache.
+   * The entities are removed once more after the transaction committed.
+   */
+  protected void invalidateSecondLevelEntityCache(List<DbOperation> operations) {
+    if (secondLevelEntityCache == null) {
+      return;
+    }
+
+    SecondLevelEntityCacheInvalidation invalidation = new SecondLevelEntityCacheInvalidation(secondLevelEntityCache);
+    for (DbOperation operation : operations) {
+      invalidation.addOperation(operation);
+    }
+    if (invalidation.isEmpty()) {
+      return;
+    }
+
+    invalidation.invalidate();
+
+    CommandContext commandContext = Context.getCommandContext();
+    if (commandContext != null) {
+      commandContext.getTransactionContext().addTransactionListener(TransactionState.COMMITTED, invalidation);
+    }
+  }
+
   public void flushEntity(DbEntity entity) {
     CachedDbEntity cachedEntity = dbEntityCache.getCachedEntity(entity);
     if (cachedEntity != null) {
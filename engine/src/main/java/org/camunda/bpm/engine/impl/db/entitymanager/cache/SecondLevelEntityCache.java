@@ -0,0 +1,417 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.impl.db.entitymanager.cache;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.camunda.bpm.engine.impl.ProcessEngineLogger;
+import org.camunda.bpm.engine.impl.db.DbEntity;
+import org.camunda.bpm.engine.impl.db.EnginePersistenceLogger;
+import org.camunda.bpm.engine.impl.persistence.entity.AuthorizationEntity;
+import org.camunda.bpm.engine.impl.persistence.entity.JobDefinitionEntity;
+import org.camunda.bpm.engine.impl.persistence.entity.PropertyEntity;
+import org.camunda.bpm.engine.impl.persistence.entity.ResourceEntity;
+import org.camunda.bpm.engine.impl.persistence.entity.TenantEntity;
+import org.camunda.commons.utils.cache.Cache;
+import org.camunda.commons.utils.cache.SegmentedLruCache;
+
+/**
+ * <p>Engine-wide cache for read-mostly entities which outlives a single command.
+ * In contrast to the {@link DbEntityCache}, which is bound to one command context,
+ * this cache allows later commands to skip the SELECT for entities which have been
+ * loaded before.</p>
+ *
+ * <p>The cache does not share entity instances between commands: it keeps a serialized
+ * snapshot of every entity as it was loaded from the database and hands out a fresh copy
+ * on each hit. Only {@link Serializable} entities of the configured types are cached.</p>
+ *
+ * <p>Entries expire after a time to live, which bounds the staleness caused by writes
+ * of other process engines on the same database. Writes flushed by this process engine
+ * invalidate the affected entries right away. To prevent that a concurrent command puts a
+ * snapshot which was loaded before such a write, every cacheable type keeps a generation
+ * counter that is incremented on each write; snapshots are only accepted if the generation
+ * did not change while they were loaded.</p>
+ */
+public class SecondLevelEntityCache {
+
+  protected static final EnginePersistenceLogger LOG = ProcessEngineLogger.PERSISTENCE_LOGGER;
+
+  /**
+   * The id block property is updated whenever an id block is fetched and
+   * must always be read from the database.
+   */
+  protected static final String ID_BLOCK_PROPERTY_NAME = "next.dbid";
+
+  protected final Set<Class<? extends DbEntity>> cacheableTypes;
+  protected final long timeToLive;
+  protected Map<String, Class<? extends DbEntity>> cacheableStatements = defaultCacheableStatements();
+
+  protected final Cache<String, CachedEntry> entries;
+  protected final ConcurrentMap<Class<?>, AtomicLong> generations = new ConcurrentHashMap<>();
+
+  protected final LongAdder hitCount = new LongAdder();
+  protected final LongAdder missCount = new LongAdder();
+
+  /**
+   * @param cacheableTypes the entity types to cache
+   * @param capacity the maximum number of cached entities and query results
+   * @param timeToLive the time in milliseconds after which an entry expires
+   */
+  public SecondLevelEntityCache(Set<Class<? extends DbEntity>> cacheableTypes, int capacity, long timeToLive) {
+    this.cacheableTypes = Collections.unmodifiableSet(new HashSet<>(cacheableTypes));
+    this.timeToLive = timeToLive;
+    this.entries = new SegmentedLruCache<>(capacity);
+
+    for (Class<? extends DbEntity> cacheableType : this.cacheableTypes) {
+      generations.put(cacheableType, new AtomicLong());
+    }
+  }
+
+  public static Set<Class<? extends DbEntity>> defaultCacheableTypes() {
+    Set<Class<? extends DbEntity>> types = new HashSet<>();
+    types.add(JobDefinitionEntity.class);
+    types.add(PropertyEntity.class);
+    types.add(TenantEntity.class);
+    types.add(AuthorizationEntity.class);
+    types.add(ResourceEntity.class);
+    return types;
+  }
+
+  /**
+   * @return the statements selecting a single entity or a list of entities of a cacheable type
+   * by simple parameters, mapped to the type of the selected entities
+   */
+  public static Map<String, Class<? extends DbEntity>> defaultCacheableStatements() {
+    Map<String, Class<? extends DbEntity>> statements = new HashMap<>();
+    statements.put("selectJobDefinitionsByProcessDefinitionId", JobDefinitionEntity.class);
+    statements.put("selectProperty", PropertyEntity.class);
+    statements.put("selectAuthorizationByParameters", AuthorizationEntity.class);
+    statements.put("selectResourceById", ResourceEntity.class);
+    statements.put("selectResourcesByDeploymentId", ResourceEntity.class);
+    statements.put("selectResourceByDeploymentIdAndResourceName", ResourceEntity.class);
+    statements.put("selectResourceByDeploymentIdAndResourceNames", ResourceEntity.class);
+    statements.put("selectResourceByDeploymentIdAndResourceId", ResourceEntity.class);
+    statements.put("selectResourceByDeploymentIdAndResourceIds", ResourceEntity.class);
+    return statements;
+  }
+
+  /**
+   * @return the type of the entities selected by the statement if the result of the
+   * statement can be cached for the given parameter, <code>null</code> otherwise
+   */
+  public Class<? extends DbEntity> getCacheableStatementType(String statement, Object parameter) {
+    Class<? extends DbEntity> type = cacheableStatements.get(statement);
+    if (type == null || !isCacheable(type) || !isSimpleParameter(parameter)) {
+      return null;
+    }
+    if (parameter instanceof String && !isCacheable(type, (String) parameter)) {
+      return null;
+    }
+    return type;
+  }
+
+  /**
+   * Only parameters with a stable string representation can be part of a cache key.
+   */
+  protected boolean isSimpleParameter(Object parameter) {
+    if (parameter == null || parameter instanceof String || parameter instanceof Number
+        || parameter instanceof Boolean) {
+      return true;
+    }
+    if (parameter instanceof Collection) {
+      for (Object element : (Collection<?>) parameter) {
+        if (!isSimpleParameter(element)) {
+          return false;
+        }
+      }
+      return true;
+    }
+    if (parameter instanceof Map) {
+      for (Map.Entry<?, ?> entry : ((Map<?, ?>) parameter).entrySet()) {
+        if (!isSimpleParameter(entry.getKey()) || !isSimpleParameter(entry.getValue())) {
+          return false;
+        }
+      }
+      return true;
+    }
+    return false;
+  }
+
+  public boolean isCacheable(Class<?> type) {
+    return cacheableTypes.contains(type) && Serializable.class.isAssignableFrom(type);
+  }
+
+  public boolean isCacheable(Class<?> type, String id) {
+    return isCacheable(type)
+        && !(type == PropertyEntity.class && ID_BLOCK_PROPERTY_NAME.equals(id));
+  }
+
+  /**
+   * @return the current generation of the type; must be obtained before the
+   * entities to put into the cache are selected
+   */
+  public long getGeneration(Class<?> type) {
+    AtomicLong generation = generations.get(type);
+    return generation != null ? generation.get() : -1;
+  }
+
+  // entities by id /////////////////////////////////////////////
+
+  /**
+   * @return a copy of the cached entity or <code>null</code> if it is not cached
+   */
+  public <T extends DbEntity> T get(Class<T> type, String id) {
+    Object value = lookup(entityKey(type, id), type, false);
+    return type.cast(value);
+  }
+
+  public void put(Class<?> type, String id, DbEntity entity, long generation) {
+    store(entityKey(type, id), type, entity, generation);
+  }
+
+  // query results //////////////////////////////////////////////
+
+  /**
+   * @return copies of the cached query result or <code>null</code> if it is not cached
+   */
+  @SuppressWarnings("unchecked")
+  public List<DbEntity> getList(Class<?> type, String statement, Object parameter) {
+    return (List<DbEntity>) lookup(listKey(type, statement, parameter), type, true);
+  }
+
+  public void putList(Class<?> type, String statement, Object parameter, List<DbEntity> result, long generation) {
+    store(listKey(type, statement, parameter), type, new ArrayList<>(result), generation);
+  }
+
+  // invalidation ///////////////////////////////////////////////
+
+  /**
+   * Removes the entity and discards all cached query results of its type.
+   */
+  public void invalidate(Class<?> type, String id) {
+    AtomicLong generation = generations.get(type);
+    if (generation != null) {
+      generation.incrementAndGet();
+      if (id != null) {
+        entries.remove(entityKey(type, id));
+      }
+    }
+  }
+
+  /**
+   * Discards all cached query results of the given type and all entities of
+   * the type which were cached before.
+   */
+  public void invalidate(Class<?> type) {
+    AtomicLong generation = generations.get(type);
+    if (generation != null) {
+      generation.incrementAndGet();
+      String prefix = type.getName() + '#';
+      for (String key : entries.keySet()) {
+        if (key.startsWith(prefix)) {
+          entries.remove(key);
+        }
+      }
+    }
+  }
+
+  public void clear() {
+    for (AtomicLong generation : generations.values()) {
+      generation.incrementAndGet();
+    }
+    entries.clear();
+  }
+
+  // statistics /////////////////////////////////////////////////
+
+  public long getHitCount() {
+    return hitCount.sum();
+  }
+
+  public long getMissCount() {
+    return missCount.sum();
+  }
+
+  public int size() {
+    return entries.size();
+  }
+
+  public Set<Class<? extends DbEntity>> getCacheableTypes() {
+    return cacheableTypes;
+  }
+
+  public long getTimeToLive() {
+    return timeToLive;
+  }
+
+  public Map<String, Class<? extends DbEntity>> getCacheableStatements() {
+    return cacheableStatements;
+  }
+
+  public void setCacheableStatements(Map<String, Class<? extends DbEntity>> cacheableStatements) {
+    this.cacheableStatements = cacheableStatements;
+  }
+
+  // helpers ////////////////////////////////////////////////////
+
+  /**
+   * @param checkGeneration whether the entry is discarded if its type was written to after
+   * the entry was cached. Query results are affected by any write to their type while
+   * entities are removed individually.
+   */
+  protected Object lookup(String key, Class<?> type, boolean checkGeneration) {
+    CachedEntry entry = entries.get(key);
+    if (entry == null) {
+      missCount.increment();
+      return null;
+    }
+
+    if ((checkGeneration && entry.generation != getGeneration(type)) || entry.expiresAt < System.currentTimeMillis()) {
+      entries.remove(key);
+      missCount.increment();
+      return null;
+    }
+
+    try {
+      Object value = deserialize(entry.snapshot);
+      hitCount.increment();
+      return value;
+
+    } catch (IOException | ClassNotFoundException e) {
+      LOG.secondLevelCacheSnapshotFailed(key, e);
+      entries.remove(key);
+      missCount.increment();
+      return null;
+    }
+  }
+
+  protected void store(String key, Class<?> type, Object value, long generation) {
+    if (generation != getGeneration(type)) {
+      // the type was written to while the value was loaded
+      return;
+    }
+
+    try {
+      long expiresAt = System.currentTimeMillis() + timeToLive;
+      entries.put(key, new CachedEntry(serialize(value), generation, expiresAt));
+
+    } catch (IOException e) {
+      LOG.secondLevelCacheSnapshotFailed(key, e);
+    }
+  }
+
+  protected String entityKey(Class<?> type, String id) {
+    return type.getName() + '#' + id;
+  }
+
+  protected String listKey(Class<?> type, String statement, Object parameter) {
+    StringBuilder key = new StringBuilder(type.getName()).append('[').append(statement).append(']');
+    appendParameterKey(key, parameter);
+    return key.toString();
+  }
+
+  /**
+   * Appends an unambiguous representation of a {@link #isSimpleParameter(Object) simple parameter}:
+   * strings are prefixed with their length, so that their content cannot be mistaken for
+   * delimiters, and the elements of sets and the entries of maps are sorted, so that the key
+   * does not depend on their iteration order.
+   */
+  protected void appendParameterKey(StringBuilder key, Object parameter) {
+    if (parameter == null) {
+      key.append('n');
+
+    } else if (parameter instanceof String) {
+      String value = (String) parameter;
+      key.append('s').append(value.length()).append(':').append(value);
+
+    } else if (parameter instanceof Number || parameter instanceof Boolean) {
+      key.append(parameter.getClass().getSimpleName()).append(':').append(parameter);
+
+    } else if (parameter instanceof Collection) {
+      List<String> elementKeys = new ArrayList<>();
+      for (Object element : (Collection<?>) parameter) {
+        elementKeys.add(parameterKey(element));
+      }
+      if (!(parameter instanceof List)) {
+        Collections.sort(elementKeys);
+      }
+      key.append('[').append(String.join(",", elementKeys)).append(']');
+
+    } else if (parameter instanceof Map) {
+      List<String> entryKeys = new ArrayList<>();
+      for (Map.Entry<?, ?> entry : ((Map<?, ?>) parameter).entrySet()) {
+        entryKeys.add(parameterKey(entry.getKey()) + '=' + parameterKey(entry.getValue()));
+      }
+      Collections.sort(entryKeys);
+      key.append('{').append(String.join(",", entryKeys)).append('}');
+
+    } else {
+      throw new IllegalArgumentException("Parameter of type " + parameter.getClass().getName() + " is not simple");
+    }
+  }
+
+  protected String parameterKey(Object parameter) {
+    StringBuilder key = new StringBuilder();
+    appendParameterKey(key, parameter);
+    return key.toString();
+  }
+
+  protected byte[] serialize(Object value) throws IOException {
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    try (ObjectOutputStream objectOutputStream = new ObjectOutputStream(outputStream)) {
+      objectOutputStream.writeObject(value);
+    }
+    return outputStream.toByteArray();
+  }
+
+  protected Object deserialize(byte[] snapshot) throws IOException, ClassNotFoundException {
+    try (ObjectInputStream objectInputStream = new ObjectInputStream(new ByteArrayInputStream(snapshot))) {
+      return objectInputStream.readObject();
+    }
+  }
+
+  protected static class CachedEntry {
+
+    protected final byte[] snapshot;
+    protected final long generation;
+    protected final long expiresAt;
+
+    public CachedEntry(byte[] snapshot, long generation, long expiresAt) {
+      this.snapshot = snapshot;
+      this.generation = generation;
+      this.expiresAt = expiresAt;
+    }
+  }
+
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.impl.db.entitymanager.cache;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.camunda.bpm.engine.impl.cfg.TransactionListener;
+import org.camunda.bpm.engine.impl.db.entitymanager.operation.DbBulkOperation;
+import org.camunda.bpm.engine.impl.db.entitymanager.operation.DbEntityOperation;
+import org.camunda.bpm.engine.impl.db.entitymanager.operation.DbOperation;
+import org.camunda.bpm.engine.impl.interceptor.CommandContext;
+
+/**
+ * Collects the entities and types written by a flush which must be removed from the
+ * {@link SecondLevelEntityCache}. The invalidation is performed once when the operations
+ * are flushed and once more after the transaction committed, so that commands which
+ * load the old state in between cannot leave it in the cache.
+ */
+public class SecondLevelEntityCacheInvalidation implements TransactionListener {
+
+  protected final SecondLevelEntityCache cache;
+
+  protected final List<Class<?>> entityTypes = new ArrayList<>();
+  protected final List<String> entityIds = new ArrayList<>();
+  protected final Set<Class<?>> bulkTypes = new HashSet<>();
+
+  public SecondLevelEntityCacheInvalidation(SecondLevelEntityCache cache) {
+    this.cache = cache;
+  }
+
+  public void addOperation(DbOperation operation) {
+    Class<?> entityType = operation.getEntityType();
+    if (operation instanceof DbEntityOperation) {
+      String id = ((DbEntityOperation) operation).getEntity().getId();
+      if (cache.isCacheable(entityType, id)) {
+        entityTypes.add(entityType);
+        entityIds.add(id);
+      }
+    } else if (operation instanceof DbBulkOperation && cache.isCacheable(entityType)) {
+      bulkTypes.add(entityType);
+    }
+  }
+
+  public boolean isEmpty() {
+    return entityTypes.isEmpty() && bulkTypes.isEmpty();
+  }
+
+  public void invalidate() {
+    for (int i = 0; i < entityTypes.size(); i++) {
+      cache.invalidate(entityTypes.get(i), entityIds.get(i));
+    }
+    for (Class<?> bulkType : bulkTypes) {
+      cache.invalidate(bulkType);
+    }
+  }
+
+  @Override
+  public void execute(CommandContext commandContext) {
+    invalidate();
+  }
+
+}
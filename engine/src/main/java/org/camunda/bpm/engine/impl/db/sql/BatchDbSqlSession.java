@@ -22,6 +22,7 @@ import java.sql.BatchUpdateException;
 import java.sql.Connection;
 import java.sql.Statement;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 
@@ -35,7 +36,6 @@ import org.camunda.bpm.engine.impl.db.entitymanager.operation.DbBulkOperation;
 import org.camunda.bpm.engine.impl.db.entitymanager.operation.DbEntityOperation;
 import org.camunda.bpm.engine.impl.db.entitymanager.operation.DbOperation;
 import org.camunda.bpm.engine.impl.db.entitymanager.operation.DbOperationType;
-import org.camunda.bpm.engine.impl.util.CollectionUtil;
 import org.camunda.bpm.engine.impl.util.EnsureUtil;
 import org.camunda.bpm.engine.impl.util.ExceptionUtil;
 
@@ -54,16 +54,25 @@ public class BatchDbSqlSession extends DbSqlSession {
 
   @Override
   public FlushResult executeDbOperations(List<DbOperation> operations) {
-    for (DbOperation operation : operations) {
+    // the operations of each staged statement, in the order of the batch results
+    List<List<DbOperation>> statements = new ArrayList<>();
 
-      try {
-        // stage operation
-        executeDbOperation(operation);
+    int index = 0;
+    while (index < operations.size()) {
+      List<DbOperation> multiRowInsert = collectMultiRowInsert(operations, index);
 
-      } catch (Exception ex) {
-        // exception is wrapped later
-        throw ex;
+      if (multiRowInsert.size() > 1) {
+        // stage one statement for all inserts
+        insertEntities(multiRowInsert);
+        statements.add(multiRowInsert);
+        index += multiRowInsert.size();
 
+      } else {
+        // stage operation
+        DbOperation operation = operations.get(index);
+        executeDbOperation(operation);
+        statements.add(Collections.singletonList(operation));
+        index++;
       }
     }
 
@@ -72,30 +81,82 @@ public class BatchDbSqlSession extends DbSqlSession {
       // applies all operations
       batchResults = flushBatchOperations();
     } catch (PersistenceException e) {
-      return postProcessBatchFailure(operations, e);
+      return postProcessBatchFailure(statements, e);
+    }
+
+    return postProcessBatchSuccess(operations, statements, batchResults);
+  }
+
+  /**
+   * Collects the insert operations starting at the given index which can be
+   * executed with a single multi-row insert statement, i.e. consecutive inserts
+   * of the same entity type, up to the row limit of the database.
+   *
+   * @return the operations to insert at once or an empty list if the operation at
+   * the given index cannot be part of a multi-row insert
+   */
+  protected List<DbOperation> collectMultiRowInsert(List<DbOperation> operations, int fromIndex) {
+    DbOperation firstOperation = operations.get(fromIndex);
+    if (firstOperation.getOperationType() != DbOperationType.INSERT) {
+      return Collections.emptyList();
+    }
+
+    String insertStatement = dbSqlSessionFactory.getInsertStatement(((DbEntityOperation) firstOperation).getEntity());
+    if (dbSqlSessionFactory.getMultiRowInsertStatement(insertStatement) == null) {
+      return Collections.emptyList();
+    }
+
+    int maxRows = dbSqlSessionFactory.getMultiRowInsertLimit();
+    int toIndex = fromIndex + 1;
+    while (toIndex < operations.size() && toIndex - fromIndex < maxRows) {
+      DbOperation operation = operations.get(toIndex);
+      if (operation.getOperationType() != DbOperationType.INSERT
+          || !insertStatement.equals(dbSqlSessionFactory.getInsertStatement(((DbEntityOperation) operation).getEntity()))) {
+        break;
+      }
+      toIndex++;
     }
 
-    return postProcessBatchSuccess(operations, batchResults);
+    return operations.subList(fromIndex, toIndex);
   }
 
-  protected FlushResult postProcessBatchSuccess(List<DbOperation> operations, List<BatchResult> batchResults) {
-    Iterator<DbOperation> operationsIt = operations.iterator();
+  protected void insertEntities(List<DbOperation> operations) {
+    List<DbEntity> entities = new ArrayList<>();
+    for (DbOperation operation : operations) {
+      DbEntity dbEntity = ((DbEntityOperation) operation).getEntity();
+      LOG.executeDatabaseOperation("INSERT", dbEntity);
+      entities.add(dbEntity);
+    }
+
+    // get statement
+    String insertStatement = dbSqlSessionFactory.getInsertStatement(entities.get(0));
+    insertStatement = dbSqlSessionFactory.getMultiRowInsertStatement(insertStatement);
+    insertStatement = dbSqlSessionFactory.mapStatement(insertStatement);
+
+    // execute the insert
+    sqlSession.insert(insertStatement, entities);
+  }
+
+  protected FlushResult postProcessBatchSuccess(List<DbOperation> operations,
+                                                List<List<DbOperation>> statements,
+                                                List<BatchResult> batchResults) {
+    Iterator<List<DbOperation>> statementsIt = statements.iterator();
     List<DbOperation> failedOperations = new ArrayList<>();
     for (BatchResult successfulBatch : batchResults) {
       // even if all batches are successful, there can be concurrent modification failures
       // (e.g. 0 rows updated)
-      postProcessJdbcBatchResult(operationsIt, successfulBatch.getUpdateCounts(), null, failedOperations);
+      postProcessJdbcBatchResult(statementsIt, successfulBatch.getUpdateCounts(), null, failedOperations);
     }
 
     // there should be no more operations remaining
-    if (operationsIt.hasNext()) {
+    if (statementsIt.hasNext()) {
       throw LOG.wrongBatchResultsSizeException(operations);
     }
 
     return FlushResult.withFailures(failedOperations);
   }
 
-  protected FlushResult postProcessBatchFailure(List<DbOperation> operations, PersistenceException exception) {
+  protected FlushResult postProcessBatchFailure(List<List<DbOperation>> statements, PersistenceException exception) {
     BatchExecutorException batchExecutorException =
         ExceptionUtil.findBatchExecutorException(exception);
 
@@ -107,17 +168,20 @@ public class BatchDbSqlSession extends DbSqlSession {
     List<BatchResult> successfulBatches = batchExecutorException.getSuccessfulBatchResults();
     BatchUpdateException cause = batchExecutorException.getBatchUpdateException();
 
-    Iterator<DbOperation> operationsIt = operations.iterator();
+    Iterator<List<DbOperation>> statementsIt = statements.iterator();
     List<DbOperation> failedOperations = new ArrayList<>();
 
     for (BatchResult successfulBatch : successfulBatches) {
-      postProcessJdbcBatchResult(operationsIt, successfulBatch.getUpdateCounts(), null, failedOperations);
+      postProcessJdbcBatchResult(statementsIt, successfulBatch.getUpdateCounts(), null, failedOperations);
     }
 
     int[] failedBatchUpdateCounts = cause.getUpdateCounts();
-    postProcessJdbcBatchResult(operationsIt, failedBatchUpdateCounts, exception, failedOperations);
+    postProcessJdbcBatchResult(statementsIt, failedBatchUpdateCounts, exception, failedOperations);
 
-    List<DbOperation> remainingOperations = CollectionUtil.collectInList(operationsIt);
+    List<DbOperation> remainingOperations = new ArrayList<>();
+    while (statementsIt.hasNext()) {
+      remainingOperations.addAll(statementsIt.next());
+    }
     return FlushResult.withFailuresAndRemaining(failedOperations, remainingOperations);
   }
 
@@ -138,10 +202,13 @@ public class BatchDbSqlSession extends DbSqlSession {
    * <p>See {@link BatchUpdateException#getUpdateCounts()} for the specification
    * of cases 2 and 3.
    *
+   * <p>Each statement result belongs to all operations of a staged statement.
+   * A multi-row insert statement succeeds or fails as a whole.
+   *
    * @return all failed operations
    */
   protected void postProcessJdbcBatchResult(
-      Iterator<DbOperation> operationsIt,
+      Iterator<List<DbOperation>> statementsIt,
       int[] statementResults,
       PersistenceException failure,
       List<DbOperation> failedOperations) {
@@ -149,54 +216,61 @@ public class BatchDbSqlSession extends DbSqlSession {
 
     for (int statementResult : statementResults) {
       EnsureUtil.ensureTrue("More batch results than scheduled operations detected. This indicates a bug",
-          operationsIt.hasNext());
-
-      DbOperation operation = operationsIt.next();
-
-      if (statementResult == Statement.SUCCESS_NO_INFO) {
-
-        if (requiresAffectedRows(operation.getOperationType())) {
-          throw LOG.batchingNotSupported(operation);
-        } else {
+          statementsIt.hasNext());
+
+      List<DbOperation> statementOperations = statementsIt.next();
+
+      for (DbOperation operation : statementOperations) {
+
+        if (statementResult == Statement.SUCCESS_NO_INFO) {
+
+          if (requiresAffectedRows(operation.getOperationType())) {
+            throw LOG.batchingNotSupported(operation);
+          } else {
+            postProcessOperationPerformed(operation, 1, null);
+          }
+
+        } else if (statementResult == Statement.EXECUTE_FAILED) {
+
+          /*
+           * All operations are marked with the root failure exception; this is not quite
+           * correct and leads to the situation that we treat all failed operations in the
+           * same way, whereas they might fail for different reasons.
+           *
+           * More precise would be to use BatchUpdateException#getNextException.
+           * E.g. if we have three failed statements in a batch, #getNextException can be used to
+           * access each operation's individual failure. However, this behavior is not
+           * guaranteed by the java.sql javadocs (it doesn't specify that the number
+           * and order of next exceptions matches the number of failures, unlike for row counts),
+           * so we decided to not rely on it.
+           */
+          postProcessOperationPerformed(operation, 0, failure);
+          failureHandled = true;
+        } else if (statementOperations.size() > 1) {
+          // the rows affected by a multi-row insert are not attributable to single operations
           postProcessOperationPerformed(operation, 1, null);
+        } else { // it is the number of affected rows
+          postProcessOperationPerformed(operation, statementResult, null);
         }
 
-      } else if (statementResult == Statement.EXECUTE_FAILED) {
-
-        /*
-         * All operations are marked with the root failure exception; this is not quite
-         * correct and leads to the situation that we treat all failed operations in the
-         * same way, whereas they might fail for different reasons.
-         *
-         * More precise would be to use BatchUpdateException#getNextException.
-         * E.g. if we have three failed statements in a batch, #getNextException can be used to
-         * access each operation's individual failure. However, this behavior is not
-         * guaranteed by the java.sql javadocs (it doesn't specify that the number
-         * and order of next exceptions matches the number of failures, unlike for row counts),
-         * so we decided to not rely on it.
-         */
-        postProcessOperationPerformed(operation, 0, failure);
-        failureHandled = true;
-      } else { // it is the number of affected rows
-        postProcessOperationPerformed(operation, statementResult, null);
-      }
-
-      if (operation.isFailed()) {
-        failedOperations.add(operation); // the operation is added to the list only if it's marked as failed
+        if (operation.isFailed()) {
+          failedOperations.add(operation); // the operation is added to the list only if it's marked as failed
+        }
       }
     }
 
     /*
-     * case 2: The next operation is the one that failed
+     * case 2: The next statement is the one that failed
      */
     if (failure != null && !failureHandled) {
       EnsureUtil.ensureTrue("More batch results than scheduled operations detected. This indicates a bug",
-          operationsIt.hasNext());
+          statementsIt.hasNext());
 
-      DbOperation failedOperation = operationsIt.next();
-      postProcessOperationPerformed(failedOperation, 0, failure);
-      if (failedOperation.isFailed()) {
-        failedOperations.add(failedOperation); // the operation is added to the list only if it's marked as failed
+      for (DbOperation failedOperation : statementsIt.next()) {
+        postProcessOperationPerformed(failedOperation, 0, failure);
+        if (failedOperation.isFailed()) {
+          failedOperations.add(failedOperation); // the operation is added to the list only if it's marked as failed
+        }
       }
     }
   }
@@ -34,6 +34,8 @@ import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
 import org.apache.ibatis.exceptions.PersistenceException;
 import org.apache.ibatis.executor.BatchResult;
 import org.apache.ibatis.mapping.BoundSql;
@@ -110,6 +112,27 @@ public abstract class DbSqlSession extends AbstractPersistenceSession {
     return ExceptionUtil.doWithExceptionWrapper(() -> sqlSession.selectList(statement, parameter));
   }
 
+  @Override
+  public void selectStreaming(String statement, Object parameter, Consumer<Object> consumer) {
+    String mappedStatement = dbSqlSessionFactory.mapStatement(statement);
+    AtomicReference<RuntimeException> consumerException = new AtomicReference<>();
+    ExceptionUtil.doWithExceptionWrapper(() -> {
+      sqlSession.select(mappedStatement, parameter, resultContext -> {
+        try {
+          consumer.accept(resultContext.getResultObject());
+        } catch (RuntimeException e) {
+          // stop reading and rethrow the exception of the consumer unwrapped
+          consumerException.set(e);
+          resultContext.stop();
+        }
+      });
+      return null;
+    });
+    if (consumerException.get() != null) {
+      throw consumerException.get();
+    }
+  }
+
   @Override
   @SuppressWarnings("unchecked")
   public <T extends DbEntity> T selectById(Class<T> type, String id) {
@@ -18,7 +18,9 @@ package org.camunda.bpm.engine.impl.db.sql;
 
 import java.sql.Connection;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import org.apache.ibatis.session.SqlSessionFactory;
 import org.camunda.bpm.engine.impl.cfg.IdGenerator;
@@ -73,6 +75,10 @@ public class DbSqlSessionFactory implements SessionFactory {
   public static final Map<String, String> databaseSpecificBitAnd2 = new HashMap<>();
   public static final Map<String, String> databaseSpecificBitAnd3 = new HashMap<>();
 
+  public static final Map<String, String> databaseSpecificJobPartitionHash1 = new HashMap<>();
+  public static final Map<String, String> databaseSpecificJobPartitionHash2 = new HashMap<>();
+  public static final Map<String, String> databaseSpecificJobPartitionHash3 = new HashMap<>();
+
   public static final Map<String, String> databaseSpecificDatepart1 = new HashMap<>();
   public static final Map<String, String> databaseSpecificDatepart2 = new HashMap<>();
   public static final Map<String, String> databaseSpecificDatepart3 = new HashMap<>();
@@ -112,8 +118,45 @@ public class DbSqlSessionFactory implements SessionFactory {
    */
   public static final int MAXIMUM_NUMBER_PARAMS = 2000;
 
+  /*
+   * The maximum number of rows which are inserted with a single multi-row insert
+   * statement. Databases without an entry (i.e. Oracle) do not support multiple rows
+   * in the values clause. On SQL server, the limit keeps the statements below the
+   * maximum number of parameters, as each row binds less than 30 parameters.
+   */
+  public static final Map<String, Integer> databaseSpecificMultiRowInsertLimit = new HashMap<>();
+
+  /*
+   * Maps the insert statements of entities which can be inserted with multi-row
+   * insert statements to the corresponding multi-row statement.
+   */
+  protected static final Map<String, String> multiRowInsertStatements = new HashMap<>();
+
+  /*
+   * Databases which can lock rows while skipping the rows locked by concurrent
+   * transactions, i.e. support "for update skip locked" or an equivalent table hint.
+   * On MySQL, this requires MySQL 8 or MariaDB 10.6.
+   */
+  protected static final Set<String> skipLockedDatabases = new HashSet<>();
+
   static {
 
+    multiRowInsertStatements.put("insertHistoricActivityInstanceEvent", "insertHistoricActivityInstanceEvents");
+    multiRowInsertStatements.put("insertHistoricVariableUpdateEvent", "insertHistoricVariableUpdateEvents");
+    multiRowInsertStatements.put("insertHistoricVariableInstance", "insertHistoricVariableInstances");
+
+    databaseSpecificMultiRowInsertLimit.put(H2, 100);
+    databaseSpecificMultiRowInsertLimit.put(MYSQL, 100);
+    databaseSpecificMultiRowInsertLimit.put(POSTGRES, 100);
+    databaseSpecificMultiRowInsertLimit.put(DB2, 100);
+    databaseSpecificMultiRowInsertLimit.put(MSSQL, MAXIMUM_NUMBER_PARAMS / 30);
+
+    skipLockedDatabases.add(H2);
+    skipLockedDatabases.add(MYSQL);
+    skipLockedDatabases.add(POSTGRES);
+    skipLockedDatabases.add(ORACLE);
+    skipLockedDatabases.add(MSSQL);
+
     String defaultOrderBy = "order by ${internalOrderBy}";
 
     String defaultEscapeChar = "'\\'";
@@ -155,6 +198,9 @@ public class DbSqlSessionFactory implements SessionFactory {
     databaseSpecificBitAnd1.put(H2, "BITAND(");
     databaseSpecificBitAnd2.put(H2, ",CAST(");
     databaseSpecificBitAnd3.put(H2, " AS BIGINT))");
+    databaseSpecificJobPartitionHash1.put(H2, "mod(ORA_HASH(");
+    databaseSpecificJobPartitionHash2.put(H2, "), CAST(");
+    databaseSpecificJobPartitionHash3.put(H2, " AS BIGINT))");
     databaseSpecificDatepart1.put(H2, "");
     databaseSpecificDatepart2.put(H2, "(");
     databaseSpecificDatepart3.put(H2, ")");
@@ -182,6 +228,7 @@ public class DbSqlSessionFactory implements SessionFactory {
     constants.put("constant.event", "'event'");
     constants.put("constant.op_message", "NEW_VALUE_ || '_|_' || PROPERTY_");
     constants.put("constant_for_update", "for update");
+    constants.put("constant_for_update_skip_locked", "for update skip locked");
     constants.put("constant.datepart.quarter", "QUARTER");
     constants.put("constant.datepart.month", "MONTH");
     constants.put("constant.datepart.minute", "MINUTE");
@@ -219,6 +266,9 @@ public class DbSqlSessionFactory implements SessionFactory {
     databaseSpecificBitAnd1.put(MYSQL, "");
     databaseSpecificBitAnd2.put(MYSQL, " & ");
     databaseSpecificBitAnd3.put(MYSQL, "");
+    databaseSpecificJobPartitionHash1.put(MYSQL, "mod(crc32(");
+    databaseSpecificJobPartitionHash2.put(MYSQL, "), ");
+    databaseSpecificJobPartitionHash3.put(MYSQL, ")");
     databaseSpecificDatepart1.put(MYSQL, "");
     databaseSpecificDatepart2.put(MYSQL, "(");
     databaseSpecificDatepart3.put(MYSQL, ")");
@@ -328,6 +378,7 @@ public class DbSqlSessionFactory implements SessionFactory {
     constants.put("constant.event", "'event'");
     constants.put("constant.op_message", "CONCAT(NEW_VALUE_, '_|_', PROPERTY_)");
     constants.put("constant_for_update", "for update");
+    constants.put("constant_for_update_skip_locked", "for update skip locked");
     constants.put("constant.datepart.quarter", "QUARTER");
     constants.put("constant.datepart.month", "MONTH");
     constants.put("constant.datepart.minute", "MINUTE");
@@ -364,6 +415,9 @@ public class DbSqlSessionFactory implements SessionFactory {
     databaseSpecificBitAnd1.put(POSTGRES, "");
     databaseSpecificBitAnd2.put(POSTGRES, " & ");
     databaseSpecificBitAnd3.put(POSTGRES, "");
+    databaseSpecificJobPartitionHash1.put(POSTGRES, "mod(abs(hashtext(");
+    databaseSpecificJobPartitionHash2.put(POSTGRES, ")::bigint), ");
+    databaseSpecificJobPartitionHash3.put(POSTGRES, ")");
     databaseSpecificDatepart1.put(POSTGRES, "extract(");
     databaseSpecificDatepart2.put(POSTGRES, " from ");
     databaseSpecificDatepart3.put(POSTGRES, ")");
@@ -477,6 +531,7 @@ public class DbSqlSessionFactory implements SessionFactory {
     constants.put("constant.event", "'event'");
     constants.put("constant.op_message", "NEW_VALUE_ || '_|_' || PROPERTY_");
     constants.put("constant_for_update", "for update");
+    constants.put("constant_for_update_skip_locked", "for update skip locked");
     constants.put("constant.datepart.quarter", "QUARTER");
     constants.put("constant.datepart.month", "MONTH");
     constants.put("constant.datepart.minute", "MINUTE");
@@ -516,6 +571,9 @@ public class DbSqlSessionFactory implements SessionFactory {
     databaseSpecificBitAnd1.put(ORACLE, "BITAND(");
     databaseSpecificBitAnd2.put(ORACLE, ",");
     databaseSpecificBitAnd3.put(ORACLE, ")");
+    databaseSpecificJobPartitionHash1.put(ORACLE, "mod(ORA_HASH(");
+    databaseSpecificJobPartitionHash2.put(ORACLE, "), ");
+    databaseSpecificJobPartitionHash3.put(ORACLE, ")");
     databaseSpecificDatepart1.put(ORACLE, "to_number(to_char(");
     databaseSpecificDatepart2.put(ORACLE, ",");
     databaseSpecificDatepart3.put(ORACLE, "))");
@@ -572,6 +630,7 @@ public class DbSqlSessionFactory implements SessionFactory {
     constants.put("constant.event", "cast('event' as nvarchar2(255))");
     constants.put("constant.op_message", "NEW_VALUE_ || '_|_' || PROPERTY_");
     constants.put("constant_for_update", "for update");
+    constants.put("constant_for_update_skip_locked", "for update skip locked");
     constants.put("constant.datepart.quarter", "'Q'");
     constants.put("constant.datepart.month", "'MM'");
     constants.put("constant.datepart.minute", "'MI'");
@@ -608,6 +667,9 @@ public class DbSqlSessionFactory implements SessionFactory {
     databaseSpecificBitAnd1.put(DB2, "BITAND(");
     databaseSpecificBitAnd2.put(DB2, ", CAST(");
     databaseSpecificBitAnd3.put(DB2, " AS Integer))");
+    databaseSpecificJobPartitionHash1.put(DB2, "mod(abs(bigint(hash4(");
+    databaseSpecificJobPartitionHash2.put(DB2, "))), CAST(");
+    databaseSpecificJobPartitionHash3.put(DB2, " AS Integer))");
     databaseSpecificDatepart1.put(DB2, "");
     databaseSpecificDatepart2.put(DB2, "(");
     databaseSpecificDatepart3.put(DB2, ")");
@@ -707,6 +769,9 @@ public class DbSqlSessionFactory implements SessionFactory {
     databaseSpecificBitAnd1.put(MSSQL, "");
     databaseSpecificBitAnd2.put(MSSQL, " &");
     databaseSpecificBitAnd3.put(MSSQL, "");
+    databaseSpecificJobPartitionHash1.put(MSSQL, "abs(checksum(");
+    databaseSpecificJobPartitionHash2.put(MSSQL, ") % ");
+    databaseSpecificJobPartitionHash3.put(MSSQL, ")");
     databaseSpecificDatepart1.put(MSSQL, "datepart(");
     databaseSpecificDatepart2.put(MSSQL, ",");
     databaseSpecificDatepart3.put(MSSQL, ")");
@@ -747,6 +812,7 @@ public class DbSqlSessionFactory implements SessionFactory {
     addDatabaseSpecificStatement(MSSQL, "lockInstallationIdLockProperty", "lockInstallationIdLockProperty_mssql");
     addDatabaseSpecificStatement(MSSQL, "selectEventSubscriptionsByNameAndExecution", "selectEventSubscriptionsByNameAndExecution_mssql");
     addDatabaseSpecificStatement(MSSQL, "selectEventSubscriptionsByExecutionAndType", "selectEventSubscriptionsByExecutionAndType_mssql");
+    addDatabaseSpecificStatement(MSSQL, "selectExternalTaskIdsForUpdateSkipLocked", "selectExternalTaskIdsForUpdateSkipLocked_mssql");
     addDatabaseSpecificStatement(MSSQL, "selectHistoricDecisionInstancesByNativeQuery", "selectHistoricDecisionInstancesByNativeQuery_mssql_or_db2");
     addDatabaseSpecificStatement(MSSQL, "deleteByteArraysByRemovalTime", "deleteByteArraysByRemovalTime_mssql");
 
@@ -841,6 +907,9 @@ public class DbSqlSessionFactory implements SessionFactory {
   protected boolean dmnEnabled = true;
 
   protected boolean jdbcBatchProcessing;
+  protected boolean jdbcBatchMultiRowInserts;
+  protected int jdbcBatchMultiRowInsertMaxRows = 100;
+  protected boolean externalTaskFetchSkipLocked;
 
   public DbSqlSessionFactory(boolean jdbcBatchProcessing) {
     this.jdbcBatchProcessing = jdbcBatchProcessing;
@@ -891,6 +960,37 @@ public class DbSqlSessionFactory implements SessionFactory {
     return statement;
   }
 
+  /**
+   * @return the statement which inserts multiple entities of the same type as the
+   * given insert statement at once or <code>null</code> if multi-row inserts are
+   * disabled or not supported for the statement or the database
+   */
+  public String getMultiRowInsertStatement(String insertStatement) {
+    if (!jdbcBatchMultiRowInserts || getMultiRowInsertLimit() < 2) {
+      return null;
+    }
+    return multiRowInsertStatements.get(insertStatement);
+  }
+
+  /**
+   * @return the maximum number of rows of a multi-row insert statement
+   */
+  public int getMultiRowInsertLimit() {
+    Integer databaseLimit = databaseSpecificMultiRowInsertLimit.get(databaseType);
+    if (databaseLimit == null) {
+      return 0;
+    }
+    return Math.min(databaseLimit, jdbcBatchMultiRowInsertMaxRows);
+  }
+
+  /**
+   * @return <code>true</code> if external tasks are locked on fetch by skipping the rows
+   * locked by concurrent transactions, see {@link #skipLockedDatabases}
+   */
+  public boolean isExternalTaskFetchSkipLockedSupported() {
+    return externalTaskFetchSkipLocked && skipLockedDatabases.contains(databaseType);
+  }
+
   // db specific mappings /////////////////////////////////////////////////////
 
   protected static void addDatabaseSpecificStatement(String databaseType, String activitiStatement, String ibatisStatement) {
@@ -1038,5 +1138,28 @@ public class DbSqlSessionFactory implements SessionFactory {
     this.databaseSchema = databaseSchema;
   }
 
+  public boolean isJdbcBatchMultiRowInserts() {
+    return jdbcBatchMultiRowInserts;
+  }
+
+  public void setJdbcBatchMultiRowInserts(boolean jdbcBatchMultiRowInserts) {
+    this.jdbcBatchMultiRowInserts = jdbcBatchMultiRowInserts;
+  }
+
+  public int getJdbcBatchMultiRowInsertMaxRows() {
+    return jdbcBatchMultiRowInsertMaxRows;
+  }
+
+  public void setJdbcBatchMultiRowInsertMaxRows(int jdbcBatchMultiRowInsertMaxRows) {
+    this.jdbcBatchMultiRowInsertMaxRows = jdbcBatchMultiRowInsertMaxRows;
+  }
+
+  public boolean isExternalTaskFetchSkipLocked() {
+    return externalTaskFetchSkipLocked;
+  }
+
+  public void setExternalTaskFetchSkipLocked(boolean externalTaskFetchSkipLocked) {
+    this.externalTaskFetchSkipLocked = externalTaskFetchSkipLocked;
+  }
 
 }
@@ -0,0 +1,190 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.impl.dmn;
+
+import static org.camunda.bpm.engine.impl.util.EnsureUtil.ensureNotNull;
+import static org.camunda.bpm.engine.impl.util.EnsureUtil.ensureOnlyOneNotNull;
+import static org.camunda.bpm.engine.impl.util.EnsureUtil.ensurePositive;
+
+import java.util.Map;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import org.camunda.bpm.dmn.engine.DmnDecisionResult;
+import org.camunda.bpm.engine.dmn.DecisionBatchEvaluationBuilder;
+import org.camunda.bpm.engine.exception.NotFoundException;
+import org.camunda.bpm.engine.exception.NotValidException;
+import org.camunda.bpm.engine.exception.NullValueException;
+import org.camunda.bpm.engine.exception.dmn.DecisionDefinitionNotFoundException;
+import org.camunda.bpm.engine.impl.ProcessEngineLogger;
+import org.camunda.bpm.engine.impl.dmn.cmd.StartDecisionBatchEvaluationCmd;
+import org.camunda.bpm.engine.impl.interceptor.CommandExecutor;
+import org.camunda.bpm.engine.repository.DecisionDefinition;
+
+public class DecisionBatchEvaluationBuilderImpl implements DecisionBatchEvaluationBuilder {
+
+  private final static DecisionLogger LOG = ProcessEngineLogger.DECISION_LOGGER;
+
+  public static final int DEFAULT_BATCH_SIZE = 100;
+
+  protected CommandExecutor commandExecutor;
+
+  protected String decisionDefinitionKey;
+  protected String decisionDefinitionId;
+
+  protected Integer version;
+  protected Stream<? extends Map<String, Object>> variables;
+
+  protected String decisionDefinitionTenantId;
+  protected boolean isTenantIdSet = false;
+
+  protected int batchSize = DEFAULT_BATCH_SIZE;
+  protected ForkJoinPool forkJoinPool;
+  protected boolean skipHistory = false;
+
+  public DecisionBatchEvaluationBuilderImpl(CommandExecutor commandExecutor) {
+    this.commandExecutor = commandExecutor;
+  }
+
+  public DecisionBatchEvaluationBuilder decisionDefinitionTenantId(String tenantId) {
+    this.decisionDefinitionTenantId = tenantId;
+    isTenantIdSet = true;
+    return this;
+  }
+
+  public DecisionBatchEvaluationBuilder decisionDefinitionWithoutTenantId() {
+    this.decisionDefinitionTenantId = null;
+    isTenantIdSet = true;
+    return this;
+  }
+
+  public DecisionBatchEvaluationBuilder version(Integer version) {
+    this.version = version;
+    return this;
+  }
+
+  public DecisionBatchEvaluationBuilder variables(Iterable<? extends Map<String, Object>> variables) {
+    ensureNotNull(NotValidException.class, "variables", variables);
+    this.variables = StreamSupport.stream(variables.spliterator(), false);
+    return this;
+  }
+
+  public DecisionBatchEvaluationBuilder variables(Stream<? extends Map<String, Object>> variables) {
+    ensureNotNull(NotValidException.class, "variables", variables);
+    this.variables = variables;
+    return this;
+  }
+
+  public DecisionBatchEvaluationBuilder batchSize(int batchSize) {
+    ensurePositive(NotValidException.class, "batchSize", (long) batchSize);
+    this.batchSize = batchSize;
+    return this;
+  }
+
+  public DecisionBatchEvaluationBuilder parallel() {
+    return parallel(ForkJoinPool.commonPool());
+  }
+
+  public DecisionBatchEvaluationBuilder parallel(ForkJoinPool forkJoinPool) {
+    ensureNotNull(NotValidException.class, "forkJoinPool", forkJoinPool);
+    this.forkJoinPool = forkJoinPool;
+    return this;
+  }
+
+  public DecisionBatchEvaluationBuilder skipHistory() {
+    this.skipHistory = true;
+    return this;
+  }
+
+  public Stream<DmnDecisionResult> evaluate() {
+    ensureOnlyOneNotNull(NotValidException.class, "either decision definition id or key must be set", decisionDefinitionId, decisionDefinitionKey);
+    ensureNotNull(NotValidException.class, "variables", variables);
+
+    if (isTenantIdSet && decisionDefinitionId != null) {
+      throw LOG.exceptionEvaluateDecisionDefinitionByIdAndTenantId();
+    }
+
+    StartDecisionBatchEvaluationCmd startCmd = new StartDecisionBatchEvaluationCmd(this);
+    DecisionDefinition decisionDefinition;
+    try {
+      decisionDefinition = commandExecutor.execute(startCmd);
+    }
+    catch (NullValueException e) {
+      throw new NotValidException(e.getMessage(), e);
+    }
+    catch (DecisionDefinitionNotFoundException e) {
+      throw new NotFoundException(e.getMessage(), e);
+    }
+
+    DecisionBatchResultIterator results = new DecisionBatchResultIterator(commandExecutor, decisionDefinition,
+        variables.iterator(), batchSize, forkJoinPool, skipHistory, startCmd.getAuthentication());
+
+    return StreamSupport.stream(Spliterators.spliteratorUnknownSize(results, Spliterator.ORDERED | Spliterator.NONNULL), false)
+        .onClose(results::close)
+        .onClose(variables::close);
+  }
+
+  public static DecisionBatchEvaluationBuilder evaluateDecisionsByKey(CommandExecutor commandExecutor, String decisionDefinitionKey) {
+    DecisionBatchEvaluationBuilderImpl builder = new DecisionBatchEvaluationBuilderImpl(commandExecutor);
+    builder.decisionDefinitionKey = decisionDefinitionKey;
+    return builder;
+  }
+
+  public static DecisionBatchEvaluationBuilder evaluateDecisionsById(CommandExecutor commandExecutor, String decisionDefinitionId) {
+    DecisionBatchEvaluationBuilderImpl builder = new DecisionBatchEvaluationBuilderImpl(commandExecutor);
+    builder.decisionDefinitionId = decisionDefinitionId;
+    return builder;
+  }
+
+  // getters ////////////////////////////////////
+
+  public String getDecisionDefinitionKey() {
+    return decisionDefinitionKey;
+  }
+
+  public String getDecisionDefinitionId() {
+    return decisionDefinitionId;
+  }
+
+  public Integer getVersion() {
+    return version;
+  }
+
+  public String getDecisionDefinitionTenantId() {
+    return decisionDefinitionTenantId;
+  }
+
+  public boolean isTenantIdSet() {
+    return isTenantIdSet;
+  }
+
+  public int getBatchSize() {
+    return batchSize;
+  }
+
+  public ForkJoinPool getForkJoinPool() {
+    return forkJoinPool;
+  }
+
+  public boolean isSkipHistory() {
+    return skipHistory;
+  }
+
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.impl.dmn;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+import org.camunda.bpm.dmn.engine.DmnDecisionResult;
+import org.camunda.bpm.engine.impl.dmn.cmd.EvaluateDecisionBatchCmd;
+import org.camunda.bpm.engine.impl.identity.Authentication;
+import org.camunda.bpm.engine.impl.interceptor.CommandExecutor;
+import org.camunda.bpm.engine.repository.DecisionDefinition;
+
+/**
+ * <p>Evaluates the input values of a batch evaluation while its results are read.</p>
+ *
+ * <p>The input values are split into batches and every batch is evaluated by an
+ * {@link EvaluateDecisionBatchCmd}. Without a {@link ForkJoinPool} the next batch
+ * is evaluated when the results of the previous one are consumed. With a pool,
+ * up to twice its parallelism batches are evaluated ahead concurrently. The
+ * results are returned in the order of the input values in both cases.</p>
+ *
+ * <p>Every batch is evaluated with the authentication of the caller which started
+ * the evaluation, also if it is evaluated by a thread of the pool.</p>
+ */
+public class DecisionBatchResultIterator implements Iterator<DmnDecisionResult> {
+
+  protected CommandExecutor commandExecutor;
+  protected DecisionDefinition decisionDefinition;
+  protected Iterator<? extends Map<String, Object>> variables;
+  protected int batchSize;
+  protected ForkJoinPool forkJoinPool;
+  protected boolean skipHistory;
+  protected Authentication authentication;
+
+  protected Deque<ForkJoinTask<List<DmnDecisionResult>>> pendingBatches = new ArrayDeque<>();
+  protected Iterator<DmnDecisionResult> currentBatch = Collections.emptyIterator();
+
+  public DecisionBatchResultIterator(CommandExecutor commandExecutor,
+                                     DecisionDefinition decisionDefinition,
+                                     Iterator<? extends Map<String, Object>> variables,
+                                     int batchSize,
+                                     ForkJoinPool forkJoinPool,
+                                     boolean skipHistory,
+                                     Authentication authentication) {
+    this.commandExecutor = commandExecutor;
+    this.decisionDefinition = decisionDefinition;
+    this.variables = variables;
+    this.batchSize = batchSize;
+    this.forkJoinPool = forkJoinPool;
+    this.skipHistory = skipHistory;
+    this.authentication = authentication;
+  }
+
+  @Override
+  public boolean hasNext() {
+    while (!currentBatch.hasNext()) {
+      List<DmnDecisionResult> results = nextResults();
+      if (results == null) {
+        return false;
+      }
+      currentBatch = results.iterator();
+    }
+    return true;
+  }
+
+  @Override
+  public DmnDecisionResult next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException();
+    }
+    return currentBatch.next();
+  }
+
+  public void close() {
+    for (ForkJoinTask<List<DmnDecisionResult>> pendingBatch : pendingBatches) {
+      pendingBatch.cancel(false);
+    }
+    pendingBatches.clear();
+  }
+
+  protected List<DmnDecisionResult> nextResults() {
+    if (forkJoinPool == null) {
+      List<Map<String, Object>> batch = nextBatch();
+      return batch.isEmpty() ? null : evaluateBatch(batch);
+    }
+    else {
+      submitBatches();
+      ForkJoinTask<List<DmnDecisionResult>> pendingBatch = pendingBatches.poll();
+      return pendingBatch == null ? null : pendingBatch.join();
+    }
+  }
+
+  protected void submitBatches() {
+    int maxPendingBatches = 2 * forkJoinPool.getParallelism();
+    while (pendingBatches.size() < maxPendingBatches) {
+      List<Map<String, Object>> batch = nextBatch();
+      if (batch.isEmpty()) {
+        return;
+      }
+      pendingBatches.add(forkJoinPool.submit(() -> evaluateBatch(batch)));
+    }
+  }
+
+  protected List<Map<String, Object>> nextBatch() {
+    List<Map<String, Object>> batch = new ArrayList<>(batchSize);
+    while (batch.size() < batchSize && variables.hasNext()) {
+      batch.add(variables.next());
+    }
+    return batch;
+  }
+
+  protected List<DmnDecisionResult> evaluateBatch(List<Map<String, Object>> batch) {
+    return commandExecutor.execute(new EvaluateDecisionBatchCmd(decisionDefinition, batch, skipHistory, authentication));
+  }
+
+}
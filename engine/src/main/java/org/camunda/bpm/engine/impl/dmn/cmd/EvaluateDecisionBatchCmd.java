@@ -0,0 +1,101 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.impl.dmn.cmd;
+
+import static org.camunda.bpm.engine.impl.util.DecisionEvaluationUtil.evaluateDecision;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.camunda.bpm.dmn.engine.DmnDecisionResult;
+import org.camunda.bpm.engine.IdentityService;
+import org.camunda.bpm.engine.ProcessEngineException;
+import org.camunda.bpm.engine.impl.identity.Authentication;
+import org.camunda.bpm.engine.impl.interceptor.Command;
+import org.camunda.bpm.engine.impl.interceptor.CommandContext;
+import org.camunda.bpm.engine.repository.DecisionDefinition;
+import org.camunda.bpm.engine.variable.VariableMap;
+import org.camunda.bpm.engine.variable.Variables;
+
+/**
+ * Evaluates a decision definition, which was resolved and authorized by
+ * {@link StartDecisionBatchEvaluationCmd}, for a batch of input values.
+ * The history of all evaluations is written when the command is flushed.
+ *
+ * The decisions are evaluated with the given authentication of the caller,
+ * because the command may be executed by another thread.
+ */
+public class EvaluateDecisionBatchCmd implements Command<List<DmnDecisionResult>> {
+
+  protected DecisionDefinition decisionDefinition;
+  protected List<? extends Map<String, Object>> variablesBatch;
+  protected boolean skipHistory;
+  protected Authentication authentication;
+
+  public EvaluateDecisionBatchCmd(DecisionDefinition decisionDefinition, List<? extends Map<String, Object>> variablesBatch, boolean skipHistory, Authentication authentication) {
+    this.decisionDefinition = decisionDefinition;
+    this.variablesBatch = variablesBatch;
+    this.skipHistory = skipHistory;
+    this.authentication = authentication;
+  }
+
+  @Override
+  public List<DmnDecisionResult> execute(CommandContext commandContext) {
+    IdentityService identityService = commandContext.getProcessEngineConfiguration().getIdentityService();
+    Authentication previousAuthentication = identityService.getCurrentAuthentication();
+    boolean decisionHistoryEnabled = commandContext.isDecisionHistoryEnabled();
+
+    identityService.setAuthentication(authentication);
+    if (skipHistory) {
+      commandContext.disableDecisionHistory();
+    }
+
+    try {
+      List<DmnDecisionResult> results = new ArrayList<>(variablesBatch.size());
+      for (Map<String, Object> variables : variablesBatch) {
+        results.add(doEvaluateDecision(toVariableMap(variables)));
+      }
+      return results;
+    }
+    finally {
+      if (decisionHistoryEnabled) {
+        commandContext.enableDecisionHistory();
+      }
+      identityService.setAuthentication(previousAuthentication);
+    }
+  }
+
+  protected VariableMap toVariableMap(Map<String, Object> variables) {
+    if (variables == null) {
+      return Variables.createVariables();
+    }
+    else {
+      return Variables.fromMap(variables);
+    }
+  }
+
+  protected DmnDecisionResult doEvaluateDecision(VariableMap variables) {
+    try {
+      return evaluateDecision(decisionDefinition, variables);
+    }
+    catch (Exception e) {
+      throw new ProcessEngineException("Exception while evaluating decision with key '"+decisionDefinition.getKey()+"'", e);
+    }
+  }
+
+}
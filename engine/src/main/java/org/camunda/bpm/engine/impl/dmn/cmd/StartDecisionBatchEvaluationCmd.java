@@ -0,0 +1,115 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.impl.dmn.cmd;
+
+import static org.camunda.bpm.engine.impl.util.EnsureUtil.ensureOnlyOneNotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.camunda.bpm.engine.history.UserOperationLogEntry;
+import org.camunda.bpm.engine.impl.cfg.CommandChecker;
+import org.camunda.bpm.engine.impl.dmn.DecisionBatchEvaluationBuilderImpl;
+import org.camunda.bpm.engine.impl.identity.Authentication;
+import org.camunda.bpm.engine.impl.interceptor.Command;
+import org.camunda.bpm.engine.impl.interceptor.CommandContext;
+import org.camunda.bpm.engine.impl.persistence.deploy.cache.DeploymentCache;
+import org.camunda.bpm.engine.impl.persistence.entity.PropertyChange;
+import org.camunda.bpm.engine.repository.DecisionDefinition;
+
+/**
+ * Resolves and authorizes the decision definition with the given key or id
+ * before it is evaluated in batches by {@link EvaluateDecisionBatchCmd}.
+ *
+ * If the decision definition key given then specify the version and tenant-id.
+ * If no version is provided then the latest version is taken.
+ *
+ * The authentication of the caller is kept, so it can be applied to the
+ * batches which are evaluated by the threads of a fork join pool.
+ */
+public class StartDecisionBatchEvaluationCmd implements Command<DecisionDefinition> {
+
+  protected String decisionDefinitionKey;
+  protected String decisionDefinitionId;
+  protected Integer version;
+  protected String decisionDefinitionTenantId;
+  protected boolean isTenandIdSet;
+
+  protected Authentication authentication;
+
+  public StartDecisionBatchEvaluationCmd(DecisionBatchEvaluationBuilderImpl builder) {
+    this.decisionDefinitionKey = builder.getDecisionDefinitionKey();
+    this.decisionDefinitionId = builder.getDecisionDefinitionId();
+    this.version = builder.getVersion();
+    this.decisionDefinitionTenantId = builder.getDecisionDefinitionTenantId();
+    this.isTenandIdSet = builder.isTenantIdSet();
+  }
+
+  @Override
+  public DecisionDefinition execute(CommandContext commandContext) {
+    ensureOnlyOneNotNull("either decision definition id or key must be set", decisionDefinitionId, decisionDefinitionKey);
+
+    DecisionDefinition decisionDefinition = getDecisionDefinition(commandContext);
+
+    for(CommandChecker checker : commandContext.getProcessEngineConfiguration().getCommandCheckers()) {
+      checker.checkEvaluateDecision(decisionDefinition);
+    }
+
+    writeUserOperationLog(commandContext, decisionDefinition);
+
+    authentication = commandContext.getAuthentication();
+
+    return decisionDefinition;
+  }
+
+  protected void writeUserOperationLog(CommandContext commandContext, DecisionDefinition decisionDefinition) {
+    List<PropertyChange> propertyChanges = new ArrayList<>();
+    propertyChanges.add(new PropertyChange("decisionDefinitionId", null, decisionDefinition.getId()));
+    propertyChanges.add(new PropertyChange("decisionDefinitionKey", null, decisionDefinition.getKey()));
+    commandContext.getOperationLogManager().logDecisionDefinitionOperation(UserOperationLogEntry.OPERATION_TYPE_EVALUATE, decisionDefinition.getTenantId(), propertyChanges);
+  }
+
+  protected DecisionDefinition getDecisionDefinition(CommandContext commandContext) {
+    DeploymentCache deploymentCache = commandContext.getProcessEngineConfiguration().getDeploymentCache();
+
+    if (decisionDefinitionId != null) {
+      return deploymentCache.findDeployedDecisionDefinitionById(decisionDefinitionId);
+    } else {
+      return findByKey(deploymentCache);
+    }
+  }
+
+  protected DecisionDefinition findByKey(DeploymentCache deploymentCache) {
+    if (version == null && !isTenandIdSet) {
+      return deploymentCache.findDeployedLatestDecisionDefinitionByKey(decisionDefinitionKey);
+    }
+    else if (version == null) {
+      return deploymentCache.findDeployedLatestDecisionDefinitionByKeyAndTenantId(decisionDefinitionKey, decisionDefinitionTenantId);
+    }
+    else if (!isTenandIdSet) {
+      return deploymentCache.findDeployedDecisionDefinitionByKeyAndVersion(decisionDefinitionKey, version);
+    }
+    else {
+      return deploymentCache.findDeployedDecisionDefinitionByKeyVersionAndTenantId(decisionDefinitionKey, version, decisionDefinitionTenantId);
+    }
+  }
+
+  public Authentication getAuthentication() {
+    return authentication;
+  }
+
+}
@@ -141,4 +141,28 @@ public class DmnEngineConfigurationBuilder {
     return this;
   }
 
+  public DmnEngineConfigurationBuilder enableDecisionTableIndex(boolean dmnEnableDecisionTableIndex) {
+    if (dmnEnableDecisionTableIndex) {
+      // do not override the DMN engine configuration if not set
+      dmnEngineConfiguration.setEnableDecisionTableIndex(true);
+    }
+    return this;
+  }
+
+  public DmnEngineConfigurationBuilder enableDecisionResultCache(boolean dmnEnableDecisionResultCache) {
+    if (dmnEnableDecisionResultCache) {
+      // do not override the DMN engine configuration if not set
+      dmnEngineConfiguration.setEnableDecisionResultCache(true);
+    }
+    return this;
+  }
+
+  public DmnEngineConfigurationBuilder decisionResultCacheSize(Integer dmnDecisionResultCacheSize) {
+    if (dmnDecisionResultCacheSize != null) {
+      // do not override the DMN engine configuration if not set
+      dmnEngineConfiguration.setDecisionResultCacheSize(dmnDecisionResultCacheSize);
+    }
+    return this;
+  }
+
 }
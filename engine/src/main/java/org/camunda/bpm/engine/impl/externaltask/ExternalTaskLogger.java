@@ -16,6 +16,7 @@
  */
 package org.camunda.bpm.engine.impl.externaltask;
 
+import org.camunda.bpm.engine.BadUserRequestException;
 import org.camunda.bpm.engine.ProcessEngineException;
 import org.camunda.bpm.engine.impl.ProcessEngineLogger;
 import org.camunda.bpm.engine.impl.bpmn.parser.CamundaErrorEventDefinition;
@@ -53,4 +54,74 @@ public class ExternalTaskLogger extends ProcessEngineLogger {
     logDebug("002", "Evaluation of error event definition's expression {} on external task {} failed and will be considered as 'false'. "
         + "Received exception: {}", errorEventDefinition.getExpression(), taskId, exception.getMessage());
   }
+
+  /**
+   * Logs that the operations of a bulk operation are executed one by one after the
+   * transaction of the bulk operation failed.
+   *
+   * @param workerId the worker which reported the operations
+   * @param operations the number of operations
+   * @param exception the exception that was caught
+   */
+  public void fallbackToSeparateOperations(String workerId, int operations, Exception exception) {
+    logDebug("003", "Bulk operation of worker {} on {} external tasks failed and is executed one operation at a time. "
+        + "Received exception: {}", workerId, operations, exception.getMessage());
+  }
+
+  /**
+   * Logs that a task could not be handed to the local external task worker because its queue is full.
+   *
+   * @param externalTaskId the task which is left for the next poll
+   */
+  public void localExternalTaskRejected(String externalTaskId) {
+    logDebug("004", "Local external task worker is saturated, external task {} is fetched with the next poll", externalTaskId);
+  }
+
+  /**
+   * Logs that the local external task worker lost the race for the lock of a task.
+   *
+   * @param externalTaskId the task which could not be locked
+   * @param exception the exception that was caught
+   */
+  public void localExternalTaskNotLocked(String externalTaskId, Exception exception) {
+    logDebug("005", "External task {} could not be locked by the local external task worker: {}",
+        externalTaskId, exception.getMessage());
+  }
+
+  /**
+   * Logs that a local external task handler threw an exception, which is reported as failure of the task.
+   *
+   * @param externalTaskId the task which failed
+   * @param topicName the topic of the handler
+   * @param exception the exception that was thrown by the handler
+   */
+  public void localExternalTaskHandlerFailed(String externalTaskId, String topicName, Exception exception) {
+    logWarn("006", "Handler of topic '{}' failed to execute external task {}", topicName, externalTaskId, exception);
+  }
+
+  /**
+   * Logs that the local external task worker could not extend the lock of a task or report its failure.
+   *
+   * @param operation the operation which failed
+   * @param externalTaskId the task of the operation
+   * @param exception the exception that was caught
+   */
+  public void localExternalTaskOperationFailed(String operation, String externalTaskId, Exception exception) {
+    logWarn("007", "Local external task worker could not {} external task {}: {}",
+        operation, externalTaskId, exception.getMessage(), exception);
+  }
+
+  /**
+   * Logs that the local external task worker could not fetch the tasks which were not dispatched after commit.
+   *
+   * @param exception the exception that was caught
+   */
+  public void localExternalTaskPollFailed(Exception exception) {
+    logWarn("008", "Local external task worker could not fetch external tasks: {}", exception.getMessage(), exception);
+  }
+
+  public BadUserRequestException unsupportedVariableProjection(String variableName, String typeName) {
+    return new BadUserRequestException(exceptionMessage("009",
+        "Cannot project variable '{}' of type '{}', no variable projector supports this type", variableName, typeName));
+  }
 }
@@ -0,0 +1,70 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.impl.externaltask;
+
+import org.camunda.bpm.engine.externaltask.ExternalTaskOperationResult;
+
+public class ExternalTaskOperationResultImpl implements ExternalTaskOperationResult {
+
+  protected String externalTaskId;
+  protected String operationType;
+  protected Exception exception;
+
+  public ExternalTaskOperationResultImpl(String externalTaskId, String operationType, Exception exception) {
+    this.externalTaskId = externalTaskId;
+    this.operationType = operationType;
+    this.exception = exception;
+  }
+
+  public static ExternalTaskOperationResult successful(String externalTaskId, String operationType) {
+    return new ExternalTaskOperationResultImpl(externalTaskId, operationType, null);
+  }
+
+  public static ExternalTaskOperationResult failed(String externalTaskId, String operationType, Exception exception) {
+    return new ExternalTaskOperationResultImpl(externalTaskId, operationType, exception);
+  }
+
+  public String getExternalTaskId() {
+    return externalTaskId;
+  }
+
+  public String getOperationType() {
+    return operationType;
+  }
+
+  public boolean isSuccessful() {
+    return exception == null;
+  }
+
+  public String getErrorMessage() {
+    return exception != null ? exception.getMessage() : null;
+  }
+
+  public Exception getException() {
+    return exception;
+  }
+
+  @Override
+  public String toString() {
+    return "ExternalTaskOperationResultImpl ["
+        + "externalTaskId=" + externalTaskId
+        + ", operationType=" + operationType
+        + ", exception=" + exception
+        + "]";
+  }
+
+}
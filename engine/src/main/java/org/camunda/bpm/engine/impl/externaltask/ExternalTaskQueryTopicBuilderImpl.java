@@ -25,6 +25,7 @@ import org.camunda.bpm.engine.externaltask.ExternalTaskQueryTopicBuilder;
 import org.camunda.bpm.engine.externaltask.LockedExternalTask;
 import org.camunda.bpm.engine.impl.QueryOrderingProperty;
 import org.camunda.bpm.engine.impl.cmd.FetchExternalTasksCmd;
+import org.camunda.bpm.engine.impl.cmd.FetchExternalTasksForWorkersCmd;
 import org.camunda.bpm.engine.impl.interceptor.CommandExecutor;
 
 /**
@@ -110,6 +111,12 @@ public class ExternalTaskQueryTopicBuilderImpl implements ExternalTaskQueryTopic
         new FetchExternalTasksCmd(workerId, maxTasks, instructions, usePriority, orderingProperties));
   }
 
+  public Map<String, List<LockedExternalTask>> execute(Map<String, Integer> maxTasksPerWorker) {
+    submitCurrentInstruction();
+    return commandExecutor.execute(
+        new FetchExternalTasksForWorkersCmd(maxTasksPerWorker, instructions, usePriority, orderingProperties));
+  }
+
   public ExternalTaskQueryTopicBuilder topic(String topicName, long lockDuration) {
     submitCurrentInstruction();
     currentInstruction = new TopicFetchInstruction(topicName, lockDuration);
@@ -201,4 +208,17 @@ public class ExternalTaskQueryTopicBuilderImpl implements ExternalTaskQueryTopic
     return this;
   }
 
+  public ExternalTaskQueryTopicBuilder lazyVariables() {
+    currentInstruction.setLazyVariables(true);
+    return this;
+  }
+
+  public ExternalTaskQueryTopicBuilder variableProjection(String variableName, String expression) {
+    if (currentInstruction.getVariableProjections() == null) {
+      currentInstruction.setVariableProjections(new HashMap<>());
+    }
+    currentInstruction.getVariableProjections().put(variableName, expression);
+    return this;
+  }
+
 }
@@ -0,0 +1,342 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.impl.externaltask;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.camunda.bpm.engine.ExternalTaskService;
+import org.camunda.bpm.engine.externaltask.LocalExternalTaskHandler;
+import org.camunda.bpm.engine.externaltask.LockedExternalTask;
+import org.camunda.bpm.engine.impl.ProcessEngineLogger;
+import org.camunda.bpm.engine.impl.cmd.ExtendLockOnExternalTaskCmd;
+import org.camunda.bpm.engine.impl.cmd.FetchExternalTasksCmd;
+import org.camunda.bpm.engine.impl.cmd.HandleExternalTaskFailureCmd;
+import org.camunda.bpm.engine.impl.cmd.LockLocalExternalTaskCmd;
+import org.camunda.bpm.engine.impl.cmd.UnlockExternalTaskCmd;
+import org.camunda.bpm.engine.impl.interceptor.CommandExecutor;
+import org.camunda.bpm.engine.impl.util.ExceptionUtil;
+
+/**
+ * <p>Executes the external tasks of topics with a {@link LocalExternalTaskHandler} inside
+ * the process engine.</p>
+ *
+ * <p>Tasks are dispatched by id once the transaction which created them is committed and
+ * executed by a bounded pool of worker threads. The lock of a running task is extended
+ * at half of the lock duration by a dedicated thread, so that a slow poll does not delay
+ * it. If a handler throws an exception, a failure is reported for the task with the
+ * configured retries and retry timeout.</p>
+ *
+ * <p>Tasks which are not dispatched after commit, because the worker queue is full, they
+ * were created before the worker was started or they became available again after a
+ * failure or an expired lock, are fetched and locked in the poll interval.</p>
+ */
+public class LocalExternalTaskWorker {
+
+  protected static final ExternalTaskLogger LOG = ProcessEngineLogger.EXTERNAL_TASK_LOGGER;
+
+  public static final int DEFAULT_POOL_SIZE = 3;
+  public static final int DEFAULT_QUEUE_CAPACITY = 100;
+  public static final long DEFAULT_LOCK_DURATION = 5 * 60 * 1000L;
+  public static final int DEFAULT_RETRIES = 3;
+  public static final long DEFAULT_RETRY_TIMEOUT = 10 * 1000L;
+  public static final long DEFAULT_POLL_INTERVAL = 30 * 1000L;
+
+  protected static final long SHUTDOWN_TIMEOUT = 10 * 1000L;
+
+  protected Map<String, LocalExternalTaskHandler> handlers;
+
+  protected int poolSize = DEFAULT_POOL_SIZE;
+  protected int queueCapacity = DEFAULT_QUEUE_CAPACITY;
+  protected long lockDuration = DEFAULT_LOCK_DURATION;
+  protected int retries = DEFAULT_RETRIES;
+  protected long retryTimeout = DEFAULT_RETRY_TIMEOUT;
+  protected long pollInterval = DEFAULT_POLL_INTERVAL;
+
+  protected String workerId;
+  protected CommandExecutor commandExecutor;
+  protected ExternalTaskService externalTaskService;
+
+  protected ThreadPoolExecutor workerPool;
+  protected ScheduledExecutorService scheduler;
+  protected ScheduledExecutorService lockExtensionScheduler;
+  protected Set<String> dispatchedTaskIds = ConcurrentHashMap.newKeySet();
+  protected volatile boolean running;
+
+  public LocalExternalTaskWorker(Map<String, LocalExternalTaskHandler> handlers) {
+    this.handlers = new HashMap<>(handlers);
+  }
+
+  public boolean hasHandler(String topicName) {
+    return handlers.containsKey(topicName);
+  }
+
+  /**
+   * Starts the worker threads and the poll of the registered topics.
+   *
+   * @param workerId the worker id with which the tasks are locked
+   * @param commandExecutor executes the commands of the worker; must start a new transaction
+   * @param externalTaskService the service which is passed to the handlers
+   */
+  public synchronized void start(String workerId, CommandExecutor commandExecutor, ExternalTaskService externalTaskService) {
+    if (running) {
+      return;
+    }
+    this.workerId = workerId;
+    this.commandExecutor = commandExecutor;
+    this.externalTaskService = externalTaskService;
+
+    workerPool = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+        new ArrayBlockingQueue<>(Math.max(1, queueCapacity)), new WorkerThreadFactory("camunda-external-task-worker-"));
+    scheduler = Executors.newSingleThreadScheduledExecutor(new WorkerThreadFactory("camunda-external-task-scheduler-"));
+    lockExtensionScheduler = Executors.newSingleThreadScheduledExecutor(
+        new WorkerThreadFactory("camunda-external-task-lock-extension-"));
+
+    running = true;
+    scheduler.scheduleWithFixedDelay(this::poll, 0, pollInterval, TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * Stops the poll and waits for the running handlers. Queued tasks are not executed and
+   * are fetched again after their locks expired.
+   */
+  public synchronized void stop() {
+    if (!running) {
+      return;
+    }
+    running = false;
+
+    scheduler.shutdownNow();
+    workerPool.shutdown();
+    try {
+      if (!workerPool.awaitTermination(SHUTDOWN_TIMEOUT, TimeUnit.MILLISECONDS)) {
+        workerPool.shutdownNow();
+      }
+    } catch (InterruptedException e) {
+      workerPool.shutdownNow();
+      Thread.currentThread().interrupt();
+    } finally {
+      lockExtensionScheduler.shutdownNow();
+    }
+  }
+
+  public boolean isRunning() {
+    return running;
+  }
+
+  /**
+   * Hands a committed task over to the worker threads. The task is locked by the worker
+   * thread, so that it is skipped if another worker locked it in the meantime.
+   */
+  public void dispatch(String externalTaskId) {
+    if (!running || !dispatchedTaskIds.add(externalTaskId)) {
+      return;
+    }
+
+    try {
+      workerPool.execute(() -> lockAndExecute(externalTaskId));
+    } catch (RejectedExecutionException e) {
+      dispatchedTaskIds.remove(externalTaskId);
+      LOG.localExternalTaskRejected(externalTaskId);
+    }
+  }
+
+  protected void lockAndExecute(String externalTaskId) {
+    try {
+      LockedExternalTask externalTask = commandExecutor
+          .execute(new LockLocalExternalTaskCmd(externalTaskId, workerId, lockDuration, handlers));
+
+      if (externalTask != null) {
+        execute(externalTask);
+      }
+    } catch (RuntimeException e) {
+      LOG.localExternalTaskNotLocked(externalTaskId, e);
+    } finally {
+      dispatchedTaskIds.remove(externalTaskId);
+    }
+  }
+
+  protected void execute(LockedExternalTask externalTask) {
+    long extensionInterval = Math.max(1, lockDuration / 2);
+    ScheduledFuture<?> lockExtension = lockExtensionScheduler.scheduleAtFixedRate(() -> extendLock(externalTask),
+        extensionInterval, extensionInterval, TimeUnit.MILLISECONDS);
+
+    Exception failure = null;
+    try {
+      handlers.get(externalTask.getTopicName()).execute(externalTask, externalTaskService);
+    } catch (Exception e) {
+      failure = e;
+    } finally {
+      lockExtension.cancel(false);
+    }
+
+    if (failure != null) {
+      LOG.localExternalTaskHandlerFailed(externalTask.getId(), externalTask.getTopicName(), failure);
+      handleFailure(externalTask, failure);
+    }
+  }
+
+  protected void extendLock(LockedExternalTask externalTask) {
+    try {
+      commandExecutor.execute(new ExtendLockOnExternalTaskCmd(externalTask.getId(), workerId, lockDuration));
+    } catch (RuntimeException e) {
+      // the handler may have completed the task in the meantime
+      LOG.localExternalTaskOperationFailed("extend the lock of", externalTask.getId(), e);
+    }
+  }
+
+  protected void handleFailure(LockedExternalTask externalTask, Exception failure) {
+    Integer currentRetries = externalTask.getRetries();
+    int remainingRetries = currentRetries == null ? retries : Math.max(0, currentRetries - 1);
+
+    try {
+      commandExecutor.execute(new HandleExternalTaskFailureCmd(externalTask.getId(), workerId,
+          failure.getMessage(), ExceptionUtil.getExceptionStacktrace(failure), remainingRetries, retryTimeout, null, null));
+    } catch (RuntimeException e) {
+      LOG.localExternalTaskOperationFailed("report the failure of", externalTask.getId(), e);
+    }
+  }
+
+  protected void poll() {
+    int capacity = workerPool.getQueue().remainingCapacity();
+    if (!running || capacity == 0) {
+      return;
+    }
+
+    Map<String, TopicFetchInstruction> instructions = new HashMap<>();
+    handlers.forEach((topicName, handler) -> {
+      TopicFetchInstruction instruction = new TopicFetchInstruction(topicName, lockDuration);
+      instruction.setVariablesToFetch(handler.getVariableNames());
+      instruction.setDeserializeVariables(handler.isDeserializeVariables());
+      instructions.put(topicName, instruction);
+    });
+
+    List<LockedExternalTask> externalTasks;
+    try {
+      externalTasks = commandExecutor.execute(new FetchExternalTasksCmd(workerId, capacity, instructions,
+          true, Collections.emptyList()));
+    } catch (RuntimeException e) {
+      LOG.localExternalTaskPollFailed(e);
+      return;
+    }
+
+    for (LockedExternalTask externalTask : externalTasks) {
+      try {
+        workerPool.execute(() -> execute(externalTask));
+      } catch (RejectedExecutionException e) {
+        unlock(externalTask);
+      }
+    }
+  }
+
+  protected void unlock(LockedExternalTask externalTask) {
+    try {
+      commandExecutor.execute(new UnlockExternalTaskCmd(externalTask.getId()));
+    } catch (RuntimeException e) {
+      LOG.localExternalTaskOperationFailed("unlock", externalTask.getId(), e);
+    }
+  }
+
+  // getters / setters //////////////////////////////////////////////////////
+
+  public Map<String, LocalExternalTaskHandler> getHandlers() {
+    return handlers;
+  }
+
+  public String getWorkerId() {
+    return workerId;
+  }
+
+  public int getPoolSize() {
+    return poolSize;
+  }
+
+  public void setPoolSize(int poolSize) {
+    this.poolSize = poolSize;
+  }
+
+  public int getQueueCapacity() {
+    return queueCapacity;
+  }
+
+  public void setQueueCapacity(int queueCapacity) {
+    this.queueCapacity = queueCapacity;
+  }
+
+  public long getLockDuration() {
+    return lockDuration;
+  }
+
+  public void setLockDuration(long lockDuration) {
+    this.lockDuration = lockDuration;
+  }
+
+  public int getRetries() {
+    return retries;
+  }
+
+  public void setRetries(int retries) {
+    this.retries = retries;
+  }
+
+  public long getRetryTimeout() {
+    return retryTimeout;
+  }
+
+  public void setRetryTimeout(long retryTimeout) {
+    this.retryTimeout = retryTimeout;
+  }
+
+  public long getPollInterval() {
+    return pollInterval;
+  }
+
+  public void setPollInterval(long pollInterval) {
+    this.pollInterval = pollInterval;
+  }
+
+  protected static class WorkerThreadFactory implements ThreadFactory {
+
+    protected final String namePrefix;
+    protected final AtomicInteger threadNumber = new AtomicInteger();
+
+    public WorkerThreadFactory(String namePrefix) {
+      this.namePrefix = namePrefix;
+    }
+
+    @Override
+    public Thread newThread(Runnable runnable) {
+      Thread thread = new Thread(runnable, namePrefix + threadNumber.getAndIncrement());
+      thread.setDaemon(true);
+      return thread;
+    }
+  }
+
+}
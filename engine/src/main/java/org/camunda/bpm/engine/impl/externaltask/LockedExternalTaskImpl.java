@@ -19,6 +19,7 @@ package org.camunda.bpm.engine.impl.externaltask;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Date;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -26,6 +27,7 @@ import org.camunda.bpm.engine.externaltask.LockedExternalTask;
 import org.camunda.bpm.engine.impl.bpmn.helper.BpmnProperties;
 import org.camunda.bpm.engine.impl.persistence.entity.ExecutionEntity;
 import org.camunda.bpm.engine.impl.persistence.entity.ExternalTaskEntity;
+import org.camunda.bpm.engine.impl.util.VariableProjectionUtil;
 import org.camunda.bpm.engine.variable.VariableMap;
 import org.camunda.bpm.engine.variable.impl.VariableMapImpl;
 
@@ -53,6 +55,7 @@ public class LockedExternalTaskImpl implements LockedExternalTask {
   protected String tenantId;
   protected long priority;
   protected VariableMapImpl variables;
+  protected Map<String, String> variableTypes;
   protected String businessKey;
   protected Map<String, String> extensionProperties;
 
@@ -120,6 +123,10 @@ public class LockedExternalTaskImpl implements LockedExternalTask {
     return variables;
   }
 
+  public Map<String, String> getVariableTypes() {
+    return variableTypes;
+  }
+
   public String getErrorDetails() {
     return errorDetails;
   }
@@ -155,6 +162,20 @@ public class LockedExternalTaskImpl implements LockedExternalTask {
    * database and variables attached
    */
   public static LockedExternalTaskImpl fromEntity(ExternalTaskEntity externalTaskEntity, List<String> variablesToFetch, boolean isLocal, boolean deserializeVariables, boolean includeExtensionProperties) {
+    return fromEntity(externalTaskEntity, variablesToFetch, isLocal, deserializeVariables, includeExtensionProperties, false, null);
+  }
+
+  /**
+   * Construct representation of locked ExternalTask from corresponding entity.
+   *
+   * @param lazyVariables - if true only the names and types of the variables will be collected,
+   *   their values are not read
+   * @param variableProjections - the projection expressions by variable name that are applied
+   *   to the collected variables, may be null
+   *
+   * @see #fromEntity(ExternalTaskEntity, List, boolean, boolean, boolean)
+   */
+  public static LockedExternalTaskImpl fromEntity(ExternalTaskEntity externalTaskEntity, List<String> variablesToFetch, boolean isLocal, boolean deserializeVariables, boolean includeExtensionProperties, boolean lazyVariables, Map<String, String> variableProjections) {
     LockedExternalTaskImpl result = new LockedExternalTaskImpl();
     result.id = externalTaskEntity.getId();
     result.topicName = externalTaskEntity.getTopicName();
@@ -178,7 +199,13 @@ public class LockedExternalTaskImpl implements LockedExternalTask {
 
     ExecutionEntity execution = externalTaskEntity.getExecution();
     result.variables = new VariableMapImpl();
-    execution.collectVariables(result.variables, variablesToFetch, isLocal, deserializeVariables);
+    if (lazyVariables) {
+      result.variableTypes = new HashMap<>();
+      VariableProjectionUtil.collectVariableTypes(execution, result.variableTypes, variablesToFetch, isLocal);
+    } else {
+      execution.collectVariables(result.variables, variablesToFetch, isLocal, deserializeVariables);
+      VariableProjectionUtil.projectVariables(result.variables, variableProjections);
+    }
 
     if(includeExtensionProperties) {
       result.extensionProperties = (Map<String, String>) execution.getActivity().getProperty(BpmnProperties.EXTENSION_PROPERTIES.getName());
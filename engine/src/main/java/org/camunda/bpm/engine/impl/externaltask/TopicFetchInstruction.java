@@ -51,6 +51,8 @@ public class TopicFetchInstruction implements Serializable {
   protected boolean deserializeVariables = false;
   protected boolean localVariables = false;
   protected boolean includeExtensionProperties = false;
+  protected boolean lazyVariables = false;
+  protected Map<String, String> variableProjections;
 
   public TopicFetchInstruction(String topicName, long lockDuration) {
     this.topicName = topicName;
@@ -191,4 +193,20 @@ public class TopicFetchInstruction implements Serializable {
     this.includeExtensionProperties = includeExtensionProperties;
   }
 
+  public boolean isLazyVariables() {
+    return lazyVariables;
+  }
+
+  public void setLazyVariables(boolean lazyVariables) {
+    this.lazyVariables = lazyVariables;
+  }
+
+  public Map<String, String> getVariableProjections() {
+    return variableProjections;
+  }
+
+  public void setVariableProjections(Map<String, String> variableProjections) {
+    this.variableProjections = variableProjections;
+  }
+
 }
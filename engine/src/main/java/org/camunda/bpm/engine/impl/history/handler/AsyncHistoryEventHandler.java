@@ -0,0 +1,877 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.impl.history.handler;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.camunda.bpm.engine.impl.ProcessEngineLogger;
+import org.camunda.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.camunda.bpm.engine.impl.context.Context;
+import org.camunda.bpm.engine.impl.db.EnginePersistenceLogger;
+import org.camunda.bpm.engine.impl.db.entitymanager.DbEntityManager;
+import org.camunda.bpm.engine.impl.db.entitymanager.cache.CachedDbEntity;
+import org.camunda.bpm.engine.impl.db.entitymanager.cache.DbEntityCache;
+import org.camunda.bpm.engine.impl.db.entitymanager.cache.DbEntityState;
+import org.camunda.bpm.engine.impl.history.event.HistoricDecisionEvaluationEvent;
+import org.camunda.bpm.engine.impl.history.event.HistoricScopeInstanceEvent;
+import org.camunda.bpm.engine.impl.history.event.HistoricVariableUpdateEventEntity;
+import org.camunda.bpm.engine.impl.history.event.HistoryEvent;
+import org.camunda.bpm.engine.impl.interceptor.CommandContext;
+import org.camunda.bpm.engine.impl.interceptor.CommandExecutor;
+import org.camunda.bpm.engine.impl.persistence.entity.HistoryOutboxEntryEntity;
+import org.camunda.bpm.engine.impl.persistence.entity.HistoryOutboxManager;
+import org.camunda.bpm.engine.impl.util.ClockUtil;
+import org.camunda.bpm.engine.impl.util.EnsureUtil;
+
+/**
+ * <p>History event handler that decouples writing history events from the
+ * transaction of the command which produced them.</p>
+ *
+ * <p>Every event is copied when it is handled, so later changes of the event in the
+ * same transaction are handed over as separate snapshots. When the transaction is
+ * flushed, the snapshots are written to the history outbox table
+ * (<code>ACT_RU_HIST_OUTBOX</code>) in the same transaction and kept in a bounded
+ * in-memory queue. Background writers pass the queued events in batches to a
+ * delegate handler, usually the {@link DbHistoryEventHandler}, and delete their
+ * outbox entries in the same new transaction. The queues are partitioned by process
+ * instance and each partition is written by a single writer in commit order, so the
+ * events of a process instance are written in the order they were produced.</p>
+ *
+ * <p>If a partition is full, committing transactions do not wait. Only a reference to
+ * their outbox entry is queued and the writer reads the events from the outbox. Outbox
+ * entries which are left when the process engine terminates without being closed are
+ * written when the process engine with the same owner starts again. The owner must
+ * therefore be unique and stable for every process engine of a cluster. It defaults to
+ * the hostname of the process engine configuration followed by the name of the process
+ * engine and can be set with {@link ProcessEngineConfigurationImpl#setAsyncHistoryOwner(String)}.
+ * If the hostname changes between restarts or a node is removed for good, the entries of
+ * its former owner are only written after {@link #recoverOutboxEntries(String)} is called
+ * for that owner on another node.</p>
+ *
+ * <p>Decision evaluation events and events which cannot be serialized are written in
+ * the transaction which produced them. The events of transactions which commit while
+ * the handler is not running are written in that transaction, too.</p>
+ *
+ * <p>*Note*: history is eventually consistent with this handler. Queries may not see
+ * the events of recently committed transactions.</p>
+ */
+public class AsyncHistoryEventHandler implements HistoryEventHandler {
+
+  protected static final EnginePersistenceLogger LOG = ProcessEngineLogger.PERSISTENCE_LOGGER;
+
+  public static final int DEFAULT_PARTITION_COUNT = 1;
+  public static final int DEFAULT_QUEUE_CAPACITY = 10000;
+  public static final int DEFAULT_BATCH_SIZE = 500;
+  public static final long DEFAULT_FLUSH_INTERVAL = 100;
+
+  protected final HistoryEventHandler delegate;
+
+  protected int partitionCount = DEFAULT_PARTITION_COUNT;
+  protected int queueCapacity = DEFAULT_QUEUE_CAPACITY;
+  protected int batchSize = DEFAULT_BATCH_SIZE;
+  protected long flushInterval = DEFAULT_FLUSH_INTERVAL;
+  protected String owner;
+
+  protected CommandExecutor commandExecutor;
+  protected Partition[] partitions;
+  protected volatile boolean running;
+  protected final AtomicLong sequence = new AtomicLong();
+
+  protected final LongAdder writtenEventCount = new LongAdder();
+  protected final LongAdder failedEventCount = new LongAdder();
+  protected final LongAdder batchCount = new LongAdder();
+  protected final LongAdder backPressureCount = new LongAdder();
+
+  /**
+   * @param delegate the handler which writes the events
+   */
+  public AsyncHistoryEventHandler(HistoryEventHandler delegate) {
+    this.delegate = delegate;
+  }
+
+  // handle events //////////////////////////////////////////////////////////
+
+  @Override
+  public void handleEvent(HistoryEvent historyEvent) {
+    if (!running || historyEvent instanceof HistoricDecisionEvaluationEvent) {
+      delegate.handleEvent(historyEvent);
+      return;
+    }
+
+    CommandContext commandContext = Context.getCommandContext();
+    // open the entity manager first, so that the session is flushed before it
+    DbEntityManager dbEntityManager = commandContext.getDbEntityManager();
+    AsyncHistoryEventSession session = commandContext.getSession(AsyncHistoryEventSession.class);
+    if (session.isFlushed()) {
+      // the entity manager is flushed after the session
+      delegate.handleEvent(historyEvent);
+      return;
+    }
+
+    byte[] snapshot;
+    try {
+      snapshot = serialize(historyEvent);
+    } catch (IOException e) {
+      LOG.asyncHistoryEventNotSerializable(historyEvent, e);
+      delegate.handleEvent(historyEvent);
+      return;
+    }
+
+    registerInEntityCache(dbEntityManager, historyEvent);
+    session.addEvent(this, partitionIndex(historyEvent), snapshot);
+  }
+
+  @Override
+  public void handleEvents(List<HistoryEvent> historyEvents) {
+    for (HistoryEvent historyEvent : historyEvents) {
+      handleEvent(historyEvent);
+    }
+  }
+
+  /**
+   * The history event producers update events of the current transaction which are
+   * cached by the entity manager instead of creating new ones. The events are put into
+   * the cache as persistent entities which do not cause any database operations,
+   * so that the producers behave like with the {@link DbHistoryEventHandler}.
+   */
+  protected void registerInEntityCache(DbEntityManager dbEntityManager, HistoryEvent historyEvent) {
+    if (historyEvent.getId() == null || historyEvent instanceof HistoricVariableUpdateEventEntity) {
+      return;
+    }
+
+    if (dbEntityManager.getCachedEntity(historyEvent.getClass(), historyEvent.getId()) == null) {
+      dbEntityManager.getDbEntityCache().putPersistent(historyEvent);
+    }
+  }
+
+  // transaction callbacks //////////////////////////////////////////////////
+
+  /**
+   * Writes the snapshots of a flushing transaction to the outbox and reserves their
+   * place in the queues of their partitions. Never blocks: if a partition is full,
+   * only the reference to the outbox entry is queued.
+   *
+   * @param pendingEvents receives the reserved events, also if reserving fails for a later partition
+   */
+  protected void reserve(HistoryOutboxManager outboxManager, Map<Integer, List<byte[]>> snapshotsByPartition, List<PendingEvents> pendingEvents) {
+    for (Map.Entry<Integer, List<byte[]>> partitionSnapshots : snapshotsByPartition.entrySet()) {
+      List<byte[]> snapshots = partitionSnapshots.getValue();
+
+      HistoryOutboxEntryEntity outboxEntry = new HistoryOutboxEntryEntity();
+      outboxEntry.setOwner(owner);
+      outboxEntry.setSequence(sequence.getAndIncrement());
+      outboxEntry.setEventCount(snapshots.size());
+      outboxEntry.setCreateTime(ClockUtil.getCurrentTime());
+      try {
+        outboxEntry.setPayload(serialize(new ArrayList<>(snapshots)));
+      } catch (IOException e) {
+        throw LOG.asyncHistoryOutboxEntryException(e);
+      }
+      outboxManager.insertEntry(outboxEntry);
+
+      Partition partition = partitions[partitionSnapshots.getKey()];
+      pendingEvents.add(partition.reserve(new PendingEvents(partition, outboxEntry.getId(), snapshots)));
+    }
+  }
+
+  protected void commit(List<PendingEvents> pendingEvents) {
+    for (PendingEvents events : pendingEvents) {
+      events.partition.commit(events);
+    }
+  }
+
+  protected void rollback(List<PendingEvents> pendingEvents) {
+    for (PendingEvents events : pendingEvents) {
+      events.partition.rollback(events);
+    }
+  }
+
+  protected int partitionIndex(HistoryEvent event) {
+    String key = event.getProcessInstanceId();
+    if (key == null) {
+      key = event.getCaseInstanceId();
+    }
+    if (key == null) {
+      key = event.getId();
+    }
+    if (key == null) {
+      return 0;
+    }
+    return (key.hashCode() & Integer.MAX_VALUE) % partitions.length;
+  }
+
+  // writing ////////////////////////////////////////////////////////////////
+
+  /**
+   * Writes the events in a new transaction which also deletes their outbox entries.
+   * If that fails, the events are written transaction by transaction and event by event.
+   * Events which still cannot be written are dropped.
+   */
+  protected void write(List<PendingEvents> pendingEvents) {
+    try {
+      writeInNewTransaction(pendingEvents);
+
+    } catch (Exception e) {
+      LOG.asyncHistoryBatchFailed(countEvents(pendingEvents), e);
+
+      for (PendingEvents events : pendingEvents) {
+        try {
+          writeInNewTransaction(Collections.singletonList(events));
+        } catch (Exception transactionException) {
+          writeEventByEvent(events);
+        }
+      }
+    }
+    batchCount.increment();
+  }
+
+  protected void writeInNewTransaction(List<PendingEvents> pendingEvents) {
+    int eventCount = commandExecutor.execute(commandContext -> {
+      HistoryOutboxManager outboxManager = commandContext.getSession(HistoryOutboxManager.class);
+
+      List<HistoryEvent> events = new ArrayList<>();
+      List<String> outboxEntryIds = new ArrayList<>();
+      for (PendingEvents pending : pendingEvents) {
+        List<byte[]> snapshots = getSnapshots(outboxManager, pending);
+        if (snapshots != null) {
+          events.addAll(deserializeEvents(snapshots));
+          outboxEntryIds.add(pending.outboxEntryId);
+        }
+      }
+
+      writeEvents(commandContext, events);
+      outboxManager.deleteEntriesByIds(outboxEntryIds);
+      return events.size();
+    });
+    writtenEventCount.add(eventCount);
+  }
+
+  protected void writeEventByEvent(PendingEvents pendingEvents) {
+    List<HistoryEvent> events;
+    try {
+      events = commandExecutor.execute(commandContext -> {
+        List<byte[]> snapshots = getSnapshots(commandContext.getSession(HistoryOutboxManager.class), pendingEvents);
+        return snapshots != null ? deserializeEvents(snapshots) : Collections.<HistoryEvent>emptyList();
+      });
+    } catch (Exception e) {
+      LOG.asyncHistoryOutboxEntryDropped(pendingEvents.outboxEntryId, e);
+      failedEventCount.add(pendingEvents.eventCount);
+      events = Collections.emptyList();
+    }
+
+    for (HistoryEvent event : events) {
+      try {
+        commandExecutor.execute(commandContext -> {
+          writeEvents(commandContext, Collections.singletonList(event));
+          return null;
+        });
+        writtenEventCount.increment();
+
+      } catch (Exception eventException) {
+        LOG.asyncHistoryEventDropped(event, eventException);
+        failedEventCount.increment();
+      }
+    }
+
+    try {
+      commandExecutor.execute(commandContext -> {
+        commandContext.getSession(HistoryOutboxManager.class)
+          .deleteEntriesByIds(Collections.singletonList(pendingEvents.outboxEntryId));
+        return null;
+      });
+    } catch (Exception e) {
+      LOG.asyncHistoryOutboxEntryDropped(pendingEvents.outboxEntryId, e);
+    }
+  }
+
+  /**
+   * @return the snapshots of the queue or of the outbox entry, or {@code null} if the
+   *   outbox entry was already written
+   */
+  protected List<byte[]> getSnapshots(HistoryOutboxManager outboxManager, PendingEvents pendingEvents) {
+    if (pendingEvents.snapshots != null) {
+      return pendingEvents.snapshots;
+    }
+
+    HistoryOutboxEntryEntity outboxEntry = outboxManager.findEntryById(pendingEvents.outboxEntryId);
+    if (outboxEntry == null) {
+      return null;
+    }
+    return deserializeSnapshots(outboxEntry.getPayload());
+  }
+
+  /**
+   * Hands the events to the delegate. The snapshots of an entity are written as separate
+   * inserts and updates. If an earlier snapshot of the entity is already cached in this
+   * transaction, the later snapshot replaces it, so that the pending insert or update
+   * writes the latest state.
+   */
+  protected void writeEvents(CommandContext commandContext, List<HistoryEvent> events) {
+    DbEntityManager dbEntityManager = commandContext.getDbEntityManager();
+    for (HistoryEvent event : events) {
+      replaceCachedSnapshot(dbEntityManager, event);
+      delegate.handleEvent(event);
+    }
+  }
+
+  protected void replaceCachedSnapshot(DbEntityManager dbEntityManager, HistoryEvent event) {
+    if (event.getId() == null || event instanceof HistoricVariableUpdateEventEntity) {
+      return;
+    }
+
+    DbEntityCache dbEntityCache = dbEntityManager.getDbEntityCache();
+    CachedDbEntity cachedEntity = dbEntityCache.getCachedEntity(event.getClass(), event.getId());
+    if (cachedEntity == null || cachedEntity.getEntity() == event) {
+      return;
+    }
+
+    if (event instanceof HistoricScopeInstanceEvent && cachedEntity.getEntity() instanceof HistoricScopeInstanceEvent) {
+      // like the DbHistoryEventHandler, keep the start time of the existing event
+      HistoricScopeInstanceEvent cachedEvent = (HistoricScopeInstanceEvent) cachedEntity.getEntity();
+      if (cachedEvent.getStartTime() != null) {
+        ((HistoricScopeInstanceEvent) event).setStartTime(cachedEvent.getStartTime());
+      }
+    }
+
+    DbEntityState entityState = cachedEntity.getEntityState();
+    if (entityState == DbEntityState.TRANSIENT || entityState == DbEntityState.MERGED) {
+      cachedEntity.setEntity(event);
+    } else if (entityState == DbEntityState.PERSISTENT) {
+      dbEntityManager.merge(event);
+    }
+  }
+
+  protected int countEvents(List<PendingEvents> pendingEvents) {
+    int count = 0;
+    for (PendingEvents events : pendingEvents) {
+      count += events.eventCount;
+    }
+    return count;
+  }
+
+  // serialization //////////////////////////////////////////////////////////
+
+  protected byte[] serialize(Object value) throws IOException {
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    try (ObjectOutputStream objectOutputStream = new ObjectOutputStream(outputStream)) {
+      objectOutputStream.writeObject(value);
+    }
+    return outputStream.toByteArray();
+  }
+
+  protected Object deserialize(byte[] bytes) throws IOException, ClassNotFoundException {
+    try (ObjectInputStream objectInputStream = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+      return objectInputStream.readObject();
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  protected List<byte[]> deserializeSnapshots(byte[] payload) {
+    try {
+      return (List<byte[]>) deserialize(payload);
+    } catch (IOException | ClassNotFoundException e) {
+      throw LOG.asyncHistoryOutboxEntryException(e);
+    }
+  }
+
+  protected List<HistoryEvent> deserializeEvents(List<byte[]> snapshots) {
+    List<HistoryEvent> events = new ArrayList<>(snapshots.size());
+    for (byte[] snapshot : snapshots) {
+      try {
+        events.add((HistoryEvent) deserialize(snapshot));
+      } catch (IOException | ClassNotFoundException e) {
+        throw LOG.asyncHistoryOutboxEntryException(e);
+      }
+    }
+    return events;
+  }
+
+  // lifecycle //////////////////////////////////////////////////////////////
+
+  /**
+   * Writes the outbox entries which are left from a previous run of this owner and
+   * starts the writers. Until then, events are handled synchronously by the delegate.
+   *
+   * @param commandExecutor executes the commands which write the events; must start a new transaction
+   */
+  public synchronized void start(CommandExecutor commandExecutor) {
+    if (running) {
+      return;
+    }
+    this.commandExecutor = commandExecutor;
+
+    if (partitions == null) {
+      partitions = new Partition[Math.max(1, partitionCount)];
+      for (int i = 0; i < partitions.length; i++) {
+        partitions[i] = new Partition();
+      }
+    }
+
+    recoverOutboxEntries();
+
+    running = true;
+    for (int i = 0; i < partitions.length; i++) {
+      Thread writer = new Thread(partitions[i], "camunda-history-writer-" + i);
+      writer.setDaemon(true);
+      partitions[i].writer = writer;
+      writer.start();
+    }
+  }
+
+  /**
+   * Writes the outbox entries of this owner in the order they were committed, before
+   * any new events are queued.
+   */
+  protected void recoverOutboxEntries() {
+    writeOutboxEntries(owner);
+
+    Long maxSequence = commandExecutor.execute(commandContext ->
+        commandContext.getSession(HistoryOutboxManager.class).findMaxSequenceByOwner(owner));
+    sequence.set(maxSequence != null ? maxSequence + 1 : 0);
+  }
+
+  /**
+   * Takes over the outbox entries of an owner which does not start again, e.g. a removed
+   * node of a cluster, and writes them in the order they were committed. The process
+   * engine of that owner must not be running.
+   *
+   * @param formerOwner the owner of the outbox entries
+   */
+  public synchronized void recoverOutboxEntries(String formerOwner) {
+    EnsureUtil.ensureNotNull("formerOwner", formerOwner);
+    EnsureUtil.ensureNotNull("commandExecutor", commandExecutor);
+    if (formerOwner.equals(owner)) {
+      throw LOG.asyncHistoryOwnOutboxEntriesRecoveryException(owner);
+    }
+    writeOutboxEntries(formerOwner);
+  }
+
+  protected void writeOutboxEntries(String owner) {
+    List<String> outboxEntryIds = commandExecutor.execute(commandContext ->
+        commandContext.getSession(HistoryOutboxManager.class).findEntryIdsByOwner(owner));
+
+    if (!outboxEntryIds.isEmpty()) {
+      LOG.asyncHistoryOutboxEntriesRecovered(outboxEntryIds.size(), owner);
+
+      List<PendingEvents> batch = new ArrayList<>();
+      for (String outboxEntryId : outboxEntryIds) {
+        batch.add(new PendingEvents(partitions[0], outboxEntryId, null));
+        if (batch.size() >= batchSize) {
+          write(batch);
+          batch = new ArrayList<>();
+        }
+      }
+      if (!batch.isEmpty()) {
+        write(batch);
+      }
+    }
+  }
+
+  /**
+   * Stops the writers after all committed events are written.
+   */
+  public synchronized void stop() {
+    if (!running) {
+      return;
+    }
+    running = false;
+
+    for (Partition partition : partitions) {
+      partition.wakeUp();
+    }
+    for (Partition partition : partitions) {
+      try {
+        partition.writer.join();
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+
+      List<PendingEvents> remainingEvents = partition.drainCommitted();
+      if (!remainingEvents.isEmpty()) {
+        write(remainingEvents);
+      }
+    }
+  }
+
+  public boolean isRunning() {
+    return running;
+  }
+
+  // metrics ////////////////////////////////////////////////////////////////
+
+  /**
+   * @return the number of events which are queued and not written yet, including the
+   *   events which are only queued as a reference to their outbox entry
+   */
+  public int getQueueSize() {
+    int queueSize = 0;
+    if (partitions != null) {
+      for (Partition partition : partitions) {
+        queueSize += partition.size();
+      }
+    }
+    return queueSize;
+  }
+
+  /**
+   * @return the time in milliseconds the oldest queued event is waiting to be written
+   */
+  public long getLag() {
+    long oldestEnqueueTime = Long.MAX_VALUE;
+    if (partitions != null) {
+      for (Partition partition : partitions) {
+        oldestEnqueueTime = Math.min(oldestEnqueueTime, partition.oldestEnqueueTime());
+      }
+    }
+    return oldestEnqueueTime == Long.MAX_VALUE ? 0 : Math.max(0, System.currentTimeMillis() - oldestEnqueueTime);
+  }
+
+  public long getWrittenEventCount() {
+    return writtenEventCount.sum();
+  }
+
+  /**
+   * @return the number of events which could not be written and were dropped
+   */
+  public long getFailedEventCount() {
+    return failedEventCount.sum();
+  }
+
+  public long getBatchCount() {
+    return batchCount.sum();
+  }
+
+  /**
+   * @return the number of transactions whose events did not fit into the queue and are
+   *   read from the outbox by the writer
+   */
+  public long getBackPressureCount() {
+    return backPressureCount.sum();
+  }
+
+  // configuration //////////////////////////////////////////////////////////
+
+  public HistoryEventHandler getDelegate() {
+    return delegate;
+  }
+
+  public int getPartitionCount() {
+    return partitionCount;
+  }
+
+  public void setPartitionCount(int partitionCount) {
+    this.partitionCount = partitionCount;
+  }
+
+  public int getQueueCapacity() {
+    return queueCapacity;
+  }
+
+  /**
+   * @param queueCapacity the maximum number of events per partition which are kept in memory
+   */
+  public void setQueueCapacity(int queueCapacity) {
+    this.queueCapacity = queueCapacity;
+  }
+
+  public int getBatchSize() {
+    return batchSize;
+  }
+
+  public void setBatchSize(int batchSize) {
+    this.batchSize = batchSize;
+  }
+
+  public long getFlushInterval() {
+    return flushInterval;
+  }
+
+  /**
+   * @param flushInterval the time in milliseconds a writer waits for a full batch
+   */
+  public void setFlushInterval(long flushInterval) {
+    this.flushInterval = flushInterval;
+  }
+
+  public String getOwner() {
+    return owner;
+  }
+
+  /**
+   * @param owner identifies the outbox entries of this handler; must be unique and stable
+   *   for every process engine of a cluster
+   */
+  public void setOwner(String owner) {
+    this.owner = owner;
+  }
+
+  // partition //////////////////////////////////////////////////////////////
+
+  protected static final int PENDING = 0;
+  protected static final int COMMITTED = 1;
+  protected static final int ROLLED_BACK = 2;
+
+  /**
+   * The events of a transaction for a single partition, stored in one outbox entry.
+   */
+  protected static class PendingEvents {
+
+    protected final Partition partition;
+    protected final String outboxEntryId;
+    protected final int eventCount;
+    /** the snapshots of the events or {@code null} if they must be read from the outbox */
+    protected List<byte[]> snapshots;
+    protected long enqueueTime;
+    protected int state = PENDING;
+    protected boolean queued;
+
+    protected PendingEvents(Partition partition, String outboxEntryId, List<byte[]> snapshots) {
+      this.partition = partition;
+      this.outboxEntryId = outboxEntryId;
+      this.snapshots = snapshots;
+      this.eventCount = snapshots != null ? snapshots.size() : 0;
+    }
+
+    protected int memoryEventCount() {
+      return snapshots != null ? eventCount : 0;
+    }
+  }
+
+  /**
+   * A queue of events which is written by a single writer thread. The queue is
+   * ordered by the time the transactions were flushed. The writer only takes
+   * events from the head of the queue up to the first transaction which is still
+   * committing.
+   */
+  protected class Partition implements Runnable {
+
+    protected final ReentrantLock lock = new ReentrantLock();
+    protected final Condition notEmpty = lock.newCondition();
+
+    protected final ArrayDeque<PendingEvents> queue = new ArrayDeque<>();
+    /** the number of events whose snapshots are kept in memory */
+    protected int memoryEventCount;
+    protected int queuedEventCount;
+    protected Thread writer;
+
+    protected PendingEvents reserve(PendingEvents pendingEvents) {
+      lock.lock();
+      try {
+        if (running) {
+          if (memoryEventCount > 0 && memoryEventCount + pendingEvents.eventCount > queueCapacity) {
+            // the events are read from the outbox by the writer
+            pendingEvents.snapshots = null;
+            backPressureCount.increment();
+          }
+          pendingEvents.enqueueTime = System.currentTimeMillis();
+          pendingEvents.queued = true;
+          queue.add(pendingEvents);
+          memoryEventCount += pendingEvents.memoryEventCount();
+          queuedEventCount += pendingEvents.eventCount;
+        }
+      } finally {
+        lock.unlock();
+      }
+
+      return pendingEvents;
+    }
+
+    protected void commit(PendingEvents pendingEvents) {
+      lock.lock();
+      try {
+        pendingEvents.state = COMMITTED;
+        if (pendingEvents.queued) {
+          if (running) {
+            notEmpty.signal();
+            return;
+          }
+          if (!dequeue(pendingEvents)) {
+            // already taken by the writer
+            return;
+          }
+        }
+      } finally {
+        lock.unlock();
+      }
+
+      // the handler was stopped in the meantime
+      write(Collections.singletonList(pendingEvents));
+    }
+
+    protected void rollback(PendingEvents pendingEvents) {
+      lock.lock();
+      try {
+        pendingEvents.state = ROLLED_BACK;
+        if (pendingEvents.queued) {
+          if (running) {
+            notEmpty.signal();
+          } else {
+            dequeue(pendingEvents);
+          }
+        }
+      } finally {
+        lock.unlock();
+      }
+    }
+
+    protected boolean dequeue(PendingEvents pendingEvents) {
+      if (queue.remove(pendingEvents)) {
+        removed(pendingEvents);
+        return true;
+      }
+      return false;
+    }
+
+    protected void removed(PendingEvents pendingEvents) {
+      memoryEventCount -= pendingEvents.memoryEventCount();
+      queuedEventCount -= pendingEvents.eventCount;
+    }
+
+    protected void wakeUp() {
+      lock.lock();
+      try {
+        notEmpty.signal();
+      } finally {
+        lock.unlock();
+      }
+    }
+
+    /**
+     * Takes all committed events from the queue of a stopped partition. Events of
+     * transactions which are still committing are written on commit.
+     */
+    protected List<PendingEvents> drainCommitted() {
+      lock.lock();
+      try {
+        List<PendingEvents> committedEvents = new ArrayList<>();
+        Iterator<PendingEvents> iterator = queue.iterator();
+        while (iterator.hasNext()) {
+          PendingEvents pendingEvents = iterator.next();
+          if (pendingEvents.state != PENDING) {
+            iterator.remove();
+            removed(pendingEvents);
+            if (pendingEvents.state == COMMITTED) {
+              committedEvents.add(pendingEvents);
+            }
+          }
+        }
+        return committedEvents;
+      } finally {
+        lock.unlock();
+      }
+    }
+
+    @Override
+    public void run() {
+      while (true) {
+        List<PendingEvents> batch;
+        try {
+          batch = awaitBatch();
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          return;
+        }
+
+        if (!batch.isEmpty()) {
+          write(batch);
+        } else if (!running) {
+          // events of transactions which are still committing are written on commit
+          return;
+        }
+      }
+    }
+
+    /**
+     * Waits until a full batch of committed events is available or the flush
+     * interval elapsed, and takes the committed events from the head of the queue.
+     */
+    protected List<PendingEvents> awaitBatch() throws InterruptedException {
+      lock.lock();
+      try {
+        long remaining = TimeUnit.MILLISECONDS.toNanos(flushInterval);
+        while (running && remaining > 0 && countCommittedEvents() < batchSize) {
+          remaining = notEmpty.awaitNanos(remaining);
+        }
+
+        List<PendingEvents> batch = new ArrayList<>();
+        int batchEventCount = 0;
+        PendingEvents head = queue.peek();
+        while (head != null && head.state != PENDING && batchEventCount < batchSize) {
+          queue.poll();
+          removed(head);
+          if (head.state == COMMITTED) {
+            batch.add(head);
+            batchEventCount += head.eventCount;
+          }
+          head = queue.peek();
+        }
+
+        return batch;
+      } finally {
+        lock.unlock();
+      }
+    }
+
+    protected int countCommittedEvents() {
+      int count = 0;
+      for (PendingEvents pendingEvents : queue) {
+        if (pendingEvents.state == PENDING || count >= batchSize) {
+          break;
+        }
+        if (pendingEvents.state == COMMITTED) {
+          count += pendingEvents.eventCount;
+        }
+      }
+      return count;
+    }
+
+    protected int size() {
+      lock.lock();
+      try {
+        return queuedEventCount;
+      } finally {
+        lock.unlock();
+      }
+    }
+
+    protected long oldestEnqueueTime() {
+      lock.lock();
+      try {
+        PendingEvents head = queue.peek();
+        return head != null ? head.enqueueTime : Long.MAX_VALUE;
+      } finally {
+        lock.unlock();
+      }
+    }
+  }
+
+}
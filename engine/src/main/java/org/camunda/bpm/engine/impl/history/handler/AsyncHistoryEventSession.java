@@ -0,0 +1,98 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.impl.history.handler;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.camunda.bpm.engine.impl.cfg.TransactionContext;
+import org.camunda.bpm.engine.impl.cfg.TransactionState;
+import org.camunda.bpm.engine.impl.context.Context;
+import org.camunda.bpm.engine.impl.history.handler.AsyncHistoryEventHandler.PendingEvents;
+import org.camunda.bpm.engine.impl.interceptor.CommandContext;
+import org.camunda.bpm.engine.impl.interceptor.Session;
+import org.camunda.bpm.engine.impl.persistence.entity.HistoryOutboxManager;
+
+/**
+ * <p>Collects the snapshots of the history events of a transaction for the
+ * {@link AsyncHistoryEventHandler}.</p>
+ *
+ * <p>The snapshots are written to the history outbox and reserve their place in the
+ * queues of the handler when the session is flushed. The session is flushed before
+ * the entity manager, so the outbox entries are part of the transaction. The events
+ * are released to the writer once the transaction is committed and discarded if it
+ * is rolled back.</p>
+ */
+public class AsyncHistoryEventSession implements Session {
+
+  protected AsyncHistoryEventHandler handler;
+  protected HistoryOutboxManager outboxManager;
+  protected Map<Integer, List<byte[]>> snapshotsByPartition = new TreeMap<>();
+  protected List<PendingEvents> pendingEvents;
+  protected boolean flushed;
+
+  public void addEvent(AsyncHistoryEventHandler handler, int partitionIndex, byte[] snapshot) {
+    if (this.handler == null) {
+      this.handler = handler;
+
+      CommandContext commandContext = Context.getCommandContext();
+      outboxManager = commandContext.getSession(HistoryOutboxManager.class);
+
+      TransactionContext transactionContext = commandContext.getTransactionContext();
+      transactionContext.addTransactionListener(TransactionState.COMMITTED, context -> commit());
+      transactionContext.addTransactionListener(TransactionState.ROLLED_BACK, context -> rollback());
+    }
+    snapshotsByPartition.computeIfAbsent(partitionIndex, index -> new ArrayList<>()).add(snapshot);
+  }
+
+  public boolean isFlushed() {
+    return flushed;
+  }
+
+  protected void commit() {
+    if (pendingEvents != null) {
+      handler.commit(pendingEvents);
+    }
+  }
+
+  protected void rollback() {
+    if (pendingEvents != null) {
+      handler.rollback(pendingEvents);
+    }
+  }
+
+  @Override
+  public void flush() {
+    if (flushed) {
+      return;
+    }
+    flushed = true;
+
+    if (handler != null) {
+      pendingEvents = new ArrayList<>();
+      handler.reserve(outboxManager, snapshotsByPartition, pendingEvents);
+    }
+  }
+
+  @Override
+  public void close() {
+    // nothing to do
+  }
+
+}
@@ -110,6 +110,7 @@ public class CommandContext {
   protected boolean authorizationCheckEnabled = true;
   protected boolean userOperationLogEnabled = true;
   protected boolean tenantCheckEnabled = true;
+  protected boolean decisionHistoryEnabled = true;
   protected boolean restrictUserOperationLogToAuthenticatedUsers;
 
   protected TransactionContext transactionContext;
@@ -631,6 +632,18 @@ public class CommandContext {
     return tenantCheckEnabled;
   }
 
+  public void enableDecisionHistory() {
+    decisionHistoryEnabled = true;
+  }
+
+  public void disableDecisionHistory() {
+    decisionHistoryEnabled = false;
+  }
+
+  public boolean isDecisionHistoryEnabled() {
+    return decisionHistoryEnabled;
+  }
+
   public JobEntity getCurrentJob() {
     return currentJob;
   }
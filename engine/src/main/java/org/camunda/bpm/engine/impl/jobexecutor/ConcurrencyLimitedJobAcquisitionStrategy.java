@@ -0,0 +1,63 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.impl.jobexecutor;
+
+/**
+ * <p>A {@link BackoffJobAcquisitionStrategy} that never acquires more jobs than the
+ * {@link VirtualThreadJobExecutor} is currently able to execute.</p>
+ *
+ * <p>Instead of acquiring jobs that are rejected afterwards because all permits are taken,
+ * the number of jobs to acquire is limited by the free permits. When no permit is free,
+ * the acquisition waits for the execution saturation wait time or until a running job
+ * releases its permit.</p>
+ */
+public class ConcurrencyLimitedJobAcquisitionStrategy extends BackoffJobAcquisitionStrategy {
+
+  protected VirtualThreadJobExecutor jobExecutor;
+
+  public ConcurrencyLimitedJobAcquisitionStrategy(VirtualThreadJobExecutor jobExecutor) {
+    super(jobExecutor);
+    this.jobExecutor = jobExecutor;
+  }
+
+  @Override
+  public void reconfigure(JobAcquisitionContext context) {
+    super.reconfigure(context);
+    executionSaturated = executionSaturated || jobExecutor.getAvailablePermits() == 0;
+  }
+
+  @Override
+  public long getWaitTime() {
+    if (executionSaturated) {
+      // idle and backoff times do not apply while no job could be executed anyway
+      return executionSaturationWaitTime;
+    }
+    else {
+      return super.getWaitTime();
+    }
+  }
+
+  @Override
+  public int getNumJobsToAcquire(String processEngine) {
+    int availablePermits = jobExecutor.getAvailablePermits();
+    if (availablePermits == 0) {
+      jobExecutor.markSaturated();
+    }
+    return Math.min(super.getNumJobsToAcquire(processEngine), availablePermits);
+  }
+
+}
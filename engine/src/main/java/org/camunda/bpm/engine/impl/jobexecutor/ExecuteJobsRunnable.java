@@ -20,13 +20,16 @@ import org.camunda.bpm.engine.ProcessEngine;
 import org.camunda.bpm.engine.impl.ProcessEngineImpl;
 import org.camunda.bpm.engine.impl.ProcessEngineLogger;
 import org.camunda.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.camunda.bpm.engine.impl.cmd.ExecuteJobBatchCmd;
 import org.camunda.bpm.engine.impl.cmd.ExecuteJobsCmd;
 import org.camunda.bpm.engine.impl.cmd.UnlockJobCmd;
 import org.camunda.bpm.engine.impl.context.Context;
 import org.camunda.bpm.engine.impl.interceptor.CommandExecutor;
 import org.camunda.bpm.engine.impl.interceptor.ProcessDataContext;
+import org.camunda.bpm.engine.impl.persistence.entity.JobEntity;
 import org.camunda.bpm.engine.impl.util.ClassLoaderUtil;
 
+import java.util.ArrayList;
 import java.util.List;
 
 
@@ -66,20 +69,19 @@ public class ExecuteJobsRunnable implements Runnable {
 
         String nextJobId = currentProcessorJobQueue.remove(0);
         if (jobExecutor.isActive()) {
-          JobFailureCollector jobFailureCollector = new JobFailureCollector(nextJobId);
-          try {
-            executeJob(nextJobId, commandExecutor, jobFailureCollector);
-          } catch(Throwable t) {
-            if (ProcessEngineLogger.shouldLogJobException(engineConfiguration, jobFailureCollector.getJob())) {
-              ExecuteJobHelper.LOGGING_HANDLER.exceptionWhileExecutingJob(nextJobId, t);
+          if (isJobBatchExecutionEnabled(engineConfiguration) && !currentProcessorJobQueue.isEmpty()) {
+            List<String> batchJobIds = new ArrayList<>();
+            batchJobIds.add(nextJobId);
+            while (batchJobIds.size() < engineConfiguration.getJobExecutionBatchSize()
+                && !currentProcessorJobQueue.isEmpty()) {
+              batchJobIds.add(currentProcessorJobQueue.remove(0));
             }
-          } finally {
-            /*
-             * clear MDC of potential leftovers from command execution
-             * that have not been cleared in Context#removeCommandInvocationContext()
-             * in case of exceptions in command execution
-             */
-            new ProcessDataContext(engineConfiguration).clearMdc();
+
+            for (String jobId : executeJobBatch(batchJobIds, commandExecutor)) {
+              executeSingleJob(jobId, commandExecutor, engineConfiguration);
+            }
+          } else {
+            executeSingleJob(nextJobId, commandExecutor, engineConfiguration);
           }
         } else {
             try {
@@ -102,6 +104,63 @@ public class ExecuteJobsRunnable implements Runnable {
     }
   }
 
+  protected void executeSingleJob(String jobId, CommandExecutor commandExecutor, ProcessEngineConfigurationImpl engineConfiguration) {
+    JobFailureCollector jobFailureCollector = new JobFailureCollector(jobId);
+    try {
+      executeJob(jobId, commandExecutor, jobFailureCollector);
+    } catch(Throwable t) {
+      if (ProcessEngineLogger.shouldLogJobException(engineConfiguration, jobFailureCollector.getJob())) {
+        ExecuteJobHelper.LOGGING_HANDLER.exceptionWhileExecutingJob(jobId, t);
+      }
+    } finally {
+      /*
+       * clear MDC of potential leftovers from command execution
+       * that have not been cleared in Context#removeCommandInvocationContext()
+       * in case of exceptions in command execution
+       */
+      new ProcessDataContext(engineConfiguration).clearMdc();
+    }
+  }
+
+  /**
+   * Note: this is a hook to be overridden by
+   * org.camunda.bpm.container.impl.threading.ra.inflow.JcaInflowExecuteJobsRunnable#isJobBatchExecutionEnabled(ProcessEngineConfigurationImpl)
+   * - where every job is executed through {@link #executeJob(String, CommandExecutor, JobFailureCollector)}
+   */
+  protected boolean isJobBatchExecutionEnabled(ProcessEngineConfigurationImpl engineConfiguration) {
+    return engineConfiguration.isJobExecutionBatchEnabled();
+  }
+
+  /**
+   * Executes the given jobs in a single transaction. If the transaction fails, the changes
+   * of all jobs are rolled back and the jobs are executed again one by one, so that the
+   * regular failure handling applies to the failing job only. The jobs executed before
+   * the failing one are therefore executed at least twice.
+   *
+   * @return the ids of the jobs that still have to be executed one by one, i.e. the jobs
+   * that could not be batched or all jobs if the transaction failed
+   */
+  protected List<String> executeJobBatch(List<String> jobIds, CommandExecutor commandExecutor) {
+    JobFailureCollector jobFailureCollector = new JobFailureCollector(null);
+    ExecuteJobBatchCmd cmd = new ExecuteJobBatchCmd(jobIds, jobFailureCollector);
+    try {
+      commandExecutor.execute(cmd);
+    } catch (Throwable t) {
+      JobEntity failedJob = jobFailureCollector.getJob();
+      LOG.debugFallbackToSingleJobExecution(jobIds, failedJob != null ? failedJob.getId() : null, t);
+      return jobIds;
+    } finally {
+      new ProcessDataContext(processEngine.getProcessEngineConfiguration()).clearMdc();
+    }
+
+    int executedJobs = cmd.getExecutedJobIds().size();
+    if (executedJobs > 0) {
+      commandExecutor.execute(new SuccessfulJobListener(executedJobs));
+    }
+
+    return cmd.getSkippedJobIds();
+  }
+
   /**
    * Note: this is a hook to be overridden by
    * org.camunda.bpm.container.impl.threading.ra.inflow.JcaInflowExecuteJobsRunnable.executeJob(String, CommandExecutor)
@@ -389,4 +389,12 @@ public abstract class JobExecutor {
     return new ExecuteJobsRunnable(jobIds, processEngine);
   }
 
+  /**
+   * @return the strategy that determines how many jobs are acquired per cycle and how long
+   * the acquisition waits between cycles
+   */
+  public JobAcquisitionStrategy createAcquisitionStrategy() {
+    return new BackoffJobAcquisitionStrategy(this);
+  }
+
 }
@@ -253,4 +253,53 @@ public class JobExecutorLogger extends ProcessEngineLogger {
     logDebug("040", "Arithmetic exception occurred while computing total queue capacity for logging.");
   }
 
+  public void virtualThreadsNotAvailable(String javaVersion) {
+    logInfo("041", "Virtual threads are not available on Java {}. Jobs are executed on platform threads instead.",
+        javaVersion);
+  }
+
+  public void listeningForJobNotifications(String channel) {
+    logDebug("042", "Listening for job notifications on channel '{}'", channel);
+  }
+
+  public void exceptionWhileListeningForJobNotifications(String channel, long reconnectDelay, Exception e) {
+    logWarn("043", "Exception while listening for job notifications on channel '{}'. Reconnecting in {} ms",
+        channel, reconnectDelay, e);
+  }
+
+  public void exceptionWhileNotifyingJobChannel(String channel, Exception e) {
+    logWarn("044", "Exception while notifying channel '{}' about added jobs", channel, e);
+  }
+
+  public void clusterJobNotificationNotSupported(String databaseType) {
+    logInfo("045", "Cluster job notification is not supported for database type '{}'. "
+        + "Job acquisition on other nodes continues to find new jobs by polling.", databaseType);
+  }
+
+  public ProcessEngineException invalidJobNotificationChannel(String channel) {
+    return new ProcessEngineException(exceptionMessage("046",
+        "Invalid job notification channel '{}'. The channel must be a lower case SQL identifier.", channel));
+  }
+
+  public void exceptionWhileRenewingJobPartitionLease(String leaseName, Exception e) {
+    logWarn("047", "Exception while renewing job partition lease '{}'. Acquiring jobs of all partitions until "
+        + "the next renewal", leaseName, e);
+  }
+
+  public void jobPartitionChanged(String leaseName, int partitionIndex, int partitionCount) {
+    logInfo("048", "Job partition lease '{}' acquires jobs of partition {} out of {} partitions", leaseName,
+        partitionIndex, partitionCount);
+  }
+
+  public void debugFallbackToSingleJobExecution(Collection<String> jobIds, String failedJobId, Throwable exception) {
+    logDebug("049", "Execution of job batch {} failed at job '{}', executing the jobs one by one: {}", jobIds,
+        failedJobId, exception.getMessage());
+  }
+
+  public ProcessEngineException exceptionWhileRestoringTransactionAfterJobNotification(String channel, Exception cause) {
+    return new ProcessEngineException(exceptionMessage("050",
+        "Could not roll back to the savepoint after notifying channel '{}' about added jobs failed. "
+        + "The transaction cannot be committed", channel), cause);
+  }
+
 }
@@ -0,0 +1,182 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.impl.jobexecutor;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.camunda.bpm.engine.impl.ProcessEngineLogger;
+import org.camunda.bpm.engine.impl.cmd.ReleaseJobPartitionLeaseCmd;
+import org.camunda.bpm.engine.impl.cmd.RenewJobPartitionLeaseCmd;
+import org.camunda.bpm.engine.impl.interceptor.CommandExecutor;
+import org.camunda.bpm.engine.impl.util.ClockUtil;
+
+/**
+ * <p>Assigns a hash partition of the jobs to the job acquisition of this node, so that the
+ * nodes of a cluster do not compete for the same jobs.</p>
+ *
+ * <p>Each node holds a lease, which is stored as a property with the name prefix
+ * {@link #LEASE_NAME_PREFIX} and the expiration time of the lease as value. The job
+ * acquisition renews the lease every {@link #renewalInterval} milliseconds and removes the
+ * expired leases of other nodes. The live leases, ordered by name, determine the partitions:
+ * the number of partitions is the number of live leases and the partition of a node is the
+ * position of its lease. Nodes joining or leaving the cluster therefore re-balance the
+ * partitions with the next renewal of the other nodes.</p>
+ *
+ * <p>Jobs are partitioned by their (root) process instance, so that all jobs which are
+ * executed exclusively to each other belong to the same partition. While the leases of
+ * the nodes are re-balanced, two nodes may acquire jobs of the same partition for a short
+ * time. This leads to the same optimistic locking failures as without partitioning but
+ * never to a job being executed twice. If the lease cannot be renewed, the node acquires
+ * jobs of all partitions.</p>
+ */
+public class JobPartitionLease {
+
+  private final static JobExecutorLogger LOG = ProcessEngineLogger.JOB_EXECUTOR_LOGGER;
+
+  public static final String LEASE_NAME_PREFIX = "job-partition.lease.";
+  public static final long DEFAULT_LEASE_TIME = 30000;
+  public static final long DEFAULT_RENEWAL_INTERVAL = 10000;
+
+  protected static final JobPartition ALL_JOBS = new JobPartition(0, 1);
+
+  protected String leaseName;
+  protected long leaseTime;
+  protected long renewalInterval;
+
+  protected volatile JobPartition partition = ALL_JOBS;
+  protected volatile long nextRenewal = 0;
+
+  public JobPartitionLease(long leaseTime, long renewalInterval) {
+    this(UUID.randomUUID().toString(), leaseTime, renewalInterval);
+  }
+
+  public JobPartitionLease(String leaseId, long leaseTime, long renewalInterval) {
+    this.leaseName = LEASE_NAME_PREFIX + leaseId;
+    this.leaseTime = leaseTime;
+    this.renewalInterval = renewalInterval;
+  }
+
+  /**
+   * Renews the lease if the renewal interval has passed since the last renewal and
+   * re-balances the partition of this node.
+   */
+  public void renewIfDue(CommandExecutor commandExecutor) {
+    long now = ClockUtil.getCurrentTime().getTime();
+    if (now >= nextRenewal) {
+      renew(commandExecutor);
+    }
+  }
+
+  public void renew(CommandExecutor commandExecutor) {
+    long now = ClockUtil.getCurrentTime().getTime();
+    try {
+      List<String> liveLeases = commandExecutor.execute(new RenewJobPartitionLeaseCmd(leaseName, leaseTime));
+      updatePartition(liveLeases);
+
+    } catch (Exception e) {
+      LOG.exceptionWhileRenewingJobPartitionLease(leaseName, e);
+      partition = ALL_JOBS;
+    }
+    nextRenewal = now + renewalInterval;
+  }
+
+  /**
+   * Removes the lease, so that the other nodes take over its partition with their next renewal.
+   */
+  public void release(CommandExecutor commandExecutor) {
+    if (nextRenewal > 0) {
+      commandExecutor.execute(new ReleaseJobPartitionLeaseCmd(leaseName));
+      partition = ALL_JOBS;
+      nextRenewal = 0;
+    }
+  }
+
+  protected void updatePartition(List<String> liveLeases) {
+    JobPartition newPartition = new JobPartition(liveLeases.indexOf(leaseName), liveLeases.size());
+    if (!newPartition.equals(partition)) {
+      LOG.jobPartitionChanged(leaseName, newPartition.getIndex(), newPartition.getCount());
+      partition = newPartition;
+    }
+  }
+
+  public JobPartition getPartition() {
+    return partition;
+  }
+
+  public String getLeaseName() {
+    return leaseName;
+  }
+
+  public long getLeaseTime() {
+    return leaseTime;
+  }
+
+  public long getRenewalInterval() {
+    return renewalInterval;
+  }
+
+  /**
+   * The partition of the jobs acquired by a node: all jobs with
+   * <code>hash(process instance id) mod count = index</code>.
+   */
+  public static class JobPartition {
+
+    protected final int index;
+    protected final int count;
+
+    public JobPartition(int index, int count) {
+      this.index = index;
+      this.count = count;
+    }
+
+    public int getIndex() {
+      return index;
+    }
+
+    public int getCount() {
+      return count;
+    }
+
+    public boolean isPartitioned() {
+      return count > 1;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (this == obj) {
+        return true;
+      }
+      if (!(obj instanceof JobPartition)) {
+        return false;
+      }
+      JobPartition other = (JobPartition) obj;
+      return index == other.index && count == other.count;
+    }
+
+    @Override
+    public int hashCode() {
+      return 31 * index + count;
+    }
+
+    @Override
+    public String toString() {
+      return "JobPartition[index=" + index + ", count=" + count + "]";
+    }
+  }
+
+}
@@ -121,7 +121,7 @@ public class SequentialJobAcquisitionRunnable extends AcquireJobsRunnable {
   }
 
   protected JobAcquisitionStrategy initializeAcquisitionStrategy() {
-    return new BackoffJobAcquisitionStrategy(jobExecutor);
+    return jobExecutor.createAcquisitionStrategy();
   }
 
   public JobAcquisitionContext getAcquisitionContext() {
@@ -155,6 +155,11 @@ public class SequentialJobAcquisitionRunnable extends AcquireJobsRunnable {
     CommandExecutor commandExecutor = currentProcessEngine.getProcessEngineConfiguration()
         .getCommandExecutorTxRequired();
 
+    JobPartitionLease jobPartitionLease = currentProcessEngine.getProcessEngineConfiguration().getJobPartitionLease();
+    if (jobPartitionLease != null) {
+      jobPartitionLease.renewIfDue(commandExecutor);
+    }
+
     int numJobsToAcquire = acquisitionStrategy.getNumJobsToAcquire(currentProcessEngine.getName());
 
     LOG.jobsToAcquire(currentProcessEngine.getName(), numJobsToAcquire);
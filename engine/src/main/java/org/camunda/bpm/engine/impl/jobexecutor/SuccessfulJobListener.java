@@ -26,6 +26,16 @@ import org.camunda.bpm.engine.management.Metrics;
  */
 public class SuccessfulJobListener implements Command<Void> {
 
+  protected long jobs;
+
+  public SuccessfulJobListener() {
+    this(1);
+  }
+
+  public SuccessfulJobListener(long jobs) {
+    this.jobs = jobs;
+  }
+
   public Void execute(CommandContext commandContext) {
     logJobSuccess(commandContext);
 
@@ -36,7 +46,7 @@ public class SuccessfulJobListener implements Command<Void> {
     if (commandContext.getProcessEngineConfiguration().isMetricsEnabled()) {
       commandContext.getProcessEngineConfiguration()
         .getMetricsRegistry()
-        .markOccurrence(Metrics.JOB_SUCCESSFUL);
+        .markOccurrence(Metrics.JOB_SUCCESSFUL, jobs);
     }
   }
 
@@ -0,0 +1,179 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.impl.jobexecutor;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.camunda.bpm.engine.impl.ProcessEngineImpl;
+import org.camunda.bpm.engine.impl.ProcessEngineLogger;
+
+/**
+ * <p>A {@link JobExecutor} that executes every acquired batch of jobs on its own
+ * virtual thread.</p>
+ *
+ * <p>Instead of a bounded thread pool and queue, the number of jobs in execution is
+ * limited by a semaphore with {@link #maxConcurrentJobs} permits. A batch holds one
+ * permit per job until it is completed. The job acquisition only acquires as many
+ * jobs as permits are free (see {@link ConcurrencyLimitedJobAcquisitionStrategy}) and
+ * is notified as soon as permits are released again after it found the executor
+ * saturated.</p>
+ *
+ * <p>Virtual threads require Java 21. On older runtimes, the jobs are executed on
+ * platform threads which are created on demand and are bounded by the same permits.</p>
+ */
+public class VirtualThreadJobExecutor extends JobExecutor {
+
+  private final static JobExecutorLogger LOG = ProcessEngineLogger.JOB_EXECUTOR_LOGGER;
+
+  protected int maxConcurrentJobs = 100;
+
+  protected ExecutorService executorService;
+  protected Semaphore permits;
+  protected AtomicBoolean saturated = new AtomicBoolean(false);
+
+  @Override
+  protected void startExecutingJobs() {
+    if (executorService == null || executorService.isShutdown()) {
+      permits = new Semaphore(maxConcurrentJobs);
+      saturated.set(false);
+      executorService = createExecutorService();
+    }
+
+    startJobAcquisitionThread();
+  }
+
+  @Override
+  protected void stopExecutingJobs() {
+    stopJobAcquisitionThread();
+
+    // Ask the executor to finish and exit
+    executorService.shutdown();
+
+    // Waits for 1 minute to finish all currently executing jobs
+    try {
+      if (!executorService.awaitTermination(60L, TimeUnit.SECONDS)) {
+        LOG.timeoutDuringShutdown();
+      }
+    } catch (InterruptedException e) {
+      LOG.interruptedWhileShuttingDownjobExecutor(e);
+    }
+  }
+
+  @Override
+  public void executeJobs(List<String> jobIds, ProcessEngineImpl processEngine) {
+    try {
+      if (!submit(getExecuteJobsRunnable(jobIds, processEngine), jobIds.size())) {
+        logRejectedExecution(processEngine, jobIds.size());
+        rejectedJobsHandler.jobsRejected(jobIds, processEngine, this);
+      }
+
+    } finally {
+      int activeJobExecutions = maxConcurrentJobs - permits.availablePermits();
+      logJobExecutionInfo(processEngine, 0, 0, maxConcurrentJobs, activeJobExecutions);
+    }
+  }
+
+  /**
+   * @param numJobs the number of jobs executed by the runnable, one permit is held per job
+   *
+   * @return true if the permits were free and the runnable was handed to the executor
+   */
+  protected boolean submit(Runnable executeJobsRunnable, int numJobs) {
+    // a batch larger than the limit would never get its permits
+    int numPermits = Math.min(Math.max(numJobs, 1), maxConcurrentJobs);
+
+    if (!permits.tryAcquire(numPermits)) {
+      markSaturated();
+      return false;
+    }
+
+    try {
+      executorService.execute(() -> {
+        try {
+          executeJobsRunnable.run();
+        } finally {
+          releasePermits(numPermits);
+        }
+      });
+      return true;
+
+    } catch (RejectedExecutionException e) {
+      permits.release(numPermits);
+      return false;
+    }
+  }
+
+  @Override
+  public JobAcquisitionStrategy createAcquisitionStrategy() {
+    return new ConcurrencyLimitedJobAcquisitionStrategy(this);
+  }
+
+  /**
+   * Remembers that the acquisition found no free permit, so that the next released
+   * permit wakes it up.
+   */
+  public void markSaturated() {
+    saturated.set(true);
+  }
+
+  protected void releasePermits(int numPermits) {
+    permits.release(numPermits);
+    if (saturated.compareAndSet(true, false)) {
+      jobWasAdded();
+    }
+  }
+
+  protected ExecutorService createExecutorService() {
+    try {
+      Method factoryMethod = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+      return (ExecutorService) factoryMethod.invoke(null);
+
+    } catch (ReflectiveOperationException e) {
+      LOG.virtualThreadsNotAvailable(System.getProperty("java.version"));
+      return Executors.newCachedThreadPool();
+    }
+  }
+
+  // getters and setters //////////////////////////////////////////////////////
+
+  /**
+   * @return the number of jobs that can be executed in addition to the running ones
+   */
+  public int getAvailablePermits() {
+    return permits != null ? permits.availablePermits() : maxConcurrentJobs;
+  }
+
+  public int getMaxConcurrentJobs() {
+    return maxConcurrentJobs;
+  }
+
+  public void setMaxConcurrentJobs(int maxConcurrentJobs) {
+    this.maxConcurrentJobs = maxConcurrentJobs;
+  }
+
+  public ExecutorService getExecutorService() {
+    return executorService;
+  }
+
+}
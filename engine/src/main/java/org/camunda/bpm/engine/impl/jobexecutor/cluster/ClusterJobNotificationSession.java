@@ -0,0 +1,49 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.impl.jobexecutor.cluster;
+
+import org.camunda.bpm.engine.impl.context.Context;
+import org.camunda.bpm.engine.impl.interceptor.Session;
+
+/**
+ * Makes sure that the {@link ClusterJobNotifier} is invoked only once per transaction,
+ * no matter how many jobs the transaction adds. The notifier is invoked when the command
+ * context is flushed, so that it runs while the transaction of the command is still active.
+ */
+public class ClusterJobNotificationSession implements Session {
+
+  protected ClusterJobNotifier clusterJobNotifier;
+  protected boolean notified = false;
+
+  public void jobAdded(ClusterJobNotifier clusterJobNotifier) {
+    this.clusterJobNotifier = clusterJobNotifier;
+  }
+
+  @Override
+  public void flush() {
+    if (clusterJobNotifier != null && !notified) {
+      notified = true;
+      clusterJobNotifier.jobsAdded(Context.getCommandContext());
+    }
+  }
+
+  @Override
+  public void close() {
+    // nothing to do
+  }
+
+}
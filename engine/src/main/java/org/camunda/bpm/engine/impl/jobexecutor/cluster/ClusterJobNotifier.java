@@ -0,0 +1,52 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.impl.jobexecutor.cluster;
+
+import org.camunda.bpm.engine.impl.interceptor.CommandContext;
+import org.camunda.bpm.engine.impl.jobexecutor.JobExecutor;
+
+/**
+ * <p>Notifies the job executors of the other nodes of a cluster that jobs were added,
+ * so that their job acquisition wakes up right away instead of waiting for the next
+ * acquisition cycle.</p>
+ *
+ * <p>Within a single node, the job executor is notified by a
+ * {@link org.camunda.bpm.engine.impl.jobexecutor.MessageAddedNotification}. A cluster job notifier
+ * carries this notification to the other nodes.</p>
+ */
+public interface ClusterJobNotifier {
+
+  /**
+   * Starts delivering the notifications of other nodes to the given job executor.
+   */
+  void start(JobExecutor jobExecutor);
+
+  /**
+   * Stops delivering notifications.
+   */
+  void stop();
+
+  /**
+   * Invoked once for each transaction which added jobs that can be executed right away,
+   * when the command context is flushed. The transaction is still active at that point.
+   * Implementations must not notify the other nodes before the transaction is committed,
+   * for example by registering a transaction listener or by a notification which the
+   * database only delivers on commit.
+   */
+  void jobsAdded(CommandContext commandContext);
+
+}
@@ -0,0 +1,62 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.impl.jobexecutor.cluster;
+
+import org.camunda.bpm.engine.impl.cfg.TransactionState;
+import org.camunda.bpm.engine.impl.interceptor.CommandContext;
+import org.camunda.bpm.engine.impl.jobexecutor.JobExecutor;
+
+/**
+ * A {@link ClusterJobNotifier} that notifies the other process engines subscribed to the
+ * same {@link InMemoryJobNotificationBroadcaster} once a transaction that added jobs is
+ * committed.
+ */
+public class InMemoryClusterJobNotifier implements ClusterJobNotifier {
+
+  protected InMemoryJobNotificationBroadcaster broadcaster;
+  protected JobExecutor jobExecutor;
+
+  public InMemoryClusterJobNotifier(InMemoryJobNotificationBroadcaster broadcaster) {
+    this.broadcaster = broadcaster;
+  }
+
+  @Override
+  public void start(JobExecutor jobExecutor) {
+    this.jobExecutor = jobExecutor;
+    broadcaster.subscribe(this);
+  }
+
+  @Override
+  public void stop() {
+    broadcaster.unsubscribe(this);
+    jobExecutor = null;
+  }
+
+  @Override
+  public void jobsAdded(CommandContext commandContext) {
+    commandContext.getTransactionContext()
+      .addTransactionListener(TransactionState.COMMITTED, context -> broadcaster.broadcast(this));
+  }
+
+  protected void notifyJobExecutor() {
+    JobExecutor jobExecutor = this.jobExecutor;
+    if (jobExecutor != null) {
+      jobExecutor.jobWasAdded();
+    }
+  }
+
+}
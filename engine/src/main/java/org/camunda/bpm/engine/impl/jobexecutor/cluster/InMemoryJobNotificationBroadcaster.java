@@ -0,0 +1,46 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.impl.jobexecutor.cluster;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Connects the {@link InMemoryClusterJobNotifier}s of several process engines running
+ * in the same JVM, for example in tests simulating a cluster.
+ */
+public class InMemoryJobNotificationBroadcaster {
+
+  protected List<InMemoryClusterJobNotifier> notifiers = new CopyOnWriteArrayList<>();
+
+  public void subscribe(InMemoryClusterJobNotifier notifier) {
+    notifiers.add(notifier);
+  }
+
+  public void unsubscribe(InMemoryClusterJobNotifier notifier) {
+    notifiers.remove(notifier);
+  }
+
+  public void broadcast(InMemoryClusterJobNotifier sender) {
+    for (InMemoryClusterJobNotifier notifier : notifiers) {
+      if (notifier != sender) {
+        notifier.notifyJobExecutor();
+      }
+    }
+  }
+
+}
@@ -0,0 +1,236 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.impl.jobexecutor.cluster;
+
+import java.lang.reflect.Method;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Savepoint;
+import java.sql.Statement;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+import javax.sql.DataSource;
+
+import org.camunda.bpm.engine.impl.ProcessEngineLogger;
+import org.camunda.bpm.engine.impl.interceptor.CommandContext;
+import org.camunda.bpm.engine.impl.jobexecutor.JobExecutor;
+import org.camunda.bpm.engine.impl.jobexecutor.JobExecutorLogger;
+import org.camunda.bpm.engine.impl.util.EnsureUtil;
+
+/**
+ * <p>A {@link ClusterJobNotifier} based on PostgreSQL's <code>LISTEN</code> and
+ * <code>NOTIFY</code>.</p>
+ *
+ * <p>A notification is sent with <code>pg_notify</code> when the command that added the
+ * jobs is flushed, on the connection of its {@link org.camunda.bpm.engine.impl.db.sql.DbSqlSession}.
+ * This is the connection of the transaction, also if the transaction is managed externally,
+ * e.g. by JTA or Spring. PostgreSQL delivers the notification to the listeners only when this
+ * transaction commits and drops it when the transaction is rolled back. A failing
+ * statement aborts a PostgreSQL transaction, so the notification is sent inside a
+ * savepoint. If it fails, the transaction is rolled back to the savepoint and committed
+ * without the notification.</p>
+ *
+ * <p>Every node listens on a dedicated connection. The PostgreSQL JDBC driver only receives
+ * notifications while it talks to the database, so the listening connection is polled
+ * every {@link #pollInterval} milliseconds. When the connection breaks, it is re-opened
+ * after {@link #reconnectDelay} milliseconds. In the meantime, the job acquisition keeps
+ * on finding new jobs by its regular polling.</p>
+ */
+public class PostgresClusterJobNotifier implements ClusterJobNotifier {
+
+  private final static JobExecutorLogger LOG = ProcessEngineLogger.JOB_EXECUTOR_LOGGER;
+
+  public static final String DEFAULT_CHANNEL = "camunda_job_added";
+  public static final int DEFAULT_POLL_INTERVAL = 500;
+  public static final long DEFAULT_RECONNECT_DELAY = 5000;
+
+  protected static final Pattern CHANNEL_PATTERN = Pattern.compile("[a-z_][a-z0-9_]*");
+
+  protected DataSource dataSource;
+  protected String channel = DEFAULT_CHANNEL;
+  protected int pollInterval = DEFAULT_POLL_INTERVAL;
+  protected long reconnectDelay = DEFAULT_RECONNECT_DELAY;
+
+  /** identifies the notifications sent by this node, which are ignored by its own listener */
+  protected String nodeId = UUID.randomUUID().toString();
+
+  protected JobExecutor jobExecutor;
+  protected Thread listenerThread;
+  protected volatile boolean isActive = false;
+
+  public PostgresClusterJobNotifier(DataSource dataSource) {
+    this.dataSource = dataSource;
+  }
+
+  @Override
+  public synchronized void start(JobExecutor jobExecutor) {
+    if (isActive) {
+      return;
+    }
+    EnsureUtil.ensureNotNull("dataSource", dataSource);
+    if (!CHANNEL_PATTERN.matcher(channel).matches()) {
+      throw LOG.invalidJobNotificationChannel(channel);
+    }
+
+    this.jobExecutor = jobExecutor;
+    isActive = true;
+
+    listenerThread = new Thread(this::listen, "JobNotificationListener[" + channel + "]");
+    listenerThread.setDaemon(true);
+    listenerThread.start();
+  }
+
+  @Override
+  public synchronized void stop() {
+    if (!isActive) {
+      return;
+    }
+    isActive = false;
+
+    // wakes up the listener thread while it waits to reconnect
+    listenerThread.interrupt();
+    try {
+      listenerThread.join();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+    listenerThread = null;
+  }
+
+  @Override
+  public void jobsAdded(CommandContext commandContext) {
+    // the notification becomes visible on commit of the current transaction
+    Connection connection = commandContext.getDbSqlSession().getSqlSession().getConnection();
+    notifyChannel(connection);
+  }
+
+  protected void notifyChannel(Connection connection) {
+    Savepoint savepoint;
+    try {
+      savepoint = connection.setSavepoint();
+    } catch (SQLException e) {
+      // nothing was executed, the transaction is not affected
+      LOG.exceptionWhileNotifyingJobChannel(channel, e);
+      return;
+    }
+
+    try (PreparedStatement statement = connection.prepareStatement("select pg_notify(?, ?)")) {
+      statement.setString(1, channel);
+      statement.setString(2, nodeId);
+      statement.execute();
+      connection.releaseSavepoint(savepoint);
+
+    } catch (SQLException e) {
+      rollbackToSavepoint(connection, savepoint, e);
+    }
+  }
+
+  /**
+   * Restores the transaction after a failed notification. If that is not possible, the
+   * transaction must not be committed, since PostgreSQL would silently roll it back.
+   */
+  protected void rollbackToSavepoint(Connection connection, Savepoint savepoint, SQLException cause) {
+    try {
+      connection.rollback(savepoint);
+    } catch (SQLException e) {
+      e.addSuppressed(cause);
+      throw LOG.exceptionWhileRestoringTransactionAfterJobNotification(channel, e);
+    }
+    LOG.exceptionWhileNotifyingJobChannel(channel, cause);
+  }
+
+  protected void listen() {
+    while (isActive) {
+      try (Connection connection = dataSource.getConnection()) {
+        connection.setAutoCommit(true);
+        try (Statement statement = connection.createStatement()) {
+          statement.execute("LISTEN " + channel);
+        }
+        LOG.listeningForJobNotifications(channel);
+
+        Class<?> pgConnectionClass = Class.forName("org.postgresql.PGConnection");
+        Object pgConnection = connection.unwrap(pgConnectionClass);
+        Method getNotifications = pgConnectionClass.getMethod("getNotifications", int.class);
+        Method getParameter = Class.forName("org.postgresql.PGNotification").getMethod("getParameter");
+
+        while (isActive) {
+          Object[] notifications = (Object[]) getNotifications.invoke(pgConnection, pollInterval);
+          if (notifications != null && containsForeignNotification(notifications, getParameter)) {
+            jobExecutor.jobWasAdded();
+          }
+        }
+
+      } catch (Exception e) {
+        if (isActive) {
+          LOG.exceptionWhileListeningForJobNotifications(channel, reconnectDelay, e);
+          waitForReconnect();
+        }
+      }
+    }
+  }
+
+  protected boolean containsForeignNotification(Object[] notifications, Method getParameter) throws ReflectiveOperationException {
+    for (Object notification : notifications) {
+      if (!nodeId.equals(getParameter.invoke(notification))) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  protected void waitForReconnect() {
+    try {
+      Thread.sleep(reconnectDelay);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      isActive = false;
+    }
+  }
+
+  // getters and setters //////////////////////////////////////////////////////
+
+  public String getChannel() {
+    return channel;
+  }
+
+  public void setChannel(String channel) {
+    this.channel = channel;
+  }
+
+  public int getPollInterval() {
+    return pollInterval;
+  }
+
+  public void setPollInterval(int pollInterval) {
+    this.pollInterval = pollInterval;
+  }
+
+  public long getReconnectDelay() {
+    return reconnectDelay;
+  }
+
+  public void setReconnectDelay(long reconnectDelay) {
+    this.reconnectDelay = reconnectDelay;
+  }
+
+  public boolean isActive() {
+    return isActive;
+  }
+
+}
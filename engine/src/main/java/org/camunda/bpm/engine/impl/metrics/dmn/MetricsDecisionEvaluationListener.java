@@ -18,6 +18,8 @@ package org.camunda.bpm.engine.impl.metrics.dmn;
 
 import org.camunda.bpm.dmn.engine.delegate.DmnDecisionEvaluationEvent;
 import org.camunda.bpm.dmn.engine.delegate.DmnDecisionEvaluationListener;
+import org.camunda.bpm.dmn.engine.delegate.DmnDecisionLogicEvaluationEvent;
+import org.camunda.bpm.dmn.engine.impl.delegate.DmnDecisionTableEvaluationEventImpl;
 import org.camunda.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
 import org.camunda.bpm.engine.impl.context.Context;
 import org.camunda.bpm.engine.impl.metrics.MetricsRegistry;
@@ -34,6 +36,20 @@ public class MetricsDecisionEvaluationListener implements DmnDecisionEvaluationL
                                      evaluationEvent.getExecutedDecisionInstances());
       metricsRegistry.markOccurrence(Metrics.EXECUTED_DECISION_ELEMENTS,
                                      evaluationEvent.getExecutedDecisionElements());
+
+      markResultCacheOccurrence(metricsRegistry, evaluationEvent.getDecisionResult());
+      for (DmnDecisionLogicEvaluationEvent requiredDecisionResult : evaluationEvent.getRequiredDecisionResults()) {
+        markResultCacheOccurrence(metricsRegistry, requiredDecisionResult);
+      }
+    }
+  }
+
+  protected void markResultCacheOccurrence(MetricsRegistry metricsRegistry, DmnDecisionLogicEvaluationEvent evaluationEvent) {
+    if (evaluationEvent instanceof DmnDecisionTableEvaluationEventImpl) {
+      Boolean resultCacheHit = ((DmnDecisionTableEvaluationEventImpl) evaluationEvent).getResultCacheHit();
+      if (resultCacheHit != null) {
+        metricsRegistry.markOccurrence(resultCacheHit ? Metrics.DECISION_RESULT_CACHE_HITS : Metrics.DECISION_RESULT_CACHE_MISSES);
+      }
     }
   }
 
@@ -0,0 +1,52 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.impl.persistence.deploy.cache;
+
+import org.camunda.commons.utils.cache.Cache;
+import org.camunda.commons.utils.cache.SegmentedLruCache;
+
+/**
+ * <p>Provides {@link SegmentedLruCache}s for the deployment caches see {@link DeploymentCache}.
+ * In contrast to the caches of the {@link DefaultCacheFactory}, lookups take constant time
+ * regardless of the number of cached elements.</p>
+ */
+public class SegmentedCacheFactory implements CacheFactory {
+
+  protected int concurrencyLevel = SegmentedLruCache.DEFAULT_CONCURRENCY_LEVEL;
+  protected boolean frequencyAdmission = false;
+
+  @Override
+  public <T> Cache<String, T> createCache(int maxNumberOfElementsInCache) {
+    return new SegmentedLruCache<String, T>(maxNumberOfElementsInCache, concurrencyLevel, frequencyAdmission);
+  }
+
+  public int getConcurrencyLevel() {
+    return concurrencyLevel;
+  }
+
+  public void setConcurrencyLevel(int concurrencyLevel) {
+    this.concurrencyLevel = concurrencyLevel;
+  }
+
+  public boolean isFrequencyAdmission() {
+    return frequencyAdmission;
+  }
+
+  public void setFrequencyAdmission(boolean frequencyAdmission) {
+    this.frequencyAdmission = frequencyAdmission;
+  }
+}
@@ -20,11 +20,15 @@ import static org.camunda.bpm.engine.impl.ExternalTaskQueryProperty.CREATE_TIME;
 import static org.camunda.bpm.engine.impl.db.sql.DbSqlSessionFactory.POSTGRES;
 import static org.camunda.bpm.engine.impl.util.DatabaseUtil.checkDatabaseType;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Date;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import org.camunda.bpm.engine.externaltask.ExternalTask;
 import org.camunda.bpm.engine.impl.ExternalTaskQueryImpl;
 import org.camunda.bpm.engine.impl.ProcessEngineImpl;
@@ -34,6 +38,8 @@ import org.camunda.bpm.engine.impl.cfg.TransactionState;
 import org.camunda.bpm.engine.impl.context.Context;
 import org.camunda.bpm.engine.impl.db.ListQueryParameterObject;
 import org.camunda.bpm.engine.impl.db.entitymanager.DbEntityManager;
+import org.camunda.bpm.engine.impl.db.sql.DbSqlSessionFactory;
+import org.camunda.bpm.engine.impl.externaltask.LocalExternalTaskWorker;
 import org.camunda.bpm.engine.impl.externaltask.TopicFetchInstruction;
 import org.camunda.bpm.engine.impl.interceptor.CommandContext;
 import org.camunda.bpm.engine.impl.persistence.AbstractManager;
@@ -52,7 +58,8 @@ public class ExternalTaskManager extends AbstractManager {
 
   public void insert(ExternalTaskEntity externalTask) {
     getDbEntityManager().insert(externalTask);
-    fireExternalTaskAvailableEvent();
+    fireExternalTaskAvailableEvent(externalTask.getTopicName());
+    dispatchToLocalWorker(externalTask);
   }
 
   public void delete(ExternalTaskEntity externalTask) {
@@ -94,6 +101,58 @@ public class ExternalTaskManager extends AbstractManager {
     return manager.selectList("selectExternalTasksForTopics", parameter);
   }
 
+  /**
+   * @return <code>true</code> if fetched tasks are locked with
+   * {@link #selectExternalTasksForUpdateSkipLocked(List, int)}
+   */
+  public boolean isFetchSkipLocked() {
+    return Context.getProcessEngineConfiguration()
+        .getDbSqlSessionFactory()
+        .isExternalTaskFetchSkipLockedSupported();
+  }
+
+  /**
+   * Locks the rows of the given candidates in the database until the end of the transaction.
+   * Candidates whose rows are locked by a concurrent transaction or which were locked by a worker
+   * in the meantime are skipped, so that the fetches of competing workers neither wait for each
+   * other nor fail with an optimistic locking exception on flush.
+   *
+   * @param candidates the tasks in the order of precedence
+   * @param maxResults the maximum number of tasks to lock
+   * @return the locked tasks in the order of the candidates
+   */
+  @SuppressWarnings("unchecked")
+  public List<ExternalTaskEntity> selectExternalTasksForUpdateSkipLocked(List<ExternalTaskEntity> candidates,
+                                                                         int maxResults) {
+    List<ExternalTaskEntity> lockedTasks = new ArrayList<>();
+    Date now = ClockUtil.getCurrentTime();
+
+    int index = 0;
+    while (lockedTasks.size() < maxResults && index < candidates.size()) {
+      // only as many rows as are still missing are locked, so that no row is held back from other workers
+      int chunkSize = Math.min(maxResults - lockedTasks.size(), DbSqlSessionFactory.MAXIMUM_NUMBER_PARAMS);
+      List<ExternalTaskEntity> chunk = candidates.subList(index, Math.min(candidates.size(), index + chunkSize));
+      index += chunk.size();
+
+      List<String> ids = new ArrayList<>();
+      chunk.forEach(task -> ids.add(task.getId()));
+
+      Map<String, Object> parameters = Map.of(
+          "ids", ids,
+          "now", now
+      );
+
+      Set<String> lockedIds = new HashSet<>(getDbEntityManager()
+          .selectList("selectExternalTaskIdsForUpdateSkipLocked", parameters));
+
+      chunk.stream()
+        .filter(task -> lockedIds.contains(task.getId()))
+        .forEach(lockedTasks::add);
+    }
+
+    return lockedTasks;
+  }
+
   @SuppressWarnings("unchecked")
   public List<ExternalTask> findExternalTasksByQueryCriteria(ExternalTaskQueryImpl externalTaskQuery) {
     configureQuery(externalTaskQuery);
@@ -180,12 +239,35 @@ public class ExternalTaskManager extends AbstractManager {
         .anyMatch(orderingProperty -> CREATE_TIME.getName().equals(orderingProperty.getQueryProperty().getName()));
   }
 
+  /**
+   * Hands the task over to the local external task worker once the transaction is committed,
+   * if the worker has a handler for the topic of the task.
+   */
+  protected void dispatchToLocalWorker(ExternalTaskEntity externalTask) {
+    final LocalExternalTaskWorker localWorker = Context.getProcessEngineConfiguration().getLocalExternalTaskWorker();
+
+    if (localWorker != null && localWorker.isRunning() && localWorker.hasHandler(externalTask.getTopicName())) {
+      final String externalTaskId = externalTask.getId();
+      Context.getCommandContext()
+          .getTransactionContext()
+          .addTransactionListener(TransactionState.COMMITTED, commandContext -> localWorker.dispatch(externalTaskId));
+    }
+  }
+
   public void fireExternalTaskAvailableEvent() {
+    fireExternalTaskAvailableEvent(null);
+  }
+
+  /**
+   * @param topicName the topic of the available task or <code>null</code> if unknown
+   */
+  public void fireExternalTaskAvailableEvent(final String topicName) {
     Context.getCommandContext()
         .getTransactionContext()
         .addTransactionListener(TransactionState.COMMITTED, new TransactionListener() {
           @Override
           public void execute(CommandContext commandContext) {
+            ProcessEngineImpl.EXT_TASK_TOPIC_CONDITIONS.signalAll(topicName);
             ProcessEngineImpl.EXT_TASK_CONDITIONS.signalAll();
           }
         });
@@ -0,0 +1,60 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.impl.persistence.entity;
+
+import java.util.List;
+
+import org.camunda.bpm.engine.impl.persistence.AbstractManager;
+
+/**
+ * Manages the entries of the history outbox written by the
+ * {@link org.camunda.bpm.engine.impl.history.handler.AsyncHistoryEventHandler}.
+ */
+public class HistoryOutboxManager extends AbstractManager {
+
+  public static final String SELECT_IDS_BY_OWNER = "selectHistoryOutboxEntryIdsByOwner";
+  public static final String SELECT_MAX_SEQUENCE_BY_OWNER = "selectHistoryOutboxMaxSequenceByOwner";
+  public static final String DELETE_BY_IDS = "deleteHistoryOutboxEntriesByIds";
+
+  public void insertEntry(HistoryOutboxEntryEntity entry) {
+    getDbEntityManager().insert(entry);
+  }
+
+  public HistoryOutboxEntryEntity findEntryById(String id) {
+    return getDbEntityManager().selectById(HistoryOutboxEntryEntity.class, id);
+  }
+
+  /**
+   * @return the ids of the entries of the owner, in the order they were written
+   */
+  @SuppressWarnings("unchecked")
+  public List<String> findEntryIdsByOwner(String owner) {
+    return getDbEntityManager().selectList(SELECT_IDS_BY_OWNER, owner);
+  }
+
+  /**
+   * @return the highest sequence of the entries of the owner or {@code null} if there are none
+   */
+  public Long findMaxSequenceByOwner(String owner) {
+    return (Long) getDbEntityManager().selectOne(SELECT_MAX_SEQUENCE_BY_OWNER, owner);
+  }
+
+  public void deleteEntriesByIds(List<String> ids) {
+    getDbEntityManager().delete(HistoryOutboxEntryEntity.class, DELETE_BY_IDS, ids);
+  }
+
+}
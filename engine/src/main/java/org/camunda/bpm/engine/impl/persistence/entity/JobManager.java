@@ -41,11 +41,15 @@ import org.camunda.bpm.engine.impl.db.sql.DbSqlSessionFactory;
 import org.camunda.bpm.engine.impl.jobexecutor.ExclusiveJobAddedNotification;
 import org.camunda.bpm.engine.impl.jobexecutor.JobExecutor;
 import org.camunda.bpm.engine.impl.jobexecutor.JobExecutorContext;
+import org.camunda.bpm.engine.impl.jobexecutor.JobPartitionLease;
+import org.camunda.bpm.engine.impl.jobexecutor.JobPartitionLease.JobPartition;
 import org.camunda.bpm.engine.impl.jobexecutor.MessageAddedNotification;
 import org.camunda.bpm.engine.impl.jobexecutor.TimerCatchIntermediateEventJobHandler;
 import org.camunda.bpm.engine.impl.jobexecutor.TimerExecuteNestedActivityJobHandler;
 import org.camunda.bpm.engine.impl.jobexecutor.TimerStartEventJobHandler;
 import org.camunda.bpm.engine.impl.jobexecutor.TimerStartEventSubprocessJobHandler;
+import org.camunda.bpm.engine.impl.jobexecutor.cluster.ClusterJobNotificationSession;
+import org.camunda.bpm.engine.impl.jobexecutor.cluster.ClusterJobNotifier;
 import org.camunda.bpm.engine.impl.persistence.AbstractManager;
 import org.camunda.bpm.engine.impl.util.ClockUtil;
 import org.camunda.bpm.engine.impl.util.CollectionUtil;
@@ -137,12 +141,16 @@ public class JobManager extends AbstractManager {
   protected void hintJobExecutor(JobEntity job) {
     JobExecutor jobExecutor = Context.getProcessEngineConfiguration().getJobExecutor();
     if (!jobExecutor.isActive()) {
+      hintClusterJobExecutors();
       return;
     }
 
     JobExecutorContext jobExecutorContext = Context.getJobExecutorContext();
     TransactionListener transactionListener = null;
-    if (isJobPriorityInJobExecutorPriorityRange(job.getPriority())) {
+    if (!isJobPriorityInJobExecutorPriorityRange(job.getPriority())) {
+      hintClusterJobExecutors();
+    }
+    else {
       // add job to be executed in the current processor
       if (!job.isSuspended()
          && job.isExclusive()
@@ -159,6 +167,7 @@ public class JobManager extends AbstractManager {
         // reset Acquisition strategy and notify the JobExecutor that
         // a new Job is available for execution on future runs
         transactionListener = new MessageAddedNotification(jobExecutor);
+        hintClusterJobExecutors();
       }
       Context.getCommandContext()
       .getTransactionContext()
@@ -166,6 +175,17 @@ public class JobManager extends AbstractManager {
     }
   }
 
+  /**
+   * Notifies the job executors of the other cluster nodes once the current transaction
+   * is committed, if a {@link ClusterJobNotifier} is configured.
+   */
+  protected void hintClusterJobExecutors() {
+    ClusterJobNotifier clusterJobNotifier = Context.getProcessEngineConfiguration().getClusterJobNotifier();
+    if (clusterJobNotifier != null) {
+      getSession(ClusterJobNotificationSession.class).jobAdded(clusterJobNotifier);
+    }
+  }
+
   protected boolean areInSameProcessInstance(JobEntity job1, JobEntity job2) {
     if (job1 == null || job2 == null) {
       return false;
@@ -223,6 +243,15 @@ public class JobManager extends AbstractManager {
     params.put("jobPriorityMin", jobExecutorAcquireByPriority && jobExecutorPriorityRangeMin != Long.MIN_VALUE ? jobExecutorPriorityRangeMin : null);
     params.put("jobPriorityMax", jobExecutorAcquireByPriority && jobExecutorPriorityRangeMax != Long.MAX_VALUE ? jobExecutorPriorityRangeMax : null);
 
+    JobPartitionLease jobPartitionLease = engineConfiguration.getJobPartitionLease();
+    if (jobPartitionLease != null) {
+      JobPartition jobPartition = jobPartitionLease.getPartition();
+      if (jobPartition.isPartitioned()) {
+        params.put("jobPartitionIndex", jobPartition.getIndex());
+        params.put("jobPartitionCount", jobPartition.getCount());
+      }
+    }
+
     params.put("historyCleanupEnabled", engineConfiguration.isHistoryCleanupEnabled());
 
     List<QueryOrderingProperty> orderingProperties = new ArrayList<>();
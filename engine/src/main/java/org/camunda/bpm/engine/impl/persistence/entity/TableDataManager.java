@@ -100,6 +100,7 @@ public class TableDataManager extends AbstractManager {
 
     persistentObjectToTableNameMap.put(MeterLogEntity.class, "ACT_RU_METER_LOG");
     persistentObjectToTableNameMap.put(TaskMeterLogEntity.class, "ACT_RU_TASK_METER_LOG");
+    persistentObjectToTableNameMap.put(HistoryOutboxEntryEntity.class, "ACT_RU_HIST_OUTBOX");
 
     persistentObjectToTableNameMap.put(CamundaFormDefinitionEntity.class, "ACT_RE_CAMFORMDEF");
     // repository
@@ -45,6 +45,7 @@ import org.camunda.bpm.engine.impl.cmmn.behavior.CaseControlRuleImpl;
 import org.camunda.bpm.engine.impl.cmmn.deployer.CmmnDeployer;
 import org.camunda.bpm.engine.impl.db.DbIdGenerator;
 import org.camunda.bpm.engine.impl.db.PersistenceSession;
+import org.camunda.bpm.engine.impl.db.StripedDbIdGenerator;
 import org.camunda.bpm.engine.impl.db.entitymanager.DbEntityManager;
 import org.camunda.bpm.engine.impl.dmn.deployer.DecisionDefinitionDeployer;
 import org.camunda.bpm.engine.impl.el.FixedValue;
@@ -498,6 +499,8 @@ public abstract class TestHelper {
 
     if (idGenerator instanceof DbIdGenerator) {
       ((DbIdGenerator) idGenerator).reset();
+    } else if (idGenerator instanceof StripedDbIdGenerator) {
+      ((StripedDbIdGenerator) idGenerator).reset();
     }
   }
 
@@ -0,0 +1,47 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.impl.util;
+
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Composite Condition implementation which signals its consumers with
+ * the topic of the external task that became available.
+ */
+public class CompositeTopicCondition {
+
+  protected CopyOnWriteArrayList<Consumer<String>> consumers = new CopyOnWriteArrayList<>();
+
+  public void addConsumer(Consumer<String> consumer) {
+    consumers.add(consumer);
+  }
+
+  public void removeConsumer(Consumer<String> consumer) {
+    consumers.remove(consumer);
+  }
+
+  /**
+   * @param topicName the topic of the available external task or
+   *   <code>null</code> if tasks of any topic may be available
+   */
+  public void signalAll(String topicName) {
+    for (Consumer<String> consumer : consumers) {
+      consumer.accept(topicName);
+    }
+  }
+}
@@ -27,6 +27,7 @@ import org.camunda.bpm.engine.ParseException;
 import org.camunda.bpm.engine.Problem;
 import org.camunda.bpm.engine.ProcessEngineException;
 import org.camunda.bpm.engine.exception.NotFoundException;
+import org.camunda.bpm.engine.exception.NotValidException;
 import org.camunda.bpm.engine.impl.ProcessEngineLogger;
 import org.camunda.bpm.engine.impl.bpmn.parser.FieldDeclaration;
 import org.camunda.bpm.engine.impl.util.io.StreamSource;
@@ -260,4 +261,17 @@ public class EngineUtilLogger extends ProcessEngineLogger {
         "Exception while configuring XXE processing: {}", cause.getMessage()), cause);
   }
 
+  public NotValidException invalidKeysetCursor(String cursor) {
+    return new NotValidException(exceptionMessage(
+        "048",
+        "Invalid cursor '{}': the cursor must be the next cursor of a previous page of the query", cursor));
+  }
+
+  public NotValidException keysetCursorOrderingMismatch(String cursor, String expectedOrdering, String cursorOrdering) {
+    return new NotValidException(exceptionMessage(
+        "049",
+        "Invalid cursor '{}': the query is ordered by '{}' but the cursor was created for the ordering '{}'",
+        cursor, expectedOrdering, cursorOrdering));
+  }
+
 }
@@ -0,0 +1,152 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.impl.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Date;
+import java.util.List;
+
+import org.camunda.bpm.engine.impl.ProcessEngineLogger;
+
+/**
+ * Encodes the position of a result in the order of a query into an opaque cursor
+ * string and back. The cursor contains the ordering it was created for, so that it
+ * can only be used with a query that has the same ordering.
+ */
+public class KeysetCursorUtil {
+
+  protected static final EngineUtilLogger LOG = ProcessEngineLogger.UTIL_LOGGER;
+
+  protected static final String ORDERING_SEPARATOR = ",";
+  protected static final String VALUES_SEPARATOR = "|";
+  protected static final String TYPE_SEPARATOR = ":";
+
+  protected static final String TYPE_STRING = "s";
+  protected static final String TYPE_DATE = "d";
+  protected static final String TYPE_INTEGER = "i";
+  protected static final String TYPE_LONG = "l";
+
+  private KeysetCursorUtil() {
+  }
+
+  /**
+   * @param ordering the ordering clauses of the query, e.g. <code>RES.ID_ asc</code>
+   * @param values the values of the ordering columns of the last result of a page,
+   *   must not be null
+   *
+   * @return the cursor to select the results following the given values
+   */
+  public static String encode(List<String> ordering, List<Object> values) {
+    List<String> tokens = new ArrayList<>();
+    for (Object value : values) {
+      tokens.add(encodeValue(value));
+    }
+
+    String cursor = String.join(ORDERING_SEPARATOR, ordering)
+        + VALUES_SEPARATOR
+        + String.join(ORDERING_SEPARATOR, tokens);
+
+    return encodeBase64(cursor);
+  }
+
+  /**
+   * @param cursor a cursor created by {@link #encode(List, List)}
+   * @param ordering the ordering clauses of the query the cursor is used with
+   *
+   * @return the values of the ordering columns encoded in the cursor
+   *
+   * @throws org.camunda.bpm.engine.exception.NotValidException if the cursor is malformed or
+   *   was created for a different ordering
+   */
+  public static List<Object> decode(String cursor, List<String> ordering) {
+    String decodedCursor;
+    try {
+      decodedCursor = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+    } catch (IllegalArgumentException e) {
+      throw LOG.invalidKeysetCursor(cursor);
+    }
+
+    int separatorIndex = decodedCursor.indexOf(VALUES_SEPARATOR);
+    if (separatorIndex < 0) {
+      throw LOG.invalidKeysetCursor(cursor);
+    }
+
+    String expectedOrdering = String.join(ORDERING_SEPARATOR, ordering);
+    String cursorOrdering = decodedCursor.substring(0, separatorIndex);
+    if (!expectedOrdering.equals(cursorOrdering)) {
+      throw LOG.keysetCursorOrderingMismatch(cursor, expectedOrdering, cursorOrdering);
+    }
+
+    String[] tokens = decodedCursor.substring(separatorIndex + 1).split(ORDERING_SEPARATOR, -1);
+    if (tokens.length != ordering.size()) {
+      throw LOG.invalidKeysetCursor(cursor);
+    }
+
+    List<Object> values = new ArrayList<>();
+    for (String token : tokens) {
+      values.add(decodeValue(cursor, token));
+    }
+    return values;
+  }
+
+  protected static String encodeValue(Object value) {
+    if (value instanceof Date) {
+      return TYPE_DATE + TYPE_SEPARATOR + ((Date) value).getTime();
+    } else if (value instanceof Integer) {
+      return TYPE_INTEGER + TYPE_SEPARATOR + value;
+    } else if (value instanceof Long) {
+      return TYPE_LONG + TYPE_SEPARATOR + value;
+    } else {
+      return TYPE_STRING + TYPE_SEPARATOR + encodeBase64(value.toString());
+    }
+  }
+
+  protected static Object decodeValue(String cursor, String token) {
+    int separatorIndex = token.indexOf(TYPE_SEPARATOR);
+    if (separatorIndex < 0) {
+      throw LOG.invalidKeysetCursor(cursor);
+    }
+
+    String type = token.substring(0, separatorIndex);
+    String value = token.substring(separatorIndex + 1);
+
+    try {
+      switch (type) {
+        case TYPE_DATE:
+          return new Date(Long.parseLong(value));
+        case TYPE_INTEGER:
+          return Integer.valueOf(value);
+        case TYPE_LONG:
+          return Long.valueOf(value);
+        case TYPE_STRING:
+          return new String(Base64.getUrlDecoder().decode(value), StandardCharsets.UTF_8);
+        default:
+          throw LOG.invalidKeysetCursor(cursor);
+      }
+    } catch (IllegalArgumentException e) {
+      // also covers NumberFormatException
+      throw LOG.invalidKeysetCursor(cursor);
+    }
+  }
+
+  protected static String encodeBase64(String value) {
+    return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+  }
+
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.impl.util;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import org.camunda.bpm.engine.impl.ProcessEngineLogger;
+import org.camunda.bpm.engine.impl.context.Context;
+import org.camunda.bpm.engine.impl.core.variable.CoreVariableInstance;
+import org.camunda.bpm.engine.impl.core.variable.scope.AbstractVariableScope;
+import org.camunda.bpm.engine.impl.externaltask.ExternalTaskLogger;
+import org.camunda.bpm.engine.impl.persistence.entity.VariableInstanceEntity;
+import org.camunda.bpm.engine.impl.variable.VariableProjector;
+import org.camunda.bpm.engine.variable.VariableMap;
+import org.camunda.bpm.engine.variable.value.TypedValue;
+
+/**
+ * Helper methods to select the variables of a scope without reading the values of all of them.
+ */
+public class VariableProjectionUtil {
+
+  protected static final ExternalTaskLogger LOG = ProcessEngineLogger.EXTERNAL_TASK_LOGGER;
+
+  private VariableProjectionUtil() {
+  }
+
+  /**
+   * Replaces the values of the given variables by their projections.
+   *
+   * @param variables the variables to project
+   * @param projections the projection expressions by variable name, variables without
+   *   expression are left untouched
+   *
+   * @throws org.camunda.bpm.engine.ProcessEngineException if no projector supports the type of a variable
+   */
+  public static void projectVariables(VariableMap variables, Map<String, String> projections) {
+    if (projections == null || projections.isEmpty()) {
+      return;
+    }
+
+    List<VariableProjector> projectors = Context.getProcessEngineConfiguration().getVariableProjectors();
+    for (Map.Entry<String, String> projection : projections.entrySet()) {
+      String variableName = projection.getKey();
+      TypedValue value = variables.getValueTyped(variableName);
+
+      if (value != null) {
+        variables.putValueTyped(variableName, project(variableName, value, projection.getValue(), projectors));
+      }
+    }
+  }
+
+  protected static TypedValue project(String variableName, TypedValue value, String expression, List<VariableProjector> projectors) {
+    for (VariableProjector projector : projectors) {
+      TypedValue projectedValue = projector.project(value, expression);
+      if (projectedValue != null) {
+        return projectedValue;
+      }
+    }
+
+    String typeName = value.getType() != null ? value.getType().getName() : null;
+    throw LOG.unsupportedVariableProjection(variableName, typeName);
+  }
+
+  /**
+   * Collects the names and types of the variables visible in the given scope. In contrast to
+   * {@link AbstractVariableScope#collectVariables}, the values of the variables are not read,
+   * so that values which are stored in byte arrays are not fetched.
+   *
+   * @param variableScope the scope to collect the variables of
+   * @param variableTypes the map to add the type names by variable name to
+   * @param variableNames the names of the variables to collect, if null all variables are collected
+   * @param isLocal if true only the variables of the scope itself are collected
+   */
+  public static void collectVariableTypes(AbstractVariableScope variableScope, Map<String, String> variableTypes,
+                                          Collection<String> variableNames, boolean isLocal) {
+    AbstractVariableScope scope = variableScope;
+    while (scope != null) {
+      for (CoreVariableInstance variable : scope.getVariableInstancesLocal(variableNames)) {
+        if (!variableTypes.containsKey(variable.getName())) {
+          variableTypes.put(variable.getName(), getTypeName(variable));
+        }
+      }
+      scope = isLocal ? null : scope.getParentVariableScope();
+    }
+  }
+
+  protected static String getTypeName(CoreVariableInstance variable) {
+    if (variable instanceof VariableInstanceEntity) {
+      return ((VariableInstanceEntity) variable).getTypeName();
+    }
+
+    TypedValue value = variable.getTypedValue(false);
+    return value.getType() != null ? value.getType().getName() : null;
+  }
+
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.impl.variable;
+
+import org.camunda.bpm.engine.variable.value.TypedValue;
+
+/**
+ * Projects a variable value onto the part selected by an expression, e.g. a
+ * JSONPath expression for JSON values. Projections let clients fetch only the
+ * part of a large variable they actually need.
+ *
+ * @see org.camunda.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl#getVariableProjectors()
+ */
+public interface VariableProjector {
+
+  /**
+   * @param value the value to project, never <code>null</code>
+   * @param expression the expression that selects the projected part of the value
+   *
+   * @return the projected value or <code>null</code> if the projector does not support
+   *   the type of the value
+   */
+  TypedValue project(TypedValue value, String expression);
+
+}
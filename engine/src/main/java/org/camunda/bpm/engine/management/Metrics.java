@@ -69,6 +69,13 @@ public class Metrics {
   public static final String EXECUTED_DECISION_INSTANCES = "executed-decision-instances";
   public static final String DECISION_INSTANCES = "decision-instances";
 
+  /**
+   * Number of decision table evaluations whose result was found or not found
+   * in the result cache of the decision table.
+   */
+  public static final String DECISION_RESULT_CACHE_HITS = "decision-result-cache-hits";
+  public static final String DECISION_RESULT_CACHE_MISSES = "decision-result-cache-misses";
+
   /**
    * Number of instances removed by history cleanup.
    */
@@ -0,0 +1,41 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.query;
+
+import java.util.List;
+
+/**
+ * A page of query results selected by
+ * {@link org.camunda.bpm.engine.history.HistoricProcessInstanceQuery#listAfter(String, int)}
+ * or {@link org.camunda.bpm.engine.task.TaskQuery#listAfter(String, int)}.
+ *
+ * @param <U> the type of the results
+ */
+public interface KeysetPage<U> {
+
+  /**
+   * @return the results of the page in the order of the query
+   */
+  List<U> getResults();
+
+  /**
+   * @return the cursor to pass to <code>listAfter</code> of the same query to select
+   *   the next page, or <code>null</code> if this is the last page
+   */
+  String getNextCursor();
+
+}
@@ -17,9 +17,11 @@
 package org.camunda.bpm.engine.query;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 import org.camunda.bpm.engine.BadUserRequestException;
 import org.camunda.bpm.engine.ProcessEngineException;
+import org.camunda.bpm.engine.exception.NotValidException;
 
 /**
  * Describes basic methods for querying.
@@ -83,4 +85,23 @@ public interface Query<T extends Query< ? , ? >, U extends Object> {
    */
   List<U> listPage(int firstResult, int maxResults);
 
+  /**
+   * Executes the query and passes the results one by one to the given consumer
+   * while they are read from the database, instead of collecting them in a list.
+   * The consumer is called within the transaction of the query, so the memory used
+   * does not grow with the number of results.
+   *
+   * @param consumer receives the results of the query in order
+   *
+   * @throws BadUserRequestException
+   *   When the max results limit is set by the process engine configuration property
+   *   <code>queryMaxResultsLimit</code>, unless the property
+   *   <code>queryMaxResultsLimitBypassedByStreaming</code> is enabled.
+   * @throws NotValidException
+   *   When the query initializes its results together after they were loaded and
+   *   therefore cannot be streamed, e.g. a historic decision instance query which
+   *   includes inputs or outputs.
+   */
+  void stream(Consumer<U> consumer);
+
 }
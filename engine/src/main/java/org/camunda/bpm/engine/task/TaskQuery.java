@@ -22,7 +22,9 @@ import java.util.List;
 
 import org.camunda.bpm.engine.BadUserRequestException;
 import org.camunda.bpm.engine.ProcessEngineException;
+import org.camunda.bpm.engine.exception.NotValidException;
 import org.camunda.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.camunda.bpm.engine.query.KeysetPage;
 import org.camunda.bpm.engine.query.Query;
 import org.camunda.bpm.engine.variable.type.ValueType;
 
@@ -1135,4 +1137,25 @@ public interface TaskQuery extends Query<TaskQuery, Task> {
    * it might slow down the query in case of tables having high volume of data.
    */
   TaskQuery withCommentAttachmentInfo();
+
+  /**
+   * <p>Executes the query and returns the results following the given cursor (keyset
+   * pagination). In contrast to {@link #listPage(int, int)}, the database does not have to
+   * read and skip the results of the previous pages, so that deep pages are selected as fast
+   * as the first one.</p>
+   *
+   * <p>The results are ordered by the orderings of the query followed by the id of the result.
+   * Only orderings by create time and by id are supported, since the other columns are not
+   * indexed or nullable. The cursor of a page can only be used with a query with the same
+   * orderings.</p>
+   *
+   * @param cursor the next cursor of the previous page or <code>null</code> to select the first page
+   * @param maxResults the maximum number of results
+   * @return the page of results
+   * @throws NotValidException
+   *   When the query is ordered by an unsupported property or the cursor is invalid.
+   * @throws BadUserRequestException
+   *   When {@param maxResults} exceeds the maximum results limit.
+   */
+  KeysetPage<Task> listAfter(String cursor, int maxResults);
 }
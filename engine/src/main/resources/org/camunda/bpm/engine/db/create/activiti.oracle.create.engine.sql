@@ -319,6 +319,16 @@ create table ACT_RU_TASK_METER_LOG (
   primary key (ID_)
 );
 
+create table ACT_RU_HIST_OUTBOX (
+  ID_ NVARCHAR2(64) not null,
+  OWNER_ NVARCHAR2(255) not null,
+  SEQ_ NUMBER(19,0) not null,
+  EVENT_COUNT_ INTEGER,
+  CREATE_TIME_ TIMESTAMP(6),
+  PAYLOAD_ BLOB,
+  primary key (ID_)
+);
+
 create table ACT_RU_EXT_TASK (
   ID_ NVARCHAR2(64) not null,
   REV_ integer not null,
@@ -401,6 +411,9 @@ CREATE INDEX ACT_IDX_METER_LOG ON ACT_RU_METER_LOG(NAME_, TIMESTAMP_);
 -- task metric timestamp column
 CREATE INDEX ACT_IDX_TASK_METER_LOG_TIME ON ACT_RU_TASK_METER_LOG(TIMESTAMP_);
 
+-- async history outbox
+CREATE INDEX ACT_IDX_HIST_OUTBOX_OWNER ON ACT_RU_HIST_OUTBOX(OWNER_, SEQ_);
+
 create index ACT_IDX_EXT_TASK_TOPIC on ACT_RU_EXT_TASK(TOPIC_NAME_);
 create index ACT_IDX_EXT_TASK_TENANT_ID on ACT_RU_EXT_TASK(TENANT_ID_, 0);
 create index ACT_IDX_EXT_TASK_PRIORITY ON ACT_RU_EXT_TASK(PRIORITY_);
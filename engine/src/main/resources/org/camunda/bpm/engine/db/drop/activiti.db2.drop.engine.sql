@@ -153,6 +153,9 @@ DROP INDEX ACT_IDX_METER_LOG;
 -- task metric timestamp column
 drop index ACT_IDX_TASK_METER_LOG_TIME;
 
+-- async history outbox
+drop index ACT_IDX_HIST_OUTBOX_OWNER;
+
 drop index ACT_IDX_AUTH_RESOURCE_ID;
 drop index ACT_IDX_EXT_TASK_TOPIC;
 drop index ACT_IDX_EXT_TASK_EXEC;
@@ -208,6 +211,7 @@ drop table ACT_RU_AUTHORIZATION;
 drop table ACT_RU_FILTER;
 drop table ACT_RU_METER_LOG;
 drop table ACT_RU_TASK_METER_LOG;
+drop table ACT_RU_HIST_OUTBOX;
 drop table ACT_RU_EXT_TASK;
 drop table ACT_RU_BATCH;
 drop table ACT_GE_SCHEMA_LOG;
@@ -145,6 +145,9 @@ DROP INDEX ACT_IDX_METER_LOG;
 -- task metric timestamp column
 drop index ACT_IDX_TASK_METER_LOG_TIME;
 
+-- async history outbox
+drop index ACT_IDX_HIST_OUTBOX_OWNER;
+
 drop index ACT_IDX_AUTH_RESOURCE_ID;
 drop index ACT_IDX_EXT_TASK_TOPIC;
 drop index ACT_IDX_EXT_TASK_EXEC;
@@ -201,6 +204,7 @@ drop table ACT_RU_AUTHORIZATION if exists;
 drop table ACT_RU_FILTER if exists;
 drop table ACT_RU_METER_LOG if exists;
 drop table ACT_RU_TASK_METER_LOG if exists;
+drop table ACT_RU_HIST_OUTBOX if exists;
 drop table ACT_RU_EXT_TASK if exists;
 drop table ACT_RU_BATCH if exists;
 drop table ACT_GE_SCHEMA_LOG if exists;
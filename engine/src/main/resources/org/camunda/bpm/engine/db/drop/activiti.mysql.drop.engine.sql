@@ -44,6 +44,9 @@ DROP INDEX ACT_IDX_METER_LOG ON ACT_RU_METER_LOG;
 -- task metric timestamp column
 drop index ACT_IDX_TASK_METER_LOG_TIME on ACT_RU_TASK_METER_LOG;
 
+-- async history outbox
+drop index ACT_IDX_HIST_OUTBOX_OWNER on ACT_RU_HIST_OUTBOX;
+
 drop index ACT_IDX_EXT_TASK_TOPIC on ACT_RU_EXT_TASK;
 
 drop index ACT_IDX_JOB_EXECUTION_ID on ACT_RU_JOB;
@@ -192,6 +195,7 @@ drop table if exists ACT_RU_AUTHORIZATION;
 drop table if exists ACT_RU_FILTER;
 drop table if exists ACT_RU_METER_LOG;
 drop table if exists ACT_RU_TASK_METER_LOG;
+drop table if exists ACT_RU_HIST_OUTBOX;
 drop table if exists ACT_RU_EXT_TASK;
 drop table if exists ACT_RU_BATCH;
 drop table if exists ACT_GE_SCHEMA_LOG;
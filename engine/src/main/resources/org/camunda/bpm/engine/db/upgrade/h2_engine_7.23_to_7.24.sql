@@ -17,3 +17,15 @@
 
 insert into ACT_GE_SCHEMA_LOG
 values ('1300', CURRENT_TIMESTAMP, '7.24.0');
+
+create table ACT_RU_HIST_OUTBOX (
+  ID_ varchar(64) not null,
+  OWNER_ varchar(255) not null,
+  SEQ_ bigint not null,
+  EVENT_COUNT_ integer,
+  CREATE_TIME_ timestamp,
+  PAYLOAD_ blob,
+  primary key (ID_)
+);
+
+create index ACT_IDX_HIST_OUTBOX_OWNER on ACT_RU_HIST_OUTBOX(OWNER_, SEQ_);
@@ -17,3 +17,15 @@
 
 insert into ACT_GE_SCHEMA_LOG
 values ('1300', CURRENT_TIMESTAMP, '7.24.0');
+
+create table ACT_RU_HIST_OUTBOX (
+  ID_ nvarchar(64) not null,
+  OWNER_ nvarchar(255) not null,
+  SEQ_ numeric(19,0) not null,
+  EVENT_COUNT_ int,
+  CREATE_TIME_ datetime2,
+  PAYLOAD_ image,
+  primary key (ID_)
+);
+
+create index ACT_IDX_HIST_OUTBOX_OWNER on ACT_RU_HIST_OUTBOX(OWNER_, SEQ_);
@@ -0,0 +1,126 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.impl.jobexecutor.cluster;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Savepoint;
+
+import javax.sql.DataSource;
+
+import org.apache.ibatis.session.SqlSession;
+import org.camunda.bpm.engine.ProcessEngineException;
+import org.camunda.bpm.engine.impl.db.sql.DbSqlSession;
+import org.camunda.bpm.engine.impl.interceptor.CommandContext;
+import org.junit.Before;
+import org.junit.Test;
+
+public class PostgresClusterJobNotifierTest {
+
+  protected PostgresClusterJobNotifier notifier;
+  protected Connection connection;
+  protected PreparedStatement statement;
+  protected Savepoint savepoint;
+
+  @Before
+  public void init() throws SQLException {
+    notifier = new PostgresClusterJobNotifier(mock(DataSource.class));
+
+    connection = mock(Connection.class);
+    statement = mock(PreparedStatement.class);
+    savepoint = mock(Savepoint.class);
+    when(connection.setSavepoint()).thenReturn(savepoint);
+    when(connection.prepareStatement(anyString())).thenReturn(statement);
+  }
+
+  @Test
+  public void shouldNotifyOnConnectionOfCommand() throws SQLException {
+    // given
+    CommandContext commandContext = mock(CommandContext.class);
+    DbSqlSession dbSqlSession = mock(DbSqlSession.class);
+    SqlSession sqlSession = mock(SqlSession.class);
+    when(commandContext.getDbSqlSession()).thenReturn(dbSqlSession);
+    when(dbSqlSession.getSqlSession()).thenReturn(sqlSession);
+    when(sqlSession.getConnection()).thenReturn(connection);
+
+    // when
+    notifier.jobsAdded(commandContext);
+
+    // then the notification is sent right away instead of when the transaction commits
+    verify(statement).execute();
+    verify(commandContext, never()).getTransactionContext();
+  }
+
+  @Test
+  public void shouldNotifyInsideSavepoint() throws SQLException {
+    // when
+    notifier.notifyChannel(connection);
+
+    // then
+    verify(statement).execute();
+    verify(connection).releaseSavepoint(savepoint);
+    verify(connection, never()).rollback(savepoint);
+  }
+
+  @Test
+  public void shouldRollbackToSavepointIfNotificationFails() throws SQLException {
+    // given
+    when(statement.execute()).thenThrow(new SQLException("notification queue is full"));
+
+    // when
+    notifier.notifyChannel(connection);
+
+    // then
+    verify(connection).rollback(savepoint);
+    verify(connection, never()).releaseSavepoint(savepoint);
+  }
+
+  @Test
+  public void shouldFailIfSavepointCannotBeRestored() throws SQLException {
+    // given
+    when(statement.execute()).thenThrow(new SQLException("notification queue is full"));
+    doThrow(new SQLException("connection is broken")).when(connection).rollback(savepoint);
+
+    // when/then
+    assertThatThrownBy(() -> notifier.notifyChannel(connection))
+      .isInstanceOf(ProcessEngineException.class)
+      .hasMessageContaining("The transaction cannot be committed")
+      .hasRootCauseMessage("connection is broken");
+  }
+
+  @Test
+  public void shouldNotNotifyIfSavepointCannotBeSet() throws SQLException {
+    // given
+    when(connection.setSavepoint()).thenThrow(new SQLException("savepoints are not supported"));
+
+    // when
+    notifier.notifyChannel(connection);
+
+    // then
+    verify(connection, never()).prepareStatement(anyString());
+  }
+
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.test.api.cfg;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.camunda.bpm.engine.RepositoryService;
+import org.camunda.bpm.engine.RuntimeService;
+import org.camunda.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.camunda.bpm.engine.impl.persistence.deploy.cache.DeploymentCache;
+import org.camunda.bpm.engine.impl.persistence.deploy.cache.SegmentedCacheFactory;
+import org.camunda.bpm.engine.impl.persistence.entity.ProcessDefinitionEntity;
+import org.camunda.bpm.engine.repository.ProcessDefinition;
+import org.camunda.bpm.engine.test.api.runtime.migration.models.ProcessModels;
+import org.camunda.bpm.engine.test.util.ProcessEngineBootstrapRule;
+import org.camunda.bpm.engine.test.util.ProcessEngineTestRule;
+import org.camunda.bpm.engine.test.util.ProvidedProcessEngineRule;
+import org.camunda.commons.utils.cache.Cache;
+import org.camunda.commons.utils.cache.SegmentedLruCache;
+import org.junit.Before;
+import org.junit.ClassRule;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.RuleChain;
+
+public class SegmentedDeploymentCacheCfgTest {
+
+  @ClassRule
+  public static ProcessEngineBootstrapRule bootstrapRule = new ProcessEngineBootstrapRule(configuration -> {
+    SegmentedCacheFactory cacheFactory = new SegmentedCacheFactory();
+    cacheFactory.setFrequencyAdmission(true);
+    configuration.setCacheFactory(cacheFactory);
+  });
+
+  protected ProvidedProcessEngineRule engineRule = new ProvidedProcessEngineRule(bootstrapRule);
+  protected ProcessEngineTestRule testRule = new ProcessEngineTestRule(engineRule);
+
+  @Rule
+  public RuleChain ruleChain = RuleChain.outerRule(engineRule).around(testRule);
+
+  protected ProcessEngineConfigurationImpl processEngineConfiguration;
+  protected RepositoryService repositoryService;
+  protected RuntimeService runtimeService;
+
+  @Before
+  public void initialize() {
+    processEngineConfiguration = engineRule.getProcessEngineConfiguration();
+    repositoryService = engineRule.getRepositoryService();
+    runtimeService = engineRule.getRuntimeService();
+  }
+
+  @Test
+  public void shouldUseSegmentedCache() {
+    // given
+    DeploymentCache deploymentCache = processEngineConfiguration.getDeploymentCache();
+
+    // when
+    Cache<String, ProcessDefinitionEntity> cache = deploymentCache.getProcessDefinitionCache();
+
+    // then
+    assertThat(cache).isInstanceOf(SegmentedLruCache.class);
+  }
+
+  @Test
+  public void shouldResolveDefinitionAfterCacheWasCleared() {
+    // given
+    testRule.deploy(ProcessModels.ONE_TASK_PROCESS);
+    ProcessDefinition processDefinition = repositoryService.createProcessDefinitionQuery().singleResult();
+    DeploymentCache deploymentCache = processEngineConfiguration.getDeploymentCache();
+    deploymentCache.discardProcessDefinitionCache();
+
+    // when
+    runtimeService.startProcessInstanceById(processDefinition.getId());
+
+    // then
+    SegmentedLruCache<String, ProcessDefinitionEntity> cache =
+        (SegmentedLruCache<String, ProcessDefinitionEntity>) deploymentCache.getProcessDefinitionCache();
+    assertThat(cache.get(processDefinition.getId())).isNotNull();
+    assertThat(cache.getHitCount()).isPositive();
+  }
+
+}
@@ -0,0 +1,278 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.test.api.dmn;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.camunda.bpm.dmn.engine.DmnDecisionResult;
+import org.camunda.bpm.engine.DecisionService;
+import org.camunda.bpm.engine.HistoryService;
+import org.camunda.bpm.engine.IdentityService;
+import org.camunda.bpm.engine.ProcessEngineConfiguration;
+import org.camunda.bpm.engine.exception.NotFoundException;
+import org.camunda.bpm.engine.exception.NotValidException;
+import org.camunda.bpm.engine.history.HistoricDecisionInstance;
+import org.camunda.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.camunda.bpm.engine.impl.dmn.cmd.EvaluateDecisionBatchCmd;
+import org.camunda.bpm.engine.repository.DecisionDefinition;
+import org.camunda.bpm.engine.test.Deployment;
+import org.camunda.bpm.engine.test.ProcessEngineRule;
+import org.camunda.bpm.engine.test.RequiredHistoryLevel;
+import org.camunda.bpm.engine.test.util.ProcessEngineTestRule;
+import org.camunda.bpm.engine.test.util.ProvidedProcessEngineRule;
+import org.camunda.bpm.engine.variable.Variables;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.RuleChain;
+
+public class DecisionServiceBatchEvaluationTest {
+
+  protected static final String DMN_DECISION_TABLE = "org/camunda/bpm/engine/test/api/dmn/Example.dmn";
+
+  protected static final String DECISION_DEFINITION_KEY = "decision";
+
+  protected ProcessEngineRule engineRule = new ProvidedProcessEngineRule();
+  protected ProcessEngineTestRule testRule = new ProcessEngineTestRule(engineRule);
+
+  @Rule
+  public RuleChain ruleChain = RuleChain.outerRule(engineRule).around(testRule);
+
+  protected DecisionService decisionService;
+  protected HistoryService historyService;
+  protected IdentityService identityService;
+
+  @Before
+  public void init() {
+    decisionService = engineRule.getDecisionService();
+    historyService = engineRule.getHistoryService();
+    identityService = engineRule.getIdentityService();
+  }
+
+  @After
+  public void clearAuthentication() {
+    identityService.clearAuthentication();
+  }
+
+  @Deployment(resources = DMN_DECISION_TABLE)
+  @Test
+  public void shouldEvaluateDecisionInBatches() {
+    // given
+    List<Map<String, Object>> variables = createVariables(25);
+
+    // when
+    List<String> results = decisionService.evaluateDecisionsByKey(DECISION_DEFINITION_KEY)
+        .variables(variables)
+        .batchSize(4)
+        .evaluate()
+        .map(result -> result.getSingleResult().<String>getEntry("result"))
+        .collect(Collectors.toList());
+
+    // then
+    assertThat(results).isEqualTo(expectedResults(25));
+  }
+
+  @Deployment(resources = DMN_DECISION_TABLE)
+  @Test
+  public void shouldEvaluateDecisionInParallel() {
+    // given
+    ForkJoinPool forkJoinPool = new ForkJoinPool(4);
+
+    try {
+      // when
+      List<String> results = decisionService.evaluateDecisionsByKey(DECISION_DEFINITION_KEY)
+          .variables(createVariables(100).stream())
+          .batchSize(3)
+          .parallel(forkJoinPool)
+          .evaluate()
+          .map(result -> result.getSingleResult().<String>getEntry("result"))
+          .collect(Collectors.toList());
+
+      // then the results keep the order of the input values
+      assertThat(results).isEqualTo(expectedResults(100));
+
+    } finally {
+      forkJoinPool.shutdown();
+    }
+  }
+
+  @Deployment(resources = DMN_DECISION_TABLE)
+  @Test
+  public void shouldEvaluateDecisionLazily() {
+    // when
+    List<DmnDecisionResult> results = decisionService.evaluateDecisionsByKey(DECISION_DEFINITION_KEY)
+        .variables(IntStream.range(0, Integer.MAX_VALUE).mapToObj(this::createVariablesForIndex))
+        .batchSize(5)
+        .evaluate()
+        .limit(7)
+        .collect(Collectors.toList());
+
+    // then
+    assertThat(results).hasSize(7);
+  }
+
+  @Deployment(resources = DMN_DECISION_TABLE)
+  @RequiredHistoryLevel(ProcessEngineConfiguration.HISTORY_FULL)
+  @Test
+  public void shouldCreateHistoricDecisionInstances() {
+    // when
+    long count = decisionService.evaluateDecisionsByKey(DECISION_DEFINITION_KEY)
+        .variables(createVariables(10))
+        .batchSize(3)
+        .evaluate()
+        .count();
+
+    // then
+    assertThat(count).isEqualTo(10);
+    assertThat(historyService.createHistoricDecisionInstanceQuery().count()).isEqualTo(10);
+  }
+
+  @Deployment(resources = DMN_DECISION_TABLE)
+  @RequiredHistoryLevel(ProcessEngineConfiguration.HISTORY_FULL)
+  @Test
+  public void shouldSkipHistoricDecisionInstances() {
+    // when
+    long count = decisionService.evaluateDecisionsByKey(DECISION_DEFINITION_KEY)
+        .variables(createVariables(10))
+        .batchSize(3)
+        .skipHistory()
+        .evaluate()
+        .count();
+
+    // then
+    assertThat(count).isEqualTo(10);
+    assertThat(historyService.createHistoricDecisionInstanceQuery().count()).isZero();
+
+    // and history of single evaluations is still written
+    decisionService.evaluateDecisionByKey(DECISION_DEFINITION_KEY).variables(createVariablesForIndex(0)).evaluate();
+    assertThat(historyService.createHistoricDecisionInstanceQuery().count()).isEqualTo(1);
+  }
+
+  @Deployment(resources = DMN_DECISION_TABLE)
+  @Test
+  public void shouldRestoreDecisionHistoryFlag() {
+    // given
+    ProcessEngineConfigurationImpl processEngineConfiguration = engineRule.getProcessEngineConfiguration();
+    DecisionDefinition decisionDefinition = engineRule.getRepositoryService().createDecisionDefinitionQuery().singleResult();
+
+    // when
+    boolean decisionHistoryEnabled = processEngineConfiguration.getCommandExecutorTxRequired().execute(commandContext -> {
+      new EvaluateDecisionBatchCmd(decisionDefinition, createVariables(1), true, null).execute(commandContext);
+      return commandContext.isDecisionHistoryEnabled();
+    });
+
+    // then
+    assertThat(decisionHistoryEnabled).isTrue();
+  }
+
+  @Deployment(resources = DMN_DECISION_TABLE)
+  @RequiredHistoryLevel(ProcessEngineConfiguration.HISTORY_FULL)
+  @Test
+  public void shouldSetUserIdOfDecisionsEvaluatedInParallel() {
+    // given
+    ForkJoinPool forkJoinPool = new ForkJoinPool(4);
+    identityService.setAuthenticatedUserId("demo");
+
+    try {
+      // when
+      long count = decisionService.evaluateDecisionsByKey(DECISION_DEFINITION_KEY)
+          .variables(createVariables(20))
+          .batchSize(3)
+          .parallel(forkJoinPool)
+          .evaluate()
+          .count();
+
+      // then
+      assertThat(count).isEqualTo(20);
+      assertThat(historyService.createHistoricDecisionInstanceQuery().list())
+        .hasSize(20)
+        .extracting(HistoricDecisionInstance::getUserId)
+        .containsOnly("demo");
+
+      // and the authentication of the caller is kept
+      assertThat(identityService.getCurrentAuthentication().getUserId()).isEqualTo("demo");
+
+    } finally {
+      forkJoinPool.shutdown();
+    }
+  }
+
+  @Test
+  public void shouldFailToEvaluateUnknownDecision() {
+    assertThatThrownBy(() -> decisionService.evaluateDecisionsByKey("unknown")
+        .variables(createVariables(1))
+        .evaluate())
+      .isInstanceOf(NotFoundException.class)
+      .hasMessageContaining("no decision definition deployed with key 'unknown'");
+  }
+
+  @Deployment(resources = DMN_DECISION_TABLE)
+  @Test
+  public void shouldFailToEvaluateWithoutVariables() {
+    assertThatThrownBy(() -> decisionService.evaluateDecisionsByKey(DECISION_DEFINITION_KEY).evaluate())
+      .isInstanceOf(NotValidException.class)
+      .hasMessageContaining("variables");
+  }
+
+  @Test
+  public void shouldFailToEvaluateWithNullVariableStream() {
+    assertThatThrownBy(() -> decisionService.evaluateDecisionsByKey(DECISION_DEFINITION_KEY)
+        .variables((Stream<Map<String, Object>>) null))
+      .isInstanceOf(NotValidException.class)
+      .hasMessageContaining("variables");
+  }
+
+  @Test
+  public void shouldFailToEvaluateWithInvalidBatchSize() {
+    assertThatThrownBy(() -> decisionService.evaluateDecisionsByKey(DECISION_DEFINITION_KEY).batchSize(0))
+      .isInstanceOf(NotValidException.class)
+      .hasMessageContaining("batchSize");
+  }
+
+  protected List<Map<String, Object>> createVariables(int count) {
+    List<Map<String, Object>> variables = new ArrayList<>();
+    for (int i = 0; i < count; i++) {
+      variables.add(createVariablesForIndex(i));
+    }
+    return variables;
+  }
+
+  protected Map<String, Object> createVariablesForIndex(int index) {
+    return Variables.createVariables()
+        .putValue("status", "silver")
+        .putValue("sum", index % 2 == 0 ? 500 : 1500);
+  }
+
+  protected List<String> expectedResults(int count) {
+    List<String> results = new ArrayList<>();
+    for (int i = 0; i < count; i++) {
+      results.add(i % 2 == 0 ? "ok" : "notok");
+    }
+    return results;
+  }
+
+}
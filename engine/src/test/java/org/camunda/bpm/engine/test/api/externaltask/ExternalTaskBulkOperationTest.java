@@ -0,0 +1,199 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.test.api.externaltask;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.camunda.bpm.engine.ProcessEngineException;
+import org.camunda.bpm.engine.externaltask.ExternalTask;
+import org.camunda.bpm.engine.externaltask.ExternalTaskOperationResult;
+import org.camunda.bpm.engine.externaltask.LockedExternalTask;
+import org.camunda.bpm.engine.runtime.ProcessInstance;
+import org.camunda.bpm.engine.test.util.PluggableProcessEngineTest;
+import org.camunda.bpm.engine.variable.Variables;
+import org.camunda.bpm.model.bpmn.Bpmn;
+import org.camunda.bpm.model.bpmn.BpmnModelInstance;
+import org.junit.Before;
+import org.junit.Test;
+
+public class ExternalTaskBulkOperationTest extends PluggableProcessEngineTest {
+
+  protected static final String WORKER_ID = "aWorkerId";
+  protected static final String TOPIC_NAME = "externalTaskTopic";
+  protected static final long LOCK_TIME = 10000L;
+
+  protected static final BpmnModelInstance PROCESS = Bpmn.createExecutableProcess("process")
+      .startEvent()
+      .serviceTask("externalTask")
+        .camundaExternalTask(TOPIC_NAME)
+      .serviceTask()
+        .camundaExpression("${fail ? unknownBean.execute() : true}")
+      .userTask("afterExternalTask")
+      .endEvent()
+      .done();
+
+  @Before
+  public void deployProcess() {
+    testRule.deploy(PROCESS);
+  }
+
+  @Test
+  public void shouldHandleExternalTasks() {
+    // given
+    ProcessInstance firstInstance = startProcessInstance();
+    ProcessInstance secondInstance = startProcessInstance();
+    ProcessInstance thirdInstance = startProcessInstance();
+    List<LockedExternalTask> tasks = fetchAndLock(3, WORKER_ID);
+
+    // when
+    List<ExternalTaskOperationResult> results = externalTaskService.bulkOperation(WORKER_ID)
+      .complete(taskOf(tasks, firstInstance), null, null)
+      .handleFailure(taskOf(tasks, secondInstance), "anErrorMessage", "anErrorDetails", 2, 0L, null, null)
+      .extendLock(taskOf(tasks, thirdInstance), 100000L)
+      .execute();
+
+    // then
+    assertThat(results)
+      .extracting(ExternalTaskOperationResult::getOperationType, ExternalTaskOperationResult::isSuccessful)
+      .containsExactly(
+          tuple(ExternalTaskOperationResult.OPERATION_COMPLETE, true),
+          tuple(ExternalTaskOperationResult.OPERATION_FAILURE, true),
+          tuple(ExternalTaskOperationResult.OPERATION_EXTEND_LOCK, true));
+
+    assertThat(taskService.createTaskQuery().processInstanceId(firstInstance.getId()).count()).isEqualTo(1);
+
+    ExternalTask failedTask = externalTaskService.createExternalTaskQuery()
+        .processInstanceId(secondInstance.getId())
+        .singleResult();
+    assertThat(failedTask.getRetries()).isEqualTo(2);
+    assertThat(failedTask.getErrorMessage()).isEqualTo("anErrorMessage");
+
+    ExternalTask extendedTask = externalTaskService.createExternalTaskQuery()
+        .processInstanceId(thirdInstance.getId())
+        .singleResult();
+    assertThat(extendedTask.getLockExpirationTime())
+      .isAfter(tasks.get(0).getLockExpirationTime());
+  }
+
+  @Test
+  public void shouldReportRejectedOperations() {
+    // given
+    startProcessInstance();
+    startProcessInstance();
+    List<LockedExternalTask> tasks = new ArrayList<>(fetchAndLock(1, "anotherWorkerId"));
+    tasks.addAll(fetchAndLock(1, WORKER_ID));
+
+    // when
+    List<ExternalTaskOperationResult> results = externalTaskService.bulkOperation(WORKER_ID)
+      .complete("unknownTaskId", null, null)
+      .complete(tasks.get(0).getId(), null, null)
+      .complete(tasks.get(1).getId(), null, null)
+      .execute();
+
+    // then the rejected operations do not affect the other operations
+    assertThat(results)
+      .extracting(ExternalTaskOperationResult::getExternalTaskId, ExternalTaskOperationResult::isSuccessful)
+      .containsExactly(
+          tuple("unknownTaskId", false),
+          tuple(tasks.get(0).getId(), false),
+          tuple(tasks.get(1).getId(), true));
+    assertThat(results.get(0).getErrorMessage()).contains("Cannot find external task with id unknownTaskId");
+    assertThat(results.get(1).getErrorMessage()).contains("It is locked by worker 'anotherWorkerId'");
+
+    assertThat(externalTaskService.createExternalTaskQuery().workerId("anotherWorkerId").count()).isEqualTo(1);
+    assertThat(taskService.createTaskQuery().processInstanceId(tasks.get(1).getProcessInstanceId()).count())
+      .isEqualTo(1);
+  }
+
+  @Test
+  public void shouldFailIfOneOperationFails() {
+    // given
+    ProcessInstance failingInstance = startProcessInstance();
+    ProcessInstance otherInstance = startProcessInstance();
+    List<LockedExternalTask> tasks = fetchAndLock(2, WORKER_ID);
+
+    // when
+    assertThatThrownBy(() -> externalTaskService.bulkOperation(WORKER_ID)
+      .complete(taskOf(tasks, failingInstance), Variables.createVariables().putValue("fail", true), null)
+      .complete(taskOf(tasks, otherInstance), Variables.createVariables().putValue("fail", false), null)
+      .execute())
+      .isInstanceOf(ProcessEngineException.class)
+      .hasMessageContaining("unknownBean");
+
+    // then none of the operations is applied
+    assertThat(externalTaskService.createExternalTaskQuery().workerId(WORKER_ID).count()).isEqualTo(2);
+    assertThat(taskService.createTaskQuery().count()).isZero();
+  }
+
+  @Test
+  public void shouldExecuteOperationsSeparatelyIfOneFails() {
+    // given
+    ProcessInstance failingInstance = startProcessInstance();
+    ProcessInstance otherInstance = startProcessInstance();
+    List<LockedExternalTask> tasks = fetchAndLock(2, WORKER_ID);
+
+    // when
+    List<ExternalTaskOperationResult> results = externalTaskService.bulkOperation(WORKER_ID)
+      .executeSeparatelyOnFailure()
+      .complete(taskOf(tasks, failingInstance), Variables.createVariables().putValue("fail", true), null)
+      .complete(taskOf(tasks, otherInstance), Variables.createVariables().putValue("fail", false), null)
+      .execute();
+
+    // then
+    assertThat(results)
+      .extracting(ExternalTaskOperationResult::isSuccessful)
+      .containsExactly(false, true);
+    assertThat(results.get(0).getErrorMessage()).contains("unknownBean");
+
+    assertThat(externalTaskService.createExternalTaskQuery().processInstanceId(failingInstance.getId()).count())
+      .isEqualTo(1);
+    assertThat(taskService.createTaskQuery().processInstanceId(otherInstance.getId()).count()).isEqualTo(1);
+  }
+
+  @Test
+  public void shouldReturnNoResultsWithoutOperations() {
+    // when
+    List<ExternalTaskOperationResult> results = externalTaskService.bulkOperation(WORKER_ID).execute();
+
+    // then
+    assertThat(results).isEmpty();
+  }
+
+  protected ProcessInstance startProcessInstance() {
+    return runtimeService.startProcessInstanceByKey("process", Variables.createVariables().putValue("fail", false));
+  }
+
+  protected List<LockedExternalTask> fetchAndLock(int maxTasks, String workerId) {
+    return externalTaskService.fetchAndLock(maxTasks, workerId)
+        .topic(TOPIC_NAME, LOCK_TIME)
+        .execute();
+  }
+
+  protected String taskOf(List<LockedExternalTask> tasks, ProcessInstance processInstance) {
+    return tasks.stream()
+        .filter(task -> task.getProcessInstanceId().equals(processInstance.getId()))
+        .findFirst()
+        .map(LockedExternalTask::getId)
+        .orElseThrow(IllegalStateException::new);
+  }
+
+}
@@ -39,6 +39,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import org.apache.commons.lang3.exception.ExceptionUtils;
@@ -647,6 +648,33 @@ public class ExternalTaskServiceTest extends PluggableProcessEngineTest {
     assertEquals(5, externalTasks.size());
   }
 
+  @Deployment(resources = "org/camunda/bpm/engine/test/api/externaltask/oneExternalTaskProcess.bpmn20.xml")
+  @Test
+  public void shouldFetchTasksForSeveralWorkers() {
+    // given
+    for (int i = 0; i < 5; i++) {
+      runtimeService.startProcessInstanceByKey("oneExternalTaskProcess");
+    }
+
+    Map<String, Integer> maxTasksPerWorker = new LinkedHashMap<>();
+    maxTasksPerWorker.put("worker1", 1);
+    maxTasksPerWorker.put("worker2", 3);
+    maxTasksPerWorker.put("worker3", 3);
+
+    // when
+    Map<String, List<LockedExternalTask>> externalTasks = externalTaskService.fetchAndLock(1, WORKER_ID)
+      .topic(TOPIC_NAME, LOCK_TIME)
+      .execute(maxTasksPerWorker);
+
+    // then the tasks are distributed in turn
+    assertThat(externalTasks.get("worker1")).hasSize(1);
+    assertThat(externalTasks.get("worker2")).hasSize(2);
+    assertThat(externalTasks.get("worker3")).hasSize(2);
+
+    assertThat(externalTaskService.createExternalTaskQuery().workerId("worker2").count()).isEqualTo(2);
+    assertThat(externalTaskService.createExternalTaskQuery().workerId(WORKER_ID).count()).isZero();
+  }
+
   @Deployment(resources = "org/camunda/bpm/engine/test/api/externaltask/oneExternalTaskProcess.bpmn20.xml")
   @Test
   public void testFetchNegativeLockTime() {
@@ -719,6 +747,93 @@ public class ExternalTaskServiceTest extends PluggableProcessEngineTest {
 
   }
 
+  @Deployment(resources = "org/camunda/bpm/engine/test/api/externaltask/ExternalTaskServiceTest.testFetchVariables.bpmn20.xml")
+  @Test
+  public void shouldFetchVariableTypesOnlyWithLazyVariables() {
+    // given
+    runtimeService.startProcessInstanceByKey("subProcessExternalTask",
+          Variables.createVariables().putValue("processVar1", 42).putValue("processVar2", 43));
+
+    // when
+    List<LockedExternalTask> externalTasks = externalTaskService.fetchAndLock(1, WORKER_ID)
+      .topic(TOPIC_NAME, LOCK_TIME)
+      .variables("processVar1", "subProcessVar", "taskVar")
+      .lazyVariables()
+      .execute();
+
+    // then
+    LockedExternalTask task = externalTasks.get(0);
+    assertThat(task.getVariables()).isEmpty();
+    assertThat(task.getVariableTypes()).containsOnly(
+        entry("processVar1", "integer"),
+        entry("subProcessVar", "long"),
+        entry("taskVar", "long"));
+  }
+
+  @Deployment(resources = "org/camunda/bpm/engine/test/api/externaltask/ExternalTaskServiceTest.testFetchVariables.bpmn20.xml")
+  @Test
+  public void shouldNotFetchVariableTypesWithoutLazyVariables() {
+    // given
+    runtimeService.startProcessInstanceByKey("subProcessExternalTask",
+          Variables.createVariables().putValue("processVar1", 42).putValue("processVar2", 43));
+
+    // when
+    List<LockedExternalTask> externalTasks = externalTaskService.fetchAndLock(1, WORKER_ID)
+      .topic(TOPIC_NAME, LOCK_TIME)
+      .variables("processVar1")
+      .execute();
+
+    // then
+    LockedExternalTask task = externalTasks.get(0);
+    assertThat(task.getVariables()).containsOnlyKeys("processVar1");
+    assertThat(task.getVariableTypes()).isNull();
+  }
+
+  @Deployment(resources = "org/camunda/bpm/engine/test/api/externaltask/ExternalTaskServiceTest.testFetchVariables.bpmn20.xml")
+  @Test
+  public void shouldGetVariablesOfExternalTask() {
+    // given
+    runtimeService.startProcessInstanceByKey("subProcessExternalTask",
+          Variables.createVariables().putValue("processVar1", 42).putValue("processVar2", 43));
+    LockedExternalTask task = externalTaskService.fetchAndLock(1, WORKER_ID)
+      .topic(TOPIC_NAME, LOCK_TIME)
+      .lazyVariables()
+      .execute()
+      .get(0);
+
+    // when
+    VariableMap variables = externalTaskService.getVariablesTyped(task.getId(), Arrays.asList("processVar1", "taskVar"), true);
+
+    // then
+    assertThat(variables).containsOnly(
+        entry("processVar1", 42),
+        entry("taskVar", 45L));
+  }
+
+  @Deployment(resources = "org/camunda/bpm/engine/test/api/externaltask/ExternalTaskServiceTest.testFetchVariables.bpmn20.xml")
+  @Test
+  public void shouldFailToGetVariablesOfExternalTaskLockedByOtherWorker() {
+    // given
+    runtimeService.startProcessInstanceByKey("subProcessExternalTask",
+          Variables.createVariables().putValue("processVar1", 42));
+    LockedExternalTask task = externalTaskService.fetchAndLock(1, WORKER_ID)
+      .topic(TOPIC_NAME, LOCK_TIME)
+      .lazyVariables()
+      .execute()
+      .get(0);
+
+    // when/then
+    assertThatThrownBy(() -> externalTaskService.getVariablesTyped(task.getId(), "someOtherWorkerId", null, false, true, null))
+      .isInstanceOf(BadUserRequestException.class)
+      .hasMessageContaining("It is locked by worker '" + WORKER_ID + "'");
+  }
+
+  @Test
+  public void shouldFailToGetVariablesOfNonExistingExternalTask() {
+    assertThatThrownBy(() -> externalTaskService.getVariablesTyped("nonExisting", null, true))
+      .isInstanceOf(NotFoundException.class);
+  }
+
   @Deployment(resources = "org/camunda/bpm/engine/test/api/externaltask/ExternalTaskServiceTest.testFetchVariables.bpmn20.xml")
   @Test
   public void testShouldNotFetchSerializedVariables() {
@@ -0,0 +1,201 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.test.api.externaltask;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BooleanSupplier;
+
+import org.camunda.bpm.engine.ExternalTaskService;
+import org.camunda.bpm.engine.RuntimeService;
+import org.camunda.bpm.engine.externaltask.ExternalTask;
+import org.camunda.bpm.engine.externaltask.LocalExternalTaskHandler;
+import org.camunda.bpm.engine.externaltask.LockedExternalTask;
+import org.camunda.bpm.engine.runtime.ProcessInstance;
+import org.camunda.bpm.engine.test.util.ProcessEngineBootstrapRule;
+import org.camunda.bpm.engine.test.util.ProcessEngineTestRule;
+import org.camunda.bpm.engine.test.util.ProvidedProcessEngineRule;
+import org.camunda.bpm.engine.variable.Variables;
+import org.camunda.bpm.model.bpmn.Bpmn;
+import org.camunda.bpm.model.bpmn.BpmnModelInstance;
+import org.junit.Before;
+import org.junit.ClassRule;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.RuleChain;
+
+public class LocalExternalTaskWorkerTest {
+
+  protected static final String LOCAL_TOPIC = "localTopic";
+  protected static final String FAILING_TOPIC = "failingTopic";
+  protected static final String SELECTIVE_TOPIC = "selectiveTopic";
+  protected static final String REMOTE_TOPIC = "remoteTopic";
+
+  protected static final long TIMEOUT = 10000L;
+
+  protected static List<LockedExternalTask> executedTasks = new CopyOnWriteArrayList<>();
+
+  @ClassRule
+  public static ProcessEngineBootstrapRule bootstrapRule = new ProcessEngineBootstrapRule(configuration ->
+      configuration
+        .addLocalExternalTaskHandler(LOCAL_TOPIC, (externalTask, externalTaskService) -> {
+          executedTasks.add(externalTask);
+          externalTaskService.complete(externalTask.getId(), externalTask.getWorkerId(),
+              Collections.singletonMap("result", "done"));
+        })
+        .addLocalExternalTaskHandler(FAILING_TOPIC, (externalTask, externalTaskService) -> {
+          executedTasks.add(externalTask);
+          throw new IllegalStateException("handler failed");
+        })
+        .addLocalExternalTaskHandler(SELECTIVE_TOPIC, new LocalExternalTaskHandler() {
+          @Override
+          public void execute(LockedExternalTask externalTask, ExternalTaskService externalTaskService) {
+            executedTasks.add(externalTask);
+            externalTaskService.complete(externalTask.getId(), externalTask.getWorkerId());
+          }
+
+          @Override
+          public List<String> getVariableNames() {
+            return Collections.singletonList("input");
+          }
+        })
+        .setLocalExternalTaskRetries(2)
+        .setLocalExternalTaskRetryTimeout(TIMEOUT * 6)
+        .setLocalExternalTaskPollInterval(TIMEOUT * 6));
+
+  protected ProvidedProcessEngineRule engineRule = new ProvidedProcessEngineRule(bootstrapRule);
+  protected ProcessEngineTestRule testRule = new ProcessEngineTestRule(engineRule);
+
+  @Rule
+  public RuleChain ruleChain = RuleChain.outerRule(engineRule).around(testRule);
+
+  protected RuntimeService runtimeService;
+  protected ExternalTaskService externalTaskService;
+
+  @Before
+  public void init() {
+    runtimeService = engineRule.getRuntimeService();
+    externalTaskService = engineRule.getExternalTaskService();
+    executedTasks.clear();
+  }
+
+  @Test
+  public void shouldExecuteTaskAfterCommit() {
+    // given
+    testRule.deploy(createProcess("localProcess", LOCAL_TOPIC));
+
+    // when
+    ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("localProcess",
+        Collections.singletonMap("input", "value"));
+
+    // then
+    waitUntil(() -> runtimeService.createProcessInstanceQuery()
+        .processInstanceId(processInstance.getId())
+        .count() == 0);
+
+    assertThat(executedTasks).hasSize(1);
+    LockedExternalTask executedTask = executedTasks.get(0);
+    assertThat(executedTask.getProcessInstanceId()).isEqualTo(processInstance.getId());
+    assertThat(executedTask.getWorkerId()).isNotNull();
+    assertThat(executedTask.getVariables()).containsEntry("input", "value");
+  }
+
+  @Test
+  public void shouldFetchVariablesRequestedByHandler() {
+    // given
+    testRule.deploy(createProcess("selectiveProcess", SELECTIVE_TOPIC));
+
+    // when
+    ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("selectiveProcess",
+        Variables.createVariables().putValue("input", "value").putValue("other", "otherValue"));
+
+    // then
+    waitUntil(() -> runtimeService.createProcessInstanceQuery()
+        .processInstanceId(processInstance.getId())
+        .count() == 0);
+
+    assertThat(executedTasks).hasSize(1);
+    assertThat(executedTasks.get(0).getVariables()).containsOnlyKeys("input");
+  }
+
+  @Test
+  public void shouldReportFailureOfHandler() {
+    // given
+    testRule.deploy(createProcess("failingProcess", FAILING_TOPIC));
+
+    // when
+    runtimeService.startProcessInstanceByKey("failingProcess");
+
+    // then
+    waitUntil(() -> externalTaskService.createExternalTaskQuery()
+        .topicName(FAILING_TOPIC)
+        .singleResult()
+        .getErrorMessage() != null);
+
+    ExternalTask externalTask = externalTaskService.createExternalTaskQuery().topicName(FAILING_TOPIC).singleResult();
+    assertThat(externalTask.getErrorMessage()).isEqualTo("handler failed");
+    assertThat(externalTask.getRetries()).isEqualTo(2);
+    assertThat(externalTaskService.getExternalTaskErrorDetails(externalTask.getId()))
+      .contains(IllegalStateException.class.getName());
+    assertThat(executedTasks).hasSize(1);
+  }
+
+  @Test
+  public void shouldNotExecuteTasksOfOtherTopics() {
+    // given
+    testRule.deploy(createProcess("remoteProcess", REMOTE_TOPIC));
+
+    // when
+    runtimeService.startProcessInstanceByKey("remoteProcess");
+
+    // then
+    ExternalTask externalTask = externalTaskService.createExternalTaskQuery().topicName(REMOTE_TOPIC).singleResult();
+    assertThat(externalTask.getWorkerId()).isNull();
+
+    List<LockedExternalTask> fetchedTasks = externalTaskService.fetchAndLock(1, "remoteWorker")
+        .topic(REMOTE_TOPIC, TIMEOUT)
+        .execute();
+    assertThat(fetchedTasks).hasSize(1);
+    assertThat(executedTasks).isEmpty();
+  }
+
+  protected BpmnModelInstance createProcess(String processKey, String topic) {
+    return Bpmn.createExecutableProcess(processKey)
+        .startEvent()
+        .serviceTask()
+          .camundaExternalTask(topic)
+        .endEvent()
+        .done();
+  }
+
+  protected void waitUntil(BooleanSupplier condition) {
+    long deadline = System.currentTimeMillis() + TIMEOUT;
+    while (!condition.getAsBoolean()) {
+      assertThat(System.currentTimeMillis()).as("condition is met in time").isLessThan(deadline);
+      try {
+        Thread.sleep(50);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return;
+      }
+    }
+  }
+
+}
@@ -0,0 +1,222 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.test.api.queries;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.camunda.bpm.engine.HistoryService;
+import org.camunda.bpm.engine.ProcessEngineConfiguration;
+import org.camunda.bpm.engine.RuntimeService;
+import org.camunda.bpm.engine.TaskService;
+import org.camunda.bpm.engine.exception.NotValidException;
+import org.camunda.bpm.engine.history.HistoricProcessInstance;
+import org.camunda.bpm.engine.impl.QueryOrderingProperty;
+import org.camunda.bpm.engine.impl.TaskQueryImpl;
+import org.camunda.bpm.engine.impl.TaskQueryProperty;
+import org.camunda.bpm.engine.impl.util.ClockUtil;
+import org.camunda.bpm.engine.query.KeysetPage;
+import org.camunda.bpm.engine.task.Task;
+import org.camunda.bpm.engine.task.TaskQuery;
+import org.camunda.bpm.engine.test.RequiredHistoryLevel;
+import org.camunda.bpm.engine.test.util.ProcessEngineTestRule;
+import org.camunda.bpm.engine.test.util.ProvidedProcessEngineRule;
+import org.camunda.bpm.model.bpmn.Bpmn;
+import org.camunda.bpm.model.bpmn.BpmnModelInstance;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.RuleChain;
+
+public class QueryListAfterTest {
+
+  protected static final BpmnModelInstance PROCESS = Bpmn.createExecutableProcess("process")
+      .startEvent()
+      .userTask()
+      .endEvent()
+      .done();
+
+  protected ProvidedProcessEngineRule engineRule = new ProvidedProcessEngineRule();
+  protected ProcessEngineTestRule testRule = new ProcessEngineTestRule(engineRule);
+
+  @Rule
+  public RuleChain ruleChain = RuleChain.outerRule(engineRule).around(testRule);
+
+  protected RuntimeService runtimeService;
+  protected TaskService taskService;
+  protected HistoryService historyService;
+
+  @Before
+  public void init() {
+    runtimeService = engineRule.getRuntimeService();
+    taskService = engineRule.getTaskService();
+    historyService = engineRule.getHistoryService();
+
+    testRule.deploy(PROCESS);
+  }
+
+  @After
+  public void resetClock() {
+    ClockUtil.reset();
+  }
+
+  @Test
+  public void shouldPageTasksInOrderOfCreateTime() {
+    // given two tasks per create time
+    startProcessInstances(6);
+
+    // when
+    List<Task> pagedTasks = new ArrayList<>();
+    String cursor = null;
+    do {
+      KeysetPage<Task> page = taskService.createTaskQuery()
+          .orderByTaskCreateTime()
+          .asc()
+          .listAfter(cursor, 4);
+      pagedTasks.addAll(page.getResults());
+      cursor = page.getNextCursor();
+    } while (cursor != null);
+
+    // then
+    List<Task> tasks = taskService.createTaskQuery()
+        .orderByTaskCreateTime()
+        .asc()
+        .orderByTaskId()
+        .asc()
+        .list();
+    assertThat(pagedTasks).extracting(Task::getId)
+      .containsExactlyElementsOf(tasks.stream().map(Task::getId).collect(Collectors.toList()));
+  }
+
+  @Test
+  @RequiredHistoryLevel(ProcessEngineConfiguration.HISTORY_ACTIVITY)
+  public void shouldPageHistoricProcessInstancesInDescendingOrderOfStartTime() {
+    // given two process instances per start time
+    startProcessInstances(5);
+
+    // when
+    List<HistoricProcessInstance> pagedInstances = new ArrayList<>();
+    String cursor = null;
+    do {
+      KeysetPage<HistoricProcessInstance> page = historyService.createHistoricProcessInstanceQuery()
+          .orderByProcessInstanceStartTime()
+          .desc()
+          .listAfter(cursor, 2);
+      pagedInstances.addAll(page.getResults());
+      cursor = page.getNextCursor();
+    } while (cursor != null);
+
+    // then
+    List<HistoricProcessInstance> instances = historyService.createHistoricProcessInstanceQuery()
+        .orderByProcessInstanceStartTime()
+        .desc()
+        .orderByProcessInstanceId()
+        .asc()
+        .list();
+    assertThat(pagedInstances).extracting(HistoricProcessInstance::getId)
+      .containsExactlyElementsOf(instances.stream().map(HistoricProcessInstance::getId).collect(Collectors.toList()));
+  }
+
+  @Test
+  public void shouldPageTasksByIdWithoutOrdering() {
+    // given
+    startProcessInstances(3);
+
+    // when
+    KeysetPage<Task> firstPage = taskService.createTaskQuery().listAfter(null, 2);
+    KeysetPage<Task> secondPage = taskService.createTaskQuery().listAfter(firstPage.getNextCursor(), 2);
+
+    // then
+    List<Task> tasks = taskService.createTaskQuery().orderByTaskId().asc().list();
+    assertThat(firstPage.getResults()).extracting(Task::getId)
+      .containsExactly(tasks.get(0).getId(), tasks.get(1).getId());
+    assertThat(secondPage.getResults()).extracting(Task::getId)
+      .containsExactly(tasks.get(2).getId());
+    assertThat(secondPage.getNextCursor()).isNull();
+  }
+
+  @Test
+  public void shouldNotChangeOrderingOfQuery() {
+    // given
+    startProcessInstances(2);
+    TaskQuery query = taskService.createTaskQuery().orderByTaskCreateTime().desc();
+
+    // when
+    query.listAfter(null, 1);
+
+    // then the id ordering is not added to the query itself
+    assertThat(((TaskQueryImpl) query).getOrderingProperties())
+      .extracting(QueryOrderingProperty::getQueryProperty)
+      .containsExactly(TaskQueryProperty.CREATE_TIME);
+    assertThat(((TaskQueryImpl) query).getKeyset()).isNull();
+  }
+
+  @Test
+  public void shouldFailForUnsupportedOrdering() {
+    // given
+    TaskQuery query = taskService.createTaskQuery().orderByTaskName().asc();
+
+    // when/then
+    assertThatThrownBy(() -> query.listAfter(null, 10))
+      .isInstanceOf(NotValidException.class)
+      .hasMessageContaining("NAME_");
+  }
+
+  @Test
+  public void shouldFailForCursorOfDifferentOrdering() {
+    // given
+    startProcessInstances(2);
+    String cursor = taskService.createTaskQuery()
+        .orderByTaskCreateTime()
+        .asc()
+        .listAfter(null, 1)
+        .getNextCursor();
+
+    TaskQuery query = taskService.createTaskQuery().orderByTaskCreateTime().desc();
+
+    // when/then
+    assertThatThrownBy(() -> query.listAfter(cursor, 1))
+      .isInstanceOf(NotValidException.class)
+      .hasMessageContaining("the cursor was created for the ordering");
+  }
+
+  @Test
+  public void shouldFailForInvalidCursor() {
+    // given
+    TaskQuery query = taskService.createTaskQuery();
+
+    // when/then
+    assertThatThrownBy(() -> query.listAfter("not a cursor", 1))
+      .isInstanceOf(NotValidException.class)
+      .hasMessageContaining("Invalid cursor");
+  }
+
+  protected void startProcessInstances(int count) {
+    long now = ClockUtil.getCurrentTime().getTime();
+    for (int i = 0; i < count; i++) {
+      ClockUtil.setCurrentTime(new Date(now + (i / 2) * 1000L));
+      runtimeService.startProcessInstanceByKey("process");
+    }
+  }
+
+}
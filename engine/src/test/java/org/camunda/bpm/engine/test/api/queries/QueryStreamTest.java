@@ -0,0 +1,204 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.test.api.queries;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.camunda.bpm.engine.BadUserRequestException;
+import org.camunda.bpm.engine.RuntimeService;
+import org.camunda.bpm.engine.TaskService;
+import org.camunda.bpm.engine.exception.NotValidException;
+import org.camunda.bpm.engine.impl.ProcessInstanceQueryImpl;
+import org.camunda.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.camunda.bpm.engine.impl.persistence.entity.ExecutionEntity;
+import org.camunda.bpm.engine.repository.ProcessDefinition;
+import org.camunda.bpm.engine.runtime.ProcessInstance;
+import org.camunda.bpm.engine.runtime.VariableInstance;
+import org.camunda.bpm.engine.task.Task;
+import org.camunda.bpm.engine.test.util.ProcessEngineTestRule;
+import org.camunda.bpm.engine.test.util.ProvidedProcessEngineRule;
+import org.camunda.bpm.engine.variable.Variables;
+import org.camunda.bpm.model.bpmn.Bpmn;
+import org.camunda.bpm.model.bpmn.BpmnModelInstance;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.RuleChain;
+
+public class QueryStreamTest {
+
+  protected static final BpmnModelInstance PROCESS = Bpmn.createExecutableProcess("process")
+      .documentation("aDocumentation")
+      .startEvent()
+      .userTask()
+        .camundaFormKey("aFormKey")
+      .endEvent()
+      .done();
+
+  protected ProvidedProcessEngineRule engineRule = new ProvidedProcessEngineRule();
+  protected ProcessEngineTestRule testRule = new ProcessEngineTestRule(engineRule);
+
+  @Rule
+  public RuleChain ruleChain = RuleChain.outerRule(engineRule).around(testRule);
+
+  protected ProcessEngineConfigurationImpl processEngineConfiguration;
+  protected RuntimeService runtimeService;
+  protected TaskService taskService;
+
+  @Before
+  public void init() {
+    processEngineConfiguration = engineRule.getProcessEngineConfiguration();
+    runtimeService = engineRule.getRuntimeService();
+    taskService = engineRule.getTaskService();
+
+    testRule.deploy(PROCESS);
+  }
+
+  @After
+  public void resetQueryMaxResultsLimit() {
+    processEngineConfiguration.setQueryMaxResultsLimit(Integer.MAX_VALUE);
+    processEngineConfiguration.setQueryMaxResultsLimitBypassedByStreaming(false);
+    engineRule.getIdentityService().clearAuthentication();
+  }
+
+  @Test
+  public void shouldStreamResultsInOrder() {
+    // given
+    for (int i = 0; i < 5; i++) {
+      runtimeService.startProcessInstanceByKey("process");
+    }
+
+    // when
+    List<String> streamedIds = new ArrayList<>();
+    runtimeService.createProcessInstanceQuery()
+      .orderByProcessInstanceId()
+      .asc()
+      .stream(processInstance -> streamedIds.add(processInstance.getId()));
+
+    // then
+    List<String> listedIds = new ArrayList<>();
+    for (ProcessInstance processInstance : runtimeService.createProcessInstanceQuery().orderByProcessInstanceId().asc().list()) {
+      listedIds.add(processInstance.getId());
+    }
+    assertThat(streamedIds).hasSize(5).isEqualTo(listedIds);
+  }
+
+  @Test
+  public void shouldNotCacheStreamedEntities() {
+    // given
+    runtimeService.startProcessInstanceByKey("process");
+    runtimeService.startProcessInstanceByKey("process");
+
+    // when
+    List<ExecutionEntity> cachedExecutions = processEngineConfiguration.getCommandExecutorTxRequired().execute(commandContext -> {
+      List<String> streamedIds = new ArrayList<>();
+      new ProcessInstanceQueryImpl().stream(processInstance -> streamedIds.add(processInstance.getId()));
+      assertThat(streamedIds).hasSize(2);
+
+      return commandContext.getDbEntityManager().getCachedEntitiesByType(ExecutionEntity.class);
+    });
+
+    // then
+    assertThat(cachedExecutions).isEmpty();
+  }
+
+  @Test
+  public void shouldInitializeStreamedResults() {
+    // given
+    runtimeService.startProcessInstanceByKey("process", Variables.createVariables().putValue("aVariable", "aValue"));
+
+    // when
+    List<Task> tasks = new ArrayList<>();
+    taskService.createTaskQuery().initializeFormKeys().stream(tasks::add);
+    List<VariableInstance> variables = new ArrayList<>();
+    runtimeService.createVariableInstanceQuery().stream(variables::add);
+
+    // then
+    assertThat(tasks).extracting(Task::getFormKey).containsExactly("aFormKey");
+    assertThat(variables).extracting(VariableInstance::getValue).containsExactly("aValue");
+  }
+
+  @Test
+  public void shouldInitializeStreamedProcessDefinitions() {
+    // when
+    List<ProcessDefinition> processDefinitions = new ArrayList<>();
+    engineRule.getRepositoryService().createProcessDefinitionQuery().stream(processDefinitions::add);
+
+    // then
+    assertThat(processDefinitions).extracting(ProcessDefinition::getDescription).containsExactly("aDocumentation");
+  }
+
+  @Test
+  public void shouldNotStreamDecisionInstancesWithInputs() {
+    // when/then
+    assertThatThrownBy(() -> engineRule.getHistoryService().createHistoricDecisionInstanceQuery()
+        .includeInputs()
+        .stream(decisionInstance -> {}))
+      .isInstanceOf(NotValidException.class)
+      .hasMessageContaining("cannot be streamed");
+  }
+
+  @Test
+  public void shouldApplyMaxResultsLimit() {
+    // given
+    runtimeService.startProcessInstanceByKey("process");
+    processEngineConfiguration.setQueryMaxResultsLimit(2);
+    engineRule.getIdentityService().setAuthenticatedUserId("foo");
+
+    // when/then
+    assertThatThrownBy(() -> runtimeService.createProcessInstanceQuery().stream(processInstance -> {}))
+      .isInstanceOf(BadUserRequestException.class)
+      .hasMessage("An unbound number of results is forbidden!");
+  }
+
+  @Test
+  public void shouldIgnoreMaxResultsLimitIfBypassedByStreaming() {
+    // given
+    for (int i = 0; i < 3; i++) {
+      runtimeService.startProcessInstanceByKey("process");
+    }
+    processEngineConfiguration.setQueryMaxResultsLimit(2);
+    processEngineConfiguration.setQueryMaxResultsLimitBypassedByStreaming(true);
+    engineRule.getIdentityService().setAuthenticatedUserId("foo");
+
+    // when
+    List<ProcessInstance> processInstances = new ArrayList<>();
+    runtimeService.createProcessInstanceQuery().stream(processInstances::add);
+
+    // then
+    assertThat(processInstances).hasSize(3);
+  }
+
+  @Test
+  public void shouldPropagateExceptionOfConsumer() {
+    // given
+    runtimeService.startProcessInstanceByKey("process");
+
+    // when/then
+    assertThatThrownBy(() -> runtimeService.createProcessInstanceQuery().stream(processInstance -> {
+        throw new IllegalStateException("consumer failed");
+      }))
+      .isInstanceOf(IllegalStateException.class)
+      .hasMessage("consumer failed");
+  }
+
+}
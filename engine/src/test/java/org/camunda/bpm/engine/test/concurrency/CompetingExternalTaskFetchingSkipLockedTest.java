@@ -0,0 +1,184 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.test.concurrency;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.camunda.bpm.engine.ExternalTaskService;
+import org.camunda.bpm.engine.RuntimeService;
+import org.camunda.bpm.engine.externaltask.LockedExternalTask;
+import org.camunda.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.camunda.bpm.engine.impl.cmd.FetchExternalTasksCmd;
+import org.camunda.bpm.engine.impl.db.sql.DbSqlSessionFactory;
+import org.camunda.bpm.engine.impl.externaltask.TopicFetchInstruction;
+import org.camunda.bpm.engine.impl.test.RequiredDatabase;
+import org.camunda.bpm.engine.test.util.ProcessEngineBootstrapRule;
+import org.camunda.bpm.engine.test.util.ProcessEngineTestRule;
+import org.camunda.bpm.engine.test.util.ProvidedProcessEngineRule;
+import org.camunda.bpm.model.bpmn.Bpmn;
+import org.camunda.bpm.model.bpmn.BpmnModelInstance;
+import org.junit.Before;
+import org.junit.ClassRule;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.RuleChain;
+
+@RequiredDatabase(excludes = DbSqlSessionFactory.DB2)
+public class CompetingExternalTaskFetchingSkipLockedTest {
+
+  protected static final String TOPIC = "externalTaskTopic";
+
+  protected static final BpmnModelInstance PROCESS = Bpmn.createExecutableProcess("process")
+      .startEvent()
+      .serviceTask()
+        .camundaExternalTask(TOPIC)
+      .endEvent()
+      .done();
+
+  @ClassRule
+  public static ProcessEngineBootstrapRule bootstrapRule = new ProcessEngineBootstrapRule(configuration ->
+      configuration.setExternalTaskFetchSkipLocked(true));
+
+  protected ProvidedProcessEngineRule engineRule = new ProvidedProcessEngineRule(bootstrapRule);
+  protected ProcessEngineTestRule testRule = new ProcessEngineTestRule(engineRule);
+
+  @Rule
+  public RuleChain ruleChain = RuleChain.outerRule(engineRule).around(testRule);
+
+  protected ProcessEngineConfigurationImpl processEngineConfiguration;
+  protected RuntimeService runtimeService;
+  protected ExternalTaskService externalTaskService;
+
+  @Before
+  public void initializeServices() {
+    processEngineConfiguration = engineRule.getProcessEngineConfiguration();
+    runtimeService = engineRule.getRuntimeService();
+    externalTaskService = engineRule.getExternalTaskService();
+
+    testRule.deploy(PROCESS);
+  }
+
+  @Test
+  public void shouldFetchDifferentTasksForCompetingWorkers() {
+    // given
+    runtimeService.startProcessInstanceByKey("process");
+    runtimeService.startProcessInstanceByKey("process");
+
+    ExternalTaskFetcherThread thread1 = new ExternalTaskFetcherThread("thread1", 1);
+    ExternalTaskFetcherThread thread2 = new ExternalTaskFetcherThread("thread2", 1);
+
+    // when both threads fetch a task and wait before flushing the lock
+    thread1.startAndWaitUntilControlIsReturned();
+    thread2.startAndWaitUntilControlIsReturned();
+
+    thread1.proceedAndWaitTillDone();
+    thread2.proceedAndWaitTillDone();
+
+    // then the second thread skips the task of the first thread
+    assertThat(thread1.exception).isNull();
+    assertThat(thread2.exception).isNull();
+    assertThat(thread1.fetchedTasks).hasSize(1);
+    assertThat(thread2.fetchedTasks).hasSize(1);
+    assertThat(thread1.fetchedTasks.get(0).getId()).isNotEqualTo(thread2.fetchedTasks.get(0).getId());
+
+    assertThat(externalTaskService.createExternalTaskQuery().workerId("thread1").count()).isEqualTo(1);
+    assertThat(externalTaskService.createExternalTaskQuery().workerId("thread2").count()).isEqualTo(1);
+  }
+
+  @Test
+  public void shouldNotFetchTaskLockedByCompetingWorker() {
+    // given
+    runtimeService.startProcessInstanceByKey("process");
+
+    ExternalTaskFetcherThread thread1 = new ExternalTaskFetcherThread("thread1", 5);
+    ExternalTaskFetcherThread thread2 = new ExternalTaskFetcherThread("thread2", 5);
+
+    // when
+    thread1.startAndWaitUntilControlIsReturned();
+    thread2.startAndWaitUntilControlIsReturned();
+
+    thread1.proceedAndWaitTillDone();
+    thread2.proceedAndWaitTillDone();
+
+    // then
+    assertThat(thread1.fetchedTasks).hasSize(1);
+    assertThat(thread2.fetchedTasks).isEmpty();
+    assertThat(thread2.exception).isNull();
+  }
+
+  @Test
+  public void shouldFetchTasksInOrderOfPriority() {
+    // given
+    BpmnModelInstance priorityProcess = Bpmn.createExecutableProcess("priorityProcess")
+        .startEvent()
+        .serviceTask()
+          .camundaExternalTask(TOPIC)
+          .camundaTaskPriority("${priority}")
+        .endEvent()
+        .done();
+    testRule.deploy(priorityProcess);
+
+    runtimeService.startProcessInstanceByKey("priorityProcess", Collections.singletonMap("priority", 1));
+    String highPriorityInstanceId = runtimeService
+        .startProcessInstanceByKey("priorityProcess", Collections.singletonMap("priority", 10))
+        .getId();
+
+    // when
+    List<LockedExternalTask> tasks = externalTaskService.fetchAndLock(1, "aWorker", true)
+        .topic(TOPIC, 10000L)
+        .execute();
+
+    // then
+    assertThat(tasks).hasSize(1);
+    assertThat(tasks.get(0).getProcessInstanceId()).isEqualTo(highPriorityInstanceId);
+  }
+
+  public class ExternalTaskFetcherThread extends ControllableThread {
+
+    protected String workerId;
+    protected int results;
+
+    protected List<LockedExternalTask> fetchedTasks = Collections.emptyList();
+    protected Exception exception;
+
+    public ExternalTaskFetcherThread(String workerId, int results) {
+      this.workerId = workerId;
+      this.results = results;
+    }
+
+    @Override
+    public void run() {
+      Map<String, TopicFetchInstruction> instructions = Collections.singletonMap(TOPIC,
+          new TopicFetchInstruction(TOPIC, 10000L));
+
+      ControlledCommand<List<LockedExternalTask>> cmd = new ControlledCommand<>(
+          (ControllableThread) Thread.currentThread(),
+          new FetchExternalTasksCmd(workerId, results, instructions));
+
+      try {
+        fetchedTasks = processEngineConfiguration.getCommandExecutorTxRequired().execute(cmd);
+      } catch (Exception e) {
+        exception = e;
+      }
+    }
+  }
+
+}
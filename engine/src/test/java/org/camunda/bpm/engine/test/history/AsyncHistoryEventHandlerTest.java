@@ -0,0 +1,339 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.test.history;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+
+import org.camunda.bpm.engine.HistoryService;
+import org.camunda.bpm.engine.ProcessEngineConfiguration;
+import org.camunda.bpm.engine.ProcessEngineException;
+import org.camunda.bpm.engine.RuntimeService;
+import org.camunda.bpm.engine.TaskService;
+import org.camunda.bpm.engine.history.HistoricActivityInstance;
+import org.camunda.bpm.engine.history.HistoricProcessInstance;
+import org.camunda.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.camunda.bpm.engine.impl.history.event.HistoricProcessInstanceEventEntity;
+import org.camunda.bpm.engine.impl.history.event.HistoryEventTypes;
+import org.camunda.bpm.engine.impl.history.handler.AsyncHistoryEventHandler;
+import org.camunda.bpm.engine.impl.persistence.entity.HistoryOutboxEntryEntity;
+import org.camunda.bpm.engine.impl.persistence.entity.HistoryOutboxManager;
+import org.camunda.bpm.engine.impl.util.ClockUtil;
+import org.camunda.bpm.engine.runtime.ProcessInstance;
+import org.camunda.bpm.engine.test.RequiredHistoryLevel;
+import org.camunda.bpm.engine.test.util.ProcessEngineBootstrapRule;
+import org.camunda.bpm.engine.test.util.ProcessEngineTestRule;
+import org.camunda.bpm.engine.test.util.ProvidedProcessEngineRule;
+import org.camunda.bpm.model.bpmn.Bpmn;
+import org.camunda.bpm.model.bpmn.BpmnModelInstance;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.ClassRule;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.RuleChain;
+
+@RequiredHistoryLevel(ProcessEngineConfiguration.HISTORY_ACTIVITY)
+public class AsyncHistoryEventHandlerTest {
+
+  protected static final BpmnModelInstance ONE_TASK_PROCESS = Bpmn.createExecutableProcess("process")
+      .startEvent()
+      .userTask("task")
+      .endEvent()
+      .done();
+
+  protected static final BpmnModelInstance NO_WAIT_STATE_PROCESS = Bpmn.createExecutableProcess("noWaitStateProcess")
+      .startEvent()
+      .manualTask("manualTask")
+      .endEvent()
+      .done();
+
+  protected static final BpmnModelInstance FAILING_PROCESS = Bpmn.createExecutableProcess("failingProcess")
+      .startEvent()
+      .serviceTask()
+        .camundaExpression("${unknownBean.execute()}")
+      .endEvent()
+      .done();
+
+  @ClassRule
+  public static ProcessEngineBootstrapRule bootstrapRule = new ProcessEngineBootstrapRule(configuration ->
+      configuration
+        .setAsyncHistoryEnabled(true)
+        .setAsyncHistoryFlushInterval(10));
+
+  protected ProvidedProcessEngineRule engineRule = new ProvidedProcessEngineRule(bootstrapRule);
+  protected ProcessEngineTestRule testRule = new ProcessEngineTestRule(engineRule);
+
+  @Rule
+  public RuleChain ruleChain = RuleChain.outerRule(engineRule).around(testRule);
+
+  protected ProcessEngineConfigurationImpl processEngineConfiguration;
+  protected RuntimeService runtimeService;
+  protected TaskService taskService;
+  protected HistoryService historyService;
+  protected AsyncHistoryEventHandler historyEventHandler;
+
+  @Before
+  public void init() {
+    processEngineConfiguration = engineRule.getProcessEngineConfiguration();
+    runtimeService = engineRule.getRuntimeService();
+    taskService = engineRule.getTaskService();
+    historyService = engineRule.getHistoryService();
+    historyEventHandler = (AsyncHistoryEventHandler) processEngineConfiguration.getHistoryEventHandler();
+  }
+
+  @After
+  public void writeRemainingEvents() {
+    historyEventHandler.setQueueCapacity(AsyncHistoryEventHandler.DEFAULT_QUEUE_CAPACITY);
+    flushHistory();
+  }
+
+  @Test
+  public void shouldWriteHistoryAfterCommit() {
+    // given
+    testRule.deploy(ONE_TASK_PROCESS);
+    ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("process");
+
+    // when
+    taskService.complete(taskService.createTaskQuery().singleResult().getId());
+    flushHistory();
+
+    // then
+    HistoricProcessInstance historicProcessInstance = historyService.createHistoricProcessInstanceQuery()
+        .processInstanceId(processInstance.getId())
+        .singleResult();
+    assertThat(historicProcessInstance.getStartTime()).isNotNull();
+    assertThat(historicProcessInstance.getEndTime()).isNotNull();
+
+    HistoricActivityInstance taskInstance = historyService.createHistoricActivityInstanceQuery()
+        .processInstanceId(processInstance.getId())
+        .activityId("task")
+        .singleResult();
+    assertThat(taskInstance.getStartTime()).isNotNull();
+    assertThat(taskInstance.getEndTime()).isNotNull();
+
+    assertThat(historyService.createHistoricActivityInstanceQuery()
+        .processInstanceId(processInstance.getId())
+        .finished()
+        .count()).isEqualTo(3);
+    assertThat(historyEventHandler.getQueueSize()).isZero();
+    assertThat(historyEventHandler.getFailedEventCount()).isZero();
+  }
+
+  @Test
+  public void shouldUpdateEventsOfSameTransactionBeforeWriting() {
+    // given
+    testRule.deploy(ONE_TASK_PROCESS);
+    long writtenEvents = historyEventHandler.getWrittenEventCount();
+
+    // when
+    runtimeService.startProcessInstanceByKey("process");
+    flushHistory();
+
+    // then the ended start event was written once with its end time
+    HistoricActivityInstance startEventInstance = historyService.createHistoricActivityInstanceQuery()
+        .activityType("startEvent")
+        .singleResult();
+    assertThat(startEventInstance.getEndTime()).isNotNull();
+    assertThat(historyEventHandler.getWrittenEventCount()).isGreaterThan(writtenEvents);
+  }
+
+  @Test
+  public void shouldInsertEventsWhichStartAndEndInSameTransaction() {
+    // given
+    testRule.deploy(NO_WAIT_STATE_PROCESS);
+
+    // when
+    ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("noWaitStateProcess");
+    flushHistory();
+
+    // then the instances were inserted with their end time
+    HistoricProcessInstance historicProcessInstance = historyService.createHistoricProcessInstanceQuery()
+        .processInstanceId(processInstance.getId())
+        .singleResult();
+    assertThat(historicProcessInstance.getEndTime()).isNotNull();
+    assertThat(historyService.createHistoricActivityInstanceQuery()
+        .processInstanceId(processInstance.getId())
+        .finished()
+        .count()).isEqualTo(3);
+    assertThat(historyEventHandler.getFailedEventCount()).isZero();
+    assertThat(countOutboxEntries()).isZero();
+  }
+
+  @Test
+  public void shouldReadEventsFromOutboxIfQueueIsFull() {
+    // given
+    testRule.deploy(ONE_TASK_PROCESS);
+    historyEventHandler.setQueueCapacity(1);
+    long backPressureCount = historyEventHandler.getBackPressureCount();
+
+    // when
+    List<String> processInstanceIds = new ArrayList<>();
+    for (int i = 0; i < 5; i++) {
+      processInstanceIds.add(runtimeService.startProcessInstanceByKey("process").getId());
+    }
+    flushHistory();
+
+    // then
+    assertThat(historyEventHandler.getBackPressureCount()).isGreaterThan(backPressureCount);
+    assertThat(historyService.createHistoricProcessInstanceQuery()
+        .processInstanceIds(new HashSet<>(processInstanceIds))
+        .count()).isEqualTo(5);
+    assertThat(historyService.createHistoricTaskInstanceQuery().count()).isEqualTo(5);
+    assertThat(historyEventHandler.getFailedEventCount()).isZero();
+    assertThat(countOutboxEntries()).isZero();
+  }
+
+  @Test
+  public void shouldWriteOutboxEntriesOfPreviousRun() throws IOException {
+    // given an outbox entry which was not written before the process engine stopped
+    String processDefinitionId = testRule.deploy(ONE_TASK_PROCESS).getDeployedProcessDefinitions().get(0).getId();
+
+    HistoricProcessInstanceEventEntity event = new HistoricProcessInstanceEventEntity();
+    event.setId("recoveredProcessInstance");
+    event.setProcessInstanceId("recoveredProcessInstance");
+    event.setProcessDefinitionId(processDefinitionId);
+    event.setProcessDefinitionKey("process");
+    event.setEventType(HistoryEventTypes.PROCESS_INSTANCE_START.getEventName());
+    event.setStartTime(ClockUtil.getCurrentTime());
+    event.setEndTime(ClockUtil.getCurrentTime());
+    event.setState(HistoricProcessInstance.STATE_COMPLETED);
+
+    HistoryOutboxEntryEntity outboxEntry = new HistoryOutboxEntryEntity();
+    outboxEntry.setOwner(historyEventHandler.getOwner());
+    outboxEntry.setEventCount(1);
+    outboxEntry.setCreateTime(new Date());
+    outboxEntry.setPayload(serialize(new ArrayList<>(Collections.singletonList(serialize(event)))));
+
+    historyEventHandler.stop();
+    processEngineConfiguration.getCommandExecutorTxRequired().execute(commandContext -> {
+      commandContext.getSession(HistoryOutboxManager.class).insertEntry(outboxEntry);
+      return null;
+    });
+
+    // when
+    historyEventHandler.start(processEngineConfiguration.getCommandExecutorTxRequiresNew());
+
+    // then
+    assertThat(historyService.createHistoricProcessInstanceQuery()
+        .processInstanceId("recoveredProcessInstance")
+        .count()).isEqualTo(1);
+    assertThat(countOutboxEntries()).isZero();
+
+    historyService.deleteHistoricProcessInstance("recoveredProcessInstance");
+  }
+
+  @Test
+  public void shouldDefaultOwnerToHostnameAndEngineName() {
+    // then
+    assertThat(historyEventHandler.getOwner()).isEqualTo(processEngineConfiguration.getHostname()
+        + "-" + engineRule.getProcessEngine().getName());
+  }
+
+  @Test
+  public void shouldTakeOverOutboxEntriesOfFormerOwner() throws IOException {
+    // given an outbox entry of a node which does not start again
+    String processDefinitionId = testRule.deploy(ONE_TASK_PROCESS).getDeployedProcessDefinitions().get(0).getId();
+
+    HistoricProcessInstanceEventEntity event = new HistoricProcessInstanceEventEntity();
+    event.setId("formerOwnerProcessInstance");
+    event.setProcessInstanceId("formerOwnerProcessInstance");
+    event.setProcessDefinitionId(processDefinitionId);
+    event.setProcessDefinitionKey("process");
+    event.setEventType(HistoryEventTypes.PROCESS_INSTANCE_START.getEventName());
+    event.setStartTime(ClockUtil.getCurrentTime());
+    event.setEndTime(ClockUtil.getCurrentTime());
+    event.setState(HistoricProcessInstance.STATE_COMPLETED);
+
+    HistoryOutboxEntryEntity outboxEntry = new HistoryOutboxEntryEntity();
+    outboxEntry.setOwner("removedNode");
+    outboxEntry.setEventCount(1);
+    outboxEntry.setCreateTime(new Date());
+    outboxEntry.setPayload(serialize(new ArrayList<>(Collections.singletonList(serialize(event)))));
+
+    processEngineConfiguration.getCommandExecutorTxRequired().execute(commandContext -> {
+      commandContext.getSession(HistoryOutboxManager.class).insertEntry(outboxEntry);
+      return null;
+    });
+
+    // the entry is not recovered by this owner
+    flushHistory();
+    assertThat(countOutboxEntries()).isEqualTo(1);
+
+    // when
+    historyEventHandler.recoverOutboxEntries("removedNode");
+
+    // then
+    assertThat(historyService.createHistoricProcessInstanceQuery()
+        .processInstanceId("formerOwnerProcessInstance")
+        .count()).isEqualTo(1);
+    assertThat(countOutboxEntries()).isZero();
+
+    historyService.deleteHistoricProcessInstance("formerOwnerProcessInstance");
+  }
+
+  @Test
+  public void shouldNotTakeOverOwnOutboxEntries() {
+    assertThatThrownBy(() -> historyEventHandler.recoverOutboxEntries(historyEventHandler.getOwner()))
+      .isInstanceOf(ProcessEngineException.class)
+      .hasMessageContaining("belong to the running handler itself");
+  }
+
+  @Test
+  public void shouldDiscardHistoryOfRolledBackTransaction() {
+    // given
+    testRule.deploy(FAILING_PROCESS);
+
+    // when
+    assertThatThrownBy(() -> runtimeService.startProcessInstanceByKey("failingProcess"))
+      .isInstanceOf(ProcessEngineException.class);
+    flushHistory();
+
+    // then
+    assertThat(historyService.createHistoricProcessInstanceQuery().count()).isZero();
+    assertThat(historyService.createHistoricActivityInstanceQuery().count()).isZero();
+    assertThat(countOutboxEntries()).isZero();
+  }
+
+  protected long countOutboxEntries() {
+    return engineRule.getManagementService().getTableCount()
+        .get(processEngineConfiguration.getDatabaseTablePrefix() + "ACT_RU_HIST_OUTBOX");
+  }
+
+  protected byte[] serialize(Object value) throws IOException {
+    ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    try (ObjectOutputStream objectOutputStream = new ObjectOutputStream(outputStream)) {
+      objectOutputStream.writeObject(value);
+    }
+    return outputStream.toByteArray();
+  }
+
+  protected void flushHistory() {
+    historyEventHandler.stop();
+    historyEventHandler.start(processEngineConfiguration.getCommandExecutorTxRequiresNew());
+  }
+
+}
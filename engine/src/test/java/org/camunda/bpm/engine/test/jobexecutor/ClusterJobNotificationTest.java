@@ -0,0 +1,157 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.test.jobexecutor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.camunda.bpm.engine.ProcessEngineException;
+import org.camunda.bpm.engine.RuntimeService;
+import org.camunda.bpm.engine.impl.ProcessEngineImpl;
+import org.camunda.bpm.engine.impl.jobexecutor.JobExecutor;
+import org.camunda.bpm.engine.impl.jobexecutor.cluster.InMemoryClusterJobNotifier;
+import org.camunda.bpm.engine.impl.jobexecutor.cluster.InMemoryJobNotificationBroadcaster;
+import org.camunda.bpm.engine.test.util.ProcessEngineBootstrapRule;
+import org.camunda.bpm.engine.test.util.ProcessEngineTestRule;
+import org.camunda.bpm.engine.test.util.ProvidedProcessEngineRule;
+import org.camunda.bpm.model.bpmn.Bpmn;
+import org.camunda.bpm.model.bpmn.BpmnModelInstance;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.ClassRule;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.RuleChain;
+
+public class ClusterJobNotificationTest {
+
+  protected static final BpmnModelInstance ASYNC_PROCESS = Bpmn.createExecutableProcess("asyncProcess")
+      .startEvent()
+      .userTask("task")
+        .camundaAsyncBefore()
+      .endEvent()
+      .done();
+
+  protected static final BpmnModelInstance FAILING_PROCESS = Bpmn.createExecutableProcess("failingProcess")
+      .startEvent()
+      .parallelGateway("fork")
+        .userTask()
+          .camundaAsyncBefore()
+        .endEvent()
+      .moveToNode("fork")
+        .serviceTask()
+          .camundaExpression("${unknownBean.execute()}")
+        .endEvent()
+      .done();
+
+  protected static InMemoryJobNotificationBroadcaster broadcaster = new InMemoryJobNotificationBroadcaster();
+
+  @ClassRule
+  public static ProcessEngineBootstrapRule bootstrapRule = new ProcessEngineBootstrapRule(configuration ->
+      configuration.setClusterJobNotifier(new InMemoryClusterJobNotifier(broadcaster)));
+
+  protected ProvidedProcessEngineRule engineRule = new ProvidedProcessEngineRule(bootstrapRule);
+  protected ProcessEngineTestRule testRule = new ProcessEngineTestRule(engineRule);
+
+  @Rule
+  public RuleChain ruleChain = RuleChain.outerRule(engineRule).around(testRule);
+
+  protected RuntimeService runtimeService;
+  protected InMemoryClusterJobNotifier otherNode;
+  protected CountingJobExecutor otherNodeJobExecutor;
+
+  @Before
+  public void init() {
+    runtimeService = engineRule.getRuntimeService();
+
+    otherNodeJobExecutor = new CountingJobExecutor();
+    otherNode = new InMemoryClusterJobNotifier(broadcaster);
+    otherNode.start(otherNodeJobExecutor);
+  }
+
+  @After
+  public void stopOtherNode() {
+    otherNode.stop();
+  }
+
+  @Test
+  public void shouldNotifyOtherNodesOnCommit() {
+    // given
+    testRule.deploy(ASYNC_PROCESS);
+
+    // when
+    runtimeService.startProcessInstanceByKey("asyncProcess");
+
+    // then
+    assertThat(otherNodeJobExecutor.notifications).hasValue(1);
+  }
+
+  @Test
+  public void shouldNotifyOtherNodesOncePerTransaction() {
+    // given
+    testRule.deploy(ASYNC_PROCESS);
+
+    // when
+    runtimeService.createProcessInstanceByKey("asyncProcess")
+      .startBeforeActivity("task")
+      .startBeforeActivity("task")
+      .execute();
+
+    // then
+    assertThat(engineRule.getManagementService().createJobQuery().count()).isEqualTo(2);
+    assertThat(otherNodeJobExecutor.notifications).hasValue(1);
+  }
+
+  @Test
+  public void shouldNotNotifyOtherNodesOnRollback() {
+    // given
+    testRule.deploy(FAILING_PROCESS);
+
+    // when the transaction creates a job but fails afterwards
+    assertThatThrownBy(() -> runtimeService.startProcessInstanceByKey("failingProcess"))
+      .isInstanceOf(ProcessEngineException.class);
+
+    // then
+    assertThat(otherNodeJobExecutor.notifications).hasValue(0);
+  }
+
+  protected static class CountingJobExecutor extends JobExecutor {
+
+    protected AtomicInteger notifications = new AtomicInteger();
+
+    @Override
+    public void jobWasAdded() {
+      notifications.incrementAndGet();
+    }
+
+    @Override
+    protected void startExecutingJobs() {
+    }
+
+    @Override
+    protected void stopExecutingJobs() {
+    }
+
+    @Override
+    public void executeJobs(List<String> jobIds, ProcessEngineImpl processEngine) {
+    }
+  }
+
+}
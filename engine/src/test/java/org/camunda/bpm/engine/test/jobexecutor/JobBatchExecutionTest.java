@@ -0,0 +1,316 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.test.jobexecutor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+
+import org.camunda.bpm.engine.ManagementService;
+import org.camunda.bpm.engine.RuntimeService;
+import org.camunda.bpm.engine.delegate.DelegateExecution;
+import org.camunda.bpm.engine.delegate.JavaDelegate;
+import org.camunda.bpm.engine.impl.ProcessEngineImpl;
+import org.camunda.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.camunda.bpm.engine.impl.context.Context;
+import org.camunda.bpm.engine.impl.interceptor.CommandContext;
+import org.camunda.bpm.engine.impl.interceptor.CommandExecutor;
+import org.camunda.bpm.engine.impl.jobexecutor.AsyncContinuationJobHandler;
+import org.camunda.bpm.engine.impl.jobexecutor.ExecuteJobsRunnable;
+import org.camunda.bpm.engine.impl.jobexecutor.JobExecutor;
+import org.camunda.bpm.engine.impl.jobexecutor.JobFailureCollector;
+import org.camunda.bpm.engine.runtime.Job;
+import org.camunda.bpm.engine.test.util.ProcessEngineBootstrapRule;
+import org.camunda.bpm.engine.test.util.ProcessEngineTestRule;
+import org.camunda.bpm.engine.test.util.ProvidedProcessEngineRule;
+import org.camunda.bpm.engine.variable.Variables;
+import org.camunda.bpm.model.bpmn.Bpmn;
+import org.camunda.bpm.model.bpmn.BpmnModelInstance;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.ClassRule;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.RuleChain;
+
+public class JobBatchExecutionTest {
+
+  protected static final BpmnModelInstance ASYNC_PROCESS = Bpmn.createExecutableProcess("asyncProcess")
+      .startEvent()
+      .serviceTask()
+        .camundaAsyncBefore()
+        .camundaClass(RecordingDelegate.class)
+      .endEvent()
+      .done();
+
+  protected static final BpmnModelInstance CALLING_PROCESS = Bpmn.createExecutableProcess("callingProcess")
+      .startEvent()
+      .parallelGateway("fork")
+        .callActivity()
+          .calledElement("asyncProcess")
+        .parallelGateway("join")
+        .endEvent()
+      .moveToNode("fork")
+        .callActivity()
+          .calledElement("asyncProcess")
+        .connectTo("join")
+      .done();
+
+  @ClassRule
+  public static ProcessEngineBootstrapRule bootstrapRule = new ProcessEngineBootstrapRule(configuration ->
+      configuration
+        .setJobExecutionBatchEnabled(true)
+        .setJobExecutionBatchSize(3)
+        .setJobExecutionBatchJobTypes(Collections.singleton(AsyncContinuationJobHandler.TYPE)));
+
+  protected ProvidedProcessEngineRule engineRule = new ProvidedProcessEngineRule(bootstrapRule);
+  protected ProcessEngineTestRule testRule = new ProcessEngineTestRule(engineRule);
+
+  @Rule
+  public RuleChain ruleChain = RuleChain.outerRule(engineRule).around(testRule);
+
+  protected ProcessEngineConfigurationImpl processEngineConfiguration;
+  protected RuntimeService runtimeService;
+  protected ManagementService managementService;
+
+  @Before
+  public void init() {
+    processEngineConfiguration = engineRule.getProcessEngineConfiguration();
+    runtimeService = engineRule.getRuntimeService();
+    managementService = engineRule.getManagementService();
+    RecordingDelegate.COMMAND_CONTEXTS.clear();
+  }
+
+  @After
+  public void resetConfiguration() {
+    processEngineConfiguration.setJobExecutionBatchEnabled(true);
+    processEngineConfiguration.setJobExecutionBatchJobTypes(Collections.singleton(AsyncContinuationJobHandler.TYPE));
+  }
+
+  @Test
+  public void shouldExecuteJobsInOneTransaction() {
+    // given
+    testRule.deploy(ASYNC_PROCESS);
+    for (int i = 0; i < 3; i++) {
+      runtimeService.startProcessInstanceByKey("asyncProcess");
+    }
+
+    // when
+    executeJobs();
+
+    // then
+    assertThat(runtimeService.createProcessInstanceQuery().count()).isZero();
+    assertThat(RecordingDelegate.COMMAND_CONTEXTS).hasSize(3);
+    assertThat(distinctCommandContexts()).isEqualTo(1);
+  }
+
+  @Test
+  public void shouldExecuteJobsOneByOneIfNotEnabled() {
+    // given
+    processEngineConfiguration.setJobExecutionBatchEnabled(false);
+    testRule.deploy(ASYNC_PROCESS);
+    for (int i = 0; i < 3; i++) {
+      runtimeService.startProcessInstanceByKey("asyncProcess");
+    }
+
+    // when
+    executeJobs();
+
+    // then
+    assertThat(runtimeService.createProcessInstanceQuery().count()).isZero();
+    assertThat(distinctCommandContexts()).isEqualTo(3);
+  }
+
+  @Test
+  public void shouldExecuteJobsOfSameRootProcessInstanceOneByOne() {
+    // given
+    testRule.deploy(ASYNC_PROCESS, CALLING_PROCESS);
+    runtimeService.startProcessInstanceByKey("callingProcess");
+    assertThat(managementService.createJobQuery().count()).isEqualTo(2);
+
+    // when
+    executeJobs();
+
+    // then
+    assertThat(runtimeService.createProcessInstanceQuery().count()).isZero();
+    assertThat(RecordingDelegate.COMMAND_CONTEXTS).hasSize(2);
+    assertThat(distinctCommandContexts()).isEqualTo(2);
+  }
+
+  @Test
+  public void shouldExecuteJobsOneByOneIfBatchFails() {
+    // given
+    testRule.deploy(ASYNC_PROCESS);
+    runtimeService.startProcessInstanceByKey("asyncProcess");
+    String failingProcessInstanceId = runtimeService.startProcessInstanceByKey("asyncProcess",
+        Variables.createVariables().putValue("fail", true)).getId();
+
+    // when
+    executeJobs();
+
+    // then the successful job is executed again on its own
+    assertThat(runtimeService.createProcessInstanceQuery().list())
+      .extracting("id")
+      .containsExactly(failingProcessInstanceId);
+
+    Job failedJob = managementService.createJobQuery().singleResult();
+    assertThat(failedJob.getRetries()).isEqualTo(2);
+    assertThat(failedJob.getExceptionMessage()).isEqualTo("expected failure");
+  }
+
+  @Test
+  public void shouldExecuteJobsOfOtherTypesOneByOne() {
+    // given
+    processEngineConfiguration.setJobExecutionBatchJobTypes(Collections.singleton("other-type"));
+    testRule.deploy(ASYNC_PROCESS);
+    for (int i = 0; i < 3; i++) {
+      runtimeService.startProcessInstanceByKey("asyncProcess");
+    }
+
+    // when
+    executeJobs();
+
+    // then
+    assertThat(runtimeService.createProcessInstanceQuery().count()).isZero();
+    assertThat(distinctCommandContexts()).isEqualTo(3);
+  }
+
+  @Test
+  public void shouldExecuteJobsOfConfiguredJobDefinitionInOneTransaction() {
+    // given
+    testRule.deploy(ASYNC_PROCESS);
+    String jobDefinitionId = managementService.createJobDefinitionQuery().singleResult().getId();
+    processEngineConfiguration
+      .setJobExecutionBatchJobTypes(Collections.emptySet())
+      .setJobExecutionBatchJobDefinitionIds(Collections.singleton(jobDefinitionId));
+    for (int i = 0; i < 3; i++) {
+      runtimeService.startProcessInstanceByKey("asyncProcess");
+    }
+
+    try {
+      // when
+      executeJobs();
+
+      // then
+      assertThat(runtimeService.createProcessInstanceQuery().count()).isZero();
+      assertThat(distinctCommandContexts()).isEqualTo(1);
+    } finally {
+      processEngineConfiguration.setJobExecutionBatchJobDefinitionIds(Collections.emptySet());
+    }
+  }
+
+  @Test
+  public void shouldExecuteEveryJobThroughHookIfBatchExecutionIsDisabled() {
+    // given
+    testRule.deploy(ASYNC_PROCESS);
+    for (int i = 0; i < 3; i++) {
+      runtimeService.startProcessInstanceByKey("asyncProcess");
+    }
+    List<String> jobIds = getJobIds();
+    List<String> executedJobIds = new CopyOnWriteArrayList<>();
+
+    // when
+    ProcessEngineImpl processEngine = (ProcessEngineImpl) engineRule.getProcessEngine();
+    new ExecuteJobsRunnable(jobIds, processEngine) {
+      {
+        jobExecutor = new ActiveJobExecutor();
+      }
+
+      @Override
+      protected boolean isJobBatchExecutionEnabled(ProcessEngineConfigurationImpl engineConfiguration) {
+        return false;
+      }
+
+      @Override
+      protected void executeJob(String nextJobId, CommandExecutor commandExecutor, JobFailureCollector jobFailureCollector) {
+        executedJobIds.add(nextJobId);
+        super.executeJob(nextJobId, commandExecutor, jobFailureCollector);
+      }
+    }.run();
+
+    // then
+    assertThat(executedJobIds).containsExactlyElementsOf(jobIds);
+    assertThat(distinctCommandContexts()).isEqualTo(3);
+  }
+
+  protected List<String> getJobIds() {
+    return managementService.createJobQuery()
+        .list()
+        .stream()
+        .map(Job::getId)
+        .collect(Collectors.toList());
+  }
+
+  protected void executeJobs() {
+    List<String> jobIds = getJobIds();
+
+    ProcessEngineImpl processEngine = (ProcessEngineImpl) engineRule.getProcessEngine();
+    new ExecuteJobsRunnable(jobIds, processEngine) {
+      {
+        jobExecutor = new ActiveJobExecutor();
+      }
+    }.run();
+  }
+
+  protected long distinctCommandContexts() {
+    Set<CommandContext> commandContexts = Collections.newSetFromMap(new IdentityHashMap<>());
+    commandContexts.addAll(RecordingDelegate.COMMAND_CONTEXTS);
+    return commandContexts.size();
+  }
+
+  public static class RecordingDelegate implements JavaDelegate {
+
+    protected static final List<CommandContext> COMMAND_CONTEXTS = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void execute(DelegateExecution execution) throws Exception {
+      COMMAND_CONTEXTS.add(Context.getCommandContext());
+      if (Boolean.TRUE.equals(execution.getVariable("fail"))) {
+        throw new RuntimeException("expected failure");
+      }
+    }
+  }
+
+  protected static class ActiveJobExecutor extends JobExecutor {
+
+    public ActiveJobExecutor() {
+      isActive = true;
+    }
+
+    @Override
+    public void jobWasAdded() {
+    }
+
+    @Override
+    protected void startExecutingJobs() {
+    }
+
+    @Override
+    protected void stopExecutingJobs() {
+    }
+
+    @Override
+    public void executeJobs(List<String> jobIds, ProcessEngineImpl processEngine) {
+    }
+  }
+
+}
@@ -0,0 +1,171 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.test.jobexecutor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Date;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.camunda.bpm.engine.impl.Page;
+import org.camunda.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.camunda.bpm.engine.impl.interceptor.CommandExecutor;
+import org.camunda.bpm.engine.impl.jobexecutor.JobPartitionLease;
+import org.camunda.bpm.engine.impl.jobexecutor.JobPartitionLease.JobPartition;
+import org.camunda.bpm.engine.impl.persistence.entity.AcquirableJobEntity;
+import org.camunda.bpm.engine.impl.persistence.entity.PropertyEntity;
+import org.camunda.bpm.engine.impl.util.ClockUtil;
+import org.camunda.bpm.engine.test.util.ProcessEngineBootstrapRule;
+import org.camunda.bpm.engine.test.util.ProcessEngineTestRule;
+import org.camunda.bpm.engine.test.util.ProvidedProcessEngineRule;
+import org.camunda.bpm.model.bpmn.Bpmn;
+import org.camunda.bpm.model.bpmn.BpmnModelInstance;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.ClassRule;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.RuleChain;
+
+public class JobPartitionAcquisitionTest {
+
+  protected static final BpmnModelInstance ASYNC_PROCESS = Bpmn.createExecutableProcess("process")
+      .startEvent()
+      .userTask()
+        .camundaAsyncBefore()
+      .endEvent()
+      .done();
+
+  @ClassRule
+  public static ProcessEngineBootstrapRule bootstrapRule = new ProcessEngineBootstrapRule(configuration ->
+      configuration.setJobExecutorPartitioningEnabled(true));
+
+  protected ProvidedProcessEngineRule engineRule = new ProvidedProcessEngineRule(bootstrapRule);
+  protected ProcessEngineTestRule testRule = new ProcessEngineTestRule(engineRule);
+
+  @Rule
+  public RuleChain ruleChain = RuleChain.outerRule(engineRule).around(testRule);
+
+  protected ProcessEngineConfigurationImpl configuration;
+  protected CommandExecutor commandExecutor;
+  protected JobPartitionLease nodeLease;
+  protected JobPartitionLease otherNodeLease;
+
+  @Before
+  public void init() {
+    configuration = engineRule.getProcessEngineConfiguration();
+    commandExecutor = configuration.getCommandExecutorTxRequired();
+
+    nodeLease = configuration.getJobPartitionLease();
+    otherNodeLease = new JobPartitionLease("otherNode", JobPartitionLease.DEFAULT_LEASE_TIME,
+        JobPartitionLease.DEFAULT_RENEWAL_INTERVAL);
+  }
+
+  @After
+  public void releaseLeases() {
+    ClockUtil.reset();
+    configuration.setJobPartitionLease(nodeLease);
+    nodeLease.release(commandExecutor);
+    otherNodeLease.release(commandExecutor);
+  }
+
+  @Test
+  public void shouldAcquireAllJobsOfSingleNode() {
+    // when
+    nodeLease.renew(commandExecutor);
+
+    // then
+    assertThat(nodeLease.getPartition().getCount()).isEqualTo(1);
+    assertThat(nodeLease.getPartition().isPartitioned()).isFalse();
+  }
+
+  @Test
+  public void shouldAssignDisjointPartitions() {
+    // given
+    testRule.deploy(ASYNC_PROCESS);
+    for (int i = 0; i < 20; i++) {
+      engineRule.getRuntimeService().startProcessInstanceByKey("process");
+    }
+
+    // when
+    otherNodeLease.renew(commandExecutor);
+    nodeLease.renew(commandExecutor);
+    otherNodeLease.renew(commandExecutor);
+
+    // then
+    JobPartition nodePartition = nodeLease.getPartition();
+    JobPartition otherNodePartition = otherNodeLease.getPartition();
+    assertThat(nodePartition.getCount()).isEqualTo(2);
+    assertThat(otherNodePartition.getCount()).isEqualTo(2);
+    assertThat(nodePartition.getIndex()).isNotEqualTo(otherNodePartition.getIndex());
+
+    Set<String> nodeJobs = acquirableJobIds(nodeLease);
+    Set<String> otherNodeJobs = acquirableJobIds(otherNodeLease);
+    assertThat(nodeJobs).doesNotContainAnyElementsOf(otherNodeJobs);
+
+    Set<String> allJobs = new HashSet<>(nodeJobs);
+    allJobs.addAll(otherNodeJobs);
+    assertThat(allJobs).hasSize(20);
+  }
+
+  @Test
+  public void shouldTakeOverPartitionOfExpiredLease() {
+    // given
+    otherNodeLease.renew(commandExecutor);
+    nodeLease.renew(commandExecutor);
+    assertThat(nodeLease.getPartition().getCount()).isEqualTo(2);
+
+    // when the other node does not renew its lease in time
+    ClockUtil.setCurrentTime(new Date(ClockUtil.getCurrentTime().getTime() + JobPartitionLease.DEFAULT_LEASE_TIME + 1));
+    nodeLease.renew(commandExecutor);
+
+    // then
+    assertThat(nodeLease.getPartition().getCount()).isEqualTo(1);
+    PropertyEntity otherLease = commandExecutor.execute(commandContext ->
+        commandContext.getPropertyManager().findPropertyById(otherNodeLease.getLeaseName()));
+    assertThat(otherLease).isNull();
+  }
+
+  @Test
+  public void shouldHandOverPartitionOnRelease() {
+    // given
+    otherNodeLease.renew(commandExecutor);
+    nodeLease.renew(commandExecutor);
+
+    // when
+    otherNodeLease.release(commandExecutor);
+    nodeLease.renew(commandExecutor);
+
+    // then
+    assertThat(nodeLease.getPartition().getCount()).isEqualTo(1);
+  }
+
+  protected Set<String> acquirableJobIds(JobPartitionLease lease) {
+    configuration.setJobPartitionLease(lease);
+    List<AcquirableJobEntity> jobs = commandExecutor.execute(commandContext ->
+        commandContext.getJobManager().findNextJobsToExecute(new Page(0, 100)));
+
+    Set<String> jobIds = new HashSet<>();
+    for (AcquirableJobEntity job : jobs) {
+      jobIds.add(job.getId());
+    }
+    return jobIds;
+  }
+
+}
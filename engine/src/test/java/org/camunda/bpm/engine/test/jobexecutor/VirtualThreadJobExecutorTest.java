@@ -0,0 +1,160 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.test.jobexecutor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.camunda.bpm.engine.ManagementService;
+import org.camunda.bpm.engine.RuntimeService;
+import org.camunda.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.camunda.bpm.engine.impl.jobexecutor.ConcurrencyLimitedJobAcquisitionStrategy;
+import org.camunda.bpm.engine.impl.jobexecutor.JobAcquisitionStrategy;
+import org.camunda.bpm.engine.impl.jobexecutor.VirtualThreadJobExecutor;
+import org.camunda.bpm.engine.test.util.ProcessEngineBootstrapRule;
+import org.camunda.bpm.engine.test.util.ProcessEngineTestRule;
+import org.camunda.bpm.engine.test.util.ProvidedProcessEngineRule;
+import org.camunda.bpm.model.bpmn.Bpmn;
+import org.camunda.bpm.model.bpmn.BpmnModelInstance;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.ClassRule;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.RuleChain;
+
+public class VirtualThreadJobExecutorTest {
+
+  protected static final BpmnModelInstance ASYNC_PROCESS = Bpmn.createExecutableProcess("process")
+      .startEvent()
+      .serviceTask()
+        .camundaAsyncBefore()
+        .camundaExpression("${true}")
+      .endEvent()
+      .done();
+
+  @ClassRule
+  public static ProcessEngineBootstrapRule bootstrapRule = new ProcessEngineBootstrapRule(configuration -> {
+    VirtualThreadJobExecutor jobExecutor = new VirtualThreadJobExecutor();
+    jobExecutor.setMaxConcurrentJobs(2);
+    jobExecutor.setMaxJobsPerAcquisition(5);
+    configuration.setJobExecutor(jobExecutor);
+  });
+
+  protected ProvidedProcessEngineRule engineRule = new ProvidedProcessEngineRule(bootstrapRule);
+  protected ProcessEngineTestRule testRule = new ProcessEngineTestRule(engineRule);
+
+  @Rule
+  public RuleChain ruleChain = RuleChain.outerRule(engineRule).around(testRule);
+
+  protected RuntimeService runtimeService;
+  protected ManagementService managementService;
+  protected VirtualThreadJobExecutor jobExecutor;
+
+  @Before
+  public void init() {
+    ProcessEngineConfigurationImpl configuration = engineRule.getProcessEngineConfiguration();
+    runtimeService = engineRule.getRuntimeService();
+    managementService = engineRule.getManagementService();
+    jobExecutor = (VirtualThreadJobExecutor) configuration.getJobExecutor();
+  }
+
+  @After
+  public void shutdownJobExecutor() {
+    jobExecutor.shutdown();
+  }
+
+  @Test
+  public void shouldExecuteJobs() {
+    // given
+    testRule.deploy(ASYNC_PROCESS);
+    for (int i = 0; i < 10; i++) {
+      runtimeService.startProcessInstanceByKey("process");
+    }
+
+    // when
+    testRule.waitForJobExecutorToProcessAllJobs(10000);
+
+    // then
+    assertThat(managementService.createJobQuery().count()).isZero();
+    assertThat(runtimeService.createProcessInstanceQuery().count()).isZero();
+    assertThat(jobExecutor.getAvailablePermits()).isEqualTo(2);
+  }
+
+  @Test
+  public void shouldLimitJobsToAcquireByAvailablePermits() {
+    // when
+    JobAcquisitionStrategy acquisitionStrategy = jobExecutor.createAcquisitionStrategy();
+
+    // then
+    assertThat(acquisitionStrategy).isInstanceOf(ConcurrencyLimitedJobAcquisitionStrategy.class);
+    assertThat(acquisitionStrategy.getNumJobsToAcquire(engineRule.getProcessEngine().getName())).isEqualTo(2);
+  }
+
+  @Test
+  public void shouldHoldOnePermitPerJob() throws Exception {
+    // given
+    TestVirtualThreadJobExecutor executor = new TestVirtualThreadJobExecutor();
+    executor.setMaxConcurrentJobs(3);
+    executor.start();
+
+    CountDownLatch batchCompleted = new CountDownLatch(1);
+
+    try {
+      // when
+      boolean firstBatchSubmitted = executor.submit(() -> await(batchCompleted), 2);
+      boolean secondBatchSubmitted = executor.submit(() -> { }, 2);
+
+      // then
+      assertThat(firstBatchSubmitted).isTrue();
+      assertThat(secondBatchSubmitted).isFalse();
+      assertThat(executor.getAvailablePermits()).isEqualTo(1);
+
+      // when
+      batchCompleted.countDown();
+      executor.getExecutorService().shutdown();
+      executor.getExecutorService().awaitTermination(10, TimeUnit.SECONDS);
+
+      // then
+      assertThat(executor.getAvailablePermits()).isEqualTo(3);
+
+    } finally {
+      batchCompleted.countDown();
+      executor.shutdown();
+    }
+  }
+
+  protected static void await(CountDownLatch latch) {
+    try {
+      latch.await(10, TimeUnit.SECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  public static class TestVirtualThreadJobExecutor extends VirtualThreadJobExecutor {
+
+    @Override
+    public boolean submit(Runnable executeJobsRunnable, int numJobs) {
+      return super.submit(executeJobsRunnable, numJobs);
+    }
+
+  }
+
+}
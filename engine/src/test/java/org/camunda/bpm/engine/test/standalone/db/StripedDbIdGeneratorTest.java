@@ -0,0 +1,181 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.test.standalone.db;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.camunda.bpm.engine.ProcessEngineException;
+import org.camunda.bpm.engine.impl.db.IdBlock;
+import org.camunda.bpm.engine.impl.db.StripedDbIdGenerator;
+import org.camunda.bpm.engine.impl.interceptor.Command;
+import org.camunda.bpm.engine.impl.interceptor.CommandExecutor;
+import org.junit.Before;
+import org.junit.Test;
+
+public class StripedDbIdGeneratorTest {
+
+  protected static final int BLOCK_SIZE = 10;
+
+  protected IdBlockCommandExecutor commandExecutor;
+  protected StripedDbIdGenerator idGenerator;
+
+  @Before
+  public void setUp() {
+    commandExecutor = new IdBlockCommandExecutor();
+
+    idGenerator = new StripedDbIdGenerator(4);
+    idGenerator.setIdBlockSize(BLOCK_SIZE);
+    idGenerator.setCommandExecutor(commandExecutor);
+    // prefetch on the calling thread to keep the test deterministic
+    idGenerator.setPrefetchExecutor(Runnable::run);
+  }
+
+  @Test
+  public void shouldRoundStripeCountToPowerOfTwo() {
+    assertThat(new StripedDbIdGenerator(3).getStripeCount()).isEqualTo(4);
+    assertThat(new StripedDbIdGenerator(8).getStripeCount()).isEqualTo(8);
+    assertThat(new StripedDbIdGenerator(0).getStripeCount()).isEqualTo(1);
+  }
+
+  @Test
+  public void shouldHandOutConsecutiveIdsOnSameThread() {
+    // when
+    List<String> ids = new ArrayList<>();
+    for (int i = 0; i < BLOCK_SIZE; i++) {
+      ids.add(idGenerator.getNextId());
+    }
+
+    // then
+    assertThat(ids).containsExactly("0", "1", "2", "3", "4", "5", "6", "7", "8", "9");
+  }
+
+  @Test
+  public void shouldPrefetchNextBlock() {
+    // when
+    for (int i = 0; i < BLOCK_SIZE + 1; i++) {
+      idGenerator.getNextId();
+    }
+
+    // then only the first block was fetched synchronously and the second one ahead of time
+    assertThat(idGenerator.getBlockRefillCount()).isEqualTo(2);
+    assertThat(idGenerator.getBlockWaitCount()).isEqualTo(1);
+  }
+
+  @Test
+  public void shouldCountSynchronousBlockFetchAsWait() {
+    // when
+    idGenerator.getNextId();
+
+    // then
+    assertThat(idGenerator.getBlockRefillCount()).isEqualTo(1);
+    assertThat(idGenerator.getBlockWaitCount()).isEqualTo(1);
+  }
+
+  @Test
+  public void shouldPrefetchOncePerBlockIfThresholdExceedsBlock() {
+    // given
+    idGenerator.setPrefetchThreshold(BLOCK_SIZE);
+
+    // when
+    for (int i = 0; i < BLOCK_SIZE + 1; i++) {
+      idGenerator.getNextId();
+    }
+
+    // then the second block was prefetched once on the first id and the third one on the first id of the second block
+    assertThat(idGenerator.getBlockRefillCount()).isEqualTo(3);
+    assertThat(commandExecutor.executions.get()).isEqualTo(3);
+    assertThat(idGenerator.getBlockWaitCount()).isEqualTo(1);
+  }
+
+  @Test
+  public void shouldGenerateUniqueIdsConcurrently() throws Exception {
+    // given
+    idGenerator.setPrefetchExecutor(command -> new Thread(command).start());
+    Set<String> ids = ConcurrentHashMap.newKeySet();
+    int threadCount = 8;
+    int idsPerThread = 1000;
+
+    // when
+    List<Thread> threads = new ArrayList<>();
+    for (int i = 0; i < threadCount; i++) {
+      Thread thread = new Thread(() -> {
+        for (int j = 0; j < idsPerThread; j++) {
+          ids.add(idGenerator.getNextId());
+        }
+      });
+      threads.add(thread);
+      thread.start();
+    }
+    for (Thread thread : threads) {
+      thread.join();
+    }
+
+    // then
+    assertThat(ids).hasSize(threadCount * idsPerThread);
+  }
+
+  @Test
+  public void shouldRetryAfterFailedBlockFetch() {
+    // given
+    commandExecutor.failNext.set(true);
+
+    // when
+    assertThatThrownBy(() -> idGenerator.getNextId())
+      .isInstanceOf(ProcessEngineException.class);
+
+    // then
+    assertThat(idGenerator.getNextId()).isEqualTo("0");
+  }
+
+  @Test
+  public void shouldFetchNewBlockAfterReset() {
+    // given
+    idGenerator.getNextId();
+
+    // when
+    idGenerator.reset();
+
+    // then
+    assertThat(idGenerator.getNextId()).isEqualTo(String.valueOf(BLOCK_SIZE));
+  }
+
+  protected static class IdBlockCommandExecutor implements CommandExecutor {
+
+    protected AtomicLong nextDbId = new AtomicLong();
+    protected AtomicBoolean failNext = new AtomicBoolean();
+    protected AtomicLong executions = new AtomicLong();
+
+    @SuppressWarnings("unchecked")
+    public <T> T execute(Command<T> command) {
+      executions.incrementAndGet();
+      if (failNext.compareAndSet(true, false)) {
+        throw new ProcessEngineException("database not available");
+      }
+      long nextId = nextDbId.getAndAdd(BLOCK_SIZE);
+      return (T) new IdBlock(nextId, nextId + BLOCK_SIZE - 1);
+    }
+  }
+
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.test.standalone.db.entitymanager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.camunda.bpm.engine.ManagementService;
+import org.camunda.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.camunda.bpm.engine.impl.db.entitymanager.cache.SecondLevelEntityCache;
+import org.camunda.bpm.engine.impl.interceptor.CommandExecutor;
+import org.camunda.bpm.engine.impl.persistence.entity.JobDefinitionEntity;
+import org.camunda.bpm.engine.management.JobDefinition;
+import org.camunda.bpm.engine.test.api.runtime.migration.models.AsyncProcessModels;
+import org.camunda.bpm.engine.test.util.ProcessEngineBootstrapRule;
+import org.camunda.bpm.engine.test.util.ProcessEngineTestRule;
+import org.camunda.bpm.engine.test.util.ProvidedProcessEngineRule;
+import org.junit.Before;
+import org.junit.ClassRule;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.RuleChain;
+
+public class SecondLevelEntityCacheTest {
+
+  @ClassRule
+  public static ProcessEngineBootstrapRule bootstrapRule = new ProcessEngineBootstrapRule(configuration ->
+      configuration.setSecondLevelEntityCacheEnabled(true));
+
+  protected ProvidedProcessEngineRule engineRule = new ProvidedProcessEngineRule(bootstrapRule);
+  protected ProcessEngineTestRule testRule = new ProcessEngineTestRule(engineRule);
+
+  @Rule
+  public RuleChain ruleChain = RuleChain.outerRule(engineRule).around(testRule);
+
+  protected ManagementService managementService;
+  protected CommandExecutor commandExecutor;
+  protected SecondLevelEntityCache cache;
+
+  @Before
+  public void setUp() {
+    ProcessEngineConfigurationImpl processEngineConfiguration = engineRule.getProcessEngineConfiguration();
+    managementService = engineRule.getManagementService();
+    commandExecutor = processEngineConfiguration.getCommandExecutorTxRequired();
+    cache = processEngineConfiguration.getSecondLevelEntityCache();
+    cache.clear();
+  }
+
+  @Test
+  public void shouldServeEntityFromCacheInLaterCommand() {
+    // given
+    testRule.deploy(AsyncProcessModels.ASYNC_BEFORE_USER_TASK_PROCESS);
+    String jobDefinitionId = managementService.createJobDefinitionQuery().singleResult().getId();
+    findJobDefinition(jobDefinitionId);
+    long hits = cache.getHitCount();
+
+    // when
+    JobDefinitionEntity jobDefinition = findJobDefinition(jobDefinitionId);
+
+    // then
+    assertThat(jobDefinition.getId()).isEqualTo(jobDefinitionId);
+    assertThat(cache.getHitCount()).isEqualTo(hits + 1);
+  }
+
+  @Test
+  public void shouldNotShareInstancesBetweenCommands() {
+    // given
+    testRule.deploy(AsyncProcessModels.ASYNC_BEFORE_USER_TASK_PROCESS);
+    String jobDefinitionId = managementService.createJobDefinitionQuery().singleResult().getId();
+
+    // when
+    JobDefinitionEntity first = findJobDefinition(jobDefinitionId);
+    JobDefinitionEntity second = findJobDefinition(jobDefinitionId);
+
+    // then
+    assertThat(second).isNotSameAs(first);
+  }
+
+  @Test
+  public void shouldInvalidateEntityOnWrite() {
+    // given
+    testRule.deploy(AsyncProcessModels.ASYNC_BEFORE_USER_TASK_PROCESS);
+    JobDefinition jobDefinition = managementService.createJobDefinitionQuery().singleResult();
+    assertThat(findJobDefinition(jobDefinition.getId()).isSuspended()).isFalse();
+
+    // when
+    managementService.suspendJobDefinitionById(jobDefinition.getId());
+
+    // then
+    assertThat(findJobDefinition(jobDefinition.getId()).isSuspended()).isTrue();
+  }
+
+  @Test
+  public void shouldNotCacheIdBlockProperty() {
+    // given
+    long hits = cache.getHitCount();
+
+    // when
+    commandExecutor.execute(commandContext -> commandContext.getPropertyManager().findPropertyById("next.dbid"));
+    commandExecutor.execute(commandContext -> commandContext.getPropertyManager().findPropertyById("next.dbid"));
+
+    // then
+    assertThat(cache.getHitCount()).isEqualTo(hits);
+    assertThat(cache.size()).isZero();
+  }
+
+  @Test
+  public void shouldBuildQueryResultKeyFromParameterValues() {
+    // given
+    long generation = cache.getGeneration(JobDefinitionEntity.class);
+    cache.putList(JobDefinitionEntity.class, "statement", Arrays.asList("a", "b"), new ArrayList<>(), generation);
+
+    // when
+    Object listAsString = cache.getList(JobDefinitionEntity.class, "statement", "[a, b]");
+    Object list = cache.getList(JobDefinitionEntity.class, "statement", Arrays.asList("a", "b"));
+
+    // then
+    assertThat(listAsString).isNull();
+    assertThat(list).isNotNull();
+  }
+
+  @Test
+  public void shouldBuildQueryResultKeyIndependentOfMapOrder() {
+    // given
+    Map<String, Object> parameter = new LinkedHashMap<>();
+    parameter.put("a", "1");
+    parameter.put("b", 2);
+    Map<String, Object> reorderedParameter = new LinkedHashMap<>();
+    reorderedParameter.put("b", 2);
+    reorderedParameter.put("a", "1");
+
+    long generation = cache.getGeneration(JobDefinitionEntity.class);
+    cache.putList(JobDefinitionEntity.class, "statement", parameter, new ArrayList<>(), generation);
+
+    // when
+    Object result = cache.getList(JobDefinitionEntity.class, "statement", reorderedParameter);
+
+    // then
+    assertThat(result).isNotNull();
+  }
+
+  protected JobDefinitionEntity findJobDefinition(String jobDefinitionId) {
+    return commandExecutor.execute(commandContext -> commandContext.getJobDefinitionManager().findById(jobDefinitionId));
+  }
+
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.engine.test.standalone.db.sql;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.groups.Tuple.tuple;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.camunda.bpm.engine.HistoryService;
+import org.camunda.bpm.engine.ProcessEngineConfiguration;
+import org.camunda.bpm.engine.RuntimeService;
+import org.camunda.bpm.engine.history.HistoricVariableInstance;
+import org.camunda.bpm.engine.impl.db.sql.DbSqlSessionFactory;
+import org.camunda.bpm.engine.runtime.ProcessInstance;
+import org.camunda.bpm.engine.test.RequiredHistoryLevel;
+import org.camunda.bpm.engine.test.util.ProcessEngineBootstrapRule;
+import org.camunda.bpm.engine.test.util.ProcessEngineTestRule;
+import org.camunda.bpm.engine.test.util.ProvidedProcessEngineRule;
+import org.camunda.bpm.model.bpmn.Bpmn;
+import org.camunda.bpm.model.bpmn.BpmnModelInstance;
+import org.junit.Before;
+import org.junit.ClassRule;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.RuleChain;
+
+@RequiredHistoryLevel(ProcessEngineConfiguration.HISTORY_FULL)
+public class MultiRowInsertTest {
+
+  protected static final BpmnModelInstance PROCESS = Bpmn.createExecutableProcess("process")
+      .startEvent()
+      .manualTask()
+      .manualTask()
+      .manualTask()
+      .userTask()
+      .endEvent()
+      .done();
+
+  @ClassRule
+  public static ProcessEngineBootstrapRule bootstrapRule = new ProcessEngineBootstrapRule(configuration ->
+      configuration
+        .setJdbcBatchMultiRowInserts(true)
+        .setJdbcBatchMultiRowInsertMaxRows(2));
+
+  protected ProvidedProcessEngineRule engineRule = new ProvidedProcessEngineRule(bootstrapRule);
+  protected ProcessEngineTestRule testRule = new ProcessEngineTestRule(engineRule);
+
+  @Rule
+  public RuleChain ruleChain = RuleChain.outerRule(engineRule).around(testRule);
+
+  protected RuntimeService runtimeService;
+  protected HistoryService historyService;
+
+  @Before
+  public void init() {
+    runtimeService = engineRule.getRuntimeService();
+    historyService = engineRule.getHistoryService();
+  }
+
+  @Test
+  public void shouldInsertHistoryWithMultiRowStatements() {
+    // given
+    testRule.deploy(PROCESS);
+    Map<String, Object> variables = new HashMap<>();
+    for (int i = 0; i < 5; i++) {
+      variables.put("var" + i, i);
+    }
+
+    // when
+    ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("process", variables);
+
+    // then
+    List<HistoricVariableInstance> variableInstances = historyService.createHistoricVariableInstanceQuery()
+        .processInstanceId(processInstance.getId())
+        .list();
+    assertThat(variableInstances).hasSize(5);
+    assertThat(variableInstances)
+      .extracting(HistoricVariableInstance::getName, HistoricVariableInstance::getValue)
+      .contains(
+          tuple("var0", 0),
+          tuple("var4", 4));
+
+    assertThat(historyService.createHistoricDetailQuery()
+        .processInstanceId(processInstance.getId())
+        .variableUpdates()
+        .count()).isEqualTo(5);
+
+    assertThat(historyService.createHistoricActivityInstanceQuery()
+        .processInstanceId(processInstance.getId())
+        .count()).isEqualTo(5);
+  }
+
+  @Test
+  public void shouldResolveMultiRowInsertStatement() {
+    // given
+    DbSqlSessionFactory sessionFactory = engineRule.getProcessEngineConfiguration().getDbSqlSessionFactory();
+
+    // when
+    String statement = sessionFactory.getMultiRowInsertStatement("insertHistoricVariableInstance");
+
+    // then
+    if (DbSqlSessionFactory.ORACLE.equals(sessionFactory.getDatabaseType())) {
+      assertThat(statement).isNull();
+    } else {
+      assertThat(statement).isEqualTo("insertHistoricVariableInstances");
+      assertThat(sessionFactory.getMultiRowInsertLimit()).isEqualTo(2);
+    }
+    assertThat(sessionFactory.getMultiRowInsertStatement("insertTask")).isNull();
+  }
+
+}
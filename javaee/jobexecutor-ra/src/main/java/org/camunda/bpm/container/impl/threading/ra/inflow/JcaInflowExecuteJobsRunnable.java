@@ -28,6 +28,7 @@ import javax.resource.spi.endpoint.MessageEndpoint;
 import org.camunda.bpm.container.impl.threading.ra.JcaExecutorServiceConnector;
 import org.camunda.bpm.engine.impl.ProcessEngineImpl;
 import org.camunda.bpm.engine.impl.ProcessEngineLogger;
+import org.camunda.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
 import org.camunda.bpm.engine.impl.interceptor.CommandExecutor;
 import org.camunda.bpm.engine.impl.jobexecutor.ExecuteJobsRunnable;
 import org.camunda.bpm.engine.impl.jobexecutor.JobFailureCollector;
@@ -96,6 +97,17 @@ public class JcaInflowExecuteJobsRunnable extends ExecuteJobsRunnable {
     }
   }
 
+  /**
+   * Jobs are not executed in batches since the {@link JobExecutionHandler} executes
+   * a single job per delivery. Every job is executed through
+   * {@link #executeJob(String, CommandExecutor, JobFailureCollector)} instead.
+   * @see org.camunda.bpm.engine.impl.jobexecutor.ExecuteJobsRunnable#isJobBatchExecutionEnabled(ProcessEngineConfigurationImpl)
+   */
+  @Override
+  protected boolean isJobBatchExecutionEnabled(ProcessEngineConfigurationImpl engineConfiguration) {
+    return false;
+  }
+
   protected void loadMethod() {
     try {
       method = JobExecutionHandler.class.getMethod("executeJob", new Class[] {String.class, CommandExecutor.class});
@@ -173,5 +173,6 @@ public final class DmnModelConstants {
   public static final String CAMUNDA_ATTRIBUTE_INPUT_VARIABLE = "inputVariable";
   public static final String CAMUNDA_ATTRIBUTE_HISTORY_TIME_TO_LIVE = "historyTimeToLive";
   public static final String CAMUNDA_ATTRIBUTE_VERSION_TAG = "versionTag";
+  public static final String CAMUNDA_ATTRIBUTE_RESULT_CACHE_SIZE = "resultCacheSize";
 
 }
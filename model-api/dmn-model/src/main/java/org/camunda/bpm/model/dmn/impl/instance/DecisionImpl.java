@@ -17,6 +17,7 @@
 package org.camunda.bpm.model.dmn.impl.instance;
 
 import static org.camunda.bpm.model.dmn.impl.DmnModelConstants.CAMUNDA_ATTRIBUTE_HISTORY_TIME_TO_LIVE;
+import static org.camunda.bpm.model.dmn.impl.DmnModelConstants.CAMUNDA_ATTRIBUTE_RESULT_CACHE_SIZE;
 import static org.camunda.bpm.model.dmn.impl.DmnModelConstants.CAMUNDA_ATTRIBUTE_VERSION_TAG;
 import static org.camunda.bpm.model.dmn.impl.DmnModelConstants.CAMUNDA_NS;
 import static org.camunda.bpm.model.dmn.impl.DmnModelConstants.LATEST_DMN_NS;
@@ -70,6 +71,7 @@ public class DecisionImpl extends DrgElementImpl implements Decision {
   // camunda extensions
   protected static Attribute<String> camundaHistoryTimeToLiveAttribute;
   protected static Attribute<String> camundaVersionTag;
+  protected static Attribute<String> camundaResultCacheSize;
 
   public DecisionImpl(ModelTypeInstanceContext instanceContext) {
     super(instanceContext);
@@ -179,6 +181,16 @@ public class DecisionImpl extends DrgElementImpl implements Decision {
     camundaVersionTag.setValue(this, inputVariable);
   }
 
+  @Override
+  public String getCamundaResultCacheSize() {
+    return camundaResultCacheSize.getValue(this);
+  }
+
+  @Override
+  public void setCamundaResultCacheSize(String resultCacheSize) {
+    camundaResultCacheSize.setValue(this, resultCacheSize);
+  }
+
   public static void registerType(ModelBuilder modelBuilder) {
     ModelElementTypeBuilder typeBuilder = modelBuilder.defineType(Decision.class, DMN_ELEMENT_DECISION)
       .namespaceUri(LATEST_DMN_NS)
@@ -243,6 +255,10 @@ public class DecisionImpl extends DrgElementImpl implements Decision {
       .namespace(CAMUNDA_NS)
       .build();
 
+    camundaResultCacheSize = typeBuilder.stringAttribute(CAMUNDA_ATTRIBUTE_RESULT_CACHE_SIZE)
+      .namespace(CAMUNDA_NS)
+      .build();
+
     typeBuilder.build();
   }
 
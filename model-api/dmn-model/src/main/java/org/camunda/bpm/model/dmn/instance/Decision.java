@@ -69,4 +69,8 @@ public interface Decision extends DrgElement {
   String getVersionTag();
 
   void setVersionTag(String inputValue);
+
+  String getCamundaResultCacheSize();
+
+  void setCamundaResultCacheSize(String resultCacheSize);
 }
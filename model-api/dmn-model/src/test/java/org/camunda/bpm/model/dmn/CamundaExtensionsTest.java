@@ -79,6 +79,14 @@ public class CamundaExtensionsTest {
     assertThat(decision.getVersionTag()).isEqualTo("1.1.0");
   }
 
+  @Test
+  public void testCamundaResultCacheSize() {
+    Decision decision = modelInstance.getModelElementById("decision");
+    assertThat(decision.getCamundaResultCacheSize()).isEqualTo("100");
+    decision.setCamundaResultCacheSize("200");
+    assertThat(decision.getCamundaResultCacheSize()).isEqualTo("200");
+  }
+
   @After
   public void validateModel() {
     Dmn.validateModel(modelInstance);
@@ -0,0 +1,128 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.qa.largedata;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.camunda.bpm.engine.HistoryService;
+import org.camunda.bpm.engine.history.HistoricProcessInstance;
+import org.camunda.bpm.engine.history.HistoricProcessInstanceQuery;
+import org.camunda.bpm.engine.query.KeysetPage;
+import org.camunda.bpm.engine.test.ProcessEngineRule;
+import org.camunda.bpm.qa.largedata.util.EngineDataGenerator;
+import org.junit.BeforeClass;
+import org.junit.ClassRule;
+import org.junit.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Compares keyset pagination with offset pagination on a large number of
+ * historic process instances.
+ */
+public class KeysetPaginationTest {
+
+  protected static final Logger LOG = LoggerFactory.getLogger(KeysetPaginationTest.class);
+
+  protected static final int GENERATE_PROCESS_INSTANCES_COUNT = 20_000;
+  protected static final int PAGE_SIZE = 1_000;
+
+  @ClassRule
+  public static ProcessEngineRule processEngineRule = new ProcessEngineRule("camunda.cfg.xml");
+
+  protected static HistoryService historyService;
+  protected static EngineDataGenerator generator;
+
+  @BeforeClass
+  public static void init() {
+    historyService = processEngineRule.getHistoryService();
+
+    // given the generated engine data
+    generator = new EngineDataGenerator(processEngineRule.getProcessEngine(), GENERATE_PROCESS_INSTANCES_COUNT,
+        KeysetPaginationTest.class.getSimpleName());
+    generator.deployDefinitions();
+    generator.generateCompletedProcessInstanceData();
+  }
+
+  @Test
+  public void shouldSelectEveryProcessInstanceOnce() {
+    // given
+    long count = createQuery().count();
+
+    // when
+    Set<String> selectedIds = new HashSet<>();
+    long selectedResults = 0;
+    String cursor = null;
+    do {
+      KeysetPage<HistoricProcessInstance> page = createQuery().listAfter(cursor, PAGE_SIZE);
+      for (HistoricProcessInstance processInstance : page.getResults()) {
+        selectedIds.add(processInstance.getId());
+        selectedResults++;
+      }
+      cursor = page.getNextCursor();
+    } while (cursor != null);
+
+    // then
+    assertThat(selectedResults).isEqualTo(count);
+    assertThat(selectedIds).hasSize((int) count);
+  }
+
+  @Test
+  public void shouldSelectDeepPageLikeOffsetPagination() {
+    // given the cursor before the last page
+    long count = createQuery().count();
+    int offset = (int) ((count - 1) / PAGE_SIZE) * PAGE_SIZE;
+
+    String cursor = null;
+    for (int firstResult = 0; firstResult < offset; firstResult += PAGE_SIZE) {
+      cursor = createQuery().listAfter(cursor, PAGE_SIZE).getNextCursor();
+    }
+
+    // when
+    long keysetStart = System.nanoTime();
+    List<HistoricProcessInstance> keysetPage = createQuery().listAfter(cursor, PAGE_SIZE).getResults();
+    long keysetMillis = (System.nanoTime() - keysetStart) / 1_000_000;
+
+    long offsetStart = System.nanoTime();
+    List<HistoricProcessInstance> offsetPage = createQuery()
+        .orderByProcessInstanceId()
+        .asc()
+        .listPage(offset, PAGE_SIZE);
+    long offsetMillis = (System.nanoTime() - offsetStart) / 1_000_000;
+
+    LOG.info("Selected the page at offset {} of {} historic process instances in {} ms with keyset pagination "
+        + "and in {} ms with offset pagination", offset, count, keysetMillis, offsetMillis);
+
+    // then
+    assertThat(keysetPage)
+      .extracting(HistoricProcessInstance::getId)
+      .containsExactlyElementsOf(offsetPage.stream().map(HistoricProcessInstance::getId).collect(Collectors.toList()));
+  }
+
+  protected HistoricProcessInstanceQuery createQuery() {
+    return historyService.createHistoricProcessInstanceQuery()
+        .processDefinitionKey(generator.getAutoCompleteProcessKey())
+        .orderByProcessInstanceStartTime()
+        .desc();
+  }
+
+}
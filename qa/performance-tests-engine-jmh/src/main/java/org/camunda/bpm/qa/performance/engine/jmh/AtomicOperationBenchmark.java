@@ -0,0 +1,118 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.qa.performance.engine.jmh;
+
+import java.util.concurrent.TimeUnit;
+
+import org.camunda.bpm.engine.RuntimeService;
+import org.camunda.bpm.engine.runtime.ProcessInstance;
+import org.camunda.bpm.model.bpmn.Bpmn;
+import org.camunda.bpm.model.bpmn.BpmnModelInstance;
+import org.camunda.bpm.model.bpmn.builder.AbstractFlowNodeBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Dispatch of the atomic operations of the {@link org.camunda.bpm.engine.impl.pvm.runtime.PvmExecutionImpl}
+ * for processes which run to their end in one transaction. The history is turned off,
+ * so that the database work is limited to the deployment cache and the flush of the
+ * empty runtime state.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AtomicOperationBenchmark {
+
+  protected static final int SEQUENCE_LENGTH = 20;
+  protected static final int PARALLEL_BRANCHES = 5;
+
+  protected RuntimeService runtimeService;
+
+  @Setup
+  public void deploy(ProcessEngineState engine) {
+    engine.deploy(createSequence(), createParallelBranches(), createEmbeddedSubProcess());
+    runtimeService = engine.getProcessEngine().getRuntimeService();
+  }
+
+  @Benchmark
+  public ProcessInstance sequence() {
+    return runtimeService.startProcessInstanceByKey("sequence");
+  }
+
+  @Benchmark
+  public ProcessInstance parallelBranches() {
+    return runtimeService.startProcessInstanceByKey("parallelBranches");
+  }
+
+  @Benchmark
+  public ProcessInstance embeddedSubProcess() {
+    return runtimeService.startProcessInstanceByKey("embeddedSubProcess");
+  }
+
+  protected static BpmnModelInstance createSequence() {
+    AbstractFlowNodeBuilder<?, ?> builder = Bpmn.createExecutableProcess("sequence").startEvent();
+    for (int i = 0; i < SEQUENCE_LENGTH; i++) {
+      builder = builder.manualTask();
+    }
+    return builder.endEvent().done();
+  }
+
+  protected static BpmnModelInstance createParallelBranches() {
+    AbstractFlowNodeBuilder<?, ?> builder = Bpmn.createExecutableProcess("parallelBranches")
+        .startEvent()
+        .parallelGateway("fork");
+    for (int i = 0; i < PARALLEL_BRANCHES; i++) {
+      if (i > 0) {
+        builder = builder.moveToNode("fork");
+      }
+      builder = builder.manualTask().manualTask();
+      builder = i == 0 ? builder.parallelGateway("join") : builder.connectTo("join");
+    }
+    return builder.moveToNode("join").endEvent().done();
+  }
+
+  protected static BpmnModelInstance createEmbeddedSubProcess() {
+    return Bpmn.createExecutableProcess("embeddedSubProcess")
+        .startEvent()
+        .subProcess()
+          .embeddedSubProcess()
+            .startEvent()
+            .manualTask()
+            .subProcess()
+              .embeddedSubProcess()
+                .startEvent()
+                .manualTask()
+                .endEvent()
+            .subProcessDone()
+            .endEvent()
+        .subProcessDone()
+        .endEvent()
+        .done();
+  }
+
+}
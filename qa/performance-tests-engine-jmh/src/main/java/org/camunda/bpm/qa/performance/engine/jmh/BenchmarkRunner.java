@@ -0,0 +1,57 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.qa.performance.engine.jmh;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * <p>Runs the benchmarks of this module with the {@link GCProfiler}, so that the
+ * results contain the allocated bytes per operation (<code>gc.alloc.rate.norm</code>)
+ * next to the throughput.</p>
+ *
+ * <p>The results are written to <code>target/jmh-result.json</code> to be compared
+ * with the results of previous runs. All regular JMH command line options are supported,
+ * e.g. a regular expression selecting the benchmarks to run.</p>
+ *
+ * @see <a href="https://github.com/openjdk/jmh">JMH</a>
+ */
+public class BenchmarkRunner {
+
+  public static final String RESULT_FILE = "target/jmh-result.json";
+
+  public static void main(String[] args) throws CommandLineOptionException, RunnerException {
+    CommandLineOptions commandLineOptions = new CommandLineOptions(args);
+
+    Options options = new OptionsBuilder()
+        .parent(commandLineOptions)
+        .include(BenchmarkRunner.class.getPackage().getName() + ".*Benchmark")
+        .addProfiler(GCProfiler.class)
+        .resultFormat(ResultFormatType.JSON)
+        .result(RESULT_FILE)
+        .build();
+
+    new Runner(options).run();
+  }
+
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.qa.performance.engine.jmh;
+
+import java.util.concurrent.TimeUnit;
+
+import org.camunda.commons.utils.cache.ConcurrentLruCache;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Reads of the {@link ConcurrentLruCache} which backs the deployment caches, with
+ * a key set exceeding the capacity of the cache by the given factor.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConcurrentLruCacheBenchmark {
+
+  protected static final int CAPACITY = 1000;
+
+  @Param({"1", "2"})
+  protected int keysPerEntry;
+
+  protected ConcurrentLruCache<String, Object> cache;
+  protected String[] keys;
+
+  @State(Scope.Thread)
+  public static class KeySequence {
+
+    protected int next;
+
+    protected String nextKey(String[] keys) {
+      next = (next + 1) % keys.length;
+      return keys[next];
+    }
+  }
+
+  @Setup
+  public void fillCache() {
+    cache = new ConcurrentLruCache<>(CAPACITY);
+    keys = new String[CAPACITY * keysPerEntry];
+    for (int i = 0; i < keys.length; i++) {
+      keys[i] = "processDefinition:" + i;
+      cache.put(keys[i], keys[i]);
+    }
+  }
+
+  @Benchmark
+  @Threads(1)
+  public Object getOrPut(KeySequence sequence) {
+    return getOrPutInternal(sequence.nextKey(keys));
+  }
+
+  @Benchmark
+  @Threads(4)
+  public Object getOrPutConcurrently(KeySequence sequence) {
+    return getOrPutInternal(sequence.nextKey(keys));
+  }
+
+  protected Object getOrPutInternal(String key) {
+    Object value = cache.get(key);
+    if (value == null) {
+      value = key;
+      cache.put(key, value);
+    }
+    return value;
+  }
+
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.qa.performance.engine.jmh;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.camunda.bpm.engine.impl.db.entitymanager.cache.DbEntityCache;
+import org.camunda.bpm.engine.impl.persistence.entity.ExecutionEntity;
+import org.camunda.bpm.engine.impl.persistence.entity.TaskEntity;
+import org.camunda.bpm.engine.impl.persistence.entity.VariableInstanceEntity;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Lookups in the {@link DbEntityCache} of a command context holding
+ * executions, tasks and variables.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DbEntityCacheBenchmark {
+
+  @Param({"10", "1000"})
+  protected int entitiesPerType;
+
+  protected DbEntityCache cache;
+  protected String[] executionIds;
+  protected int next;
+
+  @Setup
+  public void fillCache() {
+    cache = new DbEntityCache();
+    executionIds = new String[entitiesPerType];
+
+    for (int i = 0; i < entitiesPerType; i++) {
+      ExecutionEntity execution = new ExecutionEntity();
+      execution.setId("execution" + i);
+      cache.putPersistent(execution);
+      executionIds[i] = execution.getId();
+
+      TaskEntity task = new TaskEntity();
+      task.setId("task" + i);
+      cache.putPersistent(task);
+
+      VariableInstanceEntity variable = new VariableInstanceEntity();
+      variable.setId("variable" + i);
+      cache.putPersistent(variable);
+    }
+  }
+
+  @Benchmark
+  public ExecutionEntity getById() {
+    return cache.get(ExecutionEntity.class, nextExecutionId());
+  }
+
+  @Benchmark
+  public ExecutionEntity getMissingById() {
+    return cache.get(ExecutionEntity.class, "missing");
+  }
+
+  @Benchmark
+  public List<TaskEntity> getEntitiesByType() {
+    return cache.getEntitiesByType(TaskEntity.class);
+  }
+
+  protected String nextExecutionId() {
+    next = (next + 1) % executionIds.length;
+    return executionIds[next];
+  }
+
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.qa.performance.engine.jmh;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.camunda.bpm.engine.impl.db.DbEntity;
+import org.camunda.bpm.engine.impl.db.entitymanager.operation.DbEntityOperation;
+import org.camunda.bpm.engine.impl.db.entitymanager.operation.DbOperation;
+import org.camunda.bpm.engine.impl.db.entitymanager.operation.DbOperationManager;
+import org.camunda.bpm.engine.impl.db.entitymanager.operation.DbOperationType;
+import org.camunda.bpm.engine.impl.persistence.entity.ExecutionEntity;
+import org.camunda.bpm.engine.impl.persistence.entity.JobEntity;
+import org.camunda.bpm.engine.impl.persistence.entity.MessageEntity;
+import org.camunda.bpm.engine.impl.persistence.entity.TaskEntity;
+import org.camunda.bpm.engine.impl.persistence.entity.VariableInstanceEntity;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Sorting of the operations of a flush by the {@link DbOperationManager}. The
+ * flush inserts a tree of executions which reference their parents and
+ * modifies tasks, variables and jobs.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DbOperationManagerBenchmark {
+
+  @Param({"10", "100"})
+  protected int entitiesPerType;
+
+  protected List<DbEntityOperation> operations;
+
+  @Setup
+  public void createOperations() {
+    operations = new ArrayList<>();
+
+    for (int i = 0; i < entitiesPerType; i++) {
+      ExecutionEntity execution = new ExecutionEntity();
+      execution.setId("execution" + i);
+      if (i > 0) {
+        execution.setParentId("execution" + (i - 1));
+      }
+      operations.add(operation(DbOperationType.INSERT, execution));
+
+      TaskEntity task = new TaskEntity();
+      task.setId("task" + i);
+      operations.add(operation(DbOperationType.UPDATE, task));
+
+      VariableInstanceEntity variable = new VariableInstanceEntity();
+      variable.setId("variable" + i);
+      operations.add(operation(DbOperationType.INSERT, variable));
+
+      JobEntity job = new MessageEntity();
+      job.setId("job" + i);
+      operations.add(operation(DbOperationType.DELETE, job));
+    }
+
+    // child executions come first, so that the inserts have to be sorted by their references
+    Collections.reverse(operations);
+  }
+
+  @Benchmark
+  public List<DbOperation> calculateFlush() {
+    DbOperationManager operationManager = new DbOperationManager();
+    for (DbEntityOperation operation : operations) {
+      operationManager.addOperation(operation);
+    }
+    return operationManager.calculateFlush();
+  }
+
+  protected DbEntityOperation operation(DbOperationType type, DbEntity entity) {
+    DbEntityOperation operation = new DbEntityOperation();
+    operation.setOperationType(type);
+    operation.setEntity(entity);
+    if (entity instanceof ExecutionEntity) {
+      operation.setFlushRelevantEntityReferences(((ExecutionEntity) entity).getReferencedEntityIds());
+    }
+    return operation;
+  }
+
+}
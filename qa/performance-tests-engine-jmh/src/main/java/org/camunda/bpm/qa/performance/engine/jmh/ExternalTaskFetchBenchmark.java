@@ -0,0 +1,138 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.qa.performance.engine.jmh;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.camunda.bpm.engine.ExternalTaskService;
+import org.camunda.bpm.engine.OptimisticLockingException;
+import org.camunda.bpm.engine.RuntimeService;
+import org.camunda.bpm.engine.externaltask.LockedExternalTask;
+import org.camunda.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.camunda.bpm.model.bpmn.Bpmn;
+import org.camunda.bpm.model.bpmn.BpmnModelInstance;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Competing workers which fetch and complete external tasks of the same topic. Every
+ * completed task is replaced by a new one, so that the backlog of the topic stays constant.
+ * The auxiliary counters report the completed tasks and the fetches which failed with an
+ * {@link OptimisticLockingException} because another worker locked the same tasks.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Threads(8)
+@Fork(1)
+public class ExternalTaskFetchBenchmark {
+
+  protected static final String TOPIC = "topic";
+  protected static final int BACKLOG = 200;
+  protected static final int MAX_TASKS = 5;
+  protected static final long LOCK_DURATION = 60000L;
+
+  protected static final BpmnModelInstance PROCESS = Bpmn.createExecutableProcess("process")
+      .startEvent()
+      .serviceTask()
+        .camundaExternalTask(TOPIC)
+      .endEvent()
+      .done();
+
+  @State(Scope.Benchmark)
+  public static class ExternalTaskEngineState extends ProcessEngineState {
+
+    @Param({"false", "true"})
+    public boolean skipLocked;
+
+    @Override
+    protected void configure(ProcessEngineConfigurationImpl configuration) {
+      configuration.setExternalTaskFetchSkipLocked(skipLocked);
+    }
+  }
+
+  @State(Scope.Thread)
+  @AuxCounters(AuxCounters.Type.OPERATIONS)
+  public static class FetchCounters {
+
+    public long completedTasks;
+    public long failedFetches;
+
+    @Setup(Level.Iteration)
+    public void reset() {
+      completedTasks = 0;
+      failedFetches = 0;
+    }
+  }
+
+  @State(Scope.Thread)
+  public static class Worker {
+
+    protected String workerId = UUID.randomUUID().toString();
+  }
+
+  protected RuntimeService runtimeService;
+  protected ExternalTaskService externalTaskService;
+
+  @Setup
+  public void deploy(ExternalTaskEngineState engine) {
+    engine.deploy(PROCESS);
+    runtimeService = engine.getProcessEngine().getRuntimeService();
+    externalTaskService = engine.getProcessEngine().getExternalTaskService();
+
+    for (int i = 0; i < BACKLOG; i++) {
+      runtimeService.startProcessInstanceByKey("process");
+    }
+  }
+
+  @Benchmark
+  public int fetchAndComplete(Worker worker, FetchCounters counters) {
+    List<LockedExternalTask> tasks;
+    try {
+      tasks = externalTaskService.fetchAndLock(MAX_TASKS, worker.workerId)
+          .topic(TOPIC, LOCK_DURATION)
+          .execute();
+    } catch (OptimisticLockingException e) {
+      counters.failedFetches++;
+      return 0;
+    }
+
+    for (LockedExternalTask task : tasks) {
+      externalTaskService.complete(task.getId(), worker.workerId);
+      runtimeService.startProcessInstanceByKey("process");
+    }
+    counters.completedTasks += tasks.size();
+    return tasks.size();
+  }
+
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.qa.performance.engine.jmh;
+
+import java.util.concurrent.TimeUnit;
+
+import org.camunda.bpm.dmn.feel.impl.FeelEngine;
+import org.camunda.bpm.dmn.feel.impl.juel.FeelEngineFactoryImpl;
+import org.camunda.bpm.dmn.feel.impl.juel.compile.SimpleUnaryTestsCompiler;
+import org.camunda.bpm.engine.variable.Variables;
+import org.camunda.bpm.engine.variable.context.VariableContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Evaluation of FEEL simple unary tests by the JUEL based FEEL engine, once with the
+ * tests compiled by the {@link SimpleUnaryTestsCompiler} and once transformed to JUEL.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FeelSimpleUnaryTestsBenchmark {
+
+  protected static final String INPUT_NAME = "cellInput";
+
+  @Param({"\"gold\",\"platinum\"", "[1000..5000[", "not(< 100)"})
+  protected String simpleUnaryTests;
+
+  protected FeelEngine compilingFeelEngine;
+  protected FeelEngine juelFeelEngine;
+  protected VariableContext variableContext;
+
+  @Setup
+  public void createFeelEngines() {
+    compilingFeelEngine = new FeelEngineFactoryImpl().createInstance();
+    juelFeelEngine = new FeelEngineFactoryImpl() {
+      @Override
+      protected SimpleUnaryTestsCompiler createSimpleUnaryTestsCompiler() {
+        return null;
+      }
+    }.createInstance();
+
+    Object input = simpleUnaryTests.startsWith("\"") ? "platinum" : 2500;
+    variableContext = Variables.createVariables()
+        .putValue(INPUT_NAME, input)
+        .asVariableContext();
+  }
+
+  @Benchmark
+  public boolean evaluateCompiled() {
+    return compilingFeelEngine.evaluateSimpleUnaryTests(simpleUnaryTests, INPUT_NAME, variableContext);
+  }
+
+  @Benchmark
+  public boolean evaluateJuel() {
+    return juelFeelEngine.evaluateSimpleUnaryTests(simpleUnaryTests, INPUT_NAME, variableContext);
+  }
+
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.qa.performance.engine.jmh;
+
+import java.util.UUID;
+
+import org.camunda.bpm.engine.ProcessEngine;
+import org.camunda.bpm.engine.ProcessEngineConfiguration;
+import org.camunda.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.camunda.bpm.engine.repository.DeploymentBuilder;
+import org.camunda.bpm.model.bpmn.BpmnModelInstance;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+/**
+ * A process engine on a private H2 in-memory database which is shared by all
+ * threads of a benchmark. The database can be replaced with the system properties
+ * <code>jmh.jdbc.driver</code>, <code>jmh.jdbc.url</code>, <code>jmh.jdbc.username</code>
+ * and <code>jmh.jdbc.password</code>, e.g. to run a benchmark against PostgreSQL.
+ */
+@State(Scope.Benchmark)
+public class ProcessEngineState {
+
+  protected ProcessEngine processEngine;
+  protected ProcessEngineConfigurationImpl processEngineConfiguration;
+
+  @Setup
+  public void buildProcessEngine() {
+    processEngineConfiguration = (ProcessEngineConfigurationImpl) ProcessEngineConfiguration
+        .createStandaloneInMemProcessEngineConfiguration()
+        .setJdbcUrl(System.getProperty("jmh.jdbc.url", "jdbc:h2:mem:jmh-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1"))
+        .setHistory(ProcessEngineConfiguration.HISTORY_NONE)
+        .setJobExecutorActivate(false)
+        .setProcessEngineName("jmh-" + UUID.randomUUID());
+    processEngineConfiguration.setMetricsEnabled(false);
+
+    String jdbcDriver = System.getProperty("jmh.jdbc.driver");
+    if (jdbcDriver != null) {
+      processEngineConfiguration
+        .setJdbcDriver(jdbcDriver)
+        .setJdbcUsername(System.getProperty("jmh.jdbc.username"))
+        .setJdbcPassword(System.getProperty("jmh.jdbc.password"));
+    }
+
+    configure(processEngineConfiguration);
+
+    processEngine = processEngineConfiguration.buildProcessEngine();
+  }
+
+  /**
+   * Hook for benchmark specific settings which is invoked before the process engine is built.
+   */
+  protected void configure(ProcessEngineConfigurationImpl configuration) {
+    // nothing to do by default
+  }
+
+  @TearDown
+  public void closeProcessEngine() {
+    processEngine.close();
+  }
+
+  public void deploy(BpmnModelInstance... modelInstances) {
+    DeploymentBuilder deployment = processEngine.getRepositoryService().createDeployment();
+    for (int i = 0; i < modelInstances.length; i++) {
+      deployment.addModelInstance("process" + i + ".bpmn", modelInstances[i]);
+    }
+    deployment.deploy();
+  }
+
+  public ProcessEngine getProcessEngine() {
+    return processEngine;
+  }
+
+  public ProcessEngineConfigurationImpl getProcessEngineConfiguration() {
+    return processEngineConfiguration;
+  }
+
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.qa.performance.engine.jmh;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+import org.camunda.bpm.engine.impl.context.Context;
+import org.camunda.bpm.engine.impl.variable.serializer.TypedValueSerializer;
+import org.camunda.bpm.engine.impl.variable.serializer.VariableSerializers;
+import org.camunda.bpm.engine.variable.Variables;
+import org.camunda.bpm.engine.variable.value.TypedValue;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Lookup of the serializer of a variable value in the {@link VariableSerializers}
+ * of a process engine, as done for each variable that is set.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class VariableSerializersBenchmark {
+
+  protected VariableSerializers variableSerializers;
+
+  protected TypedValue stringValue = Variables.untypedValue("value");
+  protected TypedValue longValue = Variables.untypedValue(42L);
+  protected TypedValue dateValue = Variables.untypedValue(new Date());
+  protected TypedValue objectValue = Variables.untypedValue(new ArrayList<String>());
+
+  @Setup
+  public void initContext(ProcessEngineState engine) {
+    // the lookup reads the default serialization format from the context
+    Context.setProcessEngineConfiguration(engine.getProcessEngineConfiguration());
+    variableSerializers = engine.getProcessEngineConfiguration().getVariableSerializers();
+  }
+
+  @TearDown
+  public void removeContext() {
+    Context.removeProcessEngineConfiguration();
+  }
+
+  @Benchmark
+  public TypedValueSerializer<?> findStringSerializer() {
+    return variableSerializers.findSerializerForValue(stringValue);
+  }
+
+  @Benchmark
+  public TypedValueSerializer<?> findLongSerializer() {
+    return variableSerializers.findSerializerForValue(longValue);
+  }
+
+  @Benchmark
+  public TypedValueSerializer<?> findDateSerializer() {
+    return variableSerializers.findSerializerForValue(dateValue);
+  }
+
+  @Benchmark
+  public TypedValueSerializer<?> findObjectSerializer() {
+    return variableSerializers.findSerializerForValue(objectValue);
+  }
+
+  @Benchmark
+  public TypedValueSerializer<?> getSerializerByName() {
+    return variableSerializers.getSerializerByName("string");
+  }
+
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.quarkus.engine.test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.camunda.bpm.engine.impl.test.TestHelper.waitForJobExecutorToProcessAllJobs;
+
+import io.quarkus.test.QuarkusUnitTest;
+import jakarta.enterprise.context.ApplicationScoped;
+import jakarta.enterprise.inject.Produces;
+import jakarta.inject.Inject;
+import org.camunda.bpm.engine.ManagementService;
+import org.camunda.bpm.engine.ProcessEngine;
+import org.camunda.bpm.engine.RuntimeService;
+import org.camunda.bpm.engine.impl.cfg.ProcessEngineConfigurationImpl;
+import org.camunda.bpm.engine.impl.jobexecutor.JobExecutor;
+import org.camunda.bpm.engine.runtime.ProcessInstance;
+import org.camunda.bpm.engine.test.Deployment;
+import org.camunda.bpm.quarkus.engine.extension.QuarkusProcessEngineConfiguration;
+import org.camunda.bpm.quarkus.engine.extension.impl.ManagedVirtualThreadJobExecutor;
+import org.camunda.bpm.quarkus.engine.test.helper.ProcessEngineAwareExtension;
+import org.eclipse.microprofile.context.ManagedExecutor;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+public class ManagedVirtualThreadJobExecutorTest {
+
+  @RegisterExtension
+  static final QuarkusUnitTest unitTest = new ProcessEngineAwareExtension()
+      .withConfigurationResource("org/camunda/bpm/quarkus/engine/test/config/" +
+                                     "virtual-thread-job-executor-application.properties")
+      .setArchiveProducer(() -> ShrinkWrap.create(JavaArchive.class));
+
+  @Inject
+  protected ProcessEngine processEngine;
+
+  @Inject
+  protected RuntimeService runtimeService;
+
+  @Inject
+  protected ManagementService managementService;
+
+  protected ProcessEngineConfigurationImpl processEngineConfiguration;
+
+  @BeforeEach
+  protected void setUp() {
+    processEngineConfiguration = (ProcessEngineConfigurationImpl) processEngine
+        .getProcessEngineConfiguration();
+  }
+
+  @ApplicationScoped
+  static class EngineConfigurer {
+
+    @Produces
+    public QuarkusProcessEngineConfiguration engineConfiguration() {
+      return new QuarkusProcessEngineConfiguration();
+    }
+
+  }
+
+  @Test
+  public void shouldCreateManagedVirtualThreadJobExecutor() {
+    // given a process engine configuration
+
+    // then
+    // the jobs are executed through a quarkus managed executor
+    JobExecutor jobExecutor = processEngineConfiguration.getJobExecutor();
+    assertThat(jobExecutor).isInstanceOf(ManagedVirtualThreadJobExecutor.class);
+    assertThat(((ManagedVirtualThreadJobExecutor) jobExecutor).getMaxConcurrentJobs()).isEqualTo(3);
+    assertThat(((ManagedVirtualThreadJobExecutor) jobExecutor).getExecutorService())
+        .isInstanceOf(ManagedExecutor.class);
+  }
+
+  @Test
+  @Deployment
+  public void shouldExecuteJob() {
+    // given
+    processEngineConfiguration.getJobExecutor().shutdown();
+    ProcessInstance processInstance = runtimeService.startProcessInstanceByKey("asyncTaskProcess");
+
+    // when
+    waitForJobExecutorToProcessAllJobs(processEngineConfiguration, 5000L, 25L);
+
+    // then
+    long jobCount = managementService
+        .createJobQuery()
+        .processInstanceId(processInstance.getId())
+        .count();
+
+    assertThat(jobCount).isZero();
+  }
+
+}
@@ -48,6 +48,15 @@ public class CamundaEngineJobExecutorConfigTest {
     assertThat(config.jobExecutor().threadPool().queueSize()).isEqualTo(5);
   }
 
+  @Test
+  public void shouldLoadDefaultVirtualThreadsProperties() {
+    // given a custom application.properties file without virtual thread properties
+
+    // then
+    assertThat(config.jobExecutor().virtualThreads().enabled()).isFalse();
+    assertThat(config.jobExecutor().virtualThreads().maxConcurrentJobs()).isEqualTo(100);
+  }
+
   @Test
   public void shouldLoadJobAcquisitionProperties() {
     // given a custom application.properties file
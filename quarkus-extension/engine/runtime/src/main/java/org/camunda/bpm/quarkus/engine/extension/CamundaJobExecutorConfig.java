@@ -33,6 +33,12 @@ public interface CamundaJobExecutorConfig {
    */
   ThreadPoolConfig threadPool();
 
+  /**
+   * The Camunda JobExecutor virtual thread config. When enabled, jobs are executed on
+   * virtual threads instead of the thread pool.
+   */
+  VirtualThreadsConfig virtualThreads();
+
   interface ThreadPoolConfig {
     /**
      * Sets the maximum number of threads that can be present in the Quarkus-managed
@@ -48,4 +54,23 @@ public interface CamundaJobExecutorConfig {
     int queueSize();
 
   }
-}
\ No newline at end of file
+
+  interface VirtualThreadsConfig {
+    /**
+     * Executes each acquired job batch on its own virtual thread. The virtual threads
+     * are managed by a Quarkus ManagedExecutor, which propagates the context to the
+     * jobs. Requires Java 21, falls back to platform threads otherwise. The default
+     * value is false.
+     */
+    @WithDefault("false")
+    boolean enabled();
+
+    /**
+     * Sets the maximum number of jobs that are executed concurrently on virtual
+     * threads. The default value is 100.
+     */
+    @WithDefault("100")
+    int maxConcurrentJobs();
+
+  }
+}
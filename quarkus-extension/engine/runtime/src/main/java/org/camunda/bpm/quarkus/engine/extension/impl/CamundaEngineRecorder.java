@@ -138,6 +138,11 @@ public class CamundaEngineRecorder {
   protected void configureJobExecutor(ProcessEngineConfigurationImpl configuration,
                                       CamundaEngineConfig config) {
 
+    if (config.jobExecutor().virtualThreads().enabled()) {
+      configureVirtualThreadJobExecutor(configuration, config);
+      return;
+    }
+
     int maxPoolSize = config.jobExecutor().threadPool().maxPoolSize();
     int queueSize = config.jobExecutor().threadPool().queueSize();
 
@@ -157,6 +162,20 @@ public class CamundaEngineRecorder {
     configuration.setJobExecutor(quarkusJobExecutor);
   }
 
+  protected void configureVirtualThreadJobExecutor(ProcessEngineConfigurationImpl configuration,
+                                                   CamundaEngineConfig config) {
+
+    // executes the jobs through a ManagedExecutor to propagate the context
+    ManagedVirtualThreadJobExecutor virtualThreadJobExecutor = new ManagedVirtualThreadJobExecutor();
+    virtualThreadJobExecutor.setMaxConcurrentJobs(config.jobExecutor().virtualThreads().maxConcurrentJobs());
+
+    // apply job executor configuration properties
+    PropertyHelper
+        .applyProperties(virtualThreadJobExecutor, config.jobExecutor().genericConfig(), PropertyHelper.KEBAB_CASE);
+
+    configuration.setJobExecutor(virtualThreadJobExecutor);
+  }
+
   /**
    * Retrieves a bean of the given class from the bean container.
    *
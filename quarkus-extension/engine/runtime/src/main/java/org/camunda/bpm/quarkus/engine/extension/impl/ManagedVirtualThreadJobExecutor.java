@@ -0,0 +1,41 @@
+/*
+ * Copyright Camunda Services GmbH and/or licensed to Camunda Services GmbH
+ * under one or more contributor license agreements. See the NOTICE file
+ * distributed with this work for additional information regarding copyright
+ * ownership. Camunda licenses this file to you under the Apache License,
+ * Version 2.0; you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.camunda.bpm.quarkus.engine.extension.impl;
+
+import io.smallrye.context.SmallRyeManagedExecutor;
+import java.util.concurrent.ExecutorService;
+import org.camunda.bpm.engine.impl.jobexecutor.VirtualThreadJobExecutor;
+import org.eclipse.microprofile.context.ManagedExecutor;
+
+/**
+ * A {@link VirtualThreadJobExecutor} that executes the jobs through a
+ * {@link ManagedExecutor}, so that the context is propagated to the jobs
+ * like for the {@link ManagedJobExecutor}.
+ */
+public class ManagedVirtualThreadJobExecutor extends VirtualThreadJobExecutor {
+
+  @Override
+  protected ExecutorService createExecutorService() {
+    // the number of jobs in execution is limited by the permits
+    return SmallRyeManagedExecutor.builder()
+        .maxAsync(-1)
+        .maxQueued(-1)
+        .withExecutorService(super.createExecutorService())
+        .build();
+  }
+
+}
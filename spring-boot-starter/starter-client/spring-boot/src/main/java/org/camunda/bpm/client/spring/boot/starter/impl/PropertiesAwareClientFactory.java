@@ -82,6 +82,37 @@ public class PropertiesAwareClientFactory extends ClientFactory {
         clientConfigurationProps.getDisableBackoffStrategy()) {
       clientConfiguration.setDisableBackoffStrategy(true);
     }
+    if (clientConfigurationProps.getMaxConcurrentTasks() != null) {
+      clientConfiguration.setMaxConcurrentTasks(clientConfigurationProps.getMaxConcurrentTasks());
+    }
+    if (clientConfigurationProps.getUseVirtualThreads() != null &&
+        clientConfigurationProps.getUseVirtualThreads()) {
+      clientConfiguration.setUseVirtualThreads(true);
+    }
+    if (clientConfigurationProps.getBulkOperationLingerTime() != null) {
+      clientConfiguration.setBulkOperationLingerTime(clientConfigurationProps.getBulkOperationLingerTime());
+    }
+    if (clientConfigurationProps.getUseFetchAndLockStream() != null &&
+        clientConfigurationProps.getUseFetchAndLockStream()) {
+      clientConfiguration.setUseFetchAndLockStream(true);
+    }
+    if (clientConfigurationProps.getMaxConnections() != null) {
+      clientConfiguration.setMaxConnections(clientConfigurationProps.getMaxConnections());
+    }
+    if (clientConfigurationProps.getMaxConnectionsPerRoute() != null) {
+      clientConfiguration.setMaxConnectionsPerRoute(clientConfigurationProps.getMaxConnectionsPerRoute());
+    }
+    if (clientConfigurationProps.getKeepAlive() != null) {
+      clientConfiguration.setKeepAlive(clientConfigurationProps.getKeepAlive());
+    }
+    if (clientConfigurationProps.getCompressRequests() != null &&
+        clientConfigurationProps.getCompressRequests()) {
+      clientConfiguration.setCompressRequests(true);
+    }
+    if (clientConfigurationProps.getUseHttp2() != null &&
+        clientConfigurationProps.getUseHttp2()) {
+      clientConfiguration.setUseHttp2(true);
+    }
     setClientConfiguration(clientConfiguration);
   }
 
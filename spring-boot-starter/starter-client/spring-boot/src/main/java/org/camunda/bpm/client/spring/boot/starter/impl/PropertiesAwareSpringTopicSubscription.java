@@ -89,6 +89,15 @@ public class PropertiesAwareSpringTopicSubscription extends SpringTopicSubscript
       if (subscriptionProperties.getIncludeExtensionProperties() != null) {
         merge.setIncludeExtensionProperties(subscriptionProperties.getIncludeExtensionProperties());
       }
+      if (subscriptionProperties.getMaxConcurrentTasks() != null) {
+        merge.setMaxConcurrentTasks(subscriptionProperties.getMaxConcurrentTasks());
+      }
+      if (subscriptionProperties.getLazyVariables() != null) {
+        merge.setLazyVariables(subscriptionProperties.getLazyVariables());
+      }
+      if (subscriptionProperties.getVariableJsonPaths() != null) {
+        merge.setVariableJsonPaths(subscriptionProperties.getVariableJsonPaths());
+      }
 
       setSubscriptionConfiguration(merge);
     }
@@ -156,6 +156,15 @@ public @interface ExternalTaskSubscription {
    */
   boolean includeExtensionProperties() default false;
 
+  /**
+   * @return lazyVariables
+   * whether or not only the names and types of the variables are fetched
+   * with the external tasks. <code>true</code> means the value of a variable
+   * is fetched when it is accessed for the first time. The default is
+   * <code>false</code>.
+   */
+  boolean lazyVariables() default false;
+
   /**
    * Element of {@link #processVariables()}
    */
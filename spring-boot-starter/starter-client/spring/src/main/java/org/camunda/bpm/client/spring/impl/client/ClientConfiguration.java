@@ -36,6 +36,15 @@ public class ClientConfiguration {
   protected Long lockDuration;
   protected Boolean disableAutoFetching;
   protected Boolean disableBackoffStrategy;
+  protected Integer maxConcurrentTasks;
+  protected Boolean useVirtualThreads;
+  protected Long bulkOperationLingerTime;
+  protected Boolean useFetchAndLockStream;
+  protected Integer maxConnections;
+  protected Integer maxConnectionsPerRoute;
+  protected Long keepAlive;
+  protected Boolean compressRequests;
+  protected Boolean useHttp2;
 
   public String getBaseUrl() {
     return baseUrl;
@@ -133,6 +142,78 @@ public class ClientConfiguration {
     this.disableBackoffStrategy = disableBackoffStrategy;
   }
 
+  public Integer getMaxConcurrentTasks() {
+    return maxConcurrentTasks;
+  }
+
+  public void setMaxConcurrentTasks(Integer maxConcurrentTasks) {
+    this.maxConcurrentTasks = maxConcurrentTasks;
+  }
+
+  public Boolean getUseVirtualThreads() {
+    return useVirtualThreads;
+  }
+
+  public void setUseVirtualThreads(Boolean useVirtualThreads) {
+    this.useVirtualThreads = useVirtualThreads;
+  }
+
+  public Long getBulkOperationLingerTime() {
+    return bulkOperationLingerTime;
+  }
+
+  public void setBulkOperationLingerTime(Long bulkOperationLingerTime) {
+    this.bulkOperationLingerTime = bulkOperationLingerTime;
+  }
+
+  public Boolean getUseFetchAndLockStream() {
+    return useFetchAndLockStream;
+  }
+
+  public void setUseFetchAndLockStream(Boolean useFetchAndLockStream) {
+    this.useFetchAndLockStream = useFetchAndLockStream;
+  }
+
+  public Integer getMaxConnections() {
+    return maxConnections;
+  }
+
+  public void setMaxConnections(Integer maxConnections) {
+    this.maxConnections = maxConnections;
+  }
+
+  public Integer getMaxConnectionsPerRoute() {
+    return maxConnectionsPerRoute;
+  }
+
+  public void setMaxConnectionsPerRoute(Integer maxConnectionsPerRoute) {
+    this.maxConnectionsPerRoute = maxConnectionsPerRoute;
+  }
+
+  public Long getKeepAlive() {
+    return keepAlive;
+  }
+
+  public void setKeepAlive(Long keepAlive) {
+    this.keepAlive = keepAlive;
+  }
+
+  public Boolean getCompressRequests() {
+    return compressRequests;
+  }
+
+  public void setCompressRequests(Boolean compressRequests) {
+    this.compressRequests = compressRequests;
+  }
+
+  public Boolean getUseHttp2() {
+    return useHttp2;
+  }
+
+  public void setUseHttp2(Boolean useHttp2) {
+    this.useHttp2 = useHttp2;
+  }
+
   public void fromAnnotation(EnableExternalTaskClient annotation) {
     String baseUrl = annotation.baseUrl();
     setBaseUrl(isNull(baseUrl) ? null : baseUrl);
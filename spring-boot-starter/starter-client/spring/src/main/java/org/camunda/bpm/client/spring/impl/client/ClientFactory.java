@@ -88,6 +88,37 @@ public class ClientFactory
           clientConfiguration.getDisableBackoffStrategy()) {
         clientBuilder.disableBackoffStrategy();
       }
+      if (clientConfiguration.getMaxConcurrentTasks() != null) {
+        clientBuilder.maxConcurrentTasks(clientConfiguration.getMaxConcurrentTasks());
+      }
+      if (clientConfiguration.getUseVirtualThreads() != null &&
+          clientConfiguration.getUseVirtualThreads()) {
+        clientBuilder.useVirtualThreads();
+      }
+      if (clientConfiguration.getBulkOperationLingerTime() != null) {
+        clientBuilder.bulkOperationLingerTime(clientConfiguration.getBulkOperationLingerTime());
+      }
+      if (clientConfiguration.getUseFetchAndLockStream() != null &&
+          clientConfiguration.getUseFetchAndLockStream()) {
+        clientBuilder.useFetchAndLockStream();
+      }
+      if (clientConfiguration.getMaxConnections() != null) {
+        clientBuilder.maxConnections(clientConfiguration.getMaxConnections());
+      }
+      if (clientConfiguration.getMaxConnectionsPerRoute() != null) {
+        clientBuilder.maxConnectionsPerRoute(clientConfiguration.getMaxConnectionsPerRoute());
+      }
+      if (clientConfiguration.getKeepAlive() != null) {
+        clientBuilder.keepAlive(clientConfiguration.getKeepAlive());
+      }
+      if (clientConfiguration.getCompressRequests() != null &&
+          clientConfiguration.getCompressRequests()) {
+        clientBuilder.compressRequests();
+      }
+      if (clientConfiguration.getUseHttp2() != null &&
+          clientConfiguration.getUseHttp2()) {
+        clientBuilder.useHttp2();
+      }
       if (backoffStrategy != null) {
         clientBuilder.backoffStrategy(backoffStrategy);
       }
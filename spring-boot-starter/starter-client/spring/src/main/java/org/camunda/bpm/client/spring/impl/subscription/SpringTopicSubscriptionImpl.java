@@ -120,6 +120,18 @@ public class SpringTopicSubscriptionImpl
     if (includeExtensionProperties != null && includeExtensionProperties) {
       topicSubscriptionBuilder.includeExtensionProperties(true);
     }
+    Integer maxConcurrentTasks = subscriptionConfiguration.getMaxConcurrentTasks();
+    if (maxConcurrentTasks != null) {
+      topicSubscriptionBuilder.maxConcurrentTasks(maxConcurrentTasks);
+    }
+    Boolean lazyVariables = subscriptionConfiguration.getLazyVariables();
+    if (lazyVariables != null && lazyVariables) {
+      topicSubscriptionBuilder.lazyVariables(true);
+    }
+    Map<String, String> variableJsonPaths = subscriptionConfiguration.getVariableJsonPaths();
+    if (variableJsonPaths != null) {
+      variableJsonPaths.forEach(topicSubscriptionBuilder::variableJsonPath);
+    }
     if(isAutoOpen()) {
       open();
     }
@@ -265,6 +277,21 @@ public class SpringTopicSubscriptionImpl
     return subscriptionConfiguration.getIncludeExtensionProperties();
   }
 
+  @Override
+  public Integer getMaxConcurrentTasks() {
+    return subscriptionConfiguration.getMaxConcurrentTasks();
+  }
+
+  @Override
+  public boolean isLazyVariables() {
+    return Boolean.TRUE.equals(subscriptionConfiguration.getLazyVariables());
+  }
+
+  @Override
+  public Map<String, String> getVariableJsonPaths() {
+    return subscriptionConfiguration.getVariableJsonPaths();
+  }
+
   protected String[] toArray(List<String> list) {
     return list.toArray(new String[0]);
   }
@@ -46,6 +46,9 @@ public class SubscriptionConfiguration {
   protected Boolean withoutTenantId;
   protected List<String> tenantIdIn;
   protected Boolean includeExtensionProperties;
+  protected Integer maxConcurrentTasks;
+  protected Boolean lazyVariables;
+  protected Map<String, String> variableJsonPaths;
 
   public Boolean getAutoOpen() {
     return autoOpen;
@@ -167,6 +170,30 @@ public class SubscriptionConfiguration {
     this.includeExtensionProperties = includeExtensionProperties;
   }
 
+  public Integer getMaxConcurrentTasks() {
+    return maxConcurrentTasks;
+  }
+
+  public void setMaxConcurrentTasks(Integer maxConcurrentTasks) {
+    this.maxConcurrentTasks = maxConcurrentTasks;
+  }
+
+  public Boolean getLazyVariables() {
+    return lazyVariables;
+  }
+
+  public void setLazyVariables(Boolean lazyVariables) {
+    this.lazyVariables = lazyVariables;
+  }
+
+  public Map<String, String> getVariableJsonPaths() {
+    return variableJsonPaths;
+  }
+
+  public void setVariableJsonPaths(Map<String, String> variableJsonPaths) {
+    this.variableJsonPaths = variableJsonPaths;
+  }
+
   public void fromAnnotation(ExternalTaskSubscription config) {
     setAutoOpen(config.autoOpen());
 
@@ -212,6 +239,8 @@ public class SubscriptionConfiguration {
     setTenantIdIn(isNull(tenantIdIn) ? null : Arrays.asList(tenantIdIn));
 
     setIncludeExtensionProperties(config.includeExtensionProperties());
+
+    setLazyVariables(config.lazyVariables());
   }
 
   protected static boolean isNull(String[] values) {
@@ -28,6 +28,7 @@ import org.camunda.bpm.engine.impl.jobexecutor.JobExecutor;
 import org.camunda.bpm.engine.impl.jobexecutor.JobHandler;
 import org.camunda.bpm.engine.impl.jobexecutor.NotifyAcquisitionRejectedJobsHandler;
 import org.camunda.bpm.engine.impl.jobexecutor.RejectedJobsHandler;
+import org.camunda.bpm.engine.impl.jobexecutor.VirtualThreadJobExecutor;
 import org.camunda.bpm.engine.spring.SpringProcessEngineConfiguration;
 import org.camunda.bpm.spring.boot.starter.property.CamundaBpmProperties;
 import org.camunda.bpm.spring.boot.starter.test.nonpa.TestApplication;
@@ -90,4 +91,21 @@ public class DefaultJobConfigurationTest {
     assertThat(rejectedJobsHandler).isInstanceOf(NotifyAcquisitionRejectedJobsHandler.class);
   }
 
+  @Test
+  public void shouldCreateVirtualThreadJobExecutor() {
+    // given
+    properties.getJobExecution().setVirtualThreads(true);
+    properties.getJobExecution().setMaxConcurrentJobs(42);
+    properties.getJobExecution().setMaxJobsPerAcquisition(7);
+
+    // when
+    JobExecutor jobExecutor = DefaultJobConfiguration.JobConfiguration.jobExecutor(null, properties);
+
+    // then
+    assertThat(jobExecutor).isInstanceOf(VirtualThreadJobExecutor.class);
+    assertThat(((VirtualThreadJobExecutor) jobExecutor).getMaxConcurrentJobs()).isEqualTo(42);
+    assertThat(jobExecutor.getMaxJobsPerAcquisition()).isEqualTo(7);
+    assertThat(jobExecutor.getRejectedJobsHandler()).isInstanceOf(NotifyAcquisitionRejectedJobsHandler.class);
+  }
+
 }